@@ -1,16 +1,23 @@
 package com.romrom.application.init;
 
 import com.romrom.ai.entity.mongo.AiUsageHistory;
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.item.entity.mongo.LikeHistory;
 import com.romrom.member.entity.mongo.LoginHistory;
 import com.romrom.member.entity.mongo.SanctionHistory;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Sort;
+import org.bson.Document;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
 import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.data.mongodb.core.index.IndexOperations;
 import org.springframework.stereotype.Component;
 
@@ -28,6 +35,8 @@ public class MongoIndexInitializer {
     ensureAiUsageHistoryIndexes();
     ensureSanctionHistoryIndexes();
     log.info("Admin Member 360 MongoDB 인덱스 보장 완료");
+    ensureLikeHistoryIndexes();
+    replaceLegacyChatMessageIndex();
   }
 
   /**
@@ -92,4 +101,47 @@ public class MongoIndexInitializer {
         new Index().on("executorAdminId", Sort.Direction.ASC).named("executorAdminId_idx"),
         "SanctionHistory.executorAdminId_idx");
   }
+
+  /**
+   * 좋아요 토글 멱등성 보장: (memberId, itemId) 당 좋아요 기록 1개
+   * 기존 중복 기록이 남아 있으면 생성에 실패하며, 이 경우 경고만 남기고 upsert 멱등성에 의존한다.
+   */
+  private void ensureLikeHistoryIndexes() {
+    IndexOperations likeHistoryIndexOps = mongoTemplate.indexOps(LikeHistory.class);
+    ensureIndexSafely(likeHistoryIndexOps,
+        new Index()
+            .on("memberId", Sort.Direction.ASC)
+            .on("itemId", Sort.Direction.ASC)
+            .unique()
+            .named("member_item_unique_idx"),
+        "LikeHistory.member_item_unique_idx");
+  }
+
+  /**
+   * 채팅 메시지 커서 페이지네이션 인덱스 교체: {chatRoomId, createdDate} → {chatRoomId, createdDate, _id}
+   * 새 인덱스가 기존 인덱스의 접두 키를 모두 포함하므로, 새 인덱스를 먼저 보장한 뒤 남아 있는 기존 인덱스를 삭제해
+   * 메시지 저장마다 두 인덱스를 갱신하는 쓰기 비용과 저장 공간을 없앤다.
+   */
+  private void replaceLegacyChatMessageIndex() {
+    IndexOperations chatMessageIndexOps = mongoTemplate.indexOps(ChatMessage.class);
+    // @CompoundIndex 자동 생성과 같은 기본 이름이 되도록 이름을 지정하지 않는다
+    ensureIndexSafely(chatMessageIndexOps,
+        new CompoundIndexDefinition(new Document("chatRoomId", 1).append("createdDate", -1).append("_id", -1)),
+        "ChatMessage.chatRoomId_createdDate_id");
+
+    List<IndexField> legacyFields = List.of(
+        IndexField.create("chatRoomId", Sort.Direction.ASC),
+        IndexField.create("createdDate", Sort.Direction.DESC));
+    try {
+      for (IndexInfo indexInfo : chatMessageIndexOps.getIndexInfo()) {
+        if (indexInfo.getIndexFields().equals(legacyFields)) {
+          chatMessageIndexOps.dropIndex(indexInfo.getName());
+          log.info("ChatMessage 기존 인덱스 삭제 완료: {}", indexInfo.getName());
+        }
+      }
+    } catch (RuntimeException dropFailure) {
+      // 삭제에 실패해도 조회는 새 인덱스로 동작하므로 다음 기동 때 다시 시도한다
+      log.warn("ChatMessage 기존 인덱스 삭제 실패 — {}", dropFailure.getMessage());
+    }
+  }
 }
@@ -6,8 +6,14 @@ import com.romrom.chat.repository.postgres.ChatRoomRepository;
 import com.romrom.chat.service.ChatRoomService;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +21,7 @@ import org.springframework.stereotype.Component;
  * soft-delete된 채팅방 자동 정리 스케줄러 (#750)
  * - deletedAt 으로부터 30일 경과한 방을 아카이브(.json.gz) 후 물리 삭제
  * - 아카이브 실패 시 해당 방은 물리삭제를 건너뛰어, 다음 배치가 재시도 (백업 없는 삭제 방지)
+ * - chat.archive.cleanup-parallelism 만큼 여러 방을 병렬 처리 (1이면 순차)
  */
 @Component
 @RequiredArgsConstructor
@@ -28,6 +35,10 @@ public class ChatRoomCleanupScheduler {
   private final ChatRoomArchiveService chatRoomArchiveService;
   private final ChatRoomService chatRoomService;
 
+  // 동시에 아카이브/삭제할 채팅방 수 (1이면 순차 처리)
+  @Value("${chat.archive.cleanup-parallelism:4}")
+  private int cleanupParallelism;
+
   // TODO: 운영 검증 후 활성화 (OrphanImageCleanupScheduler 동일 패턴)
 //  @Scheduled(cron = "0 0 4 * * *")  // 매일 새벽 4시
   public void cleanupDeletedChatRooms() {
@@ -36,30 +47,68 @@ public class ChatRoomCleanupScheduler {
     try {
       LocalDateTime cleanupThreshold = LocalDateTime.now().minusDays(ARCHIVE_RETENTION_DAYS);
       List<ChatRoom> cleanupTargets = chatRoomRepository.findCleanupTargets(cleanupThreshold);
-      log.info("채팅방 정리 대상 수: {}", cleanupTargets.size());
-
-      int archivedCount = 0;
-      int deletedCount = 0;
+      log.info("채팅방 정리 대상 수: {}, 병렬도: {}", cleanupTargets.size(), cleanupParallelism);
 
-      for (ChatRoom targetRoom : cleanupTargets) {
-        try {
-          // 아카이브 먼저 — 실패 시 예외를 던져 물리삭제 단계를 건너뜀
-          chatRoomArchiveService.archiveToFile(targetRoom);
-          archivedCount++;
+      AtomicInteger archivedCount = new AtomicInteger();
+      AtomicInteger deletedCount = new AtomicInteger();
 
-          chatRoomService.physicalDelete(targetRoom.getChatRoomId());
-          deletedCount++;
-        } catch (Exception cleanupException) {
-          // 방 단위 실패는 warn 후 계속 진행 (다음 배치에서 재시도)
-          log.warn("채팅방 정리 실패(다음 배치 재시도): roomId={}, error={}",
-              targetRoom.getChatRoomId(), cleanupException.getMessage());
+      if (cleanupParallelism <= 1 || cleanupTargets.size() <= 1) {
+        for (ChatRoom targetRoom : cleanupTargets) {
+          cleanupRoom(targetRoom, archivedCount, deletedCount);
         }
+      } else {
+        cleanupRoomsInParallel(cleanupTargets, archivedCount, deletedCount);
       }
 
       log.info("채팅방 정리 스케줄러 완료: 대상={}, 아카이브={}, 삭제={}",
-          cleanupTargets.size(), archivedCount, deletedCount);
+          cleanupTargets.size(), archivedCount.get(), deletedCount.get());
     } catch (Exception schedulerException) {
       log.error("채팅방 정리 스케줄러 실행 중 오류 발생: {}", schedulerException.getMessage(), schedulerException);
     }
   }
+
+  /**
+   * 방 단위 아카이브 + 물리삭제를 고정 크기 스레드 풀에서 병렬 수행한다.
+   * 아카이브는 스트리밍이라 방 하나당 메모리가 일정하므로, 동시 처리량은 병렬도로만 제한된다.
+   * 방끼리는 독립적이며, 한 방의 실패는 다른 방 처리에 영향을 주지 않는다.
+   */
+  private void cleanupRoomsInParallel(List<ChatRoom> cleanupTargets, AtomicInteger archivedCount,
+                                      AtomicInteger deletedCount) throws InterruptedException {
+    int poolSize = Math.min(cleanupParallelism, cleanupTargets.size());
+    ExecutorService cleanupExecutor = Executors.newFixedThreadPool(poolSize, new ThreadFactory() {
+      private final AtomicInteger threadSequence = new AtomicInteger();
+
+      @Override
+      public Thread newThread(Runnable runnable) {
+        return new Thread(runnable, "chat-room-cleanup-" + threadSequence.incrementAndGet());
+      }
+    });
+    try {
+      List<Callable<Void>> cleanupTasks = cleanupTargets.stream()
+          .<Callable<Void>>map(targetRoom -> () -> {
+            cleanupRoom(targetRoom, archivedCount, deletedCount);
+            return null;
+          })
+          .toList();
+      // 모든 방 처리가 끝날 때까지 대기 (cleanupRoom 이 방 단위 예외를 모두 처리함)
+      cleanupExecutor.invokeAll(cleanupTasks);
+    } finally {
+      cleanupExecutor.shutdownNow();
+    }
+  }
+
+  private void cleanupRoom(ChatRoom targetRoom, AtomicInteger archivedCount, AtomicInteger deletedCount) {
+    try {
+      // 아카이브 먼저 — 실패 시 예외를 던져 물리삭제 단계를 건너뜀
+      chatRoomArchiveService.archiveToFile(targetRoom);
+      archivedCount.incrementAndGet();
+
+      chatRoomService.physicalDelete(targetRoom.getChatRoomId());
+      deletedCount.incrementAndGet();
+    } catch (Exception cleanupException) {
+      // 방 단위 실패는 warn 후 계속 진행 (다음 배치에서 재시도)
+      log.warn("채팅방 정리 실패(다음 배치 재시도): roomId={}, error={}",
+          targetRoom.getChatRoomId(), cleanupException.getMessage());
+    }
+  }
 }
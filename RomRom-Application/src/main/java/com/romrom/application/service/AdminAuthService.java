@@ -3,6 +3,7 @@ package com.romrom.application.service;
 import com.romrom.application.dto.AdminResponse;
 import com.romrom.auth.dto.CustomUserDetails;
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import com.romrom.common.constant.Role;
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
@@ -102,18 +103,19 @@ public class AdminAuthService {
     public AdminResponse refreshToken(String refreshToken) {
         log.debug("관리자 토큰 재발급 요청");
 
-        if (!jwtUtil.validateToken(refreshToken)) {
+        VerifiedToken verifiedRefreshToken = jwtUtil.verify(refreshToken);
+        if (verifiedRefreshToken == null) {
             log.warn("유효하지 않은 리프레시 토큰");
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
-        if (!"refresh".equals(jwtUtil.getCategory(refreshToken))) {
+        if (!"refresh".equals(verifiedRefreshToken.getCategory())) {
             log.warn("리프레시 토큰이 아닌 토큰으로 재발급 시도");
             throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
         }
 
         CustomUserDetails customUserDetails = (CustomUserDetails) jwtUtil
-            .getAuthentication(refreshToken).getPrincipal();
+            .getAuthentication(verifiedRefreshToken).getPrincipal();
         String key = REFRESH_KEY_PREFIX + customUserDetails.getMember().getMemberId();
         Object stored = redisTemplate.opsForValue().get(key);
 
@@ -2,7 +2,7 @@ package com.romrom.application.service;
 
 import com.romrom.application.dto.AdminRequest;
 import com.romrom.application.dto.AdminResponse;
-import com.romrom.ai.service.EmbeddingService;
+import com.romrom.ai.service.EmbeddingJobService;
 import com.romrom.chat.repository.postgres.ChatRoomRepository;
 import com.romrom.chat.service.ChatMessageService;
 import com.romrom.chat.service.ChatRoomService;
@@ -45,7 +45,7 @@ public class AdminItemService {
   private final ChatRoomService chatRoomService;
   private final ItemService itemService;
   private final ItemReportRepository itemReportRepository;
-  private final EmbeddingService embeddingService;
+  private final EmbeddingJobService embeddingJobService;
 
   /**
    * 관리자용 물품 삭제
@@ -240,7 +240,7 @@ public class AdminItemService {
 
     itemRepository.save(item);
     if (shouldUpdateEmbedding) {
-      embeddingService.updateItemEmbedding(extractItemText(item), item.getItemId());
+      embeddingJobService.enqueueItemEmbedding(extractItemText(item), item.getItemId());
     }
     return AdminResponse.builder().build();
   }
@@ -1,23 +1,35 @@
 package com.romrom.application.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.romrom.application.dto.ChatRoomArchiveDto;
 import com.romrom.chat.entity.mongo.ChatMessage;
 import com.romrom.chat.entity.postgres.ChatRoom;
 import com.romrom.chat.repository.mongo.ChatMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
-import lombok.RequiredArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -26,32 +38,77 @@ import org.springframework.stereotype.Service;
  * 채팅방 데이터를 JSON으로 조립 → gzip 압축하여 보관하는 서비스 (#750).
  * 관리자 export(다운로드)와 배치 청소가 공용으로 사용한다.
  * 이미지는 URL 참조(imageUrls)만 담고 바이너리는 백업하지 않는다.
+ *
+ * <p>메시지는 Mongo 커서 → JsonGenerator → GZIPOutputStream → 저장 스트림으로 한 건씩 흘려보낸다.
+ * 전체 메시지 목록이나 JSON byte[]를 메모리에 만들지 않으므로, 방 크기와 무관하게 메모리 사용량이
+ * 커서 배치 + 압축 버퍼 수준으로 일정하다. 출력 형식은 {@link ChatRoomArchiveDto} 직렬화 결과와 동일하다.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ChatRoomArchiveService {
 
+  // Mongo 커서 한 번에 가져오는 메시지 수
+  private static final int CURSOR_BATCH_SIZE = 500;
+
+  // 압축/출력 버퍼 크기
+  private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+  // 진행 로그 간격 (메시지 수)
+  private static final long PROGRESS_LOG_INTERVAL = 100_000L;
+
+  // 백업 파일명 타임스탬프 포맷
+  private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
   private final ChatMessageRepository chatMessageRepository;
-  // JavaTimeModule이 등록된 Primary ObjectMapper 주입 (LocalDateTime 직렬화 지원, JacksonConfig 참조)
-  private final ObjectMapper objectMapper;
+  // 메시지마다 flush 하지 않도록 FLUSH_AFTER_WRITE_VALUE 를 끈 writer (JacksonConfig의 Primary ObjectMapper 설정 유지)
+  private final ObjectWriter archiveWriter;
+
+  private final Counter archivedRoomCounter;
+  private final Counter archivedMessageCounter;
+  private final Counter uncompressedByteCounter;
+  private final Counter compressedByteCounter;
+  private final DistributionSummary roomMessageSummary;
+  private final Timer archiveTimer;
 
   // 호스트 마운트 백업 경로 (미설정 시 기본값)
   @Value("${chat.archive.backup-dir:./backup/chat-rooms}")
   private String backupDir;
 
-  // 백업 파일명 타임스탬프 포맷
-  private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+  // JavaTimeModule이 등록된 Primary ObjectMapper 주입 (LocalDateTime 직렬화 지원, JacksonConfig 참조)
+  public ChatRoomArchiveService(ChatMessageRepository chatMessageRepository, ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+    this.chatMessageRepository = chatMessageRepository;
+    this.archiveWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    this.archivedRoomCounter = Counter.builder("chat.archive.rooms")
+        .description("아카이브 완료된 채팅방 수")
+        .register(meterRegistry);
+    this.archivedMessageCounter = Counter.builder("chat.archive.messages")
+        .description("아카이브에 기록된 메시지 수 (진행 중 포함)")
+        .register(meterRegistry);
+    this.uncompressedByteCounter = Counter.builder("chat.archive.bytes")
+        .tag("type", "uncompressed")
+        .description("아카이브 JSON 바이트 수")
+        .register(meterRegistry);
+    this.compressedByteCounter = Counter.builder("chat.archive.bytes")
+        .tag("type", "compressed")
+        .description("아카이브 gzip 바이트 수")
+        .register(meterRegistry);
+    this.roomMessageSummary = DistributionSummary.builder("chat.archive.room.messages")
+        .description("채팅방당 아카이브 메시지 수")
+        .register(meterRegistry);
+    this.archiveTimer = Timer.builder("chat.archive.duration")
+        .description("채팅방 아카이브 소요 시간")
+        .register(meterRegistry);
+  }
 
   /**
    * 채팅방을 JSON → gzip으로 압축해 호스트 마운트 backup 폴더에 .json.gz로 저장한다 (배치 청소용).
+   * 작성 중에는 .part 파일에 쓰고 완료 후 이름을 바꿔, 중간에 실패한 반쪽 파일이 정상 백업으로 남지 않게 한다.
    *
    * @return 저장된 파일 경로
    */
   public Path archiveToFile(ChatRoom room) throws IOException {
-    ChatRoomArchiveDto archiveDto = buildArchiveDto(room);
-    byte[] archiveJsonBytes = objectMapper.writeValueAsBytes(archiveDto);
-
     Path backupDirPath = Paths.get(backupDir);
     Files.createDirectories(backupDirPath);
 
@@ -59,55 +116,150 @@ public class ChatRoomArchiveService {
     LocalDateTime fileTimestampSource = room.getDeletedAt() != null ? room.getDeletedAt() : LocalDateTime.now();
     String archiveFileName = room.getChatRoomId() + "_" + fileTimestampSource.format(FILE_TIMESTAMP) + ".json.gz";
     Path archiveFilePath = backupDirPath.resolve(archiveFileName);
+    Path partialFilePath = backupDirPath.resolve(archiveFileName + ".part");
 
-    try (OutputStream fileOutputStream = Files.newOutputStream(archiveFilePath);
-        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(fileOutputStream)) {
-      gzipOutputStream.write(archiveJsonBytes);
+    ArchiveResult archiveResult;
+    try {
+      try (OutputStream fileOutputStream = Files.newOutputStream(partialFilePath)) {
+        archiveResult = writeArchive(room, fileOutputStream);
+      }
+      Files.move(partialFilePath, archiveFilePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(partialFilePath);
+      throw e;
     }
 
-    log.info("채팅방 아카이브 저장 완료: chatRoomId={}, path={}", room.getChatRoomId(), archiveFilePath);
+    log.info("채팅방 아카이브 저장 완료: chatRoomId={}, path={}, {}", room.getChatRoomId(), archiveFilePath, archiveResult);
     return archiveFilePath;
   }
 
   /**
    * 채팅방을 JSON → gzip으로 압축한 byte[]를 반환한다 (관리자 다운로드용, 파일 미생성).
+   * 압축 결과만 메모리에 담긴다.
    */
   public byte[] archiveToGzipBytes(ChatRoom room) throws IOException {
-    ChatRoomArchiveDto archiveDto = buildArchiveDto(room);
-    byte[] archiveJsonBytes = objectMapper.writeValueAsBytes(archiveDto);
-
     ByteArrayOutputStream gzipByteBuffer = new ByteArrayOutputStream();
-    try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzipByteBuffer)) {
-      gzipOutputStream.write(archiveJsonBytes);
-    }
+    writeArchive(room, gzipByteBuffer);
     return gzipByteBuffer.toByteArray();
   }
 
-  // 채팅방 + 전체 메시지를 아카이브 DTO로 조립 (이미지는 URL 참조만)
-  private ChatRoomArchiveDto buildArchiveDto(ChatRoom room) {
+  /**
+   * 채팅방 아카이브(JSON → gzip)를 출력 스트림에 바로 쓴다. 출력 스트림은 닫지 않는다.
+   *
+   * @param outputStream 저장 대상 스트림 (파일, 업로드 스트림 등)
+   * @return 메시지 수, 원본/압축 바이트 수, 소요 시간
+   */
+  public ArchiveResult writeArchive(ChatRoom room, OutputStream outputStream) throws IOException {
     UUID chatRoomId = room.getChatRoomId();
-    List<ChatMessage> chatMessages = chatMessageRepository.findByChatRoomIdOrderByCreatedDateAsc(chatRoomId);
-
-    List<ChatRoomArchiveDto.MessageEntry> messageEntries = chatMessages.stream()
-        .map(chatMessage -> ChatRoomArchiveDto.MessageEntry.builder()
-            .chatMessageId(chatMessage.getChatMessageId())
-            .senderId(chatMessage.getSenderId())
-            .recipientId(chatMessage.getRecipientId())
-            .content(chatMessage.getContent())
-            .imageUrls(chatMessage.getImageUrls())
-            // type null 방어 (enum이면 name() 문자열화)
-            .type(chatMessage.getType() != null ? chatMessage.getType().name() : null)
-            .createdDate(chatMessage.getCreatedDate())
-            .build())
-        .collect(Collectors.toList());
-
-    return ChatRoomArchiveDto.builder()
-        .chatRoomId(chatRoomId)
-        .tradeReceiverId(room.getTradeReceiver().getMemberId())
-        .tradeSenderId(room.getTradeSender().getMemberId())
-        .deletedAt(room.getDeletedAt())
-        .archivedAt(LocalDateTime.now())
-        .messages(messageEntries)
+    long startNanos = System.nanoTime();
+
+    CountingOutputStream compressedOutputStream = new CountingOutputStream(outputStream);
+    GZIPOutputStream gzipOutputStream = new GZIPOutputStream(compressedOutputStream, STREAM_BUFFER_SIZE);
+    CountingOutputStream uncompressedOutputStream = new CountingOutputStream(gzipOutputStream);
+
+    long messageCount = 0;
+    try (JsonGenerator jsonGenerator = archiveWriter.getFactory().createGenerator(uncompressedOutputStream)) {
+      // 스트림 종료는 gzip finish 로 직접 처리 (generator 종료 시 호출자 스트림까지 닫히지 않게 함)
+      jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+      // ChatRoomArchiveDto 필드 순서와 동일하게 기록
+      jsonGenerator.writeStartObject();
+      writeField(jsonGenerator, "chatRoomId", chatRoomId);
+      writeField(jsonGenerator, "tradeReceiverId", room.getTradeReceiver().getMemberId());
+      writeField(jsonGenerator, "tradeSenderId", room.getTradeSender().getMemberId());
+      writeField(jsonGenerator, "deletedAt", room.getDeletedAt());
+      writeField(jsonGenerator, "archivedAt", LocalDateTime.now());
+
+      jsonGenerator.writeArrayFieldStart("messages");
+      try (Stream<ChatMessage> chatMessageStream =
+               chatMessageRepository.streamByChatRoomIdOrderByCreatedDateAsc(chatRoomId, CURSOR_BATCH_SIZE)) {
+        Iterator<ChatMessage> chatMessageIterator = chatMessageStream.iterator();
+        while (chatMessageIterator.hasNext()) {
+          archiveWriter.writeValue(jsonGenerator, toMessageEntry(chatMessageIterator.next()));
+          messageCount++;
+          archivedMessageCounter.increment();
+          if (messageCount % PROGRESS_LOG_INTERVAL == 0) {
+            log.info("채팅방 아카이브 진행 중: chatRoomId={}, messages={}, compressedBytes={}",
+                chatRoomId, messageCount, compressedOutputStream.getCount());
+          }
+        }
+      }
+      jsonGenerator.writeEndArray();
+      jsonGenerator.writeEndObject();
+    }
+    gzipOutputStream.finish();
+    compressedOutputStream.flush();
+
+    long elapsedNanos = System.nanoTime() - startNanos;
+    archivedRoomCounter.increment();
+    uncompressedByteCounter.increment(uncompressedOutputStream.getCount());
+    compressedByteCounter.increment(compressedOutputStream.getCount());
+    roomMessageSummary.record(messageCount);
+    archiveTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+    return ArchiveResult.builder()
+        .messageCount(messageCount)
+        .uncompressedBytes(uncompressedOutputStream.getCount())
+        .compressedBytes(compressedOutputStream.getCount())
+        .elapsedMillis(elapsedNanos / 1_000_000)
+        .build();
+  }
+
+  private void writeField(JsonGenerator jsonGenerator, String fieldName, Object value) throws IOException {
+    jsonGenerator.writeFieldName(fieldName);
+    archiveWriter.writeValue(jsonGenerator, value);
+  }
+
+  // 메시지 → 아카이브 항목 (이미지는 URL 참조만)
+  private ChatRoomArchiveDto.MessageEntry toMessageEntry(ChatMessage chatMessage) {
+    return ChatRoomArchiveDto.MessageEntry.builder()
+        .chatMessageId(chatMessage.getChatMessageId())
+        .senderId(chatMessage.getSenderId())
+        .recipientId(chatMessage.getRecipientId())
+        .content(chatMessage.getContent())
+        .imageUrls(chatMessage.getImageUrls())
+        // type null 방어 (enum이면 name() 문자열화)
+        .type(chatMessage.getType() != null ? chatMessage.getType().name() : null)
+        .createdDate(chatMessage.getCreatedDate())
         .build();
   }
+
+  /**
+   * 아카이브 1건의 처리 결과
+   */
+  @Getter
+  @Builder
+  @ToString
+  public static class ArchiveResult {
+    private final long messageCount;
+    private final long uncompressedBytes;
+    private final long compressedBytes;
+    private final long elapsedMillis;
+  }
+
+  // 통과한 바이트 수를 세는 스트림 (FilterOutputStream 기본 구현은 1바이트씩 쓰므로 배열 쓰기를 그대로 위임)
+  private static class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    CountingOutputStream(OutputStream outputStream) {
+      super(outputStream);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+
+    long getCount() {
+      return count;
+    }
+  }
 }
@@ -3,26 +3,34 @@ package com.romrom.application.service;
 import com.romrom.application.dto.AdminResponse.AdminLogErrorSummary;
 import com.romrom.application.dto.AdminResponse.AdminLogFileInfo;
 import com.romrom.application.dto.LogLineParsed;
+import com.romrom.application.util.LogIndex;
 import com.romrom.application.util.LogLineParser;
+import com.romrom.application.util.MappedLogReader;
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
-import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.RandomAccessFile;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.GZIPInputStream;
@@ -35,6 +43,9 @@ import org.springframework.stereotype.Service;
 /**
  * 서버 로그 파일(romrom.log + .gz 롤링)을 읽어 관리자 화면에 제공한다.
  * DB 적재 없이 파일을 직접 읽는다.
+ *
+ * <p>현재 로그는 메모리 매핑 후 {@link LogIndex}(라인 오프셋/레벨/타임스탬프)를 증분 갱신해 조회마다 전체를 다시 읽지 않는다.
+ * 롤링된 .gz 는 처음 레벨 필터 조회 시 인덱스를 만들어 같은 디렉터리에 {@code <파일명>.idx} 로 저장한다.
  */
 @Slf4j
 @Service
@@ -42,12 +53,21 @@ public class LogFileService {
 
   private static final int MAX_QUERY_LINE_COUNT = 2000;     // 조회 줄수 상한
   private static final int MAX_GZ_LINE_COUNT = 5000;        // gz 조회 줄수 상한
+  private static final long MAX_KEYWORD_SCAN_BYTES = 256L * 1024 * 1024;  // 키워드 검색 시 끝에서부터 훑는 최대 범위
+  private static final long MAX_RANGE_EXTRACT_BYTES = 16L * 1024 * 1024;  // 기간 추출 결과 최대 크기 (최신 쪽 유지)
+  private static final int GZ_BUFFER_BYTES = 1024 * 1024;
+  private static final String INDEX_FILE_SUFFIX = ".idx";
   private static final Pattern EXCEPTION_CLASS_PATTERN = Pattern.compile("([A-Za-z0-9_.]+Exception)");
 
   private final File currentLogFile;
   private final File logDirectory;
   private final LogLineParser logLineParser;
 
+  // 현재 로그 파일 인덱스 (롤링으로 파일이 교체되거나 줄어들면 새로 생성)
+  private final Object currentLogIndexLock = new Object();
+  private LogIndex currentLogIndex;
+  private Object currentLogFileKey;
+
   public LogFileService(
       @Value("${logging.file.name:romrom.log}") String currentLogFilePath,
       LogLineParser logLineParser) {
@@ -84,13 +104,34 @@ public class LogFileService {
           .build());
     }
     logFileInfoList.sort(Comparator.comparing(AdminLogFileInfo::getLastModifiedAt).reversed());
+    deleteOrphanIndexFiles();
     return logFileInfoList;
   }
 
   /**
-   * 현재 romrom.log 끝에서부터 최대 requestedLineCount 줄을 읽고,
-   * 레벨/키워드 필터를 적용해 시간순(오래된→최신)으로 반환한다.
-   * requestedLineCount는 MAX_QUERY_LINE_COUNT로 캡.
+   * 보관 기간이 지나 삭제된 .gz 의 인덱스 파일 정리
+   */
+  private void deleteOrphanIndexFiles() {
+    String gzIndexPrefix = currentLogFile.getName() + ".";
+    File[] indexFileArray = logDirectory.listFiles((dir, fileName) ->
+        fileName.startsWith(gzIndexPrefix) && fileName.endsWith(".gz" + INDEX_FILE_SUFFIX));
+    if (indexFileArray == null) {
+      return;
+    }
+    for (File indexFile : indexFileArray) {
+      String indexFileName = indexFile.getName();
+      File gzFile = new File(logDirectory, indexFileName.substring(0, indexFileName.length() - INDEX_FILE_SUFFIX.length()));
+      if (!gzFile.exists() && !indexFile.delete()) {
+        log.warn("gz 인덱스 파일 삭제 실패: {}", indexFile.getAbsolutePath());
+      }
+    }
+  }
+
+  /**
+   * 현재 romrom.log 에서 필터(레벨/키워드)에 맞는 마지막 requestedLineCount 줄을 시간순(오래된→최신)으로 반환한다.
+   * 필터가 없으면 마지막 requestedLineCount 줄. requestedLineCount는 MAX_QUERY_LINE_COUNT로 캡.
+   * 레벨 필터는 인덱스의 레벨만 보고 건너뛰므로 파일 크기와 무관하게 일치 라인만 읽는다.
+   * 키워드 필터는 파일 끝에서 MAX_KEYWORD_SCAN_BYTES 범위까지만 훑는다.
    */
   public List<String> readRecentLines(int requestedLineCount, String levelFilter, String keywordFilter) {
     int cappedLineCount = Math.min(Math.max(requestedLineCount, 1), MAX_QUERY_LINE_COUNT);
@@ -98,102 +139,175 @@ public class LogFileService {
       log.warn("로그 파일 없음: {}", currentLogFile.getAbsolutePath());
       return new ArrayList<>();
     }
-    List<String> tailLines = readTailLines(currentLogFile, cappedLineCount);
-    return applyLevelAndKeywordFilter(tailLines, levelFilter, keywordFilter);
+    boolean isLevelActive = isLevelFilterActive(levelFilter);
+    boolean isKeywordActive = keywordFilter != null && !keywordFilter.isBlank();
+    synchronized (currentLogIndexLock) {
+      try {
+        LogIndex logIndex = refreshCurrentLogIndex();
+        try (MappedLogReader logReader = MappedLogReader.open(currentLogFile.toPath(), logIndex.getIndexedLength())) {
+          if (!isLevelActive && !isKeywordActive) {
+            return readTailLines(logIndex, logReader, cappedLineCount);
+          }
+          return readLastMatchingLines(logIndex, logReader, cappedLineCount,
+              isLevelActive ? levelFilter : null, isKeywordActive ? keywordFilter : null);
+        }
+      } catch (IOException e) {
+        log.error("로그 읽기 실패: {}", e.getMessage());
+        return new ArrayList<>();
+      }
+    }
   }
 
   /**
-   * 파일 끝에서 최대 4MB 블록만 읽어 UTF-8로 한 번에 디코딩한 뒤 마지막 maxLineCount 줄 반환.
-   * 한글(멀티바이트) 안전. 전체 메모리 로드 금지.
+   * 현재 로그 파일에 덧붙은 라인만 인덱스에 추가한다. 파일이 교체(롤링)되었거나 줄어들었으면 처음부터 다시 만든다.
+   * currentLogIndexLock 을 잡은 상태에서만 호출.
    */
-  private List<String> readTailLines(File targetFile, int maxLineCount) {
-    long maxReadBytes = 4L * 1024 * 1024;
-    try (RandomAccessFile randomAccessFile = new RandomAccessFile(targetFile, "r")) {
-      long fileLength = randomAccessFile.length();
-      long readStart = Math.max(0, fileLength - maxReadBytes);
-      int readLength = (int) (fileLength - readStart);
-      byte[] tailBytes = new byte[readLength];
-      randomAccessFile.seek(readStart);
-      randomAccessFile.readFully(tailBytes);
-      String tailContent = new String(tailBytes, StandardCharsets.UTF_8);
-      String[] allLines = tailContent.split("\n", -1);
-      List<String> resultLines = new ArrayList<>();
-      int startIndex = Math.max(0, allLines.length - maxLineCount);
-      for (int lineIndex = startIndex; lineIndex < allLines.length; lineIndex++) {
-        String tailLine = allLines[lineIndex].replace("\r", "");
-        if (!tailLine.isEmpty()) {
-          resultLines.add(tailLine);
-        }
+  private LogIndex refreshCurrentLogIndex() throws IOException {
+    Path currentLogPath = currentLogFile.toPath();
+    BasicFileAttributes attributes = Files.readAttributes(currentLogPath, BasicFileAttributes.class);
+    if (currentLogIndex == null
+        || attributes.size() < currentLogIndex.getIndexedLength()
+        || !Objects.equals(attributes.fileKey(), currentLogFileKey)) {
+      currentLogIndex = new LogIndex();
+      currentLogFileKey = attributes.fileKey();
+    }
+    long appendedBytes = MappedLogReader.indexAppended(currentLogPath, currentLogIndex);
+    if (appendedBytes > 0) {
+      log.debug("로그 인덱스 갱신: +{} bytes, 총 {} 줄", appendedBytes, currentLogIndex.getLineCount());
+    }
+    return currentLogIndex;
+  }
+
+  /**
+   * 마지막 maxLineCount 줄 (빈 줄 제외). 시작 라인은 인덱스 블록 오프셋에서 최대 63줄만 건너뛰어 찾는다.
+   */
+  private List<String> readTailLines(LogIndex logIndex, MappedLogReader logReader, int maxLineCount) throws IOException {
+    int startLine = Math.max(0, logIndex.getLineCount() - maxLineCount);
+    long lineStart = lineOffsetOf(logIndex, logReader, startLine);
+    List<String> resultLines = new ArrayList<>();
+    while (lineStart < logReader.getLimit()) {
+      long nextLineStart = logReader.nextLineStart(lineStart);
+      String tailLine = logReader.readLine(lineStart, nextLineStart);
+      if (!tailLine.isEmpty()) {
+        resultLines.add(tailLine);
       }
-      return resultLines;
-    } catch (IOException e) {
-      log.error("로그 tail 읽기 실패: {}", e.getMessage());
-      return new ArrayList<>();
+      lineStart = nextLineStart;
     }
+    return resultLines;
   }
 
   /**
-   * 레벨/키워드 필터 적용. levelFilter가 null/blank/"전체"면 레벨 무시, keyword가 비면 키워드 무시.
-   * 결과는 입력 순서(시간순) 유지.
+   * 파일 끝에서부터 블록 단위로 거슬러 올라가며 필터에 맞는 라인을 maxLineCount 개까지 모은다.
+   * 레벨 필터가 있으면 해당 레벨이 없는 블록은 읽지 않는다.
    */
-  private List<String> applyLevelAndKeywordFilter(List<String> rawLines, String levelFilter, String keywordFilter) {
-    boolean isLevelActive = levelFilter != null && !levelFilter.isBlank() && !"전체".equals(levelFilter);
-    boolean isKeywordActive = keywordFilter != null && !keywordFilter.isBlank();
-    List<String> filteredLines = new ArrayList<>();
-    for (String rawLine : rawLines) {
-      if (isLevelActive) {
-        LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
-        String lineLevel = parsed.getLogLevel();
-        if (lineLevel == null || !lineLevel.equalsIgnoreCase(levelFilter)) {
+  private List<String> readLastMatchingLines(LogIndex logIndex, MappedLogReader logReader, int maxLineCount,
+      String levelFilter, String keywordFilter) throws IOException {
+    byte levelCode = levelFilter != null ? LogIndex.levelCodeOf(levelFilter) : LogIndex.LEVEL_NONE;
+    long keywordScanFloor = keywordFilter != null ? logReader.getLimit() - MAX_KEYWORD_SCAN_BYTES : Long.MIN_VALUE;
+    int lineCount = logIndex.getLineCount();
+    List<String> matchedLinesNewestFirst = new ArrayList<>();
+
+    for (int blockStartLine = logIndex.blockStartLine(lineCount - 1);
+        blockStartLine >= 0 && matchedLinesNewestFirst.size() < maxLineCount;
+        blockStartLine -= LogIndex.BLOCK_LINES) {
+      int blockEndLine = Math.min(blockStartLine + LogIndex.BLOCK_LINES, lineCount);
+      if (levelFilter != null && !containsLevel(logIndex, blockStartLine, blockEndLine, levelCode)) {
+        continue;
+      }
+      long blockStartOffset = logIndex.blockStartOffset(blockStartLine);
+      if (blockStartOffset < keywordScanFloor) {
+        break;
+      }
+      long[] lineStarts = new long[blockEndLine - blockStartLine + 1];
+      lineStarts[0] = blockStartOffset;
+      for (int lineIndex = 1; lineIndex < lineStarts.length; lineIndex++) {
+        lineStarts[lineIndex] = logReader.nextLineStart(lineStarts[lineIndex - 1]);
+      }
+      for (int lineNumber = blockEndLine - 1;
+          lineNumber >= blockStartLine && matchedLinesNewestFirst.size() < maxLineCount;
+          lineNumber--) {
+        if (levelFilter != null && logIndex.levelAt(lineNumber) != levelCode) {
+          continue;
+        }
+        int lineIndex = lineNumber - blockStartLine;
+        String rawLine = logReader.readLine(lineStarts[lineIndex], lineStarts[lineIndex + 1]);
+        if (levelCode == LogIndex.LEVEL_OTHER && !levelFilter.equalsIgnoreCase(logLineParser.parseSingleLine(rawLine).getLogLevel())) {
+          continue;
+        }
+        if (keywordFilter != null && !rawLine.contains(keywordFilter)) {
           continue;
         }
+        matchedLinesNewestFirst.add(rawLine);
       }
-      if (isKeywordActive && !rawLine.contains(keywordFilter)) {
-        continue;
+    }
+    Collections.reverse(matchedLinesNewestFirst);
+    return matchedLinesNewestFirst;
+  }
+
+  private boolean containsLevel(LogIndex logIndex, int fromLine, int toLine, byte levelCode) {
+    for (int lineNumber = fromLine; lineNumber < toLine; lineNumber++) {
+      if (logIndex.levelAt(lineNumber) == levelCode) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private long lineOffsetOf(LogIndex logIndex, MappedLogReader logReader, int lineNumber) {
+    if (lineNumber >= logIndex.getLineCount()) {
+      return logIndex.getIndexedLength();
+    }
+    return logReader.skipLines(logIndex.blockStartOffset(lineNumber), lineNumber - logIndex.blockStartLine(lineNumber));
+  }
+
+  /**
+   * 레벨/키워드 필터 적용. levelFilter가 null/blank/"전체"면 레벨 무시, keyword가 비면 키워드 무시.
+   */
+  private boolean matchesLevelAndKeyword(String rawLine, String levelFilter, String keywordFilter) {
+    if (isLevelFilterActive(levelFilter)) {
+      LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
+      String lineLevel = parsed.getLogLevel();
+      if (lineLevel == null || !lineLevel.equalsIgnoreCase(levelFilter)) {
+        return false;
       }
-      filteredLines.add(rawLine);
     }
-    return filteredLines;
+    return keywordFilter == null || keywordFilter.isBlank() || rawLine.contains(keywordFilter);
+  }
+
+  private boolean isLevelFilterActive(String levelFilter) {
+    return levelFilter != null && !levelFilter.isBlank() && !"전체".equals(levelFilter);
   }
 
   /**
    * 최근 withinMinutes 분 내 ERROR/WARN 로그를 예외 클래스별로 집계.
    * 예외명을 못 찾으면 로거명을 키로 사용.
    * sortBy="recent"면 마지막 발생시각 내림차순, 그 외(기본 "count")는 발생횟수 내림차순.
+   * 인덱스의 블록 타임스탬프로 기간 시작 위치를 찾고, 그 뒤의 ERROR/WARN 라인만 읽는다.
    */
   public List<AdminLogErrorSummary> aggregateErrors(int withinMinutes, String sortBy) {
-    List<String> recentLines = readRecentLines(MAX_QUERY_LINE_COUNT, null, null);
     LocalDateTime cutoffTime = LocalDateTime.now().minusMinutes(withinMinutes);
     Map<String, AdminLogErrorSummary> summaryByExceptionKey = new LinkedHashMap<>();
+    if (!currentLogFile.isFile()) {
+      log.warn("로그 파일 없음: {}", currentLogFile.getAbsolutePath());
+      return new ArrayList<>();
+    }
 
-    for (String rawLine : recentLines) {
-      LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
-      String lineLevel = parsed.getLogLevel();
-      if (lineLevel == null
-          || !(lineLevel.equalsIgnoreCase("ERROR") || lineLevel.equalsIgnoreCase("WARN"))) {
-        continue;
-      }
-      if (parsed.getLoggedAt() != null && parsed.getLoggedAt().isBefore(cutoffTime)) {
-        continue;
-      }
-      String aggregationKey = extractExceptionKey(parsed);
-      AdminLogErrorSummary existingSummary = summaryByExceptionKey.get(aggregationKey);
-      if (existingSummary == null) {
-        summaryByExceptionKey.put(aggregationKey, AdminLogErrorSummary.builder()
-            .exceptionClassName(aggregationKey)
-            .occurrenceCount(1)
-            .lastOccurredAt(parsed.getLoggedAt())
-            .representativeMessage(safeShortMessage(parsed.getLogMessage()))
-            .build());
-      } else {
-        existingSummary.setOccurrenceCount(existingSummary.getOccurrenceCount() + 1);
-        if (parsed.getLoggedAt() != null
-            && (existingSummary.getLastOccurredAt() == null
-                || parsed.getLoggedAt().isAfter(existingSummary.getLastOccurredAt()))) {
-          existingSummary.setLastOccurredAt(parsed.getLoggedAt());
+    synchronized (currentLogIndexLock) {
+      try {
+        LogIndex logIndex = refreshCurrentLogIndex();
+        int firstCandidateLine = logIndex.firstLineNotBefore(LogIndex.toIndexTimestamp(cutoffTime));
+        try (MappedLogReader logReader = MappedLogReader.open(currentLogFile.toPath(), logIndex.getIndexedLength())) {
+          for (int alertIndex = logIndex.firstAlertFromLine(firstCandidateLine); alertIndex < logIndex.getAlertCount(); alertIndex++) {
+            String rawLine = logReader.readLine(logIndex.alertLineOffset(alertIndex));
+            accumulateErrorSummary(summaryByExceptionKey, logLineParser.parseSingleLine(rawLine), cutoffTime);
+          }
         }
+      } catch (IOException e) {
+        log.error("로그 에러 집계 실패: {}", e.getMessage());
+        return new ArrayList<>();
       }
     }
+
     List<AdminLogErrorSummary> summaries = new ArrayList<>(summaryByExceptionKey.values());
     if ("recent".equalsIgnoreCase(sortBy)) {
       // 마지막 발생시각 최신순. 최신 시각이 위로 오도록 reverseOrder + null은 항상 맨 뒤.
@@ -207,6 +321,35 @@ public class LogFileService {
     return summaries;
   }
 
+  private void accumulateErrorSummary(Map<String, AdminLogErrorSummary> summaryByExceptionKey,
+      LogLineParsed parsed, LocalDateTime cutoffTime) {
+    String lineLevel = parsed.getLogLevel();
+    if (lineLevel == null
+        || !(lineLevel.equalsIgnoreCase("ERROR") || lineLevel.equalsIgnoreCase("WARN"))) {
+      return;
+    }
+    if (parsed.getLoggedAt() != null && parsed.getLoggedAt().isBefore(cutoffTime)) {
+      return;
+    }
+    String aggregationKey = extractExceptionKey(parsed);
+    AdminLogErrorSummary existingSummary = summaryByExceptionKey.get(aggregationKey);
+    if (existingSummary == null) {
+      summaryByExceptionKey.put(aggregationKey, AdminLogErrorSummary.builder()
+          .exceptionClassName(aggregationKey)
+          .occurrenceCount(1)
+          .lastOccurredAt(parsed.getLoggedAt())
+          .representativeMessage(safeShortMessage(parsed.getLogMessage()))
+          .build());
+    } else {
+      existingSummary.setOccurrenceCount(existingSummary.getOccurrenceCount() + 1);
+      if (parsed.getLoggedAt() != null
+          && (existingSummary.getLastOccurredAt() == null
+              || parsed.getLoggedAt().isAfter(existingSummary.getLastOccurredAt()))) {
+        existingSummary.setLastOccurredAt(parsed.getLoggedAt());
+      }
+    }
+  }
+
   private String extractExceptionKey(LogLineParsed parsed) {
     String logMessage = parsed.getLogMessage();
     if (logMessage != null) {
@@ -227,39 +370,160 @@ public class LogFileService {
   }
 
   /**
-   * 지정한 .gz 파일을 압축 해제해 레벨/키워드 필터를 적용한 라인을 반환.
+   * 지정한 .gz 파일을 압축 해제해 레벨/키워드 필터를 적용한 라인을 앞에서부터 최대 requestedLineCount 줄 반환.
    * fileName은 화이트리스트(listLogFiles) 검증 후에만 처리.
+   * 레벨 필터가 있으면 gz 인덱스로 다른 레벨 라인은 디코딩하지 않고 건너뛴다.
    */
   public List<String> readGzLines(String fileName, int requestedLineCount, String levelFilter, String keywordFilter) {
     File gzFile = resolveWhitelistedFile(fileName);
     int cappedLineCount = Math.min(Math.max(requestedLineCount, 1), MAX_GZ_LINE_COUNT);
-    List<String> decompressedLines = new ArrayList<>();
-    try (GZIPInputStream gzInputStream = new GZIPInputStream(Files.newInputStream(gzFile.toPath()));
-        BufferedReader gzReader = new BufferedReader(
-            new InputStreamReader(gzInputStream, StandardCharsets.UTF_8))) {
-      String gzLine;
-      while ((gzLine = gzReader.readLine()) != null && decompressedLines.size() < cappedLineCount) {
-        decompressedLines.add(gzLine);
+    List<String> matchedLines = new ArrayList<>();
+    try {
+      IntPredicate isCandidateLine = lineNumber -> true;
+      if (isLevelFilterActive(levelFilter)) {
+        LogIndex gzIndex = loadOrBuildGzIndex(gzFile.toPath());
+        byte levelCode = LogIndex.levelCodeOf(levelFilter);
+        isCandidateLine = lineNumber -> lineNumber < gzIndex.getLineCount() && gzIndex.levelAt(lineNumber) == levelCode;
       }
+      scanGzLines(gzFile.toPath(), isCandidateLine, gzLine -> {
+        if (matchesLevelAndKeyword(gzLine, levelFilter, keywordFilter)) {
+          matchedLines.add(gzLine);
+        }
+        return matchedLines.size() < cappedLineCount;
+      });
     } catch (IOException e) {
       log.error("gz 압축 해제 실패 {}: {}", fileName, e.getMessage());
       throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
     }
-    return applyLevelAndKeywordFilter(decompressedLines, levelFilter, keywordFilter);
+    return matchedLines;
+  }
+
+  /**
+   * gz 파일 옆의 인덱스(.idx)를 읽는다. 없거나 gz 와 맞지 않으면 한 번 훑어 만들고 저장한다.
+   */
+  private LogIndex loadOrBuildGzIndex(Path gzPath) throws IOException {
+    Path indexPath = gzPath.resolveSibling(gzPath.getFileName() + INDEX_FILE_SUFFIX);
+    long gzLength = Files.size(gzPath);
+    long gzLastModified = Files.getLastModifiedTime(gzPath).toMillis();
+    try {
+      LogIndex storedIndex = LogIndex.readFrom(indexPath, gzLength, gzLastModified);
+      if (storedIndex != null) {
+        return storedIndex;
+      }
+    } catch (IOException e) {
+      log.warn("gz 인덱스 읽기 실패, 다시 생성: {}, {}", indexPath, e.getMessage());
+    }
+
+    LogIndex gzIndex = new LogIndex();
+    try (InputStream gzInputStream = new GZIPInputStream(Files.newInputStream(gzPath), GZ_BUFFER_BYTES)) {
+      byte[] pendingBytes = new byte[GZ_BUFFER_BYTES];
+      int pendingLength = 0;
+      int readLength;
+      while (true) {
+        if (pendingLength == pendingBytes.length) {
+          pendingBytes = Arrays.copyOf(pendingBytes, pendingBytes.length * 2);
+        }
+        readLength = gzInputStream.read(pendingBytes, pendingLength, pendingBytes.length - pendingLength);
+        if (readLength < 0) {
+          break;
+        }
+        pendingLength += readLength;
+        int consumedLength = gzIndex.indexChunk(ByteBuffer.wrap(pendingBytes, 0, pendingLength));
+        System.arraycopy(pendingBytes, consumedLength, pendingBytes, 0, pendingLength - consumedLength);
+        pendingLength -= consumedLength;
+      }
+      if (pendingLength > 0) {
+        // 개행 없이 끝난 마지막 라인
+        pendingBytes = Arrays.copyOf(pendingBytes, pendingLength + 1);
+        pendingBytes[pendingLength] = '\n';
+        gzIndex.indexChunk(ByteBuffer.wrap(pendingBytes));
+      }
+    }
+    try {
+      gzIndex.writeTo(indexPath, gzLength, gzLastModified);
+    } catch (IOException e) {
+      log.warn("gz 인덱스 저장 실패, 이번 조회에만 사용: {}, {}", indexPath, e.getMessage());
+    }
+    return gzIndex;
+  }
+
+  /**
+   * gz 를 스트리밍으로 풀며 isCandidateLine 이 true 인 라인만 디코딩해 lineConsumer 에 넘긴다.
+   * lineConsumer 가 false 를 반환하면 중단.
+   */
+  private void scanGzLines(Path gzPath, IntPredicate isCandidateLine, Predicate<String> lineConsumer) throws IOException {
+    try (InputStream gzInputStream = new GZIPInputStream(Files.newInputStream(gzPath), GZ_BUFFER_BYTES)) {
+      byte[] buffer = new byte[GZ_BUFFER_BYTES];
+      ByteArrayOutputStream candidateLineBytes = new ByteArrayOutputStream();
+      int lineNumber = 0;
+      boolean isCandidate = isCandidateLine.test(lineNumber);
+      int readLength;
+      while ((readLength = gzInputStream.read(buffer)) > 0) {
+        int segmentStart = 0;
+        for (int position = 0; position < readLength; position++) {
+          if (buffer[position] != '\n') {
+            continue;
+          }
+          if (isCandidate) {
+            candidateLineBytes.write(buffer, segmentStart, position - segmentStart);
+            if (!lineConsumer.test(decodeLine(candidateLineBytes))) {
+              return;
+            }
+            candidateLineBytes.reset();
+          }
+          lineNumber++;
+          isCandidate = isCandidateLine.test(lineNumber);
+          segmentStart = position + 1;
+        }
+        if (isCandidate) {
+          candidateLineBytes.write(buffer, segmentStart, readLength - segmentStart);
+        }
+      }
+      if (isCandidate && candidateLineBytes.size() > 0) {
+        lineConsumer.test(decodeLine(candidateLineBytes));
+      }
+    }
+  }
+
+  private String decodeLine(ByteArrayOutputStream lineBytes) {
+    String decodedLine = lineBytes.toString(StandardCharsets.UTF_8);
+    return decodedLine.endsWith("\r") ? decodedLine.substring(0, decodedLine.length() - 1) : decodedLine;
   }
 
   /**
    * 현재 romrom.log에서 최근 range 기간 라인만 잘라 하나의 텍스트로 반환.
    * 범위 내 로그가 없으면 안내 헤더 한 줄.
+   * 기간 시작 위치는 인덱스 블록 타임스탬프로 찾고, 결과가 MAX_RANGE_EXTRACT_BYTES 를 넘으면 최신 쪽만 남긴다.
    */
   public String extractByTimeRange(Duration range) {
     LocalDateTime cutoffTime = LocalDateTime.now().minus(range);
-    List<String> tailLines = readRecentLines(MAX_QUERY_LINE_COUNT, null, null);
     StringBuilder extractedBuilder = new StringBuilder();
-    for (String rawLine : tailLines) {
-      LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
-      if (parsed.getLoggedAt() == null || !parsed.getLoggedAt().isBefore(cutoffTime)) {
-        extractedBuilder.append(rawLine).append('\n');
+    if (currentLogFile.isFile()) {
+      synchronized (currentLogIndexLock) {
+        try {
+          LogIndex logIndex = refreshCurrentLogIndex();
+          try (MappedLogReader logReader = MappedLogReader.open(currentLogFile.toPath(), logIndex.getIndexedLength())) {
+            int firstCandidateLine = logIndex.firstLineNotBefore(LogIndex.toIndexTimestamp(cutoffTime));
+            long lineStart = lineOffsetOf(logIndex, logReader, firstCandidateLine);
+            if (logReader.getLimit() - lineStart > MAX_RANGE_EXTRACT_BYTES) {
+              lineStart = logReader.nextLineStart(logReader.getLimit() - MAX_RANGE_EXTRACT_BYTES - 1);
+            }
+            while (lineStart < logReader.getLimit()) {
+              long nextLineStart = logReader.nextLineStart(lineStart);
+              String rawLine = logReader.readLine(lineStart, nextLineStart);
+              lineStart = nextLineStart;
+              if (rawLine.isEmpty()) {
+                continue;
+              }
+              LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
+              if (parsed.getLoggedAt() == null || !parsed.getLoggedAt().isBefore(cutoffTime)) {
+                extractedBuilder.append(rawLine).append('\n');
+              }
+            }
+          }
+        } catch (IOException e) {
+          log.error("로그 기간 추출 실패: {}", e.getMessage());
+        }
       }
     }
     if (extractedBuilder.length() == 0) {
@@ -10,6 +10,7 @@ import com.romrom.member.dto.MemberResponse;
 import com.romrom.member.entity.Member;
 import com.romrom.member.repository.MemberRepository;
 import com.romrom.member.repository.mongo.SanctionHistoryRepository;
+import com.romrom.member.service.MemberCacheService;
 import com.romrom.member.service.MemberService;
 import jakarta.servlet.http.HttpServletRequest;
 import java.util.UUID;
@@ -29,6 +30,7 @@ public class MemberApplicationService {
     private final ItemService itemService;
     private final ChatRoomService chatRoomService;
     private final JwtUtil jwtUtil;
+    private final MemberCacheService memberCacheService;
 
     /**
      * 회원 삭제 (크로스 도메인 로직)
@@ -61,8 +63,9 @@ public class MemberApplicationService {
         String accessToken = jwtUtil.extractAccessToken(httpServletRequest);
         jwtUtil.deactivateToken(accessToken, key);
 
-        // 5. 회원 삭제
+        // 5. 회원 삭제 (JPQL 일괄 업데이트라 엔티티 리스너를 거치지 않으므로 인증 캐시 직접 무효화)
         memberRepository.deleteByMemberId(memberId);
+        memberCacheService.evict(memberId);
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.romrom.application.service;
+
+import com.romrom.item.repository.postgres.ItemImageRepository;
+import com.romrom.storage.constant.ImageVariant;
+import com.romrom.storage.dto.StoredObjectInfo;
+import com.romrom.storage.properties.MinioProperties;
+import com.romrom.storage.service.MinIoFileServiceImpl;
+import com.romrom.storage.util.MinioUtil;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 고아(Orphan) 이미지 증분 정리 서비스
+ *
+ * MinIO 오브젝트를 이름순 페이지 단위로 훑으며, 페이지마다 DB(ItemImage) 참조 여부를 IN 배치 조회로 확인한다.
+ * 전체 오브젝트 목록이나 전체 이미지 URL 을 메모리에 올리지 않으므로 저장소 크기와 무관하게 메모리가 한 페이지 수준으로 일정하다.
+ * - 한 번 실행에서 최대 maxObjectsPerRun 건만 검사하고, 마지막으로 검사한 오브젝트 이름을 Redis 체크포인트로 남겨 다음 실행이 이어서 진행
+ * - 목록 끝에 도달하면 체크포인트를 지워 다음 실행은 처음부터 새 주기를 시작
+ * - 생성(수정) 후 유예 기간이 지나지 않은 파일은 업로드 직후 DB 저장 전일 수 있으므로 삭제하지 않음
+ * - 고아 원본을 지울 때 public/variants/ 아래 파생본도 함께 삭제
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrphanImageReconciler {
+
+  // prefix 별 마지막 검사 오브젝트 이름 (Hash: prefix → objectName)
+  private static final String CHECKPOINT_KEY = "storage:orphan-image:checkpoint";
+
+  private final MinioUtil minioUtil;
+  private final MinioProperties minioProperties;
+  private final MinIoFileServiceImpl minIoFileService;
+  private final ItemImageRepository itemImageRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  // 한 페이지(= DB IN 조회 1회, 일괄 삭제 1회)에 검사할 오브젝트 수
+  @Value("${storage.orphan-image.page-size:1000}")
+  private int pageSize;
+
+  // 한 번 실행에서 검사할 최대 오브젝트 수 (남은 구간은 다음 실행이 체크포인트부터 이어서 처리)
+  @Value("${storage.orphan-image.max-objects-per-run:200000}")
+  private int maxObjectsPerRun;
+
+  // 업로드 후 삭제 대상이 되기까지의 유예 기간
+  @Value("${storage.orphan-image.grace-days:7}")
+  private int graceDays;
+
+  /**
+   * prefix 아래 오브젝트를 체크포인트부터 이어서 검사하고 고아 이미지를 삭제한다.
+   */
+  public ReconcileResult reconcile(String prefix) {
+    String bucketName = minioProperties.getBucket();
+    ZonedDateTime orphanThreshold = ZonedDateTime.now().minusDays(graceDays);
+    String checkpoint = loadCheckpoint(prefix);
+    log.info("고아 이미지 증분 정리 시작: prefix={}, checkpoint={}", prefix, checkpoint);
+
+    long scannedCount = 0;
+    long orphanCount = 0;
+    long deletedCount = 0;
+    boolean cycleCompleted = false;
+
+    while (scannedCount < maxObjectsPerRun) {
+      int limit = (int) Math.min(pageSize, maxObjectsPerRun - scannedCount);
+      List<StoredObjectInfo> page = minioUtil.listObjectsPage(bucketName, prefix, checkpoint, limit);
+      if (page.isEmpty()) {
+        cycleCompleted = true;
+        break;
+      }
+
+      List<String> orphanObjectNames = findOrphanObjectNames(page, orphanThreshold);
+      orphanCount += orphanObjectNames.size();
+      if (!orphanObjectNames.isEmpty()) {
+        List<String> failedObjectNames = minioUtil.deleteFiles(bucketName, orphanObjectNames);
+        deletedCount += orphanObjectNames.size() - failedObjectNames.size();
+        // 고아 원본의 파생본(썸네일 등)도 함께 삭제 (없는 키는 무시됨)
+        minioUtil.deleteFiles(bucketName, orphanObjectNames.stream()
+            .flatMap(orphanObjectName -> ImageVariant.allObjectNamesOf(orphanObjectName).stream())
+            .toList());
+      }
+
+      // 삭제까지 끝난 뒤 체크포인트 저장 (중간 실패 시 같은 페이지를 다시 검사해도 결과가 같음)
+      checkpoint = page.get(page.size() - 1).getObjectName();
+      saveCheckpoint(prefix, checkpoint);
+      scannedCount += page.size();
+
+      if (page.size() < limit) {
+        cycleCompleted = true;
+        break;
+      }
+    }
+
+    if (cycleCompleted) {
+      clearCheckpoint(prefix);
+    }
+
+    ReconcileResult reconcileResult = ReconcileResult.builder()
+        .scannedCount(scannedCount)
+        .orphanCount(orphanCount)
+        .deletedCount(deletedCount)
+        .cycleCompleted(cycleCompleted)
+        .checkpoint(cycleCompleted ? null : checkpoint)
+        .build();
+    log.info("고아 이미지 증분 정리 완료: prefix={}, {}", prefix, reconcileResult);
+    return reconcileResult;
+  }
+
+  // 유예 기간이 지난 파일 중 DB 참조가 없는 오브젝트 이름 (페이지 단위 IN 조회 1회)
+  private List<String> findOrphanObjectNames(List<StoredObjectInfo> page, ZonedDateTime orphanThreshold) {
+    Map<String, String> objectNameByImageUrl = new LinkedHashMap<>();
+    for (StoredObjectInfo storedObject : page) {
+      // 디렉토리(prefix) 객체와 유예 기간 미만 파일은 건너뜀
+      if (storedObject.isDir() || storedObject.getLastModified().isAfter(orphanThreshold)) {
+        continue;
+      }
+      objectNameByImageUrl.put(minIoFileService.buildImageUrl(storedObject.getObjectName()), storedObject.getObjectName());
+    }
+    if (objectNameByImageUrl.isEmpty()) {
+      return List.of();
+    }
+
+    Set<String> referencedImageUrls = new HashSet<>(itemImageRepository.findExistingImageUrls(objectNameByImageUrl.keySet()));
+    List<String> orphanObjectNames = new ArrayList<>();
+    objectNameByImageUrl.forEach((imageUrl, objectName) -> {
+      if (!referencedImageUrls.contains(imageUrl)) {
+        orphanObjectNames.add(objectName);
+      }
+    });
+    return orphanObjectNames;
+  }
+
+  private String loadCheckpoint(String prefix) {
+    Object checkpoint = redisTemplate.opsForHash().get(CHECKPOINT_KEY, prefix);
+    return checkpoint != null ? checkpoint.toString() : null;
+  }
+
+  private void saveCheckpoint(String prefix, String objectName) {
+    redisTemplate.opsForHash().put(CHECKPOINT_KEY, prefix, objectName);
+  }
+
+  private void clearCheckpoint(String prefix) {
+    redisTemplate.opsForHash().delete(CHECKPOINT_KEY, prefix);
+  }
+
+  /**
+   * 증분 정리 1회 실행 결과
+   */
+  @Getter
+  @Builder
+  @ToString
+  public static class ReconcileResult {
+    private final long scannedCount;
+    private final long orphanCount;
+    private final long deletedCount;
+    // 목록 끝까지 검사해 다음 실행이 처음부터 시작하는지 여부
+    private final boolean cycleCompleted;
+    // 다음 실행 시작 위치 (주기 완료 시 null)
+    private final String checkpoint;
+  }
+}
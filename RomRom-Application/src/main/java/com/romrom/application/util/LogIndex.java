@@ -0,0 +1,422 @@
+package com.romrom.application.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 로그 파일 한 개의 라인 인덱스.
+ *
+ * <p>라인마다 레벨 1바이트, 64줄 블록마다 시작 오프셋과 블록 끝까지의 최대 타임스탬프,
+ * WARN/ERROR 라인의 번호·오프셋만 보관한다 (라인당 약 1.25바이트 + 경고 라인당 12바이트).
+ * 헤더 판별은 {@link LogLineParser} 의 로그 포맷을 정규식 없이 바이트 단위로 검사한다.
+ *
+ * <p>파일 끝에 덧붙은 완결 라인(개행으로 끝난 라인)만 이어서 색인하며, 파일이 줄어들거나 교체되면 호출부가 새 인덱스를 만든다.
+ * 타임스탬프는 로그에 찍힌 로컬 시각을 UTC 로 간주한 epoch millis 로 저장한다 ({@link #toIndexTimestamp}).
+ */
+public class LogIndex {
+
+  public static final byte LEVEL_NONE = 0;    // 헤더 없는 라인 (스택트레이스 연속 등)
+  public static final byte LEVEL_TRACE = 1;
+  public static final byte LEVEL_DEBUG = 2;
+  public static final byte LEVEL_INFO = 3;
+  public static final byte LEVEL_WARN = 4;
+  public static final byte LEVEL_ERROR = 5;
+  public static final byte LEVEL_OTHER = 6;   // 헤더지만 위 다섯 가지가 아닌 레벨
+
+  private static final int BLOCK_SHIFT = 6;
+  public static final int BLOCK_LINES = 1 << BLOCK_SHIFT;
+
+  private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+  // 헤더 판별에 보는 라인 앞부분 최대 길이 (스레드명/로거명이 이보다 길면 연속 라인으로 취급)
+  private static final int MAX_HEADER_BYTES = 1024;
+
+  private static final int FILE_MAGIC = 0x524C4958;  // "RLIX"
+  private static final int FILE_VERSION = 1;
+
+  // "yyyy-MM-dd HH:mm:ss.SSS [" 까지의 길이
+  private static final int HEADER_PREFIX_LENGTH = 25;
+
+  private long indexedLength;
+  private int lineCount;
+  private byte[] levels = new byte[4096];
+
+  private int blockCount;
+  private long[] blockOffsets = new long[64];
+  private long[] blockMaxTimestamps = new long[64];
+  private long maxTimestamp = Long.MIN_VALUE;
+
+  private int alertCount;
+  private int[] alertLineNumbers = new int[256];
+  private long[] alertLineOffsets = new long[256];
+
+  /**
+   * chunk 의 position 부터 limit 까지를 색인하고, 마지막 개행까지 소비한 바이트 수를 반환한다.
+   * chunk 의 position 은 파일 오프셋 {@link #getIndexedLength()} 에 해당해야 한다.
+   * 개행이 없는 나머지 바이트는 소비하지 않으므로 호출부가 다음 chunk 앞에 이어 붙인다.
+   */
+  public int indexChunk(ByteBuffer chunk) {
+    int chunkStart = chunk.position();
+    int chunkEnd = chunk.limit();
+    long chunkFileOffset = indexedLength;
+    int lineStart = chunkStart;
+    // 매핑 버퍼를 바이트 단위로 읽으면 느리므로 구간별로 byte[] 에 복사해 개행 탐색/헤더 파싱
+    byte[] scanBuffer = new byte[Math.min(SCAN_BUFFER_BYTES, Math.max(chunkEnd - chunkStart, 1))];
+    byte[] headerBuffer = null;
+    for (int segmentStart = chunkStart; segmentStart < chunkEnd; segmentStart += scanBuffer.length) {
+      int segmentLength = Math.min(scanBuffer.length, chunkEnd - segmentStart);
+      chunk.get(segmentStart, scanBuffer, 0, segmentLength);
+      for (int index = 0; index < segmentLength; index++) {
+        if (scanBuffer[index] != '\n') {
+          continue;
+        }
+        int lineEnd = segmentStart + index;
+        long lineOffset = chunkFileOffset + (lineStart - chunkStart);
+        if (lineStart >= segmentStart) {
+          int headerStart = lineStart - segmentStart;
+          appendLine(lineOffset, lineEnd - lineStart, scanBuffer, headerStart, Math.min(index, headerStart + MAX_HEADER_BYTES));
+        } else {
+          // 이전 구간에서 시작한 라인: 헤더 부분만 따로 복사
+          if (headerBuffer == null) {
+            headerBuffer = new byte[MAX_HEADER_BYTES];
+          }
+          int headerLength = Math.min(lineEnd - lineStart, MAX_HEADER_BYTES);
+          chunk.get(lineStart, headerBuffer, 0, headerLength);
+          appendLine(lineOffset, lineEnd - lineStart, headerBuffer, 0, headerLength);
+        }
+        lineStart = lineEnd + 1;
+      }
+    }
+    return lineStart - chunkStart;
+  }
+
+  /**
+   * 라인 하나를 인덱스에 추가. bytes[headerStart, headerEnd) 는 라인 앞부분 (헤더 판별용)
+   */
+  private void appendLine(long lineOffset, int lineLength, byte[] bytes, int headerStart, int headerEnd) {
+    if (lineCount == levels.length) {
+      levels = Arrays.copyOf(levels, levels.length * 2);
+    }
+    if ((lineCount & (BLOCK_LINES - 1)) == 0) {
+      if (blockCount == blockOffsets.length) {
+        blockOffsets = Arrays.copyOf(blockOffsets, blockCount * 2);
+        blockMaxTimestamps = Arrays.copyOf(blockMaxTimestamps, blockCount * 2);
+      }
+      blockOffsets[blockCount] = lineOffset;
+      blockMaxTimestamps[blockCount] = maxTimestamp;
+      blockCount++;
+    }
+
+    byte level = LEVEL_NONE;
+    long timestamp = parseHeaderTimestamp(bytes, headerStart, headerEnd);
+    if (timestamp != Long.MIN_VALUE) {
+      level = parseHeaderLevel(bytes, headerStart, headerEnd);
+      if (level != LEVEL_NONE && timestamp > maxTimestamp) {
+        maxTimestamp = timestamp;
+        blockMaxTimestamps[blockCount - 1] = timestamp;
+      }
+    }
+    levels[lineCount] = level;
+    if (level == LEVEL_WARN || level == LEVEL_ERROR) {
+      if (alertCount == alertLineNumbers.length) {
+        alertLineNumbers = Arrays.copyOf(alertLineNumbers, alertCount * 2);
+        alertLineOffsets = Arrays.copyOf(alertLineOffsets, alertCount * 2);
+      }
+      alertLineNumbers[alertCount] = lineCount;
+      alertLineOffsets[alertCount] = lineOffset;
+      alertCount++;
+    }
+    lineCount++;
+    indexedLength = lineOffset + lineLength + 1;
+  }
+
+  public long getIndexedLength() {
+    return indexedLength;
+  }
+
+  public int getLineCount() {
+    return lineCount;
+  }
+
+  public byte levelAt(int lineNumber) {
+    return levels[lineNumber];
+  }
+
+  /**
+   * lineNumber 가 속한 블록의 첫 라인 번호
+   */
+  public int blockStartLine(int lineNumber) {
+    return (lineNumber >> BLOCK_SHIFT) << BLOCK_SHIFT;
+  }
+
+  /**
+   * lineNumber 가 속한 블록의 첫 라인 오프셋 (블록 안의 정확한 위치는 호출부가 개행을 세어 찾음)
+   */
+  public long blockStartOffset(int lineNumber) {
+    return blockOffsets[lineNumber >> BLOCK_SHIFT];
+  }
+
+  /**
+   * 타임스탬프가 timestamp 이상인 라인이 처음 나올 수 있는 블록의 첫 라인 번호.
+   * 이 블록 이전 라인은 모두 timestamp 미만이다. 해당 라인이 없으면 lineCount.
+   */
+  public int firstLineNotBefore(long timestamp) {
+    int low = 0;
+    int high = blockCount;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (blockMaxTimestamps[middle] >= timestamp) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low == blockCount ? lineCount : low << BLOCK_SHIFT;
+  }
+
+  public int getAlertCount() {
+    return alertCount;
+  }
+
+  public int alertLineNumber(int alertIndex) {
+    return alertLineNumbers[alertIndex];
+  }
+
+  public long alertLineOffset(int alertIndex) {
+    return alertLineOffsets[alertIndex];
+  }
+
+  /**
+   * 라인 번호가 lineNumber 이상인 첫 WARN/ERROR 항목 순번 (없으면 alertCount)
+   */
+  public int firstAlertFromLine(int lineNumber) {
+    int low = 0;
+    int high = alertCount;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (alertLineNumbers[middle] >= lineNumber) {
+        high = middle;
+      } else {
+        low = middle + 1;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * 인덱스가 차지하는 대략적인 힙 크기 (배열 용량 기준)
+   */
+  public long estimatedBytes() {
+    return levels.length + (long) blockOffsets.length * 16 + (long) alertLineNumbers.length * 12;
+  }
+
+  /**
+   * 레벨 필터 문자열의 레벨 코드 (알 수 없는 단어는 LEVEL_OTHER)
+   */
+  public static byte levelCodeOf(String logLevel) {
+    return switch (logLevel.toUpperCase()) {
+      case "TRACE" -> LEVEL_TRACE;
+      case "DEBUG" -> LEVEL_DEBUG;
+      case "INFO" -> LEVEL_INFO;
+      case "WARN" -> LEVEL_WARN;
+      case "ERROR" -> LEVEL_ERROR;
+      default -> LEVEL_OTHER;
+    };
+  }
+
+  public static long toIndexTimestamp(LocalDateTime loggedAt) {
+    return loggedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+  }
+
+  /**
+   * 원본 파일 크기/수정 시각과 함께 인덱스를 파일로 저장 (임시 파일에 쓴 뒤 교체)
+   */
+  public void writeTo(Path indexPath, long sourceLength, long sourceLastModified) throws IOException {
+    Path tempPath = Files.createTempFile(indexPath.toAbsolutePath().getParent(), indexPath.getFileName().toString(), ".tmp");
+    try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempPath)))) {
+      output.writeInt(FILE_MAGIC);
+      output.writeInt(FILE_VERSION);
+      output.writeLong(sourceLength);
+      output.writeLong(sourceLastModified);
+      output.writeLong(indexedLength);
+      output.writeLong(maxTimestamp);
+      output.writeInt(lineCount);
+      output.write(levels, 0, lineCount);
+      output.writeInt(blockCount);
+      for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+        output.writeLong(blockOffsets[blockIndex]);
+        output.writeLong(blockMaxTimestamps[blockIndex]);
+      }
+      output.writeInt(alertCount);
+      for (int alertIndex = 0; alertIndex < alertCount; alertIndex++) {
+        output.writeInt(alertLineNumbers[alertIndex]);
+        output.writeLong(alertLineOffsets[alertIndex]);
+      }
+    } catch (IOException e) {
+      Files.deleteIfExists(tempPath);
+      throw e;
+    }
+    Files.move(tempPath, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * 저장된 인덱스를 읽는다. 원본 크기/수정 시각이 다르거나 형식이 맞지 않으면 null.
+   */
+  public static LogIndex readFrom(Path indexPath, long sourceLength, long sourceLastModified) throws IOException {
+    if (!Files.isRegularFile(indexPath)) {
+      return null;
+    }
+    try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+      if (input.readInt() != FILE_MAGIC || input.readInt() != FILE_VERSION
+          || input.readLong() != sourceLength || input.readLong() != sourceLastModified) {
+        return null;
+      }
+      LogIndex logIndex = new LogIndex();
+      logIndex.indexedLength = input.readLong();
+      logIndex.maxTimestamp = input.readLong();
+      logIndex.lineCount = input.readInt();
+      logIndex.levels = new byte[Math.max(logIndex.lineCount, 1)];
+      input.readFully(logIndex.levels, 0, logIndex.lineCount);
+      logIndex.blockCount = input.readInt();
+      logIndex.blockOffsets = new long[Math.max(logIndex.blockCount, 1)];
+      logIndex.blockMaxTimestamps = new long[Math.max(logIndex.blockCount, 1)];
+      for (int blockIndex = 0; blockIndex < logIndex.blockCount; blockIndex++) {
+        logIndex.blockOffsets[blockIndex] = input.readLong();
+        logIndex.blockMaxTimestamps[blockIndex] = input.readLong();
+      }
+      logIndex.alertCount = input.readInt();
+      logIndex.alertLineNumbers = new int[Math.max(logIndex.alertCount, 1)];
+      logIndex.alertLineOffsets = new long[Math.max(logIndex.alertCount, 1)];
+      for (int alertIndex = 0; alertIndex < logIndex.alertCount; alertIndex++) {
+        logIndex.alertLineNumbers[alertIndex] = input.readInt();
+        logIndex.alertLineOffsets[alertIndex] = input.readLong();
+      }
+      return logIndex;
+    }
+  }
+
+  /**
+   * "yyyy-MM-dd HH:mm:ss.SSS [" 로 시작하면 타임스탬프, 아니면 Long.MIN_VALUE
+   */
+  private static long parseHeaderTimestamp(byte[] bytes, int lineStart, int lineEnd) {
+    if (lineEnd - lineStart < HEADER_PREFIX_LENGTH
+        || bytes[lineStart + 4] != '-' || bytes[lineStart + 7] != '-'
+        || bytes[lineStart + 10] != ' ' || bytes[lineStart + 13] != ':'
+        || bytes[lineStart + 16] != ':' || bytes[lineStart + 19] != '.'
+        || bytes[lineStart + 23] != ' ' || bytes[lineStart + 24] != '[') {
+      return Long.MIN_VALUE;
+    }
+    int year = digits(bytes, lineStart, 4);
+    int month = digits(bytes, lineStart + 5, 2);
+    int day = digits(bytes, lineStart + 8, 2);
+    int hour = digits(bytes, lineStart + 11, 2);
+    int minute = digits(bytes, lineStart + 14, 2);
+    int second = digits(bytes, lineStart + 17, 2);
+    int millisecond = digits(bytes, lineStart + 20, 3);
+    if ((year | month | day | hour | minute | second | millisecond) < 0) {
+      return Long.MIN_VALUE;
+    }
+    long epochDay = daysFromCivil(year, month, day);
+    return ((epochDay * 24 + hour) * 60 + minute) * 60_000L + second * 1000L + millisecond;
+  }
+
+  /**
+   * "[thread] LEVEL logger - " 구간의 레벨 코드 (형식이 맞지 않으면 LEVEL_NONE)
+   */
+  private static byte parseHeaderLevel(byte[] bytes, int lineStart, int lineEnd) {
+    int position = lineStart + HEADER_PREFIX_LENGTH;
+    while (position + 1 < lineEnd && !(bytes[position] == ']' && bytes[position + 1] == ' ')) {
+      position++;
+    }
+    position += 2;
+    int levelStart = position;
+    while (position < lineEnd && isWordByte(bytes[position])) {
+      position++;
+    }
+    int levelEnd = position;
+    if (levelEnd == levelStart || position >= lineEnd || !isWhitespace(bytes[position])) {
+      return LEVEL_NONE;
+    }
+    while (position < lineEnd && isWhitespace(bytes[position])) {
+      position++;
+    }
+    int loggerStart = position;
+    while (position < lineEnd && !isWhitespace(bytes[position])) {
+      position++;
+    }
+    if (position == loggerStart || position + 2 >= lineEnd
+        || bytes[position + 1] != '-' || bytes[position + 2] != ' ') {
+      return LEVEL_NONE;
+    }
+    return levelCodeOf(bytes, levelStart, levelEnd);
+  }
+
+  private static byte levelCodeOf(byte[] bytes, int levelStart, int levelEnd) {
+    int levelLength = levelEnd - levelStart;
+    byte first = bytes[levelStart];
+    if (levelLength == 4 && first == 'I' && matches(bytes, levelStart, "INFO")) {
+      return LEVEL_INFO;
+    }
+    if (levelLength == 4 && first == 'W' && matches(bytes, levelStart, "WARN")) {
+      return LEVEL_WARN;
+    }
+    if (levelLength == 5 && first == 'E' && matches(bytes, levelStart, "ERROR")) {
+      return LEVEL_ERROR;
+    }
+    if (levelLength == 5 && first == 'D' && matches(bytes, levelStart, "DEBUG")) {
+      return LEVEL_DEBUG;
+    }
+    if (levelLength == 5 && first == 'T' && matches(bytes, levelStart, "TRACE")) {
+      return LEVEL_TRACE;
+    }
+    return LEVEL_OTHER;
+  }
+
+  private static boolean matches(byte[] bytes, int start, String expected) {
+    for (int index = 0; index < expected.length(); index++) {
+      if (bytes[start + index] != expected.charAt(index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int digits(byte[] bytes, int start, int length) {
+    int value = 0;
+    for (int index = start; index < start + length; index++) {
+      int digit = bytes[index] - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  // proleptic Gregorian 날짜의 epoch day (LocalDate.toEpochDay 와 동일, 라인마다 객체 생성 없이 계산)
+  private static long daysFromCivil(int year, int month, int day) {
+    int shiftedYear = month <= 2 ? year - 1 : year;
+    int era = Math.floorDiv(shiftedYear, 400);
+    int yearOfEra = shiftedYear - era * 400;
+    int dayOfYear = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097L + dayOfEra - 719468;
+  }
+
+  private static boolean isWordByte(byte value) {
+    return (value >= 'A' && value <= 'Z') || (value >= 'a' && value <= 'z') || (value >= '0' && value <= '9') || value == '_';
+  }
+
+  private static boolean isWhitespace(byte value) {
+    return value == ' ' || value == '\t';
+  }
+}
@@ -0,0 +1,149 @@
+package com.romrom.application.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로그 파일을 최대 64MB 창(window) 단위로 메모리 매핑해 라인을 읽는다.
+ * 읽기 범위는 열 때 지정한 limit(인덱스가 덮는 길이)까지로 제한해, 쓰는 중인 마지막 라인은 보지 않는다.
+ * 창은 요청 위치를 시작으로 다시 매핑하므로 파일 크기와 무관하게 매핑 크기는 고정이다.
+ */
+public class MappedLogReader implements Closeable {
+
+  private static final long WINDOW_BYTES = 64L * 1024 * 1024;
+
+  private final FileChannel fileChannel;
+  private final long limit;
+  private MappedByteBuffer window;
+  private long windowStart;
+  private long windowEnd;
+
+  private MappedLogReader(FileChannel fileChannel, long limit) {
+    this.fileChannel = fileChannel;
+    this.limit = limit;
+  }
+
+  public static MappedLogReader open(Path logPath, long limit) throws IOException {
+    FileChannel fileChannel = FileChannel.open(logPath, StandardOpenOption.READ);
+    return new MappedLogReader(fileChannel, Math.min(limit, fileChannel.size()));
+  }
+
+  public long getLimit() {
+    return limit;
+  }
+
+  /**
+   * 인덱스가 아직 덮지 않은 부분을 창 단위로 색인 (완결 라인까지만)
+   *
+   * @return 이번 호출로 인덱스에 추가된 바이트 수
+   */
+  public static long indexAppended(Path logPath, LogIndex logIndex) throws IOException {
+    long startLength = logIndex.getIndexedLength();
+    try (FileChannel fileChannel = FileChannel.open(logPath, StandardOpenOption.READ)) {
+      long fileSize = fileChannel.size();
+      while (logIndex.getIndexedLength() < fileSize) {
+        long chunkStart = logIndex.getIndexedLength();
+        long chunkLength = Math.min(WINDOW_BYTES, fileSize - chunkStart);
+        MappedByteBuffer chunk = fileChannel.map(FileChannel.MapMode.READ_ONLY, chunkStart, chunkLength);
+        if (logIndex.indexChunk(chunk) == 0) {
+          // 남은 바이트에 개행이 없음: 아직 쓰는 중인 라인 (창보다 긴 한 줄도 여기서 멈춤)
+          break;
+        }
+      }
+    }
+    return logIndex.getIndexedLength() - startLength;
+  }
+
+  /**
+   * lineStart 에서 시작하는 라인 다음 라인의 시작 오프셋 (limit 이면 끝)
+   */
+  public long nextLineStart(long lineStart) {
+    long position = lineStart;
+    while (position < limit) {
+      ensureWindow(position);
+      int from = (int) (position - windowStart);
+      int to = (int) (windowEnd - windowStart);
+      for (int index = from; index < to; index++) {
+        if (window.get(index) == '\n') {
+          return windowStart + index + 1;
+        }
+      }
+      position = windowEnd;
+    }
+    return limit;
+  }
+
+  /**
+   * [lineStart, lineEnd) 구간을 UTF-8 문자열로 반환 (끝의 개행과 \r 제외)
+   */
+  public String readLine(long lineStart, long lineEnd) throws IOException {
+    long contentEnd = lineEnd;
+    while (contentEnd > lineStart && isLineTerminator(byteAt(contentEnd - 1))) {
+      contentEnd--;
+    }
+    byte[] lineBytes = new byte[(int) (contentEnd - lineStart)];
+    ByteBuffer target = ByteBuffer.wrap(lineBytes);
+    long position = lineStart;
+    while (target.hasRemaining()) {
+      int read = fileChannel.read(target, position);
+      if (read < 0) {
+        break;
+      }
+      position += read;
+    }
+    return new String(lineBytes, 0, target.position(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 라인 하나를 읽고 다음 라인 시작 오프셋을 돌려주는 편의 메서드
+   */
+  public String readLine(long lineStart) throws IOException {
+    return readLine(lineStart, nextLineStart(lineStart));
+  }
+
+  /**
+   * offset 에서 시작해 count 줄을 건너뛴 위치
+   */
+  public long skipLines(long offset, int count) {
+    long position = offset;
+    for (int skipped = 0; skipped < count && position < limit; skipped++) {
+      position = nextLineStart(position);
+    }
+    return position;
+  }
+
+  private byte byteAt(long position) {
+    ensureWindow(position);
+    return window.get((int) (position - windowStart));
+  }
+
+  private void ensureWindow(long position) {
+    if (window != null && position >= windowStart && position < windowEnd) {
+      return;
+    }
+    try {
+      long length = Math.min(WINDOW_BYTES, limit - position);
+      window = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+      windowStart = position;
+      windowEnd = position + length;
+    } catch (IOException e) {
+      throw new IllegalStateException("로그 파일 매핑 실패: " + e.getMessage(), e);
+    }
+  }
+
+  private static boolean isLineTerminator(byte value) {
+    return value == '\n' || value == '\r';
+  }
+
+  @Override
+  public void close() throws IOException {
+    window = null;
+    fileChannel.close();
+  }
+}
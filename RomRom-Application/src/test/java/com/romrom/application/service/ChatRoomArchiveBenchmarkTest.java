@@ -0,0 +1,143 @@
+package com.romrom.application.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.romrom.application.dto.ChatRoomArchiveDto;
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.postgres.ChatRoom;
+import com.romrom.common.util.ChildJvmRunner;
+import com.romrom.common.util.ChildJvmRunner.ChildResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@EnabledIf("chatArchiveBenchmarkEnabled")
+class ChatRoomArchiveBenchmarkTest {
+
+  /*
+   * 대형 채팅방 아카이브의 최대 힙 사용량 비교: 스트리밍(archiveToFile) vs 기존 방식(전체 목록 + writeValueAsBytes)
+   * 두 방식을 같은 작은 힙(-Xmx)의 별도 JVM 에서 실행한다. 기존 방식의 결과(OOM 여부 포함)는 비교용으로 출력만 한다.
+   */
+  private static final int LARGE_ROOM_MESSAGE_COUNT = Integer.getInteger("romrom.chat-archive.benchmark.messages", 1_000_000);
+  private static final String CHILD_HEAP_LIMIT = System.getProperty("romrom.chat-archive.benchmark.heap", "64m");
+  private static final long CHILD_TIMEOUT_SECONDS = 300;
+
+  private static boolean chatArchiveBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.chat-archive.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_CHAT_ARCHIVE_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void measureLargeRoomArchiveHeapUsage() throws Exception {
+    ChildResult streaming = runChild("streaming");
+    ChildResult legacy = runChild("legacy");
+
+    assertThat(streaming.exitCode()).as("스트리밍 아카이브는 작은 힙에서 성공해야 함: " + streaming.output()).isZero();
+    assertThat(streaming.output()).contains("messages=" + LARGE_ROOM_MESSAGE_COUNT);
+    lineLog(String.format("[ChatRoomArchiveBenchmarkTest] 채팅방 %,d건 아카이브 (-Xmx%s)", LARGE_ROOM_MESSAGE_COUNT, CHILD_HEAP_LIMIT));
+    lineLog(String.format("- 스트리밍: %s", streaming.output()));
+    lineLog(String.format("- 기존 방식: exit=%d%s, %s",
+        legacy.exitCode(), legacy.outOfMemory() ? " (OutOfMemoryError)" : "", legacy.output()));
+  }
+
+  private ChildResult runChild(String mode) throws Exception {
+    Path backupDir = Files.createTempDirectory("chat-archive-large");
+    try {
+      return ChildJvmRunner.run(LargeRoomArchiveRunner.class, CHILD_HEAP_LIMIT, CHILD_TIMEOUT_SECONDS,
+          mode, Integer.toString(LARGE_ROOM_MESSAGE_COUNT), backupDir.toString());
+    } finally {
+      ChatRoomArchiveStreamingTest.deleteDirectory(backupDir);
+    }
+  }
+
+  /**
+   * 작은 힙으로 띄운 별도 JVM 에서 합성 채팅방을 아카이브한다.
+   * streaming: ChatRoomArchiveService.archiveToFile 후 결과 파일을 스트리밍으로 다시 읽어 메시지 수/순서를 검증
+   * legacy: 변경 전 방식 (전체 메시지 목록 → DTO → writeValueAsBytes → gzip)
+   */
+  public static class LargeRoomArchiveRunner {
+
+    public static void main(String[] args) throws Exception {
+      String mode = args[0];
+      int messageCount = Integer.parseInt(args[1]);
+      Path backupDir = Paths.get(args[2]);
+      ObjectMapper objectMapper = ChatRoomArchiveStreamingTest.newObjectMapper();
+      ChatRoom room = ChatRoomArchiveStreamingTest.newRoom();
+
+      try {
+        if ("legacy".equals(mode)) {
+          archiveLegacy(objectMapper, room, messageCount, backupDir);
+        } else {
+          archiveStreaming(objectMapper, room, messageCount, backupDir);
+        }
+      } catch (OutOfMemoryError outOfMemoryError) {
+        ChildJvmRunner.exitOutOfMemory("");
+      }
+      System.exit(0);
+    }
+
+    private static void archiveStreaming(ObjectMapper objectMapper, ChatRoom room, int messageCount, Path backupDir)
+        throws IOException {
+      ChatRoomArchiveService archiveService = ChatRoomArchiveStreamingTest.newService(objectMapper,
+          () -> ChatRoomArchiveStreamingTest.syntheticMessages(room.getChatRoomId(), messageCount));
+      ReflectionTestUtils.setField(archiveService, "backupDir", backupDir.toString());
+
+      long startNanos = System.nanoTime();
+      Path archiveFile = archiveService.archiveToFile(room);
+      long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+      ChatRoomArchiveStreamingTest.ArchivedMessageIds archivedMessageIds =
+          ChatRoomArchiveStreamingTest.readArchivedMessageIds(objectMapper, archiveFile);
+      if (archivedMessageIds.count() != messageCount
+          || !"msg-0".equals(archivedMessageIds.firstId())
+          || !("msg-" + (messageCount - 1)).equals(archivedMessageIds.lastId())) {
+        System.out.println("RESULT mismatch " + archivedMessageIds);
+        System.exit(2);
+      }
+      System.out.printf("RESULT messages=%d compressedBytes=%d elapsedMs=%d peakHeapMb=%d%n",
+          archivedMessageIds.count(), Files.size(archiveFile), elapsedMs, ChildJvmRunner.peakHeapUsedMb());
+    }
+
+    private static void archiveLegacy(ObjectMapper objectMapper, ChatRoom room, int messageCount, Path backupDir)
+        throws IOException {
+      List<ChatMessage> chatMessages = ChatRoomArchiveStreamingTest.syntheticMessages(room.getChatRoomId(), messageCount)
+          .collect(Collectors.toList());
+      List<ChatRoomArchiveDto.MessageEntry> messageEntries = chatMessages.stream()
+          .map(chatMessage -> ChatRoomArchiveDto.MessageEntry.builder()
+              .chatMessageId(chatMessage.getChatMessageId())
+              .senderId(chatMessage.getSenderId())
+              .recipientId(chatMessage.getRecipientId())
+              .content(chatMessage.getContent())
+              .imageUrls(chatMessage.getImageUrls())
+              .type(chatMessage.getType().name())
+              .createdDate(chatMessage.getCreatedDate())
+              .build())
+          .collect(Collectors.toList());
+      byte[] archiveJsonBytes = objectMapper.writeValueAsBytes(ChatRoomArchiveDto.builder()
+          .chatRoomId(room.getChatRoomId())
+          .tradeReceiverId(room.getTradeReceiver().getMemberId())
+          .tradeSenderId(room.getTradeSender().getMemberId())
+          .deletedAt(room.getDeletedAt())
+          .archivedAt(LocalDateTime.now())
+          .messages(messageEntries)
+          .build());
+      Path archiveFile = backupDir.resolve("legacy.json.gz");
+      try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(Files.newOutputStream(archiveFile))) {
+        gzipOutputStream.write(archiveJsonBytes);
+      }
+      System.out.printf("RESULT messages=%d compressedBytes=%d peakHeapMb=%d%n",
+          messageEntries.size(), Files.size(archiveFile), ChildJvmRunner.peakHeapUsedMb());
+    }
+  }
+}
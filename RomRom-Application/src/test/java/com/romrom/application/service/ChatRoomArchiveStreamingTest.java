@@ -0,0 +1,261 @@
+package com.romrom.application.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.romrom.application.dto.ChatRoomArchiveDto;
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.MessageType;
+import com.romrom.chat.entity.postgres.ChatRoom;
+import com.romrom.chat.repository.mongo.ChatMessageRepository;
+import com.romrom.common.entity.mongo.BaseMongoEntity;
+import com.romrom.member.entity.Member;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * ChatRoomArchiveService 스트리밍 아카이브 테스트 (DB 미접근).
+ * Mongo 커서는 합성 메시지를 한 건씩 만들어 내는 스트림으로 대체한다.
+ * 100만 건 채팅방을 작은 힙에서 아카이브하는 측정은 ChatRoomArchiveBenchmarkTest (romrom.chat-archive.benchmark.enabled) 에서 한다.
+ */
+@Slf4j
+class ChatRoomArchiveStreamingTest {
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::스트리밍_아카이브_기존_DTO_직렬화와_동일_형식_테스트);
+    lineLog(null);
+    timeLog(this::아카이브_실패시_부분_파일_미생성_테스트);
+    lineLog(null);
+    timeLog(this::파일_아카이브_스트리밍_복원_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  // 스트리밍 결과가 기존 방식(DTO → writeValueAsBytes)과 같은 JSON 으로 복원되는지 확인
+  public void 스트리밍_아카이브_기존_DTO_직렬화와_동일_형식_테스트() throws Exception {
+    ObjectMapper objectMapper = newObjectMapper();
+    ChatRoom room = newRoom();
+    List<ChatMessage> chatMessages = syntheticMessages(room.getChatRoomId(), 1_200).collect(Collectors.toList());
+    ChatRoomArchiveService archiveService = newService(objectMapper, () -> chatMessages.stream());
+
+    byte[] gzipBytes = archiveService.archiveToGzipBytes(room);
+    ChatRoomArchiveDto restored;
+    try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBytes))) {
+      restored = objectMapper.readValue(inputStream, ChatRoomArchiveDto.class);
+    }
+
+    assertEquals(room.getChatRoomId(), restored.getChatRoomId());
+    assertEquals(room.getTradeReceiver().getMemberId(), restored.getTradeReceiverId());
+    assertEquals(room.getTradeSender().getMemberId(), restored.getTradeSenderId());
+    assertEquals(room.getDeletedAt(), restored.getDeletedAt());
+    assertEquals(chatMessages.size(), restored.getMessages().size());
+    for (int i = 0; i < chatMessages.size(); i++) {
+      ChatMessage expected = chatMessages.get(i);
+      ChatRoomArchiveDto.MessageEntry actual = restored.getMessages().get(i);
+      assertEquals(expected.getChatMessageId(), actual.getChatMessageId());
+      assertEquals(expected.getContent(), actual.getContent());
+      assertEquals(expected.getType().name(), actual.getType());
+      assertEquals(expected.getImageUrls(), actual.getImageUrls());
+      assertEquals(expected.getCreatedDate(), actual.getCreatedDate());
+    }
+
+    // 필드 순서까지 기존 DTO 직렬화와 같아야 기존 백업과 같은 형식이 된다
+    String streamedJson = new String(gunzip(gzipBytes), StandardCharsets.UTF_8);
+    String legacyJson = objectMapper.writeValueAsString(restored);
+    assertEquals(legacyJson, streamedJson, "스트리밍 JSON 은 기존 DTO 직렬화 결과와 동일해야 함");
+
+    lineLog("메시지 " + chatMessages.size() + "건 형식 동일, gzip " + gzipBytes.length + " bytes");
+  }
+
+  // 커서 도중 실패하면 .part 파일을 지우고 예외를 전달 (스케줄러가 물리삭제를 건너뛰게 함)
+  public void 아카이브_실패시_부분_파일_미생성_테스트() throws Exception {
+    Path backupDir = Files.createTempDirectory("chat-archive-test");
+    ChatRoom room = newRoom();
+    ChatRoomArchiveService archiveService = newService(newObjectMapper(), () -> syntheticMessages(room.getChatRoomId(), 5_000)
+        .peek(chatMessage -> {
+          if (chatMessage.getChatMessageId().endsWith("-4000")) {
+            throw new IllegalStateException("커서 중단 시뮬레이션");
+          }
+        }));
+    ReflectionTestUtils.setField(archiveService, "backupDir", backupDir.toString());
+
+    boolean failed = false;
+    try {
+      archiveService.archiveToFile(room);
+    } catch (IllegalStateException expected) {
+      failed = true;
+    }
+
+    try (Stream<Path> remainingFiles = Files.list(backupDir)) {
+      List<Path> files = remainingFiles.toList();
+      assertTrue(failed, "커서 실패는 호출자에게 전달되어야 함");
+      assertTrue(files.isEmpty(), "실패한 아카이브 파일이 남으면 안 됨: " + files);
+    } finally {
+      Files.deleteIfExists(backupDir);
+    }
+    lineLog("커서 실패 시 부분 파일 정리 확인");
+  }
+
+  // 파일 아카이브 결과를 스트리밍으로 다시 읽어 메시지 수/순서와 .part 정리를 확인
+  public void 파일_아카이브_스트리밍_복원_테스트() throws Exception {
+    Path backupDir = Files.createTempDirectory("chat-archive-file-test");
+    ObjectMapper objectMapper = newObjectMapper();
+    ChatRoom room = newRoom();
+    int messageCount = 5_000;
+    ChatRoomArchiveService archiveService = newService(objectMapper, () -> syntheticMessages(room.getChatRoomId(), messageCount));
+    ReflectionTestUtils.setField(archiveService, "backupDir", backupDir.toString());
+
+    try {
+      Path archiveFile = archiveService.archiveToFile(room);
+      ArchivedMessageIds archivedMessageIds = readArchivedMessageIds(objectMapper, archiveFile);
+      assertEquals(messageCount, archivedMessageIds.count());
+      assertEquals("msg-0", archivedMessageIds.firstId());
+      assertEquals("msg-" + (messageCount - 1), archivedMessageIds.lastId());
+      try (Stream<Path> files = Files.list(backupDir)) {
+        assertEquals(List.of(archiveFile), files.toList(), "완료된 아카이브 파일만 남아야 함");
+      }
+      lineLog("메시지 " + archivedMessageIds.count() + "건 파일 복원 확인, gzip " + Files.size(archiveFile) + " bytes");
+    } finally {
+      deleteDirectory(backupDir);
+    }
+  }
+
+  // --- 공통 헬퍼 ---
+
+  static ObjectMapper newObjectMapper() {
+    // JacksonConfig 의 Primary ObjectMapper 와 동일 설정
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JavaTimeModule());
+    objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    return objectMapper;
+  }
+
+  static ChatRoomArchiveService newService(ObjectMapper objectMapper, MessageStreamSupplier messageStreamSupplier) {
+    ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+    when(chatMessageRepository.streamByChatRoomIdOrderByCreatedDateAsc(any(UUID.class), anyInt()))
+        .thenAnswer(invocation -> messageStreamSupplier.get());
+    return new ChatRoomArchiveService(chatMessageRepository, objectMapper, new SimpleMeterRegistry());
+  }
+
+  static ChatRoom newRoom() {
+    return ChatRoom.builder()
+        .chatRoomId(UUID.randomUUID())
+        .tradeReceiver(Member.builder().memberId(UUID.randomUUID()).build())
+        .tradeSender(Member.builder().memberId(UUID.randomUUID()).build())
+        .deletedAt(LocalDateTime.of(2026, 9, 1, 4, 0))
+        .build();
+  }
+
+  // Mongo 커서처럼 메시지를 한 건씩 만들어 흘려보내는 합성 스트림 (오래된순)
+  static Stream<ChatMessage> syntheticMessages(UUID chatRoomId, int messageCount) {
+    UUID senderId = UUID.randomUUID();
+    UUID recipientId = UUID.randomUUID();
+    LocalDateTime firstCreatedDate = LocalDateTime.of(2026, 1, 1, 0, 0);
+    Field createdDateField = createdDateField();
+    return Stream.iterate(0, index -> index < messageCount, index -> index + 1)
+        .map(index -> {
+          boolean imageMessage = index % 20 == 0;
+          ChatMessage chatMessage = ChatMessage.builder()
+              .chatMessageId("msg-" + index)
+              .chatRoomId(chatRoomId)
+              .senderId(index % 2 == 0 ? senderId : recipientId)
+              .recipientId(index % 2 == 0 ? recipientId : senderId)
+              .content(imageMessage ? "사진을 보냈습니다." : "합성 메시지 " + index + " 안녕하세요, 거래 가능할까요?")
+              .imageUrls(imageMessage ? List.of("https://example.com/chat/" + index + ".jpg") : new ArrayList<>())
+              .type(imageMessage ? MessageType.IMAGE : MessageType.TEXT)
+              .build();
+          try {
+            createdDateField.set(chatMessage, firstCreatedDate.plusSeconds(index));
+          } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+          }
+          return chatMessage;
+        });
+  }
+
+  private static Field createdDateField() {
+    try {
+      Field createdDateField = BaseMongoEntity.class.getDeclaredField("createdDate");
+      createdDateField.setAccessible(true);
+      return createdDateField;
+    } catch (NoSuchFieldException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static byte[] gunzip(byte[] gzipBytes) throws IOException {
+    try (InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipBytes))) {
+      return inputStream.readAllBytes();
+    }
+  }
+
+  // 결과 파일도 스트리밍으로 읽어 검증 (검증 단계가 힙을 점유하지 않게 함)
+  static ArchivedMessageIds readArchivedMessageIds(ObjectMapper objectMapper, Path archiveFile) throws IOException {
+    long count = 0;
+    String firstId = null;
+    String lastId = null;
+    try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(archiveFile));
+        JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+      while (parser.nextToken() != null) {
+        if (parser.currentToken() == JsonToken.FIELD_NAME && "chatMessageId".equals(parser.currentName())) {
+          parser.nextToken();
+          lastId = parser.getText();
+          if (firstId == null) {
+            firstId = lastId;
+          }
+          count++;
+        }
+      }
+    }
+    return new ArchivedMessageIds(count, firstId, lastId);
+  }
+
+  static void deleteDirectory(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      for (Path file : files.toList()) {
+        Files.deleteIfExists(file);
+      }
+    }
+    Files.deleteIfExists(directory);
+  }
+
+  @FunctionalInterface
+  interface MessageStreamSupplier {
+    Stream<ChatMessage> get();
+  }
+
+  record ArchivedMessageIds(long count, String firstId, String lastId) {
+  }
+}
@@ -0,0 +1,328 @@
+package com.romrom.application.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.application.dto.AdminResponse.AdminLogErrorSummary;
+import com.romrom.application.dto.LogLineParsed;
+import com.romrom.application.util.LogIndex;
+import com.romrom.application.util.LogLineParser;
+import com.romrom.application.util.MappedLogReader;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.junit.jupiter.api.io.TempDir;
+
+@EnabledIf("logIndexBenchmarkEnabled")
+class LogFileIndexBenchmarkTest {
+
+  /*
+   * 관리자 로그 조회(/api/admin/logs/*)의 인덱스 방식과 기존 방식(끝 4MB tail / 전체 재스캔) 비교
+   * 최근 24시간에 걸친 합성 로그를 수 GB 생성해 측정하며, 시스템 프로퍼티/환경변수로만 활성화한다.
+   * 기존 방식의 에러 집계는 마지막 2000줄만 보므로, 같은 답을 내려면 필요한 전체 재스캔 비용을 기준선으로 함께 측정한다.
+   */
+  private static final long LOG_BYTES = Long.getLong("romrom.log-index.benchmark.bytes", 2L * 1024 * 1024 * 1024);
+  private static final long GZ_PLAIN_BYTES = Long.getLong("romrom.log-index.benchmark.gz-bytes", 256L * 1024 * 1024);
+  private static final long APPEND_BYTES = 64L * 1024 * 1024;
+  private static final int MEASURE_REPETITIONS = Integer.getInteger("romrom.log-index.benchmark.repetitions", 5);
+  private static final int QUERY_LINE_COUNT = 2000;
+  private static final int AGGREGATE_MINUTES = 60;
+  private static final long LOG_SPAN_SECONDS = Duration.ofHours(24).toSeconds();
+  private static final DateTimeFormatter STAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+  private static boolean logIndexBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.log-index.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_LOG_INDEX_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareIndexedQueriesWithFullRescan(@TempDir Path logDirectory) throws IOException {
+    Path logPath = logDirectory.resolve("romrom.log");
+    LogLineParser logLineParser = new LogLineParser();
+    LocalDateTime logEnd = LocalDateTime.now();
+    long generatedLines = writeSyntheticLog(logPath, LOG_BYTES, logEnd.minusSeconds(LOG_SPAN_SECONDS), logEnd);
+    long logBytes = Files.size(logPath);
+
+    // 1. 인덱스 최초 생성 (서비스 첫 조회와 같은 경로) + 인덱스 메모리
+    long buildStart = System.nanoTime();
+    LogIndex standaloneIndex = new LogIndex();
+    MappedLogReader.indexAppended(logPath, standaloneIndex);
+    double buildMs = elapsedMs(buildStart);
+    assertThat((long) standaloneIndex.getLineCount()).isEqualTo(generatedLines);
+
+    LogFileService logFileService = new LogFileService(logPath.toString(), logLineParser);
+    long firstQueryStart = System.nanoTime();
+    logFileService.readRecentLines(QUERY_LINE_COUNT, null, null);
+    double firstQueryMs = elapsedMs(firstQueryStart);
+
+    // 2. 인덱스 조회
+    double indexedTailMs = averageMs(() -> logFileService.readRecentLines(QUERY_LINE_COUNT, null, null));
+    double indexedErrorFilterMs = averageMs(() -> logFileService.readRecentLines(QUERY_LINE_COUNT, "ERROR", null));
+    double indexedAggregateMs = averageMs(() -> logFileService.aggregateErrors(AGGREGATE_MINUTES, "count"));
+    double indexedExtractMs = averageMs(() -> logFileService.extractByTimeRange(Duration.ofMinutes(5)));
+    List<String> indexedErrorLines = logFileService.readRecentLines(QUERY_LINE_COUNT, "ERROR", null);
+    LocalDateTime earliestCutoff = LocalDateTime.now().minusMinutes(AGGREGATE_MINUTES);
+    List<AdminLogErrorSummary> indexedSummaries = logFileService.aggregateErrors(AGGREGATE_MINUTES, "count");
+    LocalDateTime latestCutoff = LocalDateTime.now().minusMinutes(AGGREGATE_MINUTES);
+
+    // 3. 기존 방식: 끝 4MB tail 과, 같은 답을 내기 위한 전체 재스캔
+    double legacyTailMs = averageMs(() -> legacyReadTailLines(logPath, QUERY_LINE_COUNT));
+    long legacyTailErrorCount = legacyReadTailLines(logPath, QUERY_LINE_COUNT).stream()
+        .filter(line -> "ERROR".equals(logLineParser.parseSingleLine(line).getLogLevel()))
+        .count();
+    long rescanStart = System.nanoTime();
+    FullScanResult fullScan = fullScan(logPath, logLineParser, earliestCutoff, latestCutoff);
+    double rescanMs = elapsedMs(rescanStart);
+
+    assertThat(fullScan.alertCountSinceLatestCutoff()).isPositive();
+    assertThat(indexedErrorLines).hasSize(QUERY_LINE_COUNT);
+    assertThat(indexedErrorLines).containsExactlyElementsOf(fullScan.lastErrorLines());
+    // 집계 호출 중에 기준 시각이 흐르므로 호출 전/후 기준 사이의 값이어야 함
+    assertThat(indexedSummaries.stream().mapToLong(AdminLogErrorSummary::getOccurrenceCount).sum())
+        .isBetween(fullScan.alertCountSinceLatestCutoff(), fullScan.alertCountSinceEarliestCutoff());
+
+    // 4. 증분 갱신: 64MB 추가 후 첫 조회
+    LocalDateTime appendEnd = LocalDateTime.now();
+    writeSyntheticLogAppend(logPath, APPEND_BYTES, appendEnd.minusMinutes(1), appendEnd);
+    long incrementalStart = System.nanoTime();
+    List<String> afterAppend = logFileService.readRecentLines(QUERY_LINE_COUNT, null, null);
+    double incrementalMs = elapsedMs(incrementalStart);
+    assertThat(afterAppend).hasSize(QUERY_LINE_COUNT);
+
+    // 5. 롤링된 gz: 기존(앞 5000줄만 필터) / 인덱스 생성+저장 / 저장된 인덱스 재사용
+    Path gzPath = logDirectory.resolve("romrom.log.2026-10-17.0.gz");
+    writeSyntheticGz(gzPath, GZ_PLAIN_BYTES, logEnd.minusDays(1).minusSeconds(LOG_SPAN_SECONDS), logEnd.minusDays(1));
+    String gzFileName = gzPath.getFileName().toString();
+    long legacyGzStart = System.nanoTime();
+    long legacyGzErrorCount = legacyReadGzErrorCount(gzPath, logLineParser);
+    double legacyGzMs = elapsedMs(legacyGzStart);
+    long gzColdStart = System.nanoTime();
+    List<String> gzColdLines = logFileService.readGzLines(gzFileName, 5000, "ERROR", null);
+    double gzColdMs = elapsedMs(gzColdStart);
+    double gzWarmMs = averageMs(() -> logFileService.readGzLines(gzFileName, 5000, "ERROR", null));
+    long gzIndexBytes = Files.size(logDirectory.resolve(gzFileName + ".idx"));
+    long gzFullRescanStart = System.nanoTime();
+    long gzAllErrorCount = fullGzErrorCount(gzPath, logLineParser);
+    double gzFullRescanMs = elapsedMs(gzFullRescanStart);
+    assertThat(gzColdLines).hasSize((int) Math.min(5000, gzAllErrorCount));
+
+    lineLog("[LogFileIndexBenchmarkTest] 합성 로그 인덱스 조회 성능 테스트 결과");
+    lineLog(String.format("- 현재 로그: %,d bytes / %,d 줄 (24시간 분포, ERROR 0.5%% + 스택트레이스, WARN 2%%)", logBytes, generatedLines));
+    lineLog(String.format("- 인덱스 생성: %.1fms (%.0f MB/s), 인덱스 메모리 약 %,d bytes (%.2f bytes/줄)",
+        buildMs, logBytes / 1024.0 / 1024.0 / (buildMs / 1000.0), standaloneIndex.estimatedBytes(),
+        (double) standaloneIndex.estimatedBytes() / generatedLines));
+    lineLog(String.format("- 서비스 첫 조회(생성 포함): %.1fms", firstQueryMs));
+    lineLog(String.format("- tail %,d줄: 기존 4MB 읽기 %.2fms -> 인덱스 %.2fms", QUERY_LINE_COUNT, legacyTailMs, indexedTailMs));
+    lineLog(String.format("- ERROR 필터 %,d줄: 기존은 마지막 %,d줄 중 %,d줄만 반환 / 인덱스 %.2fms (전체 재스캔 %.1fms)",
+        QUERY_LINE_COUNT, QUERY_LINE_COUNT, legacyTailErrorCount, indexedErrorFilterMs, rescanMs));
+    lineLog(String.format("- 최근 %d분 에러 집계: 인덱스 %.2fms (%,d건) / 전체 재스캔 %.1fms",
+        AGGREGATE_MINUTES, indexedAggregateMs, fullScan.alertCountSinceEarliestCutoff(), rescanMs));
+    lineLog(String.format("- 최근 5분 추출: 인덱스 %.2fms", indexedExtractMs));
+    lineLog(String.format("- %,d bytes 추가 후 첫 조회(증분 색인 포함): %.1fms", APPEND_BYTES, incrementalMs));
+    lineLog(String.format("- gz(압축 전 %,d bytes) ERROR 필터: 기존(앞 5000줄만) %.1fms, %,d줄 / 인덱스 생성+저장 %.1fms, 재사용 %.1fms, %,d줄 (idx %,d bytes) / 전체 재스캔 %.1fms, %,d줄",
+        GZ_PLAIN_BYTES, legacyGzMs, legacyGzErrorCount, gzColdMs, gzWarmMs, gzColdLines.size(), gzIndexBytes,
+        gzFullRescanMs, gzAllErrorCount));
+  }
+
+  private long writeSyntheticLog(Path logPath, long targetBytes, LocalDateTime from, LocalDateTime to) throws IOException {
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(logPath), 1 << 20)) {
+      return writeSyntheticLines(output, targetBytes, from, to);
+    }
+  }
+
+  private void writeSyntheticLogAppend(Path logPath, long targetBytes, LocalDateTime from, LocalDateTime to) throws IOException {
+    try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(logPath, StandardOpenOption.APPEND), 1 << 20)) {
+      writeSyntheticLines(output, targetBytes, from, to);
+    }
+  }
+
+  private void writeSyntheticGz(Path gzPath, long targetBytes, LocalDateTime from, LocalDateTime to) throws IOException {
+    try (OutputStream output = new BufferedOutputStream(new GZIPOutputStream(Files.newOutputStream(gzPath), 1 << 16) {
+      {
+        def.setLevel(Deflater.BEST_SPEED);
+      }
+    }, 1 << 20)) {
+      writeSyntheticLines(output, targetBytes, from, to);
+    }
+  }
+
+  /**
+   * from~to 사이에 고르게 분포한 로그를 targetBytes 만큼 기록하고 라인 수를 반환
+   */
+  private long writeSyntheticLines(OutputStream output, long targetBytes, LocalDateTime from, LocalDateTime to) throws IOException {
+    long spanMillis = Math.max(1, Duration.between(from, to).toMillis());
+    byte[] infoBody = " [http-nio-8080-exec-7] INFO  c.r.w.controller.ItemController - 물품 목록 조회 완료 page=3 size=20 elapsed=12ms\n"
+        .getBytes(StandardCharsets.UTF_8);
+    byte[] warnBody = " [scheduling-1] WARN  c.r.s.service.StorageService - 이미지 압축 대기 초과, 원본 업로드\n"
+        .getBytes(StandardCharsets.UTF_8);
+    byte[][] errorBodies = {
+        (" [http-nio-8080-exec-3] ERROR c.r.c.exception.GlobalExceptionHandler - NullPointerException: member is null\n"
+            + "java.lang.NullPointerException: member is null\n\tat com.romrom.member.service.MemberService.find(MemberService.java:88)\n"
+            + "\tat com.romrom.web.controller.MemberController.get(MemberController.java:41)\n").getBytes(StandardCharsets.UTF_8),
+        (" [http-nio-8080-exec-5] ERROR c.r.c.exception.GlobalExceptionHandler - IllegalStateException: 거래 상태 불일치\n"
+            + "java.lang.IllegalStateException: 거래 상태 불일치\n\tat com.romrom.item.service.TradeService.accept(TradeService.java:120)\n")
+            .getBytes(StandardCharsets.UTF_8)
+    };
+    // 200 이벤트마다 ERROR 1건(두 종류 번갈아), WARN 4건, INFO 195건 → 마지막 이벤트가 to 에 닿도록 간격 계산
+    double averageEventBytes = STAMP_FORMATTER.format(from).length()
+        + (errorBodies[0].length / 2.0 + errorBodies[1].length / 2.0 + 4.0 * warnBody.length + 195.0 * infoBody.length) / 200;
+    long estimatedEvents = Math.max(1, (long) (targetBytes / averageEventBytes));
+
+    long writtenBytes = 0;
+    long writtenLines = 0;
+    long event = 0;
+    long cachedMillis = Long.MIN_VALUE;
+    byte[] cachedStamp = null;
+    while (writtenBytes < targetBytes) {
+      long eventMillis = Math.min(spanMillis, event * spanMillis / estimatedEvents);
+      if (eventMillis != cachedMillis) {
+        cachedMillis = eventMillis;
+        cachedStamp = from.plusNanos(eventMillis * 1_000_000).format(STAMP_FORMATTER).getBytes(StandardCharsets.US_ASCII);
+      }
+      byte[] body;
+      if (event % 200 == 17) {
+        body = errorBodies[(int) (event / 200 % 2)];
+      } else if (event % 50 == 3) {
+        body = warnBody;
+      } else {
+        body = infoBody;
+      }
+      output.write(cachedStamp);
+      output.write(body);
+      writtenBytes += cachedStamp.length + body.length;
+      for (byte value : body) {
+        if (value == '\n') {
+          writtenLines++;
+        }
+      }
+      event++;
+    }
+    return writtenLines;
+  }
+
+  // 변경 전 LogFileService.readTailLines 와 동일
+  private List<String> legacyReadTailLines(Path logPath, int maxLineCount) {
+    long maxReadBytes = 4L * 1024 * 1024;
+    try (RandomAccessFile randomAccessFile = new RandomAccessFile(logPath.toFile(), "r")) {
+      long fileLength = randomAccessFile.length();
+      long readStart = Math.max(0, fileLength - maxReadBytes);
+      byte[] tailBytes = new byte[(int) (fileLength - readStart)];
+      randomAccessFile.seek(readStart);
+      randomAccessFile.readFully(tailBytes);
+      String[] allLines = new String(tailBytes, StandardCharsets.UTF_8).split("\n", -1);
+      List<String> resultLines = new ArrayList<>();
+      for (int lineIndex = Math.max(0, allLines.length - maxLineCount); lineIndex < allLines.length; lineIndex++) {
+        String tailLine = allLines[lineIndex].replace("\r", "");
+        if (!tailLine.isEmpty()) {
+          resultLines.add(tailLine);
+        }
+      }
+      return resultLines;
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * 인덱스 없이 같은 답을 내는 전체 재스캔: 마지막 ERROR 2000줄 + 집계 기간 내 ERROR/WARN 수
+   */
+  private FullScanResult fullScan(Path logPath, LogLineParser logLineParser, LocalDateTime earliestCutoff,
+      LocalDateTime latestCutoff) throws IOException {
+    ArrayDeque<String> lastErrorLines = new ArrayDeque<>(QUERY_LINE_COUNT);
+    long alertCountSinceEarliestCutoff = 0;
+    long alertCountSinceLatestCutoff = 0;
+    try (BufferedReader reader = Files.newBufferedReader(logPath, StandardCharsets.UTF_8)) {
+      String rawLine;
+      while ((rawLine = reader.readLine()) != null) {
+        LogLineParsed parsed = logLineParser.parseSingleLine(rawLine);
+        String logLevel = parsed.getLogLevel();
+        if ("ERROR".equals(logLevel)) {
+          if (lastErrorLines.size() == QUERY_LINE_COUNT) {
+            lastErrorLines.removeFirst();
+          }
+          lastErrorLines.addLast(rawLine);
+        }
+        if ("ERROR".equals(logLevel) || "WARN".equals(logLevel)) {
+          if (!parsed.getLoggedAt().isBefore(earliestCutoff)) {
+            alertCountSinceEarliestCutoff++;
+          }
+          if (!parsed.getLoggedAt().isBefore(latestCutoff)) {
+            alertCountSinceLatestCutoff++;
+          }
+        }
+      }
+    }
+    return new FullScanResult(new ArrayList<>(lastErrorLines), alertCountSinceEarliestCutoff, alertCountSinceLatestCutoff);
+  }
+
+  // 변경 전 LogFileService.readGzLines: 앞 5000줄만 풀어 필터
+  private long legacyReadGzErrorCount(Path gzPath, LogLineParser logLineParser) throws IOException {
+    long errorCount = 0;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(new GZIPInputStream(Files.newInputStream(gzPath)), StandardCharsets.UTF_8))) {
+      String rawLine;
+      int lineCount = 0;
+      while ((rawLine = reader.readLine()) != null && lineCount++ < 5000) {
+        if ("ERROR".equals(logLineParser.parseSingleLine(rawLine).getLogLevel())) {
+          errorCount++;
+        }
+      }
+    }
+    return errorCount;
+  }
+
+  private long fullGzErrorCount(Path gzPath, LogLineParser logLineParser) throws IOException {
+    long errorCount = 0;
+    try (BufferedReader reader = new BufferedReader(
+        new InputStreamReader(new GZIPInputStream(Files.newInputStream(gzPath)), StandardCharsets.UTF_8))) {
+      String rawLine;
+      while ((rawLine = reader.readLine()) != null) {
+        if ("ERROR".equals(logLineParser.parseSingleLine(rawLine).getLogLevel())) {
+          errorCount++;
+        }
+      }
+    }
+    return errorCount;
+  }
+
+  private double averageMs(Supplier<?> query) {
+    // 워밍업 후 평균 ms. 시간은 로그용이며 테스트 성공 조건으로 사용하지 않는다.
+    for (int i = 0; i < 2; i++) {
+      query.get();
+    }
+    long totalNanos = 0;
+    for (int i = 0; i < MEASURE_REPETITIONS; i++) {
+      long startNanos = System.nanoTime();
+      query.get();
+      totalNanos += System.nanoTime() - startNanos;
+    }
+    return totalNanos / 1_000_000.0 / MEASURE_REPETITIONS;
+  }
+
+  private double elapsedMs(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000.0;
+  }
+
+  private record FullScanResult(List<String> lastErrorLines, long alertCountSinceEarliestCutoff,
+      long alertCountSinceLatestCutoff) {
+  }
+}
@@ -1,14 +1,21 @@
 package com.romrom.application.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.romrom.application.dto.AdminResponse.AdminLogFileInfo;
 import com.romrom.application.util.LogLineParser;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -90,8 +97,8 @@ class LogFileServiceTest {
 
   @Test
   void aggregateErrors_예외클래스별_집계(@TempDir Path logDirectory) throws IOException {
-    String nowStamp = java.time.LocalDateTime.now()
-        .format(java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
+    String nowStamp = LocalDateTime.now()
+        .format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS"));
     String logContent =
         nowStamp + " [main] ERROR com.romrom.A - NullPointerException: x is null\n"
             + nowStamp + " [main] ERROR com.romrom.B - NullPointerException: y is null\n"
@@ -108,9 +115,9 @@ class LogFileServiceTest {
 
   @Test
   void aggregateErrors_정렬_count는_발생횟수_많은순_recent는_최근순(@TempDir Path logDirectory) throws IOException {
-    java.time.format.DateTimeFormatter stampFormatter =
-        java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
-    java.time.LocalDateTime now = java.time.LocalDateTime.now();
+    DateTimeFormatter stampFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    LocalDateTime now = LocalDateTime.now();
     // NPE: 2건이지만 오래 전 발생 / ISE: 1건이지만 가장 최근 발생
     String olderStamp = now.minusMinutes(10).format(stampFormatter);
     String newerStamp = now.minusMinutes(1).format(stampFormatter);
@@ -136,8 +143,8 @@ class LogFileServiceTest {
     String gzPlainContent =
         "2026-06-07 10:00:01.000 [main] INFO  com.romrom.T - 어제 정상\n"
             + "2026-06-07 10:00:02.000 [main] ERROR com.romrom.T - 어제 에러\n";
-    try (var gzOut = new java.util.zip.GZIPOutputStream(Files.newOutputStream(gzPath))) {
-      gzOut.write(gzPlainContent.getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    try (var gzOut = new GZIPOutputStream(Files.newOutputStream(gzPath))) {
+      gzOut.write(gzPlainContent.getBytes(StandardCharsets.UTF_8));
     }
     Files.writeString(logDirectory.resolve("romrom.log"), "현재\n");
     LogFileService logFileService = newServiceWith(logDirectory);
@@ -157,4 +164,134 @@ class LogFileServiceTest {
     org.junit.jupiter.api.Assertions.assertThrows(RuntimeException.class,
         () -> logFileService.getLogFileResource("../secret.txt"));
   }
+
+  @Test
+  void readRecentLines_추가된라인만_증분색인_쓰는중인라인은_제외(@TempDir Path logDirectory) throws IOException {
+    Path logPath = logDirectory.resolve("romrom.log");
+    Files.writeString(logPath, "2026-06-08 14:00:01.000 [main] INFO  com.romrom.T - 첫줄\n");
+    LogFileService logFileService = newServiceWith(logDirectory);
+    assertEquals(1, logFileService.readRecentLines(10, null, null).size());
+
+    Files.writeString(logPath, "2026-06-08 14:00:02.000 [main] ERROR com.romrom.T - 추가\n"
+        + "2026-06-08 14:00:03.000 [main] INFO  com.romrom.T - 쓰는중", StandardOpenOption.APPEND);
+    List<String> afterAppend = logFileService.readRecentLines(10, null, null);
+
+    assertEquals(2, afterAppend.size());
+    assertTrue(afterAppend.get(1).contains("추가"));
+
+    Files.writeString(logPath, "\n", StandardOpenOption.APPEND);
+    assertTrue(logFileService.readRecentLines(10, null, null).get(2).contains("쓰는중"));
+  }
+
+  @Test
+  void readRecentLines_롤링으로_파일교체시_인덱스재생성(@TempDir Path logDirectory) throws IOException {
+    Path logPath = logDirectory.resolve("romrom.log");
+    Files.writeString(logPath, "2026-06-08 14:00:01.000 [main] ERROR com.romrom.T - 롤링전 에러 메시지가 긴 라인\n");
+    LogFileService logFileService = newServiceWith(logDirectory);
+    assertEquals(1, logFileService.readRecentLines(10, "ERROR", null).size());
+
+    Files.delete(logPath);
+    Files.writeString(logPath, "2026-06-09 00:00:01.000 [main] INFO  com.romrom.T - 새파일\n");
+    List<String> afterRotation = logFileService.readRecentLines(10, null, null);
+
+    assertEquals(1, afterRotation.size());
+    assertTrue(afterRotation.get(0).contains("새파일"));
+    assertTrue(logFileService.readRecentLines(10, "ERROR", null).isEmpty());
+  }
+
+  @Test
+  void readRecentLines_레벨필터는_최근N줄밖의_일치라인도_반환(@TempDir Path logDirectory) throws IOException {
+    StringBuilder logContentBuilder = new StringBuilder();
+    logContentBuilder.append("2026-06-08 13:00:00.000 [main] ERROR com.romrom.T - 오래된 에러\n");
+    logContentBuilder.append("java.lang.IllegalStateException: ERROR 스택\n\tat com.romrom.T.run(T.java:1)\n");
+    for (int lineIndex = 0; lineIndex < 5000; lineIndex++) {
+      logContentBuilder.append("2026-06-08 14:00:00.000 [main] INFO  com.romrom.T - 정상").append(lineIndex).append('\n');
+    }
+    Files.writeString(logDirectory.resolve("romrom.log"), logContentBuilder.toString());
+    LogFileService logFileService = newServiceWith(logDirectory);
+
+    List<String> errorLines = logFileService.readRecentLines(10, "ERROR", null);
+
+    assertEquals(1, errorLines.size());
+    assertTrue(errorLines.get(0).contains("오래된 에러"));
+    assertEquals(2000, logFileService.readRecentLines(5000, null, null).size());
+  }
+
+  @Test
+  void aggregateErrors_기간밖_에러는_제외하고_스택트레이스는_무시(@TempDir Path logDirectory) throws IOException {
+    DateTimeFormatter stampFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    LocalDateTime now = LocalDateTime.now();
+    StringBuilder logContentBuilder = new StringBuilder();
+    for (int lineIndex = 0; lineIndex < 300; lineIndex++) {
+      logContentBuilder.append(now.minusHours(3).format(stampFormatter))
+          .append(" [main] ERROR com.romrom.Old - TimeoutException: 오래됨\n");
+    }
+    for (int lineIndex = 0; lineIndex < 3; lineIndex++) {
+      logContentBuilder.append(now.minusMinutes(5).format(stampFormatter))
+          .append(" [main] ERROR com.romrom.New - IllegalStateException: 최근\n")
+          .append("java.lang.IllegalStateException: 최근\n\tat com.romrom.New.run(New.java:1)\n");
+    }
+    Files.writeString(logDirectory.resolve("romrom.log"), logContentBuilder.toString());
+    LogFileService logFileService = newServiceWith(logDirectory);
+
+    var errorSummaries = logFileService.aggregateErrors(60, "count");
+
+    assertEquals(1, errorSummaries.size());
+    assertEquals("IllegalStateException", errorSummaries.get(0).getExceptionClassName());
+    assertEquals(3, errorSummaries.get(0).getOccurrenceCount());
+  }
+
+  @Test
+  void readGzLines_레벨필터시_인덱스파일을_만들어_재사용_목록에는_미노출(@TempDir Path logDirectory) throws IOException {
+    String gzFileName = "romrom.log.2026-06-07.0.gz";
+    StringBuilder gzPlainBuilder = new StringBuilder();
+    for (int lineIndex = 0; lineIndex < 20000; lineIndex++) {
+      String level = lineIndex % 1000 == 999 ? "ERROR" : "INFO ";
+      gzPlainBuilder.append("2026-06-07 10:00:00.000 [main] ").append(level)
+          .append(" com.romrom.T - 라인").append(lineIndex).append('\n');
+    }
+    try (var gzOut = new GZIPOutputStream(Files.newOutputStream(logDirectory.resolve(gzFileName)))) {
+      gzOut.write(gzPlainBuilder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    Files.writeString(logDirectory.resolve("romrom.log"), "현재\n");
+    LogFileService logFileService = newServiceWith(logDirectory);
+
+    List<String> firstErrors = logFileService.readGzLines(gzFileName, 100, "ERROR", null);
+    Path indexPath = logDirectory.resolve(gzFileName + ".idx");
+    assertTrue(Files.isRegularFile(indexPath));
+    long indexModifiedAt = Files.getLastModifiedTime(indexPath).toMillis();
+    List<String> secondErrors = logFileService.readGzLines(gzFileName, 100, "ERROR", "라인19999");
+
+    assertEquals(20, firstErrors.size());
+    assertTrue(firstErrors.get(19).contains("라인19999"));
+    assertEquals(1, secondErrors.size());
+    assertEquals(indexModifiedAt, Files.getLastModifiedTime(indexPath).toMillis());
+    assertEquals(2, logFileService.listLogFiles().size());
+
+    Files.delete(logDirectory.resolve(gzFileName));
+    logFileService.listLogFiles();
+    assertTrue(Files.notExists(indexPath));
+  }
+
+  @Test
+  void extractByTimeRange_기간내_라인과_연속라인만_반환(@TempDir Path logDirectory) throws IOException {
+    DateTimeFormatter stampFormatter =
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    LocalDateTime now = LocalDateTime.now();
+    StringBuilder logContentBuilder = new StringBuilder();
+    for (int lineIndex = 0; lineIndex < 500; lineIndex++) {
+      logContentBuilder.append(now.minusHours(2).format(stampFormatter)).append(" [main] INFO  com.romrom.T - 오래됨\n");
+    }
+    logContentBuilder.append(now.minusMinutes(1).format(stampFormatter)).append(" [main] ERROR com.romrom.T - 최근\n")
+        .append("\tat com.romrom.T.run(T.java:1)\n");
+    Files.writeString(logDirectory.resolve("romrom.log"), logContentBuilder.toString());
+    LogFileService logFileService = newServiceWith(logDirectory);
+
+    String extracted = logFileService.extractByTimeRange(Duration.ofMinutes(30));
+
+    assertTrue(extracted.contains("최근"));
+    assertTrue(extracted.contains("T.java:1"));
+    assertFalse(extracted.contains("오래됨"));
+  }
 }
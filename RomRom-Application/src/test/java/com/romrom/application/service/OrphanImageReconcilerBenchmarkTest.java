@@ -0,0 +1,112 @@
+package com.romrom.application.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.application.service.OrphanImageReconcilerTest.FakeObjectStore;
+import com.romrom.common.util.ChildJvmRunner;
+import com.romrom.common.util.ChildJvmRunner.ChildResult;
+import com.romrom.storage.dto.StoredObjectInfo;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("orphanImageBenchmarkEnabled")
+class OrphanImageReconcilerBenchmarkTest {
+
+  /*
+   * 수백만 키 저장소 고아 이미지 정리의 최대 힙 사용량 비교: 증분 정리(체크포인트 이어가기) vs 기존 방식(전체 목록 + 전체 URL HashSet)
+   * 두 방식을 같은 작은 힙(-Xmx)의 별도 JVM 에서 실행한다. 기존 방식의 결과(OOM 여부 포함)는 비교용으로 출력만 한다.
+   */
+  private static final int LARGE_STORE_OBJECT_COUNT = Integer.getInteger("romrom.orphan-image.benchmark.objects", 2_000_000);
+  private static final String CHILD_HEAP_LIMIT = System.getProperty("romrom.orphan-image.benchmark.heap", "64m");
+  private static final long CHILD_TIMEOUT_SECONDS = 300;
+
+  private static boolean orphanImageBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.orphan-image.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_ORPHAN_IMAGE_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void measureLargeStoreReconcileHeapUsage() throws Exception {
+    ChildResult incremental = runChild("incremental");
+    ChildResult legacy = runChild("legacy");
+
+    assertThat(incremental.exitCode()).as("증분 정리는 작은 힙에서 성공해야 함: " + incremental.output()).isZero();
+    assertThat(incremental.output()).contains("scanned=" + LARGE_STORE_OBJECT_COUNT);
+    lineLog(String.format("[OrphanImageReconcilerBenchmarkTest] 오브젝트 %,d건 저장소 정리 (-Xmx%s)",
+        LARGE_STORE_OBJECT_COUNT, CHILD_HEAP_LIMIT));
+    lineLog(String.format("- 증분 정리: %s", incremental.output()));
+    lineLog(String.format("- 기존 방식: exit=%d%s, %s",
+        legacy.exitCode(), legacy.outOfMemory() ? " (OutOfMemoryError)" : "", legacy.output()));
+  }
+
+  private ChildResult runChild(String mode) throws Exception {
+    return ChildJvmRunner.run(LargeStoreReconcileRunner.class, CHILD_HEAP_LIMIT, CHILD_TIMEOUT_SECONDS,
+        mode, Integer.toString(LARGE_STORE_OBJECT_COUNT));
+  }
+
+  /**
+   * 작은 힙으로 띄운 별도 JVM 에서 가짜 저장소를 정리한다.
+   * incremental: OrphanImageReconciler 를 주기가 끝날 때까지 반복 실행 (실행당 50만 건, 체크포인트 이어가기)
+   * legacy: 변경 전 방식 (전체 오브젝트 목록 + 전체 이미지 URL HashSet)
+   */
+  public static class LargeStoreReconcileRunner {
+
+    public static void main(String[] args) {
+      String mode = args[0];
+      int objectCount = Integer.parseInt(args[1]);
+      FakeObjectStore objectStore = new FakeObjectStore(objectCount);
+
+      try {
+        if ("legacy".equals(mode)) {
+          reconcileLegacy(objectStore);
+        } else {
+          reconcileIncremental(objectStore);
+        }
+      } catch (OutOfMemoryError outOfMemoryError) {
+        ChildJvmRunner.exitOutOfMemory("");
+      }
+      System.exit(0);
+    }
+
+    private static void reconcileIncremental(FakeObjectStore objectStore) {
+      long startNanos = System.nanoTime();
+      OrphanImageReconciler reconciler = objectStore.newReconciler(1_000, 500_000);
+      long scannedCount = 0;
+      int runCount = 0;
+      OrphanImageReconciler.ReconcileResult runResult;
+      do {
+        runResult = reconciler.reconcile(OrphanImageReconcilerTest.PREFIX);
+        scannedCount += runResult.getScannedCount();
+        runCount++;
+      } while (!runResult.isCycleCompleted());
+
+      if (objectStore.deletedCount() != objectStore.expectedOrphanCount() || objectStore.wronglyDeletedCount != 0) {
+        System.out.println("RESULT mismatch deleted=" + objectStore.deletedCount()
+            + " expected=" + objectStore.expectedOrphanCount() + " wrong=" + objectStore.wronglyDeletedCount);
+        System.exit(2);
+      }
+      System.out.printf("RESULT scanned=%d runs=%d deleted=%d elapsedMs=%d peakHeapMb=%d%n",
+          scannedCount, runCount, objectStore.deletedCount(),
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), ChildJvmRunner.peakHeapUsedMb());
+    }
+
+    private static void reconcileLegacy(FakeObjectStore objectStore) {
+      List<StoredObjectInfo> allObjects = new ArrayList<>();
+      Set<String> dbImageUrlSet = new HashSet<>();
+      for (int index = 0; index < objectStore.objectCount; index++) {
+        allObjects.add(objectStore.objectAt(index));
+        if (FakeObjectStore.isReferenced(index)) {
+          dbImageUrlSet.add(objectStore.imageUrl(index));
+        }
+      }
+      System.out.printf("RESULT objects=%d dbUrls=%d peakHeapMb=%d%n",
+          allObjects.size(), dbImageUrlSet.size(), ChildJvmRunner.peakHeapUsedMb());
+    }
+  }
+}
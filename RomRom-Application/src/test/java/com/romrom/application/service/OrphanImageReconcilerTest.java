@@ -0,0 +1,231 @@
+package com.romrom.application.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.romrom.item.repository.postgres.ItemImageRepository;
+import com.romrom.storage.dto.StoredObjectInfo;
+import com.romrom.storage.properties.MinioProperties;
+import com.romrom.storage.service.MinIoFileServiceImpl;
+import com.romrom.storage.util.MinioUtil;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * OrphanImageReconciler 단위 테스트 (MinIO/DB/Redis 미접근).
+ * 오브젝트 저장소는 이름순 키를 필요할 때 만들어 내는 가짜 저장소로, DB/Redis 는 in-memory 응답으로 대체한다.
+ * 수백만 키 저장소를 작은 힙에서 정리하는 측정은 OrphanImageReconcilerBenchmarkTest (romrom.orphan-image.benchmark.enabled) 에서 한다.
+ */
+@Slf4j
+class OrphanImageReconcilerTest {
+
+  static final String PREFIX = MinioUtil.PUBLIC_IMAGES_PATH;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::체크포인트_이어서_한_주기_정리_정합성_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  // 실행마다 정해진 양만 검사하고 체크포인트로 이어가며, 한 주기가 끝나면 정확히 고아만 지워져 있어야 함
+  public void 체크포인트_이어서_한_주기_정리_정합성_테스트() {
+    int objectCount = 25_000;
+    FakeObjectStore objectStore = new FakeObjectStore(objectCount);
+    OrphanImageReconciler reconciler = objectStore.newReconciler(1_000, 7_000);
+
+    List<OrphanImageReconciler.ReconcileResult> runResults = new ArrayList<>();
+    OrphanImageReconciler.ReconcileResult runResult;
+    do {
+      runResult = reconciler.reconcile(PREFIX);
+      runResults.add(runResult);
+      assertTrue(runResult.getScannedCount() <= 7_000, "한 번 실행 검사량은 상한을 넘지 않아야 함");
+      if (!runResult.isCycleCompleted()) {
+        assertEquals(runResult.getCheckpoint(), objectStore.checkpoints.get(PREFIX), "중간 실행은 체크포인트를 남겨야 함");
+      }
+    } while (!runResult.isCycleCompleted() && runResults.size() < 20);
+
+    assertEquals(4, runResults.size(), "25,000건 / 실행당 7,000건 = 4회 실행으로 한 주기 완료");
+    assertNull(objectStore.checkpoints.get(PREFIX), "주기 완료 시 체크포인트 초기화");
+    assertEquals(objectStore.expectedOrphanCount(), objectStore.deletedCount(), "유예 기간 지난 미참조 파일만 삭제");
+    assertEquals(0, objectStore.wronglyDeletedCount, "참조 중이거나 유예 기간 내 파일은 삭제되면 안 됨");
+    assertEquals(objectCount, runResults.stream().mapToLong(OrphanImageReconciler.ReconcileResult::getScannedCount).sum());
+
+    // 새 주기: 남은 파일은 모두 참조 중이거나 유예 기간 내이므로 추가 삭제 없음
+    OrphanImageReconciler.ReconcileResult nextCycle = reconciler.reconcile(PREFIX);
+    assertEquals(0, nextCycle.getOrphanCount());
+    assertFalse(nextCycle.isCycleCompleted());
+
+    lineLog("실행 " + runResults.size() + "회, 삭제 " + objectStore.deletedCount() + "건 (기대 " + objectStore.expectedOrphanCount() + "건)");
+  }
+
+  /**
+   * 이름순 키(public/images/item-000000000.jpg ...)를 요청 시점에 만들어 내는 가짜 오브젝트 저장소.
+   * - 10건 중 1건은 최근 업로드(유예 기간 내), 나머지는 30일 전 업로드
+   * - 3건 중 2건은 DB(ItemImage)에 참조됨
+   * 삭제 여부는 BitSet 으로만 기록해 저장소 자체가 힙을 차지하지 않게 한다.
+   */
+  static class FakeObjectStore {
+
+    private static final String ENDPOINT = "https://minio.example.com";
+    private static final String BUCKET = "romrom";
+
+    final int objectCount;
+    private final BitSet deleted;
+    final Map<String, String> checkpoints = new HashMap<>();
+    private final ZonedDateTime recentModified = ZonedDateTime.now();
+    private final ZonedDateTime oldModified = ZonedDateTime.now().minusDays(30);
+    private final String imageUrlPrefix = ENDPOINT + "/" + BUCKET + "/";
+    long wronglyDeletedCount;
+
+    FakeObjectStore(int objectCount) {
+      this.objectCount = objectCount;
+      this.deleted = new BitSet(objectCount);
+    }
+
+    static boolean isReferenced(int index) {
+      return index % 3 != 0;
+    }
+
+    static boolean isRecent(int index) {
+      return index % 10 == 0;
+    }
+
+    String objectName(int index) {
+      return PREFIX + String.format("item-%09d.jpg", index);
+    }
+
+    String imageUrl(int index) {
+      return imageUrlPrefix + objectName(index);
+    }
+
+    int indexOf(String objectName) {
+      return Integer.parseInt(objectName.substring(objectName.lastIndexOf('-') + 1, objectName.lastIndexOf('.')));
+    }
+
+    StoredObjectInfo objectAt(int index) {
+      return StoredObjectInfo.builder()
+          .objectName(objectName(index))
+          .lastModified(isRecent(index) ? recentModified : oldModified)
+          .dir(false)
+          .build();
+    }
+
+    long expectedOrphanCount() {
+      long expected = 0;
+      for (int index = 0; index < objectCount; index++) {
+        if (!isReferenced(index) && !isRecent(index)) {
+          expected++;
+        }
+      }
+      return expected;
+    }
+
+    long deletedCount() {
+      return deleted.cardinality();
+    }
+
+    List<StoredObjectInfo> listPage(String startAfter, int limit) {
+      List<StoredObjectInfo> page = new ArrayList<>(limit);
+      int index = startAfter == null ? 0 : indexOf(startAfter) + 1;
+      for (; index < objectCount && page.size() < limit; index++) {
+        if (!deleted.get(index)) {
+          page.add(objectAt(index));
+        }
+      }
+      return page;
+    }
+
+    List<String> existingImageUrls(Collection<String> imageUrls) {
+      List<String> existing = new ArrayList<>();
+      for (String imageUrl : imageUrls) {
+        if (isReferenced(indexOf(imageUrl))) {
+          existing.add(imageUrl);
+        }
+      }
+      return existing;
+    }
+
+    List<String> delete(List<String> objectNames) {
+      for (String objectName : objectNames) {
+        int index = indexOf(objectName);
+        if (isReferenced(index) || isRecent(index)) {
+          wronglyDeletedCount++;
+        }
+        deleted.set(index);
+      }
+      return List.of();
+    }
+
+    // 호출 기록을 남기지 않는(stubOnly) mock 으로 연결해, 테스트 대역이 측정 대상 힙을 차지하지 않게 한다
+    @SuppressWarnings("unchecked")
+    OrphanImageReconciler newReconciler(int pageSize, int maxObjectsPerRun) {
+      MinioProperties minioProperties = new MinioProperties();
+      minioProperties.setEndpoint(ENDPOINT);
+      minioProperties.setBucket(BUCKET);
+
+      MinioUtil minioUtil = mock(MinioUtil.class, withSettings().stubOnly());
+      when(minioUtil.listObjectsPage(anyString(), anyString(), any(), anyInt()))
+          .thenAnswer(invocation -> listPage(invocation.getArgument(2), invocation.getArgument(3)));
+      when(minioUtil.deleteFiles(anyString(), anyList()))
+          .thenAnswer(invocation -> delete(invocation.getArgument(1)));
+
+      ItemImageRepository itemImageRepository = mock(ItemImageRepository.class, withSettings().stubOnly());
+      when(itemImageRepository.findExistingImageUrls(any()))
+          .thenAnswer(invocation -> existingImageUrls(invocation.getArgument(0)));
+
+      HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class, withSettings().stubOnly());
+      when(hashOperations.get(anyString(), any()))
+          .thenAnswer(invocation -> checkpoints.get((String) invocation.getArgument(1)));
+      when(hashOperations.delete(anyString(), any()))
+          .thenAnswer(invocation -> {
+            checkpoints.remove((String) invocation.getArgument(1));
+            return 1L;
+          });
+      doAnswer(invocation -> {
+        checkpoints.put(invocation.getArgument(1), invocation.getArgument(2));
+        return null;
+      }).when(hashOperations).put(anyString(), any(), any());
+      RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class, withSettings().stubOnly());
+      when(redisTemplate.opsForHash()).thenReturn((HashOperations) hashOperations);
+
+      OrphanImageReconciler reconciler = new OrphanImageReconciler(
+          minioUtil,
+          minioProperties,
+          new MinIoFileServiceImpl(minioUtil, minioProperties),
+          itemImageRepository,
+          redisTemplate
+      );
+      ReflectionTestUtils.setField(reconciler, "pageSize", pageSize);
+      ReflectionTestUtils.setField(reconciler, "maxObjectsPerRun", maxObjectsPerRun);
+      ReflectionTestUtils.setField(reconciler, "graceDays", 7);
+      return reconciler;
+    }
+  }
+}
@@ -0,0 +1,14 @@
+package com.romrom.common.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EmbeddingJobStatus {
+  PENDING("대기"),
+  PROCESSING("처리중"),
+  FAILED("실패"); // 최대 재시도 초과
+
+  private final String description;
+}
@@ -14,7 +14,7 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @ToString
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @MappedSuperclass
 @Getter
 @Setter
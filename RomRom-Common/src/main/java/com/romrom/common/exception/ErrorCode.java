@@ -124,6 +124,10 @@ public enum ErrorCode {
 
   ITEM_ADMIN_HIDDEN(HttpStatus.FORBIDDEN, "관리자에 의해 노출이 차단된 물품입니다."),
 
+  INVALID_ITEM_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 물품 목록 커서입니다."),
+
+  UNSUPPORTED_ITEM_CURSOR_SORT_FIELD(HttpStatus.BAD_REQUEST, "커서 페이지네이션을 지원하지 않는 정렬 기준입니다."),
+
   // ITEM CUSTOM TAG
 
   TOO_MANY_CUSTOM_TAGS(HttpStatus.BAD_REQUEST, "커스텀 태그의 최대 개수를 초과하였습니다."),
@@ -180,6 +184,12 @@ public enum ErrorCode {
 
   NOT_CHATROOM_MEMBER(HttpStatus.FORBIDDEN, "채팅방의 멤버만 접근할 수 있는 권한입니다."),
 
+  CHAT_MESSAGE_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅 메시지를 찾을 수 없습니다."),
+
+  INVALID_CHAT_MESSAGE_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 채팅 메시지 커서입니다."),
+
+  INVALID_CHAT_ROOM_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 채팅방 목록 커서입니다."),
+
   CANNOT_CREATE_SELF_CHATROOM(HttpStatus.BAD_REQUEST, "자기 자신과는 채팅방을 생성할 수 없습니다."),
 
   INVALID_SENDER(HttpStatus.FORBIDDEN, "보낸이 정보가 올바르지 않습니다."),
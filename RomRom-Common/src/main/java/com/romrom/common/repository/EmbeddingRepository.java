@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,6 +24,13 @@ public interface EmbeddingRepository extends JpaRepository<Embedding, UUID> {
 
   Optional<Embedding> findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(UUID originalId, OriginalType originalType);
 
+  // 인메모리 벡터 인덱스 적재용 (embeddingId keyset 순회)
+  List<Embedding> findByOriginalTypeAndEmbeddingIdGreaterThanOrderByEmbeddingIdAsc(
+      OriginalType originalType, UUID lastEmbeddingId, Pageable pageable);
+
+  // 인메모리 벡터 인덱스 증분 동기화용
+  List<Embedding> findByOriginalTypeAndUpdatedDateAfter(OriginalType originalType, LocalDateTime updatedDate);
+
   @Query(
       value = """
       SELECT e.original_id
@@ -1,10 +1,21 @@
 package com.romrom.common.service;
 
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 /**
@@ -13,7 +24,11 @@ import org.springframework.stereotype.Service;
  * <p>모바일 앱은 HTTP 요청이 stateless라 "현재 연결 여부"를 직접 알 수 없으므로,
  * production 표준인 Last-Seen + 시간 윈도우 근사를 사용한다.
  * Redis Sorted Set에 (score=마지막 활동 시각 epoch millis, member=memberId)를 기록하고,
- * 조회 시 윈도우(5분)를 벗어난 멤버를 청소한 뒤 남은 멤버 수를 동접자로 본다.
+ * 윈도우(5분) 안에 활동한 멤버 수를 동접자로 본다.
+ *
+ * <p>heartbeat 는 요청마다 Redis 에 쓰지 않고 인스턴스 메모리에서 회원별 마지막 활동 시각으로 합친 뒤,
+ * 주기(1초)마다 여러 멤버를 담은 ZADD 를 한 번의 파이프라인으로 반영한다. 윈도우를 벗어난 멤버 청소는 별도 주기 작업이 맡고,
+ * 조회는 ZCOUNT 한 번으로 끝난다. 반영 주기만큼 늦게 보일 수 있으나 5분 윈도우에 비해 무시할 수 있다.
  *
  * <p>모든 인스턴스가 같은 Redis를 공유하므로 블루그린 등 다중 인스턴스에서도 합산이 정확하다.
  */
@@ -28,10 +43,17 @@ public class OnlinePresenceService {
   // 마지막 활동 후 이 시간 이내면 온라인으로 간주 (5분)
   private static final long ONLINE_WINDOW_MILLIS = 5 * 60 * 1000L;
 
+  // ZADD 한 번에 담는 최대 멤버 수 (명령 하나가 너무 커지지 않도록)
+  private static final int FLUSH_BATCH_SIZE = 1_000;
+
   private final RedisTemplate<String, Object> redisTemplate;
 
+  // 아직 Redis 에 반영되지 않은 회원별 마지막 활동 시각
+  private final ConcurrentHashMap<UUID, Long> pendingHeartbeats = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
   /**
-   * heartbeat 기록: 해당 회원의 마지막 활동 시각을 현재로 갱신한다.
+   * heartbeat 기록: 해당 회원의 마지막 활동 시각을 현재로 갱신한다 (메모리 합산만 수행, Redis 반영은 주기 작업).
    * 인증된 모든 API 요청에서 호출되므로, 호출 측에서 예외를 격리해 본 요청 흐름을 막지 않아야 한다.
    *
    * @param memberId     활동한 회원 ID
@@ -41,26 +63,108 @@ public class OnlinePresenceService {
     if (memberId == null) {
       return;
     }
-    // 같은 member로 ZADD 하면 score(활동 시각)만 최신으로 덮어쓴다 → 중복 없이 last-seen 유지
-    redisTemplate.opsForZSet().add(ONLINE_PRESENCE_KEY, memberId.toString(), nowEpochMilli);
+    // 같은 회원의 여러 요청은 가장 최근 시각 하나로 합친다 → Redis 에는 회원당 한 번만 반영
+    pendingHeartbeats.merge(memberId, nowEpochMilli, Math::max);
+  }
+
+  /**
+   * 모아 둔 heartbeat 를 Redis 에 반영
+   * 같은 member로 ZADD 하면 score(활동 시각)만 최신으로 덮어쓴다 → 중복 없이 last-seen 유지
+   */
+  @Scheduled(fixedDelayString = "${online-presence.flush-interval-millis:1000}")
+  public void flushHeartbeats() {
+    flushLock.lock();
+    try {
+      flushPending();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 동접 heartbeat 반영: {}건", pendingHeartbeats.size());
+    flushHeartbeats();
+  }
+
+  /**
+   * 윈도우를 벗어난(stale) 멤버 청소: score가 [0, threshold) 범위면 제거
+   * 조회와 분리해 주기적으로 수행하므로 Sorted Set 크기는 최근 윈도우 + 청소 주기 안의 멤버로 유지된다.
+   */
+  @Scheduled(fixedDelayString = "${online-presence.trim-interval-millis:60000}")
+  public void trimStaleMembers() {
+    trimStaleMembers(System.currentTimeMillis());
+  }
+
+  void trimStaleMembers(long nowEpochMilli) {
+    long onlineThreshold = nowEpochMilli - ONLINE_WINDOW_MILLIS;
+    try {
+      // removeRangeByScore는 inclusive 경계이므로 stale 상한은 threshold 직전 값으로 둔다
+      Long removedCount = redisTemplate.opsForZSet().removeRangeByScore(ONLINE_PRESENCE_KEY, 0, (double) onlineThreshold - 1);
+      log.debug("동접 stale 멤버 청소: {}명", removedCount);
+    } catch (Exception e) {
+      log.warn("동접 stale 멤버 청소 실패 (다음 주기에 재시도): {}", e.getMessage());
+    }
   }
 
   /**
    * 현재 동접자 수 조회.
-   * 윈도우를 벗어난(stale) 멤버를 먼저 청소한 뒤 남은 전체 수를 반환한다.
+   * 윈도우 안의 score 범위만 세므로 청소 주기와 무관하게 정확하며, Redis 명령은 ZCOUNT 한 번이다.
    *
    * @param nowEpochMilli 현재 시각 (epoch millis)
    * @return 최근 {@code ONLINE_WINDOW_MILLIS} 이내 활동한 고유 회원 수
    */
   public long countOnlineMembers(long nowEpochMilli) {
     long onlineThreshold = nowEpochMilli - ONLINE_WINDOW_MILLIS;
+    Long onlineMemberCount = redisTemplate.opsForZSet()
+        .count(ONLINE_PRESENCE_KEY, onlineThreshold, Double.POSITIVE_INFINITY);
+    return onlineMemberCount == null ? 0L : onlineMemberCount;
+  }
 
-    ZSetOperations<String, Object> zSetOperations = redisTemplate.opsForZSet();
-    // 윈도우를 벗어난 멤버 청소: score가 [0, threshold) 범위면 제거
-    // (removeRangeByScore는 inclusive 경계이므로 stale 상한은 threshold 직전 값으로 둔다)
-    zSetOperations.removeRangeByScore(ONLINE_PRESENCE_KEY, 0, (double) onlineThreshold - 1);
+  private void flushPending() {
+    if (pendingHeartbeats.isEmpty()) {
+      return;
+    }
 
-    Long onlineMemberCount = zSetOperations.zCard(ONLINE_PRESENCE_KEY);
-    return onlineMemberCount == null ? 0L : onlineMemberCount;
+    // 회원별로 원자적으로 꺼낸다 (꺼낸 뒤 들어온 heartbeat 는 새 항목으로 쌓여 다음 반영에 포함)
+    List<Set<TypedTuple<Object>>> batches = new ArrayList<>();
+    Set<TypedTuple<Object>> batch = new HashSet<>();
+    int drainedCount = 0;
+    for (UUID memberId : pendingHeartbeats.keySet()) {
+      Long lastSeenEpochMilli = pendingHeartbeats.remove(memberId);
+      if (lastSeenEpochMilli == null) {
+        continue;
+      }
+      batch.add(new DefaultTypedTuple<>(memberId.toString(), lastSeenEpochMilli.doubleValue()));
+      drainedCount++;
+      if (batch.size() >= FLUSH_BATCH_SIZE) {
+        batches.add(batch);
+        batch = new HashSet<>();
+      }
+    }
+    if (!batch.isEmpty()) {
+      batches.add(batch);
+    }
+
+    try {
+      // 나눈 ZADD 들을 한 번의 왕복으로 전송
+      redisTemplate.executePipelined(new SessionCallback<Object>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <K, V> Object execute(RedisOperations<K, V> operations) {
+          RedisOperations<String, Object> presenceOperations = (RedisOperations<String, Object>) operations;
+          for (Set<TypedTuple<Object>> memberBatch : batches) {
+            presenceOperations.opsForZSet().add(ONLINE_PRESENCE_KEY, memberBatch);
+          }
+          return null;
+        }
+      });
+      log.debug("동접 heartbeat 반영 완료: {}명", drainedCount);
+    } catch (Exception e) {
+      log.warn("동접 heartbeat 반영 실패, 다음 주기에 재시도: {}명, error: {}", drainedCount, e.getMessage());
+      // 되돌릴 때도 더 최근 heartbeat 가 있으면 그 값을 유지
+      batches.forEach(memberBatch -> memberBatch.forEach(tuple -> pendingHeartbeats.merge(
+          UUID.fromString(tuple.getValue().toString()), tuple.getScore().longValue(), Math::max)));
+    }
   }
 }
@@ -1,24 +1,42 @@
 package com.romrom.common.service;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * 시스템 설정 캐시 서비스.
+ *
+ * <p>원본은 Redis Hash({@code system:config})이고, 인스턴스마다 전체 설정 맵의 버전 스냅샷을 로컬에 둔다.
+ * MaintenanceFilter 등 매 요청마다 호출되는 hot path의 조회는 volatile 필드 접근으로 끝나고 Redis 왕복이 없다.
+ *
+ * <p>갱신: 쓰기 시 버전 카운터({@code system:config:version})를 INCR 하고 변경 채널로 발행한다.
+ * 각 인스턴스는 메시지 수신 시 스냅샷을 다시 읽고, pub/sub 메시지 유실에 대비해 버전 카운터를 주기적으로 비교한다.
+ * 따라서 관리자 변경 후 다른 인스턴스의 지연은 최대 폴링 주기로 제한된다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class SystemConfigCacheService {
+public class SystemConfigCacheService implements MessageListener {
 
   private static final String CACHE_KEY = "system:config";
+  private static final String VERSION_KEY = "system:config:version";
+  public static final String CHANGE_CHANNEL = "system:config:changed";
 
   private final RedisTemplate<String, Object> redisTemplate;
 
+  // 읽기 전용 스냅샷 (교체만 하고 내부는 수정하지 않음)
+  private volatile ConfigSnapshot configSnapshot;
+
   public String get(String configKey) {
-    Object value = redisTemplate.opsForHash().get(CACHE_KEY, configKey);
-    return value != null ? value.toString() : null;
+    return currentSnapshot().configMap().get(configKey);
   }
 
   public String getOrDefault(String configKey, String defaultValue) {
@@ -26,8 +44,16 @@ public class SystemConfigCacheService {
     return value != null ? value : defaultValue;
   }
 
+  /**
+   * 현재 스냅샷 버전 (설정 값에서 파생한 캐시를 버전이 바뀔 때만 다시 만들 수 있도록 노출)
+   */
+  public long getVersion() {
+    return currentSnapshot().version();
+  }
+
   public void put(String configKey, String configValue) {
     redisTemplate.opsForHash().put(CACHE_KEY, configKey, configValue);
+    publishChange();
   }
 
   public void putAll(Map<String, String> configMap) {
@@ -35,16 +61,15 @@ public class SystemConfigCacheService {
     if (!configMap.isEmpty()) {
       redisTemplate.opsForHash().putAll(CACHE_KEY, new HashMap<>(configMap));
     }
+    publishChange();
     log.info("시스템 설정 캐시 전체 로딩 완료: {} 건", configMap.size());
   }
 
   public Map<String, String> getByPrefix(String prefix) {
-    Map<Object, Object> entries = redisTemplate.opsForHash().entries(CACHE_KEY);
     Map<String, String> result = new HashMap<>();
-    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
-      String key = entry.getKey().toString();
-      if (key.startsWith(prefix)) {
-        result.put(key, entry.getValue().toString());
+    for (Map.Entry<String, String> entry : currentSnapshot().configMap().entrySet()) {
+      if (entry.getKey().startsWith(prefix)) {
+        result.put(entry.getKey(), entry.getValue());
       }
     }
     return result;
@@ -52,6 +77,78 @@ public class SystemConfigCacheService {
 
   public void clearAll() {
     redisTemplate.delete(CACHE_KEY);
+    publishChange();
     log.info("시스템 설정 캐시 전체 삭제 완료");
   }
+
+  /**
+   * 다른 인스턴스(또는 자기 자신)의 변경 알림 수신 → 스냅샷 재적재
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      refreshSnapshot();
+    } catch (Exception e) {
+      log.warn("시스템 설정 변경 알림 처리 실패 (다음 버전 폴링에서 재시도): {}", e.getMessage());
+    }
+  }
+
+  /**
+   * pub/sub 메시지 유실 대비 안전망: 원격 버전이 로컬 스냅샷과 다르면 재적재
+   */
+  @Scheduled(fixedDelayString = "${system-config.cache.version-poll-interval-millis:5000}")
+  public void pollVersion() {
+    ConfigSnapshot snapshot = configSnapshot;
+    if (snapshot == null) {
+      return;
+    }
+    try {
+      if (readRemoteVersion() != snapshot.version()) {
+        refreshSnapshot();
+      }
+    } catch (Exception e) {
+      log.warn("시스템 설정 버전 폴링 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 버전 → Hash 순서로 읽는다. 사이에 쓰기가 끼면 스냅샷 버전이 실제보다 낮게 기록되어 다음 폴링에서 한 번 더 읽을 뿐이다.
+   */
+  synchronized ConfigSnapshot refreshSnapshot() {
+    long version = readRemoteVersion();
+    Map<Object, Object> entries = redisTemplate.opsForHash().entries(CACHE_KEY);
+    Map<String, String> configMap = new HashMap<>(entries.size());
+    for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+      if (entry.getValue() != null) {
+        configMap.put(entry.getKey().toString(), entry.getValue().toString());
+      }
+    }
+    ConfigSnapshot snapshot = new ConfigSnapshot(version, Collections.unmodifiableMap(configMap));
+    configSnapshot = snapshot;
+    log.debug("시스템 설정 스냅샷 갱신: version={}, {} 건", version, configMap.size());
+    return snapshot;
+  }
+
+  private ConfigSnapshot currentSnapshot() {
+    ConfigSnapshot snapshot = configSnapshot;
+    return snapshot != null ? snapshot : refreshSnapshot();
+  }
+
+  private void publishChange() {
+    Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+    // 쓰기 인스턴스는 알림 왕복을 기다리지 않고 즉시 반영 (read-your-writes)
+    refreshSnapshot();
+    redisTemplate.convertAndSend(CHANGE_CHANNEL, version != null ? version : 0L);
+  }
+
+  private long readRemoteVersion() {
+    Object rawVersion = redisTemplate.opsForValue().get(VERSION_KEY);
+    if (rawVersion == null) {
+      return 0L;
+    }
+    return rawVersion instanceof Number number ? number.longValue() : Long.parseLong(rawVersion.toString());
+  }
+
+  record ConfigSnapshot(long version, Map<String, String> configMap) {
+  }
 }
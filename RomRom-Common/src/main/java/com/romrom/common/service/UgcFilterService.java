@@ -3,8 +3,10 @@ package com.romrom.common.service;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.romrom.common.exception.UgcProhibitedContentException;
+import com.romrom.common.util.UgcPatternMatcher;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import lombok.RequiredArgsConstructor;
@@ -25,8 +27,9 @@ public class UgcFilterService {
 
   private final SystemConfigCacheService systemConfigCacheService;
 
-  // 두 필드를 불변 record로 묶어 단일 volatile 참조로 관리 → 원자적 캐시 갱신 보장
-  private record CompiledUgcPatternSnapshot(String sourcePatternJson, List<Pattern> compiledPatterns) {}
+  // 세 필드를 불변 record로 묶어 단일 volatile 참조로 관리 → 원자적 캐시 갱신 보장
+  // 설정 스냅샷 버전이 같으면 패턴 JSON 조회/비교 없이 컴파일된 매처를 그대로 사용
+  private record CompiledUgcPatternSnapshot(long configVersion, String sourcePatternJson, UgcPatternMatcher ugcPatternMatcher) {}
 
   private volatile CompiledUgcPatternSnapshot ugcPatternSnapshot = null;
 
@@ -35,18 +38,15 @@ public class UgcFilterService {
       return;
     }
 
-    List<Pattern> compiledPatterns = getCompiledUgcPatterns();
-    if (compiledPatterns.isEmpty()) {
+    UgcPatternMatcher ugcPatternMatcher = getCompiledUgcPatternMatcher();
+    if (ugcPatternMatcher == null) {
       return;
     }
 
-    for (Pattern compiledUgcPattern : compiledPatterns) {
-      java.util.regex.Matcher ugcMatcher = compiledUgcPattern.matcher(ugcText);
-      if (ugcMatcher.find()) {
-        String violatingText = ugcMatcher.group();
-        log.warn("UGC 필터링 위반 감지: field={}, violatingText={}", fieldName, violatingText);
-        throw new UgcProhibitedContentException(violatingText, fieldName);
-      }
+    String violatingText = ugcPatternMatcher.findFirst(ugcText);
+    if (violatingText != null) {
+      log.warn("UGC 필터링 위반 감지: field={}, violatingText={}", fieldName, violatingText);
+      throw new UgcProhibitedContentException(violatingText, fieldName);
     }
   }
 
@@ -58,13 +58,8 @@ public class UgcFilterService {
       return false;
     }
 
-    List<Pattern> compiledPatterns = getCompiledUgcPatterns();
-    for (Pattern compiledUgcPattern : compiledPatterns) {
-      if (compiledUgcPattern.matcher(ugcText).find()) {
-        return true;
-      }
-    }
-    return false;
+    UgcPatternMatcher ugcPatternMatcher = getCompiledUgcPatternMatcher();
+    return ugcPatternMatcher != null && ugcPatternMatcher.findFirst(ugcText) != null;
   }
 
   public void invalidateCompiledPatternCache() {
@@ -72,16 +67,22 @@ public class UgcFilterService {
     log.info("UGC 필터 인메모리 패턴 캐시 초기화 완료");
   }
 
-  private List<Pattern> getCompiledUgcPatterns() {
-    String rawUgcPatternJson = systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY);
-
-    if (rawUgcPatternJson == null) {
-      return List.of();
+  private UgcPatternMatcher getCompiledUgcPatternMatcher() {
+    long configVersion = systemConfigCacheService.getVersion();
+    CompiledUgcPatternSnapshot currentSnapshot = this.ugcPatternSnapshot;
+    if (currentSnapshot != null && currentSnapshot.configVersion() == configVersion) {
+      return currentSnapshot.ugcPatternMatcher();
     }
 
-    CompiledUgcPatternSnapshot currentSnapshot = this.ugcPatternSnapshot;
-    if (currentSnapshot != null && rawUgcPatternJson.equals(currentSnapshot.sourcePatternJson())) {
-      return currentSnapshot.compiledPatterns();
+    String rawUgcPatternJson = systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY);
+    // 다른 설정만 바뀐 경우: 패턴은 그대로이므로 버전만 갱신
+    if (currentSnapshot != null && Objects.equals(rawUgcPatternJson, currentSnapshot.sourcePatternJson())) {
+      this.ugcPatternSnapshot = new CompiledUgcPatternSnapshot(configVersion, rawUgcPatternJson, currentSnapshot.ugcPatternMatcher());
+      return currentSnapshot.ugcPatternMatcher();
+    }
+    if (rawUgcPatternJson == null) {
+      this.ugcPatternSnapshot = new CompiledUgcPatternSnapshot(configVersion, null, null);
+      return null;
     }
 
     List<String> ugcPatternStrings;
@@ -89,19 +90,27 @@ public class UgcFilterService {
       ugcPatternStrings = UGC_OBJECT_MAPPER.readValue(rawUgcPatternJson, STRING_LIST_TYPE_REFERENCE);
     } catch (Exception e) {
       log.warn("UGC 필터 패턴 JSON 파싱 실패: {}", e.getMessage());
-      return List.of();
+      // 같은 JSON 을 매 호출 다시 파싱하지 않도록 빈 매처로 기록 (패턴이 바뀌면 재시도)
+      this.ugcPatternSnapshot = new CompiledUgcPatternSnapshot(configVersion, rawUgcPatternJson, null);
+      return null;
     }
 
-    List<Pattern> newCompiledUgcPatterns = new ArrayList<>();
+    List<String> validUgcPatternStrings = new ArrayList<>();
     for (String ugcPatternString : ugcPatternStrings) {
       try {
-        newCompiledUgcPatterns.add(Pattern.compile(ugcPatternString, Pattern.CASE_INSENSITIVE));
+        Pattern.compile(ugcPatternString, Pattern.CASE_INSENSITIVE);
+        validUgcPatternStrings.add(ugcPatternString);
       } catch (PatternSyntaxException e) {
         log.warn("UGC 필터 패턴 컴파일 실패 (건너뜀): pattern={}, error={}", ugcPatternString, e.getMessage());
       }
     }
 
-    this.ugcPatternSnapshot = new CompiledUgcPatternSnapshot(rawUgcPatternJson, newCompiledUgcPatterns);
-    return newCompiledUgcPatterns;
+    UgcPatternMatcher newUgcPatternMatcher = validUgcPatternStrings.isEmpty() ? null : UgcPatternMatcher.compile(validUgcPatternStrings);
+    this.ugcPatternSnapshot = new CompiledUgcPatternSnapshot(configVersion, rawUgcPatternJson, newUgcPatternMatcher);
+    if (newUgcPatternMatcher != null) {
+      log.info("UGC 필터 패턴 컴파일 완료: 패턴 {}개 (리터럴 {}개, 정규식 분기 {}개)",
+          validUgcPatternStrings.size(), newUgcPatternMatcher.getLiteralCount(), newUgcPatternMatcher.getRegexBranchCount());
+    }
+    return newUgcPatternMatcher;
   }
 }
@@ -0,0 +1,102 @@
+package com.romrom.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 고정 크기 Bloom filter
+ * - mightContain 이 false 면 "확실히 없음", true 면 "있을 수도 있음" (오탐률은 생성 시 지정)
+ * - 삭제는 지원하지 않으므로, 삭제가 필요한 용도는 새 필터를 만들어 교체한다
+ * - 비트는 AtomicLongArray 에 저장해 동시 put/mightContain 에 별도 잠금이 필요 없다
+ */
+public class BloomFilter {
+
+  private final AtomicLongArray bits;
+  private final long bitCount;
+  private final int hashCount;
+
+  /**
+   * @param expectedInsertions 예상 원소 수
+   * @param falsePositiveRate  목표 오탐률 (0 ~ 1)
+   */
+  public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+    long n = Math.max(1L, expectedInsertions);
+    double p = Math.min(0.5, Math.max(1e-9, falsePositiveRate));
+    long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+    int words = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1L, (m + 63) / 64));
+    this.bits = new AtomicLongArray(words);
+    this.bitCount = (long) words * 64;
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+  }
+
+  public void put(UUID key) {
+    put(key.getMostSignificantBits(), key.getLeastSignificantBits());
+  }
+
+  public boolean mightContain(UUID key) {
+    return mightContain(key.getMostSignificantBits(), key.getLeastSignificantBits());
+  }
+
+  public void put(String key) {
+    long[] hash = hash(key);
+    put(hash[0], hash[1]);
+  }
+
+  public boolean mightContain(String key) {
+    long[] hash = hash(key);
+    return mightContain(hash[0], hash[1]);
+  }
+
+  /**
+   * 비트 배열 크기 (바이트)
+   */
+  public long sizeInBytes() {
+    return bitCount / 8;
+  }
+
+  private void put(long high, long low) {
+    long h1 = mix64(high ^ low);
+    long h2 = mix64(low + 0x9E3779B97F4A7C15L) | 1L;
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      int word = (int) (index >>> 6);
+      long mask = 1L << index;
+      long current;
+      while (((current = bits.get(word)) & mask) == 0
+          && !bits.compareAndSet(word, current, current | mask)) {
+        // 다른 스레드가 같은 word 를 갱신한 경우 재시도
+      }
+    }
+  }
+
+  private boolean mightContain(long high, long low) {
+    long h1 = mix64(high ^ low);
+    long h2 = mix64(low + 0x9E3779B97F4A7C15L) | 1L;
+    for (int i = 0; i < hashCount; i++) {
+      long index = Math.floorMod(h1 + i * h2, bitCount);
+      if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 문자열 키 → 128비트 (FNV-1a 64 두 갈래)
+  private static long[] hash(String key) {
+    long first = 0xcbf29ce484222325L;
+    long second = 0x84222325cbf29ce4L;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      first = (first ^ (b & 0xff)) * 0x100000001b3L;
+      second = (second ^ (b & 0xff)) * 0x100000001b3L + 0x7fL;
+    }
+    return new long[]{first, second};
+  }
+
+  // SplitMix64 finalizer
+  private static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
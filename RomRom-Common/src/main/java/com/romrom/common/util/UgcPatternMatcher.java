@@ -0,0 +1,458 @@
+package com.romrom.common.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * UGC 금칙어 정규식 목록을 한 번에 검사하도록 미리 컴파일한 매처.
+ *
+ * <p>각 패턴을 최상위 | 기준으로 나눈 뒤
+ * <ul>
+ *   <li>메타 문자가 없는 리터럴 분기는 하나의 Aho-Corasick 오토마톤으로 묶어 본문을 한 번만 훑고</li>
+ *   <li>정규식 분기는 첫 글자별로 묶은 결합 정규식을 만들어, 본문에서 그 글자가 나온 위치에서만 시도한다
+ *       (첫 글자를 알 수 없는 분기는 하나의 결합 정규식으로 한 번 탐색)</li>
+ *   <li>역참조, 인라인 플래그 등 분리하면 의미가 바뀌는 패턴은 기존처럼 단독으로 검사한다</li>
+ * </ul>
+ * 모든 패턴은 기존과 같이 {@link Pattern#CASE_INSENSITIVE}(ASCII 대소문자만 무시)로 해석하며,
+ * "어떤 패턴이라도 본문에서 find 되는가"의 판정 결과는 패턴을 하나씩 돌리던 방식과 같다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 공유해도 된다.
+ */
+public final class UgcPatternMatcher {
+
+  private static final int FLAGS = Pattern.CASE_INSENSITIVE;
+  private static final String REGEX_META_CHARACTERS = "\\^$.|?*+()[]{}";
+  // 문자 클래스 범위가 이보다 넓으면(ex. [가-힣]) 첫 글자 색인을 포기하고 결합 정규식으로 처리
+  private static final int MAX_INDEXED_RANGE = 256;
+
+  private final LiteralAutomaton literalAutomaton;
+  // 첫 글자(char) → 그 글자로 시작할 수 있는 정규식 분기들의 결합 정규식
+  private final Pattern[] regexByFirstChar;
+  private final Pattern unindexedRegex;
+  private final List<Pattern> standalonePatterns;
+  private final int literalCount;
+  private final int regexBranchCount;
+
+  private UgcPatternMatcher(Collection<String> patterns) {
+    List<String> literals = new ArrayList<>();
+    List<String> regexBranches = new ArrayList<>();
+    List<Pattern> standalone = new ArrayList<>();
+    for (String pattern : patterns) {
+      List<String> branches = splitTopLevelBranches(pattern);
+      if (branches == null) {
+        standalone.add(Pattern.compile(pattern, FLAGS));
+        continue;
+      }
+      for (String branch : branches) {
+        String literal = toLiteral(branch);
+        if (literal != null) {
+          literals.add(literal);
+        } else {
+          regexBranches.add(branch);
+        }
+      }
+    }
+
+    Map<Character, List<String>> branchesByFirstChar = new TreeMap<>();
+    List<String> unindexedBranches = new ArrayList<>();
+    for (String branch : new LinkedHashSet<>(regexBranches)) {
+      Set<Character> firstChars = firstChars(branch);
+      if (firstChars == null) {
+        unindexedBranches.add(branch);
+      } else {
+        firstChars.forEach(firstChar -> branchesByFirstChar.computeIfAbsent(firstChar, ignored -> new ArrayList<>()).add(branch));
+      }
+    }
+
+    Pattern[] dispatch = null;
+    if (!branchesByFirstChar.isEmpty()) {
+      dispatch = new Pattern[Character.MAX_VALUE + 1];
+      // 같은 분기 묶음(ex. [시씨씌...] 로 시작하는 분기)은 결합 정규식 하나를 공유
+      Map<List<String>, Pattern> combinedByBranches = new HashMap<>();
+      for (Map.Entry<Character, List<String>> entry : branchesByFirstChar.entrySet()) {
+        dispatch[entry.getKey()] = combinedByBranches.computeIfAbsent(entry.getValue(), UgcPatternMatcher::combine);
+      }
+    }
+
+    this.literalAutomaton = literals.isEmpty() ? null : new LiteralAutomaton(literals);
+    this.regexByFirstChar = dispatch;
+    this.unindexedRegex = unindexedBranches.isEmpty() ? null : combine(unindexedBranches);
+    this.standalonePatterns = List.copyOf(standalone);
+    this.literalCount = literals.size();
+    this.regexBranchCount = regexBranches.size() + standalone.size();
+  }
+
+  /**
+   * 정규식 패턴 목록을 하나의 매처로 컴파일 (패턴 변경 시에만)
+   *
+   * @param patterns 각각 {@link Pattern#compile(String)} 가능한 정규식 (호출 측에서 검증)
+   */
+  public static UgcPatternMatcher compile(Collection<String> patterns) {
+    return new UgcPatternMatcher(patterns);
+  }
+
+  public int getLiteralCount() {
+    return literalCount;
+  }
+
+  public int getRegexBranchCount() {
+    return regexBranchCount;
+  }
+
+  /**
+   * 본문에서 금칙 패턴에 걸리는 첫 구간을 찾는다
+   *
+   * @return 위반 문자열, 없으면 null
+   */
+  public String findFirst(String text) {
+    if (text == null || text.isEmpty()) {
+      return null;
+    }
+    if (literalAutomaton != null) {
+      String literalMatch = literalAutomaton.findFirst(text);
+      if (literalMatch != null) {
+        return literalMatch;
+      }
+    }
+    if (regexByFirstChar != null) {
+      Matcher matcher = null;
+      Pattern matcherPattern = null;
+      for (int index = 0; index < text.length(); index++) {
+        Pattern candidate = regexByFirstChar[text.charAt(index)];
+        if (candidate == null) {
+          continue;
+        }
+        if (candidate != matcherPattern) {
+          // 경계 밖 문자를 \b 등이 볼 수 있도록 투명 경계, ^ 는 본문 시작에서만 일치하도록 비고정 경계
+          matcher = matcher == null
+              ? candidate.matcher(text).useTransparentBounds(true).useAnchoringBounds(false)
+              : matcher.usePattern(candidate);
+          matcherPattern = candidate;
+        }
+        matcher.region(index, text.length());
+        if (matcher.lookingAt()) {
+          return matcher.group();
+        }
+      }
+    }
+    if (unindexedRegex != null) {
+      Matcher matcher = unindexedRegex.matcher(text);
+      if (matcher.find()) {
+        return matcher.group();
+      }
+    }
+    for (int index = 0; index < standalonePatterns.size(); index++) {
+      Matcher matcher = standalonePatterns.get(index).matcher(text);
+      if (matcher.find()) {
+        return matcher.group();
+      }
+    }
+    return null;
+  }
+
+  private static Pattern combine(List<String> branches) {
+    StringBuilder regex = new StringBuilder();
+    for (String branch : branches) {
+      if (!regex.isEmpty()) {
+        regex.append('|');
+      }
+      regex.append("(?:").append(branch).append(')');
+    }
+    return Pattern.compile(regex.toString(), FLAGS);
+  }
+
+  /**
+   * 최상위 | 로 분기를 나눈다. 분리하거나 다른 패턴과 합치면 의미가 바뀌는 패턴(역참조, 인라인 플래그, 이름 있는 그룹, \Q)은 null
+   */
+  private static List<String> splitTopLevelBranches(String pattern) {
+    List<String> branches = new ArrayList<>();
+    int groupDepth = 0;
+    int classDepth = 0;
+    int branchStart = 0;
+    for (int index = 0; index < pattern.length(); index++) {
+      char current = pattern.charAt(index);
+      if (current == '\\') {
+        if (index + 1 < pattern.length()) {
+          char escaped = pattern.charAt(index + 1);
+          if (escaped == 'Q' || escaped == 'k' || (escaped >= '1' && escaped <= '9')) {
+            return null;
+          }
+        }
+        index++;
+      } else if (classDepth > 0) {
+        if (current == '[') {
+          classDepth++;
+        } else if (current == ']') {
+          classDepth--;
+        }
+      } else if (current == '[') {
+        classDepth = 1;
+      } else if (current == '(') {
+        if (index + 1 < pattern.length() && pattern.charAt(index + 1) == '?' && !isPlainGroupConstruct(pattern, index + 2)) {
+          return null;
+        }
+        groupDepth++;
+      } else if (current == ')') {
+        groupDepth--;
+      } else if (current == '|' && groupDepth == 0) {
+        branches.add(pattern.substring(branchStart, index));
+        branchStart = index + 1;
+      }
+    }
+    branches.add(pattern.substring(branchStart));
+    return branches;
+  }
+
+  // (?: (?= (?! (?<= (?<! (?> 만 허용
+  private static boolean isPlainGroupConstruct(String pattern, int index) {
+    if (index >= pattern.length()) {
+      return false;
+    }
+    char construct = pattern.charAt(index);
+    if (construct == ':' || construct == '=' || construct == '!' || construct == '>') {
+      return true;
+    }
+    return construct == '<' && index + 1 < pattern.length()
+        && (pattern.charAt(index + 1) == '=' || pattern.charAt(index + 1) == '!');
+  }
+
+  /**
+   * 메타 문자 없는 분기면 (이스케이프를 푼) 리터럴 문자열, 아니면 null
+   */
+  private static String toLiteral(String branch) {
+    if (branch.isEmpty()) {
+      return null;
+    }
+    StringBuilder literal = new StringBuilder(branch.length());
+    for (int index = 0; index < branch.length(); index++) {
+      char current = branch.charAt(index);
+      if (current == '\\') {
+        if (index + 1 >= branch.length() || Character.isLetterOrDigit(branch.charAt(index + 1))) {
+          return null;
+        }
+        literal.append(branch.charAt(++index));
+      } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+        return null;
+      } else {
+        literal.append(current);
+      }
+    }
+    return literal.toString();
+  }
+
+  /**
+   * 분기가 일치할 때 첫 글자가 될 수 있는 문자 집합 (대소문자 무시 반영). 알 수 없으면 null
+   */
+  private static Set<Character> firstChars(String branch) {
+    int index = 0;
+    // 폭이 없는 \b, ^ 는 건너뛰고 그 다음 토큰으로 판단
+    while (true) {
+      if (branch.startsWith("\\b", index)) {
+        index += 2;
+      } else if (branch.startsWith("^", index)) {
+        index++;
+      } else {
+        break;
+      }
+    }
+    if (index >= branch.length()) {
+      return null;
+    }
+
+    Set<Character> firstChars = new LinkedHashSet<>();
+    int tokenEnd;
+    char current = branch.charAt(index);
+    if (current == '[') {
+      tokenEnd = parseCharacterClass(branch, index, firstChars);
+    } else if (current == '\\') {
+      if (index + 1 >= branch.length() || Character.isLetterOrDigit(branch.charAt(index + 1))) {
+        return null;
+      }
+      addIgnoringCase(firstChars, branch.charAt(index + 1));
+      tokenEnd = index + 2;
+    } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0 || Character.isSurrogate(current)) {
+      return null;
+    } else {
+      addIgnoringCase(firstChars, current);
+      tokenEnd = index + 1;
+    }
+    if (tokenEnd < 0) {
+      return null;
+    }
+    // 0회 반복이 가능한 토큰이면 다음 글자로 시작할 수도 있다
+    if (tokenEnd < branch.length() && "?*{".indexOf(branch.charAt(tokenEnd)) >= 0) {
+      return null;
+    }
+    return firstChars;
+  }
+
+  /**
+   * 단순 문자 클래스([abc], [a-z], [\-_])의 문자를 모으고 클래스 다음 위치를 반환. 부정/중첩/사전 정의 클래스면 -1
+   */
+  private static int parseCharacterClass(String branch, int openIndex, Set<Character> chars) {
+    int index = openIndex + 1;
+    if (index < branch.length() && branch.charAt(index) == '^') {
+      return -1;
+    }
+    Character previous = null;
+    while (index < branch.length()) {
+      char current = branch.charAt(index);
+      if (current == ']') {
+        return index + 1;
+      }
+      if (current == '[' || current == '&' || Character.isSurrogate(current)) {
+        return -1;
+      }
+      if (current == '\\') {
+        if (index + 1 >= branch.length() || Character.isLetterOrDigit(branch.charAt(index + 1))) {
+          return -1;
+        }
+        current = branch.charAt(++index);
+      } else if (current == '-' && previous != null && index + 1 < branch.length() && branch.charAt(index + 1) != ']') {
+        char rangeEnd = branch.charAt(++index);
+        if (rangeEnd == '\\' || rangeEnd == '[' || rangeEnd - previous > MAX_INDEXED_RANGE) {
+          return -1;
+        }
+        for (int rangeChar = previous; rangeChar <= rangeEnd; rangeChar++) {
+          addIgnoringCase(chars, (char) rangeChar);
+        }
+        previous = null;
+        index++;
+        continue;
+      }
+      addIgnoringCase(chars, current);
+      previous = current;
+      index++;
+    }
+    return -1;
+  }
+
+  private static void addIgnoringCase(Set<Character> chars, char value) {
+    chars.add(value);
+    if (value >= 'a' && value <= 'z') {
+      chars.add((char) (value - 32));
+    } else if (value >= 'A' && value <= 'Z') {
+      chars.add((char) (value + 32));
+    }
+  }
+
+  // CASE_INSENSITIVE(UNICODE_CASE 없음)와 같이 ASCII 대문자만 소문자로 맞춘다
+  private static char foldCase(char value) {
+    return value >= 'A' && value <= 'Z' ? (char) (value + 32) : value;
+  }
+
+  /**
+   * 리터럴 금칙어 Aho-Corasick 오토마톤. 본문을 한 번 훑으며 가장 먼저 끝나는 금칙어를 찾는다.
+   */
+  private static final class LiteralAutomaton {
+
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    // 상태에서 끝나는 금칙어 길이 (실패 링크로 이어지는 짧은 금칙어 포함, 없으면 0)
+    private final int[] matchLength;
+
+    private LiteralAutomaton(List<String> literals) {
+      List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+      List<Integer> terminalLength = new ArrayList<>();
+      transitions.add(new TreeMap<>());
+      terminalLength.add(0);
+      for (String literal : literals) {
+        int state = 0;
+        for (int index = 0; index < literal.length(); index++) {
+          char label = foldCase(literal.charAt(index));
+          Integer next = transitions.get(state).get(label);
+          if (next == null) {
+            next = transitions.size();
+            transitions.add(new TreeMap<>());
+            terminalLength.add(0);
+            transitions.get(state).put(label, next);
+          }
+          state = next;
+        }
+        int existing = terminalLength.get(state);
+        terminalLength.set(state, existing == 0 ? literal.length() : Math.min(existing, literal.length()));
+      }
+
+      int stateCount = transitions.size();
+      this.labels = new char[stateCount][];
+      this.targets = new int[stateCount][];
+      this.failure = new int[stateCount];
+      this.matchLength = new int[stateCount];
+      for (int state = 0; state < stateCount; state++) {
+        TreeMap<Character, Integer> stateTransitions = transitions.get(state);
+        labels[state] = new char[stateTransitions.size()];
+        targets[state] = new int[stateTransitions.size()];
+        int position = 0;
+        for (Map.Entry<Character, Integer> entry : stateTransitions.entrySet()) {
+          labels[state][position] = entry.getKey();
+          targets[state][position++] = entry.getValue();
+        }
+      }
+
+      // 얕은 상태부터 실패 링크 계산 (BFS)
+      Queue<Integer> queue = new ArrayDeque<>();
+      for (int child : targets[0]) {
+        queue.add(child);
+        matchLength[child] = terminalLength.get(child);
+      }
+      while (!queue.isEmpty()) {
+        int state = queue.poll();
+        for (int position = 0; position < labels[state].length; position++) {
+          char label = labels[state][position];
+          int child = targets[state][position];
+          int fallback = failure[state];
+          int fallbackNext;
+          while ((fallbackNext = next(fallback, label)) < 0 && fallback != 0) {
+            fallback = failure[fallback];
+          }
+          failure[child] = Math.max(fallbackNext, 0);
+          matchLength[child] = terminalLength.get(child) > 0 ? terminalLength.get(child) : matchLength[failure[child]];
+          queue.add(child);
+        }
+      }
+    }
+
+    private String findFirst(String text) {
+      int state = 0;
+      for (int index = 0; index < text.length(); index++) {
+        char label = foldCase(text.charAt(index));
+        int nextState;
+        while ((nextState = next(state, label)) < 0 && state != 0) {
+          state = failure[state];
+        }
+        state = Math.max(nextState, 0);
+        if (matchLength[state] > 0) {
+          return text.substring(index + 1 - matchLength[state], index + 1);
+        }
+      }
+      return null;
+    }
+
+    private int next(int state, char label) {
+      char[] stateLabels = labels[state];
+      int low = 0;
+      int high = stateLabels.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        if (stateLabels[mid] < label) {
+          low = mid + 1;
+        } else if (stateLabels[mid] > label) {
+          high = mid - 1;
+        } else {
+          return targets[state][mid];
+        }
+      }
+      return -1;
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.romrom.common.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.common.util.InMemoryRedis;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ZSetOperations;
+
+/**
+ * OnlinePresenceService heartbeat 합산/배치 반영 테스트 (실제 Redis 미접근).
+ * InMemoryRedis 로 Redis 명령 수와 왕복(파이프라인은 1회) 수를 센다.
+ * 기존 방식(요청마다 ZADD, 조회마다 ZREMRANGEBYSCORE + ZCARD)과 5k RPS 부하에서의 초당 Redis 명령 수를 비교한다.
+ */
+@Slf4j
+class OnlinePresenceBatchingTest {
+
+  private static final String ONLINE_PRESENCE_KEY = "online:members";
+  private static final long ONLINE_WINDOW_MILLIS = 5 * 60 * 1000L;
+
+  // 부하 시나리오: 초당 5,000 인증 요청, 활성 회원 3,000명, 대시보드는 10초마다 동접 조회
+  private static final int REQUESTS_PER_SECOND = 5_000;
+  private static final int ACTIVE_MEMBER_COUNT = 3_000;
+  private static final int SIMULATED_SECONDS = 60;
+  private static final int DASHBOARD_READ_INTERVAL_SECONDS = 10;
+  private static final int TRIM_INTERVAL_SECONDS = 60;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::동일회원_heartbeat_합산후_한번에_반영_테스트);
+    lineLog(null);
+    timeLog(this::반영_실패시_보존후_재시도_테스트);
+    lineLog(null);
+    timeLog(this::청소는_주기작업_조회는_ZCOUNT_한번_테스트);
+    lineLog(null);
+    timeLog(this::동시_heartbeat_반영중_유실없음_테스트);
+    lineLog(null);
+    timeLog(this::초당_5천요청_Redis_명령수_비교_부하테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 동일회원_heartbeat_합산후_한번에_반영_테스트() {
+    InMemoryRedis redis = new InMemoryRedis();
+    OnlinePresenceService service = new OnlinePresenceService(redis.template());
+    UUID memberId = UUID.randomUUID();
+    UUID otherMemberId = UUID.randomUUID();
+    long now = System.currentTimeMillis();
+
+    service.recordHeartbeat(memberId, now + 2_000);
+    service.recordHeartbeat(memberId, now);
+    service.recordHeartbeat(memberId, now + 1_000);
+    service.recordHeartbeat(otherMemberId, now);
+    service.recordHeartbeat(null, now);
+    assertEquals(0, redis.commandCount(), "heartbeat 기록은 Redis에 접근하지 않아야 한다");
+
+    service.flushHeartbeats();
+
+    assertEquals(1, redis.commandCount(), "모은 heartbeat 는 ZADD 한 번으로 반영되어야 한다");
+    assertEquals(1, redis.roundTripCount());
+    assertEquals(now + 2_000, score(redis, memberId), "회원당 가장 최근 활동 시각이 반영되어야 한다");
+    assertEquals(now, score(redis, otherMemberId));
+
+    // 반영할 것이 없으면 명령도 없음
+    service.flushHeartbeats();
+    assertEquals(1, redis.commandCount());
+  }
+
+  public void 반영_실패시_보존후_재시도_테스트() {
+    InMemoryRedis redis = new InMemoryRedis();
+    OnlinePresenceService service = new OnlinePresenceService(redis.template());
+    UUID memberId = UUID.randomUUID();
+    long now = System.currentTimeMillis();
+
+    service.recordHeartbeat(memberId, now);
+    redis.setFailWrites(true);
+    service.flushHeartbeats();
+    assertTrue(redis.sortedSet(ONLINE_PRESENCE_KEY).isEmpty());
+
+    // 실패 후 들어온 더 오래된 heartbeat 가 보존된 최신 값을 덮어쓰지 않아야 한다
+    service.recordHeartbeat(memberId, now - 10_000);
+    redis.setFailWrites(false);
+    service.flushHeartbeats();
+    assertEquals(now, score(redis, memberId));
+  }
+
+  public void 청소는_주기작업_조회는_ZCOUNT_한번_테스트() {
+    InMemoryRedis redis = new InMemoryRedis();
+    OnlinePresenceService service = new OnlinePresenceService(redis.template());
+    long now = System.currentTimeMillis();
+    service.recordHeartbeat(UUID.randomUUID(), now - ONLINE_WINDOW_MILLIS - 1_000);
+    service.recordHeartbeat(UUID.randomUUID(), now - ONLINE_WINDOW_MILLIS);
+    service.recordHeartbeat(UUID.randomUUID(), now);
+    service.flushHeartbeats();
+
+    int commandsBefore = redis.commandCount();
+    assertEquals(2L, service.countOnlineMembers(now), "윈도우 경계 시각의 회원은 온라인으로 본다 (기존 청소 경계와 동일)");
+    assertEquals(commandsBefore + 1, redis.commandCount(), "동접 조회는 Redis 명령 한 번이어야 한다");
+    assertEquals(3, redis.sortedSet(ONLINE_PRESENCE_KEY).size(), "조회는 Sorted Set 을 변경하지 않는다");
+
+    service.trimStaleMembers(now);
+    assertEquals(2, redis.sortedSet(ONLINE_PRESENCE_KEY).size(), "청소 주기 작업이 stale 멤버를 물리적으로 제거해야 한다");
+    assertEquals(2L, service.countOnlineMembers(now));
+  }
+
+  public void 동시_heartbeat_반영중_유실없음_테스트() {
+    InMemoryRedis redis = new InMemoryRedis();
+    OnlinePresenceService service = new OnlinePresenceService(redis.template());
+    int threadCount = 16;
+    int heartbeatsPerThread = 5_000;
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      members.add(UUID.randomUUID());
+    }
+    Map<UUID, Long> expectedLastSeen = new ConcurrentHashMap<>();
+
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread flusher = new Thread(() -> {
+      while (running.get()) {
+        service.flushHeartbeats();
+      }
+    });
+    flusher.start();
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch done = new CountDownLatch(threadCount);
+    AtomicInteger clock = new AtomicInteger();
+    for (int thread = 0; thread < threadCount; thread++) {
+      int seed = thread;
+      executor.execute(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < heartbeatsPerThread; i++) {
+          UUID memberId = members.get(random.nextInt(members.size()));
+          long seenAt = clock.incrementAndGet();
+          service.recordHeartbeat(memberId, seenAt);
+          expectedLastSeen.merge(memberId, seenAt, Math::max);
+        }
+        done.countDown();
+      });
+    }
+    try {
+      assertTrue(done.await(30, TimeUnit.SECONDS));
+      running.set(false);
+      flusher.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    } finally {
+      executor.shutdownNow();
+    }
+    service.flushHeartbeats();
+
+    expectedLastSeen.forEach((memberId, lastSeen) ->
+        assertEquals(lastSeen, score(redis, memberId), "반영 중 들어온 heartbeat 도 유실되지 않아야 한다"));
+    lineLog("heartbeat " + threadCount * heartbeatsPerThread + "건 → ZADD " + redis.commandCount() + "회");
+  }
+
+  public void 초당_5천요청_Redis_명령수_비교_부하테스트() {
+    Random random = new Random(24L);
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < ACTIVE_MEMBER_COUNT; i++) {
+      members.add(UUID.randomUUID());
+    }
+    long startEpochMilli = System.currentTimeMillis();
+
+    // 1) 기존 방식: 요청마다 ZADD, 조회마다 ZREMRANGEBYSCORE + ZCARD
+    InMemoryRedis legacyRedis = new InMemoryRedis();
+    ZSetOperations<String, Object> legacyZSet = legacyRedis.template().opsForZSet();
+    long legacyLastCount = 0;
+    for (int second = 0; second < SIMULATED_SECONDS; second++) {
+      long secondStart = startEpochMilli + second * 1_000L;
+      for (int request = 0; request < REQUESTS_PER_SECOND; request++) {
+        UUID memberId = members.get(random.nextInt(ACTIVE_MEMBER_COUNT));
+        legacyZSet.add(ONLINE_PRESENCE_KEY, memberId.toString(), secondStart + request / 5);
+      }
+      if ((second + 1) % DASHBOARD_READ_INTERVAL_SECONDS == 0) {
+        long now = secondStart + 999;
+        legacyZSet.removeRangeByScore(ONLINE_PRESENCE_KEY, 0, (double) now - ONLINE_WINDOW_MILLIS - 1);
+        legacyLastCount = legacyZSet.zCard(ONLINE_PRESENCE_KEY);
+      }
+    }
+
+    // 2) 합산 + 1초 배치 반영 + 주기 청소 + ZCOUNT 조회
+    random = new Random(24L);
+    InMemoryRedis batchedRedis = new InMemoryRedis();
+    OnlinePresenceService service = new OnlinePresenceService(batchedRedis.template());
+    long batchedLastCount = 0;
+    long hotPathStartNanos = System.nanoTime();
+    long hotPathNanos = 0;
+    for (int second = 0; second < SIMULATED_SECONDS; second++) {
+      long secondStart = startEpochMilli + second * 1_000L;
+      long requestStartNanos = System.nanoTime();
+      for (int request = 0; request < REQUESTS_PER_SECOND; request++) {
+        UUID memberId = members.get(random.nextInt(ACTIVE_MEMBER_COUNT));
+        service.recordHeartbeat(memberId, secondStart + request / 5);
+      }
+      hotPathNanos += System.nanoTime() - requestStartNanos;
+      service.flushHeartbeats();
+      if ((second + 1) % TRIM_INTERVAL_SECONDS == 0) {
+        service.trimStaleMembers(secondStart + 999);
+      }
+      if ((second + 1) % DASHBOARD_READ_INTERVAL_SECONDS == 0) {
+        batchedLastCount = service.countOnlineMembers(secondStart + 999);
+      }
+    }
+    long totalNanos = System.nanoTime() - hotPathStartNanos;
+
+    double legacyCommandsPerSecond = (double) legacyRedis.commandCount() / SIMULATED_SECONDS;
+    double batchedCommandsPerSecond = (double) batchedRedis.commandCount() / SIMULATED_SECONDS;
+    double batchedRoundTripsPerSecond = (double) batchedRedis.roundTripCount() / SIMULATED_SECONDS;
+    lineLog("동접 heartbeat 부하 (" + REQUESTS_PER_SECOND + " RPS x " + SIMULATED_SECONDS + "초, 활성 회원 "
+        + ACTIVE_MEMBER_COUNT + "명, 대시보드 " + DASHBOARD_READ_INTERVAL_SECONDS + "초마다 조회)");
+    lineLog(String.format("기존: Redis 명령 %.1f/s (요청마다 ZADD)", legacyCommandsPerSecond));
+    lineLog(String.format("배치: Redis 명령 %.1f/s, 왕복 %.1f/s (1초마다 ZADD 파이프라인 1회), heartbeat 기록 평균 %dns",
+        batchedCommandsPerSecond, batchedRoundTripsPerSecond,
+        hotPathNanos / ((long) REQUESTS_PER_SECOND * SIMULATED_SECONDS)));
+    lineLog("부하 시뮬레이션 전체 " + TimeUnit.NANOSECONDS.toMillis(totalNanos) + "ms");
+
+    assertEquals(legacyLastCount, batchedLastCount, "배치 반영 후 동접 수는 기존 방식과 같아야 한다");
+    assertEquals(legacyRedis.sortedSet(ONLINE_PRESENCE_KEY), batchedRedis.sortedSet(ONLINE_PRESENCE_KEY), "Sorted Set 내용(회원별 마지막 활동 시각)이 같아야 한다");
+    // 활성 회원 3,000명 → 1,000명씩 ZADD 3개를 파이프라인 1회로 전송
+    assertTrue(batchedCommandsPerSecond <= 4.0, "배치 반영 후 초당 Redis 명령은 회원 1,000명당 ZADD 1개 수준이어야 한다");
+    assertTrue(batchedRoundTripsPerSecond <= 1.2, "배치 반영 후 초당 Redis 왕복은 반영 1회 + 조회/청소 수준이어야 한다");
+    assertTrue(legacyCommandsPerSecond >= REQUESTS_PER_SECOND);
+  }
+
+  private static Long score(InMemoryRedis redis, UUID memberId) {
+    Double score = redis.score(ONLINE_PRESENCE_KEY, memberId.toString());
+    return score != null ? score.longValue() : null;
+  }
+}
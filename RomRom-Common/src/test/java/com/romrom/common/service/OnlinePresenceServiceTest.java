@@ -17,7 +17,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 /**
  * OnlinePresenceService 통합 테스트 (실제 Redis 연결).
- * heartbeat 기록 → 동접 카운트 → 윈도우 만료 청소 동작을 검증한다.
+ * heartbeat 기록 → 배치 반영 → 동접 카운트 → 윈도우 만료 청소 동작을 검증한다.
  */
 @SpringBootTest(classes = RomBackApplication.class)
 @ActiveProfiles("dev")
@@ -42,7 +42,7 @@ class OnlinePresenceServiceTest {
     lineLog(null);
     timeLog(this::동일회원_여러번_heartbeat시_카운트_1_테스트);
     lineLog(null);
-    timeLog(this::윈도우초과_회원은_조회시_청소되어_제외_테스트);
+    timeLog(this::윈도우초과_회원은_조회에서_제외되고_청소작업으로_제거_테스트);
     lineLog(null);
 
     lineLog("테스트종료");
@@ -61,6 +61,7 @@ class OnlinePresenceServiceTest {
 
     UUID memberId = UUID.randomUUID();
     onlinePresenceService.recordHeartbeat(memberId, now);
+    onlinePresenceService.flushHeartbeats();
 
     long onlineMemberCount = onlinePresenceService.countOnlineMembers(now);
     superLog(onlineMemberCount);
@@ -76,13 +77,14 @@ class OnlinePresenceServiceTest {
     onlinePresenceService.recordHeartbeat(memberId, now);
     onlinePresenceService.recordHeartbeat(memberId, now + 1000);
     onlinePresenceService.recordHeartbeat(memberId, now + 2000);
+    onlinePresenceService.flushHeartbeats();
 
     long onlineMemberCount = onlinePresenceService.countOnlineMembers(now + 2000);
     superLog(onlineMemberCount);
     assertEquals(1L, onlineMemberCount, "동일 회원의 반복 heartbeat는 1명으로 집계되어야 한다");
   }
 
-  void 윈도우초과_회원은_조회시_청소되어_제외_테스트() {
+  void 윈도우초과_회원은_조회에서_제외되고_청소작업으로_제거_테스트() {
     clearPresenceKey();
     long now = System.currentTimeMillis();
 
@@ -91,15 +93,17 @@ class OnlinePresenceServiceTest {
 
     onlinePresenceService.recordHeartbeat(staleMemberId, now - ONLINE_WINDOW_MILLIS - 1000);
     onlinePresenceService.recordHeartbeat(activeMemberId, now);
+    onlinePresenceService.flushHeartbeats();
 
     long onlineMemberCount = onlinePresenceService.countOnlineMembers(now);
     superLog(onlineMemberCount);
-    assertEquals(1L, onlineMemberCount, "윈도우 초과 회원은 청소되어 활성 회원 1명만 남아야 한다");
+    assertEquals(1L, onlineMemberCount, "윈도우 초과 회원은 제외되어 활성 회원 1명만 집계되어야 한다");
 
-    // 청소가 실제로 일어나 stale 멤버가 Set에서 제거됐는지 직접 확인
+    // 청소 주기 작업 후 stale 멤버가 Set에서 제거됐는지 직접 확인
+    onlinePresenceService.trimStaleMembers(now);
     Long remainingCount = redisTemplate.opsForZSet().zCard(ONLINE_PRESENCE_KEY);
     assertTrue(remainingCount != null && remainingCount == 1L,
-        "조회 시 ZREMRANGEBYSCORE로 stale 멤버가 물리적으로 청소되어야 한다");
+        "청소 작업의 ZREMRANGEBYSCORE로 stale 멤버가 물리적으로 청소되어야 한다");
 
     clearPresenceKey();
   }
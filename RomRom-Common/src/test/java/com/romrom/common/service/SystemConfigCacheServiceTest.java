@@ -0,0 +1,137 @@
+package com.romrom.common.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.romrom.common.util.InMemoryRedis;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SystemConfigCacheService 로컬 스냅샷 테스트 (실제 Redis 미접근).
+ * 두 인스턴스가 InMemoryRedis 하나를 공유하도록 구성해
+ * 읽기당 Redis 왕복 수(기존 매 호출 HGET 대비)와 관리자 변경 후 다른 인스턴스의 반영 지연 상한을 검증한다.
+ */
+@Slf4j
+class SystemConfigCacheServiceTest {
+
+  // 같은 VPC 내 Redis 왕복 근사값
+  private static final long FAKE_REDIS_LATENCY_NANOS = 100_000L;
+  private static final int READ_COUNT = 2_000;
+  private static final String CACHE_KEY = "system:config";
+  private static final String MAINTENANCE_KEY = "server.maintenance.enabled";
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::스냅샷_적재후_조회는_Redis_왕복없음_테스트);
+    lineLog(null);
+    timeLog(this::관리자_변경시_다른인스턴스_즉시반영_테스트);
+    lineLog(null);
+    timeLog(this::알림유실시_버전폴링으로_반영_테스트);
+    lineLog(null);
+    timeLog(this::스냅샷_사용전후_읽기_Redis_왕복수_비교_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 스냅샷_적재후_조회는_Redis_왕복없음_테스트() {
+    InMemoryRedis redis = newRedis();
+    redis.hash(CACHE_KEY).put(MAINTENANCE_KEY, "false");
+    redis.hash(CACHE_KEY).put("ai.model", "gemini");
+    redis.hash(CACHE_KEY).put("ai.temperature", "0.2");
+    SystemConfigCacheService node = newNode(redis);
+
+    for (int i = 0; i < 100; i++) {
+      assertEquals("false", node.getOrDefault(MAINTENANCE_KEY, "true"));
+    }
+    assertEquals(2, node.getByPrefix("ai.").size());
+    assertEquals("fallback", node.getOrDefault("missing.key", "fallback"));
+
+    // 최초 1회 스냅샷 적재(버전 GET + HGETALL)만 Redis에 접근
+    assertEquals(2, redis.roundTripCount(), "스냅샷 적재 이후 조회는 Redis에 접근하지 않아야 한다");
+  }
+
+  public void 관리자_변경시_다른인스턴스_즉시반영_테스트() {
+    InMemoryRedis redis = newRedis();
+    redis.hash(CACHE_KEY).put(MAINTENANCE_KEY, "false");
+    SystemConfigCacheService adminNode = newNode(redis);
+    SystemConfigCacheService apiNode = newNode(redis);
+    assertEquals("false", apiNode.get(MAINTENANCE_KEY));
+
+    adminNode.put(MAINTENANCE_KEY, "true");
+
+    assertEquals("true", adminNode.get(MAINTENANCE_KEY), "쓰기 인스턴스는 즉시 자신의 변경을 읽어야 한다");
+    assertEquals("true", apiNode.get(MAINTENANCE_KEY), "변경 알림 수신 후 다른 인스턴스도 새 값을 읽어야 한다");
+
+    adminNode.clearAll();
+    assertEquals(null, apiNode.get(MAINTENANCE_KEY));
+  }
+
+  public void 알림유실시_버전폴링으로_반영_테스트() {
+    InMemoryRedis redis = newRedis();
+    redis.hash(CACHE_KEY).put(MAINTENANCE_KEY, "false");
+    SystemConfigCacheService adminNode = newNode(redis);
+    SystemConfigCacheService apiNode = newNode(redis);
+    assertEquals("false", apiNode.get(MAINTENANCE_KEY));
+
+    redis.setDropMessages(true);
+    adminNode.put(MAINTENANCE_KEY, "true");
+    assertEquals("false", apiNode.get(MAINTENANCE_KEY), "알림이 유실되면 폴링 전까지는 이전 스냅샷을 읽는다");
+
+    // 지연 상한 = 폴링 주기: 다음 폴링 1회로 반드시 반영
+    apiNode.pollVersion();
+    assertEquals("true", apiNode.get(MAINTENANCE_KEY));
+
+    // 버전이 같으면 폴링은 버전 GET 1회만 수행
+    int roundTripsBefore = redis.roundTripCount();
+    apiNode.pollVersion();
+    assertEquals(roundTripsBefore + 1, redis.roundTripCount());
+  }
+
+  public void 스냅샷_사용전후_읽기_Redis_왕복수_비교_테스트() {
+    InMemoryRedis redis = newRedis();
+    redis.hash(CACHE_KEY).put(MAINTENANCE_KEY, "false");
+    SystemConfigCacheService node = newNode(redis);
+    node.get(MAINTENANCE_KEY);
+
+    // 기존 동작: 매 호출 HGET
+    int roundTripsBefore = redis.roundTripCount();
+    long legacyStartNanos = System.nanoTime();
+    for (int i = 0; i < READ_COUNT; i++) {
+      redis.template().opsForHash().get(CACHE_KEY, MAINTENANCE_KEY);
+    }
+    long legacyNanos = System.nanoTime() - legacyStartNanos;
+    int legacyRoundTrips = redis.roundTripCount() - roundTripsBefore;
+
+    roundTripsBefore = redis.roundTripCount();
+    long snapshotStartNanos = System.nanoTime();
+    for (int i = 0; i < READ_COUNT; i++) {
+      node.get(MAINTENANCE_KEY);
+    }
+    long snapshotNanos = System.nanoTime() - snapshotStartNanos;
+    int snapshotRoundTrips = redis.roundTripCount() - roundTripsBefore;
+
+    long legacyOpsPerSecond = READ_COUNT * 1_000_000_000L / Math.max(legacyNanos, 1L);
+    long snapshotOpsPerSecond = READ_COUNT * 1_000_000_000L / Math.max(snapshotNanos, 1L);
+    lineLog("시스템 설정 읽기 벤치마크 (조회 " + READ_COUNT + "건, Redis 왕복 " + FAKE_REDIS_LATENCY_NANOS / 1_000 + "us)");
+    lineLog("매 호출 HGET: " + legacyOpsPerSecond + " ops/s, Redis 왕복 " + legacyRoundTrips + "회");
+    lineLog("로컬 스냅샷: " + snapshotOpsPerSecond + " ops/s, Redis 왕복 " + snapshotRoundTrips + "회");
+
+    assertEquals(READ_COUNT, legacyRoundTrips);
+    assertEquals(0, snapshotRoundTrips, "스냅샷 조회는 Redis 왕복이 없어야 한다");
+  }
+
+  private static InMemoryRedis newRedis() {
+    return new InMemoryRedis().withRoundTripLatency(FAKE_REDIS_LATENCY_NANOS, TimeUnit.NANOSECONDS);
+  }
+
+  private static SystemConfigCacheService newNode(InMemoryRedis redis) {
+    return redis.subscribe(SystemConfigCacheService.CHANGE_CHANNEL, new SystemConfigCacheService(redis.template()));
+  }
+}
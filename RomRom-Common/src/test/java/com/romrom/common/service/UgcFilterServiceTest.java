@@ -0,0 +1,97 @@
+package com.romrom.common.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.exception.UgcProhibitedContentException;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UgcFilterService 테스트 (설정 캐시 mock).
+ * 설정 스냅샷 버전이 같으면 패턴 JSON 을 다시 읽지 않고, 버전이 바뀐 경우에만 패턴을 비교해 재컴파일하는지 검증한다.
+ */
+@Slf4j
+class UgcFilterServiceTest {
+
+  private static final String UGC_FILTER_PATTERNS_CONFIG_KEY = "ugc.filter.patterns";
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::버전이_같으면_패턴JSON을_다시_읽지_않음_테스트);
+    lineLog(null);
+    timeLog(this::패턴이_바뀌면_새_패턴으로_재컴파일_테스트);
+    lineLog(null);
+    timeLog(this::패턴이_없거나_잘못되면_통과_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 버전이_같으면_패턴JSON을_다시_읽지_않음_테스트() {
+    SystemConfigCacheService systemConfigCacheService = mock(SystemConfigCacheService.class);
+    when(systemConfigCacheService.getVersion()).thenReturn(1L);
+    when(systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY)).thenReturn("[\"개새끼\", \"병[\\\\s\\\\*]*신\"]");
+    UgcFilterService ugcFilterService = new UgcFilterService(systemConfigCacheService);
+
+    for (int i = 0; i < 1_000; i++) {
+      assertFalse(ugcFilterService.containsProhibitedContent("안녕하세요 교환 가능할까요?"));
+    }
+    UgcProhibitedContentException exception = assertThrows(UgcProhibitedContentException.class,
+        () -> ugcFilterService.validate("병 신 같은 소리", "itemDescription"));
+    assertEquals("병 신", exception.getViolatingText());
+    assertEquals("itemDescription", exception.getFieldName());
+
+    verify(systemConfigCacheService, times(1)).get(UGC_FILTER_PATTERNS_CONFIG_KEY);
+  }
+
+  public void 패턴이_바뀌면_새_패턴으로_재컴파일_테스트() {
+    SystemConfigCacheService systemConfigCacheService = mock(SystemConfigCacheService.class);
+    when(systemConfigCacheService.getVersion()).thenReturn(1L);
+    when(systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY)).thenReturn("[\"꺼져\"]");
+    UgcFilterService ugcFilterService = new UgcFilterService(systemConfigCacheService);
+    assertTrue(ugcFilterService.containsProhibitedContent("꺼져"));
+    assertFalse(ugcFilterService.containsProhibitedContent("저리가"));
+
+    // 다른 설정만 바뀐 경우(버전 증가, 패턴 동일): 재컴파일 없이 계속 사용
+    when(systemConfigCacheService.getVersion()).thenReturn(2L);
+    assertTrue(ugcFilterService.containsProhibitedContent("꺼져"));
+    assertFalse(ugcFilterService.containsProhibitedContent("저리가"), "패턴 JSON 이 같으면 버전만 갱신해야 한다");
+    verify(systemConfigCacheService, times(2)).get(UGC_FILTER_PATTERNS_CONFIG_KEY);
+
+    // 관리자 패턴 변경
+    when(systemConfigCacheService.getVersion()).thenReturn(3L);
+    when(systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY)).thenReturn("[\"저리가\"]");
+    assertTrue(ugcFilterService.containsProhibitedContent("저리가"));
+    assertFalse(ugcFilterService.containsProhibitedContent("꺼져"));
+  }
+
+  public void 패턴이_없거나_잘못되면_통과_테스트() {
+    SystemConfigCacheService systemConfigCacheService = mock(SystemConfigCacheService.class);
+    when(systemConfigCacheService.getVersion()).thenReturn(1L);
+    UgcFilterService ugcFilterService = new UgcFilterService(systemConfigCacheService);
+    assertFalse(ugcFilterService.containsProhibitedContent("개새끼"));
+
+    when(systemConfigCacheService.getVersion()).thenReturn(2L);
+    when(systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY)).thenReturn("not-json");
+    ugcFilterService.validate("개새끼", "nickname");
+    ugcFilterService.validate("개새끼", "nickname");
+    verify(systemConfigCacheService, times(2)).get(UGC_FILTER_PATTERNS_CONFIG_KEY);
+
+    // 잘못된 정규식은 건너뛰고 나머지는 적용
+    when(systemConfigCacheService.getVersion()).thenReturn(3L);
+    when(systemConfigCacheService.get(UGC_FILTER_PATTERNS_CONFIG_KEY)).thenReturn("[\"[unclosed\", \"개새끼\"]");
+    assertTrue(ugcFilterService.containsProhibitedContent("이 개새끼"));
+  }
+}
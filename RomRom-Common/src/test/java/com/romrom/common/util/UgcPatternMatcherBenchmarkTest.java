@@ -0,0 +1,118 @@
+package com.romrom.common.util;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("ugcFilterBenchmarkEnabled")
+class UgcPatternMatcherBenchmarkTest {
+
+  /*
+   * 채팅 메시지 1건당 UGC 필터 판정 비용 비교: 기존 패턴별 Pattern.find 순회 vs 컴파일된 UgcPatternMatcher
+   * 운영 초기 패턴과, 관리자가 금칙어를 계속 추가한 경우를 가정한 합성 패턴 목록(리터럴 + 구분자 허용 정규식)으로 초당 처리 메시지 수를 측정한다.
+   * 메시지는 대부분 위반이 없는 한국어 거래 채팅(위반 없음 = 기존 방식 최악 경로)이다.
+   */
+  private static final int SYNTHETIC_PATTERN_COUNT = Integer.getInteger("romrom.ugc-filter.benchmark.patterns", 500);
+  private static final int MEASURE_ROUNDS = Integer.getInteger("romrom.ugc-filter.benchmark.rounds", 5_000);
+  private static final int WARMUP_ROUNDS = 2_000;
+  private static final String SEPARATOR_CLASS = "[\\s\\*\\.\\-_0-9]*";
+
+  private static boolean ugcFilterBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.ugc-filter.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_UGC_FILTER_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareChatMessageFilteringThroughput() {
+    List<String> productionPatterns = UgcPatternMatcherTest.PRODUCTION_PATTERNS;
+    List<String> syntheticPatterns = new ArrayList<>(productionPatterns);
+    Random random = new Random(42L);
+    for (int index = 0; syntheticPatterns.size() < SYNTHETIC_PATTERN_COUNT; index++) {
+      switch (index % 4) {
+        // 금칙어 리터럴 (한글 2~3음절)
+        case 0, 1 -> syntheticPatterns.add(randomSyllables(random, 2 + random.nextInt(2)));
+        // 글자 사이 구분자 우회를 허용하는 한글 정규식
+        case 2 -> syntheticPatterns.add(randomSyllables(random, 1) + SEPARATOR_CLASS + randomSyllables(random, 1));
+        // 영문 욕설 변형
+        default -> {
+          String word = randomLetters(random, 4 + random.nextInt(3));
+          syntheticPatterns.add("\\b" + word + "\\b|" + String.join(SEPARATOR_CLASS, word.split("")));
+        }
+      }
+    }
+
+    Result production = measure(productionPatterns);
+    Result synthetic = measure(syntheticPatterns);
+
+    assertThat(synthetic.compiledMessagesPerSecond()).isGreaterThan(synthetic.legacyMessagesPerSecond());
+    lineLog("[UgcPatternMatcherBenchmarkTest] 채팅 메시지 UGC 필터 처리량 (초당 메시지 수)");
+    lineLog(String.format("- 운영 초기 패턴 %d개: 패턴별 순회 %,.0f -> 컴파일 매처 %,.0f (%.1fx)",
+        productionPatterns.size(), production.legacyMessagesPerSecond(), production.compiledMessagesPerSecond(),
+        production.compiledMessagesPerSecond() / production.legacyMessagesPerSecond()));
+    lineLog(String.format("- 합성 패턴 %d개: 패턴별 순회 %,.0f -> 컴파일 매처 %,.0f (%.1fx)",
+        syntheticPatterns.size(), synthetic.legacyMessagesPerSecond(), synthetic.compiledMessagesPerSecond(),
+        synthetic.compiledMessagesPerSecond() / synthetic.legacyMessagesPerSecond()));
+    lineLog(String.format("- 측정: 채팅 메시지 %d종 x %,d회 (워밍업 %,d회)",
+        UgcPatternMatcherTest.CHAT_MESSAGES.size(), MEASURE_ROUNDS, WARMUP_ROUNDS));
+  }
+
+  private Result measure(List<String> patterns) {
+    List<Pattern> legacyPatterns = UgcPatternMatcherTest.compileLegacy(patterns);
+    // 변경 전 UgcFilterService.containsProhibitedContent 와 같은 방식
+    Predicate<String> legacyMatcher = message -> UgcPatternMatcherTest.legacyFindFirst(legacyPatterns, message) != null;
+    UgcPatternMatcher ugcPatternMatcher = UgcPatternMatcher.compile(patterns);
+    Predicate<String> compiledMatcher = message -> ugcPatternMatcher.findFirst(message) != null;
+
+    for (String message : UgcPatternMatcherTest.CHAT_MESSAGES) {
+      assertThat(compiledMatcher.test(message)).as(message).isEqualTo(legacyMatcher.test(message));
+    }
+    run(legacyMatcher, WARMUP_ROUNDS);
+    run(compiledMatcher, WARMUP_ROUNDS);
+    double legacyNanos = run(legacyMatcher, MEASURE_ROUNDS);
+    double compiledNanos = run(compiledMatcher, MEASURE_ROUNDS);
+    return new Result(1_000_000_000d / legacyNanos, 1_000_000_000d / compiledNanos);
+  }
+
+  // 판정 결과를 누적해 JIT 가 호출을 제거하지 못하게 하고 메시지 1건당 평균 ns 반환
+  private double run(Predicate<String> matcher, int rounds) {
+    List<String> messages = UgcPatternMatcherTest.CHAT_MESSAGES;
+    int violationCount = 0;
+    long startNanos = System.nanoTime();
+    for (int round = 0; round < rounds; round++) {
+      for (int messageIndex = 0; messageIndex < messages.size(); messageIndex++) {
+        if (matcher.test(messages.get(messageIndex))) {
+          violationCount++;
+        }
+      }
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+    assertThat(violationCount).isPositive();
+    return (double) elapsedNanos / ((long) rounds * messages.size());
+  }
+
+  private static String randomSyllables(Random random, int length) {
+    StringBuilder syllables = new StringBuilder(length);
+    for (int index = 0; index < length; index++) {
+      syllables.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+    }
+    return syllables.toString();
+  }
+
+  private static String randomLetters(Random random, int length) {
+    StringBuilder letters = new StringBuilder(length);
+    for (int index = 0; index < length; index++) {
+      letters.append((char) ('a' + random.nextInt(26)));
+    }
+    return letters.toString();
+  }
+
+  private record Result(double legacyMessagesPerSecond, double compiledMessagesPerSecond) {
+  }
+}
@@ -0,0 +1,200 @@
+package com.romrom.common.util;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UgcPatternMatcher 테스트.
+ * 기존 UgcFilterService 방식(패턴별 Pattern.find 순회)과 위반 여부 판정이 같은지,
+ * 운영 초기 패턴(V1_4_52 마이그레이션)과 분리하면 안 되는 패턴들로 검증한다.
+ */
+@Slf4j
+class UgcPatternMatcherTest {
+
+  // V1_4_52__insert_ugc_filter_patterns.sql 초기 패턴
+  static final List<String> PRODUCTION_PATTERNS = List.of(
+      "씨[발벌빡빠빨뻘파팔펄]",
+      "[시씨씌슈쓔쉬쉽쒸쓉][0-9]*[발벌빡빠빨뻘파팔펄]",
+      "[시씨씌슈쓔쉬쉽쒸쓉][\\s\\*\\.\\-_0-9]*[발벌빡빠빨뻘파팔펄]",
+      "ㅅ[\\s\\*\\.\\-_]*ㅂ",
+      "개[\\s\\*\\.\\-_]*새[\\s\\*\\.\\-_]*끼",
+      "개새끼",
+      "ㄱ[\\s\\*\\.\\-_]*ㅐ[\\s\\*\\.\\-_]*ㅅ[\\s\\*\\.\\-_]*ㅐ[\\s\\*\\.\\-_]*ㄲ[\\s\\*\\.\\-_]*ㅣ",
+      "병[\\s\\*\\.\\-_]*신",
+      "ㅂ[\\s\\*\\.\\-_]*ㅅ",
+      "ㅈ[\\s\\*\\.\\-_]*ㅗ[\\s\\*\\.\\-_]*ㅆ",
+      "좆",
+      "보[\\s\\*\\.\\-_]*지",
+      "ㅂ[\\s\\*\\.\\-_]*ㅈ[\\s\\*\\.\\-_]*ㅣ",
+      "존나|좆나|ㅈ[\\s\\*\\.\\-_]*ㄴ[\\s\\*\\.\\-_]*ㅏ",
+      "미친[\\s\\*\\.\\-_]*(놈|년|새끼)",
+      "\\bfuck\\b|f[\\s\\*\\.\\-_0-9]*u[\\s\\*\\.\\-_0-9]*c[\\s\\*\\.\\-_0-9]*k",
+      "\\bshit\\b|s[\\s\\*\\.\\-_0-9]*h[\\s\\*\\.\\-_0-9]*i[\\s\\*\\.\\-_0-9]*t",
+      "\\bbitch\\b|b[\\s\\*\\.\\-_0-9]*i[\\s\\*\\.\\-_0-9]*t[\\s\\*\\.\\-_0-9]*c[\\s\\*\\.\\-_0-9]*h",
+      "\\basshole\\b|a[\\s\\*\\.\\-_0-9]*s[\\s\\*\\.\\-_0-9]*s[\\s\\*\\.\\-_0-9]*h[\\s\\*\\.\\-_0-9]*o[\\s\\*\\.\\-_0-9]*l[\\s\\*\\.\\-_0-9]*e",
+      "\\bbastard\\b",
+      "\\bcunt\\b",
+      "\\bdick\\b|d[\\s\\*\\.\\-_0-9]*i[\\s\\*\\.\\-_0-9]*c[\\s\\*\\.\\-_0-9]*k",
+      "\\bpussy\\b|p[\\s\\*\\.\\-_0-9]*u[\\s\\*\\.\\-_0-9]*s[\\s\\*\\.\\-_0-9]*s[\\s\\*\\.\\-_0-9]*y",
+      "\\bsex\\b|s[\\s\\*\\.\\-_0-9]*e[\\s\\*\\.\\-_0-9]*x",
+      "\\bpenis\\b|p[\\s\\*\\.\\-_0-9]*e[\\s\\*\\.\\-_0-9]*n[\\s\\*\\.\\-_0-9]*i[\\s\\*\\.\\-_0-9]*s",
+      "\\bvagina\\b|v[\\s\\*\\.\\-_0-9]*a[\\s\\*\\.\\-_0-9]*g[\\s\\*\\.\\-_0-9]*i[\\s\\*\\.\\-_0-9]*n[\\s\\*\\.\\-_0-9]*a",
+      "\\bporn\\b|p[\\s\\*\\.\\-_0-9]*o[\\s\\*\\.\\-_0-9]*r[\\s\\*\\.\\-_0-9]*n",
+      "섹스|섹[\\s\\*\\.\\-_]*스",
+      "자지|보지|자[\\s\\*\\.\\-_]*지",
+      "엿[\\s\\*\\.\\-_]*먹",
+      "꺼져",
+      "지랄|ㅈ[\\s\\*\\.\\-_]*ㄹ",
+      "새끼|ㅅ[\\s\\*\\.\\-_]*ㅐ[\\s\\*\\.\\-_]*ㄲ[\\s\\*\\.\\-_]*ㅣ"
+  );
+
+  // 물물교환 채팅에서 흔한 메시지 (대부분 정상, 일부 위반)
+  static final List<String> CHAT_MESSAGES = List.of(
+      "안녕하세요! 올려주신 닌텐도 스위치 아직 교환 가능할까요?",
+      "네 가능합니다 ㅎㅎ 어떤 물건이랑 교환 원하시나요",
+      "제가 가진 에어팟 프로 2세대랑 교환하고 싶어요. 사진 보내드릴게요",
+      "혹시 내일 오후 3시쯤 강남역 11번 출구에서 거래 가능하세요?",
+      "시간 괜찮습니다~ 도착하시면 채팅 주세요",
+      "개수는 총 몇 개인가요? 구성품 다 있는지 궁금해요",
+      "박스랑 충전 케이블 다 있어요. 사용감 거의 없습니다",
+      "보내주신 사진 확인했어요 상태 좋네요 👍",
+      "시발 진짜 장난하냐 약속시간이 언젠데",
+      "죄송해요ㅠㅠ 지하철이 늦게 와서 10분 정도 늦을 것 같아요",
+      "ㅋㅋㅋ 괜찮아요 천천히 오세요",
+      "교환 전에 작동 영상 한 번만 찍어서 보내주실 수 있나요?",
+      "https://romrom.xyz/items/3f2a 링크에 자세한 설명 있어요",
+      "아 그리고 케이스는 서비스로 드릴게요!",
+      "병 신 같은 소리 하지 마세요",
+      "혹시 다른 지역도 가능하신가요? 저는 분당 살아요",
+      "Is this still available? I can meet near Hongdae station.",
+      "네고는 어렵고 교환만 생각하고 있어요",
+      "존나 비싸게 부르시네",
+      "감사합니다 좋은 거래였어요 😊 후기 남길게요"
+  );
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::운영패턴_채팅메시지_판정이_기존방식과_같음_테스트);
+    lineLog(null);
+    timeLog(this::무작위_메시지_판정이_기존방식과_같음_테스트);
+    lineLog(null);
+    timeLog(this::리터럴_분기는_대소문자와_이스케이프를_기존과_같이_처리_테스트);
+    lineLog(null);
+    timeLog(this::분리하면_의미가_바뀌는_패턴은_단독검사_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 운영패턴_채팅메시지_판정이_기존방식과_같음_테스트() {
+    UgcPatternMatcher ugcPatternMatcher = UgcPatternMatcher.compile(PRODUCTION_PATTERNS);
+    List<Pattern> legacyPatterns = compileLegacy(PRODUCTION_PATTERNS);
+    lineLog("리터럴 " + ugcPatternMatcher.getLiteralCount() + "개, 정규식 분기 " + ugcPatternMatcher.getRegexBranchCount() + "개");
+
+    int violationCount = 0;
+    for (String message : CHAT_MESSAGES) {
+      String violatingText = ugcPatternMatcher.findFirst(message);
+      assertEquals(legacyFindFirst(legacyPatterns, message) != null, violatingText != null, message);
+      if (violatingText != null) {
+        violationCount++;
+        assertTrue(message.contains(violatingText));
+        assertTrue(matchesAnyLegacy(legacyPatterns, violatingText), "위반 문자열 자체도 원래 패턴에 걸려야 한다: " + violatingText);
+      }
+    }
+    assertEquals(3, violationCount);
+    assertEquals("시발", ugcPatternMatcher.findFirst("시발 진짜 장난하냐"));
+    assertEquals("존나", ugcPatternMatcher.findFirst("존나 비싸게 부르시네"));
+    assertNull(ugcPatternMatcher.findFirst("시간 괜찮습니다~ 도착하시면 채팅 주세요"));
+  }
+
+  public void 무작위_메시지_판정이_기존방식과_같음_테스트() {
+    List<String> patterns = new ArrayList<>(PRODUCTION_PATTERNS);
+    patterns.addAll(List.of("^광고", "홍보$", "[A-Z]{3}코인", "[가-힣]+바보", "ab?c", "x\\.y", "[^가-힣\\s]{20}"));
+    UgcPatternMatcher ugcPatternMatcher = UgcPatternMatcher.compile(patterns);
+    List<Pattern> legacyPatterns = compileLegacy(patterns);
+
+    // 금칙어 조각과 흔한 음절을 섞어 경계(공백, 특수문자, 숫자 삽입, 대소문자) 조합을 만든다
+    String[] fragments = {"시", "발", "씨", "개", "새", "끼", "병", "신", "ㅅ", "ㅂ", "ㅈ", "ㄹ", "보", "지", "광고", "홍보",
+        "F", "u", "C", "k", "S", "h", "i", "t", "sex", "ABC코인", "바보", "ac", "abc", "x.y", "xzy", " ", "*", ".", "-", "_",
+        "1", "안녕", "교환", "가능", "요", "!", "😊"};
+    Random random = new Random(20260118L);
+    int violationCount = 0;
+    for (int round = 0; round < 20_000; round++) {
+      StringBuilder message = new StringBuilder();
+      int fragmentCount = 1 + random.nextInt(12);
+      for (int index = 0; index < fragmentCount; index++) {
+        message.append(fragments[random.nextInt(fragments.length)]);
+      }
+      String text = message.toString();
+      String violatingText = ugcPatternMatcher.findFirst(text);
+      assertEquals(legacyFindFirst(legacyPatterns, text) != null, violatingText != null, text);
+      if (violatingText != null) {
+        violationCount++;
+      }
+    }
+    lineLog("무작위 메시지 20000건 중 위반 " + violationCount + "건 판정 일치");
+  }
+
+  public void 리터럴_분기는_대소문자와_이스케이프를_기존과_같이_처리_테스트() {
+    UgcPatternMatcher ugcPatternMatcher = UgcPatternMatcher.compile(List.of("BadWord", "a\\.b", "꺼져|저리가"));
+    assertEquals(4, ugcPatternMatcher.getLiteralCount());
+    assertEquals(0, ugcPatternMatcher.getRegexBranchCount());
+
+    assertEquals("badword", ugcPatternMatcher.findFirst("this is badword!"));
+    assertEquals("BADWORD", ugcPatternMatcher.findFirst("BADWORD"));
+    assertEquals("a.b", ugcPatternMatcher.findFirst("xa.by"));
+    assertNull(ugcPatternMatcher.findFirst("axb"), "이스케이프된 . 은 임의 문자가 아니다");
+    assertEquals("저리가", ugcPatternMatcher.findFirst("저리가세요"));
+    // 겹치는 리터럴: 먼저 끝나는 쪽을 찾는다
+    assertEquals("ab", UgcPatternMatcher.compile(List.of("abcd", "ab", "bc")).findFirst("xabcd"));
+  }
+
+  public void 분리하면_의미가_바뀌는_패턴은_단독검사_테스트() {
+    List<String> patterns = List.of("(.)\\1{3}", "(?i:ㅋ)ㅋ|zz", "(?<word>욕)설", "\\Q*.*\\E", "\\bcat\\b");
+    UgcPatternMatcher ugcPatternMatcher = UgcPatternMatcher.compile(patterns);
+    List<Pattern> legacyPatterns = compileLegacy(patterns);
+
+    for (String text : List.of("aaaa", "abab", "ㅋㅋ", "zz", "욕설", "욕", "a*.*b", "a*b", "cat", "concat", "CAT!", "")) {
+      assertEquals(legacyFindFirst(legacyPatterns, text), ugcPatternMatcher.findFirst(text), text);
+    }
+    assertNotNull(ugcPatternMatcher.findFirst("ㅎㅎㅎㅎ"), "역참조 패턴도 그대로 동작해야 한다");
+  }
+
+  static List<Pattern> compileLegacy(List<String> patterns) {
+    List<Pattern> compiledPatterns = new ArrayList<>();
+    for (String pattern : patterns) {
+      compiledPatterns.add(Pattern.compile(pattern, Pattern.CASE_INSENSITIVE));
+    }
+    return compiledPatterns;
+  }
+
+  // 변경 전 UgcFilterService.validate 와 같은 방식
+  static String legacyFindFirst(List<Pattern> compiledPatterns, String text) {
+    for (Pattern compiledPattern : compiledPatterns) {
+      Matcher matcher = compiledPattern.matcher(text);
+      if (matcher.find()) {
+        return matcher.group();
+      }
+    }
+    return null;
+  }
+
+  private static boolean matchesAnyLegacy(List<Pattern> compiledPatterns, String text) {
+    return legacyFindFirst(compiledPatterns, text) != null;
+  }
+}
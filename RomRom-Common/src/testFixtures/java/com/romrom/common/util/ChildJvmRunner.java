@@ -0,0 +1,95 @@
+package com.romrom.common.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 작은 힙(-Xmx)으로 별도 JVM 을 띄워 메모리 벤치마크를 실행하는 테스트 유틸.
+ * 자식 JVM 은 현재 테스트 클래스패스로 mainClass 를 실행하고, 결과는 "RESULT " 로 시작하는 줄로 출력한다.
+ * OutOfMemoryError 는 자식 JVM 에서 EXIT_OUT_OF_MEMORY 종료 코드로 구분한다.
+ */
+public final class ChildJvmRunner {
+
+  public static final int EXIT_OUT_OF_MEMORY = 3;
+
+  private static final String RESULT_LINE_PREFIX = "RESULT";
+
+  private ChildJvmRunner() {
+  }
+
+  /**
+   * mainClass 를 -Xmx heapLimit 자식 JVM 에서 실행하고 종료 코드와 RESULT 줄을 돌려준다.
+   * timeoutSeconds 안에 끝나지 않으면 자식 프로세스를 강제 종료하고 IllegalStateException 을 던진다.
+   */
+  public static ChildResult run(Class<?> mainClass, String heapLimit, long timeoutSeconds, String... args)
+      throws Exception {
+    String javaBin = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    List<String> command = new ArrayList<>(List.of(
+        javaBin,
+        "-Xmx" + heapLimit,
+        "-cp", System.getProperty("java.class.path"),
+        mainClass.getName()
+    ));
+    command.addAll(List.of(args));
+
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    StringBuilder resultLines = new StringBuilder();
+    try (var reader = process.inputReader(StandardCharsets.UTF_8)) {
+      reader.lines()
+          .filter(line -> line.startsWith(RESULT_LINE_PREFIX))
+          .forEach(line -> resultLines.append(line).append(' '));
+    }
+    if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+      process.destroyForcibly();
+      throw new IllegalStateException("자식 JVM 시간 초과: " + mainClass.getSimpleName() + " " + String.join(" ", args));
+    }
+    return new ChildResult(process.exitValue(), resultLines.toString().trim());
+  }
+
+  /**
+   * 자식 JVM 안에서 호출: 힙 메모리 풀의 최대 사용량 합계 (MB)
+   */
+  public static long peakHeapUsedMb() {
+    long peakBytes = 0;
+    for (MemoryPoolMXBean memoryPool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (memoryPool.getType() == MemoryType.HEAP) {
+        peakBytes += memoryPool.getPeakUsage().getUsed();
+      }
+    }
+    return peakBytes / (1024 * 1024);
+  }
+
+  /**
+   * 자식 JVM 안에서 호출: 예외 원인 사슬에 OutOfMemoryError 가 있는지 (스레드풀 Future 로 감싸진 경우 포함)
+   */
+  public static boolean isOutOfMemory(Throwable throwable) {
+    for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+      if (cause instanceof OutOfMemoryError) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 자식 JVM 안에서 호출: OOM 결과 줄을 출력하고 EXIT_OUT_OF_MEMORY 로 종료
+   */
+  public static void exitOutOfMemory(String detail) {
+    System.out.println(RESULT_LINE_PREFIX + " OutOfMemoryError " + (detail.isEmpty() ? "" : detail + " ")
+        + "peakHeapMb=" + peakHeapUsedMb());
+    System.exit(EXIT_OUT_OF_MEMORY);
+  }
+
+  public record ChildResult(int exitCode, String output) {
+
+    public boolean outOfMemory() {
+      return exitCode == EXIT_OUT_OF_MEMORY;
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.romrom.common.util;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 실제 DB 없이 JdbcTemplate.batchUpdate 로 쓰는 write-behind 서비스를 테스트하기 위한 대역.
+ * 배치의 각 행은 RowWriter 가 테스트 쪽 in-memory 테이블에 반영하고, 반환값이 행별 update count 가 된다.
+ * 배치(문장) 수와 전송 행 수를 세고, 문장·행마다 고정 지연과 쓰기 실패를 흉내 낼 수 있다.
+ */
+public class InMemoryJdbcTemplate {
+
+  private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+  private final AtomicInteger batchCount = new AtomicInteger();
+  private final AtomicInteger rowCount = new AtomicInteger();
+  private volatile long statementLatencyNanos;
+  private volatile long rowLatencyNanos;
+  private volatile boolean failWrites;
+
+  public InMemoryJdbcTemplate(RowWriter rowWriter) {
+    doAnswer(invocation -> {
+      if (failWrites) {
+        throw new IllegalStateException("DB 연결 실패");
+      }
+      String sql = invocation.getArgument(0);
+      List<Object[]> batchArgs = invocation.getArgument(1);
+      spin(statementLatencyNanos);
+      batchCount.incrementAndGet();
+      int[] updateCounts = new int[batchArgs.size()];
+      for (int i = 0; i < batchArgs.size(); i++) {
+        spin(rowLatencyNanos);
+        rowCount.incrementAndGet();
+        updateCounts[i] = rowWriter.write(sql, batchArgs.get(i));
+      }
+      return updateCounts;
+    }).when(jdbcTemplate).batchUpdate(anyString(), anyList());
+  }
+
+  public JdbcTemplate jdbcTemplate() {
+    return jdbcTemplate;
+  }
+
+  /**
+   * 배치(문장) 1회당 고정 지연
+   */
+  public InMemoryJdbcTemplate withStatementLatency(long latency, TimeUnit unit) {
+    this.statementLatencyNanos = unit.toNanos(latency);
+    return this;
+  }
+
+  /**
+   * 행 1개당 고정 지연 (행마다 UPDATE 하는 문장 근사)
+   */
+  public InMemoryJdbcTemplate withRowLatency(long latency, TimeUnit unit) {
+    this.rowLatencyNanos = unit.toNanos(latency);
+    return this;
+  }
+
+  /**
+   * true 면 배치 전체가 IllegalStateException 으로 실패한다 (트랜잭션 롤백과 같이 반영된 행 없음)
+   */
+  public void setFailWrites(boolean failWrites) {
+    this.failWrites = failWrites;
+  }
+
+  public int batchCount() {
+    return batchCount.get();
+  }
+
+  public int rowCount() {
+    return rowCount.get();
+  }
+
+  // 스레드 전환 없이 DB 왕복 시간만큼 점유
+  private static void spin(long nanos) {
+    if (nanos <= 0) {
+      return;
+    }
+    long until = System.nanoTime() + nanos;
+    while (System.nanoTime() < until) {
+      Thread.onSpinWait();
+    }
+  }
+
+  @FunctionalInterface
+  public interface RowWriter {
+
+    /**
+     * 배치 한 행을 반영하고 update count 를 돌려준다 (ON CONFLICT DO NOTHING 으로 건너뛰면 0)
+     */
+    int write(String sql, Object[] args);
+  }
+}
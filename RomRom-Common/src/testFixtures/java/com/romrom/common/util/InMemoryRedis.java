@@ -0,0 +1,365 @@
+package com.romrom.common.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+/**
+ * 실제 Redis 없이 RedisTemplate 을 쓰는 서비스를 테스트하기 위한 in-memory 대역.
+ * String(값/TTL) · Hash · Sorted Set 명령과 pub/sub 을 지원하고, 여러 인스턴스가 template() 하나를 공유할 수 있다.
+ * 명령 수와 왕복 수(파이프라인은 1회)를 세고, 왕복마다 고정 지연·쓰기 실패·알림 유실을 흉내 낼 수 있다.
+ */
+@SuppressWarnings("unchecked")
+public class InMemoryRedis {
+
+  private final RedisTemplate<String, Object> template = mock(RedisTemplate.class);
+  private final GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+  private final Map<String, Object> values = new ConcurrentHashMap<>();
+  private final Map<String, Long> expiresAtMillis = new ConcurrentHashMap<>();
+  private final Map<String, Map<Object, Object>> hashes = new ConcurrentHashMap<>();
+  private final Map<String, Map<Object, Double>> sortedSets = new ConcurrentHashMap<>();
+  private final Map<String, List<MessageListener>> listenersByChannel = new ConcurrentHashMap<>();
+  private final AtomicInteger commandCount = new AtomicInteger();
+  private final AtomicInteger roundTripCount = new AtomicInteger();
+  private final AtomicInteger publishCount = new AtomicInteger();
+  // 파이프라인 안의 명령은 왕복으로 세지 않는다
+  private final ThreadLocal<Boolean> pipelining = ThreadLocal.withInitial(() -> false);
+  private volatile long roundTripLatencyNanos;
+  private volatile boolean failWrites;
+  private volatile boolean dropMessages;
+  private volatile Executor deliveryExecutor;
+
+  public InMemoryRedis() {
+    stubValueOperations();
+    stubHashOperations();
+    stubZSetOperations();
+    stubKeyCommands();
+    stubPubSub();
+  }
+
+  public RedisTemplate<String, Object> template() {
+    return template;
+  }
+
+  /**
+   * 왕복마다 고정 지연 (같은 VPC 내 Redis 왕복 근사값 등)
+   */
+  public InMemoryRedis withRoundTripLatency(long latency, TimeUnit unit) {
+    this.roundTripLatencyNanos = unit.toNanos(latency);
+    return this;
+  }
+
+  /**
+   * channel 발행 메시지를 listener 에게 전달한다 (RedisMessageListenerContainer 등록 대체)
+   */
+  public <T extends MessageListener> T subscribe(String channel, T listener) {
+    listenersByChannel.computeIfAbsent(channel, ignored -> new CopyOnWriteArrayList<>()).add(listener);
+    return listener;
+  }
+
+  /**
+   * true 면 쓰기 명령이 IllegalStateException 으로 실패한다
+   */
+  public void setFailWrites(boolean failWrites) {
+    this.failWrites = failWrites;
+  }
+
+  /**
+   * true 면 발행은 성공하지만 구독자에게 전달되지 않는다 (pub/sub 메시지 유실)
+   */
+  public void setDropMessages(boolean dropMessages) {
+    this.dropMessages = dropMessages;
+  }
+
+  /**
+   * 지정하면 리스너 컨테이너처럼 별도 스레드에서 메시지를 전달한다. null 이면 발행 스레드에서 바로 전달
+   */
+  public void setDeliveryExecutor(Executor deliveryExecutor) {
+    this.deliveryExecutor = deliveryExecutor;
+  }
+
+  public int commandCount() {
+    return commandCount.get();
+  }
+
+  public int roundTripCount() {
+    return roundTripCount.get();
+  }
+
+  public int publishCount() {
+    return publishCount.get();
+  }
+
+  /**
+   * 명령 수/왕복 수에 포함되지 않는 직접 접근 (테스트 준비·검증용)
+   */
+  public Map<Object, Object> hash(String key) {
+    return hashes.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>());
+  }
+
+  public Map<Object, Double> sortedSet(String key) {
+    return sortedSets.computeIfAbsent(key, ignored -> new ConcurrentHashMap<>());
+  }
+
+  public Double score(String key, Object member) {
+    return sortedSet(key).get(member);
+  }
+
+  public void putValue(String key, Object value, long ttlMillis) {
+    values.put(key, value);
+    expiresAtMillis.put(key, System.currentTimeMillis() + ttlMillis);
+  }
+
+  private void stubValueOperations() {
+    ValueOperations<String, Object> valueOperations = mock(ValueOperations.class);
+    when(template.opsForValue()).thenReturn(valueOperations);
+
+    doAnswer(invocation -> {
+      write();
+      String key = invocation.getArgument(0);
+      values.put(key, invocation.getArgument(1));
+      expiresAtMillis.remove(key);
+      return null;
+    }).when(valueOperations).set(anyString(), any());
+    doAnswer(invocation -> {
+      write();
+      long ttlMillis = invocation.<TimeUnit>getArgument(3).toMillis(invocation.getArgument(2));
+      putValue(invocation.getArgument(0), invocation.getArgument(1), ttlMillis);
+      return null;
+    }).when(valueOperations).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    when(valueOperations.get(anyString())).thenAnswer(invocation -> {
+      command();
+      String key = invocation.getArgument(0);
+      return isLive(key) ? values.get(key) : null;
+    });
+    when(valueOperations.increment(anyString())).thenAnswer(invocation -> {
+      write();
+      return (Long) values.merge(invocation.getArgument(0), 1L, (current, one) -> ((Number) current).longValue() + 1);
+    });
+  }
+
+  private void stubHashOperations() {
+    HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class);
+    when(template.opsForHash()).thenReturn(hashOperations);
+
+    when(hashOperations.get(anyString(), any())).thenAnswer(invocation -> {
+      command();
+      return hash(invocation.getArgument(0)).get(invocation.getArgument(1));
+    });
+    when(hashOperations.entries(anyString())).thenAnswer(invocation -> {
+      command();
+      return new HashMap<>(hash(invocation.getArgument(0)));
+    });
+    doAnswer(invocation -> {
+      write();
+      hash(invocation.getArgument(0)).put(invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    }).when(hashOperations).put(anyString(), any(), any());
+    doAnswer(invocation -> {
+      write();
+      hash(invocation.getArgument(0)).putAll(invocation.getArgument(1));
+      return null;
+    }).when(hashOperations).putAll(anyString(), anyMap());
+  }
+
+  private void stubZSetOperations() {
+    ZSetOperations<String, Object> zSetOperations = mock(ZSetOperations.class);
+    when(template.opsForZSet()).thenReturn(zSetOperations);
+
+    when(zSetOperations.add(anyString(), any(), anyDouble())).thenAnswer(invocation -> {
+      write();
+      return sortedSet(invocation.getArgument(0)).put(invocation.getArgument(1), invocation.getArgument(2)) == null;
+    });
+    when(zSetOperations.add(anyString(), anySet())).thenAnswer(invocation -> {
+      write();
+      Map<Object, Double> sortedSet = sortedSet(invocation.getArgument(0));
+      long addedCount = 0;
+      for (TypedTuple<Object> tuple : invocation.<Set<TypedTuple<Object>>>getArgument(1)) {
+        if (sortedSet.put(tuple.getValue(), tuple.getScore()) == null) {
+          addedCount++;
+        }
+      }
+      return addedCount;
+    });
+    when(zSetOperations.removeRangeByScore(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+      write();
+      Map<Object, Double> sortedSet = sortedSet(invocation.getArgument(0));
+      double min = invocation.getArgument(1);
+      double max = invocation.getArgument(2);
+      long before = sortedSet.size();
+      sortedSet.values().removeIf(score -> score >= min && score <= max);
+      return before - sortedSet.size();
+    });
+    when(zSetOperations.zCard(anyString())).thenAnswer(invocation -> {
+      command();
+      return (long) sortedSet(invocation.getArgument(0)).size();
+    });
+    when(zSetOperations.count(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+      command();
+      double min = invocation.getArgument(1);
+      double max = invocation.getArgument(2);
+      return sortedSet(invocation.getArgument(0)).values().stream()
+          .filter(score -> score >= min && score <= max)
+          .count();
+    });
+    when(zSetOperations.rangeByScoreWithScores(anyString(), anyDouble(), anyDouble())).thenAnswer(invocation -> {
+      command();
+      double min = invocation.getArgument(1);
+      double max = invocation.getArgument(2);
+      Set<TypedTuple<Object>> tuples = new HashSet<>();
+      sortedSet(invocation.getArgument(0)).forEach((member, score) -> {
+        if (score >= min && score <= max) {
+          tuples.add(new DefaultTypedTuple<>(member, score));
+        }
+      });
+      return tuples;
+    });
+  }
+
+  private void stubKeyCommands() {
+    when(template.hasKey(anyString())).thenAnswer(invocation -> {
+      command();
+      String key = invocation.getArgument(0);
+      return isLive(key) && (values.containsKey(key) || !hash(key).isEmpty() || !sortedSet(key).isEmpty());
+    });
+    when(template.delete(anyString())).thenAnswer(invocation -> {
+      write();
+      String key = invocation.getArgument(0);
+      expiresAtMillis.remove(key);
+      boolean existed = values.remove(key) != null;
+      existed |= hashes.remove(key) != null;
+      existed |= sortedSets.remove(key) != null;
+      return existed;
+    });
+    when(template.getExpire(anyString(), any(TimeUnit.class))).thenAnswer(invocation -> {
+      command();
+      String key = invocation.getArgument(0);
+      if (!isLive(key) || !values.containsKey(key)) {
+        return -2L;
+      }
+      Long expiresAt = expiresAtMillis.get(key);
+      if (expiresAt == null) {
+        return -1L;
+      }
+      return invocation.<TimeUnit>getArgument(1).convert(expiresAt - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    });
+    when(template.scan(any(ScanOptions.class))).thenAnswer(invocation -> {
+      command();
+      String pattern = invocation.<ScanOptions>getArgument(0).getPattern();
+      Pattern keyPattern = Pattern.compile(pattern == null ? ".*" : Pattern.quote(pattern).replace("*", "\\E.*\\Q"));
+      List<String> matchedKeys = new ArrayList<>();
+      for (String key : values.keySet()) {
+        if (isLive(key) && keyPattern.matcher(key).matches()) {
+          matchedKeys.add(key);
+        }
+      }
+      return cursorOf(matchedKeys.iterator());
+    });
+    when(template.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+      roundTrip();
+      pipelining.set(true);
+      try {
+        invocation.<SessionCallback<Object>>getArgument(0).execute(template);
+      } finally {
+        pipelining.set(false);
+      }
+      return List.of();
+    });
+  }
+
+  private void stubPubSub() {
+    doReturn(serializer).when(template).getValueSerializer();
+    when(template.convertAndSend(anyString(), any())).thenAnswer(invocation -> {
+      command();
+      publishCount.incrementAndGet();
+      String channel = invocation.getArgument(0);
+      List<MessageListener> listeners = listenersByChannel.getOrDefault(channel, List.of());
+      if (!dropMessages) {
+        DefaultMessage message = new DefaultMessage(
+            channel.getBytes(StandardCharsets.UTF_8), serializer.serialize(invocation.getArgument(1)));
+        Runnable delivery = () -> listeners.forEach(listener -> listener.onMessage(message, null));
+        Executor executor = deliveryExecutor;
+        if (executor != null) {
+          executor.execute(delivery);
+        } else {
+          delivery.run();
+        }
+      }
+      return (long) listeners.size();
+    });
+  }
+
+  private boolean isLive(String key) {
+    Long expiresAt = expiresAtMillis.get(key);
+    if (expiresAt != null && expiresAt <= System.currentTimeMillis()) {
+      values.remove(key);
+      expiresAtMillis.remove(key);
+      return false;
+    }
+    return true;
+  }
+
+  private void write() {
+    command();
+    if (failWrites) {
+      throw new IllegalStateException("Redis 연결 실패");
+    }
+  }
+
+  private void command() {
+    commandCount.incrementAndGet();
+    if (!pipelining.get()) {
+      roundTrip();
+    }
+  }
+
+  private void roundTrip() {
+    roundTripCount.incrementAndGet();
+    long latencyNanos = roundTripLatencyNanos;
+    if (latencyNanos > 0) {
+      LockSupport.parkNanos(latencyNanos);
+    }
+  }
+
+  private static Cursor<String> cursorOf(Iterator<String> keys) {
+    Cursor<String> cursor = mock(Cursor.class);
+    when(cursor.hasNext()).thenAnswer(invocation -> keys.hasNext());
+    when(cursor.next()).thenAnswer(invocation -> keys.next());
+    return cursor;
+  }
+}
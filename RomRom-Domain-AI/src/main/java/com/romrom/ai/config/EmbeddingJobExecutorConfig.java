@@ -0,0 +1,35 @@
+package com.romrom.ai.config;
+
+import com.romrom.ai.properties.EmbeddingJobProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 임베딩 outbox 워커 전용 스레드풀 설정
+ * 워커는 풀 크기만큼만 제출되므로 큐는 작게 둔다.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class EmbeddingJobExecutorConfig {
+
+  private final EmbeddingJobProperties embeddingJobProperties;
+
+  @Bean(name = "embeddingJobExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor embeddingJobExecutor() {
+    int poolSize = Math.max(1, embeddingJobProperties.getWorkerPoolSize());
+    ThreadPoolTaskExecutor embeddingJobExecutor = new ThreadPoolTaskExecutor();
+    embeddingJobExecutor.setCorePoolSize(poolSize);
+    embeddingJobExecutor.setMaxPoolSize(poolSize);
+    embeddingJobExecutor.setQueueCapacity(poolSize);
+    embeddingJobExecutor.setThreadNamePrefix("embedding-job-");
+    embeddingJobExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    embeddingJobExecutor.setAwaitTerminationSeconds(30);
+    embeddingJobExecutor.initialize();
+    log.info("임베딩 작업 스레드풀 초기화: poolSize={}", poolSize);
+    return embeddingJobExecutor;
+  }
+}
@@ -0,0 +1,27 @@
+package com.romrom.ai.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 인메모리 물품 벡터 인덱스 적재/재구축 전용 스레드풀 설정
+ * 재구축은 한 번에 하나만 실행되므로 단일 스레드 + 대기 1건으로 충분하다 (스케줄러 스레드를 오래 점유하지 않기 위함).
+ */
+@Configuration
+@Slf4j
+public class ItemVectorIndexExecutorConfig {
+
+  @Bean(name = "itemVectorIndexExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor itemVectorIndexExecutor() {
+    ThreadPoolTaskExecutor itemVectorIndexExecutor = new ThreadPoolTaskExecutor();
+    itemVectorIndexExecutor.setCorePoolSize(1);
+    itemVectorIndexExecutor.setMaxPoolSize(1);
+    itemVectorIndexExecutor.setQueueCapacity(1);
+    itemVectorIndexExecutor.setThreadNamePrefix("item-vector-index-");
+    itemVectorIndexExecutor.setWaitForTasksToCompleteOnShutdown(false);
+    itemVectorIndexExecutor.initialize();
+    return itemVectorIndexExecutor;
+  }
+}
@@ -0,0 +1,45 @@
+package com.romrom.ai.entity.postgres;
+
+import com.romrom.common.entity.postgres.BasePostgresEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * 임베딩 결과 영속 캐시 (정규화 텍스트 + 모델 ID의 SHA-256 해시 → 벡터)
+ */
+@Entity
+@Getter
+@Setter
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true, exclude = "embedding")
+public class EmbeddingCache extends BasePostgresEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(updatable = false, nullable = false)
+  private UUID embeddingCacheId;
+
+  @Column(nullable = false, unique = true, length = 64)
+  private String contentHash;
+
+  @Column(nullable = false, length = 100)
+  private String modelId;
+
+  @Column(nullable = false, columnDefinition = "VECTOR(768)")
+  @JdbcTypeCode(SqlTypes.VECTOR)
+  private float[] embedding;
+}
@@ -0,0 +1,75 @@
+package com.romrom.ai.entity.postgres;
+
+import com.romrom.common.constant.EmbeddingJobStatus;
+import com.romrom.common.constant.OriginalType;
+import com.romrom.common.entity.postgres.BasePostgresEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 임베딩 생성 outbox 작업.
+ * 물품 쓰기 트랜잭션에서는 작업만 기록하고, 실제 원격 임베딩 호출과 Embedding upsert는 커밋 이후 워커가 처리한다.
+ * (originalId, originalType)당 1건만 유지하며, 재요청 시 jobVersion을 올려 처리 중인 이전 요청 결과를 무효화한다.
+ * 처리 완료된 작업은 삭제하므로, 남아 있는 행은 대기·처리중·실패 작업뿐이다.
+ */
+@Entity
+@Getter
+@Setter
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(callSuper = true, exclude = "sourceText")
+@Table(uniqueConstraints = @UniqueConstraint(
+    name = "uq_embedding_job_original_id_original_type",
+    columnNames = {"original_id", "original_type"}
+))
+public class EmbeddingJob extends BasePostgresEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(updatable = false, nullable = false)
+  private UUID embeddingJobId;
+
+  @Column(nullable = false)
+  private UUID originalId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 30)
+  private OriginalType originalType;
+
+  // 임베딩 대상 텍스트 (정규화 전)
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String sourceText;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private EmbeddingJobStatus status;
+
+  @Column(nullable = false)
+  private Integer attemptCount;
+
+  // 재요청마다 증가 (처리 중 재요청된 경우 이전 결과 저장 방지)
+  @Column(nullable = false)
+  private Long jobVersion;
+
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  @Column(length = 500)
+  private String lastErrorMessage;
+}
@@ -0,0 +1,14 @@
+package com.romrom.ai.event;
+
+import com.romrom.common.constant.OriginalType;
+import java.util.UUID;
+
+/**
+ * 임베딩 저장/삭제 알림 (embeddingVector가 null이면 삭제)
+ */
+public record EmbeddingChangedEvent(
+    UUID originalId,
+    OriginalType originalType,
+    float[] embeddingVector
+) {
+}
@@ -0,0 +1,10 @@
+package com.romrom.ai.event;
+
+import com.romrom.common.constant.OriginalType;
+import java.util.UUID;
+
+public record EmbeddingJobEnqueuedEvent(
+    UUID originalId,
+    OriginalType originalType
+) {
+}
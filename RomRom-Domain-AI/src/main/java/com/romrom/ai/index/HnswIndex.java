@@ -0,0 +1,461 @@
+package com.romrom.ai.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 코사인 거리 기반 HNSW(Hierarchical Navigable Small World) 근사 최근접 이웃 인덱스.
+ *
+ * <p>벡터는 저장 시 L2 정규화하므로 거리는 {@code 1 - dot(a, b)} 로 pgvector {@code <=>} 와 같은 값이다.
+ * 검색은 read lock, 삽입/삭제는 write lock 으로 보호한다 (삽입은 물품 등록 빈도라 경합이 거의 없음).
+ *
+ * <p>삭제는 tombstone 방식이다. 그래프 연결은 유지해 탐색 경로로만 쓰고 결과에서는 제외하며,
+ * tombstone 비율이 커지면 호출 측이 새 인덱스를 만들어 교체한다.
+ */
+public class HnswIndex {
+
+  private static final Comparator<Candidate> NEAREST_FIRST = Comparator.comparingDouble(Candidate::distance);
+  private static final Comparator<Candidate> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+  private final int dimension;
+  private final int maxConnections;
+  private final int maxConnectionsLevel0;
+  private final int efConstruction;
+  private final double levelMultiplier;
+  private final SplittableRandom random;
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final List<Node> nodes = new ArrayList<>();
+  private final Map<UUID, Integer> nodeIdByKey = new HashMap<>();
+  private int entryPoint = -1;
+  private int maxLevel = -1;
+  private int deletedCount = 0;
+
+  /**
+   * @param dimension 벡터 차원 (768)
+   * @param maxConnections 상위 레이어 노드당 최대 이웃 수 M (레이어 0은 2M)
+   * @param efConstruction 삽입 시 후보 탐색 폭
+   * @param seed 레벨 추첨 시드 (테스트 재현용)
+   */
+  public HnswIndex(int dimension, int maxConnections, int efConstruction, long seed) {
+    if (dimension <= 0 || maxConnections < 2 || efConstruction < 1) {
+      throw new IllegalArgumentException("HNSW 파라미터가 올바르지 않습니다.");
+    }
+    this.dimension = dimension;
+    this.maxConnections = maxConnections;
+    this.maxConnectionsLevel0 = maxConnections * 2;
+    this.efConstruction = efConstruction;
+    this.levelMultiplier = 1.0 / Math.log(maxConnections);
+    this.random = new SplittableRandom(seed);
+  }
+
+  /**
+   * 삽입 또는 교체 (기존 키는 tombstone 처리 후 새 노드로 삽입, 같은 벡터면 무시)
+   *
+   * @return 인덱스 변경 여부
+   */
+  public boolean upsert(UUID key, float[] vector) {
+    float[] normalized = normalize(vector);
+    lock.writeLock().lock();
+    try {
+      Integer existingNodeId = nodeIdByKey.get(key);
+      if (existingNodeId != null && Arrays.equals(nodes.get(existingNodeId).vector, normalized)) {
+        return false;
+      }
+      markDeleted(key);
+      insert(key, normalized);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 키가 없을 때만 삽입 (초기 적재 중 이미 최신 값으로 반영된 키를 덮어쓰지 않기 위함)
+   *
+   * @return 삽입 여부
+   */
+  public boolean insertIfAbsent(UUID key, float[] vector) {
+    float[] normalized = normalize(vector);
+    lock.writeLock().lock();
+    try {
+      if (nodeIdByKey.containsKey(key)) {
+        return false;
+      }
+      insert(key, normalized);
+      return true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(UUID key) {
+    lock.writeLock().lock();
+    try {
+      markDeleted(key);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public boolean contains(UUID key) {
+    lock.readLock().lock();
+    try {
+      return nodeIdByKey.containsKey(key);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 저장된 (정규화된) 벡터 복사본. 없으면 null
+   */
+  public float[] getVector(UUID key) {
+    lock.readLock().lock();
+    try {
+      Integer nodeId = nodeIdByKey.get(key);
+      return nodeId == null ? null : nodes.get(nodeId).vector.clone();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return nodeIdByKey.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public int deletedCount() {
+    lock.readLock().lock();
+    try {
+      return deletedCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 근사 top-k 검색. filter 를 통과한 살아있는 노드만 결과에 담고, 탐색 자체는 모든 노드를 경유한다.
+   *
+   * @param query 질의 벡터
+   * @param k 반환 개수
+   * @param ef 레이어 0 탐색 폭 (k 이상, 클수록 recall 증가/속도 감소)
+   * @param filter 결과 포함 조건 (null 이면 전체)
+   * @return 거리 오름차순 결과
+   */
+  public List<SearchResult> search(float[] query, int k, int ef, Predicate<UUID> filter) {
+    float[] normalizedQuery = normalize(query);
+    lock.readLock().lock();
+    try {
+      if (entryPoint < 0 || k <= 0) {
+        return List.of();
+      }
+      int current = entryPoint;
+      for (int level = maxLevel; level > 0; level--) {
+        current = greedyClosest(normalizedQuery, current, level);
+      }
+      PriorityQueue<Candidate> found = searchLayer(normalizedQuery, current, Math.max(ef, k), 0, filter);
+      return toSortedResults(found, k);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * 후보 키 집합에 대한 정확(brute-force) top-k 검색.
+   * 후보가 적을 때는 그래프 탐색보다 빠르고 recall 이 항상 1이다.
+   */
+  public List<SearchResult> exactSearch(float[] query, Collection<UUID> candidateKeys, int k) {
+    float[] normalizedQuery = normalize(query);
+    lock.readLock().lock();
+    try {
+      PriorityQueue<Candidate> best = new PriorityQueue<>(FARTHEST_FIRST);
+      for (UUID key : candidateKeys) {
+        Integer nodeId = nodeIdByKey.get(key);
+        if (nodeId == null) {
+          continue;
+        }
+        best.add(new Candidate(nodeId, distance(normalizedQuery, nodes.get(nodeId).vector)));
+        if (best.size() > k) {
+          best.poll();
+        }
+      }
+      return toSortedResults(best, k);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void insert(UUID key, float[] vector) {
+    int level = randomLevel();
+    int nodeId = nodes.size();
+    nodes.add(new Node(key, vector, level, maxConnections, maxConnectionsLevel0));
+    nodeIdByKey.put(key, nodeId);
+
+    if (entryPoint < 0) {
+      entryPoint = nodeId;
+      maxLevel = level;
+      return;
+    }
+
+    int current = entryPoint;
+    for (int currentLevel = maxLevel; currentLevel > level; currentLevel--) {
+      current = greedyClosest(vector, current, currentLevel);
+    }
+
+    for (int currentLevel = Math.min(level, maxLevel); currentLevel >= 0; currentLevel--) {
+      PriorityQueue<Candidate> candidates = searchLayer(vector, current, efConstruction, currentLevel, null);
+      List<Candidate> sortedCandidates = drainNearestFirst(candidates);
+      int capacity = currentLevel == 0 ? maxConnectionsLevel0 : maxConnections;
+      List<Candidate> selected = selectNeighbors(sortedCandidates, maxConnections);
+
+      Node node = nodes.get(nodeId);
+      for (Candidate neighbor : selected) {
+        node.addNeighbor(currentLevel, neighbor.nodeId());
+        connect(neighbor.nodeId(), nodeId, currentLevel, capacity);
+      }
+      current = sortedCandidates.get(0).nodeId();
+    }
+
+    if (level > maxLevel) {
+      entryPoint = nodeId;
+      maxLevel = level;
+    }
+  }
+
+  /**
+   * 이웃 목록이 가득 찼으면 기존 이웃 + 새 노드 중 휴리스틱으로 다시 고른다.
+   */
+  private void connect(int fromNodeId, int toNodeId, int level, int capacity) {
+    Node from = nodes.get(fromNodeId);
+    if (from.neighborCount(level) < capacity) {
+      from.addNeighbor(level, toNodeId);
+      return;
+    }
+    List<Candidate> candidates = new ArrayList<>(capacity + 1);
+    int[] neighbors = from.neighbors[level];
+    for (int i = 0; i < from.neighborCount(level); i++) {
+      candidates.add(new Candidate(neighbors[i], distance(from.vector, nodes.get(neighbors[i]).vector)));
+    }
+    candidates.add(new Candidate(toNodeId, distance(from.vector, nodes.get(toNodeId).vector)));
+    candidates.sort(NEAREST_FIRST);
+    from.replaceNeighbors(level, selectNeighbors(candidates, capacity));
+  }
+
+  /**
+   * 이웃 선택 휴리스틱 (HNSW 논문 Algorithm 4): 이미 고른 이웃보다 질의점에 더 가까운 후보만 채택해
+   * 한쪽 군집에 이웃이 몰리지 않도록 한다.
+   *
+   * @param sortedCandidates 거리 오름차순 후보
+   */
+  private List<Candidate> selectNeighbors(List<Candidate> sortedCandidates, int limit) {
+    List<Candidate> selected = new ArrayList<>(limit);
+    for (Candidate candidate : sortedCandidates) {
+      if (selected.size() >= limit) {
+        break;
+      }
+      float[] candidateVector = nodes.get(candidate.nodeId()).vector;
+      boolean diverse = true;
+      for (Candidate chosen : selected) {
+        if (distance(candidateVector, nodes.get(chosen.nodeId()).vector) < candidate.distance()) {
+          diverse = false;
+          break;
+        }
+      }
+      if (diverse) {
+        selected.add(candidate);
+      }
+    }
+    return selected;
+  }
+
+  private int greedyClosest(float[] query, int startNodeId, int level) {
+    int current = startNodeId;
+    double currentDistance = distance(query, nodes.get(current).vector);
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      Node node = nodes.get(current);
+      int[] neighbors = node.neighbors[level];
+      for (int i = 0; i < node.neighborCount(level); i++) {
+        double neighborDistance = distance(query, nodes.get(neighbors[i]).vector);
+        if (neighborDistance < currentDistance) {
+          currentDistance = neighborDistance;
+          current = neighbors[i];
+          improved = true;
+        }
+      }
+    }
+    return current;
+  }
+
+  /**
+   * 레이어 내 best-first 탐색. 결과 힙(최대 ef개)은 filter 통과 + 살아있는 노드만 받는다.
+   * filter 가 null 이면 삽입용 탐색으로 보고 tombstone 노드도 이웃 후보로 포함한다.
+   */
+  private PriorityQueue<Candidate> searchLayer(float[] query, int entryNodeId, int ef, int level, Predicate<UUID> filter) {
+    BitSet visited = new BitSet(nodes.size());
+    PriorityQueue<Candidate> candidates = new PriorityQueue<>(NEAREST_FIRST);
+    PriorityQueue<Candidate> results = new PriorityQueue<>(FARTHEST_FIRST);
+
+    Candidate entry = new Candidate(entryNodeId, distance(query, nodes.get(entryNodeId).vector));
+    visited.set(entryNodeId);
+    candidates.add(entry);
+    offerResult(results, entry, ef, filter);
+
+    while (!candidates.isEmpty()) {
+      Candidate closest = candidates.poll();
+      if (results.size() >= ef && closest.distance() > results.peek().distance()) {
+        break;
+      }
+      Node node = nodes.get(closest.nodeId());
+      int[] neighbors = node.neighbors[level];
+      for (int i = 0; i < node.neighborCount(level); i++) {
+        int neighborId = neighbors[i];
+        if (visited.get(neighborId)) {
+          continue;
+        }
+        visited.set(neighborId);
+        double neighborDistance = distance(query, nodes.get(neighborId).vector);
+        if (results.size() < ef || neighborDistance < results.peek().distance()) {
+          Candidate neighbor = new Candidate(neighborId, neighborDistance);
+          candidates.add(neighbor);
+          offerResult(results, neighbor, ef, filter);
+        }
+      }
+    }
+    return results;
+  }
+
+  private void offerResult(PriorityQueue<Candidate> results, Candidate candidate, int ef, Predicate<UUID> filter) {
+    if (filter != null) {
+      Node node = nodes.get(candidate.nodeId());
+      if (node.deleted || !filter.test(node.key)) {
+        return;
+      }
+    }
+    results.add(candidate);
+    if (results.size() > ef) {
+      results.poll();
+    }
+  }
+
+  private List<SearchResult> toSortedResults(PriorityQueue<Candidate> found, int k) {
+    List<Candidate> sorted = drainNearestFirst(found);
+    List<SearchResult> results = new ArrayList<>(Math.min(k, sorted.size()));
+    for (Candidate candidate : sorted) {
+      if (results.size() >= k) {
+        break;
+      }
+      Node node = nodes.get(candidate.nodeId());
+      if (!node.deleted) {
+        results.add(new SearchResult(node.key, candidate.distance()));
+      }
+    }
+    return results;
+  }
+
+  private List<Candidate> drainNearestFirst(PriorityQueue<Candidate> queue) {
+    List<Candidate> sorted = new ArrayList<>(queue);
+    sorted.sort(NEAREST_FIRST);
+    return sorted;
+  }
+
+  private void markDeleted(UUID key) {
+    Integer nodeId = nodeIdByKey.remove(key);
+    if (nodeId != null) {
+      nodes.get(nodeId).deleted = true;
+      deletedCount++;
+    }
+  }
+
+  private int randomLevel() {
+    double uniform = 1.0 - random.nextDouble();  // (0, 1]
+    return (int) Math.floor(-Math.log(uniform) * levelMultiplier);
+  }
+
+  private float[] normalize(float[] vector) {
+    if (vector == null || vector.length != dimension) {
+      throw new IllegalArgumentException("벡터 차원이 올바르지 않습니다: expected=" + dimension);
+    }
+    double squaredNorm = 0.0;
+    for (float value : vector) {
+      squaredNorm += value * value;
+    }
+    float[] normalized = new float[dimension];
+    if (squaredNorm == 0.0) {
+      return normalized;
+    }
+    double inverseNorm = 1.0 / Math.sqrt(squaredNorm);
+    for (int i = 0; i < dimension; i++) {
+      normalized[i] = (float) (vector[i] * inverseNorm);
+    }
+    return normalized;
+  }
+
+  /**
+   * 정규화된 벡터 간 코사인 거리
+   */
+  static double distance(float[] a, float[] b) {
+    double dot = 0.0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+    }
+    return 1.0 - dot;
+  }
+
+  public record SearchResult(UUID key, double distance) {
+  }
+
+  private record Candidate(int nodeId, double distance) {
+  }
+
+  private static final class Node {
+
+    private final UUID key;
+    private final float[] vector;
+    private final int[][] neighbors;
+    private final int[] neighborCounts;
+    private boolean deleted;
+
+    private Node(UUID key, float[] vector, int level, int maxConnections, int maxConnectionsLevel0) {
+      this.key = key;
+      this.vector = vector;
+      this.neighbors = new int[level + 1][];
+      this.neighborCounts = new int[level + 1];
+      for (int i = 0; i <= level; i++) {
+        this.neighbors[i] = new int[i == 0 ? maxConnectionsLevel0 : maxConnections];
+      }
+    }
+
+    private int neighborCount(int level) {
+      return neighborCounts[level];
+    }
+
+    private void addNeighbor(int level, int nodeId) {
+      neighbors[level][neighborCounts[level]++] = nodeId;
+    }
+
+    private void replaceNeighbors(int level, List<Candidate> selected) {
+      for (int i = 0; i < selected.size(); i++) {
+        neighbors[level][i] = selected.get(i).nodeId();
+      }
+      neighborCounts[level] = selected.size();
+    }
+  }
+}
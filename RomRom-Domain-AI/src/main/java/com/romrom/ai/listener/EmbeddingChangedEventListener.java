@@ -0,0 +1,35 @@
+package com.romrom.ai.listener;
+
+import com.romrom.ai.event.EmbeddingChangedEvent;
+import com.romrom.ai.service.ItemVectorIndexService;
+import com.romrom.common.constant.OriginalType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingChangedEventListener {
+
+  private final ItemVectorIndexService itemVectorIndexService;
+
+  // 롤백된 저장/삭제가 인덱스에 남지 않도록 커밋 이후 반영
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(EmbeddingChangedEvent event) {
+    if (event.originalType() != OriginalType.ITEM) {
+      return;
+    }
+    try {
+      if (event.embeddingVector() == null) {
+        itemVectorIndexService.remove(event.originalId());
+      } else {
+        itemVectorIndexService.upsert(event.originalId(), event.embeddingVector());
+      }
+    } catch (Exception e) {
+      log.error("벡터 인덱스 반영 실패: originalId={}, error={}", event.originalId(), e.getMessage(), e);
+    }
+  }
+}
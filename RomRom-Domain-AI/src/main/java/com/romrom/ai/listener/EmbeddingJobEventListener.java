@@ -0,0 +1,27 @@
+package com.romrom.ai.listener;
+
+import com.romrom.ai.event.EmbeddingJobEnqueuedEvent;
+import com.romrom.ai.service.EmbeddingJobWorker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class EmbeddingJobEventListener {
+
+  private final EmbeddingJobWorker embeddingJobWorker;
+
+  // 워커가 전용 스레드풀에서 처리하므로 @Async 없이 신호만 전달
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+  public void handle(EmbeddingJobEnqueuedEvent event) {
+    try {
+      embeddingJobWorker.trigger();
+    } catch (Exception e) {
+      log.error("임베딩 작업 워커 호출 실패: originalId={}, error={}", event.originalId(), e.getMessage(), e);
+    }
+  }
+}
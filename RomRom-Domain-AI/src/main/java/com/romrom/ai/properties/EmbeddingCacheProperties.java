@@ -0,0 +1,22 @@
+package com.romrom.ai.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "embedding.cache")
+public class EmbeddingCacheProperties {
+
+  // 캐시 사용 여부 (false면 매번 원격 임베딩 호출)
+  private boolean enabled = true;
+
+  // 인스턴스 로컬 LRU 최대 항목 수 (768차원 float 기준 항목당 약 3KB)
+  private long localMaximumSize = 5_000L;
+
+  // 영속 캐시(embedding_cache 테이블) 사용 여부
+  private boolean persistentEnabled = true;
+}
@@ -0,0 +1,26 @@
+package com.romrom.ai.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "embedding.job")
+public class EmbeddingJobProperties {
+
+  // 임베딩 워커 스레드 수 (동시 원격 호출 수 상한)
+  private int workerPoolSize = 4;
+
+  // 최대 시도 횟수 (초과 시 FAILED)
+  private int maxAttempts = 5;
+
+  // 재시도 지수 백오프 초기/최대 간격
+  private long initialBackoffSeconds = 5L;
+  private long maxBackoffSeconds = 600L;
+
+  // PROCESSING 상태로 이 시간 이상 머문 작업은 워커 중단으로 보고 재선점
+  private long processingTimeoutSeconds = 300L;
+}
@@ -0,0 +1,33 @@
+package com.romrom.ai.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "embedding.vector-index")
+public class EmbeddingVectorIndexProperties {
+
+  // 인메모리 물품 벡터 인덱스 사용 여부 (false면 항상 pgvector 조회)
+  private boolean enabled = false;
+
+  // HNSW 파라미터: 노드당 이웃 수(M), 삽입/검색 탐색 폭
+  private int maxConnections = 16;
+  private int efConstruction = 100;
+  private int efSearch = 64;
+
+  // 후보 물품 수가 이 값 이하이면 그래프 대신 정확(brute-force) 비교 (recall 1, 회원 단위 후보에 적합)
+  private int exactScanThreshold = 2_000;
+
+  // 시작 시 적재 배치 크기
+  private int loadBatchSize = 1_000;
+
+  // 다른 인스턴스에서 저장된 임베딩 반영 주기 (updated_date 기준 증분 동기화)
+  private long syncIntervalMillis = 30_000L;
+
+  // tombstone(삭제/교체된 노드) 비율이 이 값을 넘으면 재구축
+  private double rebuildDeletedRatio = 0.3;
+}
@@ -0,0 +1,33 @@
+package com.romrom.ai.repository.postgres;
+
+import com.romrom.ai.entity.postgres.EmbeddingCache;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface EmbeddingCacheRepository extends JpaRepository<EmbeddingCache, UUID> {
+
+  Optional<EmbeddingCache> findByContentHash(String contentHash);
+
+  /**
+   * 동시 요청이 같은 해시를 저장해도 예외 없이 무시.
+   * 캐시 저장 실패가 호출 측(임베딩 저장) 트랜잭션을 중단시키지 않도록 별도 트랜잭션으로 실행한다.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  @Modifying
+  @Query(value = """
+      INSERT INTO embedding_cache (embedding_cache_id, content_hash, model_id, embedding, created_date, updated_date)
+      VALUES (gen_random_uuid(), :contentHash, :modelId, CAST(:embedding AS vector), NOW(), NOW())
+      ON CONFLICT (content_hash) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(
+      @Param("contentHash") String contentHash,
+      @Param("modelId") String modelId,
+      @Param("embedding") String embedding
+  );
+}
@@ -0,0 +1,76 @@
+package com.romrom.ai.repository.postgres;
+
+import com.romrom.ai.entity.postgres.EmbeddingJob;
+import com.romrom.common.constant.EmbeddingJobStatus;
+import com.romrom.common.constant.OriginalType;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface EmbeddingJobRepository extends JpaRepository<EmbeddingJob, UUID> {
+
+  /**
+   * 작업 등록 (originalId, originalType 기준 멱등).
+   * 이미 있으면 텍스트를 교체하고 PENDING으로 되돌리며 jobVersion을 올린다.
+   */
+  @Modifying
+  @Query(value = """
+      INSERT INTO embedding_job (embedding_job_id, original_id, original_type, source_text, status,
+                                 attempt_count, job_version, next_attempt_at, created_date, updated_date)
+      VALUES (gen_random_uuid(), :originalId, :originalType, :sourceText, 'PENDING', 0, 0, NOW(), NOW(), NOW())
+      ON CONFLICT (original_id, original_type) DO UPDATE
+      SET source_text = EXCLUDED.source_text,
+          status = 'PENDING',
+          attempt_count = 0,
+          job_version = embedding_job.job_version + 1,
+          next_attempt_at = NOW(),
+          last_error_message = NULL,
+          updated_date = NOW()
+      """, nativeQuery = true)
+  int upsertPendingJob(
+      @Param("originalId") UUID originalId,
+      @Param("originalType") String originalType,
+      @Param("sourceText") String sourceText
+  );
+
+  /**
+   * 처리 가능한 작업 선점 조회.
+   * 재시도 시각이 지난 PENDING 작업과, 워커 중단으로 PROCESSING에 머문 작업을 가져온다.
+   * SKIP LOCKED로 여러 워커/인스턴스가 같은 작업을 중복 선점하지 않는다.
+   */
+  @Query(value = """
+      SELECT *
+      FROM embedding_job j
+      WHERE (j.status = 'PENDING' AND j.next_attempt_at <= :now)
+         OR (j.status = 'PROCESSING' AND j.updated_date < :processingStaleBefore)
+      ORDER BY j.next_attempt_at
+      LIMIT :limit
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+  List<EmbeddingJob> findClaimableJobsForUpdate(
+      @Param("now") LocalDateTime now,
+      @Param("processingStaleBefore") LocalDateTime processingStaleBefore,
+      @Param("limit") int limit
+  );
+
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT j FROM EmbeddingJob j WHERE j.embeddingJobId = :embeddingJobId")
+  Optional<EmbeddingJob> findByIdForUpdate(@Param("embeddingJobId") UUID embeddingJobId);
+
+  long countByStatus(EmbeddingJobStatus status);
+
+  @Modifying
+  @Query("DELETE FROM EmbeddingJob j WHERE j.originalId = :originalId AND j.originalType = :originalType")
+  int deleteByOriginalIdAndOriginalType(@Param("originalId") UUID originalId, @Param("originalType") OriginalType originalType);
+
+  @Modifying
+  @Query("DELETE FROM EmbeddingJob j WHERE j.originalId IN :ids AND j.originalType = :type")
+  void deleteAllByOriginalIdsAndType(@Param("ids") List<UUID> ids, @Param("type") OriginalType type);
+}
@@ -0,0 +1,169 @@
+package com.romrom.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romrom.ai.EmbeddingUtil;
+import com.romrom.ai.properties.EmbeddingCacheProperties;
+import com.romrom.ai.repository.postgres.EmbeddingCacheRepository;
+import com.romrom.common.util.CommonUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 임베딩 결과 content-addressed 2단 캐시.
+ *
+ * <p>키는 (임베딩 모델 ID + 정규화 텍스트)의 SHA-256 해시이며, 1단은 인스턴스 로컬 LRU, 2단은 embedding_cache 테이블이다.
+ * 물품 재등록, 텍스트 변경 없는 물품 수정, 카테고리 매칭처럼 같은 텍스트를 다시 임베딩하는 경우 원격 호출을 생략한다.
+ *
+ * <p>지표: embedding_cache_requests_total{result=local|persistent|miss}, cache_hit_ratio{cache=embedding},
+ * embedding_provider_latency(원격 호출 지연), embedding_cache_saved_latency_milliseconds_total(히트로 절약한 추정 지연)
+ */
+@Service
+@Slf4j
+public class EmbeddingCacheService {
+
+  private static final String CACHE_NAME = "embedding";
+
+  // embedding_cache.embedding 컬럼 차원 (VECTOR(768))
+  private static final int EMBEDDING_DIMENSION = 768;
+
+  private final EmbeddingCacheProperties embeddingCacheProperties;
+  private final EmbeddingCacheRepository embeddingCacheRepository;
+  private final Cache<String, float[]> localCache;
+
+  private final Counter localHitCounter;
+  private final Counter persistentHitCounter;
+  private final Counter missCounter;
+  private final Timer providerLatencyTimer;
+  private final Counter savedLatencyCounter;
+
+  public EmbeddingCacheService(
+      EmbeddingCacheProperties embeddingCacheProperties,
+      EmbeddingCacheRepository embeddingCacheRepository,
+      MeterRegistry meterRegistry) {
+    this.embeddingCacheProperties = embeddingCacheProperties;
+    this.embeddingCacheRepository = embeddingCacheRepository;
+    this.localCache = Caffeine.newBuilder()
+        .maximumSize(embeddingCacheProperties.getLocalMaximumSize())
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME + ".local");
+
+    this.localHitCounter = requestCounter(meterRegistry, "local");
+    this.persistentHitCounter = requestCounter(meterRegistry, "persistent");
+    this.missCounter = requestCounter(meterRegistry, "miss");
+    this.providerLatencyTimer = Timer.builder("embedding.provider.latency")
+        .description("원격 임베딩 provider 호출 지연")
+        .register(meterRegistry);
+    this.savedLatencyCounter = Counter.builder("embedding.cache.saved.latency")
+        .baseUnit("milliseconds")
+        .description("캐시 히트로 생략한 원격 호출 지연 추정치 (provider 평균 지연 기준)")
+        .register(meterRegistry);
+    Gauge.builder("cache.hit.ratio", this, EmbeddingCacheService::hitRatio)
+        .tag("cache", CACHE_NAME)
+        .description("임베딩 캐시 히트율 (로컬 + 영속)")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 캐시된 임베딩 조회 (로컬 LRU → embedding_cache 테이블 순)
+   *
+   * @param normalizedText 정규화된 입력 텍스트
+   * @param modelId        임베딩 모델 ID
+   * @return 캐시된 벡터 복사본, 없으면 empty
+   */
+  public Optional<float[]> find(String normalizedText, String modelId) {
+    if (!embeddingCacheProperties.isEnabled()) {
+      return Optional.empty();
+    }
+    String contentHash = contentHash(normalizedText, modelId);
+
+    float[] localVector = localCache.getIfPresent(contentHash);
+    if (localVector != null) {
+      recordHit(localHitCounter);
+      return Optional.of(localVector.clone());
+    }
+
+    if (embeddingCacheProperties.isPersistentEnabled()) {
+      try {
+        Optional<float[]> persistentVector = embeddingCacheRepository.findByContentHash(contentHash)
+            .map(embeddingCache -> embeddingCache.getEmbedding());
+        if (persistentVector.isPresent()) {
+          localCache.put(contentHash, persistentVector.get());
+          recordHit(persistentHitCounter);
+          return Optional.of(persistentVector.get().clone());
+        }
+      } catch (Exception e) {
+        log.warn("임베딩 영속 캐시 조회 실패, 원격 호출로 진행: {}", e.getMessage());
+      }
+    }
+
+    missCounter.increment();
+    return Optional.empty();
+  }
+
+  /**
+   * 원격 provider로 생성한 임베딩 저장
+   *
+   * @param normalizedText       정규화된 입력 텍스트
+   * @param modelId              임베딩 모델 ID
+   * @param embeddingVector      생성된 벡터
+   * @param providerLatencyNanos 원격 호출 지연 (절약 지연 추정에 사용)
+   */
+  public void store(String normalizedText, String modelId, float[] embeddingVector, long providerLatencyNanos) {
+    providerLatencyTimer.record(providerLatencyNanos, TimeUnit.NANOSECONDS);
+    if (!embeddingCacheProperties.isEnabled() || embeddingVector == null) {
+      return;
+    }
+    String contentHash = contentHash(normalizedText, modelId);
+    float[] cachedVector = embeddingVector.clone();
+    localCache.put(contentHash, cachedVector);
+
+    if (embeddingCacheProperties.isPersistentEnabled() && cachedVector.length == EMBEDDING_DIMENSION) {
+      try {
+        embeddingCacheRepository.insertIfAbsent(contentHash, modelId, EmbeddingUtil.toVectorLiteral(cachedVector));
+      } catch (Exception e) {
+        log.warn("임베딩 영속 캐시 저장 실패 (로컬 캐시만 유지): {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 로컬 캐시 전체 비우기 (영속 캐시는 유지)
+   */
+  public void evictAllLocal() {
+    localCache.invalidateAll();
+  }
+
+  /**
+   * 모델 ID를 키에 포함해, 임베딩 모델 변경 시 이전 모델의 벡터가 섞이지 않게 한다
+   */
+  static String contentHash(String normalizedText, String modelId) {
+    return CommonUtil.calculateSha256ByStr(modelId + "\u0000" + normalizedText);
+  }
+
+  private void recordHit(Counter hitCounter) {
+    hitCounter.increment();
+    savedLatencyCounter.increment(providerLatencyTimer.mean(TimeUnit.MILLISECONDS));
+  }
+
+  private double hitRatio() {
+    double hitCount = localHitCounter.count() + persistentHitCounter.count();
+    double totalCount = hitCount + missCounter.count();
+    return totalCount == 0 ? 0.0 : hitCount / totalCount;
+  }
+
+  private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("embedding.cache.requests")
+        .tag("result", result)
+        .description("임베딩 캐시 조회 결과")
+        .register(meterRegistry);
+  }
+}
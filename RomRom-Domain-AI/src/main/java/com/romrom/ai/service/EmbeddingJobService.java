@@ -0,0 +1,171 @@
+package com.romrom.ai.service;
+
+import com.romrom.ai.entity.postgres.EmbeddingJob;
+import com.romrom.ai.event.EmbeddingJobEnqueuedEvent;
+import com.romrom.ai.properties.EmbeddingJobProperties;
+import com.romrom.ai.repository.postgres.EmbeddingJobRepository;
+import com.romrom.common.constant.EmbeddingJobStatus;
+import com.romrom.common.constant.OriginalType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 임베딩 outbox 작업 서비스.
+ *
+ * <p>물품 쓰기 트랜잭션은 {@link #enqueueItemEmbedding}으로 작업 행만 기록하고 바로 커밋한다.
+ * 원격 임베딩 호출은 {@code EmbeddingJobWorker}가 트랜잭션 밖에서 수행하므로,
+ * DB 커넥션은 선점/완료 처리 같은 짧은 트랜잭션 동안만 점유된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmbeddingJobService {
+
+  private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+  private final EmbeddingJobRepository embeddingJobRepository;
+  private final EmbeddingService embeddingService;
+  private final EmbeddingJobProperties embeddingJobProperties;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 아이템 임베딩 작업 등록 (같은 아이템의 기존 작업은 최신 텍스트로 교체)
+   * 커밋 이후 워커가 처리하며, 롤백되면 작업도 함께 사라진다.
+   *
+   * @param itemText 임베딩 생성에 사용할 아이템 텍스트
+   * @param itemId   아이템 ID
+   */
+  @Transactional
+  public void enqueueItemEmbedding(String itemText, UUID itemId) {
+    embeddingJobRepository.upsertPendingJob(itemId, OriginalType.ITEM.name(), itemText);
+    eventPublisher.publishEvent(new EmbeddingJobEnqueuedEvent(itemId, OriginalType.ITEM));
+    log.debug("아이템 임베딩 작업 등록: itemId={}", itemId);
+  }
+
+  /**
+   * 처리 가능한 작업 선점 (PROCESSING 전환 후 커밋)
+   *
+   * @param limit 최대 선점 개수
+   * @return 선점한 작업 스냅샷
+   */
+  @Transactional
+  public List<ClaimedEmbeddingJob> claimJobs(int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    LocalDateTime processingStaleBefore = now.minusSeconds(embeddingJobProperties.getProcessingTimeoutSeconds());
+    List<EmbeddingJob> claimableJobs = embeddingJobRepository.findClaimableJobsForUpdate(now, processingStaleBefore, limit);
+
+    return claimableJobs.stream()
+        .map(embeddingJob -> {
+          embeddingJob.setStatus(EmbeddingJobStatus.PROCESSING);
+          embeddingJob.setAttemptCount(embeddingJob.getAttemptCount() + 1);
+          return ClaimedEmbeddingJob.from(embeddingJob);
+        })
+        .toList();
+  }
+
+  /**
+   * 작업 완료: Embedding upsert 후 작업 삭제.
+   * 처리 중 같은 대상이 재등록(jobVersion 증가)되었거나 삭제된 경우, 이전 텍스트의 결과는 저장하지 않는다.
+   *
+   * @return 저장 여부
+   */
+  @Transactional
+  public boolean completeJob(ClaimedEmbeddingJob claimedJob, float[] embeddingVector) {
+    EmbeddingJob embeddingJob = embeddingJobRepository.findByIdForUpdate(claimedJob.embeddingJobId()).orElse(null);
+    if (!isStillOwned(embeddingJob, claimedJob)) {
+      log.debug("임베딩 작업이 재등록/삭제되어 결과 폐기: originalId={}", claimedJob.originalId());
+      return false;
+    }
+
+    embeddingService.saveOrUpdateEmbedding(claimedJob.originalId(), claimedJob.originalType(), embeddingVector);
+    embeddingJobRepository.delete(embeddingJob);
+    log.debug("임베딩 작업 완료: originalId={}, 시도={}회", claimedJob.originalId(), claimedJob.attemptCount());
+    return true;
+  }
+
+  /**
+   * 작업 실패: 최대 시도 전이면 지수 백오프 후 재시도, 초과 시 FAILED
+   */
+  @Transactional
+  public void failJob(ClaimedEmbeddingJob claimedJob, String errorMessage) {
+    EmbeddingJob embeddingJob = embeddingJobRepository.findByIdForUpdate(claimedJob.embeddingJobId()).orElse(null);
+    if (!isStillOwned(embeddingJob, claimedJob)) {
+      return;
+    }
+
+    embeddingJob.setLastErrorMessage(truncate(errorMessage));
+    if (claimedJob.attemptCount() >= embeddingJobProperties.getMaxAttempts()) {
+      embeddingJob.setStatus(EmbeddingJobStatus.FAILED);
+      log.error("임베딩 작업 최종 실패: originalId={}, 시도={}회, error={}",
+          claimedJob.originalId(), claimedJob.attemptCount(), errorMessage);
+      return;
+    }
+
+    long backoffSeconds = backoffSeconds(claimedJob.attemptCount(),
+        embeddingJobProperties.getInitialBackoffSeconds(), embeddingJobProperties.getMaxBackoffSeconds());
+    embeddingJob.setStatus(EmbeddingJobStatus.PENDING);
+    embeddingJob.setNextAttemptAt(LocalDateTime.now().plusSeconds(backoffSeconds));
+    log.warn("임베딩 작업 실패, {}초 후 재시도: originalId={}, 시도={}회, error={}",
+        backoffSeconds, claimedJob.originalId(), claimedJob.attemptCount(), errorMessage);
+  }
+
+  /**
+   * 임베딩 생성 대기 중인 작업 수 (PENDING + PROCESSING)
+   */
+  @Transactional(readOnly = true)
+  public long countPendingJobs() {
+    return embeddingJobRepository.countByStatus(EmbeddingJobStatus.PENDING)
+        + embeddingJobRepository.countByStatus(EmbeddingJobStatus.PROCESSING);
+  }
+
+  /**
+   * 재시도 간격: initial * 2^(attempt-1), 최대 max
+   */
+  static long backoffSeconds(int attemptCount, long initialBackoffSeconds, long maxBackoffSeconds) {
+    int exponent = Math.min(Math.max(attemptCount - 1, 0), 30);
+    return Math.min(initialBackoffSeconds << exponent, maxBackoffSeconds);
+  }
+
+  private boolean isStillOwned(EmbeddingJob embeddingJob, ClaimedEmbeddingJob claimedJob) {
+    return embeddingJob != null
+        && embeddingJob.getStatus() == EmbeddingJobStatus.PROCESSING
+        && embeddingJob.getJobVersion() == claimedJob.jobVersion();
+  }
+
+  private String truncate(String errorMessage) {
+    if (errorMessage == null || errorMessage.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+      return errorMessage;
+    }
+    return errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+  }
+
+  /**
+   * 선점 시점의 작업 스냅샷 (트랜잭션 밖 워커에서 사용)
+   */
+  public record ClaimedEmbeddingJob(
+      UUID embeddingJobId,
+      UUID originalId,
+      OriginalType originalType,
+      String sourceText,
+      long jobVersion,
+      int attemptCount
+  ) {
+
+    static ClaimedEmbeddingJob from(EmbeddingJob embeddingJob) {
+      return new ClaimedEmbeddingJob(
+          embeddingJob.getEmbeddingJobId(),
+          embeddingJob.getOriginalId(),
+          embeddingJob.getOriginalType(),
+          embeddingJob.getSourceText(),
+          embeddingJob.getJobVersion(),
+          embeddingJob.getAttemptCount()
+      );
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.romrom.ai.service;
+
+import com.romrom.ai.properties.EmbeddingJobProperties;
+import com.romrom.ai.service.EmbeddingJobService.ClaimedEmbeddingJob;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 임베딩 outbox 워커.
+ *
+ * <p>작업 등록 커밋 이후 또는 주기 폴링 시 {@link #trigger()}가 호출되면, 풀 크기만큼의 drain 루프를 띄워
+ * 작업을 하나씩 선점 → 원격 임베딩 생성(트랜잭션 밖) → 완료/실패 처리한다.
+ * 폴링은 재시도 대기 작업과, 인스턴스 재시작으로 유실된 알림을 처리하는 안전망이다.
+ */
+@Component
+@Slf4j
+public class EmbeddingJobWorker {
+
+  private final EmbeddingJobService embeddingJobService;
+  private final EmbeddingService embeddingService;
+  private final ThreadPoolTaskExecutor embeddingJobExecutor;
+  private final int workerPoolSize;
+
+  private final AtomicInteger activeWorkerCount = new AtomicInteger();
+  // drain 루프가 빈 큐를 확인한 직후 들어온 알림을 놓치지 않기 위한 신호
+  private final AtomicBoolean workSignaled = new AtomicBoolean();
+
+  public EmbeddingJobWorker(
+      EmbeddingJobService embeddingJobService,
+      EmbeddingService embeddingService,
+      EmbeddingJobProperties embeddingJobProperties,
+      @Qualifier("embeddingJobExecutor") ThreadPoolTaskExecutor embeddingJobExecutor
+  ) {
+    this.embeddingJobService = embeddingJobService;
+    this.embeddingService = embeddingService;
+    this.embeddingJobExecutor = embeddingJobExecutor;
+    this.workerPoolSize = Math.max(1, embeddingJobProperties.getWorkerPoolSize());
+  }
+
+  /**
+   * 처리 요청. 이미 풀 크기만큼 drain 루프가 돌고 있으면 신호만 남긴다.
+   */
+  public void trigger() {
+    workSignaled.set(true);
+    int activeCount;
+    do {
+      activeCount = activeWorkerCount.get();
+      if (activeCount >= workerPoolSize) {
+        return;
+      }
+    } while (!activeWorkerCount.compareAndSet(activeCount, activeCount + 1));
+
+    try {
+      embeddingJobExecutor.execute(this::drain);
+    } catch (TaskRejectedException e) {
+      activeWorkerCount.decrementAndGet();
+      log.warn("임베딩 작업 워커 제출 거부 (다음 폴링에서 재시도): {}", e.getMessage());
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${embedding.job.poll-interval-millis:10000}")
+  public void pollJobs() {
+    trigger();
+  }
+
+  private void drain() {
+    try {
+      while (true) {
+        workSignaled.set(false);
+        List<ClaimedEmbeddingJob> claimedJobs = embeddingJobService.claimJobs(1);
+        if (claimedJobs.isEmpty()) {
+          break;
+        }
+        claimedJobs.forEach(this::process);
+      }
+    } catch (Exception e) {
+      log.error("임베딩 작업 선점 실패: {}", e.getMessage(), e);
+    } finally {
+      activeWorkerCount.decrementAndGet();
+    }
+    if (workSignaled.get()) {
+      trigger();
+    }
+  }
+
+  private void process(ClaimedEmbeddingJob claimedJob) {
+    try {
+      float[] embeddingVector = embeddingService.generateEmbeddingVector(claimedJob.sourceText());
+      embeddingJobService.completeJob(claimedJob, embeddingVector);
+    } catch (Exception e) {
+      try {
+        embeddingJobService.failJob(claimedJob, e.getMessage());
+      } catch (Exception failException) {
+        // 상태 갱신까지 실패하면 processing-timeout 이후 재선점된다
+        log.error("임베딩 작업 실패 상태 기록 실패: originalId={}", claimedJob.originalId(), failException);
+      }
+    }
+  }
+}
@@ -2,7 +2,9 @@ package com.romrom.ai.service;
 
 import com.google.genai.types.EmbedContentResponse;
 import com.romrom.ai.EmbeddingUtil;
+import com.romrom.ai.event.EmbeddingChangedEvent;
 import com.romrom.ai.properties.SuhAiderProperties;
+import com.romrom.ai.repository.postgres.EmbeddingJobRepository;
 import com.romrom.common.constant.OriginalType;
 import com.romrom.common.entity.postgres.Embedding;
 import com.romrom.common.repository.EmbeddingRepository;
@@ -10,10 +12,12 @@ import com.romrom.common.util.CommonUtil;
 import kr.suhsaechan.ai.service.SuhAiderEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -22,9 +26,12 @@ import java.util.UUID;
 public class EmbeddingService {
 
   private final EmbeddingRepository embeddingRepository;
+  private final EmbeddingJobRepository embeddingJobRepository;
   private final VertexAiClient vertexAiClient;
   private final SuhAiderEngine suhAiderEngine;
   private final SuhAiderProperties suhAiderProperties;
+  private final EmbeddingCacheService embeddingCacheService;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * 아이템 임베딩 생성 및 저장
@@ -42,6 +49,7 @@ public class EmbeddingService {
           .build();
 
       embeddingRepository.save(embedding);
+      eventPublisher.publishEvent(new EmbeddingChangedEvent(itemId, OriginalType.ITEM, embeddingVector));
       log.debug("아이템 임베딩 저장 완료: itemId={}", itemId);
 
     } catch (Exception e) {
@@ -61,33 +69,46 @@ public class EmbeddingService {
   public void updateItemEmbedding(String itemText, UUID itemId) {
     try {
       float[] newEmbeddingVector = generateEmbeddingVector(itemText);
-
-      embeddingRepository
-          .findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(itemId, OriginalType.ITEM)
-          .ifPresentOrElse(
-              existingEmbedding -> {
-                // 기존 임베딩 벡터값 갱신 (DELETE + INSERT 없이 UPDATE만 실행)
-                existingEmbedding.setEmbedding(newEmbeddingVector);
-                embeddingRepository.save(existingEmbedding);
-                log.debug("아이템 임베딩 업데이트 완료: itemId={}", itemId);
-              },
-              () -> {
-                // 임베딩이 없는 경우 신규 생성
-                Embedding newEmbedding = Embedding.builder()
-                    .originalId(itemId)
-                    .embedding(newEmbeddingVector)
-                    .originalType(OriginalType.ITEM)
-                    .build();
-                embeddingRepository.save(newEmbedding);
-                log.debug("아이템 임베딩 신규 생성 (기존 없음): itemId={}", itemId);
-              }
-          );
+      saveOrUpdateEmbedding(itemId, OriginalType.ITEM, newEmbeddingVector);
     } catch (Exception e) {
       log.error("아이템 임베딩 업데이트 실패: itemId={}", itemId, e);
       // 임베딩 업데이트 실패해도 아이템 수정은 계속 진행
     }
   }
 
+  /**
+   * 임베딩 upsert ((originalId, originalType) 기준)
+   * 기존 임베딩이 있으면 벡터값만 갱신, 없으면 신규 생성 (DELETE + INSERT 없이 unique constraint 위반 방지)
+   *
+   * @param originalId 원본 ID
+   * @param originalType 원본 타입
+   * @param embeddingVector 저장할 벡터
+   */
+  @Transactional
+  public void saveOrUpdateEmbedding(UUID originalId, OriginalType originalType, float[] embeddingVector) {
+    embeddingRepository
+        .findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(originalId, originalType)
+        .ifPresentOrElse(
+            existingEmbedding -> {
+              // 기존 임베딩 벡터값 갱신 (DELETE + INSERT 없이 UPDATE만 실행)
+              existingEmbedding.setEmbedding(embeddingVector);
+              embeddingRepository.save(existingEmbedding);
+              log.debug("임베딩 업데이트 완료: originalId={}, originalType={}", originalId, originalType);
+            },
+            () -> {
+              // 임베딩이 없는 경우 신규 생성
+              Embedding newEmbedding = Embedding.builder()
+                  .originalId(originalId)
+                  .embedding(embeddingVector)
+                  .originalType(originalType)
+                  .build();
+              embeddingRepository.save(newEmbedding);
+              log.debug("임베딩 신규 생성 (기존 없음): originalId={}, originalType={}", originalId, originalType);
+            }
+        );
+    eventPublisher.publishEvent(new EmbeddingChangedEvent(originalId, originalType, embeddingVector));
+  }
+
   /**
    * 아이템 임베딩 삭제
    *
@@ -97,6 +118,9 @@ public class EmbeddingService {
   public void deleteItemEmbedding(UUID itemId) {
     try {
       int deletedCount = embeddingRepository.deleteByOriginalIdAndOriginalType(itemId, OriginalType.ITEM);
+      // 대기 중인 생성 작업이 삭제 이후 임베딩을 다시 만들지 않도록 함께 제거
+      embeddingJobRepository.deleteByOriginalIdAndOriginalType(itemId, OriginalType.ITEM);
+      eventPublisher.publishEvent(new EmbeddingChangedEvent(itemId, OriginalType.ITEM, null));
       log.debug("아이템 임베딩 삭제 완료: itemId={}, 삭제건수={}", itemId, deletedCount);
     } catch (Exception e) {
       log.error("아이템 임베딩 삭제 실패: itemId={}", itemId, e);
@@ -144,22 +168,32 @@ public class EmbeddingService {
   }
 
   /**
-   * 텍스트 정규화 및 임베딩 생성 후 벡터 추출 SUH-AIder 사용 > 실패 시 Vertex AI fallback
+   * 텍스트 정규화 및 임베딩 생성 후 벡터 추출 (캐시 조회 > SUH-AIder > 실패 시 Vertex AI fallback)
+   * 같은 정규화 텍스트는 embedding cache에서 반환하고, SUH-AIder 결과만 캐시에 저장한다
+   * (fallback 모델 벡터가 기본 모델 키로 고정되지 않도록)
    */
   public float[] generateEmbeddingVector(String text) {
-    log.debug("임베딩 생성 요청, 텍스트 정규화, 임베딩 생성, 벡터 추출 순서로 진행: {}", text);
+    log.debug("임베딩 생성 요청, 텍스트 정규화, 캐시 조회, 임베딩 생성, 벡터 추출 순서로 진행: {}", text);
     // 텍스트 정규화
     String normalized = CommonUtil.normalizeSpaces(text);
     log.debug("Normalized text: \"{}\"", normalized);
 
+    String embeddingModel = suhAiderProperties.getEmbedding().getDefaultModel();
+    Optional<float[]> cachedVector = embeddingCacheService.find(normalized, embeddingModel);
+    if (cachedVector.isPresent()) {
+      log.debug("임베딩 캐시 히트: 차원={}", cachedVector.get().length);
+      return cachedVector.get();
+    }
+
     // 요청 시작 시각
     long startMs = System.currentTimeMillis();
+    long startNanos = System.nanoTime();
 
     // SUH-AIder (Embedding)
     try {
-      String embeddingModel = suhAiderProperties.getEmbedding().getDefaultModel();
       List<Double> embedding = suhAiderEngine.embed(embeddingModel, normalized);
       float[] embeddingVector = CommonUtil.convertDoubleListToFloatArray(embedding);
+      embeddingCacheService.store(normalized, embeddingModel, embeddingVector, System.nanoTime() - startNanos);
       log.debug("SUH-AIder 임베딩 생성 완료: 차원={}, 지연시간={}ms",
           embeddingVector.length, System.currentTimeMillis() - startMs);
       return embeddingVector;
@@ -189,6 +223,8 @@ public class EmbeddingService {
     try {
       // 임베딩 일괄 삭제
       embeddingRepository.deleteAllByOriginalIdsAndType(itemIds, OriginalType.ITEM);
+      embeddingJobRepository.deleteAllByOriginalIdsAndType(itemIds, OriginalType.ITEM);
+      itemIds.forEach(itemId -> eventPublisher.publishEvent(new EmbeddingChangedEvent(itemId, OriginalType.ITEM, null)));
       log.debug("아이템 임베딩 일괄 삭제 완료: count={}", itemIds.size());
 
     } catch (Exception e) {
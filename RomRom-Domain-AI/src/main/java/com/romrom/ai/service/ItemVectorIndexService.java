@@ -0,0 +1,295 @@
+package com.romrom.ai.service;
+
+import com.romrom.ai.index.HnswIndex;
+import com.romrom.ai.index.HnswIndex.SearchResult;
+import com.romrom.ai.properties.EmbeddingVectorIndexProperties;
+import com.romrom.common.constant.OriginalType;
+import com.romrom.common.entity.postgres.Embedding;
+import com.romrom.common.repository.EmbeddingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 물품 임베딩 인메모리 근사 최근접 이웃(HNSW) 인덱스 서비스.
+ *
+ * <p>{@code embedding.vector-index.enabled=true} 일 때만 동작하며, 시작 시 embedding 테이블의 ITEM 벡터를 적재한다.
+ * 적재 전이거나 비활성화 상태에서는 조회 메서드가 비어 있는 Optional 을 반환하므로 호출 측은 pgvector 조회로 폴백한다.
+ *
+ * <p>동기화: 같은 인스턴스의 저장/삭제는 {@code EmbeddingChangedEvent}(커밋 이후)로 즉시 반영하고,
+ * 다른 인스턴스(임베딩 워커)가 저장한 벡터는 updated_date 기준 증분 폴링으로 반영한다.
+ * 다른 인스턴스의 삭제는 폴링으로 알 수 없지만, 호출 측 후보/필터(거래 가능 물품)에서 걸러지고 재구축 시 정리된다.
+ */
+@Service
+@Slf4j
+public class ItemVectorIndexService {
+
+  private static final int EMBEDDING_DIMENSION = 768;
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+  // 커밋 지연으로 updated_date 가 폴링 시각보다 앞서 기록된 행을 놓치지 않기 위한 중복 구간
+  private static final long SYNC_OVERLAP_SECONDS = 60L;
+
+  private final EmbeddingRepository embeddingRepository;
+  private final EmbeddingVectorIndexProperties properties;
+  private final ThreadPoolTaskExecutor itemVectorIndexExecutor;
+  private final Counter indexQueryCounter;
+  private final Counter fallbackQueryCounter;
+
+  private volatile HnswIndex activeIndex;
+  private volatile LocalDateTime lastSyncedAt;
+
+  // 적재 중인 인덱스와 적재 도중 삭제된 키 (mutationLock 으로 보호)
+  private final Object mutationLock = new Object();
+  private HnswIndex loadingIndex;
+  private final Set<UUID> removedDuringLoad = new HashSet<>();
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+  public ItemVectorIndexService(
+      EmbeddingRepository embeddingRepository,
+      EmbeddingVectorIndexProperties properties,
+      @Qualifier("itemVectorIndexExecutor") ThreadPoolTaskExecutor itemVectorIndexExecutor,
+      MeterRegistry meterRegistry
+  ) {
+    this.embeddingRepository = embeddingRepository;
+    this.properties = properties;
+    this.itemVectorIndexExecutor = itemVectorIndexExecutor;
+    this.indexQueryCounter = Counter.builder("embedding.vector.index.queries")
+        .tag("result", "index")
+        .description("인메모리 벡터 인덱스로 처리한 유사도 조회 수")
+        .register(meterRegistry);
+    this.fallbackQueryCounter = Counter.builder("embedding.vector.index.queries")
+        .tag("result", "fallback")
+        .description("인덱스 미적재로 pgvector 로 폴백한 유사도 조회 수")
+        .register(meterRegistry);
+    Gauge.builder("embedding.vector.index.size", this, service -> {
+          HnswIndex index = service.activeIndex;
+          return index != null ? index.size() : 0;
+        })
+        .description("인메모리 벡터 인덱스 물품 수")
+        .register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    if (properties.isEnabled()) {
+      requestRebuild();
+    }
+  }
+
+  public boolean isReady() {
+    return properties.isEnabled() && activeIndex != null;
+  }
+
+  /**
+   * 후보 물품 중 질의 벡터와 가까운 순으로 최대 limit 개 반환 (임베딩 없는 후보는 제외)
+   * 후보가 exactScanThreshold 이하이면 정확 비교, 초과하면 HNSW 근사 검색
+   *
+   * @return 인덱스 미적재/비활성화 시 Optional.empty() (호출 측 pgvector 폴백)
+   */
+  public Optional<List<UUID>> findNearestItemIds(float[] queryVector, Collection<UUID> candidateItemIds, int limit) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    HnswIndex index = activeIndex;
+    if (index == null || queryVector == null || queryVector.length != EMBEDDING_DIMENSION) {
+      fallbackQueryCounter.increment();
+      return Optional.empty();
+    }
+    List<SearchResult> results;
+    if (candidateItemIds.size() <= properties.getExactScanThreshold()) {
+      results = index.exactSearch(queryVector, candidateItemIds, limit);
+    } else {
+      Set<UUID> candidateSet = candidateItemIds instanceof Set<UUID> set ? set : new HashSet<>(candidateItemIds);
+      results = index.search(queryVector, limit, Math.max(properties.getEfSearch(), limit), candidateSet::contains);
+    }
+    indexQueryCounter.increment();
+    return Optional.of(results.stream().map(SearchResult::key).toList());
+  }
+
+  /**
+   * 전체 물품 대상 근사 top-k (filter 로 거래 상태 등 조건 적용)
+   */
+  public Optional<List<UUID>> findNearestItemIds(float[] queryVector, int limit, Predicate<UUID> filter) {
+    if (!properties.isEnabled()) {
+      return Optional.empty();
+    }
+    HnswIndex index = activeIndex;
+    if (index == null || queryVector == null || queryVector.length != EMBEDDING_DIMENSION) {
+      fallbackQueryCounter.increment();
+      return Optional.empty();
+    }
+    List<SearchResult> results = index.search(queryVector, limit, Math.max(properties.getEfSearch(), limit), filter);
+    indexQueryCounter.increment();
+    return Optional.of(results.stream().map(SearchResult::key).toList());
+  }
+
+  /**
+   * 인덱스에 적재된 물품 벡터 (정규화된 값이라 코사인 거리 질의에 그대로 사용 가능)
+   */
+  public Optional<float[]> findItemVector(UUID itemId) {
+    HnswIndex index = activeIndex;
+    if (!properties.isEnabled() || index == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(index.getVector(itemId));
+  }
+
+  public void upsert(UUID itemId, float[] embeddingVector) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    try {
+      synchronized (mutationLock) {
+        HnswIndex index = activeIndex;
+        if (index != null) {
+          index.upsert(itemId, embeddingVector);
+        }
+        if (loadingIndex != null) {
+          loadingIndex.upsert(itemId, embeddingVector);
+          removedDuringLoad.remove(itemId);
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      log.warn("벡터 인덱스 반영 제외 (차원 불일치): itemId={}", itemId);
+    }
+  }
+
+  public void remove(UUID itemId) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    synchronized (mutationLock) {
+      HnswIndex index = activeIndex;
+      if (index != null) {
+        index.remove(itemId);
+      }
+      if (loadingIndex != null) {
+        loadingIndex.remove(itemId);
+        removedDuringLoad.add(itemId);
+      }
+    }
+  }
+
+  /**
+   * 다른 인스턴스에서 저장된 임베딩 증분 반영 + tombstone 비율 초과 시 재구축 요청
+   */
+  @Scheduled(fixedDelayString = "${embedding.vector-index.sync-interval-millis:30000}")
+  public void syncChanges() {
+    HnswIndex index = activeIndex;
+    LocalDateTime since = lastSyncedAt;
+    if (!properties.isEnabled() || index == null || since == null || rebuilding.get()) {
+      return;
+    }
+    LocalDateTime syncStartedAt = LocalDateTime.now();
+    try {
+      List<Embedding> changedEmbeddings = embeddingRepository.findByOriginalTypeAndUpdatedDateAfter(
+          OriginalType.ITEM, since.minusSeconds(SYNC_OVERLAP_SECONDS));
+      changedEmbeddings.forEach(embedding -> upsert(embedding.getOriginalId(), embedding.getEmbedding()));
+      lastSyncedAt = syncStartedAt;
+      if (!changedEmbeddings.isEmpty()) {
+        log.debug("벡터 인덱스 증분 동기화: {} 건", changedEmbeddings.size());
+      }
+    } catch (Exception e) {
+      log.warn("벡터 인덱스 증분 동기화 실패 (다음 주기에 재시도): {}", e.getMessage());
+    }
+
+    int liveCount = index.size();
+    int deletedCount = index.deletedCount();
+    if (deletedCount > 0 && deletedCount > (liveCount + deletedCount) * properties.getRebuildDeletedRatio()) {
+      log.info("벡터 인덱스 tombstone 비율 초과로 재구축: live={}, deleted={}", liveCount, deletedCount);
+      requestRebuild();
+    }
+  }
+
+  /**
+   * 전용 스레드에서 재구축 (진행 중이면 무시)
+   */
+  public void requestRebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      itemVectorIndexExecutor.execute(this::rebuild);
+    } catch (TaskRejectedException e) {
+      rebuilding.set(false);
+      log.warn("벡터 인덱스 재구축 제출 거부: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * embedding 테이블 전체를 새 인덱스로 적재한 뒤 교체한다. 적재 중 들어온 저장/삭제는 새 인덱스에도 반영된다.
+   */
+  void rebuild() {
+    long startMillis = System.currentTimeMillis();
+    LocalDateTime loadStartedAt = LocalDateTime.now();
+    HnswIndex newIndex = new HnswIndex(
+        EMBEDDING_DIMENSION, properties.getMaxConnections(), properties.getEfConstruction(), System.nanoTime());
+    try {
+      synchronized (mutationLock) {
+        loadingIndex = newIndex;
+        removedDuringLoad.clear();
+      }
+
+      UUID lastEmbeddingId = MIN_UUID;
+      int batchSize = Math.max(1, properties.getLoadBatchSize());
+      while (true) {
+        List<Embedding> batch = embeddingRepository.findByOriginalTypeAndEmbeddingIdGreaterThanOrderByEmbeddingIdAsc(
+            OriginalType.ITEM, lastEmbeddingId, PageRequest.of(0, batchSize));
+        for (Embedding embedding : batch) {
+          loadEntry(newIndex, embedding);
+        }
+        if (batch.size() < batchSize) {
+          break;
+        }
+        lastEmbeddingId = batch.get(batch.size() - 1).getEmbeddingId();
+      }
+
+      synchronized (mutationLock) {
+        activeIndex = newIndex;
+        loadingIndex = null;
+        removedDuringLoad.clear();
+      }
+      lastSyncedAt = loadStartedAt;
+      log.info("벡터 인덱스 적재 완료: {} 건, {}ms", newIndex.size(), System.currentTimeMillis() - startMillis);
+    } catch (Exception e) {
+      synchronized (mutationLock) {
+        loadingIndex = null;
+        removedDuringLoad.clear();
+      }
+      log.error("벡터 인덱스 적재 실패 (pgvector 조회 유지): {}", e.getMessage(), e);
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  private void loadEntry(HnswIndex newIndex, Embedding embedding) {
+    try {
+      // 적재 도중 삭제/갱신된 키는 이벤트로 이미 반영됐으므로 DB 스냅샷 값으로 되돌리지 않음
+      synchronized (mutationLock) {
+        if (!removedDuringLoad.contains(embedding.getOriginalId())) {
+          newIndex.insertIfAbsent(embedding.getOriginalId(), embedding.getEmbedding());
+        }
+      }
+    } catch (IllegalArgumentException e) {
+      log.warn("벡터 인덱스 적재 제외 (차원 불일치): originalId={}", embedding.getOriginalId());
+    }
+  }
+}
@@ -0,0 +1,251 @@
+package com.romrom.ai.index;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.ai.index.HnswIndex.SearchResult;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * HnswIndex 단위 테스트 및 recall@k / QPS 벤치마크.
+ * 테스트 환경에는 pgvector가 없으므로, pgvector의 정확 검색(ORDER BY embedding <=> :target)과 같은
+ * 전수 코사인 거리 정렬 결과를 정답으로 삼는다.
+ * 데이터 크기는 -Dhnsw.benchmark.size, 질의 수는 -Dhnsw.benchmark.queries 로 조정한다.
+ */
+@Slf4j
+class HnswIndexTest {
+
+  private static final int DIMENSION = 768;
+  private static final int CLUSTER_COUNT = 32;
+  private static final int TOP_K = 10;
+  private static final int EF_SEARCH = 64;
+  private static final int DATASET_SIZE = Integer.getInteger("hnsw.benchmark.size", 3000);
+  private static final int QUERY_COUNT = Integer.getInteger("hnsw.benchmark.queries", 200);
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::정확검색_대비_recall_및_QPS_벤치마크);
+    lineLog(null);
+    timeLog(this::삭제된_벡터는_검색되지_않음_테스트);
+    lineLog(null);
+    timeLog(this::같은키_재등록시_벡터_교체_테스트);
+    lineLog(null);
+    timeLog(this::필터_조건을_만족하는_결과만_반환_테스트);
+    lineLog(null);
+    timeLog(this::후보집합_정확검색_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 정확검색_대비_recall_및_QPS_벤치마크() {
+    Random random = new Random(42L);
+    List<float[]> centroids = randomVectors(random, CLUSTER_COUNT);
+    List<UUID> keys = new ArrayList<>(DATASET_SIZE);
+    List<float[]> vectors = new ArrayList<>(DATASET_SIZE);
+    HnswIndex index = new HnswIndex(DIMENSION, 16, 100, 7L);
+
+    long buildStart = System.nanoTime();
+    for (int i = 0; i < DATASET_SIZE; i++) {
+      UUID key = UUID.randomUUID();
+      float[] vector = nearCentroid(random, centroids.get(random.nextInt(CLUSTER_COUNT)));
+      keys.add(key);
+      vectors.add(vector);
+      index.upsert(key, vector);
+    }
+    long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+    List<float[]> queries = new ArrayList<>(QUERY_COUNT);
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      queries.add(nearCentroid(random, centroids.get(random.nextInt(CLUSTER_COUNT))));
+    }
+
+    // 정답: 전수 코사인 거리 정렬 (pgvector 정확 검색과 동일한 순서)
+    List<Set<UUID>> expected = new ArrayList<>(QUERY_COUNT);
+    long exactStart = System.nanoTime();
+    for (float[] query : queries) {
+      expected.add(bruteForceTopK(query, keys, vectors, TOP_K));
+    }
+    long exactNanos = System.nanoTime() - exactStart;
+
+    long hits = 0;
+    long indexStart = System.nanoTime();
+    List<List<SearchResult>> answers = new ArrayList<>(QUERY_COUNT);
+    for (float[] query : queries) {
+      answers.add(index.search(query, TOP_K, EF_SEARCH, null));
+    }
+    long indexNanos = System.nanoTime() - indexStart;
+
+    for (int i = 0; i < QUERY_COUNT; i++) {
+      for (SearchResult result : answers.get(i)) {
+        if (expected.get(i).contains(result.key())) {
+          hits++;
+        }
+      }
+    }
+    double recall = (double) hits / ((long) QUERY_COUNT * TOP_K);
+    double exactQps = QUERY_COUNT / (exactNanos / 1_000_000_000.0);
+    double indexQps = QUERY_COUNT / (indexNanos / 1_000_000_000.0);
+
+    log.info("데이터 {}건 / 질의 {}건 / 색인 구축 {}ms", DATASET_SIZE, QUERY_COUNT, buildMillis);
+    log.info("recall@{} = {}", TOP_K, String.format("%.4f", recall));
+    log.info("정확 검색 QPS = {}, HNSW QPS = {}", String.format("%.1f", exactQps), String.format("%.1f", indexQps));
+
+    assertEquals(DATASET_SIZE, index.size());
+    assertTrue(recall >= 0.9, "recall@" + TOP_K + "이 0.9 이상이어야 한다: " + recall);
+  }
+
+  public void 삭제된_벡터는_검색되지_않음_테스트() {
+    Random random = new Random(1L);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 1L);
+    List<UUID> keys = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      UUID key = UUID.randomUUID();
+      keys.add(key);
+      index.upsert(key, randomVector(random));
+    }
+
+    UUID removed = keys.get(0);
+    float[] removedVector = index.getVector(removed);
+    index.remove(removed);
+
+    assertFalse(index.contains(removed));
+    assertEquals(299, index.size());
+    assertEquals(1, index.deletedCount());
+    assertTrue(index.search(removedVector, TOP_K, EF_SEARCH, null).stream()
+        .noneMatch(result -> result.key().equals(removed)), "삭제된 키는 검색 결과에 포함되면 안 된다");
+  }
+
+  public void 같은키_재등록시_벡터_교체_테스트() {
+    Random random = new Random(2L);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 2L);
+    for (int i = 0; i < 200; i++) {
+      index.upsert(UUID.randomUUID(), randomVector(random));
+    }
+    UUID key = UUID.randomUUID();
+    float[] before = randomVector(random);
+    float[] after = randomVector(random);
+
+    assertTrue(index.upsert(key, before));
+    assertFalse(index.upsert(key, before), "같은 벡터 재등록은 변경 없음으로 처리되어야 한다");
+    assertTrue(index.upsert(key, after));
+
+    assertEquals(201, index.size());
+    List<SearchResult> results = index.search(after, 1, EF_SEARCH, null);
+    assertEquals(key, results.get(0).key());
+  }
+
+  public void 필터_조건을_만족하는_결과만_반환_테스트() {
+    Random random = new Random(3L);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 3L);
+    Set<UUID> allowed = new HashSet<>();
+    for (int i = 0; i < 500; i++) {
+      UUID key = UUID.randomUUID();
+      if (i % 5 == 0) {
+        allowed.add(key);
+      }
+      index.upsert(key, randomVector(random));
+    }
+
+    Predicate<UUID> filter = allowed::contains;
+    List<SearchResult> results = index.search(randomVector(random), TOP_K, EF_SEARCH, filter);
+
+    assertEquals(TOP_K, results.size());
+    assertTrue(results.stream().allMatch(result -> allowed.contains(result.key())));
+  }
+
+  public void 후보집합_정확검색_테스트() {
+    Random random = new Random(4L);
+    HnswIndex index = new HnswIndex(DIMENSION, 8, 50, 4L);
+    List<UUID> keys = new ArrayList<>();
+    List<float[]> vectors = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      UUID key = UUID.randomUUID();
+      float[] vector = randomVector(random);
+      keys.add(key);
+      vectors.add(vector);
+      index.upsert(key, vector);
+    }
+
+    float[] query = randomVector(random);
+    List<UUID> candidates = new ArrayList<>(keys.subList(0, 30));
+    candidates.add(UUID.randomUUID()); // 인덱스에 없는 후보는 무시
+    List<SearchResult> results = index.exactSearch(query, candidates, 30);
+
+    assertEquals(30, results.size());
+    assertEquals(bruteForceTopK(query, keys.subList(0, 30), vectors.subList(0, 30), 5),
+        new HashSet<>(results.subList(0, 5).stream().map(SearchResult::key).toList()));
+    for (int i = 1; i < results.size(); i++) {
+      assertTrue(results.get(i - 1).distance() <= results.get(i).distance(), "거리 오름차순이어야 한다");
+    }
+  }
+
+  private static Set<UUID> bruteForceTopK(float[] query, List<UUID> keys, List<float[]> vectors, int k) {
+    List<Integer> order = new ArrayList<>(keys.size());
+    double[] distances = new double[keys.size()];
+    float[] normalizedQuery = normalize(query);
+    for (int i = 0; i < keys.size(); i++) {
+      distances[i] = HnswIndex.distance(normalizedQuery, normalize(vectors.get(i)));
+      order.add(i);
+    }
+    order.sort(Comparator.comparingDouble(i -> distances[i]));
+    Set<UUID> topK = new HashSet<>();
+    for (int i = 0; i < Math.min(k, order.size()); i++) {
+      topK.add(keys.get(order.get(i)));
+    }
+    return topK;
+  }
+
+  private static List<float[]> randomVectors(Random random, int count) {
+    List<float[]> vectors = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      vectors.add(randomVector(random));
+    }
+    return vectors;
+  }
+
+  private static float[] randomVector(Random random) {
+    float[] vector = new float[DIMENSION];
+    for (int i = 0; i < DIMENSION; i++) {
+      vector[i] = (float) random.nextGaussian();
+    }
+    return vector;
+  }
+
+  // 실제 물품 임베딩처럼 카테고리(클러스터) 중심 주변에 분포하는 벡터
+  private static float[] nearCentroid(Random random, float[] centroid) {
+    float[] vector = new float[DIMENSION];
+    for (int i = 0; i < DIMENSION; i++) {
+      vector[i] = centroid[i] + (float) (random.nextGaussian() * 0.8);
+    }
+    return vector;
+  }
+
+  private static float[] normalize(float[] vector) {
+    double norm = 0;
+    for (float value : vector) {
+      norm += value * value;
+    }
+    norm = Math.sqrt(norm);
+    float[] normalized = new float[vector.length];
+    for (int i = 0; i < vector.length; i++) {
+      normalized[i] = (float) (vector[i] / norm);
+    }
+    return normalized;
+  }
+}
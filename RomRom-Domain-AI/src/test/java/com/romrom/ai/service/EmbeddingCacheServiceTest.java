@@ -0,0 +1,174 @@
+package com.romrom.ai.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.ai.entity.postgres.EmbeddingCache;
+import com.romrom.ai.properties.EmbeddingCacheProperties;
+import com.romrom.ai.repository.postgres.EmbeddingCacheRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * EmbeddingCacheService 단위 테스트 (원격 임베딩/DB 미접근).
+ * 원격 provider는 지연이 있는 가짜 임베딩 함수, embedding_cache 저장소는 행을 Map에 보관하는 mock 이다.
+ */
+@Slf4j
+class EmbeddingCacheServiceTest {
+
+  private static final String MODEL_ID = "embeddinggemma:latest";
+  private static final long FAKE_PROVIDER_LATENCY_MILLIS = 20L;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::같은텍스트_재요청시_원격호출_생략_테스트);
+    lineLog(null);
+    timeLog(this::로컬캐시_비워도_영속캐시에서_반환_테스트);
+    lineLog(null);
+    timeLog(this::모델이_다르면_다른키_테스트);
+    lineLog(null);
+    timeLog(this::히트율_및_절약지연_지표_기록_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 같은텍스트_재요청시_원격호출_생략_테스트() {
+    FakeEmbeddingEnvironment environment = new FakeEmbeddingEnvironment();
+
+    float[] first = environment.embed("맥북 프로 16인치 M3 Pro 실버");
+    float[] second = environment.embed("맥북 프로 16인치 M3 Pro 실버");
+
+    assertEquals(1, environment.providerCallCount.get(), "같은 텍스트는 최초 1회만 원격 provider를 호출해야 한다");
+    assertArrayEquals(first, second);
+
+    // 반환된 배열을 수정해도 캐시된 벡터는 영향받지 않는다
+    second[0] = 999f;
+    assertNotEquals(999f, environment.embed("맥북 프로 16인치 M3 Pro 실버")[0]);
+  }
+
+  public void 로컬캐시_비워도_영속캐시에서_반환_테스트() {
+    FakeEmbeddingEnvironment environment = new FakeEmbeddingEnvironment();
+    float[] first = environment.embed("아이폰 15 프로 맥스 256GB");
+
+    // 재배포 등으로 로컬 LRU가 비어도 embedding_cache 테이블에서 반환
+    environment.embeddingCacheService.evictAllLocal();
+    float[] second = environment.embed("아이폰 15 프로 맥스 256GB");
+
+    assertEquals(1, environment.providerCallCount.get());
+    assertEquals(1, environment.persistentStore.size());
+    assertArrayEquals(first, second);
+  }
+
+  public void 모델이_다르면_다른키_테스트() {
+    assertNotEquals(
+        EmbeddingCacheService.contentHash("캠핑 의자", "embeddinggemma:latest"),
+        EmbeddingCacheService.contentHash("캠핑 의자", "text-embedding-005"));
+    assertEquals(64, EmbeddingCacheService.contentHash("캠핑 의자", MODEL_ID).length());
+  }
+
+  public void 히트율_및_절약지연_지표_기록_테스트() {
+    FakeEmbeddingEnvironment environment = new FakeEmbeddingEnvironment();
+    String[] itemTexts = {"닌텐도 스위치 OLED", "다이슨 에어랩", "갤럭시 탭 S9", "LG 그램 16"};
+
+    long startNanos = System.nanoTime();
+    // 물품 수정·재등록 패턴: 같은 텍스트 묶음을 5회 반복 임베딩
+    for (int round = 0; round < 5; round++) {
+      for (String itemText : itemTexts) {
+        environment.embed(itemText);
+      }
+    }
+    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+    double hitRatio = environment.meterRegistry.get("cache.hit.ratio").tag("cache", "embedding").gauge().value();
+    double savedLatencyMillis = environment.meterRegistry.get("embedding.cache.saved.latency").counter().count();
+    lineLog("임베딩 캐시: 요청 20건, 원격 호출 " + environment.providerCallCount.get() + "회, 총 " + elapsedMillis + "ms");
+    lineLog("히트율 " + hitRatio + ", 절약 지연 추정 " + savedLatencyMillis + "ms");
+
+    // 최초 4건만 miss, 이후 16건은 로컬 캐시 hit
+    assertEquals(itemTexts.length, environment.providerCallCount.get());
+    assertEquals(0.8, hitRatio, 0.0001);
+    assertEquals(16.0, requestCount(environment, "local"));
+    assertEquals(0.0, requestCount(environment, "persistent"));
+    assertEquals(4.0, requestCount(environment, "miss"));
+  }
+
+  private static double requestCount(FakeEmbeddingEnvironment environment, String result) {
+    return environment.meterRegistry.get("embedding.cache.requests").tag("result", result).counter().count();
+  }
+
+  /**
+   * EmbeddingService.generateEmbeddingVector의 캐시 조회 → 원격 호출 → 저장 흐름을 가짜 provider로 재현
+   */
+  private static class FakeEmbeddingEnvironment {
+
+    final Map<String, EmbeddingCache> persistentStore = new ConcurrentHashMap<>();
+    final AtomicInteger providerCallCount = new AtomicInteger();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final EmbeddingCacheService embeddingCacheService;
+
+    FakeEmbeddingEnvironment() {
+      EmbeddingCacheRepository embeddingCacheRepository = mock(EmbeddingCacheRepository.class);
+      when(embeddingCacheRepository.findByContentHash(anyString()))
+          .thenAnswer(invocation -> Optional.ofNullable(persistentStore.get(invocation.<String>getArgument(0))));
+      when(embeddingCacheRepository.insertIfAbsent(anyString(), anyString(), anyString())).thenAnswer(invocation -> {
+        String vectorLiteral = invocation.getArgument(2);
+        EmbeddingCache embeddingCache = EmbeddingCache.builder()
+            .contentHash(invocation.getArgument(0))
+            .modelId(invocation.getArgument(1))
+            .embedding(parseVectorLiteral(vectorLiteral))
+            .build();
+        return persistentStore.putIfAbsent(embeddingCache.getContentHash(), embeddingCache) == null ? 1 : 0;
+      });
+      embeddingCacheService = new EmbeddingCacheService(new EmbeddingCacheProperties(), embeddingCacheRepository, meterRegistry);
+    }
+
+    float[] embed(String normalizedText) {
+      Optional<float[]> cachedVector = embeddingCacheService.find(normalizedText, MODEL_ID);
+      if (cachedVector.isPresent()) {
+        return cachedVector.get();
+      }
+      long startNanos = System.nanoTime();
+      float[] embeddingVector = fakeProviderEmbed(normalizedText);
+      embeddingCacheService.store(normalizedText, MODEL_ID, embeddingVector, System.nanoTime() - startNanos);
+      return embeddingVector;
+    }
+
+    private float[] fakeProviderEmbed(String text) {
+      providerCallCount.incrementAndGet();
+      try {
+        Thread.sleep(FAKE_PROVIDER_LATENCY_MILLIS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      float[] vector = new float[768];
+      for (int i = 0; i < vector.length; i++) {
+        vector[i] = (float) Math.sin(text.hashCode() + i);
+      }
+      return vector;
+    }
+
+    private static float[] parseVectorLiteral(String vectorLiteral) {
+      String[] values = vectorLiteral.substring(1, vectorLiteral.length() - 1).split(",");
+      float[] vector = new float[values.length];
+      for (int i = 0; i < values.length; i++) {
+        vector[i] = Float.parseFloat(values[i]);
+      }
+      return vector;
+    }
+  }
+}
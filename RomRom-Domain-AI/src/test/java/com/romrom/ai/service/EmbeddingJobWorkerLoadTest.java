@@ -0,0 +1,254 @@
+package com.romrom.ai.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.ai.properties.EmbeddingJobProperties;
+import com.romrom.ai.service.EmbeddingJobService.ClaimedEmbeddingJob;
+import com.romrom.common.constant.OriginalType;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 임베딩 outbox 워커 부하 테스트 (DB/원격 임베딩 미접근).
+ * 커넥션 풀은 Semaphore로, 원격 임베딩은 지연이 있는 가짜 provider로 대체해
+ * 물품 등록 트랜잭션 안에서 동기 호출할 때와 outbox로 분리했을 때의 커넥션 점유 시간·등록 p99 지연을 기록하고,
+ * outbox 경로에서는 원격 임베딩이 커넥션 점유 없이 호출되는지 검증한다.
+ */
+@Slf4j
+class EmbeddingJobWorkerLoadTest {
+
+  private static final int CONNECTION_POOL_SIZE = 10;
+  private static final int CONCURRENT_POSTS = 60;
+  private static final int CLIENT_THREADS = 20;
+  private static final long FAKE_PROVIDER_LATENCY_MILLIS = 150L;
+  private static final long FAKE_DB_WRITE_MILLIS = 2L;
+
+  @Test
+  public void mainTest() throws Exception {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::재시도_백오프_간격_테스트);
+    lineLog(null);
+    timeLog(this::동기호출_대비_outbox_커넥션점유_p99_비교_부하테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 재시도_백오프_간격_테스트() {
+    assertEquals(5L, EmbeddingJobService.backoffSeconds(1, 5L, 600L));
+    assertEquals(10L, EmbeddingJobService.backoffSeconds(2, 5L, 600L));
+    assertEquals(40L, EmbeddingJobService.backoffSeconds(4, 5L, 600L));
+    assertEquals(600L, EmbeddingJobService.backoffSeconds(20, 5L, 600L), "최대 간격을 넘지 않아야 한다");
+  }
+
+  public void 동기호출_대비_outbox_커넥션점유_p99_비교_부하테스트() {
+    FakeConnectionPool syncPool = new FakeConnectionPool();
+    LoadResult syncResult = runPosts(syncPool, () -> syncPool.inTransaction(() -> {
+      sleep(FAKE_DB_WRITE_MILLIS);
+      sleep(FAKE_PROVIDER_LATENCY_MILLIS); // 기존: 트랜잭션 안에서 원격 임베딩 호출
+    }));
+
+    FakeConnectionPool asyncPool = new FakeConnectionPool();
+    FakeOutbox outbox = new FakeOutbox(asyncPool);
+    LoadResult asyncResult = runPosts(asyncPool, () -> {
+      asyncPool.inTransaction(() -> {
+        sleep(FAKE_DB_WRITE_MILLIS);
+        outbox.enqueue(); // 변경: 작업 행만 기록
+      });
+      outbox.worker.trigger(); // AFTER_COMMIT 리스너
+    });
+    outbox.awaitDrained(CONCURRENT_POSTS);
+
+    lineLog("물품 등록 " + CONCURRENT_POSTS + "건 (커넥션 풀 " + CONNECTION_POOL_SIZE + ", provider 지연 "
+        + FAKE_PROVIDER_LATENCY_MILLIS + "ms)");
+    lineLog("동기 호출: p99 " + syncResult.p99Millis() + "ms, 트랜잭션당 커넥션 점유 평균 " + syncPool.averageHoldMillis() + "ms");
+    lineLog("outbox: p99 " + asyncResult.p99Millis() + "ms, 트랜잭션당 커넥션 점유 평균 " + asyncPool.averageHoldMillis() + "ms (워커 트랜잭션 포함)");
+
+    assertEquals(CONCURRENT_POSTS, outbox.completedOriginalIds.size(), "모든 작업이 재시도 포함 완료되어야 한다");
+    assertTrue(outbox.failedOnceOriginalIds.size() > 0, "일부 작업은 1회 실패 후 재시도로 완료되어야 한다");
+    assertEquals(0, outbox.providerCallsHoldingConnection.get(), "원격 임베딩은 커넥션을 점유하지 않은 채 호출되어야 한다");
+    outbox.shutdown();
+  }
+
+  private LoadResult runPosts(FakeConnectionPool pool, Runnable postItem) {
+    ExecutorService clients = Executors.newFixedThreadPool(CLIENT_THREADS);
+    List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < CONCURRENT_POSTS; i++) {
+      futures.add(clients.submit(() -> {
+        long startNanos = System.nanoTime();
+        postItem.run();
+        latencies.add((System.nanoTime() - startNanos) / 1_000_000);
+      }));
+    }
+    futures.forEach(future -> {
+      try {
+        future.get(60, TimeUnit.SECONDS);
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+    clients.shutdown();
+
+    List<Long> sortedLatencies = new ArrayList<>(latencies);
+    Collections.sort(sortedLatencies);
+    int p99Index = (int) Math.ceil(sortedLatencies.size() * 0.99) - 1;
+    return new LoadResult(sortedLatencies.get(p99Index));
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record LoadResult(long p99Millis) {
+  }
+
+  /**
+   * Hikari 풀 대역: 트랜잭션 동안 permit을 점유하고 점유 시간을 누적한다
+   */
+  private static class FakeConnectionPool {
+
+    final Semaphore connections = new Semaphore(CONNECTION_POOL_SIZE, true);
+    final AtomicLong totalHoldNanos = new AtomicLong();
+    final AtomicLong transactionCount = new AtomicLong();
+    final ThreadLocal<Boolean> holdingConnection = ThreadLocal.withInitial(() -> false);
+
+    void inTransaction(Runnable work) {
+      connections.acquireUninterruptibly();
+      long acquiredNanos = System.nanoTime();
+      holdingConnection.set(true);
+      try {
+        work.run();
+      } finally {
+        holdingConnection.set(false);
+        totalHoldNanos.addAndGet(System.nanoTime() - acquiredNanos);
+        transactionCount.incrementAndGet();
+        connections.release();
+      }
+    }
+
+    boolean isHeldByCurrentThread() {
+      return holdingConnection.get();
+    }
+
+    long averageHoldMillis() {
+      return totalHoldNanos.get() / Math.max(transactionCount.get(), 1L) / 1_000_000;
+    }
+  }
+
+  /**
+   * embedding_job 테이블 대역 + 실제 EmbeddingJobWorker.
+   * 선점/완료/실패는 짧은 트랜잭션으로, 원격 임베딩은 트랜잭션 밖에서 수행된다.
+   * 물품 3건 중 1건은 첫 시도에 provider 오류를 내 재시도 경로를 검증한다.
+   */
+  private static class FakeOutbox {
+
+    final ConcurrentLinkedQueue<ClaimedEmbeddingJob> pendingJobs = new ConcurrentLinkedQueue<>();
+    final Set<UUID> completedOriginalIds = ConcurrentHashMap.newKeySet();
+    final Set<UUID> failedOnceOriginalIds = ConcurrentHashMap.newKeySet();
+    final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    EmbeddingJobWorker worker;
+    final AtomicLong enqueueSequence = new AtomicLong();
+    final AtomicInteger providerCallsHoldingConnection = new AtomicInteger();
+
+    FakeOutbox(FakeConnectionPool pool) {
+      EmbeddingJobProperties embeddingJobProperties = new EmbeddingJobProperties();
+      executor.setCorePoolSize(embeddingJobProperties.getWorkerPoolSize());
+      executor.setMaxPoolSize(embeddingJobProperties.getWorkerPoolSize());
+      executor.setQueueCapacity(embeddingJobProperties.getWorkerPoolSize());
+      executor.initialize();
+
+      EmbeddingJobService embeddingJobService = mock(EmbeddingJobService.class);
+      when(embeddingJobService.claimJobs(anyInt())).thenAnswer(invocation -> {
+        List<ClaimedEmbeddingJob> claimedJobs = new ArrayList<>();
+        pool.inTransaction(() -> {
+          ClaimedEmbeddingJob job = pendingJobs.poll();
+          if (job != null) {
+            claimedJobs.add(job);
+          }
+        });
+        return claimedJobs;
+      });
+      when(embeddingJobService.completeJob(any(), any())).thenAnswer(invocation -> {
+        ClaimedEmbeddingJob job = invocation.getArgument(0);
+        pool.inTransaction(() -> {
+          sleep(FAKE_DB_WRITE_MILLIS);
+          completedOriginalIds.add(job.originalId());
+        });
+        return true;
+      });
+      doAnswer(invocation -> {
+        ClaimedEmbeddingJob job = invocation.getArgument(0);
+        // 재시도 대기 없이 즉시 재등록 (백오프는 별도 테스트에서 검증)
+        pool.inTransaction(() -> pendingJobs.add(new ClaimedEmbeddingJob(
+            job.embeddingJobId(), job.originalId(), job.originalType(), job.sourceText(), job.jobVersion(), job.attemptCount() + 1)));
+        this.worker.trigger();
+        return null;
+      }).when(embeddingJobService).failJob(any(), any());
+
+      EmbeddingService embeddingService = mock(EmbeddingService.class);
+      when(embeddingService.generateEmbeddingVector(anyString())).thenAnswer(invocation -> {
+        if (pool.isHeldByCurrentThread()) {
+          providerCallsHoldingConnection.incrementAndGet();
+        }
+        sleep(FAKE_PROVIDER_LATENCY_MILLIS);
+        String sourceText = invocation.getArgument(0);
+        UUID originalId = UUID.fromString(sourceText.substring(sourceText.indexOf('|') + 1));
+        if (sourceText.startsWith("flaky") && failedOnceOriginalIds.add(originalId)) {
+          throw new IllegalStateException("provider 일시 오류");
+        }
+        return new float[768];
+      });
+
+      worker = new EmbeddingJobWorker(embeddingJobService, embeddingService, embeddingJobProperties, executor);
+    }
+
+    void enqueue() {
+      UUID itemId = UUID.randomUUID();
+      String sourceText = (enqueueSequence.incrementAndGet() % 3 == 0 ? "flaky" : "item") + "|" + itemId;
+      pendingJobs.add(new ClaimedEmbeddingJob(UUID.randomUUID(), itemId, OriginalType.ITEM, sourceText, 0L, 1));
+    }
+
+    void awaitDrained(int expectedCount) {
+      long deadline = System.currentTimeMillis() + 60_000L;
+      while (completedOriginalIds.size() < expectedCount && System.currentTimeMillis() < deadline) {
+        worker.pollJobs();
+        sleep(20);
+      }
+    }
+
+    void shutdown() {
+      executor.shutdown();
+    }
+  }
+}
@@ -24,6 +24,9 @@ public class SecurityUrls {
     // public item - 카카오톡 공유 OG 태그 렌더링용 (Cloud Function 경유 호출)
     "/api/item/public/get",
 
+    // image variant - 이미지 태그에서 직접 요청 (원본 이미지와 동일하게 공개)
+    "/api/image/variant",
+
     // test-api
     "/api/test/sign-up", // 테스트 회원가입
     "/api/test/send/notification/all", // 테스트 전체 알람 발송
@@ -2,6 +2,7 @@ package com.romrom.auth.filter;
 
 import com.romrom.auth.dto.SecurityUrls;
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -11,10 +12,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * 관리자 전용 JWT 인증 필터
@@ -23,8 +24,18 @@ import java.io.IOException;
 @Slf4j
 public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // Swagger 문서 경로 / 인증 생략 경로 : 클래스 로딩 시 한 번 컴파일
+    private static final RoutePatternMatcher SWAGGER_PATH_MATCHER =
+            RoutePatternMatcher.compile(List.of("/docs/**", "/v3/api-docs/**"));
+    private static final RoutePatternMatcher WHITELIST_PATH_MATCHER =
+            RoutePatternMatcher.compile(SecurityUrls.AUTH_WHITELIST);
+
+    private static final String INVALID_TOKEN_BODY = "{\"error\":\"invalid_token\",\"message\":\"유효하지 않은 토큰입니다\"}";
+    private static final String EXPIRED_TOKEN_BODY = "{\"error\":\"expired_token\",\"message\":\"만료된 토큰입니다\"}";
+    private static final String AUTHENTICATION_ERROR_BODY =
+            "{\"error\":\"authentication_error\",\"message\":\"인증 처리 중 오류가 발생했습니다\"}";
+
     private final JwtUtil jwtUtil;
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -39,7 +50,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         // 관리자 경로, Swagger 경로, Actuator 경로가 아니면 다음 필터로
-        boolean isSwaggerPath = pathMatcher.match("/docs/**", uri) || pathMatcher.match("/v3/api-docs/**", uri);
+        boolean isSwaggerPath = SWAGGER_PATH_MATCHER.matches(uri);
         boolean isActuatorPath = uri.startsWith("/actuator/");
         if (!uri.startsWith("/admin") && !uri.startsWith("/api/admin") && !isSwaggerPath && !isActuatorPath) {
             filterChain.doFilter(request, response);
@@ -47,8 +58,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         // 화이트리스트 경로면 인증 없이 통과
-        if (SecurityUrls.AUTH_WHITELIST.stream()
-                .anyMatch(pattern -> pathMatcher.match(pattern, uri))) {
+        if (WHITELIST_PATH_MATCHER.matches(uri)) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -85,8 +95,10 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
             
             // 토큰 검증
             if (accessToken != null) {
+                VerifiedToken verifiedToken;
                 try {
-                    if (!jwtUtil.validateToken(accessToken)) {
+                    verifiedToken = jwtUtil.verify(accessToken);
+                    if (verifiedToken == null) {
                         log.warn("관리자 토큰 유효성 실패");
                         if (!response.isCommitted()) {
                             handleUnauthorized(response, isApiRequest);
@@ -101,7 +113,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
                     return;
                 }
                 
-                Authentication authentication = jwtUtil.getAuthentication(accessToken);
+                Authentication authentication = jwtUtil.getAuthentication(verifiedToken);
                 
                 // 관리자 권한 확인
                 boolean isAdmin = authentication.getAuthorities().stream()
@@ -146,9 +158,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         if (isApiRequest) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\":\"invalid_token\",\"message\":\"유효하지 않은 토큰입니다\"}");
+            FilterErrorResponseWriter.writeJson(response, HttpServletResponse.SC_UNAUTHORIZED, INVALID_TOKEN_BODY);
         } else {
             response.sendRedirect("/admin/login?error=invalid");
         }
@@ -161,9 +171,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         if (isApiRequest) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\":\"expired_token\",\"message\":\"만료된 토큰입니다\"}");
+            FilterErrorResponseWriter.writeJson(response, HttpServletResponse.SC_UNAUTHORIZED, EXPIRED_TOKEN_BODY);
         } else {
             response.sendRedirect("/admin/login?error=expired");
         }
@@ -177,9 +185,7 @@ public class AdminJwtAuthenticationFilter extends OncePerRequestFilter {
         }
         
         if (isApiRequest) {
-            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.setContentType("application/json;charset=UTF-8");
-            response.getWriter().write("{\"error\":\"authentication_error\",\"message\":\"인증 처리 중 오류가 발생했습니다\"}");
+            FilterErrorResponseWriter.writeJson(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR, AUTHENTICATION_ERROR_BODY);
         } else {
             response.sendRedirect("/admin/login?error=error");
         }
@@ -0,0 +1,62 @@
+package com.romrom.auth.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.romrom.common.exception.ErrorCode;
+import com.romrom.common.exception.ErrorResponse;
+import com.romrom.common.exception.SuspendedMemberResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import lombok.experimental.UtilityClass;
+import org.springframework.http.MediaType;
+
+/**
+ * 인증 필터 공용 JSON 에러 응답 작성기
+ * 필터는 DispatcherServlet 밖에서 응답을 직접 쓰므로, 에러마다 ObjectMapper 를 만들지 않도록 하나의 매퍼를 공유한다.
+ * (ObjectMapper 는 설정 후 스레드 안전)
+ */
+@UtilityClass
+public class FilterErrorResponseWriter {
+
+  // 기존 필터 응답과 같은 직렬화 형식 유지 (LocalDateTime 은 JavaTimeModule 기본 형식)
+  private static final ObjectMapper MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  /**
+   * ErrorCode 상태/메시지로 에러 응답 전송
+   */
+  public void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+    prepareJson(response, errorCode.getStatus().value());
+    MAPPER.writeValue(response.getWriter(), ErrorResponse.builder()
+        .errorCode(errorCode)
+        .errorMessage(errorCode.getMessage())
+        .build());
+  }
+
+  /**
+   * 제재된 회원 403 응답 전송
+   */
+  public void writeSuspended(HttpServletResponse response, String suspendReason, LocalDateTime suspendedUntil)
+      throws IOException {
+    prepareJson(response, ErrorCode.SUSPENDED_MEMBER.getStatus().value());
+    MAPPER.writeValue(response.getWriter(), SuspendedMemberResponse.builder()
+        .errorCode(ErrorCode.SUSPENDED_MEMBER.name())
+        .suspendReason(suspendReason)
+        .suspendedUntil(suspendedUntil)
+        .build());
+  }
+
+  /**
+   * 미리 만들어 둔 JSON 본문 그대로 전송 (관리자 필터의 고정 메시지)
+   */
+  public void writeJson(HttpServletResponse response, int status, String jsonBody) throws IOException {
+    prepareJson(response, status);
+    response.getWriter().write(jsonBody);
+  }
+
+  private void prepareJson(HttpServletResponse response, int status) {
+    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+    response.setStatus(status);
+    response.setCharacterEncoding("UTF-8");
+  }
+}
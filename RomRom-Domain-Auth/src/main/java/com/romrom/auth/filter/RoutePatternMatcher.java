@@ -0,0 +1,205 @@
+package com.romrom.auth.filter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * URL 패턴 목록을 경로 세그먼트 트리로 미리 컴파일한 매처.
+ * AntPathMatcher 와 같은 규칙(*, **, ?, {변수}, {변수:정규식}, 끝 슬래시 구분)을 따르며,
+ * 요청마다 패턴 전체를 순회하지 않고 경로 세그먼트 수만큼만 트리를 내려간다.
+ * 생성 후에는 변경되지 않으므로 여러 스레드에서 공유해도 된다.
+ */
+public final class RoutePatternMatcher {
+
+  private static final String PATH_SEPARATOR = "/";
+  private static final String DOUBLE_WILDCARD = "**";
+
+  private final Node root = new Node();
+  private final int patternCount;
+
+  private RoutePatternMatcher(Collection<String> patterns) {
+    for (String pattern : patterns) {
+      add(pattern);
+    }
+    this.patternCount = patterns.size();
+  }
+
+  /**
+   * 패턴 목록들을 하나의 매처로 컴파일 (애플리케이션 시작 시 한 번)
+   */
+  @SafeVarargs
+  public static RoutePatternMatcher compile(Collection<String>... patternGroups) {
+    List<String> patterns = new ArrayList<>();
+    for (Collection<String> patternGroup : patternGroups) {
+      patterns.addAll(patternGroup);
+    }
+    return new RoutePatternMatcher(patterns);
+  }
+
+  public int getPatternCount() {
+    return patternCount;
+  }
+
+  /**
+   * 경로가 컴파일된 패턴 중 하나라도 일치하는지 확인
+   *
+   * @param path 요청 URI (ex. /api/admin/members/list)
+   */
+  public boolean matches(String path) {
+    if (path == null || !path.startsWith(PATH_SEPARATOR)) {
+      return false;
+    }
+    return matches(root, splitSegments(path), 0, path.endsWith(PATH_SEPARATOR));
+  }
+
+  private void add(String pattern) {
+    if (!pattern.startsWith(PATH_SEPARATOR)) {
+      throw new IllegalArgumentException("URL 패턴은 / 로 시작해야 합니다: " + pattern);
+    }
+    Node node = root;
+    String[] segments = splitSegments(pattern);
+    for (String segment : segments) {
+      node = node.child(segment);
+    }
+    if (segments.length > 0 && DOUBLE_WILDCARD.equals(segments[segments.length - 1])) {
+      // ** 로 끝나는 패턴은 끝 슬래시 여부와 무관하게 일치
+      node.terminalWithoutSlash = true;
+      node.terminalWithSlash = true;
+    } else if (pattern.endsWith(PATH_SEPARATOR)) {
+      node.terminalWithSlash = true;
+    } else {
+      node.terminalWithoutSlash = true;
+    }
+  }
+
+  private static boolean matches(Node node, String[] segments, int segmentIndex, boolean pathEndsWithSlash) {
+    if (segmentIndex == segments.length) {
+      if (pathEndsWithSlash ? node.terminalWithSlash : node.terminalWithoutSlash) {
+        return true;
+      }
+      // 남은 패턴이 ** 뿐이면 일치, 끝 슬래시 경로는 남은 패턴 * 하나와도 일치 (AntPathMatcher 규칙)
+      if (node.doubleWildcardChild != null && matches(node.doubleWildcardChild, segments, segmentIndex, pathEndsWithSlash)) {
+        return true;
+      }
+      return pathEndsWithSlash && node.singleWildcardChild != null && node.singleWildcardChild.terminalWithoutSlash;
+    }
+
+    String segment = segments[segmentIndex];
+    Node literalChild = node.literalChildren.get(segment);
+    if (literalChild != null && matches(literalChild, segments, segmentIndex + 1, pathEndsWithSlash)) {
+      return true;
+    }
+    for (int childIndex = 0; childIndex < node.patternChildren.size(); childIndex++) {
+      Node patternChild = node.patternChildren.get(childIndex);
+      if (patternChild.segmentPattern.matcher(segment).matches()
+          && matches(patternChild, segments, segmentIndex + 1, pathEndsWithSlash)) {
+        return true;
+      }
+    }
+    if (node.doubleWildcardChild != null) {
+      for (int nextIndex = segmentIndex; nextIndex <= segments.length; nextIndex++) {
+        if (matches(node.doubleWildcardChild, segments, nextIndex, pathEndsWithSlash)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  // 빈 세그먼트는 무시 (AntPathMatcher 와 동일하게 "//a" 는 "/a" 로 취급)
+  private static String[] splitSegments(String path) {
+    List<String> segments = new ArrayList<>(8);
+    int segmentStart = 0;
+    for (int index = 0; index <= path.length(); index++) {
+      if (index == path.length() || path.charAt(index) == '/') {
+        if (index > segmentStart) {
+          segments.add(path.substring(segmentStart, index));
+        }
+        segmentStart = index + 1;
+      }
+    }
+    return segments.toArray(new String[0]);
+  }
+
+  /**
+   * 세그먼트 패턴(*, ?, {변수})을 정규식으로 변환 (AntPathMatcher.AntPathStringMatcher 와 같은 규칙)
+   */
+  private static Pattern compileSegment(String segment) {
+    StringBuilder regex = new StringBuilder();
+    int literalStart = 0;
+    int index = 0;
+    while (index < segment.length()) {
+      char current = segment.charAt(index);
+      if (current == '*' || current == '?') {
+        regex.append(Pattern.quote(segment.substring(literalStart, index))).append(current == '*' ? ".*" : ".");
+        literalStart = ++index;
+      } else if (current == '{') {
+        int variableEnd = findVariableEnd(segment, index);
+        regex.append(Pattern.quote(segment.substring(literalStart, index)));
+        String variable = segment.substring(index + 1, variableEnd);
+        int colon = variable.indexOf(':');
+        regex.append('(').append(colon < 0 ? ".*" : variable.substring(colon + 1)).append(')');
+        literalStart = index = variableEnd + 1;
+      } else {
+        index++;
+      }
+    }
+    regex.append(Pattern.quote(segment.substring(literalStart)));
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  // {변수:정규식} 안의 중괄호 중첩을 고려해 닫는 위치 탐색
+  private static int findVariableEnd(String segment, int openIndex) {
+    int depth = 0;
+    for (int index = openIndex; index < segment.length(); index++) {
+      char current = segment.charAt(index);
+      if (current == '{') {
+        depth++;
+      } else if (current == '}' && --depth == 0) {
+        return index;
+      }
+    }
+    throw new IllegalArgumentException("닫히지 않은 경로 변수: " + segment);
+  }
+
+  private static boolean isLiteral(String segment) {
+    return segment.indexOf('*') < 0 && segment.indexOf('?') < 0 && segment.indexOf('{') < 0;
+  }
+
+  private static final class Node {
+
+    private final Map<String, Node> literalChildren = new HashMap<>();
+    private final List<Node> patternChildren = new ArrayList<>();
+    private final Map<String, Node> patternChildBySegment = new HashMap<>();
+    private Node doubleWildcardChild;
+    private Node singleWildcardChild;
+    private Pattern segmentPattern;
+    private boolean terminalWithoutSlash;
+    private boolean terminalWithSlash;
+
+    private Node child(String segment) {
+      if (DOUBLE_WILDCARD.equals(segment)) {
+        if (doubleWildcardChild == null) {
+          doubleWildcardChild = new Node();
+        }
+        return doubleWildcardChild;
+      }
+      if (isLiteral(segment)) {
+        return literalChildren.computeIfAbsent(segment, ignored -> new Node());
+      }
+      return patternChildBySegment.computeIfAbsent(segment, ignored -> {
+        Node patternChild = new Node();
+        patternChild.segmentPattern = compileSegment(segment);
+        patternChildren.add(patternChild);
+        if ("*".equals(segment)) {
+          singleWildcardChild = patternChild;
+        }
+        return patternChild;
+      });
+    }
+  }
+}
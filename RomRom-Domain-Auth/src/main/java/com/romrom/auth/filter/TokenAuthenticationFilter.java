@@ -1,14 +1,11 @@
 package com.romrom.auth.filter;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.romrom.auth.dto.CustomUserDetails;
 import com.romrom.auth.dto.SecurityUrls;
-import com.romrom.common.exception.SuspendedMemberResponse;
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import com.romrom.common.constant.AccountStatus;
 import com.romrom.common.exception.ErrorCode;
-import com.romrom.common.exception.ErrorResponse;
 import com.romrom.common.service.OnlinePresenceService;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
@@ -19,10 +16,8 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 /**
@@ -32,9 +27,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 @Slf4j
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
+  // 인증 생략 경로 (화이트리스트 + HMAC 오픈 API) : 클래스 로딩 시 한 번 컴파일
+  private static final RoutePatternMatcher PUBLIC_PATH_MATCHER =
+      RoutePatternMatcher.compile(SecurityUrls.AUTH_WHITELIST, SecurityUrls.SECURED_API_URLS);
+
   private final JwtUtil jwtUtil;
   private final OnlinePresenceService onlinePresenceService;
-  private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
   @Override
   protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -69,9 +67,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
       }
 
-      // 토큰 검증: 토큰이 유효하면 인증 설정
-      if (token != null && jwtUtil.validateToken(token)) {
-        Authentication authentication = jwtUtil.getAuthentication(token);
+      // 토큰 검증: 한 번 파싱한 토큰으로 인증까지 처리
+      VerifiedToken verifiedToken = token != null ? jwtUtil.verify(token) : null;
+      if (verifiedToken != null) {
+        // 인증 principal 캐시: 히트 시 DB 조회 없음 (회원 변경 시 MemberCacheService에서 무효화)
+        Authentication authentication = jwtUtil.getCachedAuthentication(verifiedToken);
 
         // 제재 상태 체크: SUSPENDED_ACCOUNT면 403 응답 반환
         if (authentication.getPrincipal() instanceof CustomUserDetails suspendedUserDetails) {
@@ -135,17 +135,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
    * @throws IOException
    */
   private void sendErrorResponse(HttpServletResponse response, ErrorCode errorCode) throws IOException {
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-    response.setStatus(errorCode.getStatus().value());
-    response.setCharacterEncoding("UTF-8");
-
-    ErrorResponse errorResponse = ErrorResponse.builder()
-        .errorCode(errorCode)
-        .errorMessage(errorCode.getMessage())
-        .build();
-
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.writeValue(response.getWriter(), errorResponse);
+    FilterErrorResponseWriter.writeError(response, errorCode);
   }
 
   /**
@@ -159,19 +149,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
   private void sendSuspendedResponse(HttpServletResponse response,
       String suspendReason,
       LocalDateTime suspendedUntil) throws IOException {
-    response.setContentType(MediaType.APPLICATION_JSON_VALUE);
-    response.setStatus(ErrorCode.SUSPENDED_MEMBER.getStatus().value());
-    response.setCharacterEncoding("UTF-8");
-
-    SuspendedMemberResponse suspendedMemberResponse = SuspendedMemberResponse.builder()
-        .errorCode(ErrorCode.SUSPENDED_MEMBER.name())
-        .suspendReason(suspendReason)
-        .suspendedUntil(suspendedUntil)
-        .build();
-
-    ObjectMapper suspendedResponseMapper = new ObjectMapper();
-    suspendedResponseMapper.registerModule(new JavaTimeModule());
-    suspendedResponseMapper.writeValue(response.getWriter(), suspendedMemberResponse);
+    FilterErrorResponseWriter.writeSuspended(response, suspendReason, suspendedUntil);
   }
 
   /**
@@ -181,10 +159,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
    * @return 화이트리스트 여부
    */
   private boolean isWhitelistedPath(String uri) {
-    return SecurityUrls.AUTH_WHITELIST.stream()
-        .anyMatch(pattern -> pathMatcher.match(pattern, uri))
-        || SecurityUrls.SECURED_API_URLS.stream()
-        .anyMatch(pattern -> pathMatcher.match(pattern, uri));
+    return PUBLIC_PATH_MATCHER.matches(uri);
   }
 
 }
@@ -1,21 +1,25 @@
 package com.romrom.auth.jwt;
 
 import com.romrom.auth.service.CustomUserDetailsService;
+import com.romrom.auth.service.TokenBlacklistCacheService;
 import com.romrom.auth.dto.CustomUserDetails;
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
+import com.romrom.member.entity.Member;
+import com.romrom.member.service.MemberCacheService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
 import javax.crypto.SecretKey;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +35,9 @@ import org.springframework.stereotype.Component;
 public class JwtUtil {
 
   private final CustomUserDetailsService customUserDetailsService;
+  private final MemberCacheService memberCacheService;
   private final RedisTemplate<String, Object> redisTemplate;
+  private final TokenBlacklistCacheService tokenBlacklistCacheService;
 
   @Value("${jwt.secret-key}")
   private String secretKey;
@@ -47,49 +53,40 @@ public class JwtUtil {
 
   private static final String ACCESS_CATEGORY = "access";
   private static final String REFRESH_CATEGORY = "refresh";
-  private static final String BLACKLIST_PREFIX = "BL:";
-  private static final String BLACKLIST_VALUE = "blacklisted";
   public static final String REFRESH_KEY_PREFIX = "RT:";
 
+  // 서명 키와 파서는 설정값으로만 결정되므로 시작 시 한 번 만들어 재사용 (둘 다 불변, 스레드 안전)
+  private SecretKey signKey;
+  private JwtParser jwtParser;
+
+  @PostConstruct
+  void initSigningKey() {
+    signKey = buildSignKey();
+    jwtParser = Jwts.parser()
+        .verifyWith(signKey)
+        .build();
+  }
+
   // 토큰에서 username 파싱
   public String getUsername(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("username", String.class);
+    return parseClaims(token).get("username", String.class);
   }
 
   // 토큰에서 role 파싱
   public String getRole(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("role", String.class);
+    return parseClaims(token).get("role", String.class);
   }
 
   // 토큰 만료 여부 확인
   public Boolean isExpired(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
+    return parseClaims(token)
         .getExpiration()
         .before(new Date());
   }
 
   // Access/Refresh 토큰 여부
   public String getCategory(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload()
-        .get("category", String.class);
+    return parseClaims(token).get("category", String.class);
   }
 
   /**
@@ -131,7 +128,7 @@ public class JwtUtil {
         .issuer(issuer)
         .issuedAt(new Date(System.currentTimeMillis()))
         .expiration(new Date(System.currentTimeMillis() + expiredAt))
-        .signWith(getSignKey())
+        .signWith(signKey)
         .compact();
   }
 
@@ -142,17 +139,26 @@ public class JwtUtil {
    * @return 유효 여부
    */
   public boolean validateToken(String token) throws ExpiredJwtException {
+    return verify(token) != null;
+  }
+
+  /**
+   * JWT 토큰을 한 번만 파싱해 서명/블랙리스트를 검증하고, 파싱한 클레임을 담은 토큰 객체를 반환
+   * 요청 처리 중 username, role, 남은 만료 시간은 반환된 객체에서 꺼내 재파싱하지 않는다.
+   *
+   * @param token 검증할 JWT 토큰
+   * @return 검증된 토큰, 유효하지 않으면 null
+   * @throws ExpiredJwtException 만료된 토큰
+   */
+  public VerifiedToken verify(String token) throws ExpiredJwtException {
     try {
-      Jwts.parser()
-          .verifyWith(getSignKey())
-          .build()
-          .parseSignedClaims(token);
+      Claims claims = parseClaims(token);
       if (isTokenBlacklisted(token)) {
         log.error("엑세스 토큰이 블랙리스트에 등록되어있습니다. 요청된 토큰: {}", token);
         throw new CustomException(ErrorCode.TOKEN_BLACKLISTED);
       }
       log.debug("JWT 토큰이 유효합니다.");
-      return true;
+      return new VerifiedToken(token, claims);
     } catch (ExpiredJwtException e) {
       log.warn("JWT 토큰이 만료되었습니다: {}", e.getMessage());
       throw e; // 만료된 토큰 예외를 호출한 쪽으로 전달
@@ -165,15 +171,15 @@ public class JwtUtil {
     } catch (IllegalArgumentException e) {
       log.warn("JWT 토큰이 비어있거나 null입니다: {}", e.getMessage());
     }
-    return false;
+    return null;
   }
 
   /**
-   * JWT 서명에 사용할 키 생성
+   * JWT 서명에 사용할 키 생성 (시작 시 한 번)
    *
    * @return SecretKey 객체
    */
-  private SecretKey getSignKey() {
+  private SecretKey buildSignKey() {
     try {
       // Base64 문자열로부터 SecretKey를 생성
       byte[] keyBytes = Decoders.BASE64.decode(secretKey);
@@ -191,11 +197,12 @@ public class JwtUtil {
    * @return 추출된 클레임
    */
   public Claims getClaims(String token) {
-    return Jwts.parser()
-        .verifyWith(getSignKey())
-        .build()
-        .parseSignedClaims(token)
-        .getPayload();
+    return parseClaims(token);
+  }
+
+  // 미리 만들어 둔 파서로 서명 검증 + 클레임 파싱
+  private Claims parseClaims(String token) {
+    return jwtParser.parseSignedClaims(token).getPayload();
   }
 
   /**
@@ -234,13 +241,39 @@ public class JwtUtil {
    * @return Authentication 객체
    */
   public Authentication getAuthentication(String token) {
-    Claims claims = getClaims(token);
-    String username = claims.getSubject();
+    return getAuthentication(new VerifiedToken(token, getClaims(token)));
+  }
+
+  /**
+   * 검증된 토큰에서 Authentication 객체 생성 (클레임 재파싱 없음)
+   *
+   * @param verifiedToken {@link #verify(String)} 결과
+   * @return Authentication 객체
+   */
+  public Authentication getAuthentication(VerifiedToken verifiedToken) {
+    String username = verifiedToken.getSubject();
     log.debug("JWT에서 인증정보 파싱: username={}", username);
     CustomUserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
     return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
   }
 
+  /**
+   * JWT 토큰에서 Authentication 객체 생성 (인증 principal 캐시 사용)
+   * 일반 API 요청 hot path 전용: 캐시 히트 시 Member DB 조회를 생략하고, 미스여도 이미 파싱한 클레임을 쓴다.
+   *
+   * @param verifiedToken {@link #verify(String)} 로 검증된 accessToken
+   * @return Authentication 객체
+   */
+  public Authentication getCachedAuthentication(VerifiedToken verifiedToken) {
+    Member member = memberCacheService.getOrLoad(verifiedToken.getToken(), () -> {
+      String username = verifiedToken.getSubject();
+      log.debug("인증 principal 캐시 미스, DB 조회: username={}", username);
+      return customUserDetailsService.loadUserByUsername(username).getMember();
+    });
+    CustomUserDetails userDetails = new CustomUserDetails(member);
+    return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+  }
+
   /**
    * "Authorization" 헤더에서 순수한 accessToken을 파싱 후 반환합니다.
    *
@@ -278,18 +311,12 @@ public class JwtUtil {
 
   // accessToken을 블랙리스트에 등록합니다
   private void blacklistAccessToken(String accessToken) {
-    String key = BLACKLIST_PREFIX + accessToken;
-    redisTemplate.opsForValue().set(
-        key,
-        BLACKLIST_VALUE,
-        getRemainingValidationMilliSecond(accessToken),
-        TimeUnit.MILLISECONDS);
+    tokenBlacklistCacheService.blacklist(accessToken, getRemainingValidationMilliSecond(accessToken));
   }
 
-  // 해당 토큰이 블랙리스트에 있는지 확인합니다
-  private Boolean isTokenBlacklisted(String accessToken) {
-    String key = BLACKLIST_PREFIX + accessToken;
-    return redisTemplate.hasKey(key);
+  // 해당 토큰이 블랙리스트에 있는지 확인합니다 (로컬 복제본, 대부분 Redis 왕복 없음)
+  private boolean isTokenBlacklisted(String accessToken) {
+    return tokenBlacklistCacheService.isBlacklisted(accessToken);
   }
 
   // redis에 저장된 리프레시 토큰을 삭제
@@ -0,0 +1,45 @@
+package com.romrom.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import java.util.Date;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명/만료/블랙리스트 검증을 마친 JWT
+ * {@link JwtUtil#verify(String)} 에서 한 번만 파싱한 클레임을 들고 다니므로,
+ * 같은 요청 안에서 username, role, 남은 만료 시간 등을 꺼낼 때 토큰을 다시 파싱하지 않는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class VerifiedToken {
+
+  private final String token;
+  private final Claims claims;
+
+  public String getSubject() {
+    return claims.getSubject();
+  }
+
+  public String getUsername() {
+    return claims.get("username", String.class);
+  }
+
+  public String getRole() {
+    return claims.get("role", String.class);
+  }
+
+  public String getCategory() {
+    return claims.get("category", String.class);
+  }
+
+  /**
+   * 남은 유효기간(밀리초), 이미 지났으면 0
+   */
+  public long getRemainingValidationMilliSecond() {
+    Date expiration = claims.getExpiration();
+    long remaining = expiration.getTime() - System.currentTimeMillis();
+    return remaining > 0 ? remaining : 0;
+  }
+}
@@ -0,0 +1,36 @@
+package com.romrom.auth.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 액세스 토큰 블랙리스트 로컬 복제본 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "jwt.blacklist")
+public class TokenBlacklistProperties {
+
+  /**
+   * 로컬 복제본 사용 여부 (false면 매 요청 Redis 조회)
+   */
+  private boolean localReplicaEnabled = true;
+
+  /**
+   * Bloom filter 예상 원소 수 (액세스 토큰 유효기간 동안의 로그아웃 수). 초과하면 복제본을 더 크게 다시 만든다.
+   */
+  private long expectedInsertions = 100_000L;
+
+  /**
+   * Bloom filter 목표 오탐률. 오탐은 정확한 집합에서 걸러지므로 Redis 왕복은 생기지 않는다.
+   */
+  private double falsePositiveRate = 0.001;
+
+  /**
+   * 버전 폴링 주기 (밀리초). pub/sub 메시지가 유실돼도 다른 인스턴스의 반영 지연은 이 값으로 제한된다.
+   */
+  private long versionPollIntervalMillis = 5_000L;
+}
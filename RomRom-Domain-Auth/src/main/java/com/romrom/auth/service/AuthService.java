@@ -8,6 +8,7 @@ import com.romrom.auth.dto.AuthResponse;
 import com.romrom.auth.dto.CustomUserDetails;
 import com.romrom.auth.dto.LoginRequest;
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import com.romrom.common.constant.AccountStatus;
 import com.romrom.common.constant.LoginResult;
 import com.romrom.common.constant.Role;
@@ -269,8 +270,10 @@ public class AuthService {
       throw new CustomException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
     }
 
+    VerifiedToken verifiedRefreshToken;
     try {
-      if (!jwtUtil.validateToken(refreshToken)) {
+      verifiedRefreshToken = jwtUtil.verify(refreshToken);
+      if (verifiedRefreshToken == null) {
         log.error("유효하지 않은 refreshToken 입니다.");
         throw new CustomException(ErrorCode.INVALID_REFRESH_TOKEN);
       }
@@ -280,7 +283,7 @@ public class AuthService {
     }
 
     CustomUserDetails customUserDetails = (CustomUserDetails) jwtUtil
-        .getAuthentication(refreshToken).getPrincipal();
+        .getAuthentication(verifiedRefreshToken).getPrincipal();
     String newAccessToken = jwtUtil.createAccessToken(customUserDetails);
     String newRefreshToken = jwtUtil.createRefreshToken(customUserDetails);
 
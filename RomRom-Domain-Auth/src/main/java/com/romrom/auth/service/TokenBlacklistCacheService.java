@@ -0,0 +1,280 @@
+package com.romrom.auth.service;
+
+import com.romrom.auth.properties.TokenBlacklistProperties;
+import com.romrom.common.util.BloomFilter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 액세스 토큰 블랙리스트 로컬 복제본.
+ *
+ * <p>원본은 Redis 이고(토큰별 {@code BL:} 키 + 만료 시각을 score 로 둔 인덱스 ZSET), 인스턴스마다
+ * 폐기된 토큰의 Bloom filter 와 정확한 집합을 둔다. 매 요청의 블랙리스트 확인은 대부분 Bloom filter 에서
+ * "확실히 없음"으로 끝나 Redis 왕복이 없고, "있을 수도 있음"이면 정확한 집합으로 확정한다.
+ *
+ * <p>갱신: 로그아웃 시 Redis 에 기록하고 버전 카운터를 INCR 한 뒤 폐기 채널로 발행한다.
+ * 각 인스턴스는 메시지의 토큰을 바로 추가하고, 메시지 유실에 대비해 버전 카운터를 주기적으로 비교해 인덱스를 다시 읽는다.
+ * 따라서 로그아웃 후 다른 인스턴스가 토큰을 거부하기까지의 지연은 최대 폴링 주기로 제한된다.
+ * 최초 적재는 요청 경로가 아닌 기동 완료 시점(실패 시 다음 폴링)에서 하고, 그 전에는 기존처럼 Redis 를 직접 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenBlacklistCacheService implements MessageListener {
+
+  public static final String BLACKLIST_PREFIX = "BL:";
+  private static final String BLACKLIST_VALUE = "blacklisted";
+  private static final String INDEX_KEY = "auth:blacklist:index";
+  private static final String VERSION_KEY = "auth:blacklist:version";
+  public static final String REVOKE_CHANNEL = "auth:blacklist:revoked";
+  private static final int LEGACY_SCAN_COUNT = 1_000;
+
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final TokenBlacklistProperties tokenBlacklistProperties;
+
+  // 교체는 잠금 안에서만, 조회는 잠금 없이 volatile 읽기
+  private volatile Replica replica;
+
+  /**
+   * 액세스 토큰이 블랙리스트(로그아웃/탈퇴)에 있는지 확인 (요청 hot path)
+   */
+  public boolean isBlacklisted(String accessToken) {
+    if (!tokenBlacklistProperties.isLocalReplicaEnabled()) {
+      return isBlacklistedInRedis(accessToken);
+    }
+    Replica current = replica;
+    if (current == null) {
+      // 최초 적재 전: 요청 스레드에서 적재하지 않고 기존처럼 Redis 직접 조회
+      return isBlacklistedInRedis(accessToken);
+    }
+    return current.contains(accessToken, System.currentTimeMillis());
+  }
+
+  /**
+   * 기동 완료 시 복제본 최초 적재 (기존 BL: 키 SCAN 포함). 실패하면 다음 버전 폴링에서 다시 시도한다.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void loadOnStartup() {
+    if (!tokenBlacklistProperties.isLocalReplicaEnabled()) {
+      return;
+    }
+    try {
+      loadReplica();
+    } catch (Exception e) {
+      log.warn("블랙리스트 복제본 최초 적재 실패, 적재 전까지 Redis 직접 조회: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 액세스 토큰을 남은 유효기간 동안 블랙리스트에 등록하고 다른 인스턴스에 알림
+   *
+   * @param accessToken     폐기할 액세스 토큰
+   * @param remainingMillis 토큰의 남은 유효기간 (밀리초)
+   */
+  public void blacklist(String accessToken, long remainingMillis) {
+    long now = System.currentTimeMillis();
+    long expiresAt = now + remainingMillis;
+    redisTemplate.opsForValue().set(BLACKLIST_PREFIX + accessToken, BLACKLIST_VALUE, remainingMillis, TimeUnit.MILLISECONDS);
+    redisTemplate.opsForZSet().add(INDEX_KEY, accessToken, expiresAt);
+    // 만료된 인덱스 항목 정리 (토큰 자체도 만료되어 서명 검증에서 거부됨)
+    redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, now);
+    Long version = redisTemplate.opsForValue().increment(VERSION_KEY);
+    long revokedVersion = version != null ? version : 0L;
+    // 쓰기 인스턴스는 알림 왕복을 기다리지 않고 즉시 반영
+    applyRevocation(revokedVersion, accessToken, expiresAt);
+    redisTemplate.convertAndSend(REVOKE_CHANNEL, revokedVersion + ":" + expiresAt + ":" + accessToken);
+  }
+
+  /**
+   * 다른 인스턴스(또는 자기 자신)의 폐기 알림 수신 → 복제본에 토큰 추가 (Redis 왕복 없음)
+   * 메시지 형식: {버전}:{만료 시각}:{토큰}
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+      String[] parts = String.valueOf(payload).split(":", 3);
+      applyRevocation(Long.parseLong(parts[0]), parts[2], Long.parseLong(parts[1]));
+    } catch (Exception e) {
+      log.warn("블랙리스트 폐기 알림 처리 실패 (다음 버전 폴링에서 재적재): {}", e.getMessage());
+    }
+  }
+
+  /**
+   * pub/sub 메시지 유실 대비 안전망: 원격 버전이 복제본과 다르면 인덱스 재적재, 같으면 만료 항목만 정리
+   * 최초 적재 전(기동 시 적재 실패 포함)이면 여기서 최초 적재를 시도한다.
+   */
+  @Scheduled(fixedDelayString = "${jwt.blacklist.version-poll-interval-millis:5000}")
+  public void pollVersion() {
+    if (!tokenBlacklistProperties.isLocalReplicaEnabled()) {
+      return;
+    }
+    Replica current = replica;
+    try {
+      if (current == null || readRemoteVersion() != current.version) {
+        loadReplica();
+      } else if (current.hasExpired(System.currentTimeMillis())) {
+        pruneExpired();
+      }
+    } catch (Exception e) {
+      log.warn("블랙리스트 버전 폴링 실패: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 버전 → 인덱스 순서로 읽는다. 사이에 폐기가 끼면 복제본 버전이 실제보다 낮게 기록되어 다음 폴링에서 한 번 더 읽을 뿐이다.
+   * 알림 반영과 같은 잠금을 쓰므로, 적재 중 도착한 알림은 새 복제본에 반영된다.
+   */
+  synchronized Replica loadReplica() {
+    long now = System.currentTimeMillis();
+    long version = readRemoteVersion();
+    Map<String, Long> expiresAtByToken = new HashMap<>();
+    Set<TypedTuple<Object>> indexedTokens =
+        redisTemplate.opsForZSet().rangeByScoreWithScores(INDEX_KEY, now, Double.MAX_VALUE);
+    if (indexedTokens != null) {
+      for (TypedTuple<Object> indexedToken : indexedTokens) {
+        if (indexedToken.getValue() != null && indexedToken.getScore() != null) {
+          expiresAtByToken.put(indexedToken.getValue().toString(), indexedToken.getScore().longValue());
+        }
+      }
+    }
+    if (replica == null) {
+      // 최초 1회: 인덱스 도입 이전에 등록되어 아직 만료되지 않은 BL: 키도 포함
+      loadLegacyKeys(expiresAtByToken, now);
+    }
+    Replica loaded = Replica.of(version, expiresAtByToken, now, tokenBlacklistProperties);
+    replica = loaded;
+    log.debug("블랙리스트 복제본 갱신: version={}, {} 건", version, expiresAtByToken.size());
+    return loaded;
+  }
+
+  private synchronized void applyRevocation(long revokedVersion, String accessToken, long expiresAt) {
+    Replica current = replica;
+    if (current == null) {
+      // 아직 적재 전: 최초 적재 때 인덱스에서 함께 읽힌다
+      return;
+    }
+    if (current.size() >= current.capacity) {
+      current = Replica.of(current.version, current.expiresAtByToken, System.currentTimeMillis(), tokenBlacklistProperties);
+      replica = current;
+    }
+    current.add(accessToken, expiresAt);
+    // 연속된 버전이면 이전 폐기가 모두 반영된 상태이므로 재적재가 필요 없다
+    if (revokedVersion == current.version + 1) {
+      current.version = revokedVersion;
+    }
+  }
+
+  // Bloom filter 는 삭제가 없으므로 만료 항목을 뺀 복제본으로 교체
+  private synchronized void pruneExpired() {
+    Replica current = replica;
+    if (current != null) {
+      replica = Replica.of(current.version, current.expiresAtByToken, System.currentTimeMillis(), tokenBlacklistProperties);
+    }
+  }
+
+  private void loadLegacyKeys(Map<String, Long> expiresAtByToken, long now) {
+    ScanOptions scanOptions = ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(LEGACY_SCAN_COUNT).build();
+    try (Cursor<String> cursor = redisTemplate.scan(scanOptions)) {
+      while (cursor.hasNext()) {
+        String key = cursor.next();
+        String accessToken = key.substring(BLACKLIST_PREFIX.length());
+        if (expiresAtByToken.containsKey(accessToken)) {
+          continue;
+        }
+        Long remainingMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        if (remainingMillis != null && remainingMillis > 0) {
+          expiresAtByToken.put(accessToken, now + remainingMillis);
+        }
+      }
+    }
+  }
+
+  private boolean isBlacklistedInRedis(String accessToken) {
+    return Boolean.TRUE.equals(redisTemplate.hasKey(BLACKLIST_PREFIX + accessToken));
+  }
+
+  private long readRemoteVersion() {
+    Object rawVersion = redisTemplate.opsForValue().get(VERSION_KEY);
+    if (rawVersion == null) {
+      return 0L;
+    }
+    return rawVersion instanceof Number number ? number.longValue() : Long.parseLong(rawVersion.toString());
+  }
+
+  int replicaSize() {
+    Replica current = replica;
+    return current != null ? current.size() : 0;
+  }
+
+  /**
+   * 폐기 토큰 복제본: Bloom filter (빠른 음성 판정) + 토큰별 만료 시각 (양성 확정)
+   */
+  static final class Replica {
+
+    private final BloomFilter bloomFilter;
+    private final Map<String, Long> expiresAtByToken;
+    private final long capacity;
+    private volatile long version;
+
+    private Replica(long version, long capacity, TokenBlacklistProperties properties) {
+      this.version = version;
+      this.capacity = capacity;
+      this.bloomFilter = new BloomFilter(capacity, properties.getFalsePositiveRate());
+      this.expiresAtByToken = new ConcurrentHashMap<>();
+    }
+
+    static Replica of(long version, Map<String, Long> expiresAtByToken, long now, TokenBlacklistProperties properties) {
+      long capacity = Math.max(properties.getExpectedInsertions(), expiresAtByToken.size() * 2L);
+      Replica replica = new Replica(version, capacity, properties);
+      expiresAtByToken.forEach((accessToken, expiresAt) -> {
+        if (expiresAt > now) {
+          replica.add(accessToken, expiresAt);
+        }
+      });
+      return replica;
+    }
+
+    boolean contains(String accessToken, long now) {
+      if (!bloomFilter.mightContain(accessToken)) {
+        return false;
+      }
+      Long expiresAt = expiresAtByToken.get(accessToken);
+      return expiresAt != null && expiresAt > now;
+    }
+
+    // 정확한 집합을 먼저 채워, Bloom 비트가 보이는 시점에는 집합에도 있도록 한다
+    void add(String accessToken, long expiresAt) {
+      expiresAtByToken.put(accessToken, expiresAt);
+      bloomFilter.put(accessToken);
+    }
+
+    boolean hasExpired(long now) {
+      for (Long expiresAt : expiresAtByToken.values()) {
+        if (expiresAt <= now) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    int size() {
+      return expiresAtByToken.size();
+    }
+  }
+}
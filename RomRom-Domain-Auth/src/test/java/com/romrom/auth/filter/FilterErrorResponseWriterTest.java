@@ -0,0 +1,68 @@
+package com.romrom.auth.filter;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.romrom.common.exception.ErrorCode;
+import com.romrom.common.exception.ErrorResponse;
+import com.romrom.common.exception.SuspendedMemberResponse;
+import java.time.LocalDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * FilterErrorResponseWriter 가 기존 필터(요청마다 새 ObjectMapper 생성)와 같은 응답을 만드는지 검증한다.
+ */
+@Slf4j
+class FilterErrorResponseWriterTest {
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::에러코드_응답_기존형식과_동일_테스트);
+    lineLog(null);
+    timeLog(this::제재회원_응답_기존형식과_동일_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  void 에러코드_응답_기존형식과_동일_테스트() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    FilterErrorResponseWriter.writeError(response, ErrorCode.EXPIRED_ACCESS_TOKEN);
+
+    String legacyBody = new ObjectMapper().writeValueAsString(ErrorResponse.builder()
+        .errorCode(ErrorCode.EXPIRED_ACCESS_TOKEN)
+        .errorMessage(ErrorCode.EXPIRED_ACCESS_TOKEN.getMessage())
+        .build());
+    assertEquals(ErrorCode.EXPIRED_ACCESS_TOKEN.getStatus().value(), response.getStatus());
+    assertEquals("application/json;charset=UTF-8", response.getContentType());
+    assertEquals(legacyBody, response.getContentAsString());
+    lineLog(response.getContentAsString());
+  }
+
+  void 제재회원_응답_기존형식과_동일_테스트() throws Exception {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    LocalDateTime suspendedUntil = LocalDateTime.of(2026, 10, 25, 9, 30);
+
+    FilterErrorResponseWriter.writeSuspended(response, "운영 정책 위반", suspendedUntil);
+
+    ObjectMapper legacyMapper = new ObjectMapper();
+    legacyMapper.registerModule(new JavaTimeModule());
+    String legacyBody = legacyMapper.writeValueAsString(SuspendedMemberResponse.builder()
+        .errorCode(ErrorCode.SUSPENDED_MEMBER.name())
+        .suspendReason("운영 정책 위반")
+        .suspendedUntil(suspendedUntil)
+        .build());
+    assertEquals(ErrorCode.SUSPENDED_MEMBER.getStatus().value(), response.getStatus());
+    assertEquals(legacyBody, response.getContentAsString());
+    lineLog(response.getContentAsString());
+  }
+}
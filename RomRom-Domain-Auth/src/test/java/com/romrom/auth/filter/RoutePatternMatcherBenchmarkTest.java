@@ -0,0 +1,99 @@
+package com.romrom.auth.filter;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.auth.dto.SecurityUrls;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.util.AntPathMatcher;
+
+@EnabledIf("routeMatcherBenchmarkEnabled")
+class RoutePatternMatcherBenchmarkTest {
+
+  /*
+   * TokenAuthenticationFilter 화이트리스트 판정 비용 비교: 기존 AntPathMatcher 목록 순회 vs 컴파일된 RoutePatternMatcher
+   * 실제 SecurityUrls 목록(공개 + HMAC)과, 도메인이 늘어난 경우를 가정한 합성 패턴 목록 두 가지로 요청 1건당 ns 를 측정한다.
+   * 요청 경로는 대부분 인증이 필요한 API(화이트리스트 불일치 = 기존 방식 최악 경로)로 구성한다.
+   */
+  private static final int SYNTHETIC_PATTERN_COUNT = Integer.getInteger("romrom.route-matcher.benchmark.patterns", 300);
+  private static final int MEASURE_ROUNDS = Integer.getInteger("romrom.route-matcher.benchmark.rounds", 200_000);
+  private static final int WARMUP_ROUNDS = 50_000;
+
+  private static final List<String> REQUEST_PATHS = List.of(
+      "/api/item/feed/get", "/api/chat/rooms/get", "/api/chat/rooms/messages/cursor/get", "/api/trade/request/list",
+      "/api/member/profile/get", "/api/item/detail/get", "/api/notification/list", "/api/report/item",
+      "/api/auth/login", "/api/image/variant", "/js/app.js", "/api/app/version/check"
+  );
+
+  private static boolean routeMatcherBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.route-matcher.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_ROUTE_MATCHER_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareWhitelistMatchingCostPerRequest() {
+    List<String> productionPatterns = new ArrayList<>(SecurityUrls.AUTH_WHITELIST);
+    productionPatterns.addAll(SecurityUrls.SECURED_API_URLS);
+    List<String> syntheticPatterns = new ArrayList<>(productionPatterns);
+    for (int index = 0; syntheticPatterns.size() < SYNTHETIC_PATTERN_COUNT; index++) {
+      switch (index % 3) {
+        case 0 -> syntheticPatterns.add("/api/public/domain" + index + "/get");
+        case 1 -> syntheticPatterns.add("/static/bundle" + index + "/**");
+        default -> syntheticPatterns.add("/api/open/resource" + index + "/{resourceId}/detail");
+      }
+    }
+
+    Result production = measure(productionPatterns);
+    Result synthetic = measure(syntheticPatterns);
+
+    assertThat(production.routeNanosPerRequest()).isLessThan(production.antNanosPerRequest());
+    lineLog("[RoutePatternMatcherBenchmarkTest] 화이트리스트 경로 판정 비용 (요청 1건당)");
+    lineLog(String.format("- 실제 SecurityUrls 패턴 %d개: AntPathMatcher 순회 %.1fns -> 컴파일 트리 %.1fns (%.1fx)",
+        productionPatterns.size(), production.antNanosPerRequest(), production.routeNanosPerRequest(),
+        production.antNanosPerRequest() / production.routeNanosPerRequest()));
+    lineLog(String.format("- 합성 패턴 %d개: AntPathMatcher 순회 %.1fns -> 컴파일 트리 %.1fns (%.1fx)",
+        syntheticPatterns.size(), synthetic.antNanosPerRequest(), synthetic.routeNanosPerRequest(),
+        synthetic.antNanosPerRequest() / synthetic.routeNanosPerRequest()));
+    lineLog(String.format("- 측정: 요청 경로 %d종 x %,d회 (워밍업 %,d회)", REQUEST_PATHS.size(), MEASURE_ROUNDS, WARMUP_ROUNDS));
+  }
+
+  private Result measure(List<String> patterns) {
+    AntPathMatcher antPathMatcher = new AntPathMatcher();
+    // 변경 전 TokenAuthenticationFilter.isWhitelistedPath 와 같은 방식
+    Predicate<String> antMatcher = uri -> patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, uri));
+    RoutePatternMatcher routePatternMatcher = RoutePatternMatcher.compile(patterns);
+    Predicate<String> routeMatcher = routePatternMatcher::matches;
+
+    for (String path : REQUEST_PATHS) {
+      assertThat(routeMatcher.test(path)).as(path).isEqualTo(antMatcher.test(path));
+    }
+    run(antMatcher, WARMUP_ROUNDS);
+    run(routeMatcher, WARMUP_ROUNDS);
+    double antNanos = run(antMatcher, MEASURE_ROUNDS);
+    double routeNanos = run(routeMatcher, MEASURE_ROUNDS);
+    return new Result(antNanos, routeNanos);
+  }
+
+  // 판정 결과를 누적해 JIT 가 호출을 제거하지 못하게 하고 요청 1건당 평균 ns 반환
+  private double run(Predicate<String> matcher, int rounds) {
+    int matchedCount = 0;
+    long startNanos = System.nanoTime();
+    for (int round = 0; round < rounds; round++) {
+      for (int pathIndex = 0; pathIndex < REQUEST_PATHS.size(); pathIndex++) {
+        if (matcher.test(REQUEST_PATHS.get(pathIndex))) {
+          matchedCount++;
+        }
+      }
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+    assertThat(matchedCount).isPositive();
+    return (double) elapsedNanos / ((long) rounds * REQUEST_PATHS.size());
+  }
+
+  private record Result(double antNanosPerRequest, double routeNanosPerRequest) {
+  }
+}
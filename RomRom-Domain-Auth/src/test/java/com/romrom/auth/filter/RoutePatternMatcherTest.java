@@ -0,0 +1,95 @@
+package com.romrom.auth.filter;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.auth.dto.SecurityUrls;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+/**
+ * RoutePatternMatcher 가 기존 AntPathMatcher 순회와 같은 판정을 내리는지 검증한다.
+ * SecurityUrls 실제 목록과 와일드카드/경로 변수/끝 슬래시 경계 사례를 함께 비교한다.
+ */
+@Slf4j
+class RoutePatternMatcherTest {
+
+  private static final List<String> EDGE_PATTERNS = List.of(
+      "/css/**", "/admin", "/admin/", "/admin/members/{memberId}", "/api/*/detail", "/files/*.png",
+      "/api/v?/items", "/docs/**/index.html", "/api/items/{itemId:[0-9]+}", "/static/*", "/**/favicon.ico"
+  );
+
+  private static final List<String> SAMPLE_PATHS = List.of(
+      "/", "/css", "/css/", "/css/app.css", "/css/a/b/c.css", "/cssx/app.css", "/admin", "/admin/", "/admin//",
+      "/admin/members", "/admin/members/", "/admin/members/123", "/admin/members/123/", "/admin/members/123/edit",
+      "/api/item/detail", "/api/item/", "/api/item/detail/x", "/files/a.png", "/files/a.jpg", "/files/.png",
+      "/api/v1/items", "/api/v10/items", "/docs/index.html", "/docs/a/b/index.html", "/docs/a/index.htm",
+      "/api/items/42", "/api/items/abc", "/static/", "/static", "/static/a", "/favicon.ico", "/a/b/favicon.ico",
+      "//admin", "/api/auth/login", "/api/auth/login/", "/api/auth/loginx", "/api/app/version/check",
+      "/api/admin/login", "/api/admin/members/list", "/api/image/variant", "/actuator/health", "/actuator/health/db",
+      "/js/app.js", "/plugins/x/y.js", "/generate/", "/api/item/public/get", "/api/chat/rooms/get", "/v3/api-docs/x"
+  );
+
+  private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::보안_URL_목록_AntPathMatcher와_동일_판정_테스트);
+    lineLog(null);
+    timeLog(this::와일드카드_경로변수_끝슬래시_경계_동일_판정_테스트);
+    lineLog(null);
+    timeLog(this::잘못된_패턴_컴파일_거부_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  void 보안_URL_목록_AntPathMatcher와_동일_판정_테스트() {
+    List<String> publicPatterns = new ArrayList<>(SecurityUrls.AUTH_WHITELIST);
+    publicPatterns.addAll(SecurityUrls.SECURED_API_URLS);
+    assertSameAsAntPathMatcher(publicPatterns, RoutePatternMatcher.compile(SecurityUrls.AUTH_WHITELIST, SecurityUrls.SECURED_API_URLS));
+    assertSameAsAntPathMatcher(SecurityUrls.ADMIN_PATHS, RoutePatternMatcher.compile(SecurityUrls.ADMIN_PATHS));
+
+    RoutePatternMatcher publicMatcher = RoutePatternMatcher.compile(SecurityUrls.AUTH_WHITELIST, SecurityUrls.SECURED_API_URLS);
+    assertTrue(publicMatcher.matches("/api/auth/login"));
+    assertTrue(publicMatcher.matches("/plugins/jquery/jquery.min.js"));
+    assertFalse(publicMatcher.matches("/api/chat/rooms/get"));
+    lineLog("공개 경로 패턴 " + publicMatcher.getPatternCount() + "개, 샘플 경로 " + SAMPLE_PATHS.size() + "개 판정 일치");
+  }
+
+  void 와일드카드_경로변수_끝슬래시_경계_동일_판정_테스트() {
+    assertSameAsAntPathMatcher(EDGE_PATTERNS, RoutePatternMatcher.compile(EDGE_PATTERNS));
+    for (String pattern : EDGE_PATTERNS) {
+      assertSameAsAntPathMatcher(List.of(pattern), RoutePatternMatcher.compile(List.of(pattern)));
+    }
+  }
+
+  void 잘못된_패턴_컴파일_거부_테스트() {
+    boolean rejected = false;
+    try {
+      RoutePatternMatcher.compile(List.of("api/no-leading-slash"));
+    } catch (IllegalArgumentException e) {
+      rejected = true;
+    }
+    assertTrue(rejected, "/ 로 시작하지 않는 패턴은 거부해야 한다");
+    assertFalse(RoutePatternMatcher.compile(EDGE_PATTERNS).matches("relative/path"));
+  }
+
+  private void assertSameAsAntPathMatcher(List<String> patterns, RoutePatternMatcher routePatternMatcher) {
+    List<String> paths = new ArrayList<>(SAMPLE_PATHS);
+    paths.addAll(patterns);
+    for (String path : paths) {
+      boolean expected = patterns.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+      assertEquals(expected, routePatternMatcher.matches(path), "패턴 " + patterns + " / 경로 " + path);
+    }
+  }
+}
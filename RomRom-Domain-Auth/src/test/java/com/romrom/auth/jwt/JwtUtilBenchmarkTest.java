@@ -0,0 +1,105 @@
+package com.romrom.auth.jwt;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.romrom.auth.dto.CustomUserDetails;
+import com.romrom.auth.service.CustomUserDetailsService;
+import com.romrom.member.service.MemberCacheService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import java.lang.management.ManagementFactory;
+import java.util.function.ToLongFunction;
+import javax.crypto.SecretKey;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@EnabledIf("jwtBenchmarkEnabled")
+class JwtUtilBenchmarkTest {
+
+  /*
+   * 요청 1건의 토큰 검증 비용 비교: 기존 방식(호출마다 Base64 디코딩 + HMAC 키 생성 + 파서 생성, 메서드마다 재파싱) vs
+   * verify() 한 번 파싱 + 시작 시 만든 키/파서 재사용.
+   * - API 필터: validateToken 1회 (principal 은 캐시 히트 가정)
+   * - STOMP CONNECT: validateToken + getUsername + getRemainingValidationMilliSecond (기존 3회 파싱)
+   * 처리량(ops/s)과 스레드 할당량(bytes/op, com.sun.management.ThreadMXBean)을 측정한다.
+   * JMH 는 빌드에 없으므로 다른 벤치마크와 같이 옵트인 JUnit 테스트로 측정한다.
+   */
+  private static final int MEASURE_ROUNDS = Integer.getInteger("romrom.jwt.benchmark.rounds", 100_000);
+  private static final int WARMUP_ROUNDS = 50_000;
+
+  private static boolean jwtBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.jwt.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_JWT_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareTokenValidationThroughputAndAllocation() {
+    RedisTemplate<String, Object> redisTemplate = JwtUtilTest.redisTemplate(false);
+    JwtUtil jwtUtil = JwtUtilTest.newJwtUtil(60 * 60 * 1000L, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate);
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(JwtUtilTest.member("bench@romrom.com")));
+
+    Result apiLegacy = measure(ignored -> legacyParse(token).getExpiration().getTime()
+        + (redisTemplate.hasKey("BL:" + token) ? 1 : 0));
+    Result apiVerified = measure(ignored -> jwtUtil.verify(token).getToken().length());
+    Result stompLegacy = measure(ignored -> {
+      long blacklisted = legacyParse(token).getExpiration().getTime() + (redisTemplate.hasKey("BL:" + token) ? 1 : 0);
+      String username = legacyParse(token).get("username", String.class);
+      long remaining = legacyParse(token).getExpiration().getTime() - System.currentTimeMillis();
+      return blacklisted + username.length() + remaining;
+    });
+    Result stompVerified = measure(ignored -> {
+      VerifiedToken verifiedToken = jwtUtil.verify(token);
+      return verifiedToken.getUsername().length() + verifiedToken.getRemainingValidationMilliSecond();
+    });
+
+    assertThat(apiVerified.opsPerSecond()).isGreaterThan(apiLegacy.opsPerSecond());
+    assertThat(stompVerified.opsPerSecond()).isGreaterThan(stompLegacy.opsPerSecond());
+    assertThat(stompVerified.bytesPerOp()).isLessThan(stompLegacy.bytesPerOp());
+    lineLog(String.format("[JwtUtilBenchmarkTest] 요청 1건당 토큰 검증 비용 (측정 %,d회, 워밍업 %,d회)", MEASURE_ROUNDS, WARMUP_ROUNDS));
+    lineLog(String.format("- API 필터(validateToken): %,.0f ops/s, %,d B/op -> verify(): %,.0f ops/s, %,d B/op (%.1fx)",
+        apiLegacy.opsPerSecond(), apiLegacy.bytesPerOp(), apiVerified.opsPerSecond(), apiVerified.bytesPerOp(),
+        apiVerified.opsPerSecond() / apiLegacy.opsPerSecond()));
+    lineLog(String.format("- STOMP CONNECT(3회 파싱): %,.0f ops/s, %,d B/op -> verify() 1회: %,.0f ops/s, %,d B/op (%.1fx)",
+        stompLegacy.opsPerSecond(), stompLegacy.bytesPerOp(), stompVerified.opsPerSecond(),
+        stompVerified.bytesPerOp(), stompVerified.opsPerSecond() / stompLegacy.opsPerSecond()));
+  }
+
+  // 기존 JwtUtil 파싱 경로 (getSignKey() + Jwts.parser() 를 매번 새로 생성)
+  private static Claims legacyParse(String token) {
+    byte[] keyBytes = Decoders.BASE64.decode(JwtUtilTest.TEST_SECRET_KEY);
+    SecretKey signKey = Keys.hmacShaKeyFor(keyBytes);
+    return Jwts.parser()
+        .verifyWith(signKey)
+        .build()
+        .parseSignedClaims(token)
+        .getPayload();
+  }
+
+  private static Result measure(ToLongFunction<Integer> operation) {
+    long sink = 0;
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      sink += operation.applyAsLong(round);
+    }
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long startNanos = System.nanoTime();
+    for (int round = 0; round < MEASURE_ROUNDS; round++) {
+      sink += operation.applyAsLong(round);
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+    long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    assertThat(sink).isNotZero();
+    return new Result(MEASURE_ROUNDS * 1_000_000_000.0 / elapsedNanos, allocatedBytes / MEASURE_ROUNDS);
+  }
+
+  private record Result(double opsPerSecond, long bytesPerOp) {
+  }
+}
@@ -0,0 +1,184 @@
+package com.romrom.auth.jwt;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.romrom.auth.dto.CustomUserDetails;
+import com.romrom.auth.properties.TokenBlacklistProperties;
+import com.romrom.auth.service.CustomUserDetailsService;
+import com.romrom.auth.service.TokenBlacklistCacheService;
+import com.romrom.common.constant.Role;
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
+import com.romrom.member.entity.Member;
+import com.romrom.member.service.MemberCacheService;
+import io.jsonwebtoken.ExpiredJwtException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * JwtUtil 단일 파싱 검증 테스트 (Redis/DB 미접근).
+ * verify() 한 번으로 얻은 VerifiedToken 이 기존 클레임 getter 와 같은 값을 주는지,
+ * 변조/만료/블랙리스트 토큰 처리가 validateToken() 과 같은지 확인한다.
+ */
+@Slf4j
+class JwtUtilTest {
+
+  static final String TEST_SECRET_KEY = Base64.getEncoder()
+      .encodeToString("romrom-jwt-util-test-secret-key-0123456789".getBytes());
+  private static final long ACCESS_EXP_MILLIS = 60 * 60 * 1000L;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::검증_토큰_클레임이_기존_getter와_동일_테스트);
+    lineLog(null);
+    timeLog(this::변조_토큰_검증_실패_테스트);
+    lineLog(null);
+    timeLog(this::만료_토큰_예외_전달_테스트);
+    lineLog(null);
+    timeLog(this::블랙리스트_토큰_예외_테스트);
+    lineLog(null);
+    timeLog(this::검증_토큰으로_인증객체_생성_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  void 검증_토큰_클레임이_기존_getter와_동일_테스트() {
+    JwtUtil jwtUtil = newJwtUtil(ACCESS_EXP_MILLIS, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate(false));
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member("verify@romrom.com")));
+
+    VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+    assertNotNull(verifiedToken);
+    assertTrue(jwtUtil.validateToken(token));
+    assertEquals(token, verifiedToken.getToken());
+    assertEquals(jwtUtil.getUsername(token), verifiedToken.getUsername());
+    assertEquals(jwtUtil.getRole(token), verifiedToken.getRole());
+    assertEquals(jwtUtil.getCategory(token), verifiedToken.getCategory());
+    assertEquals(jwtUtil.getClaims(token).getSubject(), verifiedToken.getSubject());
+    assertEquals("ROLE_USER", verifiedToken.getRole());
+    assertEquals("access", verifiedToken.getCategory());
+    long remaining = verifiedToken.getRemainingValidationMilliSecond();
+    assertTrue(remaining > 0 && remaining <= ACCESS_EXP_MILLIS);
+    lineLog("username=" + verifiedToken.getUsername() + ", 남은 만료(ms)=" + remaining);
+  }
+
+  void 변조_토큰_검증_실패_테스트() {
+    JwtUtil jwtUtil = newJwtUtil(ACCESS_EXP_MILLIS, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate(false));
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member("tamper@romrom.com")));
+    String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+    assertNull(jwtUtil.verify(tampered));
+    assertFalse(jwtUtil.validateToken(tampered));
+    assertNull(jwtUtil.verify("not-a-jwt"));
+    assertNull(jwtUtil.verify(""));
+
+    // 다른 키로 서명된 토큰도 거부
+    JwtUtil otherKeyJwtUtil = newJwtUtil(ACCESS_EXP_MILLIS, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate(false));
+    ReflectionTestUtils.setField(otherKeyJwtUtil, "secretKey",
+        Base64.getEncoder().encodeToString("another-secret-key-for-romrom-jwt-test-000".getBytes()));
+    otherKeyJwtUtil.initSigningKey();
+    assertNull(jwtUtil.verify(otherKeyJwtUtil.createAccessToken(new CustomUserDetails(member("other@romrom.com")))));
+  }
+
+  void 만료_토큰_예외_전달_테스트() {
+    JwtUtil jwtUtil = newJwtUtil(-1000L, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate(false));
+    String expiredToken = jwtUtil.createAccessToken(new CustomUserDetails(member("expired@romrom.com")));
+
+    assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(expiredToken));
+    assertThrows(ExpiredJwtException.class, () -> jwtUtil.validateToken(expiredToken));
+  }
+
+  void 블랙리스트_토큰_예외_테스트() {
+    JwtUtil jwtUtil = newJwtUtil(ACCESS_EXP_MILLIS, mock(CustomUserDetailsService.class),
+        mock(MemberCacheService.class), redisTemplate(true));
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member("logout@romrom.com")));
+
+    CustomException exception = assertThrows(CustomException.class, () -> jwtUtil.verify(token));
+    assertEquals(ErrorCode.TOKEN_BLACKLISTED, exception.getErrorCode());
+  }
+
+  @SuppressWarnings("unchecked")
+  void 검증_토큰으로_인증객체_생성_테스트() {
+    Member member = member("auth@romrom.com");
+    CustomUserDetailsService customUserDetailsService = mock(CustomUserDetailsService.class);
+    when(customUserDetailsService.loadUserByUsername("auth@romrom.com")).thenReturn(new CustomUserDetails(member));
+    MemberCacheService memberCacheService = mock(MemberCacheService.class);
+    when(memberCacheService.getOrLoad(anyString(), any())).thenAnswer(
+        invocation -> ((Supplier<Member>) invocation.getArgument(1)).get());
+    JwtUtil jwtUtil = newJwtUtil(ACCESS_EXP_MILLIS, customUserDetailsService, memberCacheService, redisTemplate(false));
+    String token = jwtUtil.createAccessToken(new CustomUserDetails(member));
+    VerifiedToken verifiedToken = jwtUtil.verify(token);
+
+    Authentication cachedAuthentication = jwtUtil.getCachedAuthentication(verifiedToken);
+    Authentication authentication = jwtUtil.getAuthentication(verifiedToken);
+
+    // 캐시 키는 토큰 원문, 미스 시 로더는 검증 때 파싱한 subject 로 회원 조회
+    verify(memberCacheService).getOrLoad(eq(token), any());
+    verify(customUserDetailsService, times(2)).loadUserByUsername("auth@romrom.com");
+    assertSame(member, ((CustomUserDetails) authentication.getPrincipal()).getMember());
+    assertEquals(member.getMemberId(), ((CustomUserDetails) cachedAuthentication.getPrincipal()).getMember().getMemberId());
+    assertEquals("ROLE_USER", authentication.getAuthorities().iterator().next().getAuthority());
+  }
+
+  static JwtUtil newJwtUtil(long accessExpMillis, CustomUserDetailsService customUserDetailsService,
+      MemberCacheService memberCacheService, RedisTemplate<String, Object> redisTemplate) {
+    // 블랙리스트는 Redis 직접 조회 경로로 고정 (복제본은 TokenBlacklistCacheServiceTest 에서 검증)
+    TokenBlacklistProperties tokenBlacklistProperties = new TokenBlacklistProperties();
+    tokenBlacklistProperties.setLocalReplicaEnabled(false);
+    JwtUtil jwtUtil = new JwtUtil(customUserDetailsService, memberCacheService, redisTemplate,
+        new TokenBlacklistCacheService(redisTemplate, tokenBlacklistProperties));
+    ReflectionTestUtils.setField(jwtUtil, "secretKey", TEST_SECRET_KEY);
+    ReflectionTestUtils.setField(jwtUtil, "accessTokenExpTime", accessExpMillis);
+    ReflectionTestUtils.setField(jwtUtil, "refreshTokenExpTime", 7 * 24 * 60 * 60 * 1000L);
+    ReflectionTestUtils.setField(jwtUtil, "issuer", "romrom-test");
+    jwtUtil.initSigningKey();
+    return jwtUtil;
+  }
+
+  // 블랙리스트 조회만 응답하는 RedisTemplate (연결 팩토리 없이 사용)
+  static RedisTemplate<String, Object> redisTemplate(boolean blacklisted) {
+    return new RedisTemplate<>() {
+      @Override
+      public Boolean hasKey(String key) {
+        return blacklisted;
+      }
+    };
+  }
+
+  static Member member(String email) {
+    return Member.builder()
+        .memberId(UUID.randomUUID())
+        .email(email)
+        .role(Role.ROLE_USER)
+        .build();
+  }
+}
@@ -0,0 +1,68 @@
+package com.romrom.auth.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.common.util.InMemoryRedis;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("tokenBlacklistBenchmarkEnabled")
+class TokenBlacklistBenchmarkTest {
+
+  /*
+   * 블랙리스트 확인 처리량 비교: 기존 매 요청 EXISTS BL:{토큰} vs 로컬 복제본(Bloom filter + 정확한 집합)
+   * InMemoryRedis 는 명령당 FAKE_REDIS_LATENCY_NANOS 만큼 왕복 지연을 흉내 낸다.
+   */
+  private static final int CHECK_COUNT = Integer.getInteger("romrom.token-blacklist.benchmark.checks", 20_000);
+  private static final int REVOKED_TOKEN_COUNT = Integer.getInteger("romrom.token-blacklist.benchmark.revoked", 100);
+
+  private static boolean tokenBlacklistBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.token-blacklist.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_TOKEN_BLACKLIST_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareBlacklistCheckThroughput() {
+    InMemoryRedis redis = TokenBlacklistCacheServiceTest.newRedis();
+    TokenBlacklistCacheService node =
+        TokenBlacklistCacheServiceTest.newNode(redis, TokenBlacklistCacheServiceTest.properties());
+    for (int i = 0; i < REVOKED_TOKEN_COUNT; i++) {
+      node.blacklist(TokenBlacklistCacheServiceTest.token(), TokenBlacklistCacheServiceTest.ACCESS_TOKEN_REMAINING_MILLIS);
+    }
+    List<String> requestTokens = new ArrayList<>(CHECK_COUNT);
+    for (int i = 0; i < CHECK_COUNT; i++) {
+      requestTokens.add(TokenBlacklistCacheServiceTest.token());
+    }
+    node.isBlacklisted(requestTokens.get(0));
+
+    // 기존 동작: 매 요청 EXISTS BL:{토큰}
+    long legacyStartNanos = System.nanoTime();
+    for (String requestToken : requestTokens) {
+      redis.template().hasKey(TokenBlacklistCacheService.BLACKLIST_PREFIX + requestToken);
+    }
+    long legacyNanos = System.nanoTime() - legacyStartNanos;
+
+    int roundTripsBefore = redis.roundTripCount();
+    long replicaStartNanos = System.nanoTime();
+    for (String requestToken : requestTokens) {
+      node.isBlacklisted(requestToken);
+    }
+    long replicaNanos = System.nanoTime() - replicaStartNanos;
+
+    lineLog(String.format("[TokenBlacklistBenchmarkTest] 확인 %,d건 / 폐기 토큰 %,d개 / Redis 왕복 %dus",
+        CHECK_COUNT, REVOKED_TOKEN_COUNT, TokenBlacklistCacheServiceTest.FAKE_REDIS_LATENCY_NANOS / 1_000));
+    lineLog(String.format("- 매 요청 EXISTS(기존): %,dms (%,d ops/s)", legacyNanos / 1_000_000, opsPerSecond(legacyNanos)));
+    lineLog(String.format("- 로컬 복제본: %,dms (%,d ops/s)", replicaNanos / 1_000_000, opsPerSecond(replicaNanos)));
+
+    assertThat(redis.roundTripCount()).as("복제본 확인은 Redis 왕복이 없어야 함").isEqualTo(roundTripsBefore);
+    assertThat(opsPerSecond(replicaNanos)).as("로컬 복제본이 매 요청 EXISTS 보다 빨라야 함")
+        .isGreaterThan(opsPerSecond(legacyNanos));
+  }
+
+  private static long opsPerSecond(long elapsedNanos) {
+    return CHECK_COUNT * 1_000_000_000L / Math.max(elapsedNanos, 1L);
+  }
+}
@@ -0,0 +1,231 @@
+package com.romrom.auth.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.auth.properties.TokenBlacklistProperties;
+import com.romrom.common.util.InMemoryRedis;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TokenBlacklistCacheService 로컬 복제본 테스트 (실제 Redis 미접근).
+ * 여러 인스턴스가 InMemoryRedis 하나를 공유하도록 구성해
+ * 폐기되지 않은 토큰 확인에 Redis 왕복이 없는지, 로그아웃한 토큰이 모든 인스턴스에서 제한된 지연 안에 거부되는지 검증한다.
+ * 기존 매 요청 EXISTS 대비 처리량 비교는 TokenBlacklistBenchmarkTest (opt-in) 에서 한다.
+ */
+@Slf4j
+class TokenBlacklistCacheServiceTest {
+
+  // 같은 VPC 내 Redis 왕복 근사값
+  static final long FAKE_REDIS_LATENCY_NANOS = 100_000L;
+  private static final int CHECK_COUNT = 2_000;
+  static final long ACCESS_TOKEN_REMAINING_MILLIS = 60 * 60 * 1000L;
+  // pub/sub 전달 지연 상한 검증값 (폴링 없이 알림만으로 반영되어야 하는 시간)
+  private static final long PUBSUB_DELIVERY_BOUND_MILLIS = 1_000L;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::복제본_적재후_폐기안된_토큰_확인은_Redis_왕복없음_테스트);
+    lineLog(null);
+    timeLog(this::로그아웃시_모든_인스턴스에서_지연상한내_거부_테스트);
+    lineLog(null);
+    timeLog(this::알림유실시_버전폴링으로_거부_테스트);
+    lineLog(null);
+    timeLog(this::인덱스_도입전_블랙리스트_키_최초적재_테스트);
+    lineLog(null);
+    timeLog(this::최초적재전_요청은_적재없이_Redis_직접조회_테스트);
+    lineLog(null);
+    timeLog(this::Bloom_오탐은_정확한_집합에서_걸러짐_테스트);
+    lineLog(null);
+    timeLog(this::만료된_폐기토큰_정리_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 복제본_적재후_폐기안된_토큰_확인은_Redis_왕복없음_테스트() {
+    InMemoryRedis redis = newRedis();
+    TokenBlacklistCacheService node = newNode(redis, properties());
+    String revokedToken = token();
+    node.blacklist(revokedToken, ACCESS_TOKEN_REMAINING_MILLIS);
+    int roundTripsAfterSetup = redis.roundTripCount();
+
+    for (int i = 0; i < CHECK_COUNT; i++) {
+      assertFalse(node.isBlacklisted(token()));
+    }
+    assertTrue(node.isBlacklisted(revokedToken));
+
+    assertEquals(roundTripsAfterSetup, redis.roundTripCount(), "복제본 적재 이후 확인은 Redis에 접근하지 않아야 한다");
+  }
+
+  public void 로그아웃시_모든_인스턴스에서_지연상한내_거부_테스트() {
+    InMemoryRedis redis = newRedis();
+    ExecutorService deliveryExecutor = Executors.newSingleThreadExecutor();
+    // 리스너 컨테이너처럼 별도 스레드에서 전달
+    redis.setDeliveryExecutor(deliveryExecutor);
+    try {
+      List<TokenBlacklistCacheService> nodes = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        nodes.add(newNode(redis, properties()));
+      }
+      String revokedToken = token();
+      String otherToken = token();
+      nodes.forEach(node -> assertFalse(node.isBlacklisted(revokedToken)));
+
+      long revokedAtNanos = System.nanoTime();
+      nodes.get(0).blacklist(revokedToken, ACCESS_TOKEN_REMAINING_MILLIS);
+      assertTrue(nodes.get(0).isBlacklisted(revokedToken), "로그아웃 처리 인스턴스는 즉시 거부해야 한다");
+
+      long deadlineNanos = revokedAtNanos + TimeUnit.MILLISECONDS.toNanos(PUBSUB_DELIVERY_BOUND_MILLIS);
+      for (TokenBlacklistCacheService node : nodes) {
+        while (!node.isBlacklisted(revokedToken)) {
+          assertTrue(System.nanoTime() < deadlineNanos, "폐기 알림이 지연 상한 안에 반영되어야 한다");
+          LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200));
+        }
+        assertFalse(node.isBlacklisted(otherToken));
+      }
+      lineLog("전 인스턴스 거부까지 " + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - revokedAtNanos) + "us");
+    } finally {
+      deliveryExecutor.shutdownNow();
+    }
+  }
+
+  public void 알림유실시_버전폴링으로_거부_테스트() {
+    InMemoryRedis redis = newRedis();
+    TokenBlacklistCacheService authNode = newNode(redis, properties());
+    TokenBlacklistCacheService apiNode = newNode(redis, properties());
+    String revokedToken = token();
+    assertFalse(apiNode.isBlacklisted(revokedToken));
+
+    redis.setDropMessages(true);
+    authNode.blacklist(revokedToken, ACCESS_TOKEN_REMAINING_MILLIS);
+    assertFalse(apiNode.isBlacklisted(revokedToken), "알림이 유실되면 폴링 전까지는 이전 복제본을 읽는다");
+
+    // 지연 상한 = 폴링 주기: 다음 폴링 1회로 반드시 반영
+    apiNode.pollVersion();
+    assertTrue(apiNode.isBlacklisted(revokedToken));
+
+    // 버전이 같으면 폴링은 버전 GET 1회만 수행
+    int roundTripsBefore = redis.roundTripCount();
+    apiNode.pollVersion();
+    assertEquals(roundTripsBefore + 1, redis.roundTripCount());
+
+    // 알림을 받은 인스턴스는 버전이 이어져 있어 재적재하지 않는다
+    redis.setDropMessages(false);
+    authNode.blacklist(token(), ACCESS_TOKEN_REMAINING_MILLIS);
+    roundTripsBefore = redis.roundTripCount();
+    apiNode.pollVersion();
+    assertEquals(roundTripsBefore + 1, redis.roundTripCount());
+  }
+
+  public void 인덱스_도입전_블랙리스트_키_최초적재_테스트() {
+    InMemoryRedis redis = newRedis();
+    String legacyToken = token();
+    redis.putValue(TokenBlacklistCacheService.BLACKLIST_PREFIX + legacyToken, "blacklisted", ACCESS_TOKEN_REMAINING_MILLIS);
+    TokenBlacklistCacheService node = newNode(redis, properties());
+
+    assertTrue(node.isBlacklisted(legacyToken), "인덱스에 없는 기존 BL: 키도 최초 적재에 포함되어야 한다");
+    assertFalse(node.isBlacklisted(token()));
+  }
+
+  // 최초 적재(SCAN 포함)는 요청 스레드에서 하지 않는다: 적재 전 요청은 EXISTS 1회, 적재는 기동 완료/폴링에서
+  public void 최초적재전_요청은_적재없이_Redis_직접조회_테스트() {
+    InMemoryRedis redis = newRedis();
+    String revokedToken = token();
+    redis.putValue(TokenBlacklistCacheService.BLACKLIST_PREFIX + revokedToken, "blacklisted", ACCESS_TOKEN_REMAINING_MILLIS);
+    TokenBlacklistCacheService node = subscribe(redis, new TokenBlacklistCacheService(redis.template(), properties()));
+
+    int roundTripsBefore = redis.roundTripCount();
+    assertTrue(node.isBlacklisted(revokedToken));
+    assertFalse(node.isBlacklisted(token()));
+    assertEquals(roundTripsBefore + 2, redis.roundTripCount(), "적재 전 확인은 요청당 EXISTS 1회여야 한다");
+    assertEquals(0, node.replicaSize(), "요청 스레드에서 복제본을 적재하면 안 된다");
+
+    // 기동 시 적재가 실패했어도 다음 폴링에서 최초 적재
+    node.pollVersion();
+    assertEquals(1, node.replicaSize());
+    roundTripsBefore = redis.roundTripCount();
+    assertTrue(node.isBlacklisted(revokedToken));
+    assertFalse(node.isBlacklisted(token()));
+    assertEquals(roundTripsBefore, redis.roundTripCount(), "적재 이후 확인은 Redis에 접근하지 않아야 한다");
+  }
+
+  public void Bloom_오탐은_정확한_집합에서_걸러짐_테스트() {
+    InMemoryRedis redis = newRedis();
+    TokenBlacklistProperties properties = properties();
+    // 오탐이 잦도록 아주 작은 필터
+    properties.setExpectedInsertions(16);
+    properties.setFalsePositiveRate(0.5);
+    TokenBlacklistCacheService node = newNode(redis, properties);
+    Set<String> revokedTokens = new HashSet<>();
+    for (int i = 0; i < 200; i++) {
+      String revokedToken = token();
+      revokedTokens.add(revokedToken);
+      node.blacklist(revokedToken, ACCESS_TOKEN_REMAINING_MILLIS);
+    }
+    int roundTripsBefore = redis.roundTripCount();
+
+    revokedTokens.forEach(revokedToken -> assertTrue(node.isBlacklisted(revokedToken)));
+    for (int i = 0; i < CHECK_COUNT; i++) {
+      assertFalse(node.isBlacklisted(token()), "Bloom filter 오탐이어도 폐기되지 않은 토큰은 허용해야 한다");
+    }
+    assertEquals(roundTripsBefore, redis.roundTripCount(), "오탐 확정에도 Redis 왕복이 없어야 한다");
+    assertEquals(200, node.replicaSize());
+  }
+
+  public void 만료된_폐기토큰_정리_테스트() {
+    InMemoryRedis redis = newRedis();
+    TokenBlacklistCacheService node = newNode(redis, properties());
+    String shortLivedToken = token();
+    String longLivedToken = token();
+    node.blacklist(shortLivedToken, 30);
+    node.blacklist(longLivedToken, ACCESS_TOKEN_REMAINING_MILLIS);
+    assertEquals(2, node.replicaSize());
+
+    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(60));
+    assertFalse(node.isBlacklisted(shortLivedToken), "만료된 항목은 폐기 상태로 보지 않는다 (토큰 자체가 만료)");
+
+    node.pollVersion();
+    assertEquals(1, node.replicaSize());
+    assertTrue(node.isBlacklisted(longLivedToken));
+  }
+
+  static TokenBlacklistProperties properties() {
+    return new TokenBlacklistProperties();
+  }
+
+  static String token() {
+    return "eyJhbGciOiJIUzI1NiJ9." + UUID.randomUUID() + "." + UUID.randomUUID();
+  }
+
+  static InMemoryRedis newRedis() {
+    return new InMemoryRedis().withRoundTripLatency(FAKE_REDIS_LATENCY_NANOS, TimeUnit.NANOSECONDS);
+  }
+
+  // 인스턴스 기동 완료 시 복제본 적재 (버전 GET + 인덱스 조회 + 기존 키 SCAN)
+  static TokenBlacklistCacheService newNode(InMemoryRedis redis, TokenBlacklistProperties properties) {
+    TokenBlacklistCacheService node = subscribe(redis, new TokenBlacklistCacheService(redis.template(), properties));
+    node.loadOnStartup();
+    return node;
+  }
+
+  private static TokenBlacklistCacheService subscribe(InMemoryRedis redis, TokenBlacklistCacheService node) {
+    return redis.subscribe(TokenBlacklistCacheService.REVOKE_CHANNEL, node);
+  }
+}
@@ -0,0 +1,80 @@
+package com.romrom.chat.dto;
+
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 채팅 메시지 커서(keyset) 페이지네이션 위치 정보.
+ *
+ * <p>경계 메시지의 (createdDate, chatMessageId)와 이어서 읽을 방향을 담는다.
+ * 같은 시각 메시지는 chatMessageId로 순서를 정해 페이지 경계에서 누락/중복이 없도록 한다.
+ *
+ * <p>클라이언트에는 Base64(URL-safe) 불투명 문자열로만 노출한다.
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class ChatMessageCursor {
+
+  private static final String VERSION = "v1";
+  private static final String DELIMITER = "|";
+  private static final int FIELD_COUNT = 4;
+
+  public enum Direction {
+    OLDER,    // 경계 메시지보다 이전 메시지
+    NEWER     // 경계 메시지보다 이후 메시지
+  }
+
+  private Direction direction;
+  private LocalDateTime createdDate;
+  private String chatMessageId;
+
+  public static ChatMessageCursor of(Direction direction, ChatMessage boundaryMessage) {
+    return ChatMessageCursor.builder()
+        .direction(direction)
+        .createdDate(boundaryMessage.getCreatedDate())
+        .chatMessageId(boundaryMessage.getChatMessageId())
+        .build();
+  }
+
+  public String encode() {
+    String raw = String.join(DELIMITER,
+        VERSION,
+        direction.name(),
+        createdDate.toString(),
+        chatMessageId
+    );
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 복원. 형식이 맞지 않으면 INVALID_CHAT_MESSAGE_CURSOR 예외
+   */
+  public static ChatMessageCursor decode(String encodedCursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+      String[] fields = raw.split("\\" + DELIMITER, -1);
+      if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0]) || fields[3].isEmpty()) {
+        throw new CustomException(ErrorCode.INVALID_CHAT_MESSAGE_CURSOR);
+      }
+      return ChatMessageCursor.builder()
+          .direction(Direction.valueOf(fields[1]))
+          .createdDate(LocalDateTime.parse(fields[2]))
+          .chatMessageId(fields[3])
+          .build();
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_CHAT_MESSAGE_CURSOR);
+    }
+  }
+}
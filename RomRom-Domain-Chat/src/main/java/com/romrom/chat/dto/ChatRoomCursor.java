@@ -0,0 +1,72 @@
+package com.romrom.chat.dto;
+
+import com.romrom.chat.entity.postgres.ChatRoom;
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 채팅방 목록 커서(keyset) 페이지네이션 위치 정보.
+ *
+ * <p>마지막으로 내려준 채팅방의 (lastActivityAt, chatRoomId)를 담는다.
+ * 같은 시각 방은 chatRoomId로 순서를 정해 페이지 경계에서 누락/중복이 없도록 한다.
+ *
+ * <p>클라이언트에는 Base64(URL-safe) 불투명 문자열로만 노출한다.
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class ChatRoomCursor {
+
+  private static final String VERSION = "v1";
+  private static final String DELIMITER = "|";
+  private static final int FIELD_COUNT = 3;
+
+  private LocalDateTime lastActivityAt;
+  private UUID chatRoomId;
+
+  public static ChatRoomCursor of(ChatRoom boundaryRoom) {
+    return ChatRoomCursor.builder()
+        .lastActivityAt(boundaryRoom.getLastActivityAt())
+        .chatRoomId(boundaryRoom.getChatRoomId())
+        .build();
+  }
+
+  public String encode() {
+    String raw = String.join(DELIMITER,
+        VERSION,
+        lastActivityAt.toString(),
+        chatRoomId.toString()
+    );
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 복원. 형식이 맞지 않으면 INVALID_CHAT_ROOM_CURSOR 예외
+   */
+  public static ChatRoomCursor decode(String encodedCursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+      String[] fields = raw.split("\\" + DELIMITER, -1);
+      if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+        throw new CustomException(ErrorCode.INVALID_CHAT_ROOM_CURSOR);
+      }
+      return ChatRoomCursor.builder()
+          .lastActivityAt(LocalDateTime.parse(fields[1]))
+          .chatRoomId(UUID.fromString(fields[2]))
+          .build();
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_CHAT_ROOM_CURSOR);
+    }
+  }
+}
@@ -46,6 +46,12 @@ public class ChatRoomRequest {
   @Schema(description = "물품 ID (물품별 채팅방 조회 시 사용)", example = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa")
   private UUID itemId;
 
+  @Schema(description = "커서 (메시지: 이전 응답의 olderCursor 또는 newerCursor, 채팅방 목록: 이전 응답의 nextCursor, 첫 조회는 비움)")
+  private String cursor;
+
+  @Schema(description = "기준 메시지 ID (이 메시지 앞뒤 메시지를 함께 조회할 때 사용)", example = "67d3ef9ad8b93f49d4c50cff")
+  private String anchorMessageId;
+
   @Schema(description = "페이지 번호", defaultValue = "0", example = "0")
   private int pageNumber;
 
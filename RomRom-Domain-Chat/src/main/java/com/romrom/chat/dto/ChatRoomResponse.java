@@ -16,6 +16,9 @@ public class ChatRoomResponse {
   private Boolean isOpponentDeleted;
   private ChatRoom chatRoom;
   private Slice<ChatMessage> messages;
+  private String olderCursor;
+  private String newerCursor;
+  private String nextCursor;
   private Slice<ChatRoomDetailDto> chatRoomDetailDtoPage;
   private ChatUserState opponentState;
   private ChatActionRecommendationPayload latestRecommendation;
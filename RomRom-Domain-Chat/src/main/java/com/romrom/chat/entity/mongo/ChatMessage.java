@@ -16,7 +16,8 @@ import org.springframework.data.mongodb.core.mapping.Document;
 @AllArgsConstructor
 @Builder
 @Document
-@CompoundIndex(def = "{'chatRoomId': 1, 'createdDate': -1}")
+// 커서 페이지네이션의 동점 해소(_id)까지 인덱스 순서로 읽도록 _id 를 포함한다
+@CompoundIndex(def = "{'chatRoomId': 1, 'createdDate': -1, '_id': -1}")
 public class ChatMessage extends BaseMongoEntity {
   @Id
   private String chatMessageId;
@@ -0,0 +1,60 @@
+package com.romrom.chat.entity.mongo;
+
+import com.romrom.common.entity.mongo.BaseMongoEntity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채팅방 목록용 (채팅방, 회원)별 요약 문서
+ * - 메시지 저장 시 마지막 메시지 스냅샷 갱신 + 수신자 안 읽은 수 증가
+ * - 입장/퇴장(읽음 커서 갱신) 시 안 읽은 수 초기화
+ * 목록 조회가 메시지 컬렉션 집계 없이 이 문서만 읽도록 미리 계산해 둔다.
+ * 요약이 없던 방에 메시지가 먼저 반영되면 백필 대기(backfillPending) 문서가 생기고,
+ * 다음 목록 조회가 pendingSince 이전 메시지만 집계해 합친다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Document
+@CompoundIndex(def = "{'memberId': 1, 'chatRoomId': 1}", unique = true)
+public class ChatRoomSummary extends BaseMongoEntity {
+  @Id
+  private String chatRoomSummaryId;
+  private UUID chatRoomId;
+  private UUID memberId;
+  private String lastMessageId;
+  private String lastMessageContent;
+  private MessageType lastMessageType;
+  private UUID lastMessageSenderId;
+  private LocalDateTime lastMessageAt;      // null이면 아직 메시지가 없는 방
+  private long unreadCount;                 // 마지막 읽음 이후 상대방이 보낸 메시지 수
+  private LocalDateTime lastReadAt;         // 마지막으로 읽음 처리된 시점 (ChatUserState.leftAt 과 같은 커서)
+  private boolean backfillPending;          // true면 pendingSince 이후 메시지만 반영된 문서 (이전 메시지 집계 필요)
+  private LocalDateTime pendingSince;       // 백필 대기 문서를 만든 첫 메시지 시각
+
+  public static ChatRoomSummary create(UUID chatRoomId, UUID memberId, ChatMessage lastMessage, long unreadCount,
+                                       LocalDateTime lastReadAt) {
+    ChatRoomSummaryBuilder builder = ChatRoomSummary.builder()
+        .chatRoomId(chatRoomId)
+        .memberId(memberId)
+        .unreadCount(unreadCount)
+        .lastReadAt(lastReadAt);
+    if (lastMessage != null) {
+      builder.lastMessageId(lastMessage.getChatMessageId())
+          .lastMessageContent(lastMessage.getContent())
+          .lastMessageType(lastMessage.getType())
+          .lastMessageSenderId(lastMessage.getSenderId())
+          .lastMessageAt(lastMessage.getCreatedDate());
+    }
+    return builder.build();
+  }
+}
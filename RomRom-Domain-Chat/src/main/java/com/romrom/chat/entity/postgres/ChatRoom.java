@@ -35,6 +35,9 @@ public class ChatRoom extends BasePostgresEntity {
   // soft delete 시각. null이면 활성 방, non-null이면 배치 청소 대기 상태 (#750)
   private LocalDateTime deletedAt;
 
+  // 마지막 활동(메시지) 시각. 채팅방 목록 커서 정렬 키 (생성 시 생성 시각으로 시작)
+  private LocalDateTime lastActivityAt;
+
   // soft delete 표시 (멱등 — 이미 표시된 방이면 무시하여 중복 삭제 요청 방어)
   public void softDelete() {
     if (this.deletedAt == null) {
@@ -42,6 +45,13 @@ public class ChatRoom extends BasePostgresEntity {
     }
   }
 
+  @PrePersist
+  private void initLastActivityAt() {
+    if (this.lastActivityAt == null) {
+      this.lastActivityAt = LocalDateTime.now();
+    }
+  }
+
   public boolean isMember(UUID memberId) {
     return tradeReceiver.getMemberId().equals(memberId) || tradeSender.getMemberId().equals(memberId);
   }
@@ -1,8 +1,12 @@
 package com.romrom.chat.repository.mongo;
 
+import com.romrom.chat.dto.ChatMessageCursor;
+import com.romrom.chat.entity.mongo.ChatMessage;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface ChatMessageRepositoryCustom {
 
@@ -10,9 +14,30 @@ public interface ChatMessageRepositoryCustom {
    * 여러 채팅방의 안 읽은 메시지 수를 한 번의 집계 쿼리로 조회한다.
    * 방마다 읽음 커서(기준 시각)가 다르므로, 방별로 "기준 시각 이후 + 내가 보내지 않은" 메시지를 세어 합산한다.
    *
-   * @param readCursorByRoomId 채팅방 ID → 읽음 커서(이 시각 이후 메시지가 안 읽은 메시지)
-   * @param memberId           조회 주체(본인이 보낸 메시지는 안 읽은 메시지에서 제외)
+   * @param readCursorByRoomId  채팅방 ID → 읽음 커서(이 시각 이후 메시지가 안 읽은 메시지)
+   * @param countBeforeByRoomId 채팅방 ID → 집계 상한(이 시각 이전 메시지만 셈, 없으면 상한 없음)
+   * @param memberId            조회 주체(본인이 보낸 메시지는 안 읽은 메시지에서 제외)
    * @return 채팅방 ID → 안 읽은 메시지 수 (메시지가 없는 방은 결과에 포함되지 않음)
    */
-  Map<UUID, Long> countUnreadMessagesByRoom(Map<UUID, LocalDateTime> readCursorByRoomId, UUID memberId);
+  Map<UUID, Long> countUnreadMessagesByRoom(Map<UUID, LocalDateTime> readCursorByRoomId,
+                                            Map<UUID, LocalDateTime> countBeforeByRoomId, UUID memberId);
+
+  /**
+   * 경계 메시지 (createdDate, chatMessageId) 기준으로 한 방향의 메시지를 keyset 조회한다.
+   * {chatRoomId, createdDate, _id} 인덱스를 경계 위치부터 바로 읽으므로 skip 없이 깊이와 무관한 비용으로 조회된다.
+   *
+   * @param direction     OLDER 면 최신순(경계 이전), NEWER 면 오래된순(경계 이후)으로 반환
+   * @param createdDate   경계 메시지 생성 시각 (null 이면 방의 가장 최신/가장 오래된 메시지부터)
+   * @param chatMessageId 경계 메시지 ID (같은 시각 메시지 동점 해소용)
+   * @param limit         최대 조회 건수
+   */
+  List<ChatMessage> findMessagesByCursor(UUID chatRoomId, ChatMessageCursor.Direction direction,
+                                         LocalDateTime createdDate, String chatMessageId, int limit);
+
+  /**
+   * 채팅방 전체 메시지를 오래된순으로 Mongo 커서 스트림으로 읽는다 (아카이브용).
+   * 한 번에 batchSize 건씩만 가져오므로 메시지 수와 무관하게 메모리가 일정하다.
+   * 반환된 스트림은 커서를 점유하므로 반드시 try-with-resources 로 닫아야 한다.
+   */
+  Stream<ChatMessage> streamByChatRoomIdOrderByCreatedDateAsc(UUID chatRoomId, int batchSize);
 }
@@ -1,17 +1,23 @@
 package com.romrom.chat.repository.mongo;
 
+import com.romrom.chat.dto.ChatMessageCursor;
 import com.romrom.chat.entity.mongo.ChatMessage;
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -21,16 +27,21 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
   private final MongoTemplate mongoTemplate;
 
   @Override
-  public Map<UUID, Long> countUnreadMessagesByRoom(Map<UUID, LocalDateTime> readCursorByRoomId, UUID memberId) {
+  public Map<UUID, Long> countUnreadMessagesByRoom(Map<UUID, LocalDateTime> readCursorByRoomId,
+                                                   Map<UUID, LocalDateTime> countBeforeByRoomId, UUID memberId) {
     Map<UUID, Long> unreadCountByRoomId = new HashMap<>();
     if (readCursorByRoomId == null || readCursorByRoomId.isEmpty()) {
       return unreadCountByRoomId;
     }
 
-    // 방마다 읽음 커서가 다르므로, 각 방의 {방 일치 + 커서 이후} 조건을 OR로 묶어 한 번에 매칭한다.
+    // 방마다 읽음 커서가 다르므로, 각 방의 {방 일치 + 커서 이후 (+ 상한 이전)} 조건을 OR로 묶어 한 번에 매칭한다.
     Criteria[] perRoomCriteria = readCursorByRoomId.entrySet().stream()
-        .map(entry -> Criteria.where("chatRoomId").is(entry.getKey())
-            .and("createdDate").gt(entry.getValue()))
+        .map(entry -> {
+          Criteria createdDateCriteria = Criteria.where("chatRoomId").is(entry.getKey())
+              .and("createdDate").gt(entry.getValue());
+          LocalDateTime countBefore = countBeforeByRoomId.get(entry.getKey());
+          return countBefore != null ? createdDateCriteria.lt(countBefore) : createdDateCriteria;
+        })
         .toArray(Criteria[]::new);
 
     // 본인이 보낸 메시지는 제외하고, 방별로 그룹화해 개수를 센다.
@@ -48,6 +59,40 @@ public class ChatMessageRepositoryImpl implements ChatMessageRepositoryCustom {
     return unreadCountByRoomId;
   }
 
+  @Override
+  public List<ChatMessage> findMessagesByCursor(UUID chatRoomId, ChatMessageCursor.Direction direction,
+                                                LocalDateTime createdDate, String chatMessageId, int limit) {
+    boolean older = direction == ChatMessageCursor.Direction.OLDER;
+    Criteria cursorCriteria = Criteria.where("chatRoomId").is(chatRoomId);
+    if (createdDate != null) {
+      // (createdDate, _id) 튜플 비교: 시각이 앞서거나(뒤서거나), 같은 시각이면 _id 로 순서 결정
+      // 선두 키 범위 조건을 중복으로 걸어 $or 처리 방식과 관계없이 인덱스를 경계 위치부터 읽게 한다
+      Object boundaryId = ObjectId.isValid(chatMessageId) ? new ObjectId(chatMessageId) : chatMessageId;
+      cursorCriteria = older
+          ? cursorCriteria.and("createdDate").lte(createdDate).orOperator(
+              Criteria.where("createdDate").lt(createdDate),
+              Criteria.where("createdDate").is(createdDate).and("_id").lt(boundaryId))
+          : cursorCriteria.and("createdDate").gte(createdDate).orOperator(
+              Criteria.where("createdDate").gt(createdDate),
+              Criteria.where("createdDate").is(createdDate).and("_id").gt(boundaryId));
+    }
+
+    Sort.Direction sortDirection = older ? Sort.Direction.DESC : Sort.Direction.ASC;
+    Query cursorQuery = new Query(cursorCriteria)
+        .with(Sort.by(sortDirection, "createdDate").and(Sort.by(sortDirection, "_id")))
+        .limit(limit);
+    return mongoTemplate.find(cursorQuery, ChatMessage.class);
+  }
+
+  @Override
+  public Stream<ChatMessage> streamByChatRoomIdOrderByCreatedDateAsc(UUID chatRoomId, int batchSize) {
+    // {chatRoomId, createdDate, _id} 인덱스를 역방향으로 읽어 정렬 단계 없이 오래된순으로 흘려보낸다
+    Query archiveQuery = new Query(Criteria.where("chatRoomId").is(chatRoomId))
+        .with(Sort.by(Sort.Direction.ASC, "createdDate").and(Sort.by(Sort.Direction.ASC, "_id")))
+        .cursorBatchSize(batchSize);
+    return mongoTemplate.stream(archiveQuery, ChatMessage.class);
+  }
+
   // 그룹 결과 매핑용. 그룹 키(chatRoomId)는 _id로 매핑된다.
   @Getter
   private static class UnreadCountRow {
@@ -0,0 +1,12 @@
+package com.romrom.chat.repository.mongo;
+
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ChatRoomSummaryRepository extends MongoRepository<ChatRoomSummary, String>, ChatRoomSummaryRepositoryCustom {
+    List<ChatRoomSummary> findByMemberIdAndChatRoomIdIn(UUID memberId, List<UUID> chatRoomIds);
+    void deleteAllByChatRoomId(UUID chatRoomId);
+}
@@ -0,0 +1,36 @@
+package com.romrom.chat.repository.mongo;
+
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface ChatRoomSummaryRepositoryCustom {
+
+  /**
+   * 새 메시지를 채팅방 요약에 반영한다. (단일 bulk 요청)
+   * - 수신자 요약: countAsUnread 이면 안 읽은 수를 원자적으로 1 증가
+   * - 방의 모든 요약: 마지막 메시지 스냅샷을 더 최신 메시지로만 교체 (동시 전송 시 역순 덮어쓰기 방지)
+   * 요약이 아직 없는 참여자(이전 데이터, 백필 집계 중)는 백필 대기 요약을 upsert 해 이 메시지를 잃지 않는다.
+   */
+  void applyMessage(ChatMessage message, UUID recipientId, boolean countAsUnread);
+
+  /**
+   * 읽음 커서 갱신: 안 읽은 수를 0으로 초기화하고 마지막 읽음 시점을 기록한다.
+   */
+  void markRead(UUID chatRoomId, UUID memberId, LocalDateTime readAt);
+
+  /**
+   * 요약이 없던 방의 집계 결과를 없을 때만 삽입한다. (단일 bulk 요청)
+   * 집계와 저장 사이에 도착한 메시지가 백필 대기 요약을 먼저 만들었다면 덮어쓰지 않고 다음 mergeBackfill 에 맡긴다.
+   */
+  void insertBackfills(List<ChatRoomSummary> summaries);
+
+  /**
+   * 백필 대기 요약에 pendingSince 이전 메시지 집계를 합친다.
+   * 안 읽은 수는 $inc 로 더하고 대기 상태를 해제하는 한 번의 갱신이라, 동시에 백필해도 한 번만 더해진다.
+   * 마지막 메시지는 기존 스냅샷보다 최신일 때만 교체한다.
+   */
+  void mergeBackfill(UUID chatRoomId, UUID memberId, long unreadCountBeforePending, ChatMessage latestMessage);
+}
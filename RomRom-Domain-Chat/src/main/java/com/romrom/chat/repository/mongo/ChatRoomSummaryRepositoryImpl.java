@@ -0,0 +1,119 @@
+package com.romrom.chat.repository.mongo;
+
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatRoomSummaryRepositoryImpl implements ChatRoomSummaryRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public void applyMessage(ChatMessage message, UUID recipientId, boolean countAsUnread) {
+    // 참여자 upsert 가 스냅샷 갱신보다 먼저 실행되어야 새로 만든 백필 대기 요약에도 스냅샷이 들어간다.
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatRoomSummary.class);
+
+    for (UUID memberId : List.of(message.getSenderId(), recipientId)) {
+      Update participantUpdate = new Update()
+          .setOnInsert("backfillPending", true)
+          .setOnInsert("pendingSince", message.getCreatedDate());
+      if (countAsUnread && memberId.equals(recipientId)) {
+        participantUpdate.inc("unreadCount", 1);
+      }
+      bulkOperations.upsert(summaryQuery(message.getChatRoomId(), memberId), participantUpdate);
+    }
+
+    // (memberId, chatRoomId) 인덱스를 타도록 두 참여자를 명시하고, 스냅샷이 더 오래된 요약만 교체한다.
+    Query staleSnapshotQuery = new Query(
+        Criteria.where("memberId").in(List.of(message.getSenderId(), recipientId))
+            .and("chatRoomId").is(message.getChatRoomId())
+            .orOperator(staleSnapshotCriteria(message.getCreatedDate()))
+    );
+    bulkOperations.updateMulti(staleSnapshotQuery, snapshotUpdate(message));
+
+    bulkOperations.execute();
+  }
+
+  @Override
+  public void markRead(UUID chatRoomId, UUID memberId, LocalDateTime readAt) {
+    Update readUpdate = new Update()
+        .set("unreadCount", 0L)
+        .set("lastReadAt", readAt);
+    mongoTemplate.updateFirst(summaryQuery(chatRoomId, memberId), readUpdate, ChatRoomSummary.class);
+  }
+
+  @Override
+  public void insertBackfills(List<ChatRoomSummary> summaries) {
+    if (summaries.isEmpty()) {
+      return;
+    }
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ChatRoomSummary.class);
+    for (ChatRoomSummary summary : summaries) {
+      Update insertOnlyUpdate = new Update()
+          .setOnInsert("unreadCount", summary.getUnreadCount())
+          .setOnInsert("lastReadAt", summary.getLastReadAt())
+          .setOnInsert("lastMessageId", summary.getLastMessageId())
+          .setOnInsert("lastMessageContent", summary.getLastMessageContent())
+          .setOnInsert("lastMessageType", summary.getLastMessageType())
+          .setOnInsert("lastMessageSenderId", summary.getLastMessageSenderId())
+          .setOnInsert("lastMessageAt", summary.getLastMessageAt());
+      bulkOperations.upsert(summaryQuery(summary.getChatRoomId(), summary.getMemberId()), insertOnlyUpdate);
+    }
+    bulkOperations.execute();
+  }
+
+  @Override
+  public void mergeBackfill(UUID chatRoomId, UUID memberId, long unreadCountBeforePending, ChatMessage latestMessage) {
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ChatRoomSummary.class);
+
+    Query pendingQuery = summaryQuery(chatRoomId, memberId)
+        .addCriteria(Criteria.where("backfillPending").is(true));
+    Update mergeUpdate = new Update()
+        .inc("unreadCount", unreadCountBeforePending)
+        .set("backfillPending", false)
+        .unset("pendingSince");
+    bulkOperations.updateOne(pendingQuery, mergeUpdate);
+
+    if (latestMessage != null) {
+      Query staleSnapshotQuery = summaryQuery(chatRoomId, memberId)
+          .addCriteria(new Criteria().orOperator(staleSnapshotCriteria(latestMessage.getCreatedDate())));
+      bulkOperations.updateOne(staleSnapshotQuery, snapshotUpdate(latestMessage));
+    }
+
+    bulkOperations.execute();
+  }
+
+  private static Query summaryQuery(UUID chatRoomId, UUID memberId) {
+    return new Query(
+        Criteria.where("memberId").is(memberId)
+            .and("chatRoomId").is(chatRoomId)
+    );
+  }
+
+  private static Criteria[] staleSnapshotCriteria(LocalDateTime messageCreatedDate) {
+    return new Criteria[]{
+        Criteria.where("lastMessageAt").is(null),
+        Criteria.where("lastMessageAt").lte(messageCreatedDate)
+    };
+  }
+
+  private static Update snapshotUpdate(ChatMessage message) {
+    return new Update()
+        .set("lastMessageId", message.getChatMessageId())
+        .set("lastMessageContent", message.getContent())
+        .set("lastMessageType", message.getType())
+        .set("lastMessageSenderId", message.getSenderId())
+        .set("lastMessageAt", message.getCreatedDate());
+  }
+}
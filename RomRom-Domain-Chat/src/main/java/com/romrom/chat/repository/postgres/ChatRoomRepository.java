@@ -10,6 +10,7 @@ import com.romrom.member.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -52,6 +53,56 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, UUID> {
           "AND c.deletedAt IS NULL")
   Page<ChatRoom> findByMemberAndItemId(@Param("member") Member member, @Param("itemId") UUID itemId, Pageable pageable);
 
+  // 채팅방 목록 커서 조회 첫 페이지 (마지막 활동 최신순)
+  // 수신/발신 쪽을 각각 (회원, last_activity_at DESC, chat_room_id DESC) 인덱스로 limit 건만 읽고 합친다 (OR 조건은 인덱스 하나로 정렬 불가)
+  @Query(value = "SELECT r.chat_room_id FROM (" +
+      "(SELECT c.chat_room_id, c.last_activity_at FROM chat_room c " +
+      "  WHERE c.trade_receiver_member_id = :memberId AND c.deleted_at IS NULL " +
+      "  ORDER BY c.last_activity_at DESC, c.chat_room_id DESC LIMIT :limit) " +
+      "UNION ALL " +
+      "(SELECT c.chat_room_id, c.last_activity_at FROM chat_room c " +
+      "  WHERE c.trade_sender_member_id = :memberId AND c.deleted_at IS NULL " +
+      "  ORDER BY c.last_activity_at DESC, c.chat_room_id DESC LIMIT :limit)" +
+      ") r ORDER BY r.last_activity_at DESC, r.chat_room_id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<UUID> findRecentRoomIdsByMemberId(@Param("memberId") UUID memberId, @Param("limit") int limit);
+
+  // 채팅방 목록 커서 조회 다음 페이지: (lastActivityAt, chatRoomId) 보다 뒤에 오는 방만 인덱스 범위로 읽는다
+  // 선두 키 범위 조건(last_activity_at <= :lastActivityAt)을 중복으로 걸어 인덱스 범위 스캔을 유도
+  @Query(value = "SELECT r.chat_room_id FROM (" +
+      "(SELECT c.chat_room_id, c.last_activity_at FROM chat_room c " +
+      "  WHERE c.trade_receiver_member_id = :memberId AND c.deleted_at IS NULL " +
+      "  AND c.last_activity_at <= :lastActivityAt " +
+      "  AND (c.last_activity_at < :lastActivityAt OR (c.last_activity_at = :lastActivityAt AND c.chat_room_id < :chatRoomId)) " +
+      "  ORDER BY c.last_activity_at DESC, c.chat_room_id DESC LIMIT :limit) " +
+      "UNION ALL " +
+      "(SELECT c.chat_room_id, c.last_activity_at FROM chat_room c " +
+      "  WHERE c.trade_sender_member_id = :memberId AND c.deleted_at IS NULL " +
+      "  AND c.last_activity_at <= :lastActivityAt " +
+      "  AND (c.last_activity_at < :lastActivityAt OR (c.last_activity_at = :lastActivityAt AND c.chat_room_id < :chatRoomId)) " +
+      "  ORDER BY c.last_activity_at DESC, c.chat_room_id DESC LIMIT :limit)" +
+      ") r ORDER BY r.last_activity_at DESC, r.chat_room_id DESC LIMIT :limit",
+      nativeQuery = true)
+  List<UUID> findRoomIdsByMemberIdAfterCursor(@Param("memberId") UUID memberId,
+                                              @Param("lastActivityAt") LocalDateTime lastActivityAt,
+                                              @Param("chatRoomId") UUID chatRoomId,
+                                              @Param("limit") int limit);
+
+  // 커서 조회로 고른 방들을 목록 조립에 필요한 연관과 함께 조회 (순서는 호출부에서 id 순서로 맞춤)
+  @Query("SELECT c FROM ChatRoom c " +
+      "JOIN FETCH c.tradeReceiver JOIN FETCH c.tradeSender " +
+      "JOIN FETCH c.tradeRequestHistory trh " +
+      "JOIN FETCH trh.takeItem " +
+      "JOIN FETCH trh.giveItem " +
+      "WHERE c.chatRoomId IN :chatRoomIds")
+  List<ChatRoom> findAllWithDetailsByChatRoomIdIn(@Param("chatRoomIds") List<UUID> chatRoomIds);
+
+  // 메시지 저장 시 마지막 활동 시각 갱신 (더 최신 값만 반영해 늦게 도착한 갱신이 시각을 되돌리지 않게 함)
+  @Modifying
+  @Query("UPDATE ChatRoom c SET c.lastActivityAt = :activityAt " +
+      "WHERE c.chatRoomId = :chatRoomId AND (c.lastActivityAt IS NULL OR c.lastActivityAt < :activityAt)")
+  int updateLastActivityAt(@Param("chatRoomId") UUID chatRoomId, @Param("activityAt") LocalDateTime activityAt);
+
   @Query("SELECT c.chatRoomId FROM ChatRoom c WHERE c.tradeReceiver.memberId = :id OR c.tradeSender.memberId = :id")
   List<UUID> findAllIdsByMemberId(@Param("id") UUID memberId);
 
@@ -1,6 +1,7 @@
 package com.romrom.chat.service;
 
 import com.romrom.auth.dto.CustomUserDetails;
+import com.romrom.chat.dto.ChatMessageCursor;
 import com.romrom.chat.dto.ChatMessageRequest;
 import com.romrom.chat.dto.ChatRoomRequest;
 import com.romrom.chat.dto.ChatRoomResponse;
@@ -25,12 +26,17 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronization;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -45,6 +51,7 @@ public class ChatMessageService {
   private final ApplicationEventPublisher eventPublisher;
   private final UgcFilterService ugcFilterService;
   private final ChatActionRecommendationService chatActionRecommendationService;
+  private final ChatRoomSummaryService chatRoomSummaryService;
 
   // 메시지 조회
   @Transactional(readOnly = true)
@@ -60,6 +67,86 @@ public class ChatMessageService {
     // 메시지 조회
     Slice<ChatMessage> messageSlice = chatMessageRepository.findByChatRoomIdOrderByCreatedDateDesc(room.getChatRoomId(), pageable);
 
+    return buildMessageResponse(room, memberId, messageSlice, null, null,
+        request.getPageNumber() == 0 ? messageSlice.getContent() : null);
+  }
+
+  /**
+   * 커서(keyset) 기반 메시지 조회 (최신순 반환)
+   * - cursor, anchorMessageId 모두 없으면: 가장 최근 메시지 한 페이지
+   * - cursor: 커서 방향(OLDER/NEWER)으로 경계 메시지 다음부터 한 페이지
+   * - anchorMessageId: 기준 메시지를 가운데 두고 앞뒤 메시지를 함께 조회 (검색/알림으로 특정 메시지 진입 시)
+   */
+  @Transactional(readOnly = true)
+  public ChatRoomResponse findMessagesByCursor(ChatRoomRequest request) {
+    UUID memberId = request.getMember().getMemberId();
+    ChatRoom room = validateChatRoomMember(memberId, request.getChatRoomId());
+    UUID chatRoomId = room.getChatRoomId();
+    int pageSize = Math.max(1, request.getPageSize());
+
+    List<ChatMessage> messages;
+    boolean hasOlder;
+    boolean hasNewer;
+    boolean isLatestPage = false;
+    if (!isBlank(request.getAnchorMessageId())) {
+      ChatMessage anchor = chatMessageRepository.findById(request.getAnchorMessageId())
+          .filter(message -> chatRoomId.equals(message.getChatRoomId()))
+          .orElseThrow(() -> new CustomException(ErrorCode.CHAT_MESSAGE_NOT_FOUND));
+      int newerLimit = (pageSize - 1) / 2;
+      int olderLimit = pageSize - 1 - newerLimit;
+      List<ChatMessage> newer = chatMessageRepository.findMessagesByCursor(
+          chatRoomId, ChatMessageCursor.Direction.NEWER, anchor.getCreatedDate(), anchor.getChatMessageId(), newerLimit + 1);
+      List<ChatMessage> older = chatMessageRepository.findMessagesByCursor(
+          chatRoomId, ChatMessageCursor.Direction.OLDER, anchor.getCreatedDate(), anchor.getChatMessageId(), olderLimit + 1);
+      hasNewer = newer.size() > newerLimit;
+      hasOlder = older.size() > olderLimit;
+
+      messages = new ArrayList<>(pageSize);
+      List<ChatMessage> newerPage = new ArrayList<>(newer.subList(0, Math.min(newer.size(), newerLimit)));
+      Collections.reverse(newerPage);
+      messages.addAll(newerPage);
+      messages.add(anchor);
+      messages.addAll(older.subList(0, Math.min(older.size(), olderLimit)));
+    } else {
+      ChatMessageCursor cursor = isBlank(request.getCursor()) ? null : ChatMessageCursor.decode(request.getCursor());
+      ChatMessageCursor.Direction direction = cursor != null ? cursor.getDirection() : ChatMessageCursor.Direction.OLDER;
+      List<ChatMessage> fetched = chatMessageRepository.findMessagesByCursor(
+          chatRoomId,
+          direction,
+          cursor != null ? cursor.getCreatedDate() : null,
+          cursor != null ? cursor.getChatMessageId() : null,
+          pageSize + 1);
+      boolean hasMore = fetched.size() > pageSize;
+      messages = new ArrayList<>(fetched.subList(0, Math.min(fetched.size(), pageSize)));
+
+      if (direction == ChatMessageCursor.Direction.NEWER) {
+        Collections.reverse(messages);
+        hasNewer = hasMore;
+        hasOlder = true;
+      } else {
+        hasOlder = hasMore;
+        hasNewer = cursor != null;
+        isLatestPage = cursor == null;
+      }
+    }
+
+    String olderCursor = hasOlder && !messages.isEmpty()
+        ? ChatMessageCursor.of(ChatMessageCursor.Direction.OLDER, messages.get(messages.size() - 1)).encode() : null;
+    String newerCursor = hasNewer && !messages.isEmpty()
+        ? ChatMessageCursor.of(ChatMessageCursor.Direction.NEWER, messages.get(0)).encode() : null;
+    // Slice.hasNext 는 최신순 스크롤 기준(더 오래된 메시지 존재 여부)으로 맞춘다
+    Slice<ChatMessage> messageSlice = new SliceImpl<>(messages, PageRequest.of(0, pageSize), olderCursor != null);
+
+    return buildMessageResponse(room, memberId, messageSlice, olderCursor, newerCursor,
+        isLatestPage ? messages : null);
+  }
+
+  private ChatRoomResponse buildMessageResponse(ChatRoom room,
+                                                UUID memberId,
+                                                Slice<ChatMessage> messageSlice,
+                                                String olderCursor,
+                                                String newerCursor,
+                                                List<ChatMessage> latestMessages) {
     ChatUserState opponentState = chatUserStateRepository.findByChatRoomIdAndMemberIdNot(room.getChatRoomId(), memberId)
         .orElseThrow(() -> new CustomException(ErrorCode.CHAT_USER_STATE_NOT_FOUND));
 
@@ -69,6 +156,8 @@ public class ChatMessageService {
           .isOpponentDeleted(true)
           .chatRoom(room)
           .messages(messageSlice)
+          .olderCursor(olderCursor)
+          .newerCursor(newerCursor)
           .build();
     }
 
@@ -82,13 +171,11 @@ public class ChatMessageService {
     return ChatRoomResponse.builder()
         .isOpponentDeleted(false)
         .messages(messageSlice)
+        .olderCursor(olderCursor)
+        .newerCursor(newerCursor)
         .chatRoom(room)
         .opponentState(opponentState)
-        .latestRecommendation(chatActionRecommendationService.recommendForViewer(
-            room,
-            memberId,
-            request.getPageNumber() == 0 ? messageSlice.getContent() : null
-        ))
+        .latestRecommendation(chatActionRecommendationService.recommendForViewer(room, memberId, latestMessages))
         .build();
   }
 
@@ -153,6 +240,7 @@ public class ChatMessageService {
     // 메시지 저장
     ChatMessage message = chatMessageRepository.save(ChatMessage.fromChatMessageRequest(request, senderId, recipientId));
     log.debug("채팅 메시지 저장 완료. messageId: {}", message.getChatMessageId());
+    recordRoomActivity(message, opponentState);
 
     registerMessageDispatch(
         message,
@@ -179,6 +267,7 @@ public class ChatMessageService {
         .type(MessageType.SYSTEM)
         .build();
     chatMessageRepository.save(systemMsg);
+    recordRoomActivity(systemMsg, opponentState);
 
     registerMessageDispatch(systemMsg, opponentState, room, false, null, false, true);
   }
@@ -198,6 +287,7 @@ public class ChatMessageService {
         .type(MessageType.SYSTEM)
         .build();
     chatMessageRepository.save(exchangedNotificationMessage);
+    recordRoomActivity(exchangedNotificationMessage, otherPartyState);
 
     registerMessageDispatch(exchangedNotificationMessage, otherPartyState, room, false, null, false, true);
   }
@@ -223,6 +313,7 @@ public class ChatMessageService {
         .type(type)
         .build();
     chatMessageRepository.save(systemMessage);
+    recordRoomActivity(systemMessage, opponentState);
 
     registerMessageDispatch(systemMessage, opponentState, room, false, sender.getNickname(), true, false);
     publishRecommendationEvent(systemMessage, senderId, recipientId, opponentState);
@@ -230,6 +321,13 @@ public class ChatMessageService {
 
   // --- Private Helper Method ---
 
+  // 저장된 메시지를 채팅방 목록 정렬 키(ChatRoom.lastActivityAt)와 목록 요약(마지막 메시지/안 읽은 수)에 반영
+  private void recordRoomActivity(ChatMessage message, ChatUserState recipientState) {
+    LocalDateTime activityAt = message.getCreatedDate() != null ? message.getCreatedDate() : LocalDateTime.now();
+    chatRoomRepository.updateLastActivityAt(message.getChatRoomId(), activityAt);
+    chatRoomSummaryService.recordMessage(message, recipientState);
+  }
+
   private void registerMessageDispatch(ChatMessage message,
                                        ChatUserState opponentState,
                                        ChatRoom chatRoom,
@@ -1,7 +1,7 @@
 package com.romrom.chat.service;
 
 import com.romrom.chat.dto.*;
-import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
 import com.romrom.chat.entity.mongo.ChatUserState;
 import com.romrom.chat.entity.postgres.ChatRoom;
 import com.romrom.chat.repository.mongo.ChatMessageRepository;
@@ -21,7 +21,6 @@ import com.romrom.item.entity.postgres.TradeRequestHistory;
 import com.romrom.item.repository.postgres.ItemImageRepository;
 import com.romrom.item.repository.postgres.TradeRequestHistoryRepository;
 import com.romrom.member.entity.Member;
-import com.romrom.member.entity.MemberBlock;
 import com.romrom.member.entity.MemberLocation;
 import com.romrom.member.repository.MemberLocationRepository;
 import com.romrom.member.service.MemberBlockService;
@@ -52,6 +51,7 @@ public class ChatRoomService {
   private final ItemImageRepository itemImageRepository;
   private final ChatMessageService chatMessageService;
   private final ChatUserStateEnsureService chatUserStateEnsureService;
+  private final ChatRoomSummaryService chatRoomSummaryService;
 
   // 같은 클래스의 트랜잭션 메서드를 프록시 경유로 호출하기 위한 self 참조
   // (this 직접 호출은 @Transactional 경계가 적용되지 않음)
@@ -123,6 +123,7 @@ public class ChatRoomService {
     ChatUserState tradeSenderState = ChatUserState.create(chatRoom.getChatRoomId(), tradeSenderId);
     chatUserStateRepository.save(tradeSenderState);
     chatUserStateRepository.save(tradeReceiverState);
+    chatRoomSummaryService.createForNewRoom(chatRoom.getChatRoomId(), tradeSenderId, tradeReceiverId);
 
     return ChatRoomResponse.builder()
         .chatRoom(chatRoom)
@@ -204,6 +205,64 @@ public class ChatRoomService {
     return buildChatRoomDetailResponse(chatRoomsSlice, myMemberId, pageable);
   }
 
+  /**
+   * 채팅방 목록 커서 조회 (마지막 활동 최신순)
+   * OFFSET 없이 이전 응답의 nextCursor 다음 위치부터 (회원, lastActivityAt, chatRoomId) 인덱스로 읽으므로
+   * 채팅방이 많은 회원의 깊은 페이지도 첫 페이지와 비용이 같다.
+   */
+  @Transactional
+  public ChatRoomResponse getRoomsByCursor(ChatRoomRequest request) {
+    UUID myMemberId = request.getMember().getMemberId();
+    int pageSize = Math.max(request.getPageSize(), 1);
+    // 나간 방 필터링과 다음 페이지 존재 확인을 위해 한 건 더 조회
+    int limit = pageSize + 1;
+    log.debug("채팅방 목록 커서 조회 시작. 요청자 ID: {}, cursor: {}", myMemberId, request.getCursor());
+
+    List<UUID> chatRoomIds;
+    if (request.getCursor() == null || request.getCursor().isBlank()) {
+      chatRoomIds = chatRoomRepository.findRecentRoomIdsByMemberId(myMemberId, limit);
+    } else {
+      ChatRoomCursor cursor = ChatRoomCursor.decode(request.getCursor());
+      chatRoomIds = chatRoomRepository.findRoomIdsByMemberIdAfterCursor(
+          myMemberId, cursor.getLastActivityAt(), cursor.getChatRoomId(), limit);
+    }
+
+    Pageable pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "lastActivityAt"));
+    if (chatRoomIds.isEmpty()) {
+      return ChatRoomResponse.builder()
+          .chatRoomDetailDtoPage(new SliceImpl<>(List.of(), pageable, false))
+          .build();
+    }
+
+    // IN 조회는 순서를 보장하지 않으므로 keyset 조회 순서로 다시 정렬
+    Map<UUID, ChatRoom> roomById = chatRoomRepository.findAllWithDetailsByChatRoomIdIn(chatRoomIds).stream()
+        .collect(Collectors.toMap(ChatRoom::getChatRoomId, Function.identity()));
+    List<ChatRoom> chatRoomList = chatRoomIds.stream()
+        .map(roomById::get)
+        .filter(Objects::nonNull)
+        .toList();
+
+    List<ChatRoomDetailDto> detailDtoList = assembleChatRoomDetails(chatRoomList, myMemberId);
+
+    // 필터링 후에도 요청 크기를 넘으면 페이지 마지막 방이 커서, 아니면 조회한 마지막 방이 커서 (걸러진 방을 다시 읽지 않음)
+    boolean hasNext;
+    ChatRoom boundaryRoom;
+    if (detailDtoList.size() > pageSize) {
+      detailDtoList = detailDtoList.subList(0, pageSize);
+      boundaryRoom = roomById.get(detailDtoList.get(pageSize - 1).getChatRoomId());
+      hasNext = true;
+    } else {
+      boundaryRoom = chatRoomList.get(chatRoomList.size() - 1);
+      hasNext = chatRoomIds.size() == limit;
+    }
+    log.debug("채팅방 목록 커서 조회 완료. 반환 {}개, hasNext={}", detailDtoList.size(), hasNext);
+
+    return ChatRoomResponse.builder()
+        .chatRoomDetailDtoPage(new SliceImpl<>(detailDtoList, pageable, hasNext))
+        .nextCursor(hasNext ? ChatRoomCursor.of(boundaryRoom).encode() : null)
+        .build();
+  }
+
   // 나간 방 필터링으로 페이지가 줄어드는 것을 보정하기 위해, 같은 offset에서 한 건 더 조회한다.
   private Pageable withOneMoreRow(Pageable pageable) {
     return OffsetLimitPageable.of(pageable.getOffset(), pageable.getPageSize() + 1, pageable.getSort());
@@ -247,6 +306,7 @@ public class ChatRoomService {
       leaveOtherActiveChatRooms(memberId, chatRoomId);
       myState.enterChatRoom();
       chatUserStateRepository.save(myState);
+      chatRoomSummaryService.markRead(myState);
       // 상태 저장 커밋 완료 후 읽음 이벤트 발송 (ChatMessageService.registerMessageDispatch 와 동일한 패턴)
       TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
         @Override
@@ -298,6 +358,7 @@ public class ChatRoomService {
   private void leaveChatRoomPresence(ChatUserState myState) {
     myState.leaveChatRoom();
     chatUserStateRepository.save(myState);
+    chatRoomSummaryService.markRead(myState);
   }
 
   private void sendReadEventIfOpponentPresent(ChatUserState myState) {
@@ -330,7 +391,30 @@ public class ChatRoomService {
           .build();
     }
 
-    // 조립을 위한 벌크 데이터 준비
+    List<ChatRoomDetailDto> detailDtoList = assembleChatRoomDetails(chatRoomList, myMemberId);
+
+    // 한 페이지를 채우기 위해 요청 크기보다 한 건 더 조회했다(withOneMoreRow).
+    // 필터링 후에도 요청 크기를 초과해 남으면 다음 페이지가 확실히 존재하므로 잘라서 반환한다.
+    // 그렇지 않으면, 필터링 전 원본이 추가 조회분까지 꽉 찼는지로 다음 페이지 존재 여부를 판단한다.
+    // (Page.hasNext는 offset 기반 커스텀 Pageable에서 부정확하므로 사용하지 않는다.)
+    int pageSize = pageable.getPageSize();
+    boolean hasNext;
+    if (detailDtoList.size() > pageSize) {
+      detailDtoList = detailDtoList.subList(0, pageSize);
+      hasNext = true;
+    } else {
+      hasNext = chatRoomList.size() > pageSize;
+    }
+
+    Slice<ChatRoomDetailDto> detailSlice = new SliceImpl<>(detailDtoList, pageable, hasNext);
+
+    return ChatRoomResponse.builder()
+        .chatRoomDetailDtoPage(detailSlice)
+        .build();
+  }
+
+  // 벌크 데이터(상태/요약/위치/차단/이미지)를 한 번에 조회한 뒤, 나간 채팅방을 제외하고 조회 순서대로 DTO 조립
+  private List<ChatRoomDetailDto> assembleChatRoomDetails(List<ChatRoom> chatRoomList, UUID myMemberId) {
     List<UUID> chatRoomIds = chatRoomList.stream().map(ChatRoom::getChatRoomId).collect(Collectors.toList());
     long expectedStateCount = (long) chatRoomIds.size() * 2;
     long actualStateCount = chatUserStateRepository.countByChatRoomIdIn(chatRoomIds);
@@ -340,43 +424,29 @@ public class ChatRoomService {
       chatUserStateEnsureService.ensureStates(chatRoomList);
     }
 
-    Map<UUID, Long> unreadCounts = getUnreadCounts(myMemberId, chatRoomIds);
+    // 내 채팅방 상태를 한 번에 조회 (누락된 상태는 위의 ensureStates 단계에서 이미 복구됨)
+    Map<UUID, ChatUserState> stateByRoomId = chatUserStateRepository
+        .findByMemberIdAndChatRoomIdIn(myMemberId, chatRoomIds).stream()
+        .collect(Collectors.toMap(ChatUserState::getChatRoomId, state -> state, (first, second) -> first));
+    // 마지막 메시지 + 안 읽은 수는 미리 계산된 요약 문서에서 읽는다 (메시지 컬렉션 집계 없음)
+    Map<UUID, ChatRoomSummary> summaryMap = chatRoomSummaryService.loadSummaries(myMemberId, chatRoomIds, stateByRoomId);
+    Map<UUID, Long> unreadCounts = getUnreadCounts(chatRoomIds, stateByRoomId, summaryMap);
     log.debug("안 읽은 메시지 수 조회 완료. 총 {}개 방.", unreadCounts.size());
 
-    Map<UUID, ChatMessage> latestMessageMap = fetchLatestMessageMap(chatRoomIds);
     Set<UUID> targetMemberIds = fetchTargetMemberIds(chatRoomList, myMemberId);
     Map<UUID, MemberLocation> locationMap = fetchLocationMap(targetMemberIds);
     Set<UUID> blockedMemberIds = fetchBlockedMemberIds(myMemberId, targetMemberIds);
     Map<UUID, String> itemImageMap = fetchItemImageMap(chatRoomList);
 
     // 삭제/나간 채팅방 필터링 및 DTO 조립
-    List<ChatRoomDetailDto> detailDtoList = chatRoomList.stream()
+    return chatRoomList.stream()
         .filter(chatRoom -> {
           Long count = unreadCounts.get(chatRoom.getChatRoomId());
           // 한쪽만 나간 방(ChatUserState 기준 -1L) 필터링. 양쪽 나간 deletedAt 방은 쿼리에서 이미 제외됨
           return count != null && count != -1L;
         })
-        .map(chatRoom -> convertToDetailDto(chatRoom, myMemberId, unreadCounts, latestMessageMap, locationMap, blockedMemberIds, itemImageMap))
+        .map(chatRoom -> convertToDetailDto(chatRoom, myMemberId, unreadCounts, summaryMap, locationMap, blockedMemberIds, itemImageMap))
         .collect(Collectors.toList());
-
-    // 한 페이지를 채우기 위해 요청 크기보다 한 건 더 조회했다(withOneMoreRow).
-    // 필터링 후에도 요청 크기를 초과해 남으면 다음 페이지가 확실히 존재하므로 잘라서 반환한다.
-    // 그렇지 않으면, 필터링 전 원본이 추가 조회분까지 꽉 찼는지로 다음 페이지 존재 여부를 판단한다.
-    // (Page.hasNext는 offset 기반 커스텀 Pageable에서 부정확하므로 사용하지 않는다.)
-    int pageSize = pageable.getPageSize();
-    boolean hasNext;
-    if (detailDtoList.size() > pageSize) {
-      detailDtoList = detailDtoList.subList(0, pageSize);
-      hasNext = true;
-    } else {
-      hasNext = chatRoomList.size() > pageSize;
-    }
-
-    Slice<ChatRoomDetailDto> detailSlice = new SliceImpl<>(detailDtoList, pageable, hasNext);
-
-    return ChatRoomResponse.builder()
-        .chatRoomDetailDtoPage(detailSlice)
-        .build();
   }
 
   /**
@@ -447,57 +517,41 @@ public class ChatRoomService {
     }
     chatMessageRepository.deleteByChatRoomId(roomId);
     chatUserStateRepository.deleteAllByChatRoomId(roomId);
+    chatRoomSummaryService.deleteByChatRoomId(roomId);
     chatRoomRepository.deleteById(roomId);
     log.debug("채팅방 물리 삭제 완료. roomId={}", roomId);
   }
 
   /**
-   * 여러 채팅방의 안 읽은 메시지 수를 단일 집계 쿼리로 계산한다.
+   * 여러 채팅방의 안 읽은 메시지 수를 채팅방 요약에서 꺼낸다.
    * 반환 Map의 값은 호출부 필터링 규칙과 동일하다.
    * - -1L : 내가 나간(삭제 표시된) 방 → 목록에서 제외 대상
    * -  0L : 현재 접속 중이거나 안 읽은 메시지가 없는 방
    * -   N : 읽음 커서 이후 도착한, 내가 보내지 않은 메시지 수
    *
-   * @param memberId 현재 사용자 ID
    * @param chatRoomIds 조회할 채팅방 ID 목록
+   * @param stateByRoomId 내 채팅방 상태
+   * @param summaryMap 내 채팅방 요약
    * @return Map&lt;채팅방ID, 안 읽은 메시지 수&gt;
    */
-  private Map<UUID, Long> getUnreadCounts(UUID memberId, List<UUID> chatRoomIds) {
-    // 내 채팅방 상태를 한 번에 조회 (누락된 상태는 호출부의 ensureStates 단계에서 이미 복구됨)
-    Map<UUID, ChatUserState> stateByRoomId = chatUserStateRepository
-        .findByMemberIdAndChatRoomIdIn(memberId, chatRoomIds).stream()
-        .collect(Collectors.toMap(ChatUserState::getChatRoomId, state -> state, (first, second) -> first));
-
-    // 접속 중/삭제/상태없음 방은 메시지 카운트가 필요 없으므로, 읽음 커서가 있는 방만 집계 대상으로 추린다.
-    Map<UUID, LocalDateTime> readCursorByRoomId = new HashMap<>();
+  private Map<UUID, Long> getUnreadCounts(List<UUID> chatRoomIds, Map<UUID, ChatUserState> stateByRoomId,
+                                          Map<UUID, ChatRoomSummary> summaryMap) {
     Map<UUID, Long> unreadCounts = new HashMap<>();
     for (UUID roomId : chatRoomIds) {
       ChatUserState state = stateByRoomId.get(roomId);
+      ChatRoomSummary summary = summaryMap.get(roomId);
       if (state == null || state.isPresent()) {
+        // 접속 중에는 메시지를 바로 읽으므로, 입장 직전 요약 갱신과 엇갈려도 0으로 본다
         unreadCounts.put(roomId, 0L);
       } else if (state.isDeleted()) {
         unreadCounts.put(roomId, -1L);
       } else {
-        readCursorByRoomId.put(roomId, state.getLeftAt());
+        unreadCounts.put(roomId, summary != null ? summary.getUnreadCount() : 0L);
       }
     }
-
-    // 카운트가 필요한 방들의 안 읽은 메시지 수를 한 번의 집계로 조회한다.
-    Map<UUID, Long> aggregatedUnreadCounts = chatMessageRepository.countUnreadMessagesByRoom(readCursorByRoomId, memberId);
-    for (UUID roomId : readCursorByRoomId.keySet()) {
-      unreadCounts.put(roomId, aggregatedUnreadCounts.getOrDefault(roomId, 0L));
-    }
     return unreadCounts;
   }
 
-  private Map<UUID, ChatMessage> fetchLatestMessageMap(List<UUID> chatRoomIds) {
-    List<ChatMessage> latestMessages = chatMessageRepository.findLatestMessageForChatRooms(chatRoomIds);
-    Map<UUID, ChatMessage> latestMessageMap = latestMessages.stream()
-        .collect(Collectors.toMap(ChatMessage::getChatRoomId, Function.identity(), (first, second) -> first));
-    log.debug("가장 최근 메시지 배치 조회 완료. 총 {}개 메시지.", latestMessages.size());
-    return latestMessageMap;
-  }
-
   private Set<UUID> fetchTargetMemberIds(List<ChatRoom> chatRoomList, UUID myMemberId) {
     Set<UUID> targetMemberIds = chatRoomList.stream()
         .map(chatRoomTemp -> chatRoomTemp.getTradeReceiver().getMemberId().equals(myMemberId) ? chatRoomTemp.getTradeSender().getMemberId() : chatRoomTemp.getTradeReceiver().getMemberId())
@@ -515,9 +569,8 @@ public class ChatRoomService {
   }
 
   private Set<UUID> fetchBlockedMemberIds(UUID myMemberId, Set<UUID> targetMemberIds) {
-    List<MemberBlock> blockRelations = memberBlockService.getMemberBlockList(myMemberId, targetMemberIds);
-    Set<UUID> blockedMemberIds = blockRelations.stream()
-        .map(mb -> mb.getBlockerMember().getMemberId().equals(myMemberId) ? mb.getBlockedMember().getMemberId() : mb.getBlockerMember().getMemberId())
+    Set<UUID> blockedMemberIds = memberBlockService.blockedIdsFor(myMemberId).stream()
+        .filter(targetMemberIds::contains)
         .collect(Collectors.toSet());
     log.debug("차단 관계 확인 완료. 차단된 상대방 수: {}", blockedMemberIds.size());
     return blockedMemberIds;
@@ -549,19 +602,19 @@ public class ChatRoomService {
   }
 
   private ChatRoomDetailDto convertToDetailDto(ChatRoom chatRoom, UUID myMemberId, Map<UUID, Long> unreadCounts,
-                                               Map<UUID, ChatMessage> latestMessageMap, Map<UUID, MemberLocation> locationMap,
+                                               Map<UUID, ChatRoomSummary> summaryMap, Map<UUID, MemberLocation> locationMap,
                                                Set<UUID> blockedMemberIds, Map<UUID, String> itemImageMap) {
     UUID roomId = chatRoom.getChatRoomId();
-    ChatMessage lastMsg = latestMessageMap.get(roomId);
+    ChatRoomSummary summary = summaryMap.get(roomId);
 
     String content;
     LocalDateTime time;
-    if (lastMsg == null) {
+    if (summary == null || summary.getLastMessageAt() == null) {
       content = "아직 메시지가 없습니다.";
       time = chatRoom.getCreatedDate();
     } else {
-      content = lastMsg.getContent();
-      time = lastMsg.getCreatedDate();
+      content = summary.getLastMessageContent();
+      time = summary.getLastMessageAt();
     }
 
     Member targetMemberEntity;
@@ -0,0 +1,161 @@
+package com.romrom.chat.service;
+
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
+import com.romrom.chat.entity.mongo.ChatUserState;
+import com.romrom.chat.repository.mongo.ChatMessageRepository;
+import com.romrom.chat.repository.mongo.ChatRoomSummaryRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방 목록용 요약(마지막 메시지 + 안 읽은 수) 유지 서비스
+ * - 메시지 저장/읽음 처리 시점에 (채팅방, 회원)별 요약 문서를 원자적으로 갱신
+ * - 목록 조회는 요약 문서만 읽고, 요약이 없는 방(이전 데이터)만 메시지 집계로 계산해 채워 넣는다
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatRoomSummaryService {
+
+  private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+  private final ChatMessageRepository chatMessageRepository;
+
+  // 새 채팅방: 메시지가 없으므로 집계 없이 빈 요약으로 시작
+  public void createForNewRoom(UUID chatRoomId, UUID tradeSenderId, UUID tradeReceiverId) {
+    LocalDateTime now = LocalDateTime.now();
+    try {
+      chatRoomSummaryRepository.saveAll(List.of(
+          ChatRoomSummary.create(chatRoomId, tradeSenderId, null, 0L, now),
+          ChatRoomSummary.create(chatRoomId, tradeReceiverId, null, 0L, now)
+      ));
+    } catch (DuplicateKeyException duplicateKeyException) {
+      log.debug("채팅방 요약이 이미 존재합니다. chatRoomId={}", chatRoomId);
+    }
+  }
+
+  /**
+   * 저장된 메시지를 요약에 반영한다.
+   * 수신자가 채팅방 화면에 있으면 바로 읽은 것이므로 안 읽은 수를 올리지 않는다.
+   * 반영에 실패하면 방의 요약을 지워 다음 목록 조회에서 메시지 집계로 다시 채워지게 한다.
+   */
+  public void recordMessage(ChatMessage message, ChatUserState recipientState) {
+    boolean countAsUnread = !recipientState.isPresent();
+    try {
+      chatRoomSummaryRepository.applyMessage(message, recipientState.getMemberId(), countAsUnread);
+    } catch (RuntimeException e) {
+      log.error("채팅방 요약 갱신 실패, 요약을 재계산 대상으로 전환합니다. chatRoomId={}", message.getChatRoomId(), e);
+      try {
+        chatRoomSummaryRepository.deleteAllByChatRoomId(message.getChatRoomId());
+      } catch (RuntimeException deleteException) {
+        log.error("채팅방 요약 삭제 실패. chatRoomId={}", message.getChatRoomId(), deleteException);
+      }
+    }
+  }
+
+  // 입장/퇴장 시 읽음 커서 갱신 (ChatUserState.leftAt 과 같은 시점을 기록)
+  public void markRead(ChatUserState state) {
+    LocalDateTime readAt = state.getLeftAt() != null ? state.getLeftAt() : LocalDateTime.now();
+    chatRoomSummaryRepository.markRead(state.getChatRoomId(), state.getMemberId(), readAt);
+  }
+
+  public void deleteByChatRoomId(UUID chatRoomId) {
+    chatRoomSummaryRepository.deleteAllByChatRoomId(chatRoomId);
+  }
+
+  /**
+   * 내 채팅방 요약을 한 번의 인덱스 조회로 가져온다.
+   * 요약이 없거나 백필 대기 중인 방만 기존 집계(안 읽은 수 + 최신 메시지)로 계산해 저장한 뒤 함께 반환한다.
+   *
+   * @param stateByRoomId 내 채팅방 상태 (읽음 커서 계산용)
+   * @return Map&lt;채팅방ID, 요약&gt;
+   */
+  public Map<UUID, ChatRoomSummary> loadSummaries(UUID memberId, List<UUID> chatRoomIds,
+                                                  Map<UUID, ChatUserState> stateByRoomId) {
+    Map<UUID, ChatRoomSummary> summaryByRoomId = chatRoomSummaryRepository
+        .findByMemberIdAndChatRoomIdIn(memberId, chatRoomIds).stream()
+        .collect(Collectors.toMap(ChatRoomSummary::getChatRoomId, Function.identity(), (first, second) -> first));
+
+    // 백필 대기 요약은 pendingSince 이후 메시지만 담고 있으므로 이전 메시지 집계를 합쳐야 한다
+    Map<UUID, ChatRoomSummary> pendingByRoomId = new HashMap<>();
+    summaryByRoomId.values().removeIf(summary -> {
+      if (summary.isBackfillPending()) {
+        pendingByRoomId.put(summary.getChatRoomId(), summary);
+        return true;
+      }
+      return false;
+    });
+
+    List<UUID> missingRoomIds = chatRoomIds.stream()
+        .filter(roomId -> !summaryByRoomId.containsKey(roomId))
+        .toList();
+    if (!missingRoomIds.isEmpty()) {
+      summaryByRoomId.putAll(backfillSummaries(memberId, missingRoomIds, stateByRoomId, pendingByRoomId));
+    }
+    return summaryByRoomId;
+  }
+
+  /**
+   * 요약 도입 이전 채팅방: 기존 집계로 한 번 계산해 저장 (이후 요청부터는 요약만 읽음)
+   * 집계와 저장 사이에 도착한 메시지는 applyMessage 가 백필 대기 요약으로 먼저 남기므로,
+   * 요약이 없던 방은 없을 때만 삽입하고 대기 요약은 pendingSince 이전 집계만 $inc 로 합쳐 유실 없이 수렴한다.
+   */
+  private Map<UUID, ChatRoomSummary> backfillSummaries(UUID memberId, List<UUID> chatRoomIds,
+                                                       Map<UUID, ChatUserState> stateByRoomId,
+                                                       Map<UUID, ChatRoomSummary> pendingByRoomId) {
+    Map<UUID, LocalDateTime> readCursorByRoomId = new HashMap<>();
+    for (UUID roomId : chatRoomIds) {
+      ChatUserState state = stateByRoomId.get(roomId);
+      if (state != null && !state.isPresent() && !state.isDeleted()) {
+        readCursorByRoomId.put(roomId, state.getLeftAt());
+      }
+    }
+    Map<UUID, LocalDateTime> countBeforeByRoomId = new HashMap<>();
+    pendingByRoomId.forEach((roomId, pending) -> countBeforeByRoomId.put(roomId, pending.getPendingSince()));
+    Map<UUID, Long> unreadCountByRoomId =
+        chatMessageRepository.countUnreadMessagesByRoom(readCursorByRoomId, countBeforeByRoomId, memberId);
+    Map<UUID, ChatMessage> latestMessageByRoomId = chatMessageRepository.findLatestMessageForChatRooms(chatRoomIds).stream()
+        .collect(Collectors.toMap(ChatMessage::getChatRoomId, Function.identity(), (first, second) -> first));
+
+    Map<UUID, ChatRoomSummary> backfilled = new HashMap<>();
+    List<ChatRoomSummary> summariesToInsert = new ArrayList<>();
+    for (UUID roomId : chatRoomIds) {
+      ChatUserState state = stateByRoomId.get(roomId);
+      ChatRoomSummary pending = pendingByRoomId.get(roomId);
+      long unreadCount = unreadCountByRoomId.getOrDefault(roomId, 0L);
+      ChatRoomSummary summary = ChatRoomSummary.create(
+          roomId,
+          memberId,
+          latestMessageByRoomId.get(roomId),
+          pending != null ? pending.getUnreadCount() + unreadCount : unreadCount,
+          state != null ? state.getLeftAt() : null
+      );
+      backfilled.put(roomId, summary);
+      if (pending == null) {
+        summariesToInsert.add(summary);
+      }
+    }
+
+    try {
+      chatRoomSummaryRepository.insertBackfills(summariesToInsert);
+      pendingByRoomId.forEach((roomId, pending) -> chatRoomSummaryRepository.mergeBackfill(
+          roomId, memberId, unreadCountByRoomId.getOrDefault(roomId, 0L), latestMessageByRoomId.get(roomId)));
+      log.debug("채팅방 요약 백필 완료. memberId={}, inserted={}, merged={}",
+          memberId, summariesToInsert.size(), pendingByRoomId.size());
+    } catch (RuntimeException e) {
+      // 저장에 실패해도 이번 응답은 방금 계산한 값으로 충분하다 (다음 조회에서 다시 백필)
+      log.error("채팅방 요약 백필 저장 실패. memberId={}", memberId, e);
+    }
+    return backfilled;
+  }
+}
@@ -2,6 +2,7 @@ package com.romrom.chat.stomp.interceptor;
 
 import com.romrom.auth.dto.CustomUserDetails;
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import com.romrom.auth.service.CustomUserDetailsService;
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
@@ -77,12 +78,14 @@ public class CustomChannelInterceptor implements ChannelInterceptor {
       throw new CustomException(ErrorCode.UNAUTHORIZED);
     }
     String token = bearerToken.substring(7);
-    if (!jwtUtil.validateToken(token)) {
+    VerifiedToken verifiedToken = jwtUtil.verify(token);
+    if (verifiedToken == null) {
       log.error("토큰이 유효하지 않습니다.");
       throw new CustomException(ErrorCode.INVALID_ACCESS_TOKEN);
     }
-    CustomUserDetails customUserDetails = customUserDetailsService.loadUserByUsername(jwtUtil.getUsername(token));
-    customUserDetails.confirmExpire(jwtUtil.getRemainingValidationMilliSecond(token));
+    // 검증 시 파싱한 클레임으로 사용자 조회/만료 시각 설정 (토큰 재파싱 없음)
+    CustomUserDetails customUserDetails = customUserDetailsService.loadUserByUsername(verifiedToken.getUsername());
+    customUserDetails.confirmExpire(verifiedToken.getRemainingValidationMilliSecond());
     accessor.setUser(customUserDetails); // StompHeaderAccessor의 setUser()는 principal 타입 -> getName() 밖에 못함
     // 그러나 MessageMapping 에서 스프링이 user를 자동으로 넣어주므로 이 메서드는 꼭 필요함
 
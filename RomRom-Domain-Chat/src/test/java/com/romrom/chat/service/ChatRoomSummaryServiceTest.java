@@ -0,0 +1,512 @@
+package com.romrom.chat.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.entity.mongo.ChatRoomSummary;
+import com.romrom.chat.entity.mongo.ChatUserState;
+import com.romrom.chat.entity.mongo.MessageType;
+import com.romrom.chat.repository.mongo.ChatMessageRepository;
+import com.romrom.chat.repository.mongo.ChatRoomSummaryRepository;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * ChatRoomSummaryService 단위 테스트 (DB 미접근).
+ * 조회 시 훑은 문서 수를 비용으로 보고, 메시지 전송/입장/퇴장이 섞인 합성 스트림에서 채팅방 목록 조회마다
+ * 요약 문서 조회와 요약 없는 서비스의 집계(안 읽은 수 + 최신 메시지) 결과 일치 여부와 비용을 비교한다.
+ */
+@Slf4j
+class ChatRoomSummaryServiceTest {
+
+  private static final int ROOM_COUNT = 300;
+  private static final int MEMBER_COUNT = 60;
+  private static final int EVENT_COUNT = Integer.getInteger("chat.summary.benchmark.events", 30_000);
+  // 이벤트 중 목록 조회 비율
+  private static final int LIST_REQUEST_EVERY = 50;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::채팅방_목록_조회_집계_대비_요약_비용_및_정합성_테스트);
+    lineLog(null);
+    timeLog(this::요약_없는_이전_채팅방_백필_테스트);
+    lineLog(null);
+    timeLog(this::요약_갱신_실패시_재계산_테스트);
+    lineLog(null);
+    timeLog(this::백필_집계후_저장전_도착한_메시지_유실없음_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 채팅방_목록_조회_집계_대비_요약_비용_및_정합성_테스트() {
+    Random random = new Random(11L);
+    ChatStore store = new ChatStore();
+    ChatRoomSummaryService summaryService = store.newService();
+    // 요약 도입 전 목록 조회: 매 조회 안 읽은 수 + 최신 메시지 집계
+    ChatRoomSummaryService aggregatingService = store.newAggregatingService();
+
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      members.add(UUID.randomUUID());
+    }
+    List<UUID> roomIds = new ArrayList<>();
+    for (int i = 0; i < ROOM_COUNT; i++) {
+      UUID sender = members.get(random.nextInt(MEMBER_COUNT));
+      UUID receiver = members.get(random.nextInt(MEMBER_COUNT));
+      while (receiver.equals(sender)) {
+        receiver = members.get(random.nextInt(MEMBER_COUNT));
+      }
+      UUID roomId = store.createRoom(sender, receiver);
+      summaryService.createForNewRoom(roomId, sender, receiver);
+      roomIds.add(roomId);
+    }
+
+    int listRequestCount = 0;
+    int listedRoomCount = 0;
+    long legacyDocsExamined = 0;
+    long summaryDocsExamined = 0;
+    int summaryAggregationCount = 0;
+    for (int i = 0; i < EVENT_COUNT; i++) {
+      UUID roomId = roomIds.get(random.nextInt(ROOM_COUNT));
+      List<ChatUserState> roomStates = store.statesOf(roomId);
+      ChatUserState actorState = roomStates.get(random.nextInt(2));
+      ChatUserState opponentState = roomStates.get(0) == actorState ? roomStates.get(1) : roomStates.get(0);
+
+      int action = random.nextInt(10);
+      if (action < 7) {
+        ChatMessage message = store.saveMessage(roomId, actorState.getMemberId(), opponentState.getMemberId());
+        summaryService.recordMessage(message, opponentState);
+      } else if (action < 9) {
+        store.enter(actorState);
+        summaryService.markRead(actorState);
+      } else {
+        store.leave(actorState);
+        summaryService.markRead(actorState);
+      }
+
+      if (i % LIST_REQUEST_EVERY == 0) {
+        UUID viewer = actorState.getMemberId();
+        List<UUID> myRoomIds = store.roomIdsOf(viewer);
+        Map<UUID, ChatUserState> stateByRoomId = store.statesOf(viewer, myRoomIds);
+
+        store.docsExamined.set(0);
+        int aggregationCountBefore = store.aggregationCount.get();
+        Map<UUID, ChatRoomSummary> summaries = summaryService.loadSummaries(viewer, myRoomIds, stateByRoomId);
+        summaryDocsExamined += store.docsExamined.getAndSet(0);
+        summaryAggregationCount += store.aggregationCount.get() - aggregationCountBefore;
+
+        Map<UUID, ChatRoomSummary> aggregated = aggregatingService.loadSummaries(viewer, myRoomIds, stateByRoomId);
+        legacyDocsExamined += store.docsExamined.getAndSet(0);
+
+        for (UUID myRoomId : myRoomIds) {
+          // 접속 중인 방은 안 읽은 수를 0으로 표시 (기존 목록 조회와 같은 규칙)
+          boolean present = stateByRoomId.get(myRoomId).isPresent();
+          ChatRoomSummary summary = summaries.get(myRoomId);
+          ChatRoomSummary expected = aggregated.get(myRoomId);
+          assertEquals(present ? 0L : expected.getUnreadCount(), present ? 0L : summary.getUnreadCount(),
+              "안 읽은 수가 집계 결과와 같아야 한다");
+          if (expected.getLastMessageId() == null) {
+            assertNull(summary.getLastMessageAt());
+          } else {
+            assertEquals(expected.getLastMessageId(), summary.getLastMessageId(), "마지막 메시지가 집계 결과와 같아야 한다");
+            assertEquals(expected.getLastMessageAt(), summary.getLastMessageAt());
+          }
+        }
+        listRequestCount++;
+        listedRoomCount += myRoomIds.size();
+      }
+    }
+
+    log.info("채팅방 {}개 / 회원 {}명 / 이벤트 {}건 / 저장된 메시지 {}건",
+        ROOM_COUNT, MEMBER_COUNT, EVENT_COUNT, store.messageCount());
+    log.info("목록 조회 {}회 (평균 {}개 방): 기존 집계 훑은 문서 {}개({}/요청), 요약 조회 {}개({}/요청), 백필 집계 {}회",
+        listRequestCount, listedRoomCount / listRequestCount,
+        legacyDocsExamined, legacyDocsExamined / listRequestCount,
+        summaryDocsExamined, summaryDocsExamined / listRequestCount,
+        summaryAggregationCount);
+
+    assertEquals(0, summaryAggregationCount, "요약이 있는 방은 메시지 집계를 하지 않아야 한다");
+    assertTrue(summaryDocsExamined * 10 < legacyDocsExamined, "목록 조회 비용이 크게 줄어야 한다");
+  }
+
+  public void 요약_없는_이전_채팅방_백필_테스트() {
+    ChatStore store = new ChatStore();
+    ChatRoomSummaryService summaryService = store.newService();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    // 요약 도입 이전에 만들어진 방 (요약 문서 없음)
+    UUID roomId = store.createRoom(memberA, memberB);
+    ChatUserState stateA = store.statesOf(roomId).get(0);
+    store.leave(stateA);
+    store.saveMessage(roomId, memberB, memberA);
+    ChatMessage latest = store.saveMessage(roomId, memberB, memberA);
+
+    Map<UUID, ChatRoomSummary> first = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    assertEquals(2L, first.get(roomId).getUnreadCount());
+    assertEquals(latest.getChatMessageId(), first.get(roomId).getLastMessageId());
+    assertEquals(2, store.aggregationCount.get());
+
+    // 백필 이후에는 요약만 읽고 새 메시지도 요약에 반영된다
+    ChatMessage next = store.saveMessage(roomId, memberB, memberA);
+    summaryService.recordMessage(next, stateA);
+    Map<UUID, ChatRoomSummary> second = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    assertEquals(3L, second.get(roomId).getUnreadCount());
+    assertEquals(next.getChatMessageId(), second.get(roomId).getLastMessageId());
+    assertEquals(2, store.aggregationCount.get(), "백필된 방은 다시 집계하지 않아야 한다");
+  }
+
+  public void 요약_갱신_실패시_재계산_테스트() {
+    ChatStore store = new ChatStore();
+    ChatRoomSummaryService summaryService = store.newService();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    UUID roomId = store.createRoom(memberA, memberB);
+    summaryService.createForNewRoom(roomId, memberA, memberB);
+    ChatUserState stateA = store.statesOf(roomId).get(0);
+    store.leave(stateA);
+    summaryService.markRead(stateA);
+
+    store.failApplyMessage.set(true);
+    summaryService.recordMessage(store.saveMessage(roomId, memberB, memberA), stateA);
+    store.failApplyMessage.set(false);
+
+    Map<UUID, ChatRoomSummary> summaries = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    assertEquals(1L, summaries.get(roomId).getUnreadCount(), "갱신에 실패한 방은 집계로 다시 계산되어야 한다");
+    assertEquals(2, store.aggregationCount.get());
+  }
+
+  public void 백필_집계후_저장전_도착한_메시지_유실없음_테스트() {
+    ChatStore store = new ChatStore();
+    ChatRoomSummaryService summaryService = store.newService();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    // 요약 도입 이전에 만들어진 방 (요약 문서 없음)
+    UUID roomId = store.createRoom(memberA, memberB);
+    ChatUserState stateA = store.statesOf(roomId).get(0);
+    store.leave(stateA);
+    store.saveMessage(roomId, memberB, memberA);
+    store.saveMessage(roomId, memberB, memberA);
+
+    // 백필 집계가 끝난 뒤 저장 직전에 새 메시지가 도착해 요약에 반영된다
+    ChatMessage[] arrived = new ChatMessage[1];
+    store.beforeBackfillInsert = () -> {
+      arrived[0] = store.saveMessage(roomId, memberB, memberA);
+      summaryService.recordMessage(arrived[0], stateA);
+    };
+    Map<UUID, ChatRoomSummary> first = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    store.beforeBackfillInsert = null;
+    assertEquals(2L, first.get(roomId).getUnreadCount(), "이번 응답은 집계 시점 값");
+    assertTrue(store.isPending(memberA, roomId), "먼저 반영된 메시지의 요약은 백필 집계로 덮어쓰지 않아야 한다");
+
+    // 다음 조회가 백필 대기 요약에 pendingSince 이전 집계를 합친다
+    Map<UUID, ChatRoomSummary> second = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    assertEquals(3L, second.get(roomId).getUnreadCount(), "집계 이후 도착한 메시지가 유실되지 않아야 한다");
+    assertEquals(arrived[0].getChatMessageId(), second.get(roomId).getLastMessageId());
+    assertEquals(4, store.aggregationCount.get());
+
+    // 합친 뒤에는 요약만 읽는다
+    Map<UUID, ChatRoomSummary> third = summaryService.loadSummaries(
+        memberA, List.of(roomId), Map.of(roomId, stateA));
+    assertEquals(3L, third.get(roomId).getUnreadCount());
+    assertEquals(arrived[0].getChatMessageId(), third.get(roomId).getLastMessageId());
+    assertEquals(4, store.aggregationCount.get(), "백필이 끝난 방은 다시 집계하지 않아야 한다");
+  }
+
+  /**
+   * chat_message / chat_user_state / chat_room_summary 문서와 두 저장소 mock
+   * 메시지 집계는 대상 방의 메시지를 모두 훑는 것으로, 요약 조회는 방마다 문서 1개를 읽는 것으로 비용을 센다.
+   */
+  private static class ChatStore {
+
+    private final Map<UUID, List<ChatMessage>> messagesByRoomId = new HashMap<>();
+    private final Map<UUID, List<ChatUserState>> statesByRoomId = new HashMap<>();
+    private final Map<UUID, List<UUID>> roomIdsByMemberId = new HashMap<>();
+    private final Map<String, SummaryRow> summaryRows = new HashMap<>();
+    private final AtomicInteger docsExamined = new AtomicInteger();
+    private final AtomicInteger aggregationCount = new AtomicInteger();
+    private final AtomicBoolean failApplyMessage = new AtomicBoolean(false);
+    // 백필 집계와 저장 사이에 끼워 넣을 동작 (동시 메시지 도착 재현용)
+    private Runnable beforeBackfillInsert;
+    private LocalDateTime clock = LocalDateTime.of(2026, 10, 18, 9, 0);
+    private int messageSequence;
+    private final ChatRoomSummaryRepository summaryRepository = mock(ChatRoomSummaryRepository.class);
+    private final ChatMessageRepository messageRepository = mock(ChatMessageRepository.class);
+
+    private ChatStore() {
+
+      when(summaryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+        List<ChatRoomSummary> summaries = invocation.getArgument(0);
+        for (ChatRoomSummary summary : summaries) {
+          summaryRows.putIfAbsent(key(summary.getMemberId(), summary.getChatRoomId()), SummaryRow.from(summary));
+        }
+        return summaries;
+      });
+      when(summaryRepository.findByMemberIdAndChatRoomIdIn(any(), anyList())).thenAnswer(invocation -> {
+        UUID memberId = invocation.getArgument(0);
+        List<UUID> chatRoomIds = invocation.getArgument(1);
+        List<ChatRoomSummary> found = new ArrayList<>();
+        for (UUID roomId : chatRoomIds) {
+          SummaryRow row = summaryRows.get(key(memberId, roomId));
+          if (row != null) {
+            docsExamined.incrementAndGet();
+            found.add(row.toSummary(roomId, memberId));
+          }
+        }
+        return found;
+      });
+      doAnswer(invocation -> {
+        if (failApplyMessage.get()) {
+          throw new IllegalStateException("MongoDB 연결 실패");
+        }
+        ChatMessage message = invocation.getArgument(0);
+        UUID recipientId = invocation.getArgument(1);
+        boolean countAsUnread = invocation.getArgument(2);
+        for (UUID memberId : List.of(message.getSenderId(), recipientId)) {
+          // 요약이 없으면 백필 대기 요약으로 upsert
+          SummaryRow row = summaryRows.computeIfAbsent(key(memberId, message.getChatRoomId()),
+              ignored -> SummaryRow.pending(message.getCreatedDate()));
+          if (countAsUnread && memberId.equals(recipientId)) {
+            row.unreadCount++;
+          }
+          row.applySnapshot(message);
+        }
+        return null;
+      }).when(summaryRepository).applyMessage(any(), any(), anyBoolean());
+      doAnswer(invocation -> {
+        if (beforeBackfillInsert != null) {
+          beforeBackfillInsert.run();
+        }
+        List<ChatRoomSummary> summaries = invocation.getArgument(0);
+        for (ChatRoomSummary summary : summaries) {
+          summaryRows.putIfAbsent(key(summary.getMemberId(), summary.getChatRoomId()), SummaryRow.from(summary));
+        }
+        return null;
+      }).when(summaryRepository).insertBackfills(anyList());
+      doAnswer(invocation -> {
+        SummaryRow row = summaryRows.get(key(invocation.getArgument(1), invocation.getArgument(0)));
+        if (row != null && row.pending) {
+          long unreadCountBeforePending = invocation.getArgument(2);
+          row.unreadCount += unreadCountBeforePending;
+          row.pending = false;
+          row.pendingSince = null;
+          ChatMessage latestMessage = invocation.getArgument(3);
+          if (latestMessage != null) {
+            row.applySnapshot(latestMessage);
+          }
+        }
+        return null;
+      }).when(summaryRepository).mergeBackfill(any(), any(), anyLong(), any());
+      doAnswer(invocation -> {
+        SummaryRow row = summaryRows.get(key(invocation.getArgument(1), invocation.getArgument(0)));
+        if (row != null) {
+          row.unreadCount = 0;
+        }
+        return null;
+      }).when(summaryRepository).markRead(any(), any(), any());
+      doAnswer(invocation -> {
+        UUID roomId = invocation.getArgument(0);
+        statesByRoomId.get(roomId).forEach(state -> summaryRows.remove(key(state.getMemberId(), roomId)));
+        return null;
+      }).when(summaryRepository).deleteAllByChatRoomId(any());
+
+      when(messageRepository.countUnreadMessagesByRoom(any(), any(), any())).thenAnswer(invocation -> {
+        Map<UUID, LocalDateTime> readCursorByRoomId = invocation.getArgument(0);
+        Map<UUID, LocalDateTime> countBeforeByRoomId = invocation.getArgument(1);
+        UUID memberId = invocation.getArgument(2);
+        aggregationCount.incrementAndGet();
+        return countUnread(readCursorByRoomId, countBeforeByRoomId, memberId);
+      });
+      when(messageRepository.findLatestMessageForChatRooms(anyList())).thenAnswer(invocation -> {
+        aggregationCount.incrementAndGet();
+        return new ArrayList<>(latestMessages(invocation.getArgument(0)).values());
+      });
+    }
+
+    private ChatRoomSummaryService newService() {
+      return new ChatRoomSummaryService(summaryRepository, messageRepository);
+    }
+
+    // 요약을 저장하지 않는 저장소: 목록 조회마다 백필 집계 경로를 탄다
+    private ChatRoomSummaryService newAggregatingService() {
+      return new ChatRoomSummaryService(mock(ChatRoomSummaryRepository.class), messageRepository);
+    }
+
+    private UUID createRoom(UUID tradeSenderId, UUID tradeReceiverId) {
+      UUID roomId = UUID.randomUUID();
+      messagesByRoomId.put(roomId, new ArrayList<>());
+      List<ChatUserState> states = new ArrayList<>();
+      for (UUID memberId : List.of(tradeSenderId, tradeReceiverId)) {
+        ChatUserState state = ChatUserState.create(roomId, memberId);
+        ReflectionTestUtils.setField(state, "leftAt", tick());
+        states.add(state);
+        roomIdsByMemberId.computeIfAbsent(memberId, ignored -> new ArrayList<>()).add(roomId);
+      }
+      statesByRoomId.put(roomId, states);
+      return roomId;
+    }
+
+    private ChatMessage saveMessage(UUID roomId, UUID senderId, UUID recipientId) {
+      ChatMessage message = ChatMessage.builder()
+          .chatMessageId("message-" + (++messageSequence))
+          .chatRoomId(roomId)
+          .senderId(senderId)
+          .recipientId(recipientId)
+          .content("메시지 " + messageSequence)
+          .type(MessageType.TEXT)
+          .build();
+      ReflectionTestUtils.setField(message, "createdDate", tick());
+      messagesByRoomId.get(roomId).add(message);
+      return message;
+    }
+
+    private void enter(ChatUserState state) {
+      state.enterChatRoom();
+    }
+
+    private void leave(ChatUserState state) {
+      ReflectionTestUtils.setField(state, "leftAt", tick());
+    }
+
+    private List<ChatUserState> statesOf(UUID roomId) {
+      return statesByRoomId.get(roomId);
+    }
+
+    private Map<UUID, ChatUserState> statesOf(UUID memberId, List<UUID> roomIds) {
+      Map<UUID, ChatUserState> stateByRoomId = new HashMap<>();
+      for (UUID roomId : roomIds) {
+        statesByRoomId.get(roomId).stream()
+            .filter(state -> state.getMemberId().equals(memberId))
+            .findFirst()
+            .ifPresent(state -> stateByRoomId.put(roomId, state));
+      }
+      return stateByRoomId;
+    }
+
+    private List<UUID> roomIdsOf(UUID memberId) {
+      return roomIdsByMemberId.getOrDefault(memberId, List.of());
+    }
+
+    private int messageCount() {
+      return messagesByRoomId.values().stream().mapToInt(List::size).sum();
+    }
+
+    private boolean isPending(UUID memberId, UUID roomId) {
+      SummaryRow row = summaryRows.get(key(memberId, roomId));
+      return row != null && row.pending;
+    }
+
+    private Map<UUID, Long> countUnread(Map<UUID, LocalDateTime> readCursorByRoomId,
+                                        Map<UUID, LocalDateTime> countBeforeByRoomId, UUID memberId) {
+      Map<UUID, Long> unreadCountByRoomId = new HashMap<>();
+      readCursorByRoomId.forEach((roomId, cursor) -> {
+        LocalDateTime countBefore = countBeforeByRoomId.get(roomId);
+        for (ChatMessage message : messagesByRoomId.get(roomId)) {
+          docsExamined.incrementAndGet();
+          if (message.getCreatedDate().isAfter(cursor) && !message.getSenderId().equals(memberId)
+              && (countBefore == null || message.getCreatedDate().isBefore(countBefore))) {
+            unreadCountByRoomId.merge(roomId, 1L, Long::sum);
+          }
+        }
+      });
+      return unreadCountByRoomId;
+    }
+
+    private Map<UUID, ChatMessage> latestMessages(List<UUID> roomIds) {
+      Map<UUID, ChatMessage> latestByRoomId = new HashMap<>();
+      for (UUID roomId : roomIds) {
+        for (ChatMessage message : messagesByRoomId.get(roomId)) {
+          docsExamined.incrementAndGet();
+          latestByRoomId.merge(roomId, message,
+              (current, candidate) -> candidate.getCreatedDate().isAfter(current.getCreatedDate()) ? candidate : current);
+        }
+      }
+      return latestByRoomId;
+    }
+
+    private LocalDateTime tick() {
+      clock = clock.plusNanos(1_000);
+      return clock;
+    }
+
+    private static String key(UUID memberId, UUID roomId) {
+      return memberId + ":" + roomId;
+    }
+  }
+
+  private static class SummaryRow {
+
+    private ChatMessage lastMessage;
+    private LocalDateTime lastMessageAt;
+    private long unreadCount;
+    private boolean pending;
+    private LocalDateTime pendingSince;
+
+    private static SummaryRow pending(LocalDateTime pendingSince) {
+      SummaryRow row = new SummaryRow();
+      row.pending = true;
+      row.pendingSince = pendingSince;
+      return row;
+    }
+
+    private static SummaryRow from(ChatRoomSummary summary) {
+      SummaryRow row = new SummaryRow();
+      if (summary.getLastMessageId() != null) {
+        row.lastMessage = ChatMessage.builder()
+            .chatMessageId(summary.getLastMessageId())
+            .content(summary.getLastMessageContent())
+            .type(summary.getLastMessageType())
+            .senderId(summary.getLastMessageSenderId())
+            .build();
+        row.lastMessageAt = summary.getLastMessageAt();
+      }
+      row.unreadCount = summary.getUnreadCount();
+      return row;
+    }
+
+    private ChatRoomSummary toSummary(UUID roomId, UUID memberId) {
+      ChatRoomSummary summary = ChatRoomSummary.create(roomId, memberId, lastMessage, unreadCount, null);
+      ReflectionTestUtils.setField(summary, "lastMessageAt", lastMessageAt);
+      ReflectionTestUtils.setField(summary, "backfillPending", pending);
+      ReflectionTestUtils.setField(summary, "pendingSince", pendingSince);
+      return summary;
+    }
+
+    // 더 최신 메시지로만 스냅샷 교체
+    private void applySnapshot(ChatMessage message) {
+      if (lastMessageAt == null || !lastMessageAt.isAfter(message.getCreatedDate())) {
+        lastMessage = message;
+        lastMessageAt = message.getCreatedDate();
+      }
+    }
+  }
+}
@@ -0,0 +1,17 @@
+package com.romrom.item.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "item.interaction-score")
+@Getter
+@Setter
+public class InteractionScoreConfig {
+
+  private long flushIntervalMillis = 2_000L;  // 상호작용 점수 증감분 DB 반영 주기
+  private int flushBatchSize = 500;           // UPSERT 배치 1회당 행 수
+  private int flushThreshold = 5_000;         // 대기 중인 (회원, 카테고리) 수가 이 값 이상이면 주기 전에 즉시 반영
+}
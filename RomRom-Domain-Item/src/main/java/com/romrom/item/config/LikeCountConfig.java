@@ -0,0 +1,16 @@
+package com.romrom.item.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "item.like-count")
+@Getter
+@Setter
+public class LikeCountConfig {
+
+  private long flushIntervalMillis = 1_000L;  // 좋아요 수 증감분 DB 반영 주기
+  private int flushBatchSize = 500;           // UPDATE 배치 1회당 행 수
+}
@@ -0,0 +1,19 @@
+package com.romrom.item.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "item.view-dedup")
+@Getter
+@Setter
+public class ViewDedupConfig {
+
+  private long expectedDailyViews = 1_000_000L;   // 일별 Bloom filter 예상 (회원, 물품) 조회 수
+  private double falsePositiveRate = 0.001;       // 오탐률 (오탐된 첫 조회는 기록되지 않음)
+  private long flushIntervalMillis = 1_000L;      // 첫 조회 기록 DB 반영 주기
+  private int flushBatchSize = 500;               // INSERT 배치 1회당 행 수
+  private int flushThreshold = 5_000;             // 대기 중인 조회 기록이 이 값 이상이면 주기 전에 즉시 반영
+}
@@ -0,0 +1,83 @@
+package com.romrom.item.dto;
+
+import com.romrom.common.constant.ItemSortField;
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 물품 목록 커서(keyset) 페이지네이션 위치 정보.
+ *
+ * <p>마지막으로 내려준 물품의 정렬 키(sortValue, createdDate)와 동점 해소용 itemId를 담는다.
+ * 추천순은 점수가 조회 시각(시간 감쇠)에 따라 달라지므로 첫 페이지 조회 시각(anchorEpochSeconds)을 고정해
+ * 모든 페이지가 같은 점수 기준으로 이어지도록 한다.
+ *
+ * <p>클라이언트에는 Base64(URL-safe) 불투명 문자열로만 노출한다.
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class ItemCursor {
+
+  private static final String VERSION = "v1";
+  private static final String DELIMITER = "|";
+  private static final int FIELD_COUNT = 7;
+
+  private ItemSortField sortField;
+  private Sort.Direction sortDirection;
+
+  // 거리(미터) 또는 추천 점수 (최신순은 null)
+  private Double sortValue;
+  private LocalDateTime createdDate;
+  private UUID itemId;
+
+  // 추천 점수 계산 기준 시각 (추천순 외에는 첫 페이지 조회 시각만 기록)
+  private long anchorEpochSeconds;
+
+  public String encode() {
+    String raw = String.join(DELIMITER,
+        VERSION,
+        sortField.name(),
+        sortDirection.name(),
+        sortValue != null ? Double.toString(sortValue) : "",
+        createdDate.toString(),
+        itemId.toString(),
+        Long.toString(anchorEpochSeconds)
+    );
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 복원. 형식이 맞지 않으면 INVALID_ITEM_CURSOR 예외
+   */
+  public static ItemCursor decode(String encodedCursor) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(encodedCursor), StandardCharsets.UTF_8);
+      String[] fields = raw.split("\\" + DELIMITER, -1);
+      if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+        throw new CustomException(ErrorCode.INVALID_ITEM_CURSOR);
+      }
+      return ItemCursor.builder()
+          .sortField(ItemSortField.valueOf(fields[1]))
+          .sortDirection(Sort.Direction.valueOf(fields[2]))
+          .sortValue(fields[3].isEmpty() ? null : Double.valueOf(fields[3]))
+          .createdDate(LocalDateTime.parse(fields[4]))
+          .itemId(UUID.fromString(fields[5]))
+          .anchorEpochSeconds(Long.parseLong(fields[6]))
+          .build();
+    } catch (CustomException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      throw new CustomException(ErrorCode.INVALID_ITEM_CURSOR);
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.romrom.item.dto;
+
+import com.romrom.item.entity.postgres.Item;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.data.domain.Slice;
+
+/**
+ * 커서 기반 물품 목록 조회 결과 (다음 페이지가 없으면 nextCursor는 null)
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class ItemCursorSlice {
+
+  private Slice<Item> itemSlice;
+  private ItemCursor nextCursor;
+}
@@ -90,6 +90,9 @@ public class ItemRequest {
   @Schema(description = "정렬 방향")
   private Sort.Direction sortDirection;
 
+  @Schema(description = "물품 목록 커서 (이전 응답의 nextCursor, 첫 페이지는 비움)")
+  private String cursor;
+
   @Min(value = 0, message = "반경 값은 양수만 입력 가능합니다.")
   private Double radiusInMeters;
 
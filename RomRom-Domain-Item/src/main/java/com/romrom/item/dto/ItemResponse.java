@@ -10,6 +10,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @ToString
 @AllArgsConstructor
@@ -21,7 +22,10 @@ public class ItemResponse {
 
   private Item item;
   private Page<Item> itemPage;
+  private Slice<Item> itemSlice;
+  private String nextCursor;
   private Boolean isLiked;
+  private Integer likeCount; // 좋아요 토글 직후 좋아요 수 (아직 DB 에 반영되지 않은 증감분 포함)
   private Boolean isFirstItemPosted;
   private List<ItemCategory> recommendedCategories;
 }
@@ -12,7 +12,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -30,6 +32,10 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @ToString(callSuper = true)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "user_interaction_score", indexes = {
+    // InteractionScoreAggregator 의 INSERT ... ON CONFLICT 대상
+    @Index(name = "uk_user_interaction_score_member_category", columnList = "member_member_id, item_category", unique = true)
+})
 public class UserInteractionScore extends BasePostgresEntity {
 
   @Id
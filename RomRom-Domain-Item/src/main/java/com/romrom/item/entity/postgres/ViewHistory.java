@@ -12,7 +12,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import java.util.UUID;
 import lombok.AllArgsConstructor;
@@ -30,6 +32,10 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @ToString(callSuper = true)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Table(name = "view_history", indexes = {
+    // 하루 1회 조회 기록 (ViewHistoryWriteBehindService 의 INSERT ... ON CONFLICT DO NOTHING 대상)
+    @Index(name = "uk_view_history_member_item_date", columnList = "member_member_id, item_item_id, viewed_date", unique = true)
+})
 public class ViewHistory extends BasePostgresEntity {
 
   @Id
@@ -9,7 +9,7 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface LikeHistoryRepository extends MongoRepository<LikeHistory, String> {
+public interface LikeHistoryRepository extends MongoRepository<LikeHistory, String>, LikeHistoryRepositoryCustom {
   boolean existsByMemberIdAndItemId(UUID memberId, UUID itemId);
   void deleteByMemberIdAndItemId(UUID memberId, UUID itemId);
   Page<LikeHistory> findByMemberId(UUID memberId, Pageable pageable);
@@ -0,0 +1,22 @@
+package com.romrom.item.repository.mongo;
+
+import com.romrom.common.constant.LikeContentType;
+import java.util.UUID;
+
+public interface LikeHistoryRepositoryCustom {
+
+  /**
+   * (memberId, itemId) 좋아요 기록이 없을 때만 생성한다 (upsert + $setOnInsert).
+   * 같은 요청이 중복/동시에 들어와도 기록은 하나만 남는다.
+   *
+   * @return 이번 호출로 새로 생성되었으면 true, 이미 있었으면 false
+   */
+  boolean insertIfAbsent(UUID memberId, UUID itemId, LikeContentType likeContentType);
+
+  /**
+   * (memberId, itemId) 좋아요 기록을 삭제한다.
+   *
+   * @return 이번 호출로 실제 삭제되었으면 true, 삭제할 기록이 없었으면 false
+   */
+  boolean deleteIfPresent(UUID memberId, UUID itemId);
+}
@@ -0,0 +1,47 @@
+package com.romrom.item.repository.mongo;
+
+import com.mongodb.client.result.UpdateResult;
+import com.romrom.common.constant.LikeContentType;
+import com.romrom.item.entity.mongo.LikeHistory;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeHistoryRepositoryImpl implements LikeHistoryRepositoryCustom {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public boolean insertIfAbsent(UUID memberId, UUID itemId, LikeContentType likeContentType) {
+    LocalDateTime now = LocalDateTime.now();
+    // upsert 는 auditing 을 거치지 않으므로 생성/수정일을 직접 채운다
+    Update insertOnlyUpdate = new Update()
+        .setOnInsert("likeContentType", likeContentType)
+        .setOnInsert("createdDate", now)
+        .setOnInsert("updatedDate", now);
+    try {
+      UpdateResult result = mongoTemplate.upsert(memberItemQuery(memberId, itemId), insertOnlyUpdate, LikeHistory.class);
+      return result.getUpsertedId() != null;
+    } catch (DuplicateKeyException e) {
+      // 동시 upsert 가 (memberId, itemId) 유니크 인덱스에 막힌 경우: 다른 요청이 이미 생성함
+      return false;
+    }
+  }
+
+  @Override
+  public boolean deleteIfPresent(UUID memberId, UUID itemId) {
+    return mongoTemplate.remove(memberItemQuery(memberId, itemId), LikeHistory.class).getDeletedCount() > 0;
+  }
+
+  private Query memberItemQuery(UUID memberId, UUID itemId) {
+    return new Query(Criteria.where("memberId").is(memberId).and("itemId").is(itemId));
+  }
+}
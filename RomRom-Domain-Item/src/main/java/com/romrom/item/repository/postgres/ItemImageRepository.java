@@ -2,6 +2,7 @@ package com.romrom.item.repository.postgres;
 
 import com.romrom.item.entity.postgres.Item;
 import com.romrom.item.entity.postgres.ItemImage;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -32,6 +33,10 @@ public interface ItemImageRepository extends JpaRepository<ItemImage, UUID> {
   @Query("SELECT ii.imageUrl FROM ItemImage ii")
   List<String> findAllImageUrls();
 
+  // 주어진 URL 중 DB에 참조가 있는 URL만 조회 (image_url 유니크 인덱스 사용, 고아 이미지 배치 검사용)
+  @Query("SELECT ii.imageUrl FROM ItemImage ii WHERE ii.imageUrl IN :imageUrls")
+  List<String> findExistingImageUrls(@Param("imageUrls") Collection<String> imageUrls);
+
   @Modifying
   void deleteAllByItem_ItemIdIn(List<UUID> itemIds);
 }
@@ -4,14 +4,18 @@ import com.romrom.common.constant.ItemCategory;
 import com.romrom.common.constant.ItemCondition;
 import com.romrom.common.constant.ItemSortField;
 import com.romrom.common.constant.ItemStatus;
+import com.romrom.item.dto.ItemCursor;
+import com.romrom.item.dto.ItemCursorSlice;
 import com.romrom.item.entity.postgres.Item;
 import com.romrom.item.entity.postgres.UserInteractionScore;
 import com.romrom.member.entity.Member;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 public interface ItemRepositoryCustom {
 
@@ -28,6 +32,7 @@ public interface ItemRepositoryCustom {
 
   Page<Item> filterItems(
       UUID memberId,
+      Collection<UUID> blockedMemberIds,
       Double longitude,
       Double latitude,
       Double radiusInMeters,
@@ -38,6 +43,25 @@ public interface ItemRepositoryCustom {
       Pageable pageable
   );
 
+  /**
+   * 물품 목록 커서(keyset) 조회. OFFSET/count 없이 커서 다음 위치부터 pageSize건을 읽는다.
+   * (CREATED_DATE, DISTANCE, RECOMMENDED 지원 / cursor가 null이면 첫 페이지)
+   */
+  ItemCursorSlice filterItemsByCursor(
+      UUID memberId,
+      Collection<UUID> blockedMemberIds,
+      Double longitude,
+      Double latitude,
+      Double radiusInMeters,
+      List<UserInteractionScore> userInteractionScores,
+      List<ItemCategory> preferredCategories,
+      ItemSortField sortField,
+      Sort.Direction direction,
+      ItemCursor cursor,
+      long anchorEpochSeconds,
+      int pageSize
+  );
+
   Page<Item> findItemsForAdmin(
       String searchKeyword,
       ItemCategory itemCategory,
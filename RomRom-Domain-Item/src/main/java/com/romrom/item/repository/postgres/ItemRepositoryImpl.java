@@ -3,6 +3,8 @@ package com.romrom.item.repository.postgres;
 
 import static java.time.Instant.now;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
@@ -20,8 +22,12 @@ import com.romrom.common.constant.ItemSortField;
 import com.romrom.common.constant.ItemStatus;
 import com.romrom.common.constant.OriginalType;
 import com.romrom.common.entity.postgres.QEmbedding;
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
 import com.romrom.common.util.QueryDslUtil;
 import com.romrom.item.config.RecommendationConfig;
+import com.romrom.item.dto.ItemCursor;
+import com.romrom.item.dto.ItemCursorSlice;
 import com.romrom.item.entity.postgres.Item;
 import com.romrom.item.entity.postgres.ItemImage;
 import com.romrom.item.entity.postgres.QItem;
@@ -30,11 +36,11 @@ import com.romrom.item.entity.postgres.UserInteractionScore;
 import com.romrom.member.entity.Member;
 import com.romrom.item.entity.postgres.QHiddenItem;
 import com.romrom.member.entity.QMember;
-import com.romrom.member.entity.QMemberBlock;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +49,9 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
@@ -111,6 +119,7 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
   @Override
   public Page<Item> filterItems(
       UUID memberId,
+      Collection<UUID> blockedMemberIds,
       Double longitude,
       Double latitude,
       Double radiusInMeters,
@@ -120,38 +129,7 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
       ItemSortField sortField,
       Pageable pageable
   ) {
-    QMemberBlock qBlock = QMemberBlock.memberBlock;
-    QHiddenItem qHiddenItem = QHiddenItem.hiddenItem;
-
-    // 차단 관계가 아닌 것만 조회
-    BooleanExpression notBlocked = JPAExpressions
-        .selectOne()
-        .from(qBlock)
-        .where(
-            (qBlock.blockerMember.memberId.eq(memberId).and(qBlock.blockedMember.memberId.eq(ITEM.member.memberId)))
-                .or(qBlock.blockerMember.memberId.eq(ITEM.member.memberId).and(qBlock.blockedMember.memberId.eq(memberId)))
-        )
-        .notExists();
-
-    // 다시 보지 않기 설정한 물품 제외
-    BooleanExpression notHidden = JPAExpressions
-        .selectOne()
-        .from(qHiddenItem)
-        .where(
-            qHiddenItem.member.memberId.eq(memberId)
-                .and(qHiddenItem.item.itemId.eq(ITEM.itemId))
-        )
-        .notExists();
-
-    BooleanExpression where = QueryDslUtil.allOf(
-        QueryDslUtil.neIfNotNull(ITEM.member.memberId, memberId),
-        ITEM.isDeleted.isFalse(),
-        ITEM.isAdminHidden.isFalse(),  // 관리자 노출 차단 물품 제외
-        ITEM.itemStatus.eq(ItemStatus.AVAILABLE),
-        ITEM.member.accountStatus.ne(AccountStatus.SUSPENDED_ACCOUNT),  // 정지 회원 물품 비노출
-        notBlocked,     // 차단 필터 적용
-        notHidden       // 숨긴 물품 제외
-    );
+    BooleanExpression where = buildFeedCondition(memberId, blockedMemberIds);
 
     JPAQuery<Item> content = queryFactory
         .selectFrom(ITEM)
@@ -171,17 +149,10 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
       case DISTANCE: {
         // radiusInMeters(미터) 안에 있는 것만 필터링
-        BooleanExpression within = Expressions.booleanTemplate(
-            "function('ST_DistanceSphere', {0}, function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326)) <= {3}",
-            ITEM.location, longitude, latitude, radiusInMeters
-        );
+        BooleanExpression within = buildWithinRadius(longitude, latitude, radiusInMeters);
 
         // 정렬용 거리 표현식 (미터)
-        NumberExpression<Double> distanceExpr = Expressions.numberTemplate(
-            Double.class,
-            "function('ST_DistanceSphere', {0}, function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326))",
-            ITEM.location, longitude, latitude
-        );
+        NumberExpression<Double> distanceExpr = buildDistanceExpression(longitude, latitude);
 
         content.where(within);
         count.where(within);
@@ -194,11 +165,9 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
       }
 
       case PREFERRED_CATEGORY: {
-        content.join(EMBEDDING)
-            .on(EMBEDDING.originalId.eq(ITEM.itemId)
-                .and(EMBEDDING.originalType.eq(OriginalType.ITEM)));
-
-        count.join(EMBEDDING)
+        // 임베딩 생성 대기 중(outbox 미처리)인 물품도 목록에서 빠지지 않도록 left join
+        // (original_id, original_type) 유니크라 행이 늘지 않으므로 count 쿼리는 조인 불필요
+        content.leftJoin(EMBEDDING)
             .on(EMBEDDING.originalId.eq(ITEM.itemId)
                 .and(EMBEDDING.originalType.eq(OriginalType.ITEM)));
 
@@ -211,8 +180,9 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
             Expressions.stringTemplate(vectorLiteral)
         );
 
+        // 임베딩 대기 물품은 유사도를 알 수 없으므로 정렬 방향과 무관하게 뒤로 보내고 최신순 유지
         content.orderBy(
-            new OrderSpecifier<>(dir.isAscending() ? Order.ASC : Order.DESC, simExpr),
+            new OrderSpecifier<>(dir.isAscending() ? Order.ASC : Order.DESC, simExpr, OrderSpecifier.NullHandling.NullsLast),
             new OrderSpecifier<>(Order.DESC, ITEM.createdDate)
         );
 
@@ -226,10 +196,7 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
       case RECOMMENDED: {
         if (longitude != null && latitude != null && radiusInMeters != null) {
-          BooleanExpression within = Expressions.booleanTemplate(
-              "function('ST_DistanceSphere', {0}, function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326)) <= {3}",
-              ITEM.location, longitude, latitude, radiusInMeters
-          );
+          BooleanExpression within = buildWithinRadius(longitude, latitude, radiusInMeters);
           content.where(within);
           count.where(within);
         }
@@ -237,7 +204,8 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
         NumberExpression<Double> recommendedScoreExpr = buildRecommendedScoreExpression(
             memberId,
             userInteractionScores,
-            preferredCategories
+            preferredCategories,
+            now().getEpochSecond()
         );
 
         content.orderBy(
@@ -256,6 +224,99 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
     return QueryDslUtil.fetchPage(content, count, pageable);
   }
 
+  @Override
+  public ItemCursorSlice filterItemsByCursor(
+      UUID memberId,
+      Collection<UUID> blockedMemberIds,
+      Double longitude,
+      Double latitude,
+      Double radiusInMeters,
+      List<UserInteractionScore> userInteractionScores,
+      List<ItemCategory> preferredCategories,
+      ItemSortField sortField,
+      Sort.Direction direction,
+      ItemCursor cursor,
+      long anchorEpochSeconds,
+      int pageSize
+  ) {
+    Order order = direction.isAscending() ? Order.ASC : Order.DESC;
+    BooleanExpression where = buildFeedCondition(memberId, blockedMemberIds);
+
+    // 정렬 키: (sortValue, createdDate DESC, itemId DESC) / 최신순은 (createdDate, itemId)
+    NumberExpression<Double> sortValueExpr;
+    switch (sortField) {
+      case CREATED_DATE -> sortValueExpr = null;
+      case DISTANCE -> {
+        where = where.and(buildWithinRadius(longitude, latitude, radiusInMeters));
+        sortValueExpr = buildDistanceExpression(longitude, latitude);
+      }
+      case RECOMMENDED -> {
+        if (longitude != null && latitude != null && radiusInMeters != null) {
+          where = where.and(buildWithinRadius(longitude, latitude, radiusInMeters));
+        }
+        // 첫 페이지 기준 시각으로 고정해 페이지 간 점수가 흔들리지 않도록 함
+        sortValueExpr = buildRecommendedScoreExpression(memberId, userInteractionScores, preferredCategories, anchorEpochSeconds);
+      }
+      default -> throw new CustomException(ErrorCode.UNSUPPORTED_ITEM_CURSOR_SORT_FIELD);
+    }
+
+    List<SeekKey> seekKeys = new ArrayList<>();
+    if (sortValueExpr == null) {
+      seekKeys.add(new SeekKey(ITEM.createdDate, order, cursor != null ? cursor.getCreatedDate() : null));
+      seekKeys.add(new SeekKey(ITEM.itemId, order, cursor != null ? cursor.getItemId() : null));
+    } else {
+      seekKeys.add(new SeekKey(sortValueExpr, order, cursor != null ? cursor.getSortValue() : null));
+      seekKeys.add(new SeekKey(ITEM.createdDate, Order.DESC, cursor != null ? cursor.getCreatedDate() : null));
+      seekKeys.add(new SeekKey(ITEM.itemId, Order.DESC, cursor != null ? cursor.getItemId() : null));
+    }
+
+    if (cursor != null) {
+      // 선두 키 범위 조건을 중복으로 걸어 두면 (created_date, item_id) 인덱스를 범위 스캔으로 탈 수 있음
+      SeekKey leadingKey = seekKeys.get(0);
+      where = where.and(compare(leadingKey, leadingKey.order() == Order.ASC ? ">=" : "<="))
+          .and(buildSeekPredicate(seekKeys, 0));
+    }
+
+    JPAQuery<Tuple> content = queryFactory
+        .select(sortValueExpr != null ? new Expression<?>[]{ITEM, sortValueExpr} : new Expression<?>[]{ITEM})
+        .from(ITEM)
+        .join(ITEM.member, MEMBER).fetchJoin()
+        .where(where)
+        .orderBy(seekKeys.stream()
+            .map(this::toOrderSpecifier)
+            .toArray(OrderSpecifier<?>[]::new));
+
+    // count 쿼리 대신 한 건 더 조회해 다음 페이지 존재 여부 판단
+    List<Tuple> rows = content.limit(pageSize + 1L).fetch();
+    boolean hasNext = rows.size() > pageSize;
+    if (hasNext) {
+      rows = rows.subList(0, pageSize);
+    }
+
+    List<Item> items = rows.stream()
+        .map(row -> row.get(ITEM))
+        .collect(Collectors.toCollection(ArrayList::new));
+
+    ItemCursor nextCursor = null;
+    if (hasNext) {
+      Tuple lastRow = rows.get(rows.size() - 1);
+      Item lastItem = lastRow.get(ITEM);
+      nextCursor = ItemCursor.builder()
+          .sortField(sortField)
+          .sortDirection(direction)
+          .sortValue(sortValueExpr != null ? lastRow.get(sortValueExpr) : null)
+          .createdDate(lastItem.getCreatedDate())
+          .itemId(lastItem.getItemId())
+          .anchorEpochSeconds(anchorEpochSeconds)
+          .build();
+    }
+
+    return ItemCursorSlice.builder()
+        .itemSlice(new SliceImpl<>(items, PageRequest.ofSize(pageSize), hasNext))
+        .nextCursor(nextCursor)
+        .build();
+  }
+
   @Override
   public Page<Item> findItemsForAdmin(
       String searchKeyword,
@@ -412,12 +473,84 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
     );
   }
 
+  /**
+   * 물품 피드 공통 조건 (본인 물품, 삭제/관리자 차단/거래 불가, 정지 회원, 차단 관계, 숨긴 물품 제외)
+   * 차단 관계는 호출 측이 캐시에서 꺼낸 상대 회원 ID 목록(blockedMemberIds)을 NOT IN 으로 적용한다.
+   * (null 이면 member_block 상관 서브쿼리로 대체)
+   */
+  private BooleanExpression buildFeedCondition(UUID memberId, Collection<UUID> blockedMemberIds) {
+    QHiddenItem qHiddenItem = QHiddenItem.hiddenItem;
+
+    // 차단 관계가 아닌 것만 조회 (MemberBlockService.blockedIdsFor 캐시 결과, 비어 있으면 조건 없음)
+    BooleanExpression notBlocked = blockedMemberIds.isEmpty() ? null : ITEM.member.memberId.notIn(blockedMemberIds);
+
+    // 다시 보지 않기 설정한 물품 제외
+    BooleanExpression notHidden = JPAExpressions
+        .selectOne()
+        .from(qHiddenItem)
+        .where(
+            qHiddenItem.member.memberId.eq(memberId)
+                .and(qHiddenItem.item.itemId.eq(ITEM.itemId))
+        )
+        .notExists();
+
+    return QueryDslUtil.allOf(
+        QueryDslUtil.neIfNotNull(ITEM.member.memberId, memberId),
+        ITEM.isDeleted.isFalse(),
+        ITEM.isAdminHidden.isFalse(),  // 관리자 노출 차단 물품 제외
+        ITEM.itemStatus.eq(ItemStatus.AVAILABLE),
+        ITEM.member.accountStatus.ne(AccountStatus.SUSPENDED_ACCOUNT),  // 정지 회원 물품 비노출
+        notBlocked,     // 차단 필터 적용
+        notHidden       // 숨긴 물품 제외
+    );
+  }
+
+  private BooleanExpression buildWithinRadius(Double longitude, Double latitude, Double radiusInMeters) {
+    return Expressions.booleanTemplate(
+        "function('ST_DistanceSphere', {0}, function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326)) <= {3}",
+        ITEM.location, longitude, latitude, radiusInMeters
+    );
+  }
+
+  private NumberExpression<Double> buildDistanceExpression(Double longitude, Double latitude) {
+    return Expressions.numberTemplate(
+        Double.class,
+        "function('ST_DistanceSphere', {0}, function('ST_SetSRID', function('ST_MakePoint', {1}, {2}), 4326))",
+        ITEM.location, longitude, latitude
+    );
+  }
+
+  /**
+   * keyset 조건: (k1, k2, ...) 가 커서 위치 "다음"인 행만 남긴다.
+   * k1 이후 OR (k1 = 값 AND (k2 이후 OR (k2 = 값 AND ...))) 형태로 키마다 정렬 방향이 달라도 동작
+   */
+  private BooleanExpression buildSeekPredicate(List<SeekKey> seekKeys, int index) {
+    SeekKey seekKey = seekKeys.get(index);
+    BooleanExpression after = compare(seekKey, seekKey.order() == Order.ASC ? ">" : "<");
+    if (index == seekKeys.size() - 1) {
+      return after;
+    }
+    return after.or(compare(seekKey, "=").and(buildSeekPredicate(seekKeys, index + 1)));
+  }
+
+  private BooleanExpression compare(SeekKey seekKey, String operator) {
+    return Expressions.booleanTemplate("{0} " + operator + " {1}", seekKey.expression(), Expressions.constant(seekKey.value()));
+  }
+
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private OrderSpecifier<?> toOrderSpecifier(SeekKey seekKey) {
+    return new OrderSpecifier(seekKey.order(), seekKey.expression());
+  }
+
+  private record SeekKey(Expression<?> expression, Order order, Object value) {
+  }
+
   /**
    * 최종 추천 점수 합산
    * 카테고리 선호도 점수와 시간 감쇠 점수를 합산하여 최종 점수 산출
    */
   private NumberExpression<Double> buildRecommendedScoreExpression(
-      UUID memberId, List<UserInteractionScore> userInteractionScores, List<ItemCategory> preferredCategories
+      UUID memberId, List<UserInteractionScore> userInteractionScores, List<ItemCategory> preferredCategories, long nowEpochSeconds
   ) {
     double weightCategory = recommendationConfig.getWeight().getCategory();
     double weightFreshness = recommendationConfig.getWeight().getFreshness();
@@ -427,7 +560,6 @@ public class ItemRepositoryImpl implements ItemRepositoryCustom {
 
     BooleanExpression isExplicitPreferred = buildPreferredCategoryPredicate(preferredCategories);
     NumberExpression<Double> implicitNormalizedExpr = buildImplicitNormalizedCase(userInteractionScores);
-    long nowEpochSeconds = now().getEpochSecond();
 
     // (카테고리취향점수 * 카테고리가중치) + (신선도점수 * 신선도가중치)
     return Expressions.numberTemplate(
@@ -49,20 +49,46 @@ public interface TradeRequestHistoryRepository extends JpaRepository<TradeReques
       ")")
   Page<TradeRequestHistory> findByTakeItem(@Param("takeItem") Item takeItem, Pageable pageable);
 
-  // 요청받은 내역 전체 조회 (AI 추천 정렬용 - 페이징/정렬 없이 전체 로드)
+  // 요청받은 내역 AI 추천순 ID 페이지 (상대 giveItem 임베딩 <=> 선호 벡터 거리순, 임베딩 없는 요청은 후순위 최신순)
   @Query(
-    value = "SELECT trh FROM TradeRequestHistory trh " +
-      "JOIN FETCH trh.takeItem ti " +
-      "JOIN FETCH trh.giveItem gi " +
-      "WHERE trh.takeItem = :takeItem " +
-      "AND trh.takeItem.itemStatus = com.romrom.common.constant.ItemStatus.AVAILABLE " +
-      "AND trh.tradeStatus <> com.romrom.common.constant.TradeStatus.CANCELED " +
-      "AND NOT EXISTS (" +
-      "    SELECT 1 FROM MemberBlock mb " +
-      "    WHERE (mb.blockerMember = trh.takeItem.member AND mb.blockedMember = trh.giveItem.member) " +
-      "       OR (mb.blockerMember = trh.giveItem.member AND mb.blockedMember = trh.takeItem.member)" +
-      ")")
-  List<TradeRequestHistory> findAllByTakeItem(@Param("takeItem") Item takeItem);
+    value = """
+      SELECT trh.trade_request_history_id
+      FROM trade_request_history trh
+      JOIN item ti ON ti.item_id = trh.take_item_item_id
+      JOIN item gi ON gi.item_id = trh.give_item_item_id
+      LEFT JOIN embedding e ON e.original_id = trh.give_item_item_id AND e.original_type = 0
+      WHERE trh.take_item_item_id = :takeItemId
+        AND ti.item_status = 'AVAILABLE'
+        AND trh.trade_status <> 2
+        AND NOT EXISTS (
+            SELECT 1 FROM member_block mb
+            WHERE (mb.blocker_member_id = ti.member_member_id AND mb.blocked_member_id = gi.member_member_id)
+               OR (mb.blocker_member_id = gi.member_member_id AND mb.blocked_member_id = ti.member_member_id)
+        )
+      ORDER BY e.embedding <=> CAST(:targetVector AS vector) ASC NULLS LAST,
+               trh.created_date DESC,
+               trh.trade_request_history_id DESC
+      """,
+    countQuery = """
+      SELECT COUNT(*)
+      FROM trade_request_history trh
+      JOIN item ti ON ti.item_id = trh.take_item_item_id
+      JOIN item gi ON gi.item_id = trh.give_item_item_id
+      WHERE trh.take_item_item_id = :takeItemId
+        AND ti.item_status = 'AVAILABLE'
+        AND trh.trade_status <> 2
+        AND NOT EXISTS (
+            SELECT 1 FROM member_block mb
+            WHERE (mb.blocker_member_id = ti.member_member_id AND mb.blocked_member_id = gi.member_member_id)
+               OR (mb.blocker_member_id = gi.member_member_id AND mb.blocked_member_id = ti.member_member_id)
+        )
+      """,
+    nativeQuery = true)
+  Page<UUID> findAiRecommendedIdsByTakeItem(
+    @Param("takeItemId") UUID takeItemId,
+    @Param("targetVector") String targetVector,
+    Pageable pageable
+  );
 
   Page<TradeRequestHistory> findByGiveItemAndTradeStatus(Item giveItem, TradeStatus tradeStatus, Pageable pageable);
 
@@ -80,19 +106,54 @@ public interface TradeRequestHistoryRepository extends JpaRepository<TradeReques
       ")")
   Page<TradeRequestHistory> findByGiveItem(Item giveItem, Pageable pageable);
 
-  // 요청한 내역 전체 조회 (AI 추천 정렬용 - 페이징/정렬 없이 전체 로드)
+  // 요청한 내역 AI 추천순 ID 페이지 (상대 takeItem 임베딩 <=> 선호 벡터 거리순, 임베딩 없는 요청은 후순위 최신순)
+  @Query(
+    value = """
+      SELECT trh.trade_request_history_id
+      FROM trade_request_history trh
+      JOIN item gi ON gi.item_id = trh.give_item_item_id
+      JOIN item ti ON ti.item_id = trh.take_item_item_id
+      LEFT JOIN embedding e ON e.original_id = trh.take_item_item_id AND e.original_type = 0
+      WHERE trh.give_item_item_id = :giveItemId
+        AND gi.item_status = 'AVAILABLE'
+        AND trh.trade_status <> 2
+        AND NOT EXISTS (
+            SELECT 1 FROM member_block mb
+            WHERE (mb.blocker_member_id = gi.member_member_id AND mb.blocked_member_id = ti.member_member_id)
+               OR (mb.blocker_member_id = ti.member_member_id AND mb.blocked_member_id = gi.member_member_id)
+        )
+      ORDER BY e.embedding <=> CAST(:targetVector AS vector) ASC NULLS LAST,
+               trh.created_date DESC,
+               trh.trade_request_history_id DESC
+      """,
+    countQuery = """
+      SELECT COUNT(*)
+      FROM trade_request_history trh
+      JOIN item gi ON gi.item_id = trh.give_item_item_id
+      JOIN item ti ON ti.item_id = trh.take_item_item_id
+      WHERE trh.give_item_item_id = :giveItemId
+        AND gi.item_status = 'AVAILABLE'
+        AND trh.trade_status <> 2
+        AND NOT EXISTS (
+            SELECT 1 FROM member_block mb
+            WHERE (mb.blocker_member_id = gi.member_member_id AND mb.blocked_member_id = ti.member_member_id)
+               OR (mb.blocker_member_id = ti.member_member_id AND mb.blocked_member_id = gi.member_member_id)
+        )
+      """,
+    nativeQuery = true)
+  Page<UUID> findAiRecommendedIdsByGiveItem(
+    @Param("giveItemId") UUID giveItemId,
+    @Param("targetVector") String targetVector,
+    Pageable pageable
+  );
+
+  // AI 추천순 ID 페이지에 해당하는 거래 요청 조회 (정렬은 호출부에서 ID 순서로 복원)
   @Query("SELECT trh FROM TradeRequestHistory trh " +
       "JOIN FETCH trh.takeItem ti " +
       "JOIN FETCH trh.giveItem gi " +
-      "WHERE trh.giveItem = :giveItem " +
-      "AND trh.giveItem.itemStatus = com.romrom.common.constant.ItemStatus.AVAILABLE " +
-      "AND trh.tradeStatus <> com.romrom.common.constant.TradeStatus.CANCELED " +
-      "AND NOT EXISTS (" +
-      "    SELECT 1 FROM MemberBlock mb " +
-      "    WHERE (mb.blockerMember = trh.giveItem.member AND mb.blockedMember = trh.takeItem.member) " +
-      "       OR (mb.blockerMember = trh.takeItem.member AND mb.blockedMember = trh.giveItem.member)" +
-      ")")
-  List<TradeRequestHistory> findAllByGiveItem(@Param("giveItem") Item giveItem);
+      "WHERE trh.tradeRequestHistoryId IN :tradeRequestHistoryIds")
+  List<TradeRequestHistory> findAllWithItemsByTradeRequestHistoryIdIn(
+    @Param("tradeRequestHistoryIds") Collection<UUID> tradeRequestHistoryIds);
 
   void deleteAllByTakeItemItemId(UUID itemId);
 
@@ -0,0 +1,160 @@
+package com.romrom.item.service;
+
+import com.romrom.common.constant.InteractionType;
+import com.romrom.common.constant.ItemCategory;
+import com.romrom.item.config.InteractionScoreConfig;
+import com.romrom.item.config.RecommendationConfig;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자 상호작용 점수 집계기
+ * - 조회/좋아요/좋아요 취소 이벤트를 (회원, 카테고리)별 증감분으로 메모리에서 합산 (이벤트마다 트랜잭션/행 잠금 없음)
+ * - 주기 또는 대기 키 수 임계치 도달 시 INSERT ... ON CONFLICT DO UPDATE 배치로 반영
+ *   (증감 연산이라 다중 인스턴스에서 동시에 반영해도 유실 없음)
+ * - 반영 실패 시 증감분을 되돌려 다음 주기에 재시도, 종료 시 남은 증감분 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InteractionScoreAggregator {
+
+  // 파라미터: memberId, categoryCode, likeDelta, viewDelta, likeWeight, viewWeight (신규 행)
+  //          likeDelta, viewDelta, likeDelta, likeWeight, viewDelta, viewWeight (기존 행 갱신)
+  // ON CONFLICT 의 SET 절은 갱신 전 행 값을 참조하므로 like_count/view_count 를 다시 계산해 total_score 를 구한다
+  private static final String UPSERT_INTERACTION_SCORE_SQL =
+      "INSERT INTO user_interaction_score "
+          + "(user_interaction_score_id, member_member_id, item_category, like_count, view_count, total_score, created_date, updated_date) "
+          + "SELECT gen_random_uuid(), v.member_id, v.item_category, v.like_count, v.view_count, "
+          + "v.like_count * v.like_weight + v.view_count * v.view_weight, NOW(), NOW() "
+          + "FROM (SELECT CAST(? AS uuid) AS member_id, CAST(? AS integer) AS item_category, "
+          + "GREATEST(CAST(? AS integer), 0) AS like_count, GREATEST(CAST(? AS integer), 0) AS view_count, "
+          + "CAST(? AS double precision) AS like_weight, CAST(? AS double precision) AS view_weight) v "
+          + "ON CONFLICT (member_member_id, item_category) DO UPDATE SET "
+          + "like_count = GREATEST(COALESCE(user_interaction_score.like_count, 0) + ?, 0), "
+          + "view_count = GREATEST(COALESCE(user_interaction_score.view_count, 0) + ?, 0), "
+          + "total_score = GREATEST(COALESCE(user_interaction_score.like_count, 0) + ?, 0) * ? "
+          + "+ GREATEST(COALESCE(user_interaction_score.view_count, 0) + ?, 0) * ?, "
+          + "updated_date = NOW()";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final InteractionScoreConfig interactionScoreConfig;
+  private final RecommendationConfig recommendationConfig;
+
+  // 아직 DB에 반영되지 않은 증감분 (좋아요/조회 증감이 모두 0이 되면 키 제거)
+  private final ConcurrentHashMap<ScoreKey, ScoreDelta> pendingDeltas = new ConcurrentHashMap<>();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  /**
+   * 상호작용 이벤트 기록 (메모리 합산만 수행)
+   */
+  public void record(UUID memberId, ItemCategory category, InteractionType type) {
+    if (memberId == null || category == null || type == null) {
+      return;
+    }
+    ScoreDelta delta = switch (type) {
+      case VIEW -> new ScoreDelta(0, 1);
+      case LIKE -> new ScoreDelta(1, 0);
+      case UNLIKE -> new ScoreDelta(-1, 0);
+    };
+    addDelta(new ScoreKey(memberId, category), delta);
+
+    // 대기 키가 임계치를 넘으면 주기를 기다리지 않고 반영 (이미 반영 중이면 그 스레드에 맡김)
+    if (pendingDeltas.size() >= interactionScoreConfig.getFlushThreshold() && flushLock.tryLock()) {
+      try {
+        flushPending();
+      } finally {
+        flushLock.unlock();
+      }
+    }
+  }
+
+  @Scheduled(fixedDelayString = "${item.interaction-score.flush-interval-millis:2000}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      flushPending();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 상호작용 점수 증감분 반영: {}건", pendingDeltas.size());
+    flush();
+  }
+
+  private void flushPending() {
+    if (pendingDeltas.isEmpty()) {
+      return;
+    }
+
+    // 키별로 원자적으로 꺼낸다 (꺼낸 뒤 들어온 증감분은 새 항목으로 누적되어 다음 반영에 포함)
+    List<Map.Entry<ScoreKey, ScoreDelta>> drained = new ArrayList<>();
+    for (ScoreKey key : pendingDeltas.keySet()) {
+      ScoreDelta delta = pendingDeltas.remove(key);
+      if (delta != null && !delta.isZero()) {
+        drained.add(Map.entry(key, delta));
+      }
+    }
+
+    double likeWeight = recommendationConfig.getWeight().getLike();
+    double viewWeight = recommendationConfig.getWeight().getView();
+    int batchSize = Math.max(1, interactionScoreConfig.getFlushBatchSize());
+    for (int from = 0; from < drained.size(); from += batchSize) {
+      List<Map.Entry<ScoreKey, ScoreDelta>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+      List<Object[]> batchArgs = batch.stream()
+          .map(entry -> {
+            ScoreKey key = entry.getKey();
+            ScoreDelta delta = entry.getValue();
+            return new Object[]{
+                key.memberId(), key.category().getCode(),
+                delta.likeDelta(), delta.viewDelta(), likeWeight, viewWeight,
+                delta.likeDelta(), delta.viewDelta(),
+                delta.likeDelta(), likeWeight, delta.viewDelta(), viewWeight
+            };
+          })
+          .toList();
+      try {
+        jdbcTemplate.batchUpdate(UPSERT_INTERACTION_SCORE_SQL, batchArgs);
+      } catch (Exception e) {
+        log.error("상호작용 점수 반영 실패, 다음 주기에 재시도: count={}", batch.size(), e);
+        batch.forEach(entry -> addDelta(entry.getKey(), entry.getValue()));
+      }
+    }
+    log.debug("상호작용 점수 증감분 반영 완료: count={}", drained.size());
+  }
+
+  private void addDelta(ScoreKey key, ScoreDelta delta) {
+    // 합이 0이면 null 을 반환해 키 제거
+    pendingDeltas.merge(key, delta, (current, added) -> {
+      ScoreDelta sum = current.plus(added);
+      return sum.isZero() ? null : sum;
+    });
+  }
+
+  private record ScoreKey(UUID memberId, ItemCategory category) {
+  }
+
+  private record ScoreDelta(int likeDelta, int viewDelta) {
+
+    private ScoreDelta plus(ScoreDelta other) {
+      return new ScoreDelta(likeDelta + other.likeDelta, viewDelta + other.viewDelta);
+    }
+
+    private boolean isZero() {
+      return likeDelta == 0 && viewDelta == 0;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.romrom.item.service;
 
+import com.romrom.ai.service.EmbeddingJobService;
 import com.romrom.ai.service.EmbeddingService;
 import com.romrom.ai.service.VertexAiClient;
 import com.romrom.common.constant.AccountStatus;
@@ -17,6 +18,8 @@ import com.romrom.common.exception.ErrorCode;
 import com.romrom.common.repository.EmbeddingRepository;
 import com.romrom.common.service.UgcFilterService;
 import com.romrom.common.util.LocationUtil;
+import com.romrom.item.dto.ItemCursor;
+import com.romrom.item.dto.ItemCursorSlice;
 import com.romrom.item.dto.ItemRequest;
 import com.romrom.item.dto.ItemResponse;
 import com.romrom.item.entity.mongo.LikeHistory;
@@ -44,6 +47,7 @@ import com.romrom.notification.event.ItemLikedEvent;
 import com.romrom.storage.dto.StorageRequest;
 import com.romrom.storage.service.StorageService;
 import com.romrom.storage.util.FileUtil;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -80,6 +84,7 @@ public class ItemService {
   private final MemberLocationService memberLocationService;
   private final UserInteractionService userInteractionService;
   private final EmbeddingService embeddingService;
+  private final EmbeddingJobService embeddingJobService;
   private final VertexAiClient vertexAiClient;
   private final MemberRepository memberRepository;
   private final ItemImageRepository itemImageRepository;
@@ -93,6 +98,7 @@ public class ItemService {
   private final UgcFilterService ugcFilterService;
   private final StorageService storageService;
   private final HiddenItemRepository hiddenItemRepository;
+  private final LikeCountWriteBehindService likeCountWriteBehindService;
 
   // 물품 등록
   @Transactional
@@ -141,8 +147,8 @@ public class ItemService {
       memberRepository.save(member);
     }
 
-    // 아이템 임베딩 값 저장
-    embeddingService.generateAndSaveItemEmbedding(extractItemText(savedItem), savedItem.getItemId());
+    // 아이템 임베딩 생성 작업 등록 (원격 임베딩 호출은 커밋 이후 워커가 처리)
+    embeddingJobService.enqueueItemEmbedding(extractItemText(savedItem), savedItem.getItemId());
 
     return ItemResponse.builder()
         .item(savedItem)
@@ -160,10 +166,14 @@ public class ItemService {
     ugcFilterService.validate(request.getItemDescription(), "itemDescription");
 
     // 2) 필드 업데이트
+    String previousItemText = extractItemText(item);
     applyRequestToItem(request, item);
 
-    // 3) 임베딩 업데이트 (DELETE + INSERT 대신 UPDATE로 처리하여 unique constraint 위반 방지)
-    embeddingService.updateItemEmbedding(extractItemText(item), item.getItemId());
+    // 3) 임베딩 갱신 작업 등록 (텍스트가 바뀐 경우만, 커밋 이후 워커가 upsert)
+    String updatedItemText = extractItemText(item);
+    if (!updatedItemText.equals(previousItemText)) {
+      embeddingJobService.enqueueItemEmbedding(updatedItemText, item.getItemId());
+    }
 
     // 4) 이미지 업데이트
     // 기존 이미지 URL 목록 보관 (파일 삭제 대상 판별용)
@@ -263,17 +273,7 @@ public class ItemService {
     );
 
     // 회원 탐색 범위 조회
-    Double radiusInMeters = request.getMember().getSearchRadiusInMeters();
-
-    if (radiusInMeters == null) {
-      radiusInMeters = request.getRadiusInMeters();
-    }
-
-    // 회원 탐색 범위 미설정 시 10km로 적용
-    if (radiusInMeters == null) {
-      radiusInMeters = 10000.0;
-      log.debug("회원 탐색 범위 미설정 - 10km 적용: memberId={}", request.getMember().getMemberId());
-    }
+    Double radiusInMeters = resolveSearchRadiusInMeters(request);
 
     List<UserInteractionScore> userScores = null;
     List<ItemCategory> preferredCategories = null;
@@ -290,6 +290,7 @@ public class ItemService {
     // 필터링된 아이템 목록 조회
     Page<Item> itemPage = itemRepository.filterItems(
         request.getMember().getMemberId(),
+        memberBlockService.blockedIdsFor(request.getMember().getMemberId()),
         longitude,
         latitude,
         radiusInMeters,
@@ -305,6 +306,95 @@ public class ItemService {
         .build();
   }
 
+  /**
+   * 물품 목록 커서 조회 (CREATED_DATE, DISTANCE, RECOMMENDED)
+   * OFFSET/count 없이 이전 응답의 nextCursor 다음 위치부터 조회하므로 깊은 페이지도 첫 페이지와 비용이 같다.
+   * 커서가 있으면 정렬 기준/방향은 커서에 기록된 값을 따른다.
+   *
+   * @param request 커서 및 페이지 크기 요청 정보
+   * @return itemSlice, nextCursor (마지막 페이지면 null)
+   */
+  @Transactional(readOnly = true)
+  public ItemResponse getItemListByCursor(ItemRequest request) {
+    UUID memberId = request.getMember().getMemberId();
+    ItemCursor cursor = request.getCursor() == null || request.getCursor().isBlank()
+        ? null : ItemCursor.decode(request.getCursor());
+
+    ItemSortField sortField = cursor != null ? cursor.getSortField() : request.getSortField();
+    Sort.Direction dir = cursor != null ? cursor.getSortDirection() : request.getSortDirection();
+    long anchorEpochSeconds = cursor != null ? cursor.getAnchorEpochSeconds() : Instant.now().getEpochSecond();
+
+    if (sortField == ItemSortField.PREFERRED_CATEGORY) {
+      throw new CustomException(ErrorCode.UNSUPPORTED_ITEM_CURSOR_SORT_FIELD);
+    }
+
+    // 회원 위치 조회 (위치 미등록 시 최신순으로 폴백)
+    Double longitude = null;
+    Double latitude = null;
+    if (sortField == ItemSortField.DISTANCE || sortField == ItemSortField.RECOMMENDED) {
+      Optional<MemberLocation> memberLocationOptional = memberLocationRepository.findByMemberMemberId(memberId);
+      if (memberLocationOptional.isPresent()) {
+        Point<G2D> geom = memberLocationOptional.get().getGeom();
+        longitude = geom.getPosition().getLon();
+        latitude = geom.getPosition().getLat();
+      } else if (cursor != null) {
+        // 이어 보던 정렬 기준을 더 이상 적용할 수 없으므로 첫 페이지부터 다시 조회해야 함
+        throw new CustomException(ErrorCode.INVALID_ITEM_CURSOR);
+      } else {
+        log.warn("위치 미등록 회원 - 최신순으로 폴백: memberId={}", memberId);
+        sortField = ItemSortField.CREATED_DATE;
+      }
+    }
+
+    List<UserInteractionScore> userScores = null;
+    List<ItemCategory> preferredCategories = null;
+    if (sortField == ItemSortField.RECOMMENDED) {
+      userScores = userInteractionScoreRepository.findByMemberMemberId(memberId);
+      preferredCategories = memberItemCategoryRepository.findByMemberMemberId(memberId)
+          .stream()
+          .map(MemberItemCategory::getItemCategory)
+          .toList();
+    }
+
+    ItemCursorSlice itemCursorSlice = itemRepository.filterItemsByCursor(
+        memberId,
+        memberBlockService.blockedIdsFor(memberId),
+        longitude,
+        latitude,
+        resolveSearchRadiusInMeters(request),
+        userScores,
+        preferredCategories,
+        sortField,
+        dir,
+        cursor,
+        anchorEpochSeconds,
+        request.getPageSize()
+    );
+
+    return ItemResponse.builder()
+        .itemSlice(itemCursorSlice.getItemSlice())
+        .nextCursor(itemCursorSlice.getNextCursor() != null ? itemCursorSlice.getNextCursor().encode() : null)
+        .build();
+  }
+
+  /**
+   * 회원 탐색 범위 (회원 설정 → 요청값 → 기본 10km 순)
+   */
+  private Double resolveSearchRadiusInMeters(ItemRequest request) {
+    Double radiusInMeters = request.getMember().getSearchRadiusInMeters();
+
+    if (radiusInMeters == null) {
+      radiusInMeters = request.getRadiusInMeters();
+    }
+
+    // 회원 탐색 범위 미설정 시 10km로 적용
+    if (radiusInMeters == null) {
+      radiusInMeters = 10000.0;
+      log.debug("회원 탐색 범위 미설정 - 10km 적용: memberId={}", request.getMember().getMemberId());
+    }
+    return radiusInMeters;
+  }
+
   /**
    * 내가 등록한 물품 조회
    *
@@ -484,20 +574,24 @@ public class ItemService {
 
   /**
    * 물품 좋아요 & 취소
+   * - 좋아요 기록은 (memberId, itemId) 기준 멱등 삭제/생성으로 토글 (중복/동시 요청에도 기록은 최대 1개)
+   * - 좋아요 수는 실제로 기록이 생성/삭제된 요청만 write-behind 카운터에 반영 (물품/회원 행을 잠그지 않음)
+   * - 엔티티를 직접 수정하지 않으므로 읽기 전용 트랜잭션으로 처리
    *
    * @param request UUID itemId
    */
-  @Transactional
+  @Transactional(readOnly = true)
   public ItemResponse likeOrUnlikeItem(ItemRequest request) {
     Member member = request.getMember();
     Item item = findItemById(request.getItemId());
+    UUID ownerMemberId = item.getMember().getMemberId();
 
     // 본인 게시물에는 좋아요 달 수 없으므로 예외 처리
-    if (member.getMemberId().equals(item.getMember().getMemberId())) {
+    if (member.getMemberId().equals(ownerMemberId)) {
       log.debug("좋아요 등록 실패 : 본인의 게시물에는 좋아요를 달 수 없음");
       throw new CustomException(ErrorCode.SELF_LIKE_NOT_ALLOWED);
     }
-    memberBlockService.verifyNotBlocked(member.getMemberId(), item.getMember().getMemberId());
+    memberBlockService.verifyNotBlocked(member.getMemberId(), ownerMemberId);
 
     // 삭제된 물품에는 좋아요 불가
     if (item.getIsDeleted()) {
@@ -506,13 +600,9 @@ public class ItemService {
     }
 
     // 좋아요 존재시 취소 로직
-    if (likeHistoryRepository.existsByMemberIdAndItemId(member.getMemberId(), item.getItemId())) {
+    if (likeHistoryRepository.deleteIfPresent(member.getMemberId(), item.getItemId())) {
       log.debug("이미 좋아요를 누른 글에는 좋아요 취소를 진행합니다 : 물품={}", item.getItemId());
-
-      likeHistoryRepository.deleteByMemberIdAndItemId(member.getMemberId(), item.getItemId());
-      item.decreaseLikeCount();
-      Item savedDecresedLikeItem = itemRepository.save(item);
-      item.getMember().decreaseTotalLikeCount();
+      likeCountWriteBehindService.recordLikeDelta(item.getItemId(), ownerMemberId, -1);
 
       // 사용자 행동 점수 업데이트
       userInteractionService.updateInteractionScore(
@@ -521,48 +611,59 @@ public class ItemService {
           InteractionType.UNLIKE
       );
 
-      log.debug("좋아요 취소 완료 : likes={}", item.getLikeCount());
+      int likeCount = currentLikeCount(item);
+      log.debug("좋아요 취소 완료 : likes={}", likeCount);
 
       return ItemResponse.builder()
-          .item(savedDecresedLikeItem)
+          .item(item)
+          .likeCount(likeCount)
           .isLiked(false)
           .build();
     }
 
     log.debug("좋아요가 없는 글에는 좋아요 등록을 진행합니다 : 물품={}", item.getItemId());
-    likeHistoryRepository.save(LikeHistory.builder()
-        .itemId(item.getItemId())
-        .memberId(member.getMemberId())
-        .likeContentType(LikeContentType.ITEM)
-        .build());
+    boolean liked = likeHistoryRepository.insertIfAbsent(member.getMemberId(), item.getItemId(), LikeContentType.ITEM);
 
-    item.increaseLikeCount();
-    Item savedIncreasedLikeItem = itemRepository.save(item);
-    item.getMember().increaseTotalLikeCount();
+    // 동시 요청으로 이미 생성된 경우 카운트/알림 중복 방지
+    if (liked) {
+      likeCountWriteBehindService.recordLikeDelta(item.getItemId(), ownerMemberId, 1);
 
-    // 사용자 행동 점수 업데이트
-    userInteractionService.updateInteractionScore(
-        member.getMemberId(),
-        item.getItemCategory(),
-        InteractionType.LIKE
-    );
+      // 사용자 행동 점수 업데이트
+      userInteractionService.updateInteractionScore(
+          member.getMemberId(),
+          item.getItemCategory(),
+          InteractionType.LIKE
+      );
+
+      // 좋아요 알림 발송
+      ItemLikedEvent event = new ItemLikedEvent(
+        ownerMemberId,
+        item.getItemId(),
+        item.getItemName(),
+        member.getNickname()
+      );
+      eventPublisher.publishEvent(event);
+    }
 
-    log.debug("좋아요 등록 완료 : likes={}", item.getLikeCount());
+    int likeCount = currentLikeCount(item);
+    log.debug("좋아요 등록 완료 : likes={}", likeCount);
 
-    // 좋아요 알림 발송
-    ItemLikedEvent event = new ItemLikedEvent(
-      item.getMember().getMemberId(),
-      item.getItemId(),
-      item.getItemName(),
-      member.getNickname()
-    );
-    eventPublisher.publishEvent(event);
     return ItemResponse.builder()
-        .item(savedIncreasedLikeItem)
+        .item(item)
+        .likeCount(likeCount)
         .isLiked(true)
         .build();
   }
 
+  /**
+   * 응답용 좋아요 수: DB 값 + 아직 반영되지 않은 증감분
+   * (영속 엔티티는 수정하지 않음 - 이후 쓰기 트랜잭션에서 flush 되면 write-behind 증감분을 덮어씀)
+   */
+  private int currentLikeCount(Item item) {
+    long pendingDelta = likeCountWriteBehindService.pendingItemLikeDelta(item.getItemId());
+    return (int) Math.max(0, item.getLikeCount() + pendingDelta);
+  }
+
   /**
    * 좋아요한 물품 목록 조회
    *
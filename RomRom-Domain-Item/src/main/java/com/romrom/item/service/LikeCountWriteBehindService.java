@@ -0,0 +1,104 @@
+package com.romrom.item.service;
+
+import com.romrom.item.config.LikeCountConfig;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 좋아요 수 write-behind 카운터
+ * - 좋아요/취소 요청은 물품/판매자별 증감분만 메모리에 누적 (행 잠금 없음)
+ * - 주기적으로 누적분을 꺼내 item.like_count / member.total_like_count 에 배치 UPDATE (증감 연산이라 다중 인스턴스에서도 안전)
+ * - 반영 실패 시 증감분을 되돌려 다음 주기에 재시도, 종료 시 남은 증감분 반영
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountWriteBehindService {
+
+  private static final String UPDATE_ITEM_LIKE_COUNT_SQL =
+      "UPDATE item SET like_count = GREATEST(COALESCE(like_count, 0) + ?, 0) WHERE item_id = ?";
+  private static final String UPDATE_MEMBER_TOTAL_LIKE_COUNT_SQL =
+      "UPDATE member SET total_like_count = GREATEST(COALESCE(total_like_count, 0) + ?, 0) WHERE member_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LikeCountConfig likeCountConfig;
+
+  // 아직 DB에 반영되지 않은 증감분 (합이 0이 되면 키 제거)
+  private final ConcurrentHashMap<UUID, Long> pendingItemLikeDeltas = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<UUID, Long> pendingMemberLikeDeltas = new ConcurrentHashMap<>();
+
+  /**
+   * 좋아요 증감 기록 (물품 좋아요 수 + 판매자 받은 좋아요 수)
+   */
+  public void recordLikeDelta(UUID itemId, UUID ownerMemberId, int delta) {
+    addDelta(pendingItemLikeDeltas, itemId, delta);
+    addDelta(pendingMemberLikeDeltas, ownerMemberId, delta);
+  }
+
+  /**
+   * 이 인스턴스에서 아직 반영되지 않은 물품 좋아요 증감분 (응답의 좋아요 수 보정용)
+   */
+  public long pendingItemLikeDelta(UUID itemId) {
+    return pendingItemLikeDeltas.getOrDefault(itemId, 0L);
+  }
+
+  @Scheduled(fixedDelayString = "${item.like-count.flush-interval-millis:1000}")
+  public void flush() {
+    flushDeltas(pendingItemLikeDeltas, UPDATE_ITEM_LIKE_COUNT_SQL, "item");
+    flushDeltas(pendingMemberLikeDeltas, UPDATE_MEMBER_TOTAL_LIKE_COUNT_SQL, "member");
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 좋아요 수 증감분 반영: item={}, member={}",
+        pendingItemLikeDeltas.size(), pendingMemberLikeDeltas.size());
+    flush();
+  }
+
+  private void flushDeltas(ConcurrentHashMap<UUID, Long> pendingDeltas, String updateSql, String target) {
+    if (pendingDeltas.isEmpty()) {
+      return;
+    }
+
+    // 키별로 원자적으로 꺼낸다 (꺼낸 뒤 들어온 증감분은 새 항목으로 누적되어 다음 주기에 반영)
+    List<Map.Entry<UUID, Long>> drained = new ArrayList<>();
+    for (UUID key : pendingDeltas.keySet()) {
+      Long delta = pendingDeltas.remove(key);
+      if (delta != null && delta != 0L) {
+        drained.add(Map.entry(key, delta));
+      }
+    }
+
+    int batchSize = Math.max(1, likeCountConfig.getFlushBatchSize());
+    for (int from = 0; from < drained.size(); from += batchSize) {
+      List<Map.Entry<UUID, Long>> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+      List<Object[]> batchArgs = batch.stream()
+          .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+          .toList();
+      try {
+        jdbcTemplate.batchUpdate(updateSql, batchArgs);
+      } catch (Exception e) {
+        log.error("좋아요 수 반영 실패, 다음 주기에 재시도: target={}, count={}", target, batch.size(), e);
+        batch.forEach(entry -> addDelta(pendingDeltas, entry.getKey(), entry.getValue()));
+      }
+    }
+    log.debug("좋아요 수 증감분 반영 완료: target={}, count={}", target, drained.size());
+  }
+
+  private void addDelta(ConcurrentHashMap<UUID, Long> pendingDeltas, UUID key, long delta) {
+    // 합이 0이면 null 을 반환해 키 제거
+    pendingDeltas.merge(key, delta, (current, added) -> {
+      long sum = current + added;
+      return sum == 0L ? null : sum;
+    });
+  }
+}
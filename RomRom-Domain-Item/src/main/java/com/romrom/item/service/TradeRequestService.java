@@ -1,6 +1,7 @@
 package com.romrom.item.service;
 
 import com.romrom.ai.EmbeddingUtil;
+import com.romrom.ai.service.ItemVectorIndexService;
 import com.romrom.common.constant.ItemStatus;
 import com.romrom.common.constant.OriginalType;
 import com.romrom.common.constant.TradeRequestSortField;
@@ -28,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -41,6 +43,7 @@ public class TradeRequestService {
   private final EmbeddingRepository embeddingRepository;
   private final ApplicationEventPublisher eventPublisher;
   private final MemberBlockService memberBlockService;
+  private final ItemVectorIndexService itemVectorIndexService;
 
   // 거래 요청 존재 여부 확인
   @Transactional
@@ -248,13 +251,13 @@ public class TradeRequestService {
     TradeRequestSortField sortField = resolveSortField(request.getSortField());
     Direction sortDirection = resolveSortDirection(request.getSortDirection());
 
-    // AI 추천 순: 임베딩 유사도 기반 in-memory 정렬 (정렬 방향 무시)
+    // AI 추천 순: 임베딩 유사도 기반 DB 정렬/페이징 (정렬 방향 무시)
     if (sortField == TradeRequestSortField.AI_RECOMMENDED) {
-      List<TradeRequestHistory> allHistories = tradeRequestHistoryRepository.findAllByTakeItem(takeItem);
       Page<TradeRequestHistory> sortedPage = sortByAiRecommendation(
-        allHistories,
         request.getMember(),
-        TradeRequestHistory::getGiveItem,
+        (targetVector, pageable) -> tradeRequestHistoryRepository
+          .findAiRecommendedIdsByTakeItem(takeItem.getItemId(), targetVector, pageable),
+        pageable -> tradeRequestHistoryRepository.findByTakeItem(takeItem, pageable),
         request.getPageNumber(),
         request.getPageSize()
       );
@@ -285,13 +288,13 @@ public class TradeRequestService {
     TradeRequestSortField sortField = resolveSortField(request.getSortField());
     Direction sortDirection = resolveSortDirection(request.getSortDirection());
 
-    // AI 추천 순: 임베딩 유사도 기반 in-memory 정렬 (정렬 방향 무시)
+    // AI 추천 순: 임베딩 유사도 기반 DB 정렬/페이징 (정렬 방향 무시)
     if (sortField == TradeRequestSortField.AI_RECOMMENDED) {
-      List<TradeRequestHistory> allHistories = tradeRequestHistoryRepository.findAllByGiveItem(giveItem);
       Page<TradeRequestHistory> sortedPage = sortByAiRecommendation(
-        allHistories,
         request.getMember(),
-        TradeRequestHistory::getTakeItem,
+        (targetVector, pageable) -> tradeRequestHistoryRepository
+          .findAiRecommendedIdsByGiveItem(giveItem.getItemId(), targetVector, pageable),
+        pageable -> tradeRequestHistoryRepository.findByGiveItem(giveItem, pageable),
         request.getPageNumber(),
         request.getPageSize()
       );
@@ -349,96 +352,61 @@ public class TradeRequestService {
 
   /**
    * AI 추천 정렬: 내 선호 카테고리 임베딩 기준으로 거래 요청 목록을 상대 물품 유사도 순으로 정렬
+   * - 정렬/페이징은 DB에서 처리하고 (trade_request_history ⋈ embedding, 코사인 거리순 LIMIT/OFFSET) 현재 페이지만 로드
    * - 내 선호 임베딩이 없으면 최신순으로 폴백
    * - 임베딩 없는 상대 물품은 후순위(최신순)로 배치
    *
-   * @param histories          정렬 대상 거래 요청 목록 (전체)
    * @param member             요청 회원 (선호 임베딩 조회 대상)
-   * @param targetItemExtractor 정렬 기준이 되는 상대 물품 추출자 (받은: giveItem, 보낸: takeItem)
+   * @param rankedIdPageLoader 선호 벡터 리터럴 + 페이지 -> 추천순 거래 요청 ID 페이지
+   * @param latestPageLoader   최신순 폴백용 페이지 조회
    * @param pageNumber         페이지 번호
    * @param pageSize           페이지 크기
    */
   private Page<TradeRequestHistory> sortByAiRecommendation(
-    List<TradeRequestHistory> histories,
     Member member,
-    Function<TradeRequestHistory, Item> targetItemExtractor,
+    BiFunction<String, Pageable, Page<UUID>> rankedIdPageLoader,
+    Function<Pageable, Page<TradeRequestHistory>> latestPageLoader,
     int pageNumber,
     int pageSize
   ) {
-    Pageable pageable = PageRequest.of(pageNumber, pageSize);
-
-    // 거래 요청이 없으면 빈 페이지
-    if (histories.isEmpty()) {
-      return new PageImpl<>(Collections.emptyList(), pageable, 0);
-    }
-
     // 내 선호 카테고리 임베딩 조회 (없으면 최신순 폴백)
     Optional<Embedding> myPreferenceEmbedding = embeddingRepository
       .findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(member.getMemberId(), OriginalType.CATEGORY);
 
     if (myPreferenceEmbedding.isEmpty()) {
       log.warn("회원(ID: {})의 선호 카테고리 임베딩 없음 -> AI 추천 정렬을 최신순으로 폴백", member.getMemberId());
-      return paginateByCreatedDateDesc(histories, pageable);
+      return latestPageLoader.apply(PageRequest.of(pageNumber, pageSize, Sort.by(Direction.DESC, "createdDate")));
     }
 
-    // 상대 물품 ID 수집 (중복 제거하되 거래 요청별 1:1 매핑 유지를 위해 분리)
-    List<UUID> targetItemIds = histories.stream()
-      .map(targetItemExtractor)
-      .map(Item::getItemId)
-      .distinct()
-      .toList();
-
-    // pgvector 유사도 검색으로 정렬된 상대 물품 ID 리스트 획득
-    List<UUID> sortedTargetItemIds = new ArrayList<>(embeddingRepository.findRecommendedItemIds(
-      targetItemIds,
+    Pageable pageable = PageRequest.of(pageNumber, pageSize);
+    Page<UUID> rankedIdPage = rankedIdPageLoader.apply(
       EmbeddingUtil.toVectorLiteral(myPreferenceEmbedding.get().getEmbedding()),
-      PageRequest.of(0, targetItemIds.size())
-    ).getContent());
-
-    // 임베딩 없는 물품을 후순위로 추가
-    targetItemIds.forEach(id -> {
-      if (!sortedTargetItemIds.contains(id)) {
-        sortedTargetItemIds.add(id);
-      }
-    });
-
-    // 상대 물품 ID -> 정렬 우선순위 매핑
-    Map<UUID, Integer> itemIdToRank = new HashMap<>();
-    for (int rank = 0; rank < sortedTargetItemIds.size(); rank++) {
-      itemIdToRank.put(sortedTargetItemIds.get(rank), rank);
+      pageable
+    );
+    if (rankedIdPage.isEmpty()) {
+      return new PageImpl<>(Collections.emptyList(), pageable, rankedIdPage.getTotalElements());
     }
 
-    // 거래 요청 정렬: 상대 물품 우선순위 -> 동일 우선순위 시 최신순
-    List<TradeRequestHistory> sortedHistories = histories.stream()
-      .sorted(Comparator
-        .<TradeRequestHistory, Integer>comparing(h ->
-          itemIdToRank.getOrDefault(targetItemExtractor.apply(h).getItemId(), Integer.MAX_VALUE))
-        .thenComparing(Comparator.comparing(TradeRequestHistory::getCreatedDate).reversed()))
+    // 현재 페이지 거래 요청만 로드 후 ID 페이지 순서로 복원
+    Map<UUID, TradeRequestHistory> historyById = tradeRequestHistoryRepository
+      .findAllWithItemsByTradeRequestHistoryIdIn(rankedIdPage.getContent())
+      .stream()
+      .collect(Collectors.toMap(TradeRequestHistory::getTradeRequestHistoryId, Function.identity()));
+    List<TradeRequestHistory> pageContent = rankedIdPage.getContent().stream()
+      .map(historyById::get)
+      .filter(Objects::nonNull)
       .toList();
 
-    return paginate(sortedHistories, pageable);
-  }
-
-  /**
-   * 임베딩 폴백용: 최신순 정렬 후 페이지네이션
-   */
-  private Page<TradeRequestHistory> paginateByCreatedDateDesc(
-    List<TradeRequestHistory> histories,
-    Pageable pageable
-  ) {
-    List<TradeRequestHistory> sorted = histories.stream()
-      .sorted(Comparator.comparing(TradeRequestHistory::getCreatedDate).reversed())
-      .toList();
-    return paginate(sorted, pageable);
+    return new PageImpl<>(pageContent, pageable, rankedIdPage.getTotalElements());
   }
 
   /**
    * In-memory 페이지네이션 헬퍼
    */
-  private Page<TradeRequestHistory> paginate(List<TradeRequestHistory> sorted, Pageable pageable) {
+  private <T> Page<T> paginate(List<T> sorted, Pageable pageable) {
     int start = (int) pageable.getOffset();
     int end = Math.min(start + pageable.getPageSize(), sorted.size());
-    List<TradeRequestHistory> pageContent = (start >= sorted.size()) ? List.of() : sorted.subList(start, end);
+    List<T> pageContent = (start >= sorted.size()) ? List.of() : sorted.subList(start, end);
     return new PageImpl<>(pageContent, pageable, sorted.size());
   }
 
@@ -449,19 +417,24 @@ public class TradeRequestService {
    */
   @Transactional(readOnly = true)
   public TradeResponse getSortedByTradeRate(TradeRequest request) {
-    // 타겟 임베딩 조회
-    Embedding targetEmbedding = embeddingRepository
-      .findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(request.getTakeItemId(), OriginalType.ITEM)
-      .orElseThrow(() -> new CustomException(ErrorCode.EMBEDDING_NOT_FOUND));
+    // 타겟 임베딩 조회 (인메모리 벡터 인덱스 우선)
+    float[] targetVector = itemVectorIndexService.findItemVector(request.getTakeItemId())
+      .orElseGet(() -> embeddingRepository
+        .findFirstByOriginalIdAndOriginalTypeOrderByCreatedDateDesc(request.getTakeItemId(), OriginalType.ITEM)
+        .map(Embedding::getEmbedding)
+        .orElseThrow(() -> new CustomException(ErrorCode.EMBEDDING_NOT_FOUND)));
 
     List<UUID> myItemIds = itemRepository.findAllAvailableItemIdsByMember(request.getMember());
+    Pageable pageable = PageRequest.of(request.getPageNumber(), request.getPageSize());
 
-    // 페이징된 유사 아이템 ID 조회
-    Page<UUID> idPage = embeddingRepository.findSimilarItemIds(
-      myItemIds,
-      EmbeddingUtil.toVectorLiteral(targetEmbedding.getEmbedding()),
-      PageRequest.of(request.getPageNumber(), request.getPageSize())
-    );
+    // 페이징된 유사 아이템 ID 조회 (인덱스 적재 시 메모리에서 정렬, 미적재 시 pgvector)
+    Page<UUID> idPage = itemVectorIndexService.findNearestItemIds(targetVector, myItemIds, myItemIds.size())
+      .map(sortedIds -> paginate(sortedIds, pageable))
+      .orElseGet(() -> embeddingRepository.findSimilarItemIds(
+        myItemIds,
+        EmbeddingUtil.toVectorLiteral(targetVector),
+        pageable
+      ));
     log.debug("물품 유사도 검색 완료: pageNumber={}, pageSize={}, totalElements={}",
       request.getPageNumber(), request.getPageSize(), idPage.getTotalElements());
 
@@ -528,15 +501,19 @@ public class TradeRequestService {
         .build();
     }
 
-    // pgvector 유사도 검색 실행 (임베딩이 존재하는 것들만 정렬)
-    List<UUID> sortedRecommendItemIds = new ArrayList<>(embeddingRepository.findRecommendedItemIds(
-      myIds,
-      EmbeddingUtil.toVectorLiteral(targetPref.get().getEmbedding()),
-      PageRequest.of(0, myIds.size())).getContent());
+    // 유사도 정렬 (임베딩이 존재하는 것들만, 인덱스 적재 시 메모리에서 / 미적재 시 pgvector)
+    float[] targetPreferenceVector = targetPref.get().getEmbedding();
+    List<UUID> sortedRecommendItemIds = new ArrayList<>(itemVectorIndexService
+      .findNearestItemIds(targetPreferenceVector, myIds, myIds.size())
+      .orElseGet(() -> embeddingRepository.findRecommendedItemIds(
+        myIds,
+        EmbeddingUtil.toVectorLiteral(targetPreferenceVector),
+        PageRequest.of(0, myIds.size())).getContent()));
 
     // 임베딩 없는 물품 추가
+    Set<UUID> rankedItemIds = new HashSet<>(sortedRecommendItemIds);
     myIds.forEach(id -> {
-      if (!sortedRecommendItemIds.contains(id)) sortedRecommendItemIds.add(id);
+      if (rankedItemIds.add(id)) sortedRecommendItemIds.add(id);
     });
 
     int recommendLimit = setRecommendCount(myIds.size());
@@ -0,0 +1,152 @@
+package com.romrom.item.service;
+
+import com.romrom.common.constant.InteractionType;
+import com.romrom.common.constant.ItemCategory;
+import com.romrom.common.util.BloomFilter;
+import com.romrom.item.config.ViewDedupConfig;
+import jakarta.annotation.PreDestroy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 물품 조회 기록 일별 중복 제거 + write-behind 저장
+ * - 조회일별 Bloom filter 로 같은 날 같은 물품 재조회를 DB 접근 없이 걸러낸다 (오늘/어제 필터만 유지)
+ * - 처음 본 조회만 모아 INSERT ... ON CONFLICT DO NOTHING 배치로 저장 (다중 인스턴스 중복은 유니크 인덱스가 제거)
+ * - 실제로 저장된 행만 상호작용 점수(VIEW)에 반영
+ * Bloom filter 오탐(확률 falsePositiveRate)인 첫 조회는 기록되지 않는다. 조회 기록은 추천 신호용이라 이 손실을 허용한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewHistoryWriteBehindService {
+
+  private static final String INSERT_VIEW_HISTORY_SQL =
+      "INSERT INTO view_history "
+          + "(view_history_id, member_member_id, item_item_id, item_category, viewed_date, created_date, updated_date) "
+          + "VALUES (gen_random_uuid(), ?, ?, ?, ?, NOW(), NOW()) "
+          + "ON CONFLICT (member_member_id, item_item_id, viewed_date) DO NOTHING";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final ViewDedupConfig viewDedupConfig;
+  private final InteractionScoreAggregator interactionScoreAggregator;
+
+  private final ConcurrentHashMap<LocalDate, BloomFilter> dailyViewFilters = new ConcurrentHashMap<>();
+  private final ConcurrentLinkedQueue<PendingView> pendingViews = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingViewCount = new AtomicInteger();
+  private final ReentrantLock flushLock = new ReentrantLock();
+
+  /**
+   * 조회 기록 (같은 날 이미 본 물품이면 무시)
+   *
+   * @return 이 조회를 저장 대기열에 넣었으면 true (오늘 처음 본 것으로 판단)
+   */
+  public boolean recordView(UUID memberId, UUID itemId, ItemCategory category, LocalDate viewedDate) {
+    BloomFilter filter = filterFor(viewedDate);
+    String viewKey = memberId.toString() + itemId;
+    if (filter.mightContain(viewKey)) {
+      return false;
+    }
+    filter.put(viewKey);
+
+    pendingViews.add(new PendingView(memberId, itemId, category, viewedDate));
+    // 대기 건수가 임계치를 넘으면 주기를 기다리지 않고 반영 (이미 반영 중이면 그 스레드에 맡김)
+    if (pendingViewCount.incrementAndGet() >= viewDedupConfig.getFlushThreshold() && flushLock.tryLock()) {
+      try {
+        flushPending();
+      } finally {
+        flushLock.unlock();
+      }
+    }
+    return true;
+  }
+
+  @Scheduled(fixedDelayString = "${item.view-dedup.flush-interval-millis:1000}")
+  public void flush() {
+    flushLock.lock();
+    try {
+      flushPending();
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    log.info("종료 전 조회 기록 반영: {}건", pendingViewCount.get());
+    flush();
+  }
+
+  private void flushPending() {
+    List<PendingView> drained = new ArrayList<>();
+    PendingView view;
+    while ((view = pendingViews.poll()) != null) {
+      pendingViewCount.decrementAndGet();
+      drained.add(view);
+    }
+    if (drained.isEmpty()) {
+      return;
+    }
+
+    int insertedCount = 0;
+    int batchSize = Math.max(1, viewDedupConfig.getFlushBatchSize());
+    for (int from = 0; from < drained.size(); from += batchSize) {
+      List<PendingView> batch = drained.subList(from, Math.min(from + batchSize, drained.size()));
+      List<Object[]> batchArgs = batch.stream()
+          .map(pending -> new Object[]{
+              pending.memberId(), pending.itemId(),
+              pending.category() != null ? pending.category().getCode() : null,
+              Date.valueOf(pending.viewedDate())
+          })
+          .toList();
+      int[] updateCounts;
+      try {
+        updateCounts = jdbcTemplate.batchUpdate(INSERT_VIEW_HISTORY_SQL, batchArgs);
+      } catch (Exception e) {
+        log.error("조회 기록 저장 실패, 다음 주기에 재시도: count={}", batch.size(), e);
+        batch.forEach(pending -> {
+          pendingViews.add(pending);
+          pendingViewCount.incrementAndGet();
+        });
+        continue;
+      }
+
+      // ON CONFLICT 로 건너뛴 행(0)은 다른 인스턴스가 이미 기록한 조회
+      for (int i = 0; i < batch.size(); i++) {
+        if (i < updateCounts.length && updateCounts[i] == 0) {
+          continue;
+        }
+        PendingView inserted = batch.get(i);
+        interactionScoreAggregator.record(inserted.memberId(), inserted.category(), InteractionType.VIEW);
+        insertedCount++;
+      }
+    }
+    log.debug("조회 기록 반영 완료: 대기 {}건, 저장 {}건", drained.size(), insertedCount);
+  }
+
+  private BloomFilter filterFor(LocalDate viewedDate) {
+    BloomFilter filter = dailyViewFilters.get(viewedDate);
+    if (filter != null) {
+      return filter;
+    }
+    BloomFilter created = dailyViewFilters.computeIfAbsent(viewedDate,
+        date -> new BloomFilter(viewDedupConfig.getExpectedDailyViews(), viewDedupConfig.getFalsePositiveRate()));
+    // 날짜가 바뀌면 어제 필터만 남기고 정리 (자정 전후 요청 처리용)
+    dailyViewFilters.keySet().removeIf(existing -> existing.isBefore(viewedDate.minusDays(1)));
+    return created;
+  }
+
+  private record PendingView(UUID memberId, UUID itemId, ItemCategory category, LocalDate viewedDate) {
+  }
+}
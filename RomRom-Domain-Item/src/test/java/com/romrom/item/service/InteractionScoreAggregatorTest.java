@@ -0,0 +1,255 @@
+package com.romrom.item.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.common.constant.InteractionType;
+import com.romrom.common.constant.ItemCategory;
+import com.romrom.common.util.InMemoryJdbcTemplate;
+import com.romrom.item.config.InteractionScoreConfig;
+import com.romrom.item.config.RecommendationConfig;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * InteractionScoreAggregator 동시성 테스트 (DB 미접근).
+ * UPSERT 배치는 InMemoryJdbcTemplate 으로 받아 ON CONFLICT DO UPDATE 와 같은 원자적 가산으로 반영하고,
+ * 여러 스레드의 이벤트가 유실 없이 합산되어 적은 수의 배치로 반영되는지 확인한다.
+ */
+@Slf4j
+class InteractionScoreAggregatorTest {
+
+  private static final int THREAD_COUNT = 32;
+  private static final int EVENTS_PER_THREAD = 250;
+  private static final int MEMBER_COUNT = 20;
+  private static final ItemCategory[] CATEGORIES = ItemCategory.values();
+  private static final long FAKE_STATEMENT_LATENCY_MICROS = 200L;
+  private static final double LIKE_WEIGHT = 3.0;
+  private static final double VIEW_WEIGHT = 1.0;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::동시_이벤트_유실없음_및_배치_반영_테스트);
+    lineLog(null);
+    timeLog(this::임계치_도달시_즉시_반영_테스트);
+    lineLog(null);
+    timeLog(this::반영_실패시_증감분_보존_및_종료시_반영_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 동시_이벤트_유실없음_및_배치_반영_테스트() {
+    List<UUID> members = Stream.generate(UUID::randomUUID).limit(MEMBER_COUNT).toList();
+
+    // 메모리 합산 + 별도 스레드의 주기적 UPSERT 배치
+    ScoreTable table = new ScoreTable();
+    ExpectedCounts expected = new ExpectedCounts();
+    InteractionScoreAggregator aggregator = table.newAggregator(new InteractionScoreConfig());
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread flusher = new Thread(() -> {
+      while (running.get()) {
+        aggregator.flush();
+        sleepMillis(5);
+      }
+    });
+    flusher.start();
+    long elapsedMillis = runConcurrentEvents(members, expected, aggregator);
+    running.set(false);
+    joinQuietly(flusher);
+    aggregator.flushOnShutdown();
+
+    int totalEvents = THREAD_COUNT * EVENTS_PER_THREAD;
+    lineLog(String.format("스레드 %d개 x 이벤트 %d회 = %d회, 키 %d개: %dms, UPSERT 배치 %d회 (%d행), 유실 %d건",
+        THREAD_COUNT, EVENTS_PER_THREAD, totalEvents, MEMBER_COUNT * CATEGORIES.length, elapsedMillis,
+        table.jdbc.batchCount(), table.jdbc.rowCount(), table.lostUpdates(expected)));
+
+    assertEquals(0, table.lostUpdates(expected), "집계기는 증감분을 잃으면 안 된다");
+    expected.counts.forEach((key, counts) -> {
+      int[] row = table.rows.get(key);
+      assertEquals(counts[0] * LIKE_WEIGHT + counts[1] * VIEW_WEIGHT, table.scores.get(key), 1e-9,
+          "total_score 는 가중치로 다시 계산되어야 한다");
+      assertEquals(counts[0], row[0]);
+      assertEquals(counts[1], row[1]);
+    });
+    // 이벤트마다 조회 후 저장하던 기존 방식은 이벤트당 2문장
+    assertTrue(table.jdbc.batchCount() < totalEvents, "이벤트마다 DB 문장을 실행하지 않아야 한다");
+    assertTrue(table.jdbc.rowCount() <= totalEvents, "같은 키의 이벤트는 합산되어 반영되어야 한다");
+  }
+
+  public void 임계치_도달시_즉시_반영_테스트() {
+    ScoreTable table = new ScoreTable();
+    InteractionScoreConfig config = new InteractionScoreConfig();
+    config.setFlushThreshold(10);
+    InteractionScoreAggregator aggregator = table.newAggregator(config);
+
+    for (int i = 0; i < 9; i++) {
+      aggregator.record(UUID.randomUUID(), ItemCategory.values()[0], InteractionType.VIEW);
+    }
+    assertEquals(0, table.rows.size(), "임계치 전에는 반영하지 않는다");
+
+    aggregator.record(UUID.randomUUID(), ItemCategory.values()[0], InteractionType.VIEW);
+    assertEquals(10, table.rows.size(), "임계치에 도달하면 주기를 기다리지 않고 반영한다");
+  }
+
+  public void 반영_실패시_증감분_보존_및_종료시_반영_테스트() {
+    ScoreTable table = new ScoreTable();
+    InteractionScoreAggregator aggregator = table.newAggregator(new InteractionScoreConfig());
+    UUID memberId = UUID.randomUUID();
+    ItemCategory category = ItemCategory.values()[0];
+    ScoreKeyView key = new ScoreKeyView(memberId, category);
+
+    aggregator.record(memberId, category, InteractionType.LIKE);
+    aggregator.record(memberId, category, InteractionType.VIEW);
+    table.jdbc.setFailWrites(true);
+    aggregator.flush();
+    assertEquals(0, table.rows.size());
+
+    table.jdbc.setFailWrites(false);
+    aggregator.record(memberId, category, InteractionType.VIEW);
+    aggregator.record(memberId, category, InteractionType.LIKE);
+    aggregator.record(memberId, category, InteractionType.UNLIKE);
+    aggregator.flushOnShutdown();
+
+    assertEquals(1, table.rows.get(key)[0]);
+    assertEquals(2, table.rows.get(key)[1]);
+    assertEquals(LIKE_WEIGHT + 2 * VIEW_WEIGHT, table.scores.get(key), 1e-9);
+  }
+
+  private long runConcurrentEvents(List<UUID> members, ExpectedCounts expected, InteractionScoreAggregator aggregator) {
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+    for (int thread = 0; thread < THREAD_COUNT; thread++) {
+      executor.submit(() -> {
+        try {
+          start.await();
+          ThreadLocalRandom random = ThreadLocalRandom.current();
+          for (int i = 0; i < EVENTS_PER_THREAD; i++) {
+            UUID memberId = members.get(random.nextInt(members.size()));
+            ItemCategory category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            // 좋아요 취소로 음수가 되지 않도록 조회/좋아요 위주로 발생
+            InteractionType type = random.nextInt(4) == 0 ? InteractionType.LIKE : InteractionType.VIEW;
+            expected.add(new ScoreKeyView(memberId, category), type);
+            aggregator.record(memberId, category, type);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    long startNanos = System.nanoTime();
+    start.countDown();
+    try {
+      assertTrue(done.await(2, TimeUnit.MINUTES));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+    executor.shutdownNow();
+    return elapsedMillis;
+  }
+
+  private static void sleepMillis(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void joinQuietly(Thread thread) {
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record ScoreKeyView(UUID memberId, ItemCategory category) {
+  }
+
+  /**
+   * 발생시킨 이벤트 기준 기대값 (likeCount, viewCount)
+   */
+  private static class ExpectedCounts {
+
+    private final Map<ScoreKeyView, int[]> counts = new ConcurrentHashMap<>();
+
+    private void add(ScoreKeyView key, InteractionType type) {
+      counts.compute(key, (k, current) -> {
+        int[] next = current == null ? new int[2] : current.clone();
+        if (type == InteractionType.LIKE) {
+          next[0]++;
+        } else {
+          next[1]++;
+        }
+        return next;
+      });
+    }
+  }
+
+  /**
+   * user_interaction_score 행: (회원, 카테고리) → (like_count, view_count), total_score
+   */
+  private static class ScoreTable {
+
+    private final Map<ScoreKeyView, int[]> rows = new ConcurrentHashMap<>();
+    private final Map<ScoreKeyView, Double> scores = new ConcurrentHashMap<>();
+    private final InMemoryJdbcTemplate jdbc = new InMemoryJdbcTemplate(this::upsert)
+        .withStatementLatency(FAKE_STATEMENT_LATENCY_MICROS, TimeUnit.MICROSECONDS);
+
+    private InteractionScoreAggregator newAggregator(InteractionScoreConfig config) {
+      RecommendationConfig recommendationConfig = new RecommendationConfig();
+      RecommendationConfig.Weight weight = new RecommendationConfig.Weight();
+      weight.setLike(LIKE_WEIGHT);
+      weight.setView(VIEW_WEIGHT);
+      recommendationConfig.setWeight(weight);
+      return new InteractionScoreAggregator(jdbc.jdbcTemplate(), config, recommendationConfig);
+    }
+
+    // ON CONFLICT DO UPDATE 와 같이 행 단위 원자적 가산
+    private int upsert(String sql, Object[] args) {
+      ScoreKeyView key = new ScoreKeyView((UUID) args[0], ItemCategory.fromCode((Integer) args[1]));
+      int likeDelta = (Integer) args[6];
+      int viewDelta = (Integer) args[7];
+      double likeWeight = (Double) args[9];
+      double viewWeight = (Double) args[11];
+      rows.compute(key, (k, current) -> {
+        int[] next = current == null ? new int[2] : current.clone();
+        next[0] = Math.max(0, next[0] + likeDelta);
+        next[1] = Math.max(0, next[1] + viewDelta);
+        scores.put(k, next[0] * likeWeight + next[1] * viewWeight);
+        return next;
+      });
+      return 1;
+    }
+
+    private int lostUpdates(ExpectedCounts expected) {
+      int lost = 0;
+      for (Map.Entry<ScoreKeyView, int[]> entry : expected.counts.entrySet()) {
+        int[] row = rows.getOrDefault(entry.getKey(), new int[2]);
+        lost += (entry.getValue()[0] - row[0]) + (entry.getValue()[1] - row[1]);
+      }
+      return lost;
+    }
+  }
+}
@@ -0,0 +1,310 @@
+package com.romrom.item.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.constant.ItemCategory;
+import com.romrom.common.constant.LikeContentType;
+import com.romrom.common.util.InMemoryJdbcTemplate;
+import com.romrom.item.config.LikeCountConfig;
+import com.romrom.item.dto.ItemRequest;
+import com.romrom.item.dto.ItemResponse;
+import com.romrom.item.entity.postgres.Item;
+import com.romrom.item.repository.mongo.LikeHistoryRepository;
+import com.romrom.item.repository.postgres.ItemRepository;
+import com.romrom.member.entity.Member;
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * LikeCountWriteBehindService 동시성 테스트 (DB/Mongo 미접근).
+ * - item/member 좋아요 수 배치 UPDATE 는 InMemoryJdbcTemplate 으로 받는다 (행당 고정 지연)
+ * - LikeHistory 는 (memberId, itemId) 집합 (insertIfAbsent / deleteIfPresent 와 같은 멱등 의미)
+ * 여러 스레드가 실제 ItemService.likeOrUnlikeItem 으로 같은 물품을 반복 토글한 뒤
+ * DB 좋아요 수가 실제 좋아요 기록 수와 정확히 같은지, 조회한 Item 엔티티는 수정되지 않는지 확인한다.
+ */
+@Slf4j
+class LikeCountWriteBehindServiceTest {
+
+  private static final int THREAD_COUNT = 32;
+  private static final int TOGGLES_PER_THREAD = 300;
+  private static final int MEMBERS_PER_THREAD = 4;
+  private static final long FAKE_UPDATE_LATENCY_MICROS = 200L;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::동시_토글후_좋아요수_정합성_테스트);
+    lineLog(null);
+    timeLog(this::토글_응답에_미반영_증감분_포함_엔티티는_미수정_테스트);
+    lineLog(null);
+    timeLog(this::반영_실패시_증감분_보존_테스트);
+    lineLog(null);
+    timeLog(this::상쇄된_증감분은_반영하지_않음_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 동시_토글후_좋아요수_정합성_테스트() {
+    LikeCountTable database = new LikeCountTable();
+    LikeCountWriteBehindService service = database.newService();
+    LikeHistoryStore likeStore = new LikeHistoryStore();
+    Item item = newItem(0);
+    ItemService itemService = newItemService(item, likeStore, service);
+
+    // 토글은 메모리 증감만, 별도 스레드가 주기적으로 배치 UPDATE
+    AtomicBoolean running = new AtomicBoolean(true);
+    Thread flusher = new Thread(() -> {
+      while (running.get()) {
+        service.flush();
+        sleepMillis(5);
+      }
+    });
+    flusher.start();
+    long elapsedMillis = runConcurrentToggles(itemService, item);
+    running.set(false);
+    joinQuietly(flusher);
+    service.flushOnShutdown();
+
+    int totalToggles = THREAD_COUNT * TOGGLES_PER_THREAD;
+    UUID itemId = item.getItemId();
+    UUID ownerMemberId = item.getMember().getMemberId();
+    lineLog("스레드 " + THREAD_COUNT + "개 x 토글 " + TOGGLES_PER_THREAD + "회 = " + totalToggles + "회: " + elapsedMillis
+        + "ms, 기록 변경 " + likeStore.changeCount.get() + "회 -> UPDATE " + database.jdbc.rowCount() + "회");
+
+    assertEquals(likeStore.likes.size(), database.count(itemId), "DB 좋아요 수는 실제 좋아요 기록 수와 같아야 한다");
+    assertEquals(likeStore.likes.size(), database.count(ownerMemberId),
+        "판매자 받은 좋아요 수도 같은 증감분으로 반영되어야 한다");
+    assertEquals(0, service.pendingItemLikeDelta(itemId));
+    assertEquals(0, item.getLikeCount(), "조회한 Item 엔티티의 좋아요 수는 수정하지 않아야 한다");
+    assertTrue(database.jdbc.rowCount() < likeStore.changeCount.get(),
+        "write-behind 는 기록 변경마다 UPDATE 하지 않아야 한다");
+  }
+
+  public void 토글_응답에_미반영_증감분_포함_엔티티는_미수정_테스트() {
+    LikeCountTable database = new LikeCountTable();
+    LikeCountWriteBehindService service = database.newService();
+    Item item = newItem(5);
+    ItemService itemService = newItemService(item, new LikeHistoryStore(), service);
+    Member first = newMember();
+    Member second = newMember();
+
+    ItemResponse firstLike = itemService.likeOrUnlikeItem(likeRequest(first, item));
+    ItemResponse secondLike = itemService.likeOrUnlikeItem(likeRequest(second, item));
+    ItemResponse firstUnlike = itemService.likeOrUnlikeItem(likeRequest(first, item));
+
+    assertTrue(firstLike.getIsLiked());
+    assertEquals(6, firstLike.getLikeCount());
+    assertEquals(7, secondLike.getLikeCount());
+    assertFalse(firstUnlike.getIsLiked());
+    assertEquals(6, firstUnlike.getLikeCount());
+    // 읽기 전용 트랜잭션의 영속 엔티티를 수정하면 이후 쓰기 트랜잭션 flush 때 증감분을 덮어쓴다
+    assertEquals(5, item.getLikeCount(), "Item 엔티티의 좋아요 수는 DB 값 그대로여야 한다");
+
+    service.flush();
+    assertEquals(1, database.count(item.getItemId()), "DB 에는 증감분(+1)만 더해져야 한다");
+  }
+
+  public void 반영_실패시_증감분_보존_테스트() {
+    UUID itemId = UUID.randomUUID();
+    UUID ownerMemberId = UUID.randomUUID();
+    LikeCountTable database = new LikeCountTable();
+    LikeCountWriteBehindService service = database.newService();
+
+    service.recordLikeDelta(itemId, ownerMemberId, 1);
+    service.recordLikeDelta(itemId, ownerMemberId, 1);
+
+    database.jdbc.setFailWrites(true);
+    service.flush();
+    assertEquals(0, database.count(itemId));
+    assertEquals(2, service.pendingItemLikeDelta(itemId), "실패한 증감분은 다음 주기로 남아야 한다");
+
+    database.jdbc.setFailWrites(false);
+    service.recordLikeDelta(itemId, ownerMemberId, 1);
+    service.flush();
+    assertEquals(3, database.count(itemId));
+    assertEquals(3, database.count(ownerMemberId));
+    assertEquals(0, service.pendingItemLikeDelta(itemId));
+  }
+
+  public void 상쇄된_증감분은_반영하지_않음_테스트() {
+    UUID itemId = UUID.randomUUID();
+    LikeCountTable database = new LikeCountTable();
+    LikeCountWriteBehindService service = database.newService();
+
+    service.recordLikeDelta(itemId, UUID.randomUUID(), 1);
+    service.recordLikeDelta(itemId, UUID.randomUUID(), -1);
+    service.flush();
+
+    // 물품 증감은 상쇄되어 UPDATE 없음, 판매자 2명은 각각 +1 / -1 반영
+    assertEquals(0, database.count(itemId));
+    assertEquals(2, database.jdbc.rowCount());
+  }
+
+  private long runConcurrentToggles(ItemService itemService, Item item) {
+    ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+    CountDownLatch start = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+    for (int thread = 0; thread < THREAD_COUNT; thread++) {
+      List<Member> members = Stream.generate(LikeCountWriteBehindServiceTest::newMember).limit(MEMBERS_PER_THREAD).toList();
+      executor.submit(() -> {
+        try {
+          start.await();
+          for (int i = 0; i < TOGGLES_PER_THREAD; i++) {
+            Member member = members.get(ThreadLocalRandom.current().nextInt(members.size()));
+            itemService.likeOrUnlikeItem(likeRequest(member, item));
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          done.countDown();
+        }
+      });
+    }
+    long startNanos = System.nanoTime();
+    start.countDown();
+    try {
+      assertTrue(done.await(2, TimeUnit.MINUTES));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+    executor.shutdownNow();
+    return elapsedMillis;
+  }
+
+  private static Item newItem(int likeCount) {
+    return Item.builder()
+        .itemId(UUID.randomUUID())
+        .member(newMember())
+        .itemName("캠핑 의자")
+        .itemCategory(ItemCategory.SPORTS_LEISURE)
+        .likeCount(likeCount)
+        .build();
+  }
+
+  private static Member newMember() {
+    return Member.builder()
+        .memberId(UUID.randomUUID())
+        .nickname("테스터")
+        .build();
+  }
+
+  private static ItemRequest likeRequest(Member member, Item item) {
+    return ItemRequest.builder()
+        .member(member)
+        .itemId(item.getItemId())
+        .build();
+  }
+
+  /**
+   * 실제 ItemService 생성: 물품 조회·좋아요 기록·write-behind 카운터만 연결하고 나머지 의존성은 mock
+   */
+  private static ItemService newItemService(Item item, LikeHistoryStore likeStore, LikeCountWriteBehindService service) {
+    ItemRepository itemRepository = mock(ItemRepository.class);
+    when(itemRepository.findByItemIdAndIsDeletedFalse(item.getItemId())).thenReturn(Optional.of(item));
+    List<Object> collaborators = List.of(itemRepository, likeStore.newRepository(), service);
+    try {
+      Constructor<?> constructor = ItemService.class.getConstructors()[0];
+      Object[] args = Arrays.stream(constructor.getParameterTypes())
+          .map(type -> collaborators.stream().filter(type::isInstance).findFirst().orElseGet(() -> mock(type)))
+          .toArray();
+      return (ItemService) constructor.newInstance(args);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static void sleepMillis(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void joinQuietly(Thread thread) {
+    try {
+      thread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * LikeHistory 기록: (memberId, itemId) 유니크
+   */
+  private static class LikeHistoryStore {
+
+    private final Set<String> likes = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger changeCount = new AtomicInteger();
+
+    private LikeHistoryRepository newRepository() {
+      LikeHistoryRepository likeHistoryRepository = mock(LikeHistoryRepository.class);
+      when(likeHistoryRepository.insertIfAbsent(any(UUID.class), any(UUID.class), any(LikeContentType.class)))
+          .thenAnswer(invocation -> changed(likes.add(key(invocation.getArgument(0), invocation.getArgument(1)))));
+      when(likeHistoryRepository.deleteIfPresent(any(UUID.class), any(UUID.class)))
+          .thenAnswer(invocation -> changed(likes.remove(key(invocation.getArgument(0), invocation.getArgument(1)))));
+      return likeHistoryRepository;
+    }
+
+    private boolean changed(boolean changed) {
+      if (changed) {
+        changeCount.incrementAndGet();
+      }
+      return changed;
+    }
+
+    private static String key(UUID memberId, UUID itemId) {
+      return memberId + ":" + itemId;
+    }
+  }
+
+  /**
+   * item.like_count / member.total_like_count 값 (UPDATE 1행당 고정 지연)
+   */
+  private static class LikeCountTable {
+
+    private final Map<UUID, Long> counts = new ConcurrentHashMap<>();
+    private final InMemoryJdbcTemplate jdbc = new InMemoryJdbcTemplate(this::applyUpdate)
+        .withRowLatency(FAKE_UPDATE_LATENCY_MICROS, TimeUnit.MICROSECONDS);
+
+    private LikeCountWriteBehindService newService() {
+      return new LikeCountWriteBehindService(jdbc.jdbcTemplate(), new LikeCountConfig());
+    }
+
+    private int applyUpdate(String sql, Object[] args) {
+      counts.merge((UUID) args[1], (Long) args[0], (current, added) -> Math.max(0, current + added));
+      return 1;
+    }
+
+    private long count(UUID key) {
+      return counts.getOrDefault(key, 0L);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.romrom.item.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.romrom.common.constant.InteractionType;
+import com.romrom.common.constant.ItemCategory;
+import com.romrom.common.util.InMemoryJdbcTemplate;
+import com.romrom.item.config.ViewDedupConfig;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ViewHistoryWriteBehindService 단위 테스트 (DB 미접근).
+ * 배치 INSERT 는 InMemoryJdbcTemplate 으로 받아 (회원, 물품, 조회일) 유니크 집합에 반영한다 (ON CONFLICT DO NOTHING).
+ * 재조회가 많은 합성 조회 스트림으로 기존 방식(조회마다 exists + 첫 조회 insert) 대비
+ * 절감된 DB 문장 수와 Bloom filter 오탐률(기록되지 않은 첫 조회 비율)을 측정한다.
+ */
+@Slf4j
+class ViewHistoryWriteBehindServiceTest {
+
+  private static final int VIEW_COUNT = Integer.getInteger("view.benchmark.views", 300_000);
+  private static final int MEMBER_COUNT = 3_000;
+  private static final int ITEM_COUNT = 2_000;
+  // 회원별 자주 보는 물품 수 (같은 물품 상세 재진입 패턴)
+  private static final int FAVORITE_ITEMS_PER_MEMBER = 15;
+  private static final ItemCategory CATEGORY = ItemCategory.values()[0];
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::대량_조회_스트림_DB_절감_및_오탐률_측정);
+    lineLog(null);
+    timeLog(this::다른_인스턴스가_기록한_조회는_점수에_반영하지_않음_테스트);
+    lineLog(null);
+    timeLog(this::날짜가_바뀌면_다시_기록_테스트);
+    lineLog(null);
+    timeLog(this::저장_실패시_재시도_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 대량_조회_스트림_DB_절감_및_오탐률_측정() {
+    Random random = new Random(7L);
+    List<UUID> members = randomIds(MEMBER_COUNT);
+    List<UUID> items = randomIds(ITEM_COUNT);
+    List<List<UUID>> favorites = new ArrayList<>();
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      List<UUID> favoriteItems = new ArrayList<>();
+      for (int j = 0; j < FAVORITE_ITEMS_PER_MEMBER; j++) {
+        favoriteItems.add(items.get(random.nextInt(ITEM_COUNT)));
+      }
+      favorites.add(favoriteItems);
+    }
+
+    ViewDedupConfig config = new ViewDedupConfig();
+    config.setExpectedDailyViews(100_000L);
+    ViewTable viewTable = new ViewTable();
+    ViewHistoryWriteBehindService service = viewTable.newService(config);
+    LocalDate today = LocalDate.of(2026, 10, 18);
+
+    Set<String> firstViews = new HashSet<>();
+    for (int i = 0; i < VIEW_COUNT; i++) {
+      int memberIndex = random.nextInt(MEMBER_COUNT);
+      UUID memberId = members.get(memberIndex);
+      // 80%는 자주 보는 물품 재조회, 20%는 새 물품 탐색
+      UUID itemId = random.nextInt(5) < 4
+          ? favorites.get(memberIndex).get(random.nextInt(FAVORITE_ITEMS_PER_MEMBER))
+          : items.get(random.nextInt(ITEM_COUNT));
+      firstViews.add(memberId + ":" + itemId);
+      service.recordView(memberId, itemId, CATEGORY, today);
+    }
+    service.flushOnShutdown();
+
+    int uniqueViews = firstViews.size();
+    int storedViews = viewTable.rows.size();
+    int missedFirstViews = uniqueViews - storedViews;
+    int legacyStatements = VIEW_COUNT + uniqueViews;   // 조회마다 exists 1회 + 첫 조회 insert 1회
+    int writeBehindStatements = viewTable.jdbc.batchCount();
+    double falsePositiveRate = (double) missedFirstViews / uniqueViews;
+
+    log.info("조회 {}건 / 하루 첫 조회 {}건 / 재조회 {}건", VIEW_COUNT, uniqueViews, VIEW_COUNT - uniqueViews);
+    log.info("기존 방식 DB 문장: {}회 (exists {} + insert {}), 트랜잭션 {}회",
+        legacyStatements, VIEW_COUNT, uniqueViews, VIEW_COUNT);
+    log.info("Bloom filter + 배치 저장: DB 배치 {}회 ({}행 전송), 재조회 {}건 DB 미접근",
+        writeBehindStatements, viewTable.jdbc.rowCount(), VIEW_COUNT - viewTable.jdbc.rowCount());
+    log.info("오탐으로 기록되지 않은 첫 조회: {}건 (오탐률 {}, 목표 {})",
+        missedFirstViews, String.format("%.5f", falsePositiveRate), config.getFalsePositiveRate());
+
+    assertEquals(storedViews, viewTable.jdbc.rowCount(), "재조회는 DB로 전송되면 안 된다");
+    assertTrue(falsePositiveRate <= config.getFalsePositiveRate() * 3, "오탐률이 목표 범위를 크게 넘으면 안 된다");
+    assertTrue(writeBehindStatements * 100 < legacyStatements, "DB 왕복 횟수가 크게 줄어야 한다");
+    assertEquals(storedViews, viewTable.scoredViewCount.get(), "저장된 첫 조회만 점수에 반영되어야 한다");
+  }
+
+  public void 다른_인스턴스가_기록한_조회는_점수에_반영하지_않음_테스트() {
+    ViewTable viewTable = new ViewTable();
+    ViewHistoryWriteBehindService service = viewTable.newService(new ViewDedupConfig());
+    UUID memberId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    LocalDate today = LocalDate.of(2026, 10, 18);
+
+    // 다른 인스턴스가 같은 조회를 먼저 저장한 상황
+    viewTable.rows.add(memberId + ":" + itemId + ":" + today);
+    assertTrue(service.recordView(memberId, itemId, CATEGORY, today));
+    service.flush();
+
+    assertEquals(0, viewTable.scoredViewCount.get());
+    verify(viewTable.interactionScoreAggregator, times(0)).record(any(), any(), eq(InteractionType.VIEW));
+  }
+
+  public void 날짜가_바뀌면_다시_기록_테스트() {
+    ViewTable viewTable = new ViewTable();
+    ViewHistoryWriteBehindService service = viewTable.newService(new ViewDedupConfig());
+    UUID memberId = UUID.randomUUID();
+    UUID itemId = UUID.randomUUID();
+    LocalDate today = LocalDate.of(2026, 10, 18);
+
+    assertTrue(service.recordView(memberId, itemId, CATEGORY, today));
+    assertFalse(service.recordView(memberId, itemId, CATEGORY, today), "같은 날 재조회는 걸러져야 한다");
+    assertTrue(service.recordView(memberId, itemId, CATEGORY, today.plusDays(1)), "다음 날에는 다시 기록해야 한다");
+    // 자정 직전 요청은 어제 필터로 계속 걸러진다
+    assertFalse(service.recordView(memberId, itemId, CATEGORY, today));
+    service.flush();
+
+    assertEquals(2, viewTable.rows.size());
+  }
+
+  public void 저장_실패시_재시도_테스트() {
+    ViewTable viewTable = new ViewTable();
+    ViewHistoryWriteBehindService service = viewTable.newService(new ViewDedupConfig());
+    LocalDate today = LocalDate.of(2026, 10, 18);
+
+    service.recordView(UUID.randomUUID(), UUID.randomUUID(), CATEGORY, today);
+    service.recordView(UUID.randomUUID(), UUID.randomUUID(), CATEGORY, today);
+    viewTable.jdbc.setFailWrites(true);
+    service.flush();
+    assertEquals(0, viewTable.rows.size());
+
+    viewTable.jdbc.setFailWrites(false);
+    service.flush();
+    assertEquals(2, viewTable.rows.size());
+    assertEquals(2, viewTable.scoredViewCount.get());
+  }
+
+  private static List<UUID> randomIds(int count) {
+    List<UUID> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(UUID.randomUUID());
+    }
+    return ids;
+  }
+
+  /**
+   * view_history 행: (회원, 물품, 조회일) 유니크 집합 (INSERT ... ON CONFLICT DO NOTHING)
+   */
+  private static class ViewTable {
+
+    private final Set<String> rows = ConcurrentHashMap.newKeySet();
+    private final InMemoryJdbcTemplate jdbc = new InMemoryJdbcTemplate(
+        (sql, args) -> rows.add(args[0] + ":" + args[1] + ":" + ((Date) args[3]).toLocalDate()) ? 1 : 0);
+    private final AtomicInteger scoredViewCount = new AtomicInteger();
+    private final InteractionScoreAggregator interactionScoreAggregator = mock(InteractionScoreAggregator.class);
+
+    private ViewHistoryWriteBehindService newService(ViewDedupConfig config) {
+      doAnswer(invocation -> scoredViewCount.incrementAndGet())
+          .when(interactionScoreAggregator).record(any(), any(), eq(InteractionType.VIEW));
+      return new ViewHistoryWriteBehindService(jdbc.jdbcTemplate(), config, interactionScoreAggregator);
+    }
+  }
+}
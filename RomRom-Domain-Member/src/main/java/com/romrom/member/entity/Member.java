@@ -6,6 +6,7 @@ import com.romrom.common.constant.AccountStatus;
 import com.romrom.common.constant.Role;
 import com.romrom.common.constant.SocialPlatform;
 import com.romrom.common.entity.postgres.BasePostgresEntity;
+import com.romrom.member.listener.MemberCacheEvictListener;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -21,11 +22,12 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @Getter
 @Setter
-@SuperBuilder
+@SuperBuilder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @ToString(callSuper = true)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@EntityListeners(MemberCacheEvictListener.class)
 public class Member extends BasePostgresEntity {
 
   @Id
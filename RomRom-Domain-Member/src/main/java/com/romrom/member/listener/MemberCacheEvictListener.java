@@ -0,0 +1,27 @@
+package com.romrom.member.listener;
+
+import com.romrom.member.entity.Member;
+import com.romrom.member.service.MemberCacheService;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Member 엔티티 변경 시 인증 principal 캐시 무효화.
+ * 제재/탈퇴/권한 변경뿐 아니라 온보딩 플래그 등 모든 변경을 포함해,
+ * 캐시된 이전 스냅샷이 다음 요청에서 다시 저장되며 변경을 덮어쓰는 일을 막는다.
+ * (Hibernate가 SpringBeanContainer로 빈을 주입받아 생성)
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCacheEvictListener {
+
+  private final MemberCacheService memberCacheService;
+
+  @PostUpdate
+  @PostRemove
+  public void evictPrincipalCache(Member member) {
+    memberCacheService.evict(member.getMemberId());
+  }
+}
@@ -0,0 +1,46 @@
+package com.romrom.member.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 회원 차단 관계 로컬 캐시 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "member.block-cache")
+public class MemberBlockCacheProperties {
+
+  /**
+   * 캐시 사용 여부 (false면 매 확인마다 DB 조회)
+   */
+  private boolean enabled = true;
+
+  /**
+   * 회원별 차단 집합 유지 시간 (초). 다른 인스턴스에서 발생한 차단/해제는 최대 이 시간만큼 늦게 반영된다.
+   */
+  private long ttlSeconds = 60L;
+
+  /**
+   * 최대 캐시 회원 수
+   */
+  private long maximumSize = 50_000L;
+
+  /**
+   * 차단 관계 참여 회원 Bloom filter 예상 원소 수
+   */
+  private long bloomExpectedInsertions = 200_000L;
+
+  /**
+   * Bloom filter 오탐률 (오탐 시 회원별 차단 집합을 확인하므로 정확도에는 영향 없음)
+   */
+  private double bloomFalsePositiveRate = 0.01;
+
+  /**
+   * Bloom filter 재구성 주기 (밀리초). 다른 인스턴스의 신규 차단을 반영하고, 해제된 관계를 비운다.
+   */
+  private long bloomRebuildIntervalMillis = 60_000L;
+}
@@ -0,0 +1,31 @@
+package com.romrom.member.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 인증 principal(Member) 로컬 캐시 설정
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "member.principal-cache")
+public class MemberCacheProperties {
+
+  /**
+   * 캐시 사용 여부 (false면 매 요청 DB 조회)
+   */
+  private boolean enabled = true;
+
+  /**
+   * 캐시 항목 유지 시간 (초). 다중 인스턴스 간 무효화는 전파되지 않으므로 상한이 곧 최대 지연이다.
+   */
+  private long ttlSeconds = 60L;
+
+  /**
+   * 최대 캐시 항목 수
+   */
+  private long maximumSize = 10_000L;
+}
@@ -41,4 +41,22 @@ public interface MemberBlockRepository extends JpaRepository<MemberBlock, UUID>
           "    WHERE blocker_member_id = :blockerId AND blocked_member_id = :blockedId" +
           ")", nativeQuery = true)
   boolean existsByBlockerAndBlocked(@Param("blockerId") UUID blockerId, @Param("blockedId") UUID blockedId);
+
+  /**
+   * 회원과 차단 관계(내가 차단 + 나를 차단)에 있는 상대 회원 ID 목록
+   */
+  @Query(value =
+      "SELECT blocked_member_id FROM member_block WHERE blocker_member_id = :memberId " +
+          "UNION " +
+          "SELECT blocker_member_id FROM member_block WHERE blocked_member_id = :memberId", nativeQuery = true)
+  List<UUID> findBlockRelatedMemberIds(@Param("memberId") UUID memberId);
+
+  /**
+   * 차단 관계에 한 번이라도 참여한 회원 ID 전체 (Bloom filter 구성용)
+   */
+  @Query(value =
+      "SELECT blocker_member_id FROM member_block " +
+          "UNION " +
+          "SELECT blocked_member_id FROM member_block", nativeQuery = true)
+  List<UUID> findAllBlockParticipantIds();
 }
@@ -0,0 +1,226 @@
+package com.romrom.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romrom.common.util.BloomFilter;
+import com.romrom.member.properties.MemberBlockCacheProperties;
+import com.romrom.member.repository.MemberBlockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 차단 관계 로컬 캐시 서비스.
+ *
+ * <p>차단 여부 확인은 채팅 전송, 채팅방 목록, 물품 상세, 피드 조회마다 실행되지만 실제 차단 관계가 있는 회원은 소수다.
+ * 두 단계로 DB 조회를 줄인다.
+ * <ul>
+ *   <li>Bloom filter: 차단 관계에 참여한 적 있는 회원 집합. 여기에 없으면 "차단 없음"을 DB 조회 없이 바로 반환한다.</li>
+ *   <li>회원별 차단 집합: 내가 차단했거나 나를 차단한 상대 ID 집합. 처음 필요할 때 한 번 조회해 TTL 동안 보관한다.</li>
+ * </ul>
+ *
+ * <p>무효화: 차단/해제 시 {@link #evictBlockRelation(UUID, UUID)}가 양쪽 회원 집합을 지우고 Bloom filter에 추가한 뒤
+ * (커밋 이후) 변경 채널로 발행해 다른 인스턴스도 같은 무효화를 적용한다.
+ * 알림이 유실되면 다른 인스턴스에는 회원별 집합 TTL 또는 Bloom filter 재구성 주기만큼 늦게 반영된다.
+ */
+@Service
+@Slf4j
+public class MemberBlockCacheService implements MessageListener {
+
+  private static final String CACHE_NAME = "member.block";
+  public static final String CHANGE_CHANNEL = "member:block:changed";
+
+  private final MemberBlockRepository memberBlockRepository;
+  private final RedisTemplate<String, Object> redisTemplate;
+  private final MemberBlockCacheProperties memberBlockCacheProperties;
+  private final Cache<UUID, Set<UUID>> blockSetCache;
+
+  private final Object participantFilterLock = new Object();
+  private volatile BloomFilter participantFilter;
+  // 재구성 중 새로 차단 관계에 참여한 회원 (교체할 필터에 합쳐 누락 방지)
+  private Set<UUID> participantsDuringRebuild;
+
+  public MemberBlockCacheService(
+      MemberBlockRepository memberBlockRepository,
+      RedisTemplate<String, Object> redisTemplate,
+      MemberBlockCacheProperties memberBlockCacheProperties,
+      MeterRegistry meterRegistry) {
+    this.memberBlockRepository = memberBlockRepository;
+    this.redisTemplate = redisTemplate;
+    this.memberBlockCacheProperties = memberBlockCacheProperties;
+    this.blockSetCache = Caffeine.newBuilder()
+        .maximumSize(memberBlockCacheProperties.getMaximumSize())
+        .expireAfterWrite(Duration.ofSeconds(memberBlockCacheProperties.getTtlSeconds()))
+        .recordStats()
+        .build();
+
+    CaffeineCacheMetrics.monitor(meterRegistry, blockSetCache, CACHE_NAME);
+  }
+
+  /**
+   * 회원과 차단 관계(양방향)에 있는 상대 회원 ID 집합 (불변)
+   */
+  public Set<UUID> blockedIdsFor(UUID memberId) {
+    if (!memberBlockCacheProperties.isEnabled()) {
+      return Set.copyOf(memberBlockRepository.findBlockRelatedMemberIds(memberId));
+    }
+    if (!participantFilter().mightContain(memberId)) {
+      return Set.of();
+    }
+    return blockSetCache.get(memberId, key -> Set.copyOf(memberBlockRepository.findBlockRelatedMemberIds(key)));
+  }
+
+  /**
+   * 두 회원 사이 차단 관계 존재 여부 (양방향)
+   */
+  public boolean isBlocked(UUID memberId1, UUID memberId2) {
+    if (!memberBlockCacheProperties.isEnabled()) {
+      return memberBlockRepository.existsBlockBetween(memberId1, memberId2);
+    }
+    BloomFilter filter = participantFilter();
+    if (!filter.mightContain(memberId1) || !filter.mightContain(memberId2)) {
+      return false;
+    }
+    return blockedIdsFor(memberId1).contains(memberId2);
+  }
+
+  /**
+   * 차단/해제 시 두 회원의 캐시 무효화 + 다른 인스턴스에 알림.
+   * 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 제거하고 그때 발행해, 커밋 전 다른 요청(인스턴스)이 이전 상태를 다시 적재하는 경우를 막는다.
+   * (해제는 Bloom filter 에서 지울 수 없으므로 다음 재구성 전까지 회원별 집합 확인으로 처리된다)
+   */
+  public void evictBlockRelation(UUID blockerId, UUID blockedId) {
+    registerParticipants(blockerId, blockedId);
+    evictNow(blockerId, blockedId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          // 커밋 전에 시작된 Bloom filter 재구성이 이 차단을 읽지 못했을 수 있으므로 다시 등록
+          registerParticipants(blockerId, blockedId);
+          evictNow(blockerId, blockedId);
+          publishChange(blockerId, blockedId);
+        }
+      });
+    } else {
+      publishChange(blockerId, blockedId);
+    }
+  }
+
+  /**
+   * 다른 인스턴스(또는 자기 자신)의 차단/해제 알림 수신 → 두 회원 캐시 무효화 (같은 알림을 여러 번 받아도 무해)
+   * 메시지 형식: {blockerId}:{blockedId}
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    try {
+      Object payload = redisTemplate.getValueSerializer().deserialize(message.getBody());
+      String[] parts = String.valueOf(payload).split(":", 2);
+      UUID blockerId = UUID.fromString(parts[0]);
+      UUID blockedId = UUID.fromString(parts[1]);
+      registerParticipants(blockerId, blockedId);
+      evictNow(blockerId, blockedId);
+    } catch (Exception e) {
+      log.warn("차단 관계 변경 알림 처리 실패 (TTL/Bloom filter 재구성으로 반영): {}", e.getMessage());
+    }
+  }
+
+  /**
+   * Bloom filter 주기적 재구성 (다른 인스턴스의 신규 차단 반영, 해제된 관계 정리).
+   * 아직 한 번도 사용하지 않았다면 건너뛴다 (최초 사용 시 구성).
+   */
+  @Scheduled(
+      fixedDelayString = "${member.block-cache.bloom-rebuild-interval-millis:60000}",
+      initialDelayString = "${member.block-cache.bloom-rebuild-interval-millis:60000}")
+  public void scheduledRebuild() {
+    if (!memberBlockCacheProperties.isEnabled() || participantFilter == null) {
+      return;
+    }
+    try {
+      rebuildParticipantFilter();
+    } catch (Exception e) {
+      log.error("차단 관계 Bloom filter 재구성 실패 (기존 필터 유지)", e);
+    }
+  }
+
+  /**
+   * 캐시 전체 비우기 (Bloom filter 는 다음 사용 시 재구성)
+   */
+  public void evictAll() {
+    blockSetCache.invalidateAll();
+    synchronized (participantFilterLock) {
+      participantFilter = null;
+    }
+  }
+
+  private BloomFilter participantFilter() {
+    BloomFilter filter = participantFilter;
+    if (filter != null) {
+      return filter;
+    }
+    synchronized (this) {
+      if (participantFilter == null) {
+        rebuildParticipantFilter();
+      }
+      return participantFilter;
+    }
+  }
+
+  private synchronized void rebuildParticipantFilter() {
+    synchronized (participantFilterLock) {
+      participantsDuringRebuild = new HashSet<>();
+    }
+    List<UUID> participantIds = memberBlockRepository.findAllBlockParticipantIds();
+    BloomFilter rebuilt = new BloomFilter(
+        Math.max(memberBlockCacheProperties.getBloomExpectedInsertions(), participantIds.size()),
+        memberBlockCacheProperties.getBloomFalsePositiveRate());
+    participantIds.forEach(rebuilt::put);
+
+    synchronized (participantFilterLock) {
+      participantsDuringRebuild.forEach(rebuilt::put);
+      participantsDuringRebuild = null;
+      participantFilter = rebuilt;
+    }
+    log.debug("차단 관계 Bloom filter 구성 완료: 참여 회원 {}명, {}KB", participantIds.size(), rebuilt.sizeInBytes() / 1024);
+  }
+
+  private void registerParticipants(UUID blockerId, UUID blockedId) {
+    synchronized (participantFilterLock) {
+      if (participantFilter != null) {
+        participantFilter.put(blockerId);
+        participantFilter.put(blockedId);
+      }
+      if (participantsDuringRebuild != null) {
+        participantsDuringRebuild.add(blockerId);
+        participantsDuringRebuild.add(blockedId);
+      }
+    }
+  }
+
+  private void publishChange(UUID blockerId, UUID blockedId) {
+    try {
+      redisTemplate.convertAndSend(CHANGE_CHANNEL, blockerId + ":" + blockedId);
+    } catch (Exception e) {
+      log.warn("차단 관계 변경 알림 발행 실패 (다른 인스턴스는 TTL/Bloom filter 재구성으로 반영): {}", e.getMessage());
+    }
+  }
+
+  private void evictNow(UUID blockerId, UUID blockedId) {
+    blockSetCache.invalidate(blockerId);
+    blockSetCache.invalidate(blockedId);
+    log.debug("차단 관계 캐시 무효화: blockerId={}, blockedId={}", blockerId, blockedId);
+  }
+}
@@ -29,6 +29,7 @@ public class MemberBlockService {
   private final MemberRepository memberRepository;
   private final MemberBlockRepository memberBlockRepository;
   private final MemberLocationRepository memberLocationRepository;
+  private final MemberBlockCacheService memberBlockCacheService;
 
   @Transactional(readOnly = true)
   public MemberResponse getBlockedMemberList(UUID memberId) {
@@ -71,6 +72,7 @@ public class MemberBlockService {
         .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
 
     memberBlockRepository.deleteByBlockerIdAndBlockedId(memberId, target.getMemberId());
+    memberBlockCacheService.evictBlockRelation(memberId, target.getMemberId());
     log.debug("회원 {}님이 회원 {}님을 차단 해제했습니다.", memberId, target.getMemberId());
   }
 
@@ -97,6 +99,7 @@ public class MemberBlockService {
         .blockedMember(target)
         .build();
     memberBlockRepository.save(block);
+    memberBlockCacheService.evictBlockRelation(memberId, targetId);
     log.debug("회원 {}님이 회원 {}님을 차단했습니다.", memberId, targetId);
   }
 
@@ -104,15 +107,23 @@ public class MemberBlockService {
     return memberBlockRepository.findAllBlockRelations(memberId, targetIds);
   }
 
+  /**
+   * 회원과 차단 관계(내가 차단 + 나를 차단)에 있는 상대 회원 ID 집합 (캐시)
+   * 목록 조회 쿼리에 NOT IN 조건으로 바로 넣을 수 있다.
+   */
+  public Set<UUID> blockedIdsFor(UUID memberId) {
+    return memberBlockCacheService.blockedIdsFor(memberId);
+  }
+
   // 차단된 회원인지 확인
   public void verifyNotBlocked(UUID memberId1, UUID memberId2) {
-    if (memberBlockRepository.existsBlockBetween(memberId1, memberId2)) {
+    if (memberBlockCacheService.isBlocked(memberId1, memberId2)) {
       throw new CustomException(ErrorCode.BLOCKED_MEMBER_INTERACTION);
     }
   }
 
   // 양방향 차단 여부 확인 (boolean 반환)
   public boolean isBlocked(UUID memberId1, UUID memberId2) {
-    return memberBlockRepository.existsBlockBetween(memberId1, memberId2);
+    return memberBlockCacheService.isBlocked(memberId1, memberId2);
   }
 }
@@ -0,0 +1,104 @@
+package com.romrom.member.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.romrom.member.entity.Member;
+import com.romrom.member.properties.MemberCacheProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 인증 principal(Member) 로컬 캐시 서비스.
+ *
+ * <p>인증된 모든 API 요청이 accessToken → Member 조회를 거치므로, 토큰 단위로 Member 스냅샷을
+ * TTL/최대 크기 제한이 있는 in-process 캐시에 보관해 hot path의 DB 조회를 없앤다.
+ * 스냅샷은 캐시 안에서 불변으로 유지하고, 요청마다 복사본을 반환한다
+ * (서비스 계층이 principal Member를 직접 수정·저장하기 때문).
+ *
+ * <p>무효화: Member 엔티티 변경은 {@code MemberCacheEvictListener}가, JPQL 일괄 업데이트 경로는
+ * 호출 측이 {@link #evict(UUID)}로 직접 처리한다. 무효화는 인스턴스 로컬이므로
+ * 다른 인스턴스에는 최대 TTL만큼 이전 상태가 보일 수 있다.
+ */
+@Service
+@Slf4j
+public class MemberCacheService {
+
+  private static final String CACHE_NAME = "member.principal";
+
+  private final MemberCacheProperties memberCacheProperties;
+  private final Cache<String, Member> principalCache;
+
+  public MemberCacheService(MemberCacheProperties memberCacheProperties, MeterRegistry meterRegistry) {
+    this.memberCacheProperties = memberCacheProperties;
+    this.principalCache = Caffeine.newBuilder()
+        .maximumSize(memberCacheProperties.getMaximumSize())
+        .expireAfterWrite(Duration.ofSeconds(memberCacheProperties.getTtlSeconds()))
+        .recordStats()
+        .build();
+
+    // cache_gets_total{result=hit|miss}, cache_size, cache_evictions_total 노출
+    CaffeineCacheMetrics.monitor(meterRegistry, principalCache, CACHE_NAME);
+    Gauge.builder("cache.hit.ratio", principalCache, cache -> cache.stats().hitRate())
+        .tag("cache", CACHE_NAME)
+        .description("인증 principal 캐시 히트율")
+        .register(meterRegistry);
+  }
+
+  /**
+   * 토큰에 해당하는 Member 복사본 반환. 캐시에 없으면 loader로 조회 후 저장한다.
+   *
+   * @param principalKey 캐시 키 (accessToken)
+   * @param memberLoader 캐시 미스 시 Member를 조회하는 함수 (DB 조회)
+   * @return 요청 단위로 자유롭게 수정 가능한 Member 복사본
+   */
+  public Member getOrLoad(String principalKey, Supplier<Member> memberLoader) {
+    if (!memberCacheProperties.isEnabled()) {
+      return memberLoader.get();
+    }
+    Member cachedMember = principalCache.get(principalKey, key -> memberLoader.get());
+    return cachedMember.toBuilder().build();
+  }
+
+  /**
+   * 회원의 캐시 항목 전체 무효화 (해당 회원의 모든 토큰).
+   * 트랜잭션 안에서 호출되면 커밋 이후 한 번 더 제거해, 커밋 전 다른 요청이 이전 상태를 다시 적재하는 경우를 막는다.
+   *
+   * @param memberId 무효화할 회원 ID
+   */
+  public void evict(UUID memberId) {
+    if (memberId == null) {
+      return;
+    }
+    evictNow(memberId);
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          evictNow(memberId);
+        }
+      });
+    }
+  }
+
+  /**
+   * 캐시 전체 비우기
+   */
+  public void evictAll() {
+    principalCache.invalidateAll();
+  }
+
+  private void evictNow(UUID memberId) {
+    // 토큰 → Member 역색인 없이 값 기준으로 제거 (무효화는 드문 이벤트라 O(n) 순회로 충분)
+    principalCache.asMap().values().removeIf(cachedMember -> memberId.equals(cachedMember.getMemberId()));
+    log.debug("인증 principal 캐시 무효화: memberId={}", memberId);
+  }
+}
@@ -12,6 +12,7 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class MemberPresenceService {
     private final MemberRepository memberRepository;
+    private final MemberCacheService memberCacheService;
     
     // DB 업데이트 최소 간격
     private static final int WRITE_MIN_INTERVAL_SECONDS = 60;
@@ -24,6 +25,8 @@ public class MemberPresenceService {
         // 마지막 갱신 시각이 없거나, 설정한 간격보다 오래됐을 때만 DB 업데이트
         if (lastUpdate == null || lastUpdate.isBefore(now.minusSeconds(WRITE_MIN_INTERVAL_SECONDS))) {
             memberRepository.updateLastActiveAt(member.getMemberId(), now);
+            // JPQL 일괄 업데이트는 엔티티 리스너를 거치지 않으므로 캐시된 lastActiveAt을 직접 무효화
+            memberCacheService.evict(member.getMemberId());
         }
     }
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import com.romrom.member.repository.MemberItemCategoryRepository;
 import com.romrom.member.repository.MemberLocationRepository;
 import com.romrom.member.repository.MemberRepository;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Consumer;
@@ -256,6 +257,17 @@ public class MemberService {
       });
   }
 
+  /**
+   * PK 목록 기반 회원 일괄조회 (존재하지 않는 PK는 결과에서 제외)
+   */
+  @Transactional(readOnly = true)
+  public List<Member> findMembersByIds(Collection<UUID> memberIds) {
+    if (memberIds.isEmpty()) {
+      return List.of();
+    }
+    return memberRepository.findAllById(memberIds);
+  }
+
   /**
    * newValue가 null 이면 유지
    * newValue가 현재랑 동일하면 no-op
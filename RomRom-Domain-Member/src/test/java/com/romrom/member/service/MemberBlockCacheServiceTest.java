@@ -0,0 +1,260 @@
+package com.romrom.member.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.util.InMemoryRedis;
+import com.romrom.member.properties.MemberBlockCacheProperties;
+import com.romrom.member.repository.MemberBlockRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MemberBlockCacheService 단위 테스트 (DB 미접근).
+ * 저장소 호출 횟수를 DB 쿼리 수로 보고, 인스턴스 간 차단 변경 알림은 InMemoryRedis 로 전달한다.
+ * 채팅 메시지 전송(verifyNotBlocked)과 피드 조회(blockedIdsFor)마다 발생하는 차단 확인 쿼리 수를 캐시 전후로 비교한다.
+ */
+@Slf4j
+class MemberBlockCacheServiceTest {
+
+  private static final int MEMBER_COUNT = 2_000;
+  // 차단 관계에 참여하는 회원 비율
+  private static final double BLOCK_PARTICIPANT_RATIO = 0.02;
+  private static final int CHAT_MESSAGE_COUNT = 20_000;
+  private static final int FEED_REQUEST_COUNT = 5_000;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::채팅_메시지_및_피드_요청당_쿼리수_비교_테스트);
+    lineLog(null);
+    timeLog(this::차단_해제시_양방향_즉시_반영_테스트);
+    lineLog(null);
+    timeLog(this::Bloom_filter_재구성중_차단_누락없음_테스트);
+    lineLog(null);
+    timeLog(this::다른_인스턴스_차단_알림으로_무효화_테스트);
+    lineLog(null);
+    timeLog(this::캐시_비활성화시_DB_직접조회_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 채팅_메시지_및_피드_요청당_쿼리수_비교_테스트() {
+    Random random = new Random(42L);
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      members.add(UUID.randomUUID());
+    }
+    BlockTable blockTable = new BlockTable();
+    int participantCount = (int) (MEMBER_COUNT * BLOCK_PARTICIPANT_RATIO);
+    for (int i = 0; i < participantCount; i += 2) {
+      blockTable.block(members.get(i), members.get(i + 1));
+    }
+
+    MemberBlockCacheService cacheService = blockTable.newCacheService(new MemberBlockCacheProperties());
+
+    // 채팅: 채팅방 상대와 메시지 교환 (차단 관계 회원도 포함)
+    int blockedMessageCount = 0;
+    for (int i = 0; i < CHAT_MESSAGE_COUNT; i++) {
+      boolean towardBlockedPeer = i % 50 == 0;
+      UUID sender = members.get(random.nextInt(towardBlockedPeer ? participantCount : MEMBER_COUNT));
+      UUID recipient = towardBlockedPeer ? blockTable.anyBlockedPeer(sender, members) : members.get(random.nextInt(MEMBER_COUNT));
+      boolean expected = blockTable.existsBetween(sender, recipient);
+      assertEquals(expected, cacheService.isBlocked(sender, recipient));
+      if (expected) {
+        blockedMessageCount++;
+      }
+    }
+    int chatQueries = blockTable.queryCount.getAndSet(0);
+
+    // 피드: 요청 회원의 차단 상대 집합 조회
+    for (int i = 0; i < FEED_REQUEST_COUNT; i++) {
+      UUID member = members.get(random.nextInt(MEMBER_COUNT));
+      assertEquals(blockTable.relatedIds(member), cacheService.blockedIdsFor(member));
+    }
+    int feedQueries = blockTable.queryCount.get();
+
+    log.info("회원 {}명 / 차단 참여 회원 {}명", MEMBER_COUNT, participantCount);
+    log.info("채팅 메시지 {}건 (차단 관계 {}건): 캐시 전 쿼리 {}회(1.0/메시지), 캐시 후 {}회({}/메시지)",
+        CHAT_MESSAGE_COUNT, blockedMessageCount, CHAT_MESSAGE_COUNT, chatQueries,
+        String.format("%.4f", (double) chatQueries / CHAT_MESSAGE_COUNT));
+    log.info("피드 요청 {}건: 캐시 후 차단 조회 쿼리 {}회({}/요청)",
+        FEED_REQUEST_COUNT, feedQueries, String.format("%.4f", (double) feedQueries / FEED_REQUEST_COUNT));
+
+    assertTrue(blockedMessageCount > 0);
+    // Bloom filter 구성 1회 + 차단 참여 회원별 최초 1회 (+ 오탐)
+    assertTrue(chatQueries <= 1 + participantCount + CHAT_MESSAGE_COUNT / 100,
+        "채팅 메시지당 차단 확인 쿼리가 크게 줄어야 한다: " + chatQueries);
+    assertTrue(feedQueries <= MEMBER_COUNT / 50, "피드 요청당 차단 조회 쿼리가 거의 없어야 한다: " + feedQueries);
+  }
+
+  public void 차단_해제시_양방향_즉시_반영_테스트() {
+    BlockTable blockTable = new BlockTable();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    UUID memberC = UUID.randomUUID();
+    blockTable.block(memberA, memberC);
+    MemberBlockCacheService cacheService = blockTable.newCacheService(new MemberBlockCacheProperties());
+
+    assertFalse(cacheService.isBlocked(memberA, memberB));
+    assertEquals(Set.of(memberC), cacheService.blockedIdsFor(memberA));
+
+    // 차단: Bloom filter 에 없던 회원(B)도 바로 반영
+    blockTable.block(memberA, memberB);
+    cacheService.evictBlockRelation(memberA, memberB);
+    assertTrue(cacheService.isBlocked(memberA, memberB));
+    assertTrue(cacheService.isBlocked(memberB, memberA), "차단 당한 쪽에서도 차단 관계로 보여야 한다");
+    assertEquals(Set.of(memberB, memberC), cacheService.blockedIdsFor(memberA));
+
+    // 해제: Bloom filter 에는 남아 있어도 회원별 집합으로 정확히 판정
+    blockTable.unblock(memberA, memberB);
+    cacheService.evictBlockRelation(memberA, memberB);
+    assertFalse(cacheService.isBlocked(memberA, memberB));
+    assertFalse(cacheService.isBlocked(memberB, memberA));
+    assertEquals(Set.of(memberC), cacheService.blockedIdsFor(memberA));
+  }
+
+  public void Bloom_filter_재구성중_차단_누락없음_테스트() {
+    BlockTable blockTable = new BlockTable();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    MemberBlockCacheService cacheService = blockTable.newCacheService(new MemberBlockCacheProperties());
+    assertFalse(cacheService.isBlocked(memberA, memberB));
+
+    // 재구성이 참여 회원을 읽은 직후 차단이 발생하는 경우
+    blockTable.beforeParticipantQueryReturn = () -> {
+      blockTable.block(memberA, memberB);
+      cacheService.evictBlockRelation(memberA, memberB);
+    };
+    cacheService.scheduledRebuild();
+
+    assertTrue(cacheService.isBlocked(memberA, memberB), "재구성 중 발생한 차단도 새 필터에 포함되어야 한다");
+  }
+
+  public void 다른_인스턴스_차단_알림으로_무효화_테스트() {
+    BlockTable blockTable = new BlockTable();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    UUID memberC = UUID.randomUUID();
+    blockTable.block(memberA, memberC);
+    MemberBlockCacheService writer = blockTable.newCacheService(new MemberBlockCacheProperties());
+    MemberBlockCacheService reader = blockTable.newCacheService(new MemberBlockCacheProperties());
+
+    // reader 인스턴스가 Bloom filter 와 A 의 차단 집합을 먼저 적재
+    assertFalse(reader.isBlocked(memberA, memberB));
+    assertEquals(Set.of(memberC), reader.blockedIdsFor(memberA));
+
+    // 다른 인스턴스(writer)에서 차단 → 알림으로 reader 캐시도 TTL/재구성 대기 없이 반영
+    blockTable.block(memberA, memberB);
+    writer.evictBlockRelation(memberA, memberB);
+    assertTrue(reader.isBlocked(memberA, memberB));
+    assertTrue(reader.isBlocked(memberB, memberA));
+    assertEquals(Set.of(memberB, memberC), reader.blockedIdsFor(memberA));
+
+    blockTable.unblock(memberA, memberB);
+    writer.evictBlockRelation(memberA, memberB);
+    assertFalse(reader.isBlocked(memberA, memberB));
+    assertEquals(2, blockTable.redis.publishCount());
+  }
+
+  public void 캐시_비활성화시_DB_직접조회_테스트() {
+    BlockTable blockTable = new BlockTable();
+    UUID memberA = UUID.randomUUID();
+    UUID memberB = UUID.randomUUID();
+    blockTable.block(memberA, memberB);
+    MemberBlockCacheProperties properties = new MemberBlockCacheProperties();
+    properties.setEnabled(false);
+    MemberBlockCacheService cacheService = blockTable.newCacheService(properties);
+
+    for (int i = 0; i < 5; i++) {
+      assertTrue(cacheService.isBlocked(memberA, memberB));
+    }
+    assertEquals(5, blockTable.queryCount.get());
+  }
+
+  /**
+   * member_block 차단 관계와 저장소 mock (저장소 호출마다 쿼리 수 증가)
+   */
+  private static class BlockTable {
+
+    private final Set<List<UUID>> blocks = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger queryCount = new AtomicInteger();
+    private final MemberBlockRepository repository = mock(MemberBlockRepository.class);
+    // 차단 변경 채널 (발행 시 모든 인스턴스의 onMessage 호출)
+    private final InMemoryRedis redis = new InMemoryRedis();
+    private Runnable beforeParticipantQueryReturn;
+
+    private BlockTable() {
+      when(repository.existsBlockBetween(any(), any())).thenAnswer(invocation -> {
+        queryCount.incrementAndGet();
+        return existsBetween(invocation.getArgument(0), invocation.getArgument(1));
+      });
+      when(repository.findBlockRelatedMemberIds(any())).thenAnswer(invocation -> {
+        queryCount.incrementAndGet();
+        return new ArrayList<>(relatedIds(invocation.getArgument(0)));
+      });
+      when(repository.findAllBlockParticipantIds()).thenAnswer(invocation -> {
+        queryCount.incrementAndGet();
+        Set<UUID> participants = new HashSet<>();
+        blocks.forEach(participants::addAll);
+        if (beforeParticipantQueryReturn != null) {
+          beforeParticipantQueryReturn.run();
+          beforeParticipantQueryReturn = null;
+        }
+        return new ArrayList<>(participants);
+      });
+    }
+
+    private MemberBlockCacheService newCacheService(MemberBlockCacheProperties properties) {
+      MemberBlockCacheService cacheService =
+          new MemberBlockCacheService(repository, redis.template(), properties, new SimpleMeterRegistry());
+      return redis.subscribe(MemberBlockCacheService.CHANGE_CHANNEL, cacheService);
+    }
+
+    private void block(UUID blockerId, UUID blockedId) {
+      blocks.add(List.of(blockerId, blockedId));
+    }
+
+    private void unblock(UUID blockerId, UUID blockedId) {
+      blocks.remove(List.of(blockerId, blockedId));
+    }
+
+    private boolean existsBetween(UUID memberId1, UUID memberId2) {
+      return blocks.contains(List.of(memberId1, memberId2)) || blocks.contains(List.of(memberId2, memberId1));
+    }
+
+    private Set<UUID> relatedIds(UUID memberId) {
+      Set<UUID> related = new HashSet<>();
+      for (List<UUID> block : blocks) {
+        if (block.get(0).equals(memberId)) {
+          related.add(block.get(1));
+        } else if (block.get(1).equals(memberId)) {
+          related.add(block.get(0));
+        }
+      }
+      return related;
+    }
+
+    private UUID anyBlockedPeer(UUID memberId, List<UUID> fallback) {
+      return relatedIds(memberId).stream().findFirst().orElse(fallback.get(0));
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package com.romrom.member.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.romrom.common.constant.AccountStatus;
+import com.romrom.common.constant.Role;
+import com.romrom.member.entity.Member;
+import com.romrom.member.properties.MemberCacheProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+/**
+ * MemberCacheService 단위 테스트 + 마이크로 벤치마크 (DB 미접근).
+ * DB 조회를 지연이 있는 가짜 loader로 대체해, 요청당 지연과 커넥션 획득 횟수(= Hikari 풀 압력)를 비교한다.
+ */
+@Slf4j
+class MemberCacheServiceTest {
+
+  // PostgreSQL 단건 조회 왕복 근사값
+  private static final long FAKE_DB_LATENCY_MILLIS = 2L;
+  private static final int MEMBER_COUNT = 50;
+  private static final int REQUEST_COUNT = 2_000;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::캐시_히트시_DB조회_생략_및_지표_기록_테스트);
+    lineLog(null);
+    timeLog(this::반환된_Member는_요청별_복사본_테스트);
+    lineLog(null);
+    timeLog(this::회원_무효화시_해당회원_전체토큰_제거_테스트);
+    lineLog(null);
+    timeLog(this::캐시_사용전후_요청당_지연_비교_벤치마크);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 캐시_히트시_DB조회_생략_및_지표_기록_테스트() {
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    MemberCacheService memberCacheService = new MemberCacheService(new MemberCacheProperties(), meterRegistry);
+    AtomicInteger dbLoadCount = new AtomicInteger();
+    Member member = createMember();
+
+    for (int i = 0; i < 10; i++) {
+      memberCacheService.getOrLoad("token-a", () -> {
+        dbLoadCount.incrementAndGet();
+        return member;
+      });
+    }
+
+    assertEquals(1, dbLoadCount.get(), "같은 토큰의 반복 요청은 최초 1회만 DB를 조회해야 한다");
+    double hitCount = meterRegistry.get("cache.gets").tag("cache", "member.principal").tag("result", "hit")
+        .functionCounter().count();
+    double missCount = meterRegistry.get("cache.gets").tag("cache", "member.principal").tag("result", "miss")
+        .functionCounter().count();
+    assertEquals(9.0, hitCount);
+    assertEquals(1.0, missCount);
+    assertEquals(0.9, meterRegistry.get("cache.hit.ratio").gauge().value(), 0.0001);
+  }
+
+  public void 반환된_Member는_요청별_복사본_테스트() {
+    MemberCacheService memberCacheService = new MemberCacheService(new MemberCacheProperties(), new SimpleMeterRegistry());
+    Member member = createMember();
+
+    Member firstCopy = memberCacheService.getOrLoad("token-a", () -> member);
+    firstCopy.setLocationAddress("서울특별시 광진구 화양동");
+    Member secondCopy = memberCacheService.getOrLoad("token-a", () -> member);
+
+    assertNotSame(firstCopy, secondCopy);
+    assertEquals(member.getMemberId(), secondCopy.getMemberId());
+    assertEquals(null, secondCopy.getLocationAddress(), "요청에서 수정한 값이 캐시 스냅샷으로 새어 나가면 안 된다");
+  }
+
+  public void 회원_무효화시_해당회원_전체토큰_제거_테스트() {
+    MemberCacheService memberCacheService = new MemberCacheService(new MemberCacheProperties(), new SimpleMeterRegistry());
+    AtomicInteger dbLoadCount = new AtomicInteger();
+    Member suspendTarget = createMember();
+    Member otherMember = createMember();
+
+    memberCacheService.getOrLoad("token-a", () -> suspendTarget);
+    memberCacheService.getOrLoad("token-b", () -> suspendTarget);
+    memberCacheService.getOrLoad("token-c", () -> otherMember);
+
+    memberCacheService.evict(suspendTarget.getMemberId());
+
+    memberCacheService.getOrLoad("token-a", () -> {
+      dbLoadCount.incrementAndGet();
+      return suspendTarget;
+    });
+    memberCacheService.getOrLoad("token-b", () -> {
+      dbLoadCount.incrementAndGet();
+      return suspendTarget;
+    });
+    memberCacheService.getOrLoad("token-c", () -> {
+      dbLoadCount.incrementAndGet();
+      return otherMember;
+    });
+
+    assertEquals(2, dbLoadCount.get(), "무효화된 회원의 토큰 2개만 다시 조회되고 다른 회원은 캐시를 유지해야 한다");
+  }
+
+  public void 캐시_사용전후_요청당_지연_비교_벤치마크() {
+    List<Member> members = new ArrayList<>();
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      members.add(createMember());
+    }
+
+    MemberCacheProperties disabledProperties = new MemberCacheProperties();
+    disabledProperties.setEnabled(false);
+    BenchmarkResult withoutCache = runRequests(new MemberCacheService(disabledProperties, new SimpleMeterRegistry()), members);
+    BenchmarkResult withCache = runRequests(new MemberCacheService(new MemberCacheProperties(), new SimpleMeterRegistry()), members);
+
+    lineLog("인증 principal 캐시 벤치마크 (요청 " + REQUEST_COUNT + "건, 회원 " + MEMBER_COUNT + "명)");
+    lineLog("캐시 미사용: 요청당 " + withoutCache.averageMicros() + "us, DB 커넥션 획득 " + withoutCache.dbLoadCount() + "회");
+    lineLog("캐시 사용: 요청당 " + withCache.averageMicros() + "us, DB 커넥션 획득 " + withCache.dbLoadCount() + "회");
+
+    assertEquals(REQUEST_COUNT, withoutCache.dbLoadCount());
+    assertEquals(MEMBER_COUNT, withCache.dbLoadCount());
+    assertTrue(withCache.averageMicros() < withoutCache.averageMicros());
+  }
+
+  private BenchmarkResult runRequests(MemberCacheService memberCacheService, List<Member> members) {
+    AtomicInteger dbLoadCount = new AtomicInteger();
+    long startNanos = System.nanoTime();
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      Member member = members.get(i % members.size());
+      memberCacheService.getOrLoad("token-" + member.getMemberId(), () -> {
+        dbLoadCount.incrementAndGet();
+        sleepQuietly(FAKE_DB_LATENCY_MILLIS);
+        return member;
+      });
+    }
+    long averageMicros = (System.nanoTime() - startNanos) / 1_000 / REQUEST_COUNT;
+    return new BenchmarkResult(averageMicros, dbLoadCount.get());
+  }
+
+  private Member createMember() {
+    return Member.builder()
+        .memberId(UUID.randomUUID())
+        .email(UUID.randomUUID() + "@romrom.xyz")
+        .role(Role.ROLE_USER)
+        .accountStatus(AccountStatus.ACTIVE_ACCOUNT)
+        .build();
+  }
+
+  private void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private record BenchmarkResult(long averageMicros, int dbLoadCount) {
+  }
+}
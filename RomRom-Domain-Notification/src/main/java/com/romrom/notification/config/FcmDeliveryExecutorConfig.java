@@ -0,0 +1,36 @@
+package com.romrom.notification.config;
+
+import com.romrom.notification.properties.FcmDeliveryProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * FCM 대량 발송 배치 전송 전용 스레드풀 설정
+ * 동시 전송 배치 수는 FcmDeliveryService 가 인스턴스 전체 세마포어로 풀 크기 이하로 제한하므로 큐는 풀 크기만큼만 둔다.
+ * (종료 중 등으로 제출이 거부되면 FcmDeliveryService 가 호출 스레드에서 전송한다)
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class FcmDeliveryExecutorConfig {
+
+  private final FcmDeliveryProperties fcmDeliveryProperties;
+
+  @Bean(name = "fcmDeliveryExecutor", destroyMethod = "shutdown")
+  public ThreadPoolTaskExecutor fcmDeliveryExecutor() {
+    int poolSize = Math.max(1, fcmDeliveryProperties.getConcurrency());
+    ThreadPoolTaskExecutor fcmDeliveryExecutor = new ThreadPoolTaskExecutor();
+    fcmDeliveryExecutor.setCorePoolSize(poolSize);
+    fcmDeliveryExecutor.setMaxPoolSize(poolSize);
+    fcmDeliveryExecutor.setQueueCapacity(poolSize);
+    fcmDeliveryExecutor.setThreadNamePrefix("fcm-delivery-");
+    fcmDeliveryExecutor.setWaitForTasksToCompleteOnShutdown(true);
+    fcmDeliveryExecutor.setAwaitTerminationSeconds(30);
+    fcmDeliveryExecutor.initialize();
+    log.info("FCM 전송 스레드풀 초기화: poolSize={}", poolSize);
+    return fcmDeliveryExecutor;
+  }
+}
@@ -0,0 +1,26 @@
+package com.romrom.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * FCM 배치 전송 결과 요약
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class FcmDeliveryResult {
+
+  private int tokenCount;
+  private int batchCount;
+  private int successCount;
+  private int failureCount;
+  private int invalidTokenCount;
+
+  public static FcmDeliveryResult empty() {
+    return new FcmDeliveryResult(0, 0, 0, 0, 0);
+  }
+}
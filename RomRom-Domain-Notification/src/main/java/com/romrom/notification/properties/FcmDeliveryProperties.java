@@ -0,0 +1,25 @@
+package com.romrom.notification.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "notification.fcm-delivery")
+public class FcmDeliveryProperties {
+
+  // 멀티캐스트 1회당 토큰 수 (FCM 최대 500)
+  private int batchSize = 500;
+
+  // 동시에 전송 중인 배치 수 상한
+  private int concurrency = 8;
+
+  // 초당 배치 전송 수 상한 (0 이하이면 제한 없음)
+  private double maxBatchesPerSecond = 20.0;
+
+  // 무효 토큰 일괄 삭제 시 IN 절 크기
+  private int pruneChunkSize = 1_000;
+}
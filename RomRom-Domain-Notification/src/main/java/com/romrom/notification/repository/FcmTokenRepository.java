@@ -3,11 +3,14 @@ package com.romrom.notification.repository;
 import com.romrom.common.constant.DeviceType;
 import com.romrom.member.entity.Member;
 import com.romrom.notification.entity.FcmToken;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
 
@@ -15,8 +18,14 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
 
   List<FcmToken> findAllByMember(Member member);
 
+  List<FcmToken> findAllByMemberIn(Collection<Member> members);
+
   @Query("SELECT f FROM FcmToken f WHERE f.member.isDeleted = false")
   List<FcmToken> findAllByActiveMember();
 
   void deleteByToken(String token);
+
+  @Modifying
+  @Query("DELETE FROM FcmToken f WHERE f.token IN :tokens")
+  int deleteAllByTokenIn(@Param("tokens") Collection<String> tokens);
 }
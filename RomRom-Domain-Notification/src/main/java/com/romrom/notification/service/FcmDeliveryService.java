@@ -0,0 +1,175 @@
+package com.romrom.notification.service;
+
+import com.romrom.notification.dto.FcmDeliveryResult;
+import com.romrom.notification.properties.FcmDeliveryProperties;
+import com.romrom.notification.transport.FcmSendResult;
+import com.romrom.notification.transport.FcmTransport;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * FCM 배치 전송 엔진
+ * - 토큰을 최대 500개 멀티캐스트 배치로 묶어 전송
+ * - 배치 1개로 끝나는 알림(채팅·거래 알림 등)은 호출 스레드에서 바로 전송
+ * - 여러 배치로 나뉘는 대량 발송은 전용 스레드풀에서 동시에 전송 (인스턴스 전체 동시 배치 수는 세마포어로 제한)
+ * - 대량 발송만 초당 배치 전송 수 제한 (FCM 프로젝트 할당량 보호)
+ * - 토큰별 응답에서 무효 토큰을 모아 한 번에 삭제
+ */
+@Service
+@Slf4j
+public class FcmDeliveryService {
+
+  private final FcmTransport fcmTransport;
+  private final FcmTokenService fcmTokenService;
+  private final FcmDeliveryProperties fcmDeliveryProperties;
+  private final Executor fcmDeliveryExecutor;
+
+  // 인스턴스 전체에서 스레드풀로 전송 중인 배치 수 (풀 크기와 같으므로 제출이 거부되지 않음)
+  private final Semaphore inFlightBatches;
+
+  // 다음 대량 발송 배치를 보낼 수 있는 시각 (System.nanoTime 기준, 인스턴스 내 대량 발송 공유)
+  private long nextSendSlotNanos = 0L;
+
+  public FcmDeliveryService(
+      FcmTransport fcmTransport,
+      FcmTokenService fcmTokenService,
+      FcmDeliveryProperties fcmDeliveryProperties,
+      @Qualifier("fcmDeliveryExecutor") Executor fcmDeliveryExecutor) {
+    this.fcmTransport = fcmTransport;
+    this.fcmTokenService = fcmTokenService;
+    this.fcmDeliveryProperties = fcmDeliveryProperties;
+    this.fcmDeliveryExecutor = fcmDeliveryExecutor;
+    this.inFlightBatches = new Semaphore(Math.max(1, fcmDeliveryProperties.getConcurrency()), true);
+  }
+
+  /**
+   * 같은 알림을 토큰 목록 전체에 전송 (모든 배치 완료 후 반환)
+   * 비어 있거나 중복된 토큰은 한 번만 전송한다.
+   */
+  public FcmDeliveryResult deliver(Collection<String> tokens, String title, String body, Map<String, String> payload) {
+    List<String> distinctTokens = new ArrayList<>(tokens.stream()
+        .filter(token -> token != null && !token.isBlank())
+        .collect(Collectors.toCollection(LinkedHashSet::new)));
+    if (distinctTokens.isEmpty()) {
+      return FcmDeliveryResult.empty();
+    }
+
+    int batchSize = Math.max(1, Math.min(500, fcmDeliveryProperties.getBatchSize()));
+    List<CompletableFuture<List<FcmSendResult>>> futures = new ArrayList<>();
+
+    if (distinctTokens.size() <= batchSize) {
+      // 단일 배치: 대량 발송 대기열을 거치지 않고 호출 스레드에서 바로 전송
+      futures.add(CompletableFuture.completedFuture(sendBatch(distinctTokens, title, body, payload)));
+    } else {
+      for (int from = 0; from < distinctTokens.size(); from += batchSize) {
+        List<String> batch = distinctTokens.subList(from, Math.min(from + batchSize, distinctTokens.size()));
+        futures.add(submitBulkBatch(batch, title, body, payload));
+      }
+    }
+
+    int successCount = 0;
+    int failureCount = 0;
+    List<String> invalidTokens = new ArrayList<>();
+    for (CompletableFuture<List<FcmSendResult>> future : futures) {
+      for (FcmSendResult result : future.join()) {
+        switch (result.status()) {
+          case SUCCESS -> successCount++;
+          case INVALID_TOKEN -> invalidTokens.add(result.token());
+          case FAILED -> failureCount++;
+        }
+      }
+    }
+
+    pruneInvalidTokens(invalidTokens);
+
+    FcmDeliveryResult deliveryResult = FcmDeliveryResult.builder()
+        .tokenCount(distinctTokens.size())
+        .batchCount(futures.size())
+        .successCount(successCount)
+        .failureCount(failureCount)
+        .invalidTokenCount(invalidTokens.size())
+        .build();
+    log.debug("FCM 배치 전송 완료: {}", deliveryResult);
+    return deliveryResult;
+  }
+
+  /**
+   * 대량 발송 배치 제출: 동시 배치 수 한도까지 대기한 뒤 스레드풀에서 (초당 배치 수 제한을 지켜) 전송
+   * 스레드풀이 제출을 거부하면 배치를 버리지 않고 호출 스레드에서 전송한다.
+   */
+  private CompletableFuture<List<FcmSendResult>> submitBulkBatch(
+      List<String> batch, String title, String body, Map<String, String> payload) {
+    inFlightBatches.acquireUninterruptibly();
+    try {
+      return CompletableFuture
+          .supplyAsync(() -> {
+            awaitSendSlot();
+            return sendBatch(batch, title, body, payload);
+          }, fcmDeliveryExecutor)
+          .whenComplete((results, throwable) -> inFlightBatches.release());
+    } catch (RuntimeException e) {
+      inFlightBatches.release();
+      log.warn("FCM 배치 제출 거부, 호출 스레드에서 전송: batchSize={}", batch.size(), e);
+      awaitSendSlot();
+      return CompletableFuture.completedFuture(sendBatch(batch, title, body, payload));
+    }
+  }
+
+  private List<FcmSendResult> sendBatch(List<String> batch, String title, String body, Map<String, String> payload) {
+    try {
+      return fcmTransport.sendMulticast(batch, title, body, payload);
+    } catch (Exception e) {
+      log.error("FCM 배치 전송 실패: batchSize={}", batch.size(), e);
+      return batch.stream().map(FcmSendResult::failed).toList();
+    }
+  }
+
+  /**
+   * 대량 발송 초당 배치 수 제한: 배치마다 고정 간격의 전송 시각을 예약하고 그 시각까지 대기
+   */
+  private void awaitSendSlot() {
+    double maxBatchesPerSecond = fcmDeliveryProperties.getMaxBatchesPerSecond();
+    if (maxBatchesPerSecond <= 0) {
+      return;
+    }
+    long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / maxBatchesPerSecond);
+    long sendAtNanos;
+    synchronized (this) {
+      long now = System.nanoTime();
+      sendAtNanos = Math.max(now, nextSendSlotNanos);
+      nextSendSlotNanos = sendAtNanos + intervalNanos;
+    }
+    long waitNanos;
+    while ((waitNanos = sendAtNanos - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(waitNanos);
+    }
+  }
+
+  private void pruneInvalidTokens(List<String> invalidTokens) {
+    if (invalidTokens.isEmpty()) {
+      return;
+    }
+    int chunkSize = Math.max(1, fcmDeliveryProperties.getPruneChunkSize());
+    for (int from = 0; from < invalidTokens.size(); from += chunkSize) {
+      List<String> chunk = invalidTokens.subList(from, Math.min(from + chunkSize, invalidTokens.size()));
+      try {
+        fcmTokenService.deleteAllByInvalidTokens(chunk);
+      } catch (Exception e) {
+        log.error("만료된 FCM 토큰 일괄 삭제 실패: count={}", chunk.size(), e);
+      }
+    }
+    log.warn("만료된 FCM 토큰 {}개 DB 삭제 처리", invalidTokens.size());
+  }
+}
@@ -5,6 +5,7 @@ import com.romrom.member.service.MemberService;
 import com.romrom.notification.dto.NotificationRequest;
 import com.romrom.notification.entity.FcmToken;
 import com.romrom.notification.repository.FcmTokenRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
@@ -47,6 +48,16 @@ public class FcmTokenService {
     return fcmTokenRepository.findAllByMember(member);
   }
 
+  /**
+   * 여러 회원의 FCM 토큰 일괄 조회
+   */
+  public List<FcmToken> findAllTokensByMembers(Collection<Member> members) {
+    if (members.isEmpty()) {
+      return List.of();
+    }
+    return fcmTokenRepository.findAllByMemberIn(members);
+  }
+
   /**
    * DB에 저장된 모든 FCM 토큰 조회
    */
@@ -70,4 +81,13 @@ public class FcmTokenService {
     fcmTokenRepository.deleteByToken(invalidFcmToken);
     log.debug("만료된 FCM 토큰 삭제 완료: {}", invalidFcmToken);
   }
+
+  /**
+   * 만료/무효화된 FCM 토큰 일괄 삭제 (배치 전송 응답에서 수집된 토큰)
+   */
+  @Transactional
+  public void deleteAllByInvalidTokens(Collection<String> invalidFcmTokens) {
+    int deletedCount = fcmTokenRepository.deleteAllByTokenIn(invalidFcmTokens);
+    log.debug("만료된 FCM 토큰 일괄 삭제 완료: {}개", deletedCount);
+  }
 }
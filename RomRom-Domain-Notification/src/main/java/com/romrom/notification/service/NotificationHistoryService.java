@@ -7,6 +7,7 @@ import com.romrom.notification.dto.NotificationHistoryRequest;
 import com.romrom.notification.dto.NotificationHistoryResponse;
 import com.romrom.notification.entity.NotificationHistory;
 import com.romrom.notification.repository.NotificationHistoryRepository;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,6 +47,28 @@ public class NotificationHistoryService {
     return saved;
   }
 
+  /**
+   * 알림 히스토리 일괄 저장 (다수 회원 대상 알림, JDBC 배치 insert)
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public List<NotificationHistory> saveAllNotificationHistories(List<NotificationHistoryRequest> requests) {
+    List<NotificationHistory> notificationHistories = requests.stream()
+      .<NotificationHistory>map(request -> NotificationHistory.builder()
+        .member(request.getMember())
+        .notificationType(request.getNotificationType())
+        .title(request.getTitle())
+        .body(request.getBody())
+        .payload(request.getPayload())
+        .isRead(false)
+        .publishedAt(request.getPublishedAt())
+        .build())
+      .toList();
+
+    List<NotificationHistory> saved = notificationHistoryRepository.saveAll(notificationHistories);
+    log.debug("알림 히스토리 일괄 저장 완료: count={}", saved.size());
+    return saved;
+  }
+
   /**
    * 사용자별 알림 목록 조회
    */
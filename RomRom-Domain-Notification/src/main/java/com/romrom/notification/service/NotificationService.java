@@ -1,7 +1,5 @@
 package com.romrom.notification.service;
 
-import com.google.firebase.messaging.*;
-import com.romrom.common.constant.NotificationConstants;
 import com.romrom.member.entity.Member;
 import com.romrom.member.service.MemberService;
 import com.romrom.notification.dto.NotificationHistoryRequest;
@@ -24,6 +22,7 @@ public class NotificationService {
   private final FcmTokenService fcmTokenService;
   private final NotificationHistoryService notificationHistoryService;
   private final MemberService memberService;
+  private final FcmDeliveryService fcmDeliveryService;
 
   /**
    * 단일 사용자 알림 전송
@@ -60,22 +59,51 @@ public class NotificationService {
       return;
     }
 
-    // FCM 알림 전송
+    // FCM 알림 전송 (회원의 기기 토큰을 멀티캐스트 1회로 전송)
     List<FcmToken> tokens = fcmTokenService.findAllTokensByMemberId(memberId);
-    tokens.forEach(token -> send(token, title, body, payload));
+    fcmDeliveryService.deliver(toTokenValues(tokens), title, body, payload);
   }
 
   /**
    * 사용자 리스트에게 알림 전송 (단일 or 다수)
+   * 회원/토큰은 한 번에 조회하고, 히스토리는 일괄 저장, FCM 은 멀티캐스트 배치로 전송
    */
   public void sendToMembers(List<UUID> memberIds, String title, String body, Map<String, String> payload) { // TODO: 추후 알림 도메인 구성 후 파라미터 수정
-    memberIds.forEach(memberId -> {
+    NotificationType notificationType = NotificationType.valueOf(payload.get("notificationType"));
+    LocalDateTime publishedAt = LocalDateTime.parse(payload.get("publishedAt"));
+    List<Member> members = memberService.findMembersByIds(memberIds);
+    if (members.size() < memberIds.size()) {
+      log.warn("알림 대상 회원 중 일부를 찾을 수 없습니다: 요청={}, 조회={}", memberIds.size(), members.size());
+    }
+    if (members.isEmpty()) {
+      return;
+    }
+
+    // 채팅 알림은 히스토리에 저장하지 않음
+    if (notificationType != NotificationType.CHAT_MESSAGE_RECEIVED) {
       try {
-        sendToMember(memberId, title, body, payload);
+        notificationHistoryService.saveAllNotificationHistories(members.stream()
+          .map(member -> NotificationHistoryRequest.builder()
+            .member(member)
+            .notificationType(notificationType)
+            .title(title)
+            .body(body)
+            .payload(payload)
+            .publishedAt(publishedAt)
+            .build())
+          .toList());
       } catch (Exception e) {
-        log.error("알림 전송 실패 (memberId={}), {}", memberId, e.getMessage(), e);
+        log.error("알림 히스토리 일괄 저장 실패: memberCount={}, title={}", members.size(), title, e);
+        // 히스토리 저장 실패 시에도 FCM 알림 발송 진행
       }
-    });
+    }
+
+    // 푸시 알림 설정 체크: 해당 카테고리의 알림을 허용한 회원만 FCM 발송
+    List<Member> agreedMembers = members.stream()
+      .filter(member -> isNotificationTypeAgreed(member, notificationType))
+      .toList();
+    List<FcmToken> tokens = fcmTokenService.findAllTokensByMembers(agreedMembers);
+    fcmDeliveryService.deliver(toTokenValues(tokens), title, body, payload);
   }
 
   /**
@@ -89,9 +117,7 @@ public class NotificationService {
       return;
     }
 
-    for (FcmToken token : tokens) {
-      send(token, title, body, payload);
-    }
+    fcmDeliveryService.deliver(toTokenValues(tokens), title, body, payload);
   }
 
   /**
@@ -106,70 +132,13 @@ public class NotificationService {
       return;
     }
 
-    for (FcmToken token : tokens) {
-      send(token, title, body, payload);
-    }
+    fcmDeliveryService.deliver(toTokenValues(tokens), title, body, payload);
   }
 
-  /**
-   * FCM 토큰 1개에 푸시 전송
-   */
-  private void send(FcmToken token, String title, String body, Map<String, String> payload) {
-    try {
-      Notification notification = Notification.builder()
-          .setTitle(title)
-          .setBody(body)
-          .build();
-
-      // Android 세부 설정
-      AndroidNotification androidNotification = AndroidNotification.builder()
-          .setImage(NotificationConstants.NOTIFICATION_ICON_PATH)
-          .build();
-
-      AndroidConfig androidConfig = AndroidConfig.builder()
-          .setNotification(androidNotification)
-          .build();
-
-      // iOS 세부 설정
-      ApnsFcmOptions apnsFcmOptions = ApnsFcmOptions.builder()
-          .setImage(NotificationConstants.NOTIFICATION_ICON_PATH)
-          .build();
-
-      Aps aps = Aps.builder()
-          .setMutableContent(true)
-          .build();
-
-      ApnsConfig apnsConfig = ApnsConfig.builder()
-          .setAps(aps)
-          .setFcmOptions(apnsFcmOptions)
-          .build();
-
-      Message message = Message.builder()
-          .setToken(token.getToken())
-          .setNotification(notification)
-          .setAndroidConfig(androidConfig)
-          .setApnsConfig(apnsConfig)
-          .putAllData(payload)
-          .build();
-
-      String response = FirebaseMessaging.getInstance().send(message);
-      log.debug("푸시 전송 성공 (member: {}, device: {}, 응답: {})",
-          token.getMember().getMemberId(), token.getDeviceType(), response);
-
-    } catch (FirebaseMessagingException e) {
-      if (e.getMessagingErrorCode() == MessagingErrorCode.UNREGISTERED) {
-        // 앱 삭제 또는 토큰 만료로 영구 무효화된 토큰 — DB에서 즉시 제거
-        log.warn("만료된 FCM 토큰 감지, DB 삭제 처리 (member: {}, device: {}, token: {})",
-            token.getMember().getMemberId(), token.getDeviceType(), token.getToken());
-        fcmTokenService.deleteByInvalidToken(token.getToken());
-      } else {
-        log.error("푸시 전송 실패 (member: {}, device: {}, token: {})",
-            token.getMember().getMemberId(), token.getDeviceType(), token.getToken(), e);
-      }
-    } catch (Exception e) {
-      log.error("푸시 전송 실패 (member: {}, device: {}, token: {})",
-          token.getMember().getMemberId(), token.getDeviceType(), token.getToken(), e);
-    }
+  private List<String> toTokenValues(List<FcmToken> tokens) {
+    return tokens.stream()
+      .map(FcmToken::getToken)
+      .toList();
   }
 
   /**
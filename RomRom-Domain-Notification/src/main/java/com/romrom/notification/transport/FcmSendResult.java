@@ -0,0 +1,26 @@
+package com.romrom.notification.transport;
+
+/**
+ * 토큰 1개에 대한 FCM 전송 결과
+ */
+public record FcmSendResult(String token, Status status) {
+
+  public enum Status {
+    SUCCESS,
+    // 앱 삭제/토큰 만료 등으로 영구 무효화된 토큰 (DB 에서 제거 대상)
+    INVALID_TOKEN,
+    FAILED
+  }
+
+  public static FcmSendResult success(String token) {
+    return new FcmSendResult(token, Status.SUCCESS);
+  }
+
+  public static FcmSendResult invalidToken(String token) {
+    return new FcmSendResult(token, Status.INVALID_TOKEN);
+  }
+
+  public static FcmSendResult failed(String token) {
+    return new FcmSendResult(token, Status.FAILED);
+  }
+}
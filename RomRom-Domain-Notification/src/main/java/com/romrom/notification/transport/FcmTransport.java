@@ -0,0 +1,18 @@
+package com.romrom.notification.transport;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FCM 전송 추상화
+ * 운영에서는 FirebaseFcmTransport 가 사용되고, 테스트에서는 가짜 구현으로 대체해 네트워크 없이 처리량을 측정한다.
+ */
+public interface FcmTransport {
+
+  /**
+   * 같은 알림을 여러 토큰에 한 번에 전송 (토큰 수는 최대 500)
+   *
+   * @return 토큰 순서와 같은 순서의 토큰별 전송 결과
+   */
+  List<FcmSendResult> sendMulticast(List<String> tokens, String title, String body, Map<String, String> payload);
+}
@@ -0,0 +1,100 @@
+package com.romrom.notification.transport;
+
+import com.google.firebase.messaging.AndroidConfig;
+import com.google.firebase.messaging.AndroidNotification;
+import com.google.firebase.messaging.ApnsConfig;
+import com.google.firebase.messaging.ApnsFcmOptions;
+import com.google.firebase.messaging.Aps;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import com.romrom.common.constant.NotificationConstants;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+public class FirebaseFcmTransport implements FcmTransport {
+
+  @Override
+  public List<FcmSendResult> sendMulticast(List<String> tokens, String title, String body, Map<String, String> payload) {
+    MulticastMessage message = buildMulticastMessage(tokens, title, body, payload);
+
+    BatchResponse batchResponse;
+    try {
+      batchResponse = FirebaseMessaging.getInstance().sendEachForMulticast(message);
+    } catch (FirebaseMessagingException e) {
+      log.error("FCM 멀티캐스트 전송 실패: tokenCount={}, errorCode={}", tokens.size(), e.getMessagingErrorCode(), e);
+      return tokens.stream().map(FcmSendResult::failed).toList();
+    }
+
+    List<SendResponse> responses = batchResponse.getResponses();
+    List<FcmSendResult> results = new ArrayList<>(tokens.size());
+    for (int i = 0; i < tokens.size(); i++) {
+      results.add(toSendResult(tokens.get(i), responses.get(i)));
+    }
+    log.debug("FCM 멀티캐스트 전송 완료: 성공={}, 실패={}", batchResponse.getSuccessCount(), batchResponse.getFailureCount());
+    return results;
+  }
+
+  private FcmSendResult toSendResult(String token, SendResponse response) {
+    if (response.isSuccessful()) {
+      return FcmSendResult.success(token);
+    }
+    MessagingErrorCode errorCode = response.getException() == null
+        ? null
+        : response.getException().getMessagingErrorCode();
+    // 앱 삭제/토큰 만료 또는 다른 프로젝트에서 발급된 토큰은 재사용 불가
+    if (errorCode == MessagingErrorCode.UNREGISTERED || errorCode == MessagingErrorCode.SENDER_ID_MISMATCH) {
+      return FcmSendResult.invalidToken(token);
+    }
+    log.warn("푸시 전송 실패 (token: {}, errorCode: {})", token, errorCode);
+    return FcmSendResult.failed(token);
+  }
+
+  private MulticastMessage buildMulticastMessage(
+      List<String> tokens, String title, String body, Map<String, String> payload) {
+    Notification notification = Notification.builder()
+        .setTitle(title)
+        .setBody(body)
+        .build();
+
+    // Android 세부 설정
+    AndroidNotification androidNotification = AndroidNotification.builder()
+        .setImage(NotificationConstants.NOTIFICATION_ICON_PATH)
+        .build();
+
+    AndroidConfig androidConfig = AndroidConfig.builder()
+        .setNotification(androidNotification)
+        .build();
+
+    // iOS 세부 설정
+    ApnsFcmOptions apnsFcmOptions = ApnsFcmOptions.builder()
+        .setImage(NotificationConstants.NOTIFICATION_ICON_PATH)
+        .build();
+
+    Aps aps = Aps.builder()
+        .setMutableContent(true)
+        .build();
+
+    ApnsConfig apnsConfig = ApnsConfig.builder()
+        .setAps(aps)
+        .setFcmOptions(apnsFcmOptions)
+        .build();
+
+    return MulticastMessage.builder()
+        .addAllTokens(tokens)
+        .setNotification(notification)
+        .setAndroidConfig(androidConfig)
+        .setApnsConfig(apnsConfig)
+        .putAllData(payload)
+        .build();
+  }
+}
@@ -0,0 +1,72 @@
+package com.romrom.notification.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.notification.dto.FcmDeliveryResult;
+import com.romrom.notification.service.FcmDeliveryServiceTest.FakeDeliveryEnvironment;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("fcmDeliveryBenchmarkEnabled")
+class FcmDeliveryBenchmarkTest {
+
+  /*
+   * 대량 발송 처리량 비교: 500개 배치 순차 전송 vs 8개 동시 전송, 초당 배치 수 제한 적용 여부
+   * 가짜 FCM 전송은 배치당 FAKE_BATCH_LATENCY_MILLIS 만큼 지연된다.
+   */
+  private static final int BENCHMARK_TOKEN_COUNT = Integer.getInteger("romrom.fcm-delivery.benchmark.tokens", 100_000);
+  private static final int RATE_LIMITED_BATCH_COUNT = 11;
+  private static final double RATE_LIMIT_BATCHES_PER_SECOND = 50.0;
+
+  private static boolean fcmDeliveryBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.fcm-delivery.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_FCM_DELIVERY_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareBulkDeliveryThroughput() {
+    List<String> tokens = FcmDeliveryServiceTest.tokens("device-", BENCHMARK_TOKEN_COUNT);
+
+    FakeDeliveryEnvironment sequential = new FakeDeliveryEnvironment(1, 0);
+    long sequentialMillis = measureMillis(sequential, tokens);
+    FakeDeliveryEnvironment concurrent = new FakeDeliveryEnvironment(8, 0);
+    long concurrentMillis = measureMillis(concurrent, tokens);
+
+    // 11개 배치를 초당 50개로 제한하면 첫 배치 이후 10개 간격(20ms) 대기
+    FakeDeliveryEnvironment rateLimited = new FakeDeliveryEnvironment(8, RATE_LIMIT_BATCHES_PER_SECOND);
+    long rateLimitedMillis = measureMillis(rateLimited,
+        FcmDeliveryServiceTest.tokens("device-", 500 * RATE_LIMITED_BATCH_COUNT));
+    long minimumRateLimitedMillis = (long) ((RATE_LIMITED_BATCH_COUNT - 1) * 1000 / RATE_LIMIT_BATCHES_PER_SECOND);
+
+    lineLog(String.format("[FcmDeliveryBenchmarkTest] 토큰 %,d건 / 배치당 지연 %dms",
+        BENCHMARK_TOKEN_COUNT, FcmDeliveryServiceTest.FAKE_BATCH_LATENCY_MILLIS));
+    lineLog(String.format("- 토큰별 순차 전송(기존, 추정): %,dms",
+        BENCHMARK_TOKEN_COUNT * FcmDeliveryServiceTest.FAKE_BATCH_LATENCY_MILLIS));
+    lineLog(String.format("- 500개 배치 순차 전송: %,dms (%,d tokens/s)", sequentialMillis, throughput(sequentialMillis)));
+    lineLog(String.format("- 500개 배치 8개 동시 전송: %,dms (%,d tokens/s), 최대 동시 배치 %d",
+        concurrentMillis, throughput(concurrentMillis), concurrent.transport.maxInFlight.get()));
+    lineLog(String.format("- 배치 %d개, 초당 %.0f배치 제한: %,dms (최소 %,dms)",
+        RATE_LIMITED_BATCH_COUNT, RATE_LIMIT_BATCHES_PER_SECOND, rateLimitedMillis, minimumRateLimitedMillis));
+
+    assertThat(concurrentMillis).as("동시 전송이 순차 배치 전송보다 빨라야 함").isLessThan(sequentialMillis);
+    assertThat(rateLimitedMillis).as("초당 배치 수 제한이 적용되어야 함").isGreaterThanOrEqualTo(minimumRateLimitedMillis);
+  }
+
+  private static long measureMillis(FakeDeliveryEnvironment environment, List<String> tokens) {
+    try {
+      long startNanos = System.nanoTime();
+      FcmDeliveryResult result = environment.deliver(tokens);
+      long elapsedMillis = (System.nanoTime() - startNanos) / 1_000_000;
+      assertThat(result.getSuccessCount()).isEqualTo(tokens.size());
+      return elapsedMillis;
+    } finally {
+      environment.shutdown();
+    }
+  }
+
+  private static long throughput(long elapsedMillis) {
+    return BENCHMARK_TOKEN_COUNT * 1000L / Math.max(1, elapsedMillis);
+  }
+}
@@ -0,0 +1,240 @@
+package com.romrom.notification.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.romrom.notification.config.FcmDeliveryExecutorConfig;
+import com.romrom.notification.dto.FcmDeliveryResult;
+import com.romrom.notification.properties.FcmDeliveryProperties;
+import com.romrom.notification.transport.FcmSendResult;
+import com.romrom.notification.transport.FcmTransport;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * FcmDeliveryService 단위 테스트 (Firebase 미접근).
+ * FCM 은 배치당 지연이 있는 가짜 전송(FakeFcmTransport)으로 대체한다. 처리량 비교는 FcmDeliveryBenchmarkTest 에서 측정한다.
+ */
+@Slf4j
+class FcmDeliveryServiceTest {
+
+  static final long FAKE_BATCH_LATENCY_MILLIS = 20L;
+  private static final Map<String, String> PAYLOAD = Map.of("notificationType", "ANNOUNCEMENT");
+
+  @Test
+  public void mainTest() throws Exception {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::대량발송_배치_동시전송_테스트);
+    lineLog(null);
+    timeLog(this::무효토큰_일괄삭제_테스트);
+    lineLog(null);
+    timeLog(this::단일배치는_호출스레드에서_바로_전송_테스트);
+    lineLog(null);
+    timeLog(this::동시_대량발송도_배치수_제한_및_유실없음_테스트);
+    lineLog(null);
+    timeLog(this::배치_전송_예외시_실패로_집계_테스트);
+    lineLog(null);
+    timeLog(this::중복_및_빈_토큰_제외_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 대량발송_배치_동시전송_테스트() {
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(8, 0);
+    FcmDeliveryResult result = environment.deliver(tokens("device-", 10_000));
+    environment.shutdown();
+
+    assertEquals(10_000, result.getSuccessCount());
+    assertEquals(20, result.getBatchCount());
+    assertEquals(10_000, environment.transport.deliveredTokens.size(), "토큰마다 정확히 한 번 전송되어야 한다");
+    assertTrue(environment.transport.maxBatchSize.get() <= 500, "멀티캐스트 배치는 500개를 넘으면 안 된다");
+    assertTrue(environment.transport.maxInFlight.get() <= 8, "동시 전송 배치 수는 설정값을 넘으면 안 된다");
+    assertTrue(environment.transport.senderThreadNames.stream().allMatch(name -> name.startsWith("fcm-delivery-")),
+        "대량 발송 배치는 전송 스레드풀에서 보내야 한다");
+  }
+
+  public void 무효토큰_일괄삭제_테스트() {
+    List<String> tokens = new ArrayList<>(tokens("device-", 1_500));
+    tokens.addAll(tokens("expired-", 1_200));
+
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(4, 0);
+    FcmDeliveryResult result = environment.deliver(tokens);
+    environment.shutdown();
+
+    assertEquals(1_500, result.getSuccessCount());
+    assertEquals(1_200, result.getInvalidTokenCount());
+    // pruneChunkSize(1000) 단위로 나눠 삭제
+    assertEquals(2, environment.pruneCallCount.get());
+    assertEquals(1_200, environment.prunedTokens.size());
+    assertTrue(environment.prunedTokens.stream().allMatch(token -> token.startsWith("expired-")));
+  }
+
+  public void 단일배치는_호출스레드에서_바로_전송_테스트() {
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(8, 1.0);
+    FcmDeliveryResult first = environment.deliver(tokens("chat-", 3));
+    FcmDeliveryResult second = environment.deliver(tokens("trade-", 500));
+    environment.shutdown();
+
+    // 초당 1배치 제한은 대량 발송에만 적용되므로 두 알림 모두 호출 스레드에서 바로 전송된다
+    assertEquals(3, first.getSuccessCount());
+    assertEquals(500, second.getSuccessCount());
+    assertEquals(Set.of(Thread.currentThread().getName()), environment.transport.senderThreadNames);
+  }
+
+  public void 동시_대량발송도_배치수_제한_및_유실없음_테스트() throws Exception {
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(2, 0);
+    ExecutorService callers = Executors.newFixedThreadPool(4);
+    List<Future<FcmDeliveryResult>> results = new ArrayList<>();
+    for (int caller = 0; caller < 4; caller++) {
+      String prefix = "caller" + caller + "-";
+      results.add(callers.submit(() -> environment.deliver(tokens(prefix, 2_500))));
+    }
+    int successCount = 0;
+    int failureCount = 0;
+    for (Future<FcmDeliveryResult> result : results) {
+      successCount += result.get(60, TimeUnit.SECONDS).getSuccessCount();
+      failureCount += result.get().getFailureCount();
+    }
+    callers.shutdown();
+    environment.shutdown();
+
+    // 호출마다 세마포어를 새로 만들면 풀(2) + 큐(2)를 넘는 배치가 거부되어 실패로 집계된다
+    assertEquals(0, failureCount, "스레드풀 포화로 유실되는 배치가 없어야 한다");
+    assertEquals(10_000, successCount);
+    assertTrue(environment.transport.maxInFlight.get() <= 2, "여러 호출을 합쳐도 동시 전송 배치 수는 설정값 이하여야 한다");
+  }
+
+  public void 배치_전송_예외시_실패로_집계_테스트() {
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(2, 0);
+    environment.transport.failWholeBatch = true;
+    FcmDeliveryResult result = environment.deliver(tokens("device-", 1_000));
+    environment.shutdown();
+
+    assertEquals(1_000, result.getFailureCount());
+    assertEquals(0, result.getSuccessCount());
+    verify(environment.fcmTokenService, never()).deleteAllByInvalidTokens(anyCollection());
+  }
+
+  public void 중복_및_빈_토큰_제외_테스트() {
+    List<String> tokens = new ArrayList<>(List.of("device-1", "device-1", "", " ", "device-2"));
+    tokens.add(null);
+
+    FakeDeliveryEnvironment environment = new FakeDeliveryEnvironment(1, 0);
+    FcmDeliveryResult result = environment.deliver(tokens);
+    environment.shutdown();
+
+    assertEquals(2, result.getTokenCount());
+    assertEquals(2, result.getSuccessCount());
+    assertEquals(1, result.getBatchCount());
+  }
+
+  static List<String> tokens(String prefix, int count) {
+    List<String> tokens = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      tokens.add(prefix + i);
+    }
+    return tokens;
+  }
+
+  /**
+   * 배치당 고정 지연 후 토큰별 결과를 돌려주는 가짜 FCM 전송 ("expired-" 로 시작하는 토큰은 무효 처리)
+   */
+  static class FakeFcmTransport implements FcmTransport {
+
+    final Set<String> deliveredTokens = ConcurrentHashMap.newKeySet();
+    final Set<String> senderThreadNames = ConcurrentHashMap.newKeySet();
+    final AtomicInteger inFlight = new AtomicInteger();
+    final AtomicInteger maxInFlight = new AtomicInteger();
+    final AtomicInteger maxBatchSize = new AtomicInteger();
+    volatile boolean failWholeBatch = false;
+
+    @Override
+    public List<FcmSendResult> sendMulticast(List<String> tokens, String title, String body, Map<String, String> payload) {
+      int current = inFlight.incrementAndGet();
+      maxInFlight.accumulateAndGet(current, Math::max);
+      maxBatchSize.accumulateAndGet(tokens.size(), Math::max);
+      senderThreadNames.add(Thread.currentThread().getName());
+      try {
+        Thread.sleep(FAKE_BATCH_LATENCY_MILLIS);
+        if (failWholeBatch) {
+          throw new IllegalStateException("FCM 서버 응답 없음");
+        }
+        List<FcmSendResult> results = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+          if (token.startsWith("expired-")) {
+            results.add(FcmSendResult.invalidToken(token));
+          } else {
+            deliveredTokens.add(token);
+            results.add(FcmSendResult.success(token));
+          }
+        }
+        return results;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      } finally {
+        inFlight.decrementAndGet();
+      }
+    }
+  }
+
+  /**
+   * 실제 FcmDeliveryExecutorConfig 스레드풀 + FcmDeliveryService 에 가짜 FCM 전송을 연결한 환경
+   */
+  static class FakeDeliveryEnvironment {
+
+    final FakeFcmTransport transport = new FakeFcmTransport();
+    final FcmTokenService fcmTokenService = mock(FcmTokenService.class);
+    final List<String> prunedTokens = Collections.synchronizedList(new ArrayList<>());
+    final AtomicInteger pruneCallCount = new AtomicInteger();
+    final ThreadPoolTaskExecutor executor;
+    final FcmDeliveryService fcmDeliveryService;
+
+    @SuppressWarnings("unchecked")
+    FakeDeliveryEnvironment(int concurrency, double maxBatchesPerSecond) {
+      FcmDeliveryProperties properties = new FcmDeliveryProperties();
+      properties.setConcurrency(concurrency);
+      properties.setMaxBatchesPerSecond(maxBatchesPerSecond);
+      executor = new FcmDeliveryExecutorConfig(properties).fcmDeliveryExecutor();
+
+      doAnswer(invocation -> {
+        pruneCallCount.incrementAndGet();
+        prunedTokens.addAll((Collection<String>) invocation.getArgument(0));
+        return null;
+      }).when(fcmTokenService).deleteAllByInvalidTokens(anyCollection());
+
+      fcmDeliveryService = new FcmDeliveryService(transport, fcmTokenService, properties, executor);
+    }
+
+    FcmDeliveryResult deliver(List<String> tokens) {
+      return fcmDeliveryService.deliver(tokens, "공지사항", "서비스 점검 안내", PAYLOAD);
+    }
+
+    void shutdown() {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.romrom.storage.constant;
+
+import com.romrom.storage.util.MinioUtil;
+import java.util.Arrays;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이미지 파생본(variant) 종류
+ * 원본(public/images/{파일명})마다 public/variants/{pathSegment}/{확장자 제외 파일명}.webp 에 결정적으로 저장된다.
+ * 원본 파일명은 업로드 시각을 포함해 유일하므로 파생본 키도 내용이 바뀌지 않아 장기 캐시가 가능하다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageVariant {
+  THUMBNAIL("목록 썸네일", "thumbnail", 320, 70),
+  MEDIUM("상세 미리보기", "medium", 720, 75);
+
+  public static final String VARIANTS_PATH = MinioUtil.PUBLIC_PATH + "variants/";
+  private static final String VARIANT_EXTENSION = ".webp";
+
+  private final String description;
+  private final String pathSegment;
+  private final int width;
+  private final int quality;
+
+  /**
+   * 원본 오브젝트 이름으로 파생본 오브젝트 이름 생성
+   *
+   * @param originalObjectName ex) public/images/1711326597434_shoes.webp
+   * @return ex) public/variants/thumbnail/1711326597434_shoes.webp
+   */
+  public String objectNameOf(String originalObjectName) {
+    String fileName = originalObjectName.substring(originalObjectName.lastIndexOf('/') + 1);
+    int lastDot = fileName.lastIndexOf('.');
+    String baseName = lastDot > 0 ? fileName.substring(0, lastDot) : fileName;
+    return VARIANTS_PATH + pathSegment + "/" + baseName + VARIANT_EXTENSION;
+  }
+
+  /**
+   * 원본 하나에 대한 모든 파생본 오브젝트 이름 (원본 삭제 시 함께 정리)
+   */
+  public static List<String> allObjectNamesOf(String originalObjectName) {
+    return Arrays.stream(values())
+        .map(variant -> variant.objectNameOf(originalObjectName))
+        .toList();
+  }
+}
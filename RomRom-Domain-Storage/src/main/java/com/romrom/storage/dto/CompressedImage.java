@@ -1,5 +1,6 @@
 package com.romrom.storage.dto;
 
+import java.nio.file.Path;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,7 +11,7 @@ import lombok.ToString;
 /**
  * 압축된 이미지 정보를 담는 DTO
  */
-@ToString(exclude = "data")
+@ToString
 @AllArgsConstructor
 @Getter
 @Setter
@@ -18,7 +19,8 @@ import lombok.ToString;
 @NoArgsConstructor
 public class CompressedImage {
 
-  private byte[] data;
+  // 압축 결과 임시 파일 (업로드 후 ImageCompressionService.discard 로 삭제)
+  private Path dataFile;
 
   private String fileName;
 
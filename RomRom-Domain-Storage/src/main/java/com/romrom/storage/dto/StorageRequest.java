@@ -1,5 +1,6 @@
 package com.romrom.storage.dto;
 
+import com.romrom.storage.constant.ImageVariant;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,4 +19,10 @@ public class StorageRequest {
   private List<MultipartFile> images;
 
   private List<String> imageUrls;
+
+  // 파생본 조회 대상 원본 URL
+  private String imageUrl;
+
+  // 파생본 종류 (기본 THUMBNAIL)
+  private ImageVariant variant;
 }
@@ -0,0 +1,24 @@
+package com.romrom.storage.dto;
+
+import java.time.ZonedDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 오브젝트 목록 조회 결과 한 건 (이름/수정 시각/디렉토리 여부만 담는 경량 정보)
+ */
+@ToString
+@AllArgsConstructor
+@Getter
+@Builder
+public class StoredObjectInfo {
+
+  private String objectName;
+
+  // 디렉토리(prefix) 항목은 null
+  private ZonedDateTime lastModified;
+
+  private boolean dir;
+}
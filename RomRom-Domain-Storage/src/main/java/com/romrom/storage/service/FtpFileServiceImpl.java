@@ -68,4 +68,11 @@ public class FtpFileServiceImpl implements FileService {
     }
     return null;
   }
+
+  /**
+   * FTP 도메인의 이미지 URL 인지 확인 (scheme/host/port 까지 정확히 비교)
+   */
+  public boolean isStoredImageUrl(String imageUrl) {
+    return FileUtil.isUnderBaseUrl(domain, imageUrl);
+  }
 }
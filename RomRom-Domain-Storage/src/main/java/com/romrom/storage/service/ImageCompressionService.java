@@ -3,8 +3,25 @@ package com.romrom.storage.service;
 import com.romrom.common.service.SystemConfigCacheService;
 import com.romrom.storage.dto.CompressedImage;
 import com.sksamuel.scrimage.ImmutableImage;
-import com.sksamuel.scrimage.nio.ByteArrayImageSource;
+import com.sksamuel.scrimage.metadata.ImageMetadata;
+import com.sksamuel.scrimage.metadata.Orientation;
+import com.sksamuel.scrimage.metadata.OrientationTools;
+import com.sksamuel.scrimage.nio.ImageSource;
 import com.sksamuel.scrimage.webp.WebpWriter;
+import jakarta.annotation.PostConstruct;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +31,10 @@ import org.springframework.web.multipart.MultipartFile;
  * 이미지 압축 서비스
  * - WebP 포맷으로 이미지를 압축 변환
  * - 리사이징을 통한 용량 최적화
+ * - 헤더(가로/세로)만 먼저 읽어 이미 작은 이미지는 디코드 없이 통과
+ * - 큰 원본은 서브샘플링 디코드로 목표 너비의 2배 수준까지만 픽셀을 읽음
+ * - 동시 압축 작업의 예상 디코드 메모리 합계를 전역 예산(Semaphore)으로 제한
+ * - 압축 결과는 임시 파일에 기록하고 업로드 시 스트림으로 전송 (힙에 결과 byte[] 를 들고 있지 않음)
  */
 @Service
 @RequiredArgsConstructor
@@ -24,17 +45,43 @@ public class ImageCompressionService {
   private static final int QUALITY = 80;         // 압축 품질 (0-100)
   private static final String WEBP_EXTENSION = ".webp";
   private static final String WEBP_CONTENT_TYPE = "image/webp";
+  private static final String TEMP_FILE_PREFIX = "romrom-compressed-";
+  private static final int WEBP_HEADER_LENGTH = 30;
+
+  // 서브샘플링 후 디코드 너비 하한 (목표 너비의 배수)
+  private static final int SUBSAMPLING_MIN_WIDTH_RATIO = 2;
+  // 디코드 원본 + 회전/축소 중간 이미지 (ARGB 4바이트 × 2장)
+  private static final long WORKING_BYTES_PER_DECODED_PIXEL = 4L * 2;
+  // 예산 Semaphore 단위 (permit 1개 = 1KB)
+  private static final long BUDGET_PERMIT_BYTES = 1024L;
 
   private static final String KEY_SKIP_CONTENT_TYPE = "image.compress.skip-content-type";
   private static final String KEY_SKIP_MAX_SIZE_BYTES = "image.compress.skip-max-size-bytes";
+  private static final String KEY_MEMORY_BUDGET_BYTES = "image.compress.memory-budget-bytes";
+  private static final String KEY_MEMORY_WAIT_MILLIS = "image.compress.memory-wait-millis";
   private static final String DEFAULT_SKIP_CONTENT_TYPE = "image/webp";
   private static final String DEFAULT_SKIP_MAX_SIZE_BYTES = "512000";
+  private static final String DEFAULT_MEMORY_BUDGET_BYTES = "268435456";  // 256MB
+  private static final String DEFAULT_MEMORY_WAIT_MILLIS = "10000";
 
   private final SystemConfigCacheService systemConfigCacheService;
 
+  // 동시 압축 작업 전체의 디코드 메모리 예산 (부팅 시 1회 결정, 변경 반영은 서버 재시작 시점)
+  private Semaphore memoryBudget;
+  private int memoryBudgetPermits;
+
+  @PostConstruct
+  public void init() {
+    long memoryBudgetBytes = parsePositiveLong(KEY_MEMORY_BUDGET_BYTES, DEFAULT_MEMORY_BUDGET_BYTES);
+    this.memoryBudgetPermits = (int) Math.min(Integer.MAX_VALUE, Math.max(1, memoryBudgetBytes / BUDGET_PERMIT_BYTES));
+    this.memoryBudget = new Semaphore(memoryBudgetPermits, true);
+    log.info("이미지 압축 메모리 예산 초기화: {} bytes", (long) memoryBudgetPermits * BUDGET_PERMIT_BYTES);
+  }
+
   /**
    * 이미지를 WebP로 압축 변환
-   * FE 압축본(WebP + 소용량)은 재압축 없이 스킵(null 반환)하여 원본 저장 경로로 통과시킨다.
+   * FE 압축본(WebP + 소용량)과 이미 작은 이미지(목표 너비 이하 + 소용량)는 재압축 없이 스킵(null 반환)하여 원본 저장 경로로 통과시킨다.
+   * 반환된 CompressedImage 의 임시 파일은 업로드 후 {@link #discard(CompressedImage)} 로 정리해야 한다.
    *
    * @param file 원본 MultipartFile
    * @return 압축된 이미지 정보 (스킵/실패 시 null 반환)
@@ -47,40 +94,123 @@ public class ImageCompressionService {
         return null;
       }
 
-      long originalSize = file.getSize();
+      // 헤더만 읽어 가로/세로 확인 (픽셀 디코드 없음)
+      ImageInput imageInput = file::getInputStream;
+      ImageDimension dimension = readDimension(imageInput);
+      ImageMetadata metadata = readMetadata(imageInput, file.getOriginalFilename());
+      if (dimension != null && isAlreadySmall(file, dimension, metadata)) {
+        log.info("이미지 압축 스킵(목표 너비 이하 소용량): {}, 크기: {} bytes, {}x{}",
+            file.getOriginalFilename(), file.getSize(), dimension.width(), dimension.height());
+        return null;
+      }
+
+      return encodeWebp(imageInput, file.getOriginalFilename(), file.getSize(), dimension, metadata, TARGET_WIDTH, QUALITY);
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("이미지 압축 대기 중 인터럽트, 원본 사용 예정: {}", file.getOriginalFilename());
+      return null;
+    } catch (Exception e) {
+      log.warn("이미지 압축 실패, 원본 사용 예정: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 저장된 이미지 파일을 지정 너비의 WebP 로 변환 (파생본 생성용)
+   * 업로드 압축과 같은 메모리 예산을 공유하며, 원본이 목표 너비 이하면 크기를 유지한 채 재인코딩만 한다.
+   *
+   * @param sourceFile 원본 이미지 파일
+   * @param fileName   결과 파일명 기준 (확장자는 .webp 로 변경)
+   * @return 변환된 이미지 정보 (실패 시 null 반환)
+   */
+  public CompressedImage resizeToWebp(Path sourceFile, String fileName, int targetWidth, int quality) {
+    try {
+      ImageInput imageInput = () -> Files.newInputStream(sourceFile);
+      ImageDimension dimension = readDimension(imageInput);
+      ImageMetadata metadata = readMetadata(imageInput, fileName);
+      return encodeWebp(imageInput, fileName, Files.size(sourceFile), dimension, metadata, targetWidth, quality);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("이미지 변환 대기 중 인터럽트: {}", fileName);
+      return null;
+    } catch (Exception e) {
+      log.warn("이미지 변환 실패: {}, 너비: {}, 오류: {}", fileName, targetWidth, e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 메모리 예산 확보 → (서브샘플링) 디코드 → 목표 너비 축소 → WebP 임시 파일 기록
+   * 예산 대기 시간 초과 시 null 반환
+   */
+  private CompressedImage encodeWebp(ImageInput imageInput, String fileName, long originalSize, ImageDimension dimension,
+      ImageMetadata metadata, int targetWidth, int quality) throws IOException, InterruptedException {
+    boolean subsamplingSupported = dimension != null && dimension.imageIoReadable();
+    int subsampling = subsamplingSupported ? resolveSubsampling(orientedWidth(dimension, metadata), targetWidth) : 1;
+    int requiredPermits = dimension != null ? estimatePermits(dimension, subsampling) : memoryBudgetPermits;
+    if (!memoryBudget.tryAcquire(requiredPermits, parseMemoryWaitMillis(), TimeUnit.MILLISECONDS)) {
+      log.warn("이미지 압축 메모리 예산 대기 시간 초과, 원본 사용 예정: {}, 필요: {} KB, 잔여: {} KB",
+          fileName, requiredPermits, memoryBudget.availablePermits());
+      return null;
+    }
 
-      // 이미지 읽기 (EXIF orientation 자동 적용)
-      ImmutableImage image = ImmutableImage.loader().load(new ByteArrayImageSource(file.getBytes()));
+    Path compressedFile;
+    try {
+      // ImageIO 미지원 포맷(WebP 등)은 전체 디코드 (크기를 모르면 예산 전체 점유)
+      ImmutableImage image = subsamplingSupported
+          ? decodeSubsampled(imageInput, fileName, subsampling, metadata)
+          : loadFully(imageInput);
 
       // 가로 기준 리사이즈 (비율 유지, 큰 이미지만)
-      if (image.width > TARGET_WIDTH) {
-        int originalWidth = image.width;
-        image = image.scaleToWidth(TARGET_WIDTH);
-        log.debug("이미지 리사이즈: {} -> {}", originalWidth, TARGET_WIDTH);
+      if (image.width > targetWidth) {
+        int decodedWidth = image.width;
+        image = image.scaleToWidth(targetWidth);
+        log.debug("이미지 리사이즈: {} -> {} (subsampling={})", decodedWidth, targetWidth, subsampling);
       }
 
-      // WebP로 변환
-      byte[] compressedBytes = image.bytes(WebpWriter.DEFAULT.withQ(QUALITY));
+      // WebP로 변환해 임시 파일에 기록
+      compressedFile = Files.createTempFile(TEMP_FILE_PREFIX, WEBP_EXTENSION);
+      try {
+        image.forWriter(WebpWriter.DEFAULT.withQ(quality)).write(compressedFile);
+      } catch (IOException | RuntimeException e) {
+        Files.deleteIfExists(compressedFile);
+        throw e;
+      }
+    } finally {
+      memoryBudget.release(requiredPermits);
+    }
 
-      // 파일명 변경 (.webp 확장자)
-      String newFileName = changeExtensionToWebp(file.getOriginalFilename());
+    long compressedSize = Files.size(compressedFile);
 
-      double compressionRate = (1 - (double) compressedBytes.length / originalSize) * 100;
-      log.info("이미지 압축 완료: {} -> {}, 원본 크기: {} bytes, 압축 후 크기: {} bytes, 압축률: {}%",
-          file.getOriginalFilename(), newFileName, originalSize, compressedBytes.length,
-          String.format("%.1f", compressionRate));
+    // 파일명 변경 (.webp 확장자)
+    String newFileName = changeExtensionToWebp(fileName);
 
-      return CompressedImage.builder()
-          .data(compressedBytes)
-          .fileName(newFileName)
-          .contentType(WEBP_CONTENT_TYPE)
-          .originalSize(originalSize)
-          .compressedSize(compressedBytes.length)
-          .build();
+    double compressionRate = (1 - (double) compressedSize / originalSize) * 100;
+    log.info("이미지 압축 완료: {} -> {}, 원본 크기: {} bytes, 압축 후 크기: {} bytes, 압축률: {}%",
+        fileName, newFileName, originalSize, compressedSize,
+        String.format("%.1f", compressionRate));
 
-    } catch (Exception e) {
-      log.warn("이미지 압축 실패, 원본 사용 예정: {}, 오류: {}", file.getOriginalFilename(), e.getMessage());
-      return null;
+    return CompressedImage.builder()
+        .dataFile(compressedFile)
+        .fileName(newFileName)
+        .contentType(WEBP_CONTENT_TYPE)
+        .originalSize(originalSize)
+        .compressedSize(compressedSize)
+        .build();
+  }
+
+  /**
+   * 압축 결과 임시 파일 삭제 (업로드 성공/실패와 무관하게 호출)
+   */
+  public void discard(CompressedImage compressed) {
+    if (compressed == null || compressed.getDataFile() == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(compressed.getDataFile());
+    } catch (IOException e) {
+      log.warn("압축 임시 파일 삭제 실패: {}", compressed.getDataFile(), e);
     }
   }
 
@@ -97,6 +227,139 @@ public class ImageCompressionService {
         && file.getSize() <= skipMaxSizeBytes;
   }
 
+  /**
+   * 이미 작은 이미지 여부 판단
+   * 회전 보정 후 너비가 목표 이하이고 용량도 스킵 기준 이하면 재인코딩 이득이 작으므로 원본 그대로 저장
+   */
+  private boolean isAlreadySmall(MultipartFile file, ImageDimension dimension, ImageMetadata metadata) {
+    return orientedWidth(dimension, metadata) <= TARGET_WIDTH && file.getSize() <= parseSkipMaxSizeBytes();
+  }
+
+  /**
+   * 헤더만 읽어 이미지 크기 확인
+   * ImageIO 리더가 없는 포맷은 WebP 헤더를 직접 읽고, 그마저 아니면 null
+   */
+  private ImageDimension readDimension(ImageInput imageInput) throws IOException {
+    try (InputStream inputStream = imageInput.open();
+        ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+      ImageReader reader = findReader(imageInputStream);
+      if (reader != null) {
+        try {
+          reader.setInput(imageInputStream, true, true);
+          return new ImageDimension(reader.getWidth(0), reader.getHeight(0), true);
+        } finally {
+          reader.dispose();
+        }
+      }
+    }
+    try (InputStream inputStream = imageInput.open()) {
+      return readWebpDimension(inputStream.readNBytes(WEBP_HEADER_LENGTH));
+    }
+  }
+
+  /**
+   * WebP(RIFF) 헤더의 가로/세로 (VP8 손실, VP8L 무손실, VP8X 확장 포맷)
+   */
+  private ImageDimension readWebpDimension(byte[] header) {
+    if (header.length < WEBP_HEADER_LENGTH
+        || !"RIFF".equals(new String(header, 0, 4, StandardCharsets.US_ASCII))
+        || !"WEBP".equals(new String(header, 8, 4, StandardCharsets.US_ASCII))) {
+      return null;
+    }
+    String chunkType = new String(header, 12, 4, StandardCharsets.US_ASCII);
+    switch (chunkType) {
+      case "VP8X" -> {
+        int width = 1 + ((header[24] & 0xFF) | (header[25] & 0xFF) << 8 | (header[26] & 0xFF) << 16);
+        int height = 1 + ((header[27] & 0xFF) | (header[28] & 0xFF) << 8 | (header[29] & 0xFF) << 16);
+        return new ImageDimension(width, height, false);
+      }
+      case "VP8 " -> {
+        int width = ((header[26] & 0xFF) | (header[27] & 0xFF) << 8) & 0x3FFF;
+        int height = ((header[28] & 0xFF) | (header[29] & 0xFF) << 8) & 0x3FFF;
+        return new ImageDimension(width, height, false);
+      }
+      case "VP8L" -> {
+        int width = 1 + ((header[21] & 0xFF) | (header[22] & 0x3F) << 8);
+        int height = 1 + ((header[22] & 0xC0) >> 6 | (header[23] & 0xFF) << 2 | (header[24] & 0x0F) << 10);
+        return new ImageDimension(width, height, false);
+      }
+      default -> {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * 서브샘플링 디코드 후 EXIF orientation 적용
+   */
+  private ImmutableImage decodeSubsampled(ImageInput imageInput, String fileName, int subsampling, ImageMetadata metadata)
+      throws IOException {
+    BufferedImage decoded;
+    try (InputStream inputStream = imageInput.open();
+        ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+      ImageReader reader = findReader(imageInputStream);
+      if (reader == null) {
+        throw new IOException("지원하지 않는 이미지 포맷: " + fileName);
+      }
+      try {
+        reader.setInput(imageInputStream, true, true);
+        ImageReadParam readParam = reader.getDefaultReadParam();
+        if (subsampling > 1) {
+          readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        }
+        decoded = reader.read(0, readParam);
+      } finally {
+        reader.dispose();
+      }
+    }
+    return OrientationTools.reorient(ImmutableImage.wrapAwt(decoded, metadata), metadata);
+  }
+
+  private ImageReader findReader(ImageInputStream imageInputStream) {
+    if (imageInputStream == null) {
+      return null;
+    }
+    Iterator<ImageReader> readers = ImageIO.getImageReaders(imageInputStream);
+    return readers.hasNext() ? readers.next() : null;
+  }
+
+  private ImmutableImage loadFully(ImageInput imageInput) throws IOException {
+    try (InputStream inputStream = imageInput.open()) {
+      return ImmutableImage.loader().load(ImageSource.of(inputStream));
+    }
+  }
+
+  private ImageMetadata readMetadata(ImageInput imageInput, String fileName) {
+    try (InputStream inputStream = imageInput.open()) {
+      return ImageMetadata.fromStream(inputStream);
+    } catch (Exception e) {
+      log.debug("이미지 메타데이터 읽기 실패, orientation 미적용: {}", fileName);
+      return ImageMetadata.empty;
+    }
+  }
+
+  // 90/270도 회전 이미지는 저장된 세로가 보정 후 가로가 됨
+  private int orientedWidth(ImageDimension dimension, ImageMetadata metadata) {
+    Orientation orientation = metadata.getOrientation().orElse(Orientation.Zero);
+    boolean swapsAxes = orientation == Orientation.Ninety || orientation == Orientation.NinetyMirrored
+        || orientation == Orientation.TwoSeventy || orientation == Orientation.TwoSeventyMirrored;
+    return swapsAxes ? dimension.height() : dimension.width();
+  }
+
+  // 서브샘플링 후에도 목표 너비의 2배 이상을 남김 (최종 축소는 scrimage 보간으로 처리해 계단 현상 방지)
+  private int resolveSubsampling(int orientedWidth, int targetWidth) {
+    return Math.max(1, orientedWidth / (targetWidth * SUBSAMPLING_MIN_WIDTH_RATIO));
+  }
+
+  // 예상 작업 메모리를 permit 수로 환산 (예산보다 큰 이미지는 예산 전체를 점유해 단독 처리)
+  private int estimatePermits(ImageDimension dimension, int subsampling) {
+    long decodedWidth = (dimension.width() + subsampling - 1) / subsampling;
+    long decodedHeight = (dimension.height() + subsampling - 1) / subsampling;
+    long workingBytes = decodedWidth * decodedHeight * WORKING_BYTES_PER_DECODED_PIXEL;
+    long permits = (workingBytes + BUDGET_PERMIT_BYTES - 1) / BUDGET_PERMIT_BYTES;
+    return (int) Math.max(1, Math.min(permits, memoryBudgetPermits));
+  }
+
   private long parseSkipMaxSizeBytes() {
     String rawSkipMaxSize = systemConfigCacheService.getOrDefault(KEY_SKIP_MAX_SIZE_BYTES, DEFAULT_SKIP_MAX_SIZE_BYTES);
     try {
@@ -107,6 +370,21 @@ public class ImageCompressionService {
     }
   }
 
+  private long parseMemoryWaitMillis() {
+    return parsePositiveLong(KEY_MEMORY_WAIT_MILLIS, DEFAULT_MEMORY_WAIT_MILLIS);
+  }
+
+  private long parsePositiveLong(String configKey, String defaultValue) {
+    String rawValue = systemConfigCacheService.getOrDefault(configKey, defaultValue);
+    try {
+      long parsedValue = Long.parseLong(rawValue.trim());
+      return parsedValue > 0 ? parsedValue : Long.parseLong(defaultValue);
+    } catch (NumberFormatException e) {
+      log.warn("{} 파싱 실패, 기본값 사용: {}", configKey, rawValue);
+      return Long.parseLong(defaultValue);
+    }
+  }
+
   /**
    * 파일 확장자를 .webp로 변경
    *
@@ -124,4 +402,14 @@ public class ImageCompressionService {
     }
     return filename + WEBP_EXTENSION;
   }
+
+  // imageIoReadable: ImageIO 리더로 서브샘플링 디코드가 가능한지 여부
+  private record ImageDimension(int width, int height, boolean imageIoReadable) {
+  }
+
+  // 같은 원본을 헤더/메타데이터/픽셀 단계마다 다시 여는 입력 (MultipartFile, 임시 파일)
+  @FunctionalInterface
+  private interface ImageInput {
+    InputStream open() throws IOException;
+  }
 }
@@ -0,0 +1,203 @@
+package com.romrom.storage.service;
+
+import com.romrom.common.service.SystemConfigCacheService;
+import com.romrom.storage.constant.ImageVariant;
+import com.romrom.storage.dto.CompressedImage;
+import com.romrom.storage.properties.MinioProperties;
+import com.romrom.storage.util.MinioUtil;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이미지 파생본(썸네일/중간 크기) 서비스
+ * - 파생본은 처음 요청될 때 생성해 MinIO 의 결정적 키(ImageVariant.objectNameOf)에 저장하고, 이후에는 저장된 파일을 그대로 사용
+ * - image.variant.eager-generation 이 true 면 업로드 직후 업로드 스레드풀에서 미리 생성
+ * - 파생본 키는 내용이 바뀌지 않으므로 immutable Cache-Control 로 업로드해 클라이언트/CDN 이 장기 캐시
+ * - 같은 파생본을 동시에 요청해도 생성은 인스턴스당 한 번만 수행
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+  public static final String VARIANT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+  private static final String TEMP_FILE_PREFIX = "romrom-variant-source-";
+
+  private static final String KEY_EAGER_GENERATION = "image.variant.eager-generation";
+  private static final String DEFAULT_EAGER_GENERATION = "false";
+
+  private final MinioUtil minioUtil;
+  private final MinioProperties minioProperties;
+  private final MinIoFileServiceImpl minioService;
+  private final ImageCompressionService imageCompressionService;
+  private final SystemConfigCacheService systemConfigCacheService;
+  private final ThreadPoolTaskExecutor imageUploadExecutor;
+
+  // 생성 중인 파생본 (variant 오브젝트 이름 → 생성 결과)
+  private final Map<String, CompletableFuture<Boolean>> inFlightGenerations = new ConcurrentHashMap<>();
+
+  public ImageVariantService(
+      MinioUtil minioUtil,
+      MinioProperties minioProperties,
+      MinIoFileServiceImpl minioService,
+      ImageCompressionService imageCompressionService,
+      SystemConfigCacheService systemConfigCacheService,
+      @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor
+  ) {
+    this.minioUtil = minioUtil;
+    this.minioProperties = minioProperties;
+    this.minioService = minioService;
+    this.imageCompressionService = imageCompressionService;
+    this.systemConfigCacheService = systemConfigCacheService;
+    this.imageUploadExecutor = imageUploadExecutor;
+  }
+
+  /**
+   * 이미지 URL 의 파생본 URL 반환 (없으면 이 호출에서 생성)
+   * MinIO 이미지가 아니거나(FTP fallback 등) 생성에 실패하면 원본 URL 을 그대로 반환한다.
+   *
+   * @param imageUrl 원본 이미지 URL (업로드 API 가 반환한 값)
+   * @param variant  파생본 종류
+   * @return 파생본 URL 또는 원본 URL
+   */
+  public String resolveVariantUrl(String imageUrl, ImageVariant variant) {
+    String originalObjectName = minioService.extractFilePath(imageUrl);
+    if (originalObjectName == null || !originalObjectName.startsWith(MinioUtil.PUBLIC_IMAGES_PATH)
+        || originalObjectName.contains("..")) {
+      log.debug("MinIO 원본 이미지가 아니므로 파생본 없이 원본 사용: {}", imageUrl);
+      return imageUrl;
+    }
+
+    String variantObjectName = variant.objectNameOf(originalObjectName);
+    if (ensureVariant(originalObjectName, variant)) {
+      return minioService.buildImageUrl(variantObjectName);
+    }
+    return imageUrl;
+  }
+
+  /**
+   * 업로드 직후 파생본을 백그라운드에서 미리 생성 (image.variant.eager-generation=true 인 경우만)
+   *
+   * @param originalObjectName MinIO 원본 오브젝트 이름
+   */
+  public void generateVariantsAsync(String originalObjectName) {
+    if (!isEagerGenerationEnabled()) {
+      return;
+    }
+    for (ImageVariant variant : ImageVariant.values()) {
+      try {
+        imageUploadExecutor.execute(() -> ensureVariant(originalObjectName, variant));
+      } catch (Exception e) {
+        // 스레드풀 포화 시 첫 요청 때 생성되므로 실패해도 무방
+        log.debug("파생본 선생성 작업 등록 실패, 첫 요청 시 생성 예정: {}, {}", originalObjectName, variant);
+      }
+    }
+  }
+
+  /**
+   * 원본의 모든 파생본 삭제 (원본 삭제 시 호출, 없는 파생본은 무시됨)
+   *
+   * @param originalObjectName MinIO 원본 오브젝트 이름
+   */
+  public void deleteVariants(String originalObjectName) {
+    try {
+      List<String> failedObjectNames = minioUtil.deleteFiles(minioProperties.getBucket(),
+          ImageVariant.allObjectNamesOf(originalObjectName));
+      if (!failedObjectNames.isEmpty()) {
+        log.warn("파생본 삭제 실패: {}", failedObjectNames);
+      }
+    } catch (Exception e) {
+      log.warn("파생본 삭제 실패: {}", originalObjectName, e);
+    }
+  }
+
+  /**
+   * 파생본이 저장되어 있는지 확인하고, 없으면 생성한다 (동시 요청은 하나의 생성 결과를 공유)
+   *
+   * @return 파생본 사용 가능 여부
+   */
+  private boolean ensureVariant(String originalObjectName, ImageVariant variant) {
+    String variantObjectName = variant.objectNameOf(originalObjectName);
+    try {
+      if (minioUtil.objectExists(minioProperties.getBucket(), variantObjectName)) {
+        return true;
+      }
+    } catch (Exception e) {
+      log.warn("파생본 존재 확인 실패, 원본 사용: {}", variantObjectName);
+      return false;
+    }
+
+    CompletableFuture<Boolean> generation = new CompletableFuture<>();
+    CompletableFuture<Boolean> existingGeneration = inFlightGenerations.putIfAbsent(variantObjectName, generation);
+    if (existingGeneration != null) {
+      return existingGeneration.join();
+    }
+    try {
+      boolean generated = generateVariant(originalObjectName, variant, variantObjectName);
+      generation.complete(generated);
+      return generated;
+    } catch (RuntimeException e) {
+      generation.complete(false);
+      throw e;
+    } finally {
+      inFlightGenerations.remove(variantObjectName, generation);
+    }
+  }
+
+  /**
+   * 원본을 임시 파일로 내려받아 파생본을 만들고 MinIO 에 업로드
+   */
+  private boolean generateVariant(String originalObjectName, ImageVariant variant, String variantObjectName) {
+    String bucketName = minioProperties.getBucket();
+    Path sourceFile = null;
+    CompressedImage variantImage = null;
+    try {
+      sourceFile = Files.createTempFile(TEMP_FILE_PREFIX, null);
+      try (InputStream originalStream = minioUtil.downloadFile(bucketName, originalObjectName)) {
+        Files.copy(originalStream, sourceFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+
+      variantImage = imageCompressionService.resizeToWebp(sourceFile, originalObjectName, variant.getWidth(), variant.getQuality());
+      if (variantImage == null) {
+        return false;
+      }
+
+      try (InputStream variantStream = Files.newInputStream(variantImage.getDataFile())) {
+        minioUtil.uploadFile(bucketName, variantObjectName, variantStream, variantImage.getCompressedSize(),
+            variantImage.getContentType(), VARIANT_CACHE_CONTROL);
+      }
+      log.info("이미지 파생본 생성 완료: {} -> {}, {} bytes", originalObjectName, variantObjectName, variantImage.getCompressedSize());
+      return true;
+    } catch (Exception e) {
+      log.warn("이미지 파생본 생성 실패, 원본 사용: {}, {}, 오류: {}", originalObjectName, variant, e.getMessage());
+      return false;
+    } finally {
+      imageCompressionService.discard(variantImage);
+      deleteTempFile(sourceFile);
+    }
+  }
+
+  private void deleteTempFile(Path tempFile) {
+    if (tempFile == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(tempFile);
+    } catch (Exception e) {
+      log.warn("파생본 원본 임시 파일 삭제 실패: {}", tempFile, e);
+    }
+  }
+
+  private boolean isEagerGenerationEnabled() {
+    return Boolean.parseBoolean(systemConfigCacheService.getOrDefault(KEY_EAGER_GENERATION, DEFAULT_EAGER_GENERATION).trim());
+  }
+}
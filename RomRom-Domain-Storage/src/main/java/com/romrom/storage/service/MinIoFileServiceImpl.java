@@ -52,4 +52,11 @@ public class MinIoFileServiceImpl implements FileService {
     }
     return null;
   }
+
+  /**
+   * MinIO 버킷의 이미지 URL 인지 확인 (scheme/host/port 까지 정확히 비교)
+   */
+  public boolean isStoredImageUrl(String imageUrl) {
+    return FileUtil.isUnderBaseUrl(FileUtil.removeTrailingSlash(minioProperties.getEndpoint()) + "/" + minioProperties.getBucket(), imageUrl);
+  }
 }
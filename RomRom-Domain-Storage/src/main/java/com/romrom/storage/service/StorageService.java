@@ -2,12 +2,13 @@ package com.romrom.storage.service;
 
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
+import com.romrom.storage.constant.ImageVariant;
 import com.romrom.storage.dto.CompressedImage;
 import com.romrom.storage.dto.StorageRequest;
 import com.romrom.storage.dto.StorageResponse;
 import com.romrom.storage.util.FileUtil;
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -25,17 +26,20 @@ public class StorageService {
   private final MinIoFileServiceImpl minioService;
   private final FtpFileServiceImpl ftpService;
   private final ImageCompressionService imageCompressionService;
+  private final ImageVariantService imageVariantService;
   private final ThreadPoolTaskExecutor imageUploadExecutor;
 
   public StorageService(
       MinIoFileServiceImpl minioService,
       FtpFileServiceImpl ftpService,
       ImageCompressionService imageCompressionService,
+      ImageVariantService imageVariantService,
       @Qualifier("imageUploadExecutor") ThreadPoolTaskExecutor imageUploadExecutor
   ) {
     this.minioService = minioService;
     this.ftpService = ftpService;
     this.imageCompressionService = imageCompressionService;
+    this.imageVariantService = imageVariantService;
     this.imageUploadExecutor = imageUploadExecutor;
   }
 
@@ -68,6 +72,20 @@ public class StorageService {
     log.debug("파일 삭제 요청 완료: fileCount={}", imageUrls.size());
   }
 
+  /**
+   * 이미지 파생본 URL 조회 (없으면 생성, MinIO 이미지가 아니거나 생성 실패 시 원본 URL)
+   */
+  public String getVariantUrl(StorageRequest request) {
+    String imageUrl = request.getImageUrl();
+    // 외부 URL 로의 리다이렉트 방지: 우리 저장소(MinIO/FTP) 이미지 URL 만 허용 (접두사 비교가 아닌 URI 비교)
+    if (!minioService.isStoredImageUrl(imageUrl) && !ftpService.isStoredImageUrl(imageUrl)) {
+      log.warn("파생본 조회 요청 URL 이 저장소 이미지가 아님: {}", imageUrl);
+      throw new CustomException(ErrorCode.INVALID_FILE_REQUEST);
+    }
+    ImageVariant variant = request.getVariant() != null ? request.getVariant() : ImageVariant.THUMBNAIL;
+    return imageVariantService.resolveVariantUrl(imageUrl, variant);
+  }
+
   /**
    * MinIO 1순위 업로드, 실패 시 FTP fallback
    * 압축은 여기서 한 번만 수행
@@ -77,16 +95,24 @@ public class StorageService {
 
     // 1. 이미지 압축 (공통)
     CompressedImage compressed = imageCompressionService.compress(file);
+    try {
+      return uploadToAvailableStorage(file, compressed);
+    } finally {
+      imageCompressionService.discard(compressed);
+    }
+  }
 
+  /**
+   * MinIO → FTP 순서로 업로드 (압축본이 있으면 압축본, 없으면 원본)
+   */
+  private String uploadToAvailableStorage(MultipartFile file, CompressedImage compressed) {
     // 2. MinIO 시도
     try {
-      if (compressed != null) {
-        String filePath = uploadCompressed(minioService, compressed);
-        return minioService.buildImageUrl(filePath);
-      } else {
-        String filePath = uploadOriginal(minioService, file);
-        return minioService.buildImageUrl(filePath);
-      }
+      String filePath = compressed != null
+          ? uploadCompressed(minioService, compressed)
+          : uploadOriginal(minioService, file);
+      imageVariantService.generateVariantsAsync(filePath);
+      return minioService.buildImageUrl(filePath);
     } catch (Exception e) {
       log.warn("MinIO 업로드 실패, FTP fallback 전환: {}", file.getOriginalFilename(), e);
     }
@@ -107,11 +133,11 @@ public class StorageService {
   }
 
   /**
-   * 압축된 이미지를 FileService 구현체로 업로드
+   * 압축된 이미지를 FileService 구현체로 업로드 (임시 파일에서 스트림 전송)
    */
   private String uploadCompressed(FileService service, CompressedImage compressed) {
     String fileName = FileUtil.generateFilenameFromString(compressed.getFileName());
-    try (InputStream inputStream = new ByteArrayInputStream(compressed.getData())) {
+    try (InputStream inputStream = Files.newInputStream(compressed.getDataFile())) {
       return service.uploadFile(fileName, inputStream, compressed.getCompressedSize(),
           compressed.getContentType());
     } catch (Exception e) {
@@ -139,6 +165,7 @@ public class StorageService {
     String minioPath = minioService.extractFilePath(imageUrl);
     if (minioPath != null) {
       minioService.deleteFile(minioPath);
+      imageVariantService.deleteVariants(minioPath);
       return;
     }
 
@@ -5,6 +5,8 @@ import static com.romrom.common.util.CommonUtil.nvl;
 import com.romrom.common.exception.CustomException;
 import com.romrom.common.exception.ErrorCode;
 import com.romrom.storage.constant.MimeType;
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.text.Normalizer;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -122,6 +124,46 @@ public class FileUtil {
     return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
   }
 
+  /**
+   * URL 이 기준 URL 아래의 파일을 가리키는지 확인합니다
+   * 문자열 접두사 비교는 http://host.evil.com, http://host@evil.com 같은 URL 도 통과시키므로,
+   * URI 로 파싱해 scheme/host/port 를 정확히 비교하고 경로가 "기준 경로/" 로 시작하는지 확인합니다
+   *
+   * @param baseUrl  기준 URL (예: https://minio.example.com/romrom)
+   * @param imageUrl 검사할 URL
+   * @return 기준 URL 아래의 파일 URL 이면 true
+   */
+  public boolean isUnderBaseUrl(String baseUrl, String imageUrl) {
+    if (baseUrl == null || baseUrl.isBlank() || imageUrl == null || imageUrl.isBlank()) {
+      return false;
+    }
+    try {
+      URI base = new URI(removeTrailingSlash(baseUrl));
+      URI target = new URI(imageUrl);
+      if (target.getRawUserInfo() != null || target.getRawQuery() != null || target.getRawFragment() != null
+          || base.getScheme() == null || target.getHost() == null || base.getHost() == null
+          || !base.getScheme().equalsIgnoreCase(target.getScheme())
+          || !base.getHost().equalsIgnoreCase(target.getHost())
+          || effectivePort(base) != effectivePort(target)) {
+        return false;
+      }
+      String basePath = nvl(base.getRawPath(), "") + "/";
+      String targetPath = nvl(target.getRawPath(), "");
+      // ../ 등 경로 이동 세그먼트가 있으면 기준 경로를 벗어날 수 있으므로 거부
+      return targetPath.length() > basePath.length() && targetPath.startsWith(basePath)
+          && targetPath.equals(target.normalize().getRawPath());
+    } catch (URISyntaxException e) {
+      return false;
+    }
+  }
+
+  private int effectivePort(URI uri) {
+    if (uri.getPort() != -1) {
+      return uri.getPort();
+    }
+    return "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+  }
+
   /**
    * imageUrl로부터 파일명을 추출합니다
    *
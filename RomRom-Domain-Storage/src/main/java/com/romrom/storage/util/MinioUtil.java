@@ -9,20 +9,26 @@ import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveBucketArgs;
 import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
 import io.minio.Result;
 import io.minio.StatObjectArgs;
 import io.minio.StatObjectResponse;
+import io.minio.errors.ErrorResponseException;
 import io.minio.http.Method;
 import io.minio.messages.Bucket;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
 import io.minio.messages.Item;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import com.romrom.storage.dto.StoredObjectInfo;
 import com.romrom.storage.properties.MinioProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
@@ -116,6 +122,26 @@ public class MinioUtil {
     }
   }
 
+  /**
+   * Cache-Control 헤더를 지정해 업로드한다 (MinIO 가 GET 응답에 그대로 내려줌).
+   */
+  public void uploadFile(String bucketName, String objectName, InputStream inputStream, long size, String contentType,
+      String cacheControl) {
+    try {
+      minioClient.putObject(PutObjectArgs.builder()
+          .bucket(bucketName)
+          .object(objectName)
+          .stream(inputStream, size, -1)
+          .contentType(contentType)
+          .headers(Map.of("Cache-Control", cacheControl))
+          .build());
+      log.info("MinIO 파일 업로드 완료 - bucket: {}, object: {}, cacheControl: {}", bucketName, objectName, cacheControl);
+    } catch (Exception e) {
+      log.error("MinIO 파일 업로드 실패 - bucket: {}, object: {}, error: {}", bucketName, objectName, e.getMessage(), e);
+      throw new RuntimeException("파일 업로드 실패: " + objectName, e);
+    }
+  }
+
   public void uploadFile(String bucketName, String objectName, MultipartFile file) {
     try (InputStream inputStream = file.getInputStream()) {
       uploadFile(bucketName, objectName, inputStream, file.getSize(), file.getContentType());
@@ -175,6 +201,28 @@ public class MinioUtil {
     }
   }
 
+  /**
+   * 오브젝트 존재 여부 (NoSuchKey 만 false, 그 외 오류는 예외)
+   */
+  public boolean objectExists(String bucketName, String objectName) {
+    try {
+      minioClient.statObject(StatObjectArgs.builder()
+          .bucket(bucketName)
+          .object(objectName)
+          .build());
+      return true;
+    } catch (ErrorResponseException e) {
+      if ("NoSuchKey".equals(e.errorResponse().code())) {
+        return false;
+      }
+      log.error("MinIO 오브젝트 존재 확인 실패 - bucket: {}, object: {}, error: {}", bucketName, objectName, e.getMessage(), e);
+      throw new RuntimeException("오브젝트 존재 확인 실패: " + objectName, e);
+    } catch (Exception e) {
+      log.error("MinIO 오브젝트 존재 확인 실패 - bucket: {}, object: {}, error: {}", bucketName, objectName, e.getMessage(), e);
+      throw new RuntimeException("오브젝트 존재 확인 실패: " + objectName, e);
+    }
+  }
+
   public List<Item> listObjects(String bucketName) {
     return listObjects(bucketName, null, false);
   }
@@ -204,6 +252,77 @@ public class MinioUtil {
     }
   }
 
+  /**
+   * startAfter 다음 오브젝트부터 최대 limit 건만 조회한다 (오브젝트 이름 사전순, 재귀).
+   * 목록을 끝까지 모으지 않고 필요한 만큼만 읽으므로 저장소 크기와 무관하게 메모리가 일정하다.
+   *
+   * @param startAfter 이전 페이지 마지막 오브젝트 이름 (null 이면 처음부터)
+   */
+  public List<StoredObjectInfo> listObjectsPage(String bucketName, String prefix, String startAfter, int limit) {
+    try {
+      ListObjectsArgs.Builder builder = ListObjectsArgs.builder()
+          .bucket(bucketName)
+          .recursive(true)
+          .maxKeys(limit);
+
+      if (prefix != null) {
+        builder.prefix(prefix);
+      }
+      if (startAfter != null) {
+        builder.startAfter(startAfter);
+      }
+
+      List<StoredObjectInfo> page = new ArrayList<>(limit);
+      for (Result<Item> result : minioClient.listObjects(builder.build())) {
+        Item item = result.get();
+        page.add(StoredObjectInfo.builder()
+            .objectName(item.objectName())
+            .lastModified(item.isDir() ? null : item.lastModified())
+            .dir(item.isDir())
+            .build());
+        if (page.size() >= limit) {
+          break;
+        }
+      }
+      return page;
+    } catch (Exception e) {
+      log.error("MinIO 오브젝트 페이지 조회 실패 - bucket: {}, prefix: {}, startAfter: {}, error: {}",
+          bucketName, prefix, startAfter, e.getMessage(), e);
+      throw new RuntimeException("오브젝트 페이지 조회 실패: " + bucketName, e);
+    }
+  }
+
+  /**
+   * 여러 오브젝트를 한 번의 요청으로 삭제한다.
+   *
+   * @return 삭제에 실패한 오브젝트 이름 목록
+   */
+  public List<String> deleteFiles(String bucketName, List<String> objectNames) {
+    List<String> failedObjectNames = new ArrayList<>();
+    if (objectNames.isEmpty()) {
+      return failedObjectNames;
+    }
+    try {
+      List<DeleteObject> deleteObjects = objectNames.stream().map(DeleteObject::new).toList();
+      Iterable<Result<DeleteError>> deleteResults = minioClient.removeObjects(RemoveObjectsArgs.builder()
+          .bucket(bucketName)
+          .objects(deleteObjects)
+          .build());
+      // 결과를 순회해야 실제 삭제 요청이 전송된다
+      for (Result<DeleteError> deleteResult : deleteResults) {
+        DeleteError deleteError = deleteResult.get();
+        log.warn("MinIO 파일 일괄 삭제 실패 - bucket: {}, object: {}, error: {}",
+            bucketName, deleteError.objectName(), deleteError.message());
+        failedObjectNames.add(deleteError.objectName());
+      }
+      log.info("MinIO 파일 일괄 삭제 완료 - bucket: {}, 요청={}, 실패={}", bucketName, objectNames.size(), failedObjectNames.size());
+      return failedObjectNames;
+    } catch (Exception e) {
+      log.error("MinIO 파일 일괄 삭제 실패 - bucket: {}, count: {}, error: {}", bucketName, objectNames.size(), e.getMessage(), e);
+      throw new RuntimeException("파일 일괄 삭제 실패: " + bucketName, e);
+    }
+  }
+
   public String getPresignedDownloadUrl(String bucketName, String objectName, int expiry, TimeUnit timeUnit) {
     try {
       return minioClient.getPresignedObjectUrl(GetPresignedObjectUrlArgs.builder()
@@ -0,0 +1,112 @@
+package com.romrom.storage.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.service.SystemConfigCacheService;
+import com.romrom.storage.dto.CompressedImage;
+import com.sksamuel.scrimage.ImmutableImage;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.util.Map;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+/**
+ * ImageCompressionService 테스트 (MinIO/Redis 미접근).
+ * 작은 힙에서 대용량 JPEG 을 동시에 압축하는 측정은 ImageCompressionStressTest (romrom.image-compression.benchmark.enabled) 에서 한다.
+ */
+@Slf4j
+class ImageCompressionServiceTest {
+
+  private static final int LARGE_IMAGE_WIDTH = 6000;
+  private static final int LARGE_IMAGE_HEIGHT = 4000;
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::작은_이미지_헤더만_읽고_스킵_테스트);
+    lineLog(null);
+    timeLog(this::대용량_JPEG_서브샘플링_압축_결과_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  // 목표 너비 이하 + 소용량 JPEG 은 디코드 없이 원본 경로로 통과
+  public void 작은_이미지_헤더만_읽고_스킵_테스트() throws Exception {
+    ImageCompressionService imageCompressionService = newImageCompressionService(Map.of());
+    MockMultipartFile smallFile = new MockMultipartFile(
+        "images", "small.jpg", "image/jpeg", writeJpeg(800, 600));
+    assertTrue(smallFile.getSize() <= 512_000, "기준 이하 용량이어야 함: " + smallFile.getSize());
+
+    assertNull(imageCompressionService.compress(smallFile), "작은 이미지는 압축 스킵");
+  }
+
+  // 서브샘플링 디코드 후에도 결과는 목표 너비(1280)의 WebP 이고 임시 파일은 discard 로 정리됨
+  public void 대용량_JPEG_서브샘플링_압축_결과_테스트() throws Exception {
+    ImageCompressionService imageCompressionService = newImageCompressionService(Map.of());
+    MockMultipartFile largeFile = new MockMultipartFile(
+        "images", "large.jpg", "image/jpeg", writeJpeg(LARGE_IMAGE_WIDTH, LARGE_IMAGE_HEIGHT));
+
+    CompressedImage compressed = imageCompressionService.compress(largeFile);
+    assertNotNull(compressed, "대용량 이미지는 압축되어야 함");
+    try {
+      assertEquals("large.webp", compressed.getFileName());
+      assertEquals("image/webp", compressed.getContentType());
+      assertEquals(Files.size(compressed.getDataFile()), compressed.getCompressedSize());
+      assertTrue(compressed.getCompressedSize() < largeFile.getSize());
+
+      ImmutableImage written = ImmutableImage.loader().fromPath(compressed.getDataFile());
+      assertEquals(1280, written.width);
+      assertEquals(Math.round(1280.0 * LARGE_IMAGE_HEIGHT / LARGE_IMAGE_WIDTH), written.height, 1);
+    } finally {
+      imageCompressionService.discard(compressed);
+    }
+    assertFalse(Files.exists(compressed.getDataFile()), "discard 후 임시 파일 삭제");
+
+    lineLog("원본 " + largeFile.getSize() + " bytes -> WebP " + compressed.getCompressedSize() + " bytes");
+  }
+
+  // 설정 조회는 overrides 에 있으면 그 값, 없으면 호출부 기본값
+  static ImageCompressionService newImageCompressionService(Map<String, String> overrides) {
+    SystemConfigCacheService systemConfigCacheService = mock(SystemConfigCacheService.class);
+    when(systemConfigCacheService.getOrDefault(anyString(), anyString()))
+        .thenAnswer(invocation -> overrides.getOrDefault(invocation.getArgument(0), invocation.getArgument(1)));
+    ImageCompressionService imageCompressionService = new ImageCompressionService(systemConfigCacheService);
+    imageCompressionService.init();
+    return imageCompressionService;
+  }
+
+  // 사진과 비슷한 압축률이 나오도록 그라데이션 + 노이즈로 채운 JPEG
+  static byte[] writeJpeg(int width, int height) throws Exception {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+    long seed = 42;
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        int noise = (int) ((seed >>> 59) & 0x1F);
+        int red = (x * 255 / width + noise) & 0xFF;
+        int green = (y * 255 / height + noise) & 0xFF;
+        int blue = ((x + y) * 127 / (width + height) + noise) & 0xFF;
+        image.setRGB(x, y, (red << 16) | (green << 8) | blue);
+      }
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpg", outputStream);
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,136 @@
+package com.romrom.storage.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.common.util.ChildJvmRunner;
+import com.romrom.common.util.ChildJvmRunner.ChildResult;
+import com.romrom.storage.dto.CompressedImage;
+import com.sksamuel.scrimage.ImmutableImage;
+import com.sksamuel.scrimage.nio.ByteArrayImageSource;
+import com.sksamuel.scrimage.webp.WebpWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.mock.web.MockMultipartFile;
+
+@EnabledIf("imageCompressionBenchmarkEnabled")
+class ImageCompressionStressTest {
+
+  /*
+   * 대용량 JPEG 을 업로드 스레드풀과 같은 동시성으로 압축할 때의 최대 힙 사용량과 처리량 비교
+   * 새 경로(헤더 확인 + 서브샘플링 디코드 + 메모리 예산 + 임시 파일 출력) vs 기존 방식(getBytes + 전체 디코드 + byte[] 인코딩)
+   * 두 방식을 같은 작은 힙(-Xmx)의 별도 JVM 에서 실행한다. 기존 방식의 결과(OOM 여부 포함)는 비교용으로 출력만 한다.
+   */
+  private static final int LARGE_IMAGE_WIDTH = Integer.getInteger("romrom.image-compression.benchmark.width", 6000);
+  private static final int LARGE_IMAGE_HEIGHT = Integer.getInteger("romrom.image-compression.benchmark.height", 4000);
+  private static final int CONCURRENCY = 8;  // imageUploadExecutor 기본 풀 크기
+  private static final int JOB_COUNT = Integer.getInteger("romrom.image-compression.benchmark.jobs", 24);
+  private static final String CHILD_HEAP_LIMIT = System.getProperty("romrom.image-compression.benchmark.heap", "128m");
+  private static final String CHILD_MEMORY_BUDGET_BYTES = Long.toString(96L * 1024 * 1024);
+  private static final long CHILD_TIMEOUT_SECONDS = 600;
+
+  private static boolean imageCompressionBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.image-compression.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_IMAGE_COMPRESSION_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void compareConcurrentLargeJpegCompression() throws Exception {
+    Path largeJpeg = Files.createTempFile("romrom-compress-benchmark-", ".jpg");
+    try {
+      Files.write(largeJpeg, ImageCompressionServiceTest.writeJpeg(LARGE_IMAGE_WIDTH, LARGE_IMAGE_HEIGHT));
+
+      ChildResult streaming = runChild("streaming", largeJpeg);
+      ChildResult legacy = runChild("legacy", largeJpeg);
+
+      assertThat(streaming.exitCode()).as("새 압축 경로는 작은 힙에서 성공해야 함: " + streaming.output()).isZero();
+      assertThat(streaming.output()).contains("compressed=" + JOB_COUNT);
+      lineLog(String.format("[ImageCompressionStressTest] %dx%d JPEG %d건 동시 %d건 압축 (-Xmx%s)",
+          LARGE_IMAGE_WIDTH, LARGE_IMAGE_HEIGHT, JOB_COUNT, CONCURRENCY, CHILD_HEAP_LIMIT));
+      lineLog(String.format("- 서브샘플링 + 메모리 예산: %s", streaming.output()));
+      lineLog(String.format("- 기존 방식: exit=%d%s, %s",
+          legacy.exitCode(), legacy.outOfMemory() ? " (OutOfMemoryError)" : "", legacy.output()));
+    } finally {
+      Files.deleteIfExists(largeJpeg);
+    }
+  }
+
+  private ChildResult runChild(String mode, Path largeJpeg) throws Exception {
+    return ChildJvmRunner.run(CompressionStressRunner.class, CHILD_HEAP_LIMIT, CHILD_TIMEOUT_SECONDS,
+        mode, largeJpeg.toString(), Integer.toString(JOB_COUNT));
+  }
+
+  /**
+   * 작은 힙으로 띄운 별도 JVM 에서 같은 대용량 JPEG 을 CONCURRENCY 스레드로 JOB_COUNT 번 압축한다.
+   * streaming: ImageCompressionService (헤더 확인 + 서브샘플링 디코드 + 메모리 예산 + 임시 파일 출력)
+   * legacy: 변경 전 방식 (getBytes → 전체 디코드 → scaleToWidth → WebP byte[])
+   */
+  public static class CompressionStressRunner {
+
+    public static void main(String[] args) throws Exception {
+      String mode = args[0];
+      byte[] jpegBytes = Files.readAllBytes(Paths.get(args[1]));
+      int jobCount = Integer.parseInt(args[2]);
+      MockMultipartFile upload = new MockMultipartFile("images", "large.jpg", "image/jpeg", jpegBytes);
+
+      ImageCompressionService imageCompressionService = ImageCompressionServiceTest.newImageCompressionService(
+          Map.of("image.compress.memory-budget-bytes", CHILD_MEMORY_BUDGET_BYTES,
+              "image.compress.memory-wait-millis", "600000"));
+      AtomicInteger compressedCount = new AtomicInteger();
+      ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+      try {
+        long startNanos = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int job = 0; job < jobCount; job++) {
+          futures.add(executor.submit(() -> {
+            if ("legacy".equals(mode)) {
+              compressLegacy(upload);
+              compressedCount.incrementAndGet();
+              return null;
+            }
+            CompressedImage compressed = imageCompressionService.compress(upload);
+            if (compressed != null) {
+              compressedCount.incrementAndGet();
+              imageCompressionService.discard(compressed);
+            }
+            return null;
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        System.out.printf("RESULT compressed=%d elapsedMs=%d imagesPerSec=%.2f peakHeapMb=%d%n",
+            compressedCount.get(), elapsedMillis, compressedCount.get() * 1000.0 / elapsedMillis,
+            ChildJvmRunner.peakHeapUsedMb());
+      } catch (Throwable throwable) {
+        if (ChildJvmRunner.isOutOfMemory(throwable)) {
+          ChildJvmRunner.exitOutOfMemory("compressed=" + compressedCount.get());
+        }
+        throw throwable;
+      } finally {
+        executor.shutdownNow();
+      }
+      System.exit(compressedCount.get() == jobCount ? 0 : 2);
+    }
+
+    private static void compressLegacy(MockMultipartFile upload) throws Exception {
+      ImmutableImage image = ImmutableImage.loader().load(new ByteArrayImageSource(upload.getBytes()));
+      if (image.width > 1280) {
+        image = image.scaleToWidth(1280);
+      }
+      image.bytes(WebpWriter.DEFAULT.withQ(80));
+    }
+  }
+}
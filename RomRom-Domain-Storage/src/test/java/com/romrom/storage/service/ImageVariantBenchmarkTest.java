@@ -0,0 +1,70 @@
+package com.romrom.storage.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.romrom.storage.constant.ImageVariant;
+import com.romrom.storage.dto.CompressedImage;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.mock.web.MockMultipartFile;
+
+@EnabledIf("imageVariantBenchmarkEnabled")
+class ImageVariantBenchmarkTest {
+
+  /*
+   * 전송량: 피드 한 페이지(20건)를 업로드 압축본(1280px) 대신 썸네일(320px)로 받을 때의 바이트 합계
+   * 업로드 비용: 단일 스레드에서 업로드 압축만 할 때와, 업로드 직후 파생본 2종을 선생성할 때의 1건당 소요 시간
+   * (WebP 인코딩은 cwebp 외부 프로세스라 JVM 스레드 CPU 시간 대신 단일 스레드 경과 시간으로 비교)
+   */
+  private static final int FEED_PAGE_SIZE = 20;
+  private static final int BENCHMARK_UPLOADS = Integer.getInteger("romrom.image-variant.benchmark.uploads", 5);
+
+  private static boolean imageVariantBenchmarkEnabled() {
+    return Boolean.getBoolean("romrom.image-variant.benchmark.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_IMAGE_VARIANT_BENCHMARK_ENABLED"));
+  }
+
+  @Test
+  void measureFeedPageTransferAndUploadCost() throws Exception {
+    ImageVariantServiceTest.FakeMinio fakeMinio = new ImageVariantServiceTest.FakeMinio(Map.of());
+    MockMultipartFile upload = new MockMultipartFile("images", "photo.jpg", "image/jpeg",
+        ImageVariantServiceTest.writeJpeg(4000, 3000));
+
+    long compressOnlyNanos = 0;
+    long compressWithVariantsNanos = 0;
+    long pageOriginalBytes = 0;
+    long pageThumbnailBytes = 0;
+    for (int uploadIndex = 0; uploadIndex < BENCHMARK_UPLOADS; uploadIndex++) {
+      long startNanos = System.nanoTime();
+      CompressedImage compressed = fakeMinio.imageCompressionService.compress(upload);
+      long compressedNanos = System.nanoTime();
+      assertThat(compressed).isNotNull();
+      String objectName = "public/images/" + uploadIndex + "_photo.webp";
+      fakeMinio.objects.put(objectName, Files.readAllBytes(compressed.getDataFile()));
+      fakeMinio.imageCompressionService.discard(compressed);
+
+      String imageUrl = ImageVariantServiceTest.ENDPOINT + "/" + ImageVariantServiceTest.BUCKET + "/" + objectName;
+      for (ImageVariant variant : ImageVariant.values()) {
+        fakeMinio.imageVariantService.resolveVariantUrl(imageUrl, variant);
+      }
+      long variantsNanos = System.nanoTime();
+
+      compressOnlyNanos += compressedNanos - startNanos;
+      compressWithVariantsNanos += variantsNanos - startNanos;
+      pageOriginalBytes = fakeMinio.objects.get(objectName).length * (long) FEED_PAGE_SIZE;
+      pageThumbnailBytes = fakeMinio.objects.get(ImageVariant.THUMBNAIL.objectNameOf(objectName)).length * (long) FEED_PAGE_SIZE;
+    }
+
+    double compressOnlyMillis = TimeUnit.NANOSECONDS.toMicros(compressOnlyNanos) / 1000.0 / BENCHMARK_UPLOADS;
+    double compressWithVariantsMillis = TimeUnit.NANOSECONDS.toMicros(compressWithVariantsNanos) / 1000.0 / BENCHMARK_UPLOADS;
+    assertThat(pageThumbnailBytes * 4).as("썸네일 페이지는 압축본 페이지의 1/4 미만이어야 함").isLessThan(pageOriginalBytes);
+    lineLog(String.format("[ImageVariantBenchmarkTest] 피드 전송량과 업로드 비용 (4000x3000 JPEG %d건)", BENCHMARK_UPLOADS));
+    lineLog(String.format("- 피드 %d건 전송량: 압축본 %,d bytes -> 썸네일 %,d bytes (%.1f%%)",
+        FEED_PAGE_SIZE, pageOriginalBytes, pageThumbnailBytes, pageThumbnailBytes * 100.0 / pageOriginalBytes));
+    lineLog(String.format("- 업로드 1건당: 압축만 %.1f ms, 압축 + 파생본 2종 %.1f ms", compressOnlyMillis, compressWithVariantsMillis));
+  }
+}
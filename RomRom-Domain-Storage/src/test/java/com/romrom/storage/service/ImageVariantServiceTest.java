@@ -0,0 +1,200 @@
+package com.romrom.storage.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.service.SystemConfigCacheService;
+import com.romrom.storage.constant.ImageVariant;
+import com.romrom.storage.dto.CompressedImage;
+import com.romrom.storage.properties.MinioProperties;
+import com.romrom.storage.util.MinioUtil;
+import com.sksamuel.scrimage.ImmutableImage;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * ImageVariantService 테스트 (MinIO/Redis 미접근).
+ * MinIO 는 오브젝트 이름 → 바이트 맵으로 대체하고, 압축/리사이즈는 실제 ImageCompressionService(cwebp)로 수행한다.
+ * 마지막 시나리오는 피드 한 페이지(20건)를 원본 대신 썸네일로 받을 때의 전송량과 업로드 1건당 처리 비용을 측정한다.
+ */
+@Slf4j
+class ImageVariantServiceTest {
+
+  static final String ENDPOINT = "https://minio.example.com";
+  static final String BUCKET = "romrom";
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::첫_요청에_생성하고_이후_재사용_테스트);
+    lineLog(null);
+    timeLog(this::동시_요청은_한_번만_생성_테스트);
+    lineLog(null);
+    timeLog(this::MinIO_이미지가_아니면_원본_URL_반환_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  // 결정적 키에 immutable Cache-Control 로 저장되고, 두 번째 요청은 생성 없이 같은 URL
+  public void 첫_요청에_생성하고_이후_재사용_테스트() throws Exception {
+    FakeMinio fakeMinio = new FakeMinio(Map.of());
+    String imageUrl = fakeMinio.putOriginal("public/images/1711326597434_shoes.webp", 4000, 3000);
+
+    String thumbnailUrl = fakeMinio.imageVariantService.resolveVariantUrl(imageUrl, ImageVariant.THUMBNAIL);
+    assertEquals(ENDPOINT + "/" + BUCKET + "/public/variants/thumbnail/1711326597434_shoes.webp", thumbnailUrl);
+    assertEquals(1, fakeMinio.variantUploadCount.get());
+    assertEquals(ImageVariantService.VARIANT_CACHE_CONTROL,
+        fakeMinio.cacheControls.get("public/variants/thumbnail/1711326597434_shoes.webp"));
+
+    ImmutableImage thumbnail = ImmutableImage.loader()
+        .fromBytes(fakeMinio.objects.get("public/variants/thumbnail/1711326597434_shoes.webp"));
+    assertEquals(ImageVariant.THUMBNAIL.getWidth(), thumbnail.width);
+    assertEquals(240, thumbnail.height, 1);
+
+    assertEquals(thumbnailUrl, fakeMinio.imageVariantService.resolveVariantUrl(imageUrl, ImageVariant.THUMBNAIL));
+    assertEquals(1, fakeMinio.variantUploadCount.get(), "이미 저장된 파생본은 다시 생성하지 않음");
+
+    fakeMinio.imageVariantService.deleteVariants("public/images/1711326597434_shoes.webp");
+    assertTrue(fakeMinio.objects.keySet().stream().noneMatch(name -> name.startsWith(ImageVariant.VARIANTS_PATH)),
+        "원본 삭제 시 파생본도 삭제");
+  }
+
+  public void 동시_요청은_한_번만_생성_테스트() throws Exception {
+    FakeMinio fakeMinio = new FakeMinio(Map.of());
+    String imageUrl = fakeMinio.putOriginal("public/images/1711326597435_bag.webp", 4000, 3000);
+
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> futures = new ArrayList<>();
+      for (int request = 0; request < 8; request++) {
+        futures.add(executor.submit(() -> fakeMinio.imageVariantService.resolveVariantUrl(imageUrl, ImageVariant.MEDIUM)));
+      }
+      for (Future<String> future : futures) {
+        assertEquals(ENDPOINT + "/" + BUCKET + "/public/variants/medium/1711326597435_bag.webp", future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, fakeMinio.variantUploadCount.get(), "동시 요청 8건에도 생성/업로드는 1회");
+  }
+
+  public void MinIO_이미지가_아니면_원본_URL_반환_테스트() {
+    FakeMinio fakeMinio = new FakeMinio(Map.of());
+    String ftpImageUrl = "https://ftp.example.com/images/1711326597436_cup.jpg";
+
+    assertEquals(ftpImageUrl, fakeMinio.imageVariantService.resolveVariantUrl(ftpImageUrl, ImageVariant.THUMBNAIL));
+    assertEquals(0, fakeMinio.variantUploadCount.get());
+  }
+
+  /**
+   * 오브젝트 이름 → 바이트 맵으로 MinioUtil 을 대신하는 가짜 MinIO
+   */
+  static class FakeMinio {
+
+    final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    final Map<String, String> cacheControls = new ConcurrentHashMap<>();
+    final AtomicInteger variantUploadCount = new AtomicInteger();
+    final ImageCompressionService imageCompressionService;
+    final ImageVariantService imageVariantService;
+
+    FakeMinio(Map<String, String> configOverrides) {
+      SystemConfigCacheService systemConfigCacheService = mock(SystemConfigCacheService.class);
+      when(systemConfigCacheService.getOrDefault(anyString(), anyString()))
+          .thenAnswer(invocation -> configOverrides.getOrDefault(invocation.getArgument(0), invocation.getArgument(1)));
+
+      MinioProperties minioProperties = new MinioProperties();
+      minioProperties.setEndpoint(ENDPOINT);
+      minioProperties.setBucket(BUCKET);
+
+      MinioUtil minioUtil = mock(MinioUtil.class);
+      when(minioUtil.objectExists(anyString(), anyString()))
+          .thenAnswer(invocation -> objects.containsKey((String) invocation.getArgument(1)));
+      when(minioUtil.downloadFile(anyString(), anyString()))
+          .thenAnswer(invocation -> new ByteArrayInputStream(objects.get((String) invocation.getArgument(1))));
+      doAnswer(invocation -> {
+        String objectName = invocation.getArgument(1);
+        try (InputStream inputStream = invocation.getArgument(2)) {
+          objects.put(objectName, inputStream.readAllBytes());
+        }
+        cacheControls.put(objectName, invocation.getArgument(5));
+        variantUploadCount.incrementAndGet();
+        return null;
+      }).when(minioUtil).uploadFile(anyString(), anyString(), any(InputStream.class), anyLong(), anyString(), anyString());
+      when(minioUtil.deleteFiles(anyString(), anyList()))
+          .thenAnswer(invocation -> {
+            List<String> objectNames = invocation.getArgument(1);
+            objectNames.forEach(objects::remove);
+            return List.of();
+          });
+
+      imageCompressionService = new ImageCompressionService(systemConfigCacheService);
+      imageCompressionService.init();
+      ThreadPoolTaskExecutor imageUploadExecutor = new ThreadPoolTaskExecutor();
+      imageUploadExecutor.initialize();
+      imageVariantService = new ImageVariantService(minioUtil, minioProperties,
+          new MinIoFileServiceImpl(minioUtil, minioProperties), imageCompressionService, systemConfigCacheService,
+          imageUploadExecutor);
+    }
+
+    // 업로드 경로와 같이 JPEG → 1280px WebP 압축본을 원본으로 저장
+    String putOriginal(String objectName, int width, int height) throws Exception {
+      MockMultipartFile upload = new MockMultipartFile("images", "photo.jpg", "image/jpeg", writeJpeg(width, height));
+      CompressedImage compressed = imageCompressionService.compress(upload);
+      assertNotNull(compressed);
+      try {
+        objects.put(objectName, Files.readAllBytes(compressed.getDataFile()));
+      } finally {
+        imageCompressionService.discard(compressed);
+      }
+      return ENDPOINT + "/" + BUCKET + "/" + objectName;
+    }
+  }
+
+  // 사진과 비슷한 압축률이 나오도록 그라데이션 + 노이즈로 채운 JPEG
+  static byte[] writeJpeg(int width, int height) throws Exception {
+    BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_3BYTE_BGR);
+    long seed = 42;
+    for (int y = 0; y < height; y++) {
+      for (int x = 0; x < width; x++) {
+        seed = seed * 6364136223846793005L + 1442695040888963407L;
+        int noise = (int) ((seed >>> 59) & 0x1F);
+        int red = (x * 255 / width + noise) & 0xFF;
+        int green = (y * 255 / height + noise) & 0xFF;
+        int blue = ((x + y) * 127 / (width + height) + noise) & 0xFF;
+        image.setRGB(x, y, (red << 16) | (green << 8) | blue);
+      }
+    }
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ImageIO.write(image, "jpg", outputStream);
+    return outputStream.toByteArray();
+  }
+}
@@ -0,0 +1,109 @@
+package com.romrom.storage.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static me.suhsaechan.suhlogger.util.SuhLogger.timeLog;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.romrom.common.exception.CustomException;
+import com.romrom.common.exception.ErrorCode;
+import com.romrom.storage.constant.ImageVariant;
+import com.romrom.storage.dto.StorageRequest;
+import com.romrom.storage.properties.MinioProperties;
+import com.romrom.storage.util.MinioUtil;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * StorageService.getVariantUrl 테스트 (MinIO/FTP 미접근).
+ * 파생본 조회는 인증 없이 302 리다이렉트를 돌려주므로, 저장소 URL 과 host 가 정확히 같은 URL 만 받아야 한다 (오픈 리다이렉트 방지).
+ */
+@Slf4j
+class StorageServiceTest {
+
+  private static final String MINIO_ENDPOINT = "https://minio.example.com";
+  private static final String BUCKET = "romrom";
+  private static final String FTP_DOMAIN = "http://suh-project.synology.me";
+
+  @Test
+  public void mainTest() {
+    lineLog("테스트시작");
+
+    lineLog(null);
+    timeLog(this::저장소_이미지_URL은_파생본_URL로_변환_테스트);
+    lineLog(null);
+    timeLog(this::저장소와_host가_다른_URL은_거부_테스트);
+    lineLog(null);
+
+    lineLog("테스트종료");
+  }
+
+  public void 저장소_이미지_URL은_파생본_URL로_변환_테스트() {
+    ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    when(imageVariantService.resolveVariantUrl(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+    StorageService storageService = newStorageService(imageVariantService);
+
+    for (String imageUrl : List.of(
+        MINIO_ENDPOINT + "/" + BUCKET + "/public/images/1711326597434_shoes.webp",
+        "HTTPS://MINIO.EXAMPLE.COM:443/" + BUCKET + "/public/images/1711326597434_shoes.webp",
+        FTP_DOMAIN + "/volume1/images/1711326597436_cup.jpg",
+        "http://suh-project.synology.me:80/volume1/images/1711326597436_cup.jpg")) {
+      assertEquals(imageUrl, storageService.getVariantUrl(request(imageUrl)), imageUrl);
+    }
+  }
+
+  public void 저장소와_host가_다른_URL은_거부_테스트() {
+    ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    StorageService storageService = newStorageService(imageVariantService);
+
+    for (String imageUrl : List.of(
+        "http://suh-project.synology.me.evil.com/x",
+        "http://suh-project.synology.me@evil.com/",
+        "http://suh-project.synology.me:8080/volume1/x.jpg",
+        "https://suh-project.synology.me/volume1/x.jpg",
+        "http://suh-project.synology.me",
+        "http://suh-project.synology.me/",
+        "//suh-project.synology.me/volume1/x.jpg",
+        "https://minio.example.com.evil.com/" + BUCKET + "/public/images/x.webp",
+        "https://evil.com@minio.example.com/" + BUCKET + "/public/images/x.webp",
+        "https://minio.example.com/" + BUCKET + "-other/public/images/x.webp",
+        "https://minio.example.com/" + BUCKET + "/../other/x.webp",
+        "https://minio.example.com/" + BUCKET + "/public/images/x.webp?redirect=https://evil.com",
+        "javascript:alert(1)",
+        "not a url",
+        "")) {
+      CustomException exception = assertThrows(CustomException.class, () -> storageService.getVariantUrl(request(imageUrl)), imageUrl);
+      assertEquals(ErrorCode.INVALID_FILE_REQUEST, exception.getErrorCode());
+    }
+    assertThrows(CustomException.class, () -> storageService.getVariantUrl(request(null)));
+    verify(imageVariantService, never()).resolveVariantUrl(any(), any());
+  }
+
+  private static StorageService newStorageService(ImageVariantService imageVariantService) {
+    MinioProperties minioProperties = new MinioProperties();
+    minioProperties.setEndpoint(MINIO_ENDPOINT);
+    minioProperties.setBucket(BUCKET);
+    MinIoFileServiceImpl minioService = new MinIoFileServiceImpl(mock(MinioUtil.class), minioProperties);
+    FtpFileServiceImpl ftpService = new FtpFileServiceImpl(mock(MessageChannel.class), mock(MessageChannel.class));
+    ReflectionTestUtils.setField(ftpService, "domain", FTP_DOMAIN);
+    return new StorageService(minioService, ftpService, mock(ImageCompressionService.class), imageVariantService,
+        new ThreadPoolTaskExecutor());
+  }
+
+  private static StorageRequest request(String imageUrl) {
+    return StorageRequest.builder()
+        .imageUrl(imageUrl)
+        .variant(ImageVariant.THUMBNAIL)
+        .build();
+  }
+}
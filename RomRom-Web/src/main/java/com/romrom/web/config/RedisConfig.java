@@ -1,9 +1,14 @@
 package com.romrom.web.config;
 
+import com.romrom.auth.service.TokenBlacklistCacheService;
+import com.romrom.common.service.SystemConfigCacheService;
+import com.romrom.member.service.MemberBlockCacheService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -24,4 +29,28 @@ public class RedisConfig {
     return template;
   }
 
+  /**
+   * 인스턴스 간 로컬 캐시 무효화 알림 수신용 pub/sub 컨테이너
+   */
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory factory,
+      SystemConfigCacheService systemConfigCacheService,
+      TokenBlacklistCacheService tokenBlacklistCacheService,
+      MemberBlockCacheService memberBlockCacheService) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(factory);
+
+    // 시스템 설정 변경 → 로컬 스냅샷 재적재
+    container.addMessageListener(systemConfigCacheService, new ChannelTopic(SystemConfigCacheService.CHANGE_CHANNEL));
+
+    // 액세스 토큰 폐기(로그아웃) → 블랙리스트 복제본에 추가
+    container.addMessageListener(tokenBlacklistCacheService, new ChannelTopic(TokenBlacklistCacheService.REVOKE_CHANNEL));
+
+    // 회원 차단/해제 → 두 회원의 차단 관계 캐시 무효화
+    container.addMessageListener(memberBlockCacheService, new ChannelTopic(MemberBlockCacheService.CHANGE_CHANNEL));
+
+    return container;
+  }
+
 }
@@ -61,6 +61,19 @@ public class ChatController implements ChatControllerDocs {
     return ResponseEntity.ok(chatRoomService.getRooms(request));
   }
 
+  /**
+   * 본인이 포함된 채팅방 커서 조회 (keyset, lastActivityAt DESC)
+   */
+  @Override
+  @PostMapping(value = "/rooms/cursor/get", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @LogMonitor
+  public ResponseEntity<ChatRoomResponse> getRoomsByCursor(
+      @ModelAttribute ChatRoomRequest request,
+      @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+    request.setMember(customUserDetails.getMember());
+    return ResponseEntity.ok(chatRoomService.getRoomsByCursor(request));
+  }
+
   /**
    * 물품 ID별 채팅방 목록 조회
    */
@@ -102,6 +115,20 @@ public class ChatController implements ChatControllerDocs {
     return ResponseEntity.ok(chatMessageService.findRecentMessages(request));
   }
 
+  /**
+   * 커서 기반 메시지 조회 (keyset, createdDate DESC)
+   */
+  @Override
+  @PostMapping(value = "/messages/cursor/get", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @LogMonitor
+  public ResponseEntity<ChatRoomResponse> getMessagesByCursor(
+      @ModelAttribute ChatRoomRequest request,
+      @AuthenticationPrincipal CustomUserDetails customUserDetails
+  ) {
+    request.setMember(customUserDetails.getMember());
+    return ResponseEntity.ok(chatMessageService.findMessagesByCursor(request));
+  }
+
   @Override
   @PostMapping(value = "/read-status/get", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   @LogMonitor
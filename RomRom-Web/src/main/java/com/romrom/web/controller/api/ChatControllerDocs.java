@@ -54,6 +54,35 @@ public interface ChatControllerDocs {
   )
   ResponseEntity<ChatRoomResponse> getRooms(ChatRoomRequest request, CustomUserDetails customUserDetails);
 
+  @ApiChangeLogs({
+      @ApiChangeLog(date = "2026.10.18", author = Author.SUHSAECHAN, description = "채팅방 목록 커서(keyset) 조회 API 추가 (마지막 활동 최신순)")
+  })
+  @Operation(
+      summary = "내 채팅방 목록 커서 조회",
+      description = """
+    ### 인증(JWT): **필수**
+
+    ### 요청 파라미터 (ChatRoomRequest)
+    - `cursor` (String, optional) : 이전 응답의 `nextCursor` (첫 페이지는 비움)
+    - `pageSize` : 페이지 크기 (기본 30)
+
+    ### 동작
+    - 로그인한 사용자가 속한 1:1 채팅방 목록을 마지막 활동(메시지) 시각 최신순으로 반환합니다.
+    - 같은 시각의 채팅방은 chatRoomId 역순으로 정렬되어 페이지 경계에서 누락/중복이 없습니다.
+    - 페이지 번호(OFFSET) 없이 커서 다음 위치부터 인덱스로 조회하므로, 채팅방이 많아도 깊은 페이지 조회 비용이 첫 페이지와 같습니다.
+    - 본인이 나간 채팅방은 목록에 포함되지 않습니다. 나간 방이 많은 구간에서는 `pageSize`보다 적게 반환될 수 있으며, 다음 페이지 여부는 `hasNext`로 판단합니다.
+    - 조회 중 새 메시지로 순서가 바뀐 채팅방은 다음 페이지에서 다시 보이거나 빠질 수 있으므로, 첫 페이지를 다시 조회해 최신 목록을 갱신하세요.
+
+    ### 반환값 (ChatRoomResponse)
+    - `chatRoomDetailDtoPage` (Slice<ChatRoomDetailDto>): 채팅방 목록 (ChatRoomDetailDto 구조는 `내 채팅방 목록 조회`와 동일)
+    - `nextCursor` (String, nullable) : 다음 페이지 조회용 커서 (마지막 페이지면 null)
+
+    ### 에러코드
+    - `INVALID_CHAT_ROOM_CURSOR`: 유효하지 않은 채팅방 목록 커서입니다.
+    """
+  )
+  ResponseEntity<ChatRoomResponse> getRoomsByCursor(ChatRoomRequest request, CustomUserDetails customUserDetails);
+
   @ApiChangeLogs({
       @ApiChangeLog(date = "2026.06.20", author = Author.SUHSAECHAN, issueNumber = 764, description = "나간 방 필터링 후 실제 반환 데이터 기준으로 hasNext 계산 (빈 다음 페이지 불필요 요청 방지)"),
       @ApiChangeLog(date = "2026.04.17", author = Author.BAEKJIHOON, issueNumber = 650, description = "물품 ID 기반 채팅방 목록 조회 API 추가")
@@ -193,6 +222,42 @@ public interface ChatControllerDocs {
   )
   ResponseEntity<ChatRoomResponse> getRecentMessages(ChatRoomRequest request, CustomUserDetails customUserDetails);
 
+  @ApiChangeLogs({
+      @ApiChangeLog(date = "2026.10.18", author = Author.SUHSAECHAN, description = "채팅 메시지 커서(keyset) 조회 API 추가")
+  })
+  @Operation(
+      summary = "메시지 조회 (커서)",
+      description = """
+      ## 인증(JWT): **필수**
+
+      ## 요청 파라미터 (ChatRoomRequest)
+      - `chatRoomId` (UUID) : 채팅방 ID
+      - `cursor` (String) : 이전 응답의 `olderCursor`(위로 스크롤) 또는 `newerCursor`(아래로 스크롤). 첫 조회는 비움
+      - `anchorMessageId` (String) : 기준 메시지 ID. 지정하면 이 메시지를 가운데 두고 앞뒤 메시지를 함께 조회 (`cursor` 무시)
+      - `pageSize` (int) : 페이지 크기 (기본값 30)
+
+      ## 동작
+      - 요청 사용자가 방 멤버인 경우에만 조회
+      - `messages/get` 과 같은 메시지를 OFFSET 없이 커서 위치부터 조회하므로, 오래된 메시지로 깊게 스크롤해도 응답 시간이 첫 페이지와 같음
+      - 메시지는 항상 최신순(createdDate DESC)으로 반환
+      - 같은 시각 메시지는 메시지 ID로 순서를 정해 페이지 경계에서 누락/중복 없음
+
+      ## 반환값 (ChatRoomResponse)
+      - `messages` (Slice<ChatMessage>) : 메시지 목록 (`hasNext` 는 더 오래된 메시지 존재 여부)
+      - `olderCursor` : 더 오래된 메시지 조회용 커서 (없으면 null)
+      - `newerCursor` : 더 최근 메시지 조회용 커서 (최신 메시지까지 내려왔으면 null)
+      - `chatRoom`, `opponentState`, `isOpponentDeleted` : `messages/get` 과 동일
+      - `latestRecommendation` : 조회한 페이지와 관계없이 채팅방 최근 메시지 기준 AI 추천 (`messages/get` 과 동일)
+
+      ## 에러코드
+      - `CHATROOM_NOT_FOUND`: 채팅방을 찾을 수 없습니다.
+      - `NOT_CHATROOM_MEMBER`: 채팅방의 멤버만 접근할 수 있는 권한입니다.
+      - `CHAT_MESSAGE_NOT_FOUND`: 기준 메시지가 없거나 다른 채팅방의 메시지입니다.
+      - `INVALID_CHAT_MESSAGE_CURSOR`: 유효하지 않은 채팅 메시지 커서입니다. (첫 조회부터 다시 요청)
+      """
+  )
+  ResponseEntity<ChatRoomResponse> getMessagesByCursor(ChatRoomRequest request, CustomUserDetails customUserDetails);
+
   @ApiChangeLogs({
       @ApiChangeLog(date = "2026.04.30", author = Author.WISEUNGJAE, issueNumber = 654, description = "웹소켓 연결 종료 시 active 채팅방 자동 퇴장 처리 추가"),
       @ApiChangeLog(date = "2026.03.14", author = Author.WISEUNGJAE, issueNumber = 572, description = "읽음 커서 갱신 시 leftAt 기반 실시간 읽음 이벤트 연동"),
@@ -118,6 +118,29 @@ public class ItemController implements ItemControllerDocs {
     return ResponseEntity.ok(response);
   }
 
+  @Override
+  @PostMapping(value = "/list/cursor/get", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @LogMonitor
+  public ResponseEntity<ItemResponse> getItemListByCursor(
+      @AuthenticationPrincipal CustomUserDetails customUserDetails,
+      @ModelAttribute ItemRequest request) {
+    request.setMember(customUserDetails.getMember());
+    ItemResponse response = itemService.getItemListByCursor(request);
+
+    // 슬라이스 내 물품들의 신고 여부 배치 조회
+    List<UUID> itemIds = response.getItemSlice().getContent().stream()
+        .map(Item::getItemId)
+        .toList();
+    Set<UUID> reportedItemIds = reportService.getReportedItemIds(
+        request.getMember().getMemberId(), itemIds);
+
+    response.getItemSlice().getContent().forEach(item ->
+        item.setIsReported(reportedItemIds.contains(item.getItemId()))
+    );
+
+    return ResponseEntity.ok(response);
+  }
+
   @Override
   @PostMapping(value = "/edit", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
   @LogMonitor
@@ -367,6 +367,43 @@ public interface ItemControllerDocs {
       ItemRequest request
   );
 
+  @ApiChangeLogs({
+      @ApiChangeLog(date = "2026.10.18", author = Author.SUHSAECHAN, description = "물품 목록 커서(keyset) 페이지네이션 API 추가"),
+  })
+  @Operation(
+      summary = "물품 목록 조회 (커서)",
+      description = """
+          ## 인증(JWT): **필요**
+
+          ## 요청 파라미터 (ItemRequest)
+          - **`cursor`**: 이전 응답의 `nextCursor` (첫 페이지는 비움)
+          - **`pageSize`**: 페이지 크기 (기본값 30)
+          - **`sortField`**: 정렬 기준 (CREATED_DATE, DISTANCE, RECOMMENDED)
+          - **`sortDirection`**: 정렬 방향 (ASC, DESC)
+          - **`radiusInMeters`**: 탐색 반경 (회원 설정값이 우선, 미설정 시 10km)
+
+          ## 반환값 (ItemResponse)
+          - **`itemSlice`**: 물품 목록 (Slice, 전체 개수/전체 페이지 수 없음)
+          - **`nextCursor`**: 다음 페이지 조회용 커서 (마지막 페이지면 null)
+
+          ## 설명
+          - `/api/item/list/get`과 같은 조건(본인 물품, 차단 관계, 숨긴 물품 제외)으로 조회하되 OFFSET/count 쿼리 없이 커서 다음 위치부터 조회
+          - 페이지가 깊어져도 응답 시간이 첫 페이지와 같음 (무한 스크롤용)
+          - 두 번째 페이지부터는 `cursor`만 보내면 되며, 정렬 기준/방향은 커서에 기록된 값이 적용됨
+          - RECOMMENDED는 첫 페이지 조회 시각 기준으로 점수를 고정하므로 스크롤 중 순서가 흔들리지 않음
+          - 위치 미등록 회원의 DISTANCE/RECOMMENDED 첫 페이지는 CREATED_DATE로 폴백
+          - PREFERRED_CATEGORY는 지원하지 않음 (`/api/item/list/get` 사용)
+
+          ## 에러코드
+          - **`INVALID_ITEM_CURSOR`**: 유효하지 않은 물품 목록 커서입니다. (첫 페이지부터 다시 조회)
+          - **`UNSUPPORTED_ITEM_CURSOR_SORT_FIELD`**: 커서 페이지네이션을 지원하지 않는 정렬 기준입니다.
+          """
+  )
+  ResponseEntity<ItemResponse> getItemListByCursor(
+      CustomUserDetails customUserDetails,
+      ItemRequest request
+  );
+
   @ApiChangeLogs({
       @ApiChangeLog(date = "2026.03.20", author = Author.SUHSAECHAN, issueNumber = 595, description = "회원 위치정보 없이 물품 상세 조회 시 MEMBER_LOCATION_NOT_FOUND 에러 대신 null 허용"),
       @ApiChangeLog(date = "2026.02.10", author = Author.SUHSAECHAN, issueNumber = 498, description = "물품 상세 조회 시 차단 여부(isBlocked), 신고 여부(isReported) 플래그 추가"),
@@ -5,11 +5,16 @@ import com.romrom.storage.dto.StorageRequest;
 import com.romrom.storage.dto.StorageResponse;
 import com.romrom.storage.service.StorageService;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import me.suhsaechan.suhlogger.annotation.LogMonitor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -24,6 +29,9 @@ import org.springframework.web.bind.annotation.RestController;
 )
 public class StorageController implements StorageControllerDocs {
 
+  // 파생본 리다이렉트 캐시 기간 (파생본 파일 자체는 immutable 로 1년 캐시)
+  private static final long VARIANT_REDIRECT_CACHE_DAYS = 7;
+
   private final StorageService storageService;
 
   @Override
@@ -44,4 +52,19 @@ public class StorageController implements StorageControllerDocs {
     storageService.deleteImages(request);
     return ResponseEntity.ok().build();
   }
+
+  @Override
+  @GetMapping(value = "/variant")
+  public ResponseEntity<Void> getImageVariant(
+      @ModelAttribute StorageRequest request) {
+    String variantUrl = storageService.getVariantUrl(request);
+    // 원본으로 돌려보내는 경우(생성 실패, FTP 이미지)는 캐시하지 않아 다음 요청에서 파생본을 다시 시도
+    boolean variantResolved = !variantUrl.equals(request.getImageUrl());
+    return ResponseEntity.status(HttpStatus.FOUND)
+        .location(URI.create(variantUrl))
+        .cacheControl(variantResolved
+            ? CacheControl.maxAge(VARIANT_REDIRECT_CACHE_DAYS, TimeUnit.DAYS).cachePublic()
+            : CacheControl.noStore())
+        .build();
+  }
 }
@@ -49,4 +49,33 @@ public interface StorageControllerDocs {
       CustomUserDetails customUserDetails,
       StorageRequest request
   );
+
+  @ApiChangeLogs({
+      @ApiChangeLog(date = "2026.10.18", author = Author.SUHSAECHAN, description = "목록/미리보기용 이미지 파생본(썸네일, 중간 크기) 조회 API 추가"),
+  })
+  @Operation(
+      summary = "사진 파생본 조회 (썸네일/중간 크기)",
+      description = """
+          ## 인증(JWT): **불필요** (이미지 태그에서 바로 사용)
+
+          ## 요청 방식
+          - **HTTP Method**: `GET`
+          - **Content-Type**: 없음 (쿼리 파라미터 기반)
+
+          ## 요청 파라미터 (StorageRequest)
+          - **`imageUrl`**: 업로드 API 가 반환한 원본 사진 URL
+          - **`variant`**: 파생본 종류 (기본 `THUMBNAIL`)
+            - `THUMBNAIL`: 너비 320px WebP (목록 썸네일)
+            - `MEDIUM`: 너비 720px WebP (상세 미리보기)
+
+          ## 반환값
+          - **302 Found**: `Location` 헤더로 파생본 URL 리다이렉트 (리다이렉트는 7일 캐시)
+          - 파생본 파일은 `Cache-Control: public, max-age=31536000, immutable` 로 저장되어 장기 캐시됨
+          - 파생본이 아직 없으면 첫 요청에서 생성 후 리다이렉트
+          - MinIO 원본이 아니거나(FTP) 파생본 생성에 실패하면 원본 URL 로 리다이렉트 (`Cache-Control: no-store`, 다음 요청에서 다시 시도)
+          """
+  )
+  ResponseEntity<Void> getImageVariant(
+      StorageRequest request
+  );
 }
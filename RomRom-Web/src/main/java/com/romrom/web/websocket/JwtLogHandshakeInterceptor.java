@@ -1,6 +1,7 @@
 package com.romrom.web.websocket;
 
 import com.romrom.auth.jwt.JwtUtil;
+import com.romrom.auth.jwt.VerifiedToken;
 import jakarta.servlet.http.Cookie;
 import java.util.List;
 import java.util.Map;
@@ -71,12 +72,13 @@ public class JwtLogHandshakeInterceptor implements HandshakeInterceptor {
 
     // ③ JWT 유효성 + ROLE_ADMIN 검증
     try {
-      if (!jwtUtil.validateToken(accessToken)) {
+      VerifiedToken verifiedToken = jwtUtil.verify(accessToken);
+      if (verifiedToken == null) {
         log.warn("로그 WebSocket 핸드셰이크 거부 — 유효하지 않은 토큰");
         response.setStatusCode(HttpStatus.UNAUTHORIZED);
         return false;
       }
-      String role = jwtUtil.getRole(accessToken);
+      String role = verifiedToken.getRole();
       if (!ADMIN_ROLE.equals(role)) {
         log.warn("로그 WebSocket 핸드셰이크 거부 — 관리자 권한 아님: role={}", role);
         response.setStatusCode(HttpStatus.FORBIDDEN);
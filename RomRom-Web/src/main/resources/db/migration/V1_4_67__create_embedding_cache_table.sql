@@ -0,0 +1,24 @@
+-- embedding_cache 테이블 생성
+-- 정규화 텍스트 + 임베딩 모델 ID의 SHA-256 해시를 키로 768차원 벡터를 보관해, 동일 텍스트 재임베딩 시 원격 호출을 생략합니다.
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM information_schema.tables
+        WHERE table_schema = 'public'
+          AND table_name = 'embedding_cache'
+    ) THEN
+        CREATE TABLE public.embedding_cache (
+            embedding_cache_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+            content_hash VARCHAR(64) NOT NULL,
+            model_id VARCHAR(100) NOT NULL,
+            embedding VECTOR(768) NOT NULL,
+            created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            updated_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            CONSTRAINT uk_embedding_cache_content_hash UNIQUE (content_hash)
+        );
+        RAISE NOTICE 'embedding_cache 테이블을 생성했습니다.';
+    ELSE
+        RAISE NOTICE 'embedding_cache 테이블이 이미 존재합니다.';
+    END IF;
+END $$;
@@ -0,0 +1,42 @@
+-- embedding_job 테이블 생성 (임베딩 생성 outbox)
+-- 물품 등록/수정 트랜잭션에서는 작업만 기록하고, 원격 임베딩 호출은 커밋 이후 워커가 처리합니다.
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1
+        FROM information_schema.tables
+        WHERE table_schema = 'public'
+          AND table_name = 'embedding_job'
+    ) THEN
+        CREATE TABLE public.embedding_job (
+            embedding_job_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+            original_id UUID NOT NULL,
+            original_type VARCHAR(30) NOT NULL,
+            source_text TEXT NOT NULL,
+            status VARCHAR(20) NOT NULL,
+            attempt_count INTEGER NOT NULL DEFAULT 0,
+            job_version BIGINT NOT NULL DEFAULT 0,
+            next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            last_error_message VARCHAR(500),
+            created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            updated_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+            CONSTRAINT uq_embedding_job_original_id_original_type UNIQUE (original_id, original_type)
+        );
+        RAISE NOTICE 'embedding_job 테이블을 생성했습니다.';
+    ELSE
+        RAISE NOTICE 'embedding_job 테이블이 이미 존재합니다.';
+    END IF;
+
+    -- 워커 선점 조회용 (처리 대상 상태만)
+    IF NOT EXISTS (
+        SELECT 1
+        FROM pg_indexes
+        WHERE schemaname = 'public'
+          AND indexname = 'idx_embedding_job_claimable'
+    ) THEN
+        CREATE INDEX idx_embedding_job_claimable
+            ON public.embedding_job (next_attempt_at)
+            WHERE status IN ('PENDING', 'PROCESSING');
+        RAISE NOTICE 'idx_embedding_job_claimable 인덱스를 생성했습니다.';
+    END IF;
+END $$;
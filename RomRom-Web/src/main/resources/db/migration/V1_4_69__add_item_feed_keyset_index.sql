@@ -0,0 +1,25 @@
+-- 물품 목록 커서(keyset) 조회용 인덱스
+-- 최신순 커서 조회는 (created_date, item_id) 범위 스캔으로 OFFSET 없이 다음 페이지를 읽습니다.
+-- 피드에 노출되는 물품(삭제/관리자 차단 제외, 거래 가능)만 담는 부분 인덱스입니다.
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_name = 'item'
+    ) AND EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'item' AND column_name = 'is_admin_hidden'
+    ) AND NOT EXISTS (
+        SELECT 1 FROM pg_indexes
+        WHERE indexname = 'idx_item_feed_created_date_item_id'
+    ) THEN
+        CREATE INDEX idx_item_feed_created_date_item_id
+            ON item (created_date DESC, item_id DESC)
+            WHERE is_deleted = false
+              AND is_admin_hidden = false
+              AND item_status = 'AVAILABLE';
+        RAISE NOTICE 'idx_item_feed_created_date_item_id 인덱스를 생성했습니다.';
+    ELSE
+        RAISE NOTICE 'idx_item_feed_created_date_item_id 인덱스가 이미 존재하거나 대상 테이블이 없습니다.';
+    END IF;
+END $$;
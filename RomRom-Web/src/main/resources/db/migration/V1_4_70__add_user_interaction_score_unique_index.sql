@@ -0,0 +1,73 @@
+-- user_interaction_score (회원, 카테고리) 유니크 인덱스
+-- 상호작용 점수는 메모리에서 합친 증감분을 INSERT ... ON CONFLICT (member_member_id, item_category) 로 반영합니다.
+-- 기존 read-modify-write 경합으로 생긴 중복 행은 가장 오래된 행으로 합친 뒤 인덱스를 생성합니다.
+-- (total_score 는 like_count, view_count 에 대한 선형식이므로 합산해도 같은 값입니다)
+DO $$
+DECLARE
+    merged_row_count BIGINT;
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_schema = 'public'
+          AND table_name = 'user_interaction_score'
+    ) THEN
+        RAISE NOTICE 'user_interaction_score 테이블이 없어 인덱스 생성을 건너뜁니다.';
+        RETURN;
+    END IF;
+
+    IF EXISTS (
+        SELECT 1 FROM pg_indexes
+        WHERE indexname = 'uk_user_interaction_score_member_category'
+    ) THEN
+        RAISE NOTICE 'uk_user_interaction_score_member_category 인덱스가 이미 존재합니다.';
+        RETURN;
+    END IF;
+
+    WITH ranked AS (
+        SELECT user_interaction_score_id,
+               member_member_id,
+               item_category,
+               ROW_NUMBER() OVER (
+                   PARTITION BY member_member_id, item_category
+                   ORDER BY created_date, user_interaction_score_id
+               ) AS row_number
+        FROM public.user_interaction_score
+    ),
+    totals AS (
+        SELECT member_member_id,
+               item_category,
+               SUM(COALESCE(like_count, 0)) AS like_count,
+               SUM(COALESCE(view_count, 0)) AS view_count,
+               SUM(COALESCE(total_score, 0)) AS total_score
+        FROM public.user_interaction_score
+        GROUP BY member_member_id, item_category
+        HAVING COUNT(*) > 1
+    )
+    UPDATE public.user_interaction_score s
+    SET like_count = totals.like_count,
+        view_count = totals.view_count,
+        total_score = totals.total_score,
+        updated_date = NOW()
+    FROM ranked, totals
+    WHERE s.user_interaction_score_id = ranked.user_interaction_score_id
+      AND ranked.row_number = 1
+      AND ranked.member_member_id = totals.member_member_id
+      AND ranked.item_category = totals.item_category;
+
+    DELETE FROM public.user_interaction_score s
+    USING (
+        SELECT user_interaction_score_id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY member_member_id, item_category
+                   ORDER BY created_date, user_interaction_score_id
+               ) AS row_number
+        FROM public.user_interaction_score
+    ) ranked
+    WHERE s.user_interaction_score_id = ranked.user_interaction_score_id
+      AND ranked.row_number > 1;
+    GET DIAGNOSTICS merged_row_count = ROW_COUNT;
+
+    CREATE UNIQUE INDEX uk_user_interaction_score_member_category
+        ON public.user_interaction_score (member_member_id, item_category);
+    RAISE NOTICE 'uk_user_interaction_score_member_category 인덱스를 생성했습니다. (중복 행 %개 병합)', merged_row_count;
+END $$;
@@ -0,0 +1,41 @@
+-- view_history (회원, 물품, 조회일) 유니크 인덱스
+-- 물품 조회 기록은 메모리에서 모아 INSERT ... ON CONFLICT DO NOTHING 배치로 저장하며, 하루 1회 제한을 이 인덱스가 보장합니다.
+-- 기존 exists 확인 후 저장 경합으로 생긴 중복 행은 가장 오래된 행만 남기고 삭제합니다.
+DO $$
+DECLARE
+    deleted_row_count BIGINT;
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_schema = 'public'
+          AND table_name = 'view_history'
+    ) THEN
+        RAISE NOTICE 'view_history 테이블이 없어 인덱스 생성을 건너뜁니다. JPA가 생성할 예정입니다.';
+        RETURN;
+    END IF;
+
+    IF EXISTS (
+        SELECT 1 FROM pg_indexes
+        WHERE indexname = 'uk_view_history_member_item_date'
+    ) THEN
+        RAISE NOTICE 'uk_view_history_member_item_date 인덱스가 이미 존재합니다.';
+        RETURN;
+    END IF;
+
+    DELETE FROM public.view_history v
+    USING (
+        SELECT view_history_id,
+               ROW_NUMBER() OVER (
+                   PARTITION BY member_member_id, item_item_id, viewed_date
+                   ORDER BY created_date, view_history_id
+               ) AS row_number
+        FROM public.view_history
+    ) ranked
+    WHERE v.view_history_id = ranked.view_history_id
+      AND ranked.row_number > 1;
+    GET DIAGNOSTICS deleted_row_count = ROW_COUNT;
+
+    CREATE UNIQUE INDEX uk_view_history_member_item_date
+        ON public.view_history (member_member_id, item_item_id, viewed_date);
+    RAISE NOTICE 'uk_view_history_member_item_date 인덱스를 생성했습니다. (중복 행 %개 삭제)', deleted_row_count;
+END $$;
@@ -0,0 +1,44 @@
+-- 채팅방 목록 커서(keyset) 조회용 마지막 활동 시각 컬럼 + 인덱스
+-- last_activity_at 은 메시지 저장 시 갱신되며, 목록은 (회원, last_activity_at DESC, chat_room_id DESC) 순서로 OFFSET 없이 읽습니다.
+-- 회원은 수신자(trade_receiver) 또는 발신자(trade_sender) 쪽에 있으므로 양쪽에 같은 형태의 부분 인덱스를 만듭니다.
+-- 기존 방은 생성 시각으로 채우며, 이후 첫 메시지부터 실제 활동 시각으로 갱신됩니다.
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.tables
+        WHERE table_name = 'chat_room'
+    ) THEN
+        RAISE NOTICE 'chat_room 테이블이 없어 마이그레이션을 건너뜁니다. JPA가 생성할 예정입니다.';
+        RETURN;
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'chat_room' AND column_name = 'last_activity_at'
+    ) THEN
+        ALTER TABLE chat_room ADD COLUMN last_activity_at TIMESTAMP;
+        RAISE NOTICE 'chat_room.last_activity_at 컬럼을 추가했습니다.';
+    END IF;
+
+    UPDATE chat_room SET last_activity_at = created_date WHERE last_activity_at IS NULL;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_indexes
+        WHERE indexname = 'idx_chat_room_receiver_last_activity'
+    ) THEN
+        CREATE INDEX idx_chat_room_receiver_last_activity
+            ON chat_room (trade_receiver_member_id, last_activity_at DESC, chat_room_id DESC)
+            WHERE deleted_at IS NULL;
+        RAISE NOTICE 'idx_chat_room_receiver_last_activity 인덱스를 생성했습니다.';
+    END IF;
+
+    IF NOT EXISTS (
+        SELECT 1 FROM pg_indexes
+        WHERE indexname = 'idx_chat_room_sender_last_activity'
+    ) THEN
+        CREATE INDEX idx_chat_room_sender_last_activity
+            ON chat_room (trade_sender_member_id, last_activity_at DESC, chat_room_id DESC)
+            WHERE deleted_at IS NULL;
+        RAISE NOTICE 'idx_chat_room_sender_last_activity 인덱스를 생성했습니다.';
+    END IF;
+END $$;
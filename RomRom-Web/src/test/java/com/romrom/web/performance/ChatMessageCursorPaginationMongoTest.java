@@ -0,0 +1,279 @@
+package com.romrom.web.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.ExplainVerbosity;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.romrom.chat.dto.ChatMessageCursor;
+import com.romrom.chat.entity.mongo.ChatMessage;
+import com.romrom.chat.repository.mongo.ChatMessageRepositoryImpl;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.bson.Document;
+import org.bson.UuidRepresentation;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+@EnabledIf("mongoIndexTestEnabled")
+class ChatMessageCursorPaginationMongoTest {
+
+  /*
+   * 채팅 메시지(/api/chat/rooms/messages/get) skip 방식과 커서(/api/chat/rooms/messages/cursor/get) keyset 방식의 깊은 페이지 지연 비교
+   * 격리 데이터베이스를 만들어 한 채팅방에 대량 메시지를 넣고 측정 후 삭제하며, 시스템 프로퍼티/환경변수로만 활성화한다.
+   * 같은 초에 여러 메시지가 있는 경우(동점)를 섞어 _id 동점 해소가 페이지 경계에서 누락/중복 없이 동작하는지도 확인한다.
+   */
+  private static final int ROOM_MESSAGE_COUNT = Integer.getInteger("romrom.mongo.index-test.messages", 100_000);
+  private static final int NOISE_ROOM_COUNT = 20;
+  private static final int NOISE_MESSAGES_PER_ROOM = 1_000;
+  private static final int PAGE_SIZE = 30;
+  private static final int[] PAGE_DEPTHS = {0, 10, 100, 1_000, 3_000};
+  private static final int MEASURE_REPETITIONS = Integer.getInteger("romrom.mongo.index-test.repetitions", 8);
+  // 같은 초에 생성된 메시지 수 (동점 구간)
+  private static final int MESSAGES_PER_SECOND = 4;
+  private static final int INSERT_BATCH_SIZE = 5_000;
+
+  private static boolean mongoIndexTestEnabled() {
+    return Boolean.getBoolean("romrom.mongo.index-test.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_MONGO_INDEX_TEST_ENABLED"));
+  }
+
+  @Test
+  void compareDeepPageLatencyBetweenSkipAndCursorPagination() {
+    assertThat(PAGE_DEPTHS[PAGE_DEPTHS.length - 1] * PAGE_SIZE).isLessThan(ROOM_MESSAGE_COUNT);
+
+    String databaseName = "romrom_perf_" + UUID.randomUUID().toString().replace("-", "_");
+    UUID chatRoomId = UUID.randomUUID();
+    Map<Integer, DepthResult> resultByDepth = new LinkedHashMap<>();
+
+    try (MongoClient mongoClient = connect()) {
+      MongoTemplate mongoTemplate = new MongoTemplate(mongoClient, databaseName);
+      try {
+        seedMessages(mongoTemplate, chatRoomId);
+        mongoTemplate.indexOps(ChatMessage.class).ensureIndex(
+            new CompoundIndexDefinition(new Document("chatRoomId", 1).append("createdDate", -1).append("_id", -1)));
+        ChatMessageRepositoryImpl chatMessageRepository = new ChatMessageRepositoryImpl(mongoTemplate);
+
+        for (int pageNumber : PAGE_DEPTHS) {
+          resultByDepth.put(pageNumber, measure(mongoTemplate, chatMessageRepository, chatRoomId, pageNumber));
+        }
+      } finally {
+        mongoTemplate.getDb().drop();
+      }
+    }
+
+    DepthResult deepest = resultByDepth.get(PAGE_DEPTHS[PAGE_DEPTHS.length - 1]);
+    assertThat(deepest.cursorKeysExamined()).isLessThanOrEqualTo((PAGE_SIZE + 1) * 2L);
+    assertThat(deepest.skipKeysExamined()).isGreaterThan((long) PAGE_DEPTHS[PAGE_DEPTHS.length - 1] * PAGE_SIZE);
+    printPerformanceLog(resultByDepth);
+  }
+
+  private DepthResult measure(
+      MongoTemplate mongoTemplate,
+      ChatMessageRepositoryImpl chatMessageRepository,
+      UUID chatRoomId,
+      int pageNumber
+  ) {
+    // 직전 페이지 마지막 메시지 = 커서 위치. 두 방식이 같은 메시지를 같은 순서로 반환하는지 먼저 확인한다.
+    List<ChatMessage> skipPage = fetchSkipPage(mongoTemplate, chatRoomId, pageNumber);
+    ChatMessage boundary = pageNumber == 0 ? null : fetchSkipPage(mongoTemplate, chatRoomId, pageNumber - 1).get(PAGE_SIZE - 1);
+    List<ChatMessage> cursorPage = fetchCursorPage(chatMessageRepository, chatRoomId, boundary);
+    assertThat(cursorPage.subList(0, PAGE_SIZE)).extracting(ChatMessage::getChatMessageId)
+        .containsExactlyElementsOf(skipPage.stream().map(ChatMessage::getChatMessageId).toList());
+
+    // 반대 방향(NEWER)으로 돌아가면 직전 페이지가 그대로 복원되어야 한다 (양방향 스크롤)
+    if (pageNumber > 0) {
+      List<ChatMessage> newerPage = chatMessageRepository.findMessagesByCursor(
+          chatRoomId, ChatMessageCursor.Direction.NEWER, skipPage.get(0).getCreatedDate(), skipPage.get(0).getChatMessageId(), PAGE_SIZE);
+      List<String> previousPageIds = new ArrayList<>(fetchSkipPage(mongoTemplate, chatRoomId, pageNumber - 1).stream()
+          .map(ChatMessage::getChatMessageId).toList());
+      Collections.reverse(previousPageIds);
+      assertThat(newerPage).extracting(ChatMessage::getChatMessageId).containsExactlyElementsOf(previousPageIds);
+    }
+
+    double skipAverageMs = averageMs(() -> fetchSkipPage(mongoTemplate, chatRoomId, pageNumber));
+    double cursorAverageMs = averageMs(() -> fetchCursorPage(chatMessageRepository, chatRoomId, boundary));
+    return new DepthResult(
+        skipAverageMs,
+        cursorAverageMs,
+        keysExamined(mongoTemplate, skipExplainFilter(chatRoomId), (long) pageNumber * PAGE_SIZE, PAGE_SIZE),
+        keysExamined(mongoTemplate, cursorExplainFilter(chatRoomId, boundary), 0, PAGE_SIZE + 1)
+    );
+  }
+
+  // 기존 messages/get 과 같은 skip 방식 (동점 순서를 고정하기 위해 _id 정렬만 추가)
+  private List<ChatMessage> fetchSkipPage(MongoTemplate mongoTemplate, UUID chatRoomId, int pageNumber) {
+    Query skipQuery = new Query(Criteria.where("chatRoomId").is(chatRoomId))
+        .with(Sort.by(Sort.Direction.DESC, "createdDate").and(Sort.by(Sort.Direction.DESC, "_id")))
+        .skip((long) pageNumber * PAGE_SIZE)
+        .limit(PAGE_SIZE);
+    return mongoTemplate.find(skipQuery, ChatMessage.class);
+  }
+
+  private List<ChatMessage> fetchCursorPage(ChatMessageRepositoryImpl chatMessageRepository, UUID chatRoomId, ChatMessage boundary) {
+    return chatMessageRepository.findMessagesByCursor(
+        chatRoomId,
+        ChatMessageCursor.Direction.OLDER,
+        boundary != null ? boundary.getCreatedDate() : null,
+        boundary != null ? boundary.getChatMessageId() : null,
+        PAGE_SIZE + 1
+    );
+  }
+
+  private Document skipExplainFilter(UUID chatRoomId) {
+    return new Document("chatRoomId", chatRoomId);
+  }
+
+  // ChatMessageRepositoryImpl.findMessagesByCursor 와 같은 조건을 드라이버 타입으로 구성 (explain 용)
+  private Document cursorExplainFilter(UUID chatRoomId, ChatMessage boundary) {
+    Document filter = new Document("chatRoomId", chatRoomId);
+    if (boundary == null) {
+      return filter;
+    }
+    Date boundaryDate = Date.from(boundary.getCreatedDate().atZone(ZoneId.systemDefault()).toInstant());
+    ObjectId boundaryId = new ObjectId(boundary.getChatMessageId());
+    return filter.append("createdDate", new Document("$lte", boundaryDate)).append("$or", List.of(
+        new Document("createdDate", new Document("$lt", boundaryDate)),
+        new Document("createdDate", boundaryDate).append("_id", new Document("$lt", boundaryId))
+    ));
+  }
+
+  private long keysExamined(MongoTemplate mongoTemplate, Document filter, long skip, int limit) {
+    Document explain = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatMessage.class))
+        .find(filter)
+        .sort(new Document("createdDate", -1).append("_id", -1))
+        .skip((int) skip)
+        .limit(limit)
+        .explain(ExplainVerbosity.EXECUTION_STATS);
+    Document executionStats = explain.get("executionStats", Document.class);
+    return ((Number) executionStats.get("totalKeysExamined")).longValue();
+  }
+
+  private void seedMessages(MongoTemplate mongoTemplate, UUID chatRoomId) {
+    MongoCollection<Document> collection = mongoTemplate.getCollection(mongoTemplate.getCollectionName(ChatMessage.class));
+    Instant baseInstant = Instant.parse("2026-01-01T00:00:00Z");
+    UUID senderId = UUID.randomUUID();
+    UUID recipientId = UUID.randomUUID();
+
+    List<Document> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+    for (int i = 0; i < ROOM_MESSAGE_COUNT; i++) {
+      batch.add(messageDocument(chatRoomId, i % 2 == 0 ? senderId : recipientId, i % 2 == 0 ? recipientId : senderId,
+          baseInstant.plusSeconds(i / MESSAGES_PER_SECOND), i));
+      if (batch.size() == INSERT_BATCH_SIZE) {
+        collection.insertMany(batch);
+        batch.clear();
+      }
+    }
+    // 다른 채팅방 메시지 (같은 시간대에 섞여 있음)
+    for (int room = 0; room < NOISE_ROOM_COUNT; room++) {
+      UUID noiseRoomId = UUID.randomUUID();
+      for (int i = 0; i < NOISE_MESSAGES_PER_ROOM; i++) {
+        batch.add(messageDocument(noiseRoomId, senderId, recipientId,
+            baseInstant.plusSeconds((long) i * ROOM_MESSAGE_COUNT / NOISE_MESSAGES_PER_ROOM / MESSAGES_PER_SECOND), i));
+        if (batch.size() == INSERT_BATCH_SIZE) {
+          collection.insertMany(batch);
+          batch.clear();
+        }
+      }
+    }
+    if (!batch.isEmpty()) {
+      collection.insertMany(batch);
+    }
+  }
+
+  private Document messageDocument(UUID chatRoomId, UUID senderId, UUID recipientId, Instant createdInstant, int sequence) {
+    Date createdDate = Date.from(createdInstant);
+    return new Document("_id", new ObjectId())
+        .append("chatRoomId", chatRoomId)
+        .append("senderId", senderId)
+        .append("recipientId", recipientId)
+        .append("content", "메시지 " + sequence)
+        .append("imageUrls", List.of())
+        .append("type", "TEXT")
+        .append("createdDate", createdDate)
+        .append("updatedDate", createdDate);
+  }
+
+  private double averageMs(Runnable runnable) {
+    // 쿼리 플랜/캐시 워밍업을 간단히 거친 뒤 평균 ms를 계산한다. 시간은 로그용이며 테스트 성공 조건으로 사용하지 않는다.
+    for (int i = 0; i < 3; i++) {
+      runnable.run();
+    }
+
+    long totalNanos = 0;
+    for (int i = 0; i < MEASURE_REPETITIONS; i++) {
+      long startNanos = System.nanoTime();
+      runnable.run();
+      totalNanos += System.nanoTime() - startNanos;
+    }
+    return totalNanos / 1_000_000.0 / MEASURE_REPETITIONS;
+  }
+
+  private MongoClient connect() {
+    // 애플리케이션 기본값(Spring Boot)과 같은 UUID 저장 방식
+    MongoClientSettings settings = MongoClientSettings.builder()
+        .applyConnectionString(new ConnectionString(requiredPropertyOrEnv("romrom.test.mongo.uri", "ROMROM_TEST_MONGO_URI")))
+        .uuidRepresentation(UuidRepresentation.JAVA_LEGACY)
+        .build();
+    return MongoClients.create(settings);
+  }
+
+  private String requiredPropertyOrEnv(String propertyName, String envName) {
+    String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.isBlank()) {
+      return propertyValue;
+    }
+    String envValue = System.getenv(envName);
+    if (envValue != null && !envValue.isBlank()) {
+      return envValue;
+    }
+    throw new IllegalStateException("MongoDB 성능 테스트 실행을 위해 " + propertyName + " 또는 " + envName + " 값을 설정해야 합니다.");
+  }
+
+  private void printPerformanceLog(Map<Integer, DepthResult> resultByDepth) {
+    StringBuilder lines = new StringBuilder();
+    resultByDepth.forEach((pageNumber, result) -> lines.append(String.format(
+        "- 페이지 %,d (skip %,d): skip %.3fms (인덱스 키 %,d개) -> 커서 %.3fms (인덱스 키 %,d개), %.2fx 개선%n",
+        pageNumber, (long) pageNumber * PAGE_SIZE,
+        result.skipAverageMs(), result.skipKeysExamined(),
+        result.cursorAverageMs(), result.cursorKeysExamined(),
+        result.skipAverageMs() / result.cursorAverageMs())));
+    System.out.printf("""
+        [ChatMessageCursorPaginationMongoTest] 격리 데이터베이스 채팅 메시지 페이지네이션 성능 테스트 결과
+        - 측정 채팅방 메시지: %,d건 (같은 초 %d건씩 동점) / 다른 채팅방 메시지: %,d건
+        - 페이지 크기: %,d / 반복 측정 횟수: %,d
+        %s- 결론: 커서 조회는 {chatRoomId, createdDate, _id} 인덱스 경계부터 읽어 페이지 깊이와 무관함
+        %n""",
+        ROOM_MESSAGE_COUNT,
+        MESSAGES_PER_SECOND,
+        NOISE_ROOM_COUNT * NOISE_MESSAGES_PER_ROOM,
+        PAGE_SIZE,
+        MEASURE_REPETITIONS,
+        lines
+    );
+  }
+
+  private record DepthResult(
+      double skipAverageMs,
+      double cursorAverageMs,
+      long skipKeysExamined,
+      long cursorKeysExamined
+  ) {
+  }
+}
@@ -0,0 +1,382 @@
+package com.romrom.web.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("postgresIndexTestEnabled")
+class ChatRoomKeysetPaginationPostgresTest {
+
+  /*
+   * 채팅방 목록(/api/chat/rooms/get) OFFSET 방식과 커서(/api/chat/rooms/cursor/get) keyset 방식의 페이지 깊이별 지연 비교
+   * 채팅방이 매우 많은 회원(heavy user)을 만들고, 같은 정렬(last_activity_at DESC, chat_room_id DESC)로 깊이를 바꿔가며 측정한다.
+   * ItemFeedKeysetPaginationPostgresTest와 같이 전용 스키마를 만들어 측정 후 삭제하며, 시스템 프로퍼티/환경변수로만 활성화한다.
+   */
+  private static final int MEMBER_COUNT = Integer.getInteger("romrom.postgres.index-test.members", 2_000);
+  private static final int HEAVY_MEMBER_COUNT = 5;
+  private static final int HEAVY_MEMBER_ROOM_COUNT = Integer.getInteger("romrom.postgres.index-test.heavy-rooms", 40_000);
+  private static final int BACKGROUND_ROOM_COUNT = Integer.getInteger("romrom.postgres.index-test.rows", 200_000);
+  private static final int PAGE_SIZE = Integer.getInteger("romrom.postgres.index-test.page-size", 30);
+  private static final int[] PAGE_DEPTHS = {0, 10, 100, 500, 1_000};
+  private static final int MEASURE_REPETITIONS = Integer.getInteger("romrom.postgres.index-test.repetitions", 8);
+
+  private static boolean postgresIndexTestEnabled() {
+    return Boolean.getBoolean("romrom.postgres.index-test.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_POSTGRES_INDEX_TEST_ENABLED"));
+  }
+
+  @Test
+  void compareRoomListLatencyByPageDepthBetweenOffsetAndKeyset() throws Exception {
+    assertThat(PAGE_DEPTHS[PAGE_DEPTHS.length - 1] * PAGE_SIZE).isLessThan(HEAVY_MEMBER_ROOM_COUNT);
+
+    String schemaName = createIsolatedSchemaName();
+    String memberIdPrefix = "rr-chat-room-member-" + UUID.randomUUID() + "-";
+    UUID heavyMemberId;
+
+    Map<Integer, DepthResult> resultByDepth = new LinkedHashMap<>();
+    String keysetPlan;
+
+    try (Connection connection = connect()) {
+      createIsolatedSchema(connection, schemaName);
+      heavyMemberId = seedChatRooms(connection, schemaName, memberIdPrefix);
+      createMigrationIndexes(connection, schemaName);
+      analyzeTables(connection, schemaName);
+
+      RoomRow deepCursor = null;
+      for (int depth : PAGE_DEPTHS) {
+        // 직전 페이지 마지막 방 = 커서 위치. 두 방식이 같은 방을 같은 순서로 반환하는지 먼저 확인한다.
+        RoomRow cursorRow = depth == 0 ? null
+            : fetchOffsetPage(connection, schemaName, heavyMemberId, depth - 1).get(PAGE_SIZE - 1);
+        List<RoomRow> offsetPage = fetchOffsetPage(connection, schemaName, heavyMemberId, depth);
+        List<RoomRow> keysetPage = fetchKeysetPage(connection, schemaName, heavyMemberId, cursorRow);
+        assertThat(keysetPage).extracting(RoomRow::chatRoomId)
+            .containsExactlyElementsOf(offsetPage.stream().map(RoomRow::chatRoomId).toList());
+
+        double offsetAverageMs = averageMs(MEASURE_REPETITIONS,
+            () -> fetchOffsetPage(connection, schemaName, heavyMemberId, depth));
+        double keysetAverageMs = averageMs(MEASURE_REPETITIONS,
+            () -> fetchKeysetPage(connection, schemaName, heavyMemberId, cursorRow));
+        resultByDepth.put(depth, new DepthResult(offsetAverageMs, keysetAverageMs));
+        deepCursor = cursorRow;
+      }
+
+      RoomRow planCursor = deepCursor;
+      keysetPlan = explain(connection, keysetSql(schemaName, true),
+          statement -> bindKeyset(statement, heavyMemberId, planCursor));
+    } finally {
+      dropIsolatedSchema(schemaName);
+    }
+
+    assertThat(keysetPlan)
+        .contains("idx_chat_room_receiver_last_activity")
+        .contains("idx_chat_room_sender_last_activity");
+    printPerformanceLog(resultByDepth);
+  }
+
+  private List<RoomRow> fetchOffsetPage(Connection connection, String schemaName, UUID memberId, int pageNumber)
+      throws SQLException {
+    // 기존 목록 조회와 같은 형태: 수신/발신 OR 조건 + OFFSET
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT chat_room_id, last_activity_at
+        FROM %s
+        WHERE (trade_receiver_member_id = ? OR trade_sender_member_id = ?)
+          AND deleted_at IS NULL
+        ORDER BY last_activity_at DESC, chat_room_id DESC
+        LIMIT ? OFFSET ?
+        """.formatted(table(schemaName, "chat_room")))) {
+      preparedStatement.setObject(1, memberId);
+      preparedStatement.setObject(2, memberId);
+      preparedStatement.setInt(3, PAGE_SIZE);
+      preparedStatement.setLong(4, (long) pageNumber * PAGE_SIZE);
+      return readRows(preparedStatement);
+    }
+  }
+
+  private List<RoomRow> fetchKeysetPage(Connection connection, String schemaName, UUID memberId, RoomRow cursorRow)
+      throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(keysetSql(schemaName, cursorRow != null))) {
+      bindKeyset(preparedStatement, memberId, cursorRow);
+      return readRows(preparedStatement);
+    }
+  }
+
+  private String keysetSql(String schemaName, boolean afterCursor) {
+    // ChatRoomRepository.findRecentRoomIdsByMemberId / findRoomIdsByMemberIdAfterCursor 와 동일
+    String seekPredicate = afterCursor
+        ? "AND c.last_activity_at <= ? AND (c.last_activity_at < ? OR (c.last_activity_at = ? AND c.chat_room_id < ?))"
+        : "";
+    String branch = """
+        (SELECT c.chat_room_id, c.last_activity_at FROM %s c
+          WHERE c.%s = ? AND c.deleted_at IS NULL %s
+          ORDER BY c.last_activity_at DESC, c.chat_room_id DESC LIMIT %d)
+        """;
+    return """
+        SELECT r.chat_room_id, r.last_activity_at FROM (
+        %s
+        UNION ALL
+        %s
+        ) r ORDER BY r.last_activity_at DESC, r.chat_room_id DESC LIMIT %d
+        """.formatted(
+        branch.formatted(table(schemaName, "chat_room"), "trade_receiver_member_id", seekPredicate, PAGE_SIZE),
+        branch.formatted(table(schemaName, "chat_room"), "trade_sender_member_id", seekPredicate, PAGE_SIZE),
+        PAGE_SIZE);
+  }
+
+  private void bindKeyset(PreparedStatement preparedStatement, UUID memberId, RoomRow cursorRow) throws SQLException {
+    int index = 1;
+    for (int branch = 0; branch < 2; branch++) {
+      preparedStatement.setObject(index++, memberId);
+      if (cursorRow != null) {
+        preparedStatement.setTimestamp(index++, cursorRow.lastActivityAt());
+        preparedStatement.setTimestamp(index++, cursorRow.lastActivityAt());
+        preparedStatement.setTimestamp(index++, cursorRow.lastActivityAt());
+        preparedStatement.setObject(index++, cursorRow.chatRoomId());
+      }
+    }
+  }
+
+  private List<RoomRow> readRows(PreparedStatement preparedStatement) throws SQLException {
+    List<RoomRow> rows = new ArrayList<>();
+    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+      while (resultSet.next()) {
+        rows.add(new RoomRow(resultSet.getObject(1, UUID.class), resultSet.getTimestamp(2)));
+      }
+    }
+    return rows;
+  }
+
+  private UUID seedChatRooms(Connection connection, String schemaName, String memberIdPrefix) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_id, nickname, created_date, updated_date)
+        SELECT md5(? || g::text)::uuid, 'rr-chat-room-' || g, now(), now()
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "member")))) {
+      preparedStatement.setString(1, memberIdPrefix);
+      preparedStatement.setInt(2, MEMBER_COUNT);
+      preparedStatement.executeUpdate();
+    }
+
+    // heavy user(1~HEAVY_MEMBER_COUNT번 회원): 수신/발신을 번갈아 맡는 방을 대량으로 가진다.
+    // last_activity_at 은 3건씩 같은 값으로 만들어 동점 해소(chat_room_id) 경로까지 검증하고, 일부는 soft delete 상태로 둔다.
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (
+            chat_room_id, trade_receiver_member_id, trade_sender_member_id,
+            deleted_at, last_activity_at, created_date, updated_date
+        )
+        SELECT gen_random_uuid(),
+               CASE WHEN g %% 2 = 0 THEN heavy.member_id ELSE md5(? || ((g %% ?) + 1)::text)::uuid END,
+               CASE WHEN g %% 2 = 0 THEN md5(? || ((g %% ?) + 1)::text)::uuid ELSE heavy.member_id END,
+               CASE WHEN g %% 40 = 0 THEN timestamp '2026-01-02 00:00:00' END,
+               timestamp '2026-01-01 00:00:00' - ((g / 3) * interval '1 minute'),
+               timestamp '2025-01-01 00:00:00',
+               now()
+        FROM (SELECT md5(? || h::text)::uuid AS member_id FROM generate_series(1, ?) AS h) heavy
+        CROSS JOIN generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "chat_room")))) {
+      preparedStatement.setString(1, memberIdPrefix);
+      preparedStatement.setInt(2, MEMBER_COUNT);
+      preparedStatement.setString(3, memberIdPrefix);
+      preparedStatement.setInt(4, MEMBER_COUNT);
+      preparedStatement.setString(5, memberIdPrefix);
+      preparedStatement.setInt(6, HEAVY_MEMBER_COUNT);
+      preparedStatement.setInt(7, HEAVY_MEMBER_ROOM_COUNT);
+      preparedStatement.executeUpdate();
+    }
+
+    // 일반 회원 간 채팅방 (인덱스 선택도를 현실적으로 만들기 위한 배경 데이터)
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (
+            chat_room_id, trade_receiver_member_id, trade_sender_member_id,
+            deleted_at, last_activity_at, created_date, updated_date
+        )
+        SELECT gen_random_uuid(),
+               md5(? || ((g %% ?) + 1)::text)::uuid,
+               md5(? || (((g * 7) %% ?) + 1)::text)::uuid,
+               NULL,
+               timestamp '2026-01-01 00:00:00' - (g * interval '1 second'),
+               timestamp '2025-01-01 00:00:00',
+               now()
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "chat_room")))) {
+      preparedStatement.setString(1, memberIdPrefix);
+      preparedStatement.setInt(2, MEMBER_COUNT);
+      preparedStatement.setString(3, memberIdPrefix);
+      preparedStatement.setInt(4, MEMBER_COUNT);
+      preparedStatement.setInt(5, BACKGROUND_ROOM_COUNT);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT md5(? || '1')::uuid")) {
+      preparedStatement.setString(1, memberIdPrefix);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        assertThat(resultSet.next()).isTrue();
+        return resultSet.getObject(1, UUID.class);
+      }
+    }
+  }
+
+  private void createIsolatedSchema(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "CREATE SCHEMA " + schemaName);
+    execute(connection, """
+        CREATE TABLE %s (
+            member_id uuid PRIMARY KEY,
+            nickname varchar UNIQUE,
+            created_date timestamp NOT NULL,
+            updated_date timestamp NOT NULL
+        )
+        """.formatted(table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            chat_room_id uuid PRIMARY KEY,
+            trade_receiver_member_id uuid NOT NULL REFERENCES %s(member_id),
+            trade_sender_member_id uuid NOT NULL REFERENCES %s(member_id),
+            deleted_at timestamp,
+            last_activity_at timestamp,
+            created_date timestamp NOT NULL,
+            updated_date timestamp NOT NULL
+        )
+        """.formatted(table(schemaName, "chat_room"), table(schemaName, "member"), table(schemaName, "member")));
+    // V1_4_65 회원 기준 단일 컬럼 인덱스 (기존 OFFSET 조회가 사용하는 인덱스)
+    execute(connection, "CREATE INDEX ON %s (trade_receiver_member_id)".formatted(table(schemaName, "chat_room")));
+    execute(connection, "CREATE INDEX ON %s (trade_sender_member_id)".formatted(table(schemaName, "chat_room")));
+  }
+
+  private void createMigrationIndexes(Connection connection, String schemaName) throws SQLException {
+    // V1_4_72__add_chat_room_last_activity_keyset_index.sql 과 동일
+    execute(connection, """
+        CREATE INDEX idx_chat_room_receiver_last_activity
+            ON %s (trade_receiver_member_id, last_activity_at DESC, chat_room_id DESC)
+            WHERE deleted_at IS NULL
+        """.formatted(table(schemaName, "chat_room")));
+    execute(connection, """
+        CREATE INDEX idx_chat_room_sender_last_activity
+            ON %s (trade_sender_member_id, last_activity_at DESC, chat_room_id DESC)
+            WHERE deleted_at IS NULL
+        """.formatted(table(schemaName, "chat_room")));
+  }
+
+  private void analyzeTables(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "ANALYZE " + table(schemaName, "member"));
+    execute(connection, "ANALYZE " + table(schemaName, "chat_room"));
+  }
+
+  private void dropIsolatedSchema(String schemaName) throws SQLException {
+    try (Connection connection = connect()) {
+      execute(connection, "DROP SCHEMA IF EXISTS " + schemaName + " CASCADE");
+    }
+  }
+
+  private String explain(Connection connection, String sql, SqlParameterBinder binder) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN (ANALYZE, FORMAT TEXT) " + sql)) {
+      binder.bind(preparedStatement);
+      StringBuilder plan = new StringBuilder();
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          plan.append(resultSet.getString(1)).append('\n');
+        }
+      }
+      return plan.toString();
+    }
+  }
+
+  private double averageMs(int repetitions, SqlRunnable runnable) throws SQLException {
+    // 쿼리 플랜/캐시 워밍업을 간단히 거친 뒤 평균 ms를 계산한다. 시간은 로그용이며 테스트 성공 조건으로 사용하지 않는다.
+    for (int i = 0; i < 3; i++) {
+      runnable.run();
+    }
+
+    long totalNanos = 0;
+    for (int i = 0; i < repetitions; i++) {
+      long startNanos = System.nanoTime();
+      runnable.run();
+      totalNanos += System.nanoTime() - startNanos;
+    }
+    return totalNanos / 1_000_000.0 / repetitions;
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        requiredPropertyOrEnv("romrom.test.postgres.url", "ROMROM_TEST_POSTGRES_URL"),
+        requiredPropertyOrEnv("romrom.test.postgres.username", "ROMROM_TEST_POSTGRES_USERNAME"),
+        requiredPropertyOrEnv("romrom.test.postgres.password", "ROMROM_TEST_POSTGRES_PASSWORD")
+    );
+  }
+
+  private String requiredPropertyOrEnv(String propertyName, String envName) {
+    String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.isBlank()) {
+      return propertyValue;
+    }
+    String envValue = System.getenv(envName);
+    if (envValue != null && !envValue.isBlank()) {
+      return envValue;
+    }
+    throw new IllegalStateException("PostgreSQL 성능 테스트 실행을 위해 " + propertyName + " 또는 " + envName + " 값을 설정해야 합니다.");
+  }
+
+  private String createIsolatedSchemaName() {
+    return "romrom_perf_" + UUID.randomUUID().toString().replace("-", "_");
+  }
+
+  private String table(String schemaName, String tableName) {
+    return schemaName + "." + tableName;
+  }
+
+  private void printPerformanceLog(Map<Integer, DepthResult> resultByDepth) {
+    StringBuilder depthLines = new StringBuilder();
+    resultByDepth.forEach((depth, result) -> depthLines.append(String.format(
+        "- 페이지 %,d (OFFSET %,d): OFFSET %.3fms -> keyset %.3fms, %.2fx%n",
+        depth, (long) depth * PAGE_SIZE, result.offsetAverageMs(), result.keysetAverageMs(),
+        result.offsetAverageMs() / result.keysetAverageMs())));
+    System.out.printf("""
+        [ChatRoomKeysetPaginationPostgresTest] 격리 스키마 채팅방 목록 페이지네이션 성능 테스트 결과
+        - 일반 회원: %,d명 / heavy user: %,d명 (1인당 채팅방 %,d개)
+        - 배경 채팅방: %,d개
+        - 페이지 크기: %,d / 반복 측정 횟수: %,d
+        %s- 결론: keyset 조회는 회원별 (last_activity_at, chat_room_id) 인덱스에서 페이지 크기만큼만 읽어 깊이와 무관함
+        %n""",
+        MEMBER_COUNT,
+        HEAVY_MEMBER_COUNT,
+        HEAVY_MEMBER_ROOM_COUNT,
+        BACKGROUND_ROOM_COUNT,
+        PAGE_SIZE,
+        MEASURE_REPETITIONS,
+        depthLines
+    );
+  }
+
+  @FunctionalInterface
+  private interface SqlRunnable {
+    void run() throws SQLException;
+  }
+
+  @FunctionalInterface
+  private interface SqlParameterBinder {
+    void bind(PreparedStatement preparedStatement) throws SQLException;
+  }
+
+  private record RoomRow(UUID chatRoomId, Timestamp lastActivityAt) {
+  }
+
+  private record DepthResult(double offsetAverageMs, double keysetAverageMs) {
+  }
+}
@@ -0,0 +1,515 @@
+package com.romrom.web.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("postgresIndexTestEnabled")
+class ItemFeedKeysetPaginationPostgresTest {
+
+  /*
+   * 물품 목록(/api/item/list/get) OFFSET + count 방식과 커서(/api/item/list/cursor/get) keyset 방식의 깊은 페이지 지연 비교
+   * TradeRequestHistoryPostgresIndexTest와 같이 전용 스키마를 만들어 측정 후 삭제하며, 시스템 프로퍼티/환경변수로만 활성화한다.
+   * 거리순은 PostGIS 확장이 필요해 제외하고, 계산식 정렬 키 대표로 추천 점수식(카테고리 가산 + 시간 감쇠)을 측정한다.
+   */
+  private static final int MOCK_ROW_COUNT = Integer.getInteger("romrom.postgres.index-test.rows", 200_000);
+  private static final int MEMBER_COUNT = Integer.getInteger("romrom.postgres.index-test.members", 2_000);
+  private static final int PAGE_SIZE = Integer.getInteger("romrom.postgres.index-test.page-size", 30);
+  private static final int DEEP_PAGE_NUMBER = Integer.getInteger("romrom.postgres.index-test.deep-page", 1_000);
+  private static final int MEASURE_REPETITIONS = Integer.getInteger("romrom.postgres.index-test.repetitions", 8);
+  private static final int BLOCKED_MEMBER_COUNT = 10;
+
+  private static final String FEED_CONDITION = """
+      i.member_member_id <> ?
+        AND i.is_deleted = false
+        AND i.is_admin_hidden = false
+        AND i.item_status = 'AVAILABLE'
+        AND m.account_status <> 'SUSPENDED_ACCOUNT'
+        AND NOT EXISTS (
+            SELECT 1
+            FROM %1$s mb
+            WHERE (mb.blocker_member_id = ? AND mb.blocked_member_id = i.member_member_id)
+               OR (mb.blocker_member_id = i.member_member_id AND mb.blocked_member_id = ?)
+        )
+        AND NOT EXISTS (
+            SELECT 1
+            FROM %2$s h
+            WHERE h.member_member_id = ? AND h.item_item_id = i.item_id
+        )
+      """;
+
+  private static boolean postgresIndexTestEnabled() {
+    return Boolean.getBoolean("romrom.postgres.index-test.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_POSTGRES_INDEX_TEST_ENABLED"));
+  }
+
+  @Test
+  void compareDeepPageLatencyBetweenOffsetAndKeysetPagination() throws Exception {
+    assertThat(DEEP_PAGE_NUMBER * PAGE_SIZE).isLessThan(MOCK_ROW_COUNT / 2);
+
+    String schemaName = createIsolatedSchemaName();
+    String runId = UUID.randomUUID().toString();
+    String memberIdPrefix = "rr-feed-member-" + runId + "-";
+    UUID viewerMemberId = UUID.randomUUID();
+    long anchorEpochSeconds = Instant.now().getEpochSecond();
+
+    PaginationResult latestResult;
+    PaginationResult recommendedResult;
+    String keysetLatestPlan;
+
+    try (Connection connection = connect()) {
+      createIsolatedSchema(connection, schemaName);
+      seedFeedRows(connection, schemaName, viewerMemberId, memberIdPrefix, runId);
+      createMigrationIndexes(connection, schemaName);
+      analyzeTables(connection, schemaName);
+
+      FeedQuery latestQuery = new FeedQuery(
+          "0.0",
+          "ORDER BY created_date DESC, item_id DESC",
+          "(created_date < ? OR (created_date = ? AND item_id < ?))"
+      );
+      FeedQuery recommendedQuery = new FeedQuery(
+          // 애플리케이션과 같이 double precision 으로 계산해야 커서 값 왕복 시 동등 비교가 정확함
+          "CAST((CASE WHEN i.item_category IN (1, 5, 9) THEN 1.0 ELSE 0.0 END) * 0.5 * 0.6"
+              + " + EXP((0.0 - 0.05) * ((" + anchorEpochSeconds + " - EXTRACT(EPOCH FROM i.created_date)) / 86400.0)) * 0.4"
+              + " AS double precision)",
+          "ORDER BY sort_value DESC, created_date DESC, item_id DESC",
+          "(sort_value < ? OR (sort_value = ? AND (created_date < ? OR (created_date = ? AND item_id < ?))))"
+      );
+
+      latestResult = measure(connection, schemaName, viewerMemberId, latestQuery, false);
+      recommendedResult = measure(connection, schemaName, viewerMemberId, recommendedQuery, true);
+
+      FeedRow cursorRow = fetchOffsetPage(connection, schemaName, viewerMemberId, latestQuery, DEEP_PAGE_NUMBER - 1).get(PAGE_SIZE - 1);
+      keysetLatestPlan = explain(connection, keysetSql(schemaName, latestQuery, false),
+          statement -> bindKeyset(statement, viewerMemberId, cursorRow, false));
+    } finally {
+      dropIsolatedSchema(schemaName);
+    }
+
+    assertThat(keysetLatestPlan).contains("idx_item_feed_created_date_item_id");
+    printPerformanceLog(latestResult, recommendedResult);
+  }
+
+  private PaginationResult measure(
+      Connection connection,
+      String schemaName,
+      UUID viewerMemberId,
+      FeedQuery feedQuery,
+      boolean computedSortKey
+  ) throws SQLException {
+    // 직전 페이지 마지막 행 = 커서 위치. 두 방식이 같은 물품을 같은 순서로 반환하는지 먼저 확인한다.
+    FeedRow cursorRow = fetchOffsetPage(connection, schemaName, viewerMemberId, feedQuery, DEEP_PAGE_NUMBER - 1).get(PAGE_SIZE - 1);
+    List<FeedRow> offsetPage = fetchOffsetPage(connection, schemaName, viewerMemberId, feedQuery, DEEP_PAGE_NUMBER);
+    List<FeedRow> keysetPage = fetchKeysetPage(connection, schemaName, viewerMemberId, feedQuery, cursorRow, computedSortKey);
+    assertThat(keysetPage.subList(0, PAGE_SIZE)).extracting(FeedRow::itemId)
+        .containsExactlyElementsOf(offsetPage.stream().map(FeedRow::itemId).toList());
+    assertThat(keysetPage).hasSize(PAGE_SIZE + 1);
+
+    double offsetAverageMs = averageMs(MEASURE_REPETITIONS, () -> {
+      fetchOffsetPage(connection, schemaName, viewerMemberId, feedQuery, DEEP_PAGE_NUMBER);
+      countFeedRows(connection, schemaName, viewerMemberId);
+    });
+    double keysetAverageMs = averageMs(MEASURE_REPETITIONS,
+        () -> fetchKeysetPage(connection, schemaName, viewerMemberId, feedQuery, cursorRow, computedSortKey));
+    double offsetFirstPageAverageMs = averageMs(MEASURE_REPETITIONS, () -> {
+      fetchOffsetPage(connection, schemaName, viewerMemberId, feedQuery, 0);
+      countFeedRows(connection, schemaName, viewerMemberId);
+    });
+    return new PaginationResult(offsetFirstPageAverageMs, offsetAverageMs, keysetAverageMs);
+  }
+
+  private List<FeedRow> fetchOffsetPage(
+      Connection connection,
+      String schemaName,
+      UUID viewerMemberId,
+      FeedQuery feedQuery,
+      int pageNumber
+  ) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(offsetSql(schemaName, feedQuery))) {
+      bindFeedCondition(preparedStatement, 1, viewerMemberId);
+      preparedStatement.setInt(5, PAGE_SIZE);
+      preparedStatement.setLong(6, (long) pageNumber * PAGE_SIZE);
+      return readRows(preparedStatement);
+    }
+  }
+
+  private List<FeedRow> fetchKeysetPage(
+      Connection connection,
+      String schemaName,
+      UUID viewerMemberId,
+      FeedQuery feedQuery,
+      FeedRow cursorRow,
+      boolean computedSortKey
+  ) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement(keysetSql(schemaName, feedQuery, computedSortKey))) {
+      bindKeyset(preparedStatement, viewerMemberId, cursorRow, computedSortKey);
+      return readRows(preparedStatement);
+    }
+  }
+
+  private long countFeedRows(Connection connection, String schemaName, UUID viewerMemberId) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT COUNT(*)
+        FROM %s i
+        JOIN %s m ON m.member_id = i.member_member_id
+        WHERE %s
+        """.formatted(table(schemaName, "item"), table(schemaName, "member"), feedCondition(schemaName)))) {
+      bindFeedCondition(preparedStatement, 1, viewerMemberId);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        assertThat(resultSet.next()).isTrue();
+        return resultSet.getLong(1);
+      }
+    }
+  }
+
+  private String offsetSql(String schemaName, FeedQuery feedQuery) {
+    return """
+        SELECT item_id, created_date, sort_value
+        FROM (
+            SELECT i.item_id, i.created_date, %s AS sort_value
+            FROM %s i
+            JOIN %s m ON m.member_id = i.member_member_id
+            WHERE %s
+        ) feed
+        %s
+        LIMIT ? OFFSET ?
+        """.formatted(feedQuery.sortValueExpression(), table(schemaName, "item"), table(schemaName, "member"),
+        feedCondition(schemaName), feedQuery.orderBy());
+  }
+
+  private String keysetSql(String schemaName, FeedQuery feedQuery, boolean computedSortKey) {
+    // 선두 키 범위 조건을 중복으로 걸어 인덱스 범위 스캔을 유도 (ItemRepositoryImpl.filterItemsByCursor 와 동일)
+    String leadingBound = computedSortKey ? "sort_value <= ?" : "created_date <= ?";
+    return """
+        SELECT item_id, created_date, sort_value
+        FROM (
+            SELECT i.item_id, i.created_date, %s AS sort_value
+            FROM %s i
+            JOIN %s m ON m.member_id = i.member_member_id
+            WHERE %s
+        ) feed
+        WHERE %s AND %s
+        %s
+        LIMIT %d
+        """.formatted(feedQuery.sortValueExpression(), table(schemaName, "item"), table(schemaName, "member"),
+        feedCondition(schemaName), leadingBound, feedQuery.seekPredicate(), feedQuery.orderBy(), PAGE_SIZE + 1);
+  }
+
+  private void bindKeyset(
+      PreparedStatement preparedStatement,
+      UUID viewerMemberId,
+      FeedRow cursorRow,
+      boolean computedSortKey
+  ) throws SQLException {
+    int index = bindFeedCondition(preparedStatement, 1, viewerMemberId);
+    if (computedSortKey) {
+      preparedStatement.setDouble(index++, cursorRow.sortValue());
+      preparedStatement.setDouble(index++, cursorRow.sortValue());
+      preparedStatement.setDouble(index++, cursorRow.sortValue());
+    } else {
+      preparedStatement.setTimestamp(index++, cursorRow.createdDate());
+    }
+    preparedStatement.setTimestamp(index++, cursorRow.createdDate());
+    preparedStatement.setTimestamp(index++, cursorRow.createdDate());
+    preparedStatement.setObject(index, cursorRow.itemId());
+  }
+
+  private int bindFeedCondition(PreparedStatement preparedStatement, int startIndex, UUID viewerMemberId) throws SQLException {
+    for (int i = 0; i < 4; i++) {
+      preparedStatement.setObject(startIndex + i, viewerMemberId);
+    }
+    return startIndex + 4;
+  }
+
+  private List<FeedRow> readRows(PreparedStatement preparedStatement) throws SQLException {
+    List<FeedRow> rows = new ArrayList<>();
+    try (ResultSet resultSet = preparedStatement.executeQuery()) {
+      while (resultSet.next()) {
+        rows.add(new FeedRow(
+            resultSet.getObject(1, UUID.class),
+            resultSet.getTimestamp(2),
+            resultSet.getDouble(3)
+        ));
+      }
+    }
+    return rows;
+  }
+
+  private void seedFeedRows(
+      Connection connection,
+      String schemaName,
+      UUID viewerMemberId,
+      String memberIdPrefix,
+      String runId
+  ) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_id, nickname, account_status, is_deleted, created_date, updated_date)
+        SELECT md5(? || g::text)::uuid,
+               'rr-feed-' || g,
+               CASE WHEN g %% 97 = 0 THEN 'SUSPENDED_ACCOUNT' ELSE 'ACTIVE_ACCOUNT' END,
+               false, now(), now()
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "member")))) {
+      preparedStatement.setString(1, memberIdPrefix);
+      preparedStatement.setInt(2, MEMBER_COUNT);
+      preparedStatement.executeUpdate();
+    }
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_id, nickname, account_status, is_deleted, created_date, updated_date)
+        VALUES (?, ?, 'ACTIVE_ACCOUNT', false, now(), now())
+        """.formatted(table(schemaName, "member")))) {
+      preparedStatement.setObject(1, viewerMemberId);
+      preparedStatement.setString(2, "rr-feed-viewer-" + runId);
+      preparedStatement.executeUpdate();
+    }
+
+    // created_date는 2건씩 같은 값으로 만들어 동점 해소(item_id) 경로까지 검증한다.
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (
+            item_id, member_member_id, item_name, item_category, item_status,
+            is_deleted, is_admin_hidden, created_date, updated_date
+        )
+        SELECT md5(? || g::text)::uuid,
+               md5(? || ((g %% ?) + 1)::text)::uuid,
+               'rr-feed-item-' || g,
+               g %% 20,
+               CASE WHEN g %% 25 = 0 THEN 'TRADED' ELSE 'AVAILABLE' END,
+               g %% 50 = 0,
+               g %% 199 = 0,
+               timestamp '2026-01-01 00:00:00' - ((g / 2) * interval '1 minute'),
+               now()
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "item")))) {
+      preparedStatement.setString(1, "rr-feed-item-" + runId + "-");
+      preparedStatement.setString(2, memberIdPrefix);
+      preparedStatement.setInt(3, MEMBER_COUNT);
+      preparedStatement.setInt(4, MOCK_ROW_COUNT);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_block_id, blocker_member_id, blocked_member_id)
+        SELECT gen_random_uuid(), ?, md5(? || g::text)::uuid
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "member_block")))) {
+      preparedStatement.setObject(1, viewerMemberId);
+      preparedStatement.setString(2, memberIdPrefix);
+      preparedStatement.setInt(3, BLOCKED_MEMBER_COUNT);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (hidden_item_id, member_member_id, item_item_id)
+        SELECT gen_random_uuid(), ?, item_id
+        FROM %s
+        WHERE item_name LIKE '%%3'
+        LIMIT 500
+        """.formatted(table(schemaName, "hidden_item"), table(schemaName, "item")))) {
+      preparedStatement.setObject(1, viewerMemberId);
+      preparedStatement.executeUpdate();
+    }
+  }
+
+  private void createIsolatedSchema(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "CREATE SCHEMA " + schemaName);
+    execute(connection, """
+        CREATE TABLE %s (
+            member_id uuid PRIMARY KEY,
+            nickname varchar UNIQUE,
+            account_status varchar,
+            is_deleted boolean NOT NULL,
+            created_date timestamp NOT NULL,
+            updated_date timestamp NOT NULL
+        )
+        """.formatted(table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            item_id uuid PRIMARY KEY,
+            member_member_id uuid REFERENCES %s(member_id),
+            item_name varchar NOT NULL,
+            item_category integer,
+            item_status varchar,
+            is_deleted boolean NOT NULL,
+            is_admin_hidden boolean NOT NULL,
+            created_date timestamp NOT NULL,
+            updated_date timestamp NOT NULL
+        )
+        """.formatted(table(schemaName, "item"), table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            member_block_id uuid PRIMARY KEY,
+            blocker_member_id uuid REFERENCES %s(member_id),
+            blocked_member_id uuid REFERENCES %s(member_id),
+            created_date timestamp NOT NULL DEFAULT now(),
+            updated_date timestamp NOT NULL DEFAULT now()
+        )
+        """.formatted(table(schemaName, "member_block"), table(schemaName, "member"), table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            hidden_item_id uuid PRIMARY KEY,
+            member_member_id uuid REFERENCES %s(member_id),
+            item_item_id uuid REFERENCES %s(item_id),
+            created_date timestamp NOT NULL DEFAULT now(),
+            updated_date timestamp NOT NULL DEFAULT now()
+        )
+        """.formatted(table(schemaName, "hidden_item"), table(schemaName, "member"), table(schemaName, "item")));
+    execute(connection, "CREATE INDEX ON %s (member_member_id, item_item_id)".formatted(table(schemaName, "hidden_item")));
+    execute(connection, "CREATE INDEX ON %s (blocker_member_id, blocked_member_id)".formatted(table(schemaName, "member_block")));
+  }
+
+  private void createMigrationIndexes(Connection connection, String schemaName) throws SQLException {
+    // V1_4_69__add_item_feed_keyset_index.sql 과 동일
+    execute(connection, """
+        CREATE INDEX idx_item_feed_created_date_item_id
+            ON %s (created_date DESC, item_id DESC)
+            WHERE is_deleted = false
+              AND is_admin_hidden = false
+              AND item_status = 'AVAILABLE'
+        """.formatted(table(schemaName, "item")));
+  }
+
+  private void analyzeTables(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "ANALYZE " + table(schemaName, "member"));
+    execute(connection, "ANALYZE " + table(schemaName, "item"));
+    execute(connection, "ANALYZE " + table(schemaName, "member_block"));
+    execute(connection, "ANALYZE " + table(schemaName, "hidden_item"));
+  }
+
+  private void dropIsolatedSchema(String schemaName) throws SQLException {
+    try (Connection connection = connect()) {
+      execute(connection, "DROP SCHEMA IF EXISTS " + schemaName + " CASCADE");
+    }
+  }
+
+  private String feedCondition(String schemaName) {
+    return FEED_CONDITION.formatted(table(schemaName, "member_block"), table(schemaName, "hidden_item"));
+  }
+
+  private String explain(Connection connection, String sql, SqlParameterBinder binder) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN (ANALYZE, FORMAT TEXT) " + sql)) {
+      binder.bind(preparedStatement);
+      StringBuilder plan = new StringBuilder();
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          plan.append(resultSet.getString(1)).append('\n');
+        }
+      }
+      return plan.toString();
+    }
+  }
+
+  private double averageMs(int repetitions, SqlRunnable runnable) throws SQLException {
+    // 쿼리 플랜/캐시 워밍업을 간단히 거친 뒤 평균 ms를 계산한다. 시간은 로그용이며 테스트 성공 조건으로 사용하지 않는다.
+    for (int i = 0; i < 3; i++) {
+      runnable.run();
+    }
+
+    long totalNanos = 0;
+    for (int i = 0; i < repetitions; i++) {
+      long startNanos = System.nanoTime();
+      runnable.run();
+      totalNanos += System.nanoTime() - startNanos;
+    }
+    return totalNanos / 1_000_000.0 / repetitions;
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        requiredPropertyOrEnv("romrom.test.postgres.url", "ROMROM_TEST_POSTGRES_URL"),
+        requiredPropertyOrEnv("romrom.test.postgres.username", "ROMROM_TEST_POSTGRES_USERNAME"),
+        requiredPropertyOrEnv("romrom.test.postgres.password", "ROMROM_TEST_POSTGRES_PASSWORD")
+    );
+  }
+
+  private String requiredPropertyOrEnv(String propertyName, String envName) {
+    String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.isBlank()) {
+      return propertyValue;
+    }
+    String envValue = System.getenv(envName);
+    if (envValue != null && !envValue.isBlank()) {
+      return envValue;
+    }
+    throw new IllegalStateException("PostgreSQL 성능 테스트 실행을 위해 " + propertyName + " 또는 " + envName + " 값을 설정해야 합니다.");
+  }
+
+  private String createIsolatedSchemaName() {
+    return "romrom_perf_" + UUID.randomUUID().toString().replace("-", "_");
+  }
+
+  private String table(String schemaName, String tableName) {
+    return schemaName + "." + tableName;
+  }
+
+  private void printPerformanceLog(PaginationResult latestResult, PaginationResult recommendedResult) {
+    System.out.printf("""
+        [ItemFeedKeysetPaginationPostgresTest] 격리 스키마 물품 목록 페이지네이션 성능 테스트 결과
+        - 실제 member 형태 목데이터: %,d건
+        - 실제 item 형태 목데이터: %,d건
+        - 페이지 크기: %,d / 깊은 페이지 번호: %,d (OFFSET %,d)
+        - 반복 측정 횟수: %,d
+        - 최신순 첫 페이지(OFFSET 0 + count): %.3fms
+        - 최신순 깊은 페이지: OFFSET + count %.3fms -> keyset %.3fms, %.2fx 개선
+        - 추천순 첫 페이지(OFFSET 0 + count): %.3fms
+        - 추천순 깊은 페이지: OFFSET + count %.3fms -> keyset %.3fms, %.2fx 개선
+        - 결론: keyset 조회는 페이지 깊이와 무관하며 count 쿼리가 없음
+        %n""",
+        MEMBER_COUNT + 1,
+        MOCK_ROW_COUNT,
+        PAGE_SIZE,
+        DEEP_PAGE_NUMBER,
+        (long) DEEP_PAGE_NUMBER * PAGE_SIZE,
+        MEASURE_REPETITIONS,
+        latestResult.offsetFirstPageAverageMs(),
+        latestResult.offsetDeepPageAverageMs(),
+        latestResult.keysetDeepPageAverageMs(),
+        latestResult.offsetDeepPageAverageMs() / latestResult.keysetDeepPageAverageMs(),
+        recommendedResult.offsetFirstPageAverageMs(),
+        recommendedResult.offsetDeepPageAverageMs(),
+        recommendedResult.keysetDeepPageAverageMs(),
+        recommendedResult.offsetDeepPageAverageMs() / recommendedResult.keysetDeepPageAverageMs()
+    );
+  }
+
+  @FunctionalInterface
+  private interface SqlRunnable {
+    void run() throws SQLException;
+  }
+
+  @FunctionalInterface
+  private interface SqlParameterBinder {
+    void bind(PreparedStatement preparedStatement) throws SQLException;
+  }
+
+  private record FeedQuery(String sortValueExpression, String orderBy, String seekPredicate) {
+  }
+
+  private record FeedRow(UUID itemId, Timestamp createdDate, double sortValue) {
+  }
+
+  private record PaginationResult(
+      double offsetFirstPageAverageMs,
+      double offsetDeepPageAverageMs,
+      double keysetDeepPageAverageMs
+  ) {
+  }
+}
@@ -0,0 +1,286 @@
+package com.romrom.web.performance;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.romrom.member.properties.MemberBlockCacheProperties;
+import com.romrom.member.repository.MemberBlockRepository;
+import com.romrom.member.service.MemberBlockCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@EnabledIf("postgresIndexTestEnabled")
+class MemberBlockCachePostgresTest {
+
+  /*
+   * 채팅 메시지 전송(isBlocked)과 피드 요청(blockedIdsFor)마다 실행되는 member_block 조회 수/지연 비교: 매번 DB 조회 vs MemberBlockCacheService
+   * 실제 Postgres 의 격리 스키마에 member_block 을 만들고, MemberBlockRepository 의 네이티브 쿼리를 그대로 실행해 쿼리 수를 센다.
+   * TradeRequestHistoryPostgresIndexTest와 같이 측정 후 스키마를 삭제하며, 시스템 프로퍼티/환경변수로만 활성화한다.
+   */
+  private static final int MEMBER_COUNT = Integer.getInteger("romrom.postgres.index-test.block-members", 20_000);
+  // 차단 관계에 참여하는 회원 비율 (MemberBlockCacheServiceTest 와 동일)
+  private static final double BLOCK_PARTICIPANT_RATIO = 0.02;
+  private static final int CHAT_MESSAGE_COUNT = Integer.getInteger("romrom.postgres.index-test.chat-messages", 20_000);
+  private static final int FEED_REQUEST_COUNT = Integer.getInteger("romrom.postgres.index-test.feed-requests", 5_000);
+
+  private static boolean postgresIndexTestEnabled() {
+    return Boolean.getBoolean("romrom.postgres.index-test.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_POSTGRES_INDEX_TEST_ENABLED"));
+  }
+
+  @Test
+  void compareBlockCheckQueriesPerChatMessageAndFeedRequest() throws Exception {
+    String schemaName = createIsolatedSchemaName();
+    Random random = new Random(42L);
+    List<UUID> members = new ArrayList<>();
+    for (int i = 0; i < MEMBER_COUNT; i++) {
+      members.add(UUID.randomUUID());
+    }
+    int participantCount = (int) (MEMBER_COUNT * BLOCK_PARTICIPANT_RATIO);
+
+    // 채팅: 대부분 임의 상대, 50건 중 1건은 차단 관계 상대에게 전송 / 피드: 임의 회원의 요청
+    List<UUID[]> chatPairs = new ArrayList<>();
+    for (int i = 0; i < CHAT_MESSAGE_COUNT; i++) {
+      boolean towardBlockedPeer = i % 50 == 0;
+      int senderIndex = random.nextInt(towardBlockedPeer ? participantCount : MEMBER_COUNT);
+      UUID recipient = towardBlockedPeer
+          ? members.get(senderIndex ^ 1)
+          : members.get(random.nextInt(MEMBER_COUNT));
+      chatPairs.add(new UUID[]{members.get(senderIndex), recipient});
+    }
+    List<UUID> feedViewers = new ArrayList<>();
+    for (int i = 0; i < FEED_REQUEST_COUNT; i++) {
+      feedViewers.add(members.get(random.nextInt(MEMBER_COUNT)));
+    }
+
+    MeasureResult legacyChat;
+    MeasureResult cachedChat;
+    MeasureResult legacyFeed;
+    MeasureResult cachedFeed;
+    int blockedMessageCount = 0;
+
+    try (Connection connection = connect()) {
+      createIsolatedSchema(connection, schemaName);
+      // 참여 회원을 (0,1), (2,3), ... 짝으로 차단
+      seedBlocks(connection, schemaName, members.subList(0, participantCount));
+      execute(connection, "ANALYZE " + table(schemaName, "member_block"));
+
+      JdbcBlockRepository blockRepository = new JdbcBlockRepository(connection, schemaName);
+
+      // 1) 기존: 메시지마다 existsBlockBetween, 피드 요청마다 차단 상대 조회
+      List<Boolean> legacyAnswers = new ArrayList<>();
+      long startNanos = System.nanoTime();
+      for (UUID[] chatPair : chatPairs) {
+        legacyAnswers.add(blockRepository.repository.existsBlockBetween(chatPair[0], chatPair[1]));
+      }
+      legacyChat = new MeasureResult(blockRepository.queryCount.getAndSet(0), elapsedMs(startNanos));
+      List<List<UUID>> legacyBlockedIds = new ArrayList<>();
+      startNanos = System.nanoTime();
+      for (UUID viewer : feedViewers) {
+        legacyBlockedIds.add(blockRepository.repository.findBlockRelatedMemberIds(viewer));
+      }
+      legacyFeed = new MeasureResult(blockRepository.queryCount.getAndSet(0), elapsedMs(startNanos));
+
+      // 2) MemberBlockCacheService: Bloom filter + 회원별 차단 집합 캐시 (빈 캐시에서 시작)
+      MemberBlockCacheService cacheService = newCacheService(blockRepository.repository);
+      startNanos = System.nanoTime();
+      for (int i = 0; i < chatPairs.size(); i++) {
+        boolean blocked = cacheService.isBlocked(chatPairs.get(i)[0], chatPairs.get(i)[1]);
+        assertThat(blocked).as("캐시 판정은 DB 조회 결과와 같아야 함").isEqualTo(legacyAnswers.get(i));
+        if (blocked) {
+          blockedMessageCount++;
+        }
+      }
+      cachedChat = new MeasureResult(blockRepository.queryCount.getAndSet(0), elapsedMs(startNanos));
+      startNanos = System.nanoTime();
+      for (int i = 0; i < feedViewers.size(); i++) {
+        assertThat(cacheService.blockedIdsFor(feedViewers.get(i))).isEqualTo(new HashSet<>(legacyBlockedIds.get(i)));
+      }
+      cachedFeed = new MeasureResult(blockRepository.queryCount.getAndSet(0), elapsedMs(startNanos));
+    } finally {
+      dropIsolatedSchema(schemaName);
+    }
+
+    lineLog("[MemberBlockCachePostgresTest] 격리 스키마 차단 확인 쿼리 수 비교");
+    lineLog(String.format("- 회원 %,d명 / 차단 참여 회원 %,d명", MEMBER_COUNT, participantCount));
+    lineLog(String.format("- 채팅 메시지 %,d건 (차단 관계 %,d건): 쿼리 %,d회 %.1fms -> 캐시 %,d회 %.1fms (%.4f/메시지)",
+        CHAT_MESSAGE_COUNT, blockedMessageCount, legacyChat.queryCount(), legacyChat.elapsedMs(),
+        cachedChat.queryCount(), cachedChat.elapsedMs(), (double) cachedChat.queryCount() / CHAT_MESSAGE_COUNT));
+    lineLog(String.format("- 피드 요청 %,d건: 쿼리 %,d회 %.1fms -> 캐시 %,d회 %.1fms (%.4f/요청)",
+        FEED_REQUEST_COUNT, legacyFeed.queryCount(), legacyFeed.elapsedMs(),
+        cachedFeed.queryCount(), cachedFeed.elapsedMs(), (double) cachedFeed.queryCount() / FEED_REQUEST_COUNT));
+
+    assertThat(blockedMessageCount).isPositive();
+    assertThat(legacyChat.queryCount()).isEqualTo(CHAT_MESSAGE_COUNT);
+    // Bloom filter 구성 1회 + 차단 참여 회원별 최초 1회 (+ 오탐)
+    assertThat(cachedChat.queryCount()).isLessThanOrEqualTo(1 + participantCount + CHAT_MESSAGE_COUNT / 100);
+    assertThat(cachedFeed.queryCount()).isLessThanOrEqualTo(participantCount + FEED_REQUEST_COUNT / 100);
+  }
+
+  private MemberBlockCacheService newCacheService(MemberBlockRepository memberBlockRepository) {
+    @SuppressWarnings("unchecked")
+    RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    return new MemberBlockCacheService(
+        memberBlockRepository, redisTemplate, new MemberBlockCacheProperties(), new SimpleMeterRegistry());
+  }
+
+  private void seedBlocks(Connection connection, String schemaName, List<UUID> participants) throws SQLException {
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_block_id, blocker_member_id, blocked_member_id)
+        VALUES (gen_random_uuid(), ?, ?)
+        """.formatted(table(schemaName, "member_block")))) {
+      for (int i = 0; i + 1 < participants.size(); i += 2) {
+        preparedStatement.setObject(1, participants.get(i));
+        preparedStatement.setObject(2, participants.get(i + 1));
+        preparedStatement.addBatch();
+      }
+      preparedStatement.executeBatch();
+    }
+  }
+
+  private void createIsolatedSchema(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "CREATE SCHEMA " + schemaName);
+    execute(connection, """
+        CREATE TABLE %s (
+            member_block_id uuid PRIMARY KEY,
+            blocker_member_id uuid NOT NULL,
+            blocked_member_id uuid NOT NULL,
+            created_date timestamp NOT NULL DEFAULT now(),
+            updated_date timestamp NOT NULL DEFAULT now()
+        )
+        """.formatted(table(schemaName, "member_block")));
+    // MemberBlock 엔티티의 idx_member_block_composite 와 동일
+    execute(connection, "CREATE UNIQUE INDEX ON %s (blocker_member_id, blocked_member_id)"
+        .formatted(table(schemaName, "member_block")));
+    execute(connection, "CREATE INDEX ON %s (blocked_member_id)".formatted(table(schemaName, "member_block")));
+  }
+
+  private void dropIsolatedSchema(String schemaName) throws SQLException {
+    try (Connection connection = connect()) {
+      execute(connection, "DROP SCHEMA IF EXISTS " + schemaName + " CASCADE");
+    }
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        requiredPropertyOrEnv("romrom.test.postgres.url", "ROMROM_TEST_POSTGRES_URL"),
+        requiredPropertyOrEnv("romrom.test.postgres.username", "ROMROM_TEST_POSTGRES_USERNAME"),
+        requiredPropertyOrEnv("romrom.test.postgres.password", "ROMROM_TEST_POSTGRES_PASSWORD")
+    );
+  }
+
+  private String requiredPropertyOrEnv(String propertyName, String envName) {
+    String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.isBlank()) {
+      return propertyValue;
+    }
+    String envValue = System.getenv(envName);
+    if (envValue != null && !envValue.isBlank()) {
+      return envValue;
+    }
+    throw new IllegalStateException("PostgreSQL 성능 테스트 실행을 위해 " + propertyName + " 또는 " + envName + " 값을 설정해야 합니다.");
+  }
+
+  private String createIsolatedSchemaName() {
+    return "romrom_perf_" + UUID.randomUUID().toString().replace("-", "_");
+  }
+
+  private static String table(String schemaName, String tableName) {
+    return schemaName + "." + tableName;
+  }
+
+  private static double elapsedMs(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000.0;
+  }
+
+  /**
+   * MemberBlockRepository 의 네이티브 쿼리를 격리 스키마에 그대로 실행하는 저장소 (실행마다 쿼리 수 증가)
+   */
+  private static class JdbcBlockRepository {
+
+    private final Connection connection;
+    private final String schemaName;
+    private final AtomicInteger queryCount = new AtomicInteger();
+    private final MemberBlockRepository repository = mock(MemberBlockRepository.class);
+
+    private JdbcBlockRepository(Connection connection, String schemaName) {
+      this.connection = connection;
+      this.schemaName = schemaName;
+      when(repository.existsBlockBetween(any(), any())).thenAnswer(invocation -> existsBlockBetween(
+          invocation.getArgument(0), invocation.getArgument(1)));
+      when(repository.findBlockRelatedMemberIds(any())).thenAnswer(invocation -> queryIds("""
+          SELECT blocked_member_id FROM %1$s WHERE blocker_member_id = ?
+          UNION
+          SELECT blocker_member_id FROM %1$s WHERE blocked_member_id = ?
+          """, invocation.getArgument(0), invocation.getArgument(0)));
+      when(repository.findAllBlockParticipantIds()).thenAnswer(invocation -> queryIds("""
+          SELECT blocker_member_id FROM %1$s
+          UNION
+          SELECT blocked_member_id FROM %1$s
+          """));
+    }
+
+    private boolean existsBlockBetween(UUID blockerId, UUID blockedId) throws SQLException {
+      queryCount.incrementAndGet();
+      try (PreparedStatement preparedStatement = connection.prepareStatement("""
+          SELECT EXISTS (
+              SELECT 1 FROM %s
+              WHERE (blocker_member_id = ? AND blocked_member_id = ?)
+                 OR (blocker_member_id = ? AND blocked_member_id = ?)
+          )
+          """.formatted(table(schemaName, "member_block")))) {
+        preparedStatement.setObject(1, blockerId);
+        preparedStatement.setObject(2, blockedId);
+        preparedStatement.setObject(3, blockedId);
+        preparedStatement.setObject(4, blockerId);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+          resultSet.next();
+          return resultSet.getBoolean(1);
+        }
+      }
+    }
+
+    private List<UUID> queryIds(String sqlTemplate, Object... parameters) throws SQLException {
+      queryCount.incrementAndGet();
+      try (PreparedStatement preparedStatement = connection.prepareStatement(
+          sqlTemplate.formatted(table(schemaName, "member_block")))) {
+        for (int i = 0; i < parameters.length; i++) {
+          preparedStatement.setObject(i + 1, parameters[i]);
+        }
+        List<UUID> ids = new ArrayList<>();
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+          while (resultSet.next()) {
+            ids.add(resultSet.getObject(1, UUID.class));
+          }
+        }
+        return ids;
+      }
+    }
+  }
+
+  private record MeasureResult(int queryCount, double elapsedMs) {
+  }
+}
@@ -0,0 +1,538 @@
+package com.romrom.web.performance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+
+@EnabledIf("postgresIndexTestEnabled")
+class TradeRequestAiRecommendationPostgresTest {
+
+  /*
+   * 받은 거래 요청 AI 추천순(/api/trade/get/received, AI_RECOMMENDED) 기존 방식과 DB 정렬 방식 비교
+   * - 기존: 전체 거래 요청 + 양쪽 물품 로드 -> findRecommendedItemIds -> List.contains 병합(O(n²)) -> 메모리 정렬/페이징
+   * - 개선: trade_request_history ⋈ embedding 코사인 거리순 LIMIT/OFFSET 으로 현재 페이지 ID만 조회 후 해당 행만 로드
+   * pgvector 확장이 필요하며, 없는 DB에서는 건너뛴다. 전용 스키마를 만들어 측정 후 삭제한다.
+   */
+  private static final int REQUEST_COUNT = Integer.getInteger("romrom.postgres.index-test.rows", 5_000);
+  private static final int MEASURE_REPETITIONS = Integer.getInteger("romrom.postgres.index-test.repetitions", 8);
+  private static final int PAGE_SIZE = 20;
+  private static final int DIMENSION = 768;
+  private static final int BLOCKED_MEMBER_COUNT = 10;
+
+  private static final String ACTIVE_CONDITION = """
+      trh.take_item_item_id = ?
+        AND ti.item_status = 'AVAILABLE'
+        AND trh.trade_status <> 2
+        AND NOT EXISTS (
+            SELECT 1 FROM %1$s mb
+            WHERE (mb.blocker_member_id = ti.member_member_id AND mb.blocked_member_id = gi.member_member_id)
+               OR (mb.blocker_member_id = gi.member_member_id AND mb.blocked_member_id = ti.member_member_id)
+        )
+      """;
+
+  private static boolean postgresIndexTestEnabled() {
+    return Boolean.getBoolean("romrom.postgres.index-test.enabled")
+        || "true".equalsIgnoreCase(System.getenv("ROMROM_POSTGRES_INDEX_TEST_ENABLED"));
+  }
+
+  @Test
+  void compareInMemoryAndDatabaseAiRecommendedPagination() throws Exception {
+    String schemaName = createIsolatedSchemaName();
+    UUID takeItemId = UUID.randomUUID();
+    String runId = UUID.randomUUID().toString();
+
+    SortResult firstPageResult;
+    SortResult middlePageResult;
+
+    try (Connection connection = connect()) {
+      assumeTrue(pgvectorAvailable(connection), "pgvector 확장이 설치되지 않은 DB에서는 측정을 건너뜁니다.");
+      execute(connection, "CREATE EXTENSION IF NOT EXISTS vector");
+      createIsolatedSchema(connection, schemaName);
+      String preferenceVector = seedRows(connection, schemaName, takeItemId, runId);
+      analyzeTables(connection, schemaName);
+
+      int middlePageNumber = (REQUEST_COUNT - 1) / PAGE_SIZE / 2;
+      firstPageResult = measure(connection, schemaName, takeItemId, preferenceVector, 0);
+      middlePageResult = measure(connection, schemaName, takeItemId, preferenceVector, middlePageNumber);
+    } finally {
+      dropIsolatedSchema(schemaName);
+    }
+
+    printPerformanceLog(firstPageResult, middlePageResult);
+  }
+
+  private SortResult measure(
+      Connection connection,
+      String schemaName,
+      UUID takeItemId,
+      String preferenceVector,
+      int pageNumber
+  ) throws SQLException {
+    // 두 방식이 같은 거래 요청을 같은 순서로 반환하는지 먼저 확인한다.
+    List<UUID> legacyPage = legacyPage(connection, schemaName, takeItemId, preferenceVector, pageNumber);
+    List<UUID> databasePage = databasePage(connection, schemaName, takeItemId, preferenceVector, pageNumber);
+    assertThat(databasePage).hasSize(PAGE_SIZE).containsExactlyElementsOf(legacyPage);
+
+    Measurement legacy = measureRepeated(
+        () -> legacyPage(connection, schemaName, takeItemId, preferenceVector, pageNumber));
+    Measurement database = measureRepeated(
+        () -> databasePage(connection, schemaName, takeItemId, preferenceVector, pageNumber));
+    return new SortResult(pageNumber, legacy, database);
+  }
+
+  /**
+   * 기존 TradeRequestService.sortByAiRecommendation 과 같은 흐름
+   */
+  private List<UUID> legacyPage(
+      Connection connection,
+      String schemaName,
+      UUID takeItemId,
+      String preferenceVector,
+      int pageNumber
+  ) throws SQLException {
+    List<HistoryRow> histories = new ArrayList<>();
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT trh.trade_request_history_id, trh.give_item_item_id, trh.created_date, trh.trade_status, trh.is_new,
+               ti.item_id, ti.item_name, ti.item_description, ti.price,
+               gi.item_id, gi.item_name, gi.item_description, gi.price
+        FROM %s trh
+        JOIN %s ti ON ti.item_id = trh.take_item_item_id
+        JOIN %s gi ON gi.item_id = trh.give_item_item_id
+        WHERE %s
+        """.formatted(table(schemaName, "trade_request_history"), table(schemaName, "item"),
+        table(schemaName, "item"), activeCondition(schemaName)))) {
+      preparedStatement.setObject(1, takeItemId);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          histories.add(new HistoryRow(
+              resultSet.getObject(1, UUID.class),
+              resultSet.getObject(2, UUID.class),
+              resultSet.getTimestamp(3),
+              resultSet.getInt(4),
+              resultSet.getBoolean(5),
+              resultSet.getString(7) + resultSet.getString(8) + resultSet.getInt(9),
+              resultSet.getString(11) + resultSet.getString(12) + resultSet.getInt(13)
+          ));
+        }
+      }
+    }
+
+    List<UUID> targetItemIds = histories.stream().map(HistoryRow::giveItemId).distinct().toList();
+    List<UUID> sortedTargetItemIds = new ArrayList<>();
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT e.original_id
+        FROM %s e
+        WHERE e.original_id = ANY(?) AND e.original_type = 0
+        ORDER BY e.embedding <=> CAST(? AS vector) ASC
+        """.formatted(table(schemaName, "embedding")))) {
+      Array idArray = connection.createArrayOf("uuid", targetItemIds.toArray());
+      preparedStatement.setArray(1, idArray);
+      preparedStatement.setString(2, preferenceVector);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          sortedTargetItemIds.add(resultSet.getObject(1, UUID.class));
+        }
+      }
+    }
+
+    targetItemIds.forEach(id -> {
+      if (!sortedTargetItemIds.contains(id)) {
+        sortedTargetItemIds.add(id);
+      }
+    });
+    Map<UUID, Integer> itemIdToRank = new HashMap<>();
+    for (int rank = 0; rank < sortedTargetItemIds.size(); rank++) {
+      itemIdToRank.put(sortedTargetItemIds.get(rank), rank);
+    }
+    List<HistoryRow> sorted = histories.stream()
+        .sorted(Comparator
+            .<HistoryRow, Integer>comparing(h -> itemIdToRank.getOrDefault(h.giveItemId(), Integer.MAX_VALUE))
+            .thenComparing(Comparator.comparing(HistoryRow::createdDate).reversed()))
+        .toList();
+
+    int start = pageNumber * PAGE_SIZE;
+    int end = Math.min(start + PAGE_SIZE, sorted.size());
+    return (start >= sorted.size() ? List.<HistoryRow>of() : sorted.subList(start, end)).stream()
+        .map(HistoryRow::tradeRequestHistoryId)
+        .toList();
+  }
+
+  /**
+   * TradeRequestHistoryRepository.findAiRecommendedIdsByTakeItem + findAllWithItemsByTradeRequestHistoryIdIn 과 같은 흐름
+   */
+  private List<UUID> databasePage(
+      Connection connection,
+      String schemaName,
+      UUID takeItemId,
+      String preferenceVector,
+      int pageNumber
+  ) throws SQLException {
+    List<UUID> rankedIds = new ArrayList<>();
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT trh.trade_request_history_id
+        FROM %s trh
+        JOIN %s ti ON ti.item_id = trh.take_item_item_id
+        JOIN %s gi ON gi.item_id = trh.give_item_item_id
+        LEFT JOIN %s e ON e.original_id = trh.give_item_item_id AND e.original_type = 0
+        WHERE %s
+        ORDER BY e.embedding <=> CAST(? AS vector) ASC NULLS LAST,
+                 trh.created_date DESC,
+                 trh.trade_request_history_id DESC
+        LIMIT ? OFFSET ?
+        """.formatted(table(schemaName, "trade_request_history"), table(schemaName, "item"),
+        table(schemaName, "item"), table(schemaName, "embedding"), activeCondition(schemaName)))) {
+      preparedStatement.setObject(1, takeItemId);
+      preparedStatement.setString(2, preferenceVector);
+      preparedStatement.setInt(3, PAGE_SIZE);
+      preparedStatement.setInt(4, pageNumber * PAGE_SIZE);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          rankedIds.add(resultSet.getObject(1, UUID.class));
+        }
+      }
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT COUNT(*)
+        FROM %s trh
+        JOIN %s ti ON ti.item_id = trh.take_item_item_id
+        JOIN %s gi ON gi.item_id = trh.give_item_item_id
+        WHERE %s
+        """.formatted(table(schemaName, "trade_request_history"), table(schemaName, "item"),
+        table(schemaName, "item"), activeCondition(schemaName)))) {
+      preparedStatement.setObject(1, takeItemId);
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        assertThat(resultSet.next()).isTrue();
+      }
+    }
+
+    Map<UUID, HistoryRow> historyById = new HashMap<>();
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        SELECT trh.trade_request_history_id, trh.give_item_item_id, trh.created_date, trh.trade_status, trh.is_new,
+               ti.item_id, ti.item_name, ti.item_description, ti.price,
+               gi.item_id, gi.item_name, gi.item_description, gi.price
+        FROM %s trh
+        JOIN %s ti ON ti.item_id = trh.take_item_item_id
+        JOIN %s gi ON gi.item_id = trh.give_item_item_id
+        WHERE trh.trade_request_history_id = ANY(?)
+        """.formatted(table(schemaName, "trade_request_history"), table(schemaName, "item"),
+        table(schemaName, "item")))) {
+      preparedStatement.setArray(1, connection.createArrayOf("uuid", rankedIds.toArray()));
+      try (ResultSet resultSet = preparedStatement.executeQuery()) {
+        while (resultSet.next()) {
+          HistoryRow row = new HistoryRow(
+              resultSet.getObject(1, UUID.class),
+              resultSet.getObject(2, UUID.class),
+              resultSet.getTimestamp(3),
+              resultSet.getInt(4),
+              resultSet.getBoolean(5),
+              resultSet.getString(7) + resultSet.getString(8) + resultSet.getInt(9),
+              resultSet.getString(11) + resultSet.getString(12) + resultSet.getInt(13)
+          );
+          historyById.put(row.tradeRequestHistoryId(), row);
+        }
+      }
+    }
+    return rankedIds.stream()
+        .map(historyById::get)
+        .filter(Objects::nonNull)
+        .map(HistoryRow::tradeRequestHistoryId)
+        .toList();
+  }
+
+  private String seedRows(Connection connection, String schemaName, UUID takeItemId, String runId) throws SQLException {
+    UUID ownerMemberId = UUID.randomUUID();
+    String memberIdPrefix = "rr-ai-sort-member-" + runId + "-";
+    int requesterCount = REQUEST_COUNT + BLOCKED_MEMBER_COUNT;
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_id, nickname)
+        SELECT md5(? || g::text)::uuid, 'rr-ai-sort-' || g
+        FROM generate_series(1, ?) AS g
+        UNION ALL
+        SELECT ?, 'rr-ai-sort-owner'
+        """.formatted(table(schemaName, "member")))) {
+      preparedStatement.setString(1, memberIdPrefix);
+      preparedStatement.setInt(2, requesterCount);
+      preparedStatement.setObject(3, ownerMemberId);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (item_id, member_member_id, item_name, item_description, price, item_status)
+        VALUES (?, ?, 'rr-ai-sort-take-item', '받은 요청 대상 물품', 10000, 'AVAILABLE')
+        """.formatted(table(schemaName, "item")))) {
+      preparedStatement.setObject(1, takeItemId);
+      preparedStatement.setObject(2, ownerMemberId);
+      preparedStatement.executeUpdate();
+    }
+
+    // 요청 보낸 물품 (회원 1명당 1개), 상세 설명은 실제 물품처럼 수백 자 수준으로 채운다.
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (item_id, member_member_id, item_name, item_description, price, item_status)
+        SELECT md5(? || g::text)::uuid,
+               md5(? || g::text)::uuid,
+               'rr-ai-sort-give-item-' || g,
+               repeat('물품 상세 설명 ', 40),
+               (g %% 100) * 1000,
+               'AVAILABLE'
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "item")))) {
+      preparedStatement.setString(1, "rr-ai-sort-give-item-" + runId + "-");
+      preparedStatement.setString(2, memberIdPrefix);
+      preparedStatement.setInt(3, requesterCount);
+      preparedStatement.executeUpdate();
+    }
+
+    // 10% 는 취소 상태, 5% 는 임베딩 없음 (후순위 최신순 배치 경로 검증)
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (trade_request_history_id, take_item_item_id, give_item_item_id, trade_status, is_new, created_date)
+        SELECT gen_random_uuid(),
+               ?,
+               md5(? || g::text)::uuid,
+               CASE WHEN g %% 10 = 0 THEN 2 ELSE 0 END,
+               true,
+               timestamp '2026-01-01 00:00:00' - (g * interval '1 minute')
+        FROM generate_series(1, ?) AS g
+        """.formatted(table(schemaName, "trade_request_history")))) {
+      preparedStatement.setObject(1, takeItemId);
+      preparedStatement.setString(2, "rr-ai-sort-give-item-" + runId + "-");
+      preparedStatement.setInt(3, requesterCount);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %1$s (embedding_id, original_id, original_type, embedding)
+        SELECT gen_random_uuid(),
+               md5(? || g::text)::uuid,
+               0,
+               (SELECT array_agg(random() - 0.5 + g * 0)::vector(%2$d) FROM generate_series(1, %2$d))
+        FROM generate_series(1, ?) AS g
+        WHERE g %% 20 <> 0
+        """.formatted(table(schemaName, "embedding"), DIMENSION))) {
+      preparedStatement.setString(1, "rr-ai-sort-give-item-" + runId + "-");
+      preparedStatement.setInt(2, requesterCount);
+      preparedStatement.executeUpdate();
+    }
+
+    try (PreparedStatement preparedStatement = connection.prepareStatement("""
+        INSERT INTO %s (member_block_id, blocker_member_id, blocked_member_id)
+        SELECT gen_random_uuid(), ?, md5(? || g::text)::uuid
+        FROM generate_series(?, ?) AS g
+        """.formatted(table(schemaName, "member_block")))) {
+      preparedStatement.setObject(1, ownerMemberId);
+      preparedStatement.setString(2, memberIdPrefix);
+      preparedStatement.setInt(3, REQUEST_COUNT + 1);
+      preparedStatement.setInt(4, requesterCount);
+      preparedStatement.executeUpdate();
+    }
+
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery(
+            "SELECT array_agg(random() - 0.5)::vector(%1$d)::text FROM generate_series(1, %1$d)".formatted(DIMENSION))) {
+      assertThat(resultSet.next()).isTrue();
+      return resultSet.getString(1);
+    }
+  }
+
+  private void createIsolatedSchema(Connection connection, String schemaName) throws SQLException {
+    execute(connection, "CREATE SCHEMA " + schemaName);
+    execute(connection, """
+        CREATE TABLE %s (
+            member_id uuid PRIMARY KEY,
+            nickname varchar UNIQUE
+        )
+        """.formatted(table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            item_id uuid PRIMARY KEY,
+            member_member_id uuid REFERENCES %s(member_id),
+            item_name varchar NOT NULL,
+            item_description varchar,
+            price integer,
+            item_status varchar
+        )
+        """.formatted(table(schemaName, "item"), table(schemaName, "member")));
+    execute(connection, """
+        CREATE TABLE %s (
+            trade_request_history_id uuid PRIMARY KEY,
+            take_item_item_id uuid REFERENCES %s(item_id),
+            give_item_item_id uuid REFERENCES %s(item_id),
+            trade_status smallint NOT NULL,
+            is_new boolean NOT NULL,
+            created_date timestamp NOT NULL
+        )
+        """.formatted(table(schemaName, "trade_request_history"), table(schemaName, "item"), table(schemaName, "item")));
+    execute(connection, """
+        CREATE TABLE %s (
+            embedding_id uuid PRIMARY KEY,
+            original_id uuid NOT NULL,
+            original_type smallint NOT NULL,
+            embedding vector(%d),
+            UNIQUE (original_id, original_type)
+        )
+        """.formatted(table(schemaName, "embedding"), DIMENSION));
+    execute(connection, """
+        CREATE TABLE %s (
+            member_block_id uuid PRIMARY KEY,
+            blocker_member_id uuid REFERENCES %s(member_id),
+            blocked_member_id uuid REFERENCES %s(member_id)
+        )
+        """.formatted(table(schemaName, "member_block"), table(schemaName, "member"), table(schemaName, "member")));
+    execute(connection, "CREATE INDEX ON %s (blocker_member_id, blocked_member_id)".formatted(table(schemaName, "member_block")));
+    // V1_4_66__add_trade_request_history_active_pair_indexes.sql 의 idx_trh_take_active_created_date 와 같은 형태
+    execute(connection, """
+        CREATE INDEX ON %s (take_item_item_id, created_date DESC)
+            WHERE trade_status <> 2
+        """.formatted(table(schemaName, "trade_request_history")));
+  }
+
+  private void analyzeTables(Connection connection, String schemaName) throws SQLException {
+    for (String tableName : List.of("member", "item", "trade_request_history", "embedding", "member_block")) {
+      execute(connection, "ANALYZE " + table(schemaName, tableName));
+    }
+  }
+
+  private boolean pgvectorAvailable(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT 1 FROM pg_available_extensions WHERE name = 'vector'")) {
+      return resultSet.next();
+    }
+  }
+
+  private void dropIsolatedSchema(String schemaName) throws SQLException {
+    try (Connection connection = connect()) {
+      execute(connection, "DROP SCHEMA IF EXISTS " + schemaName + " CASCADE");
+    }
+  }
+
+  private String activeCondition(String schemaName) {
+    return ACTIVE_CONDITION.formatted(table(schemaName, "member_block"));
+  }
+
+  private Measurement measureRepeated(SqlRunnable runnable) throws SQLException {
+    // 워밍업 후 평균 ms와 요청당 평균 힙 할당량(현재 스레드 기준)을 계산한다. 값은 로그용이며 성공 조건으로 사용하지 않는다.
+    for (int i = 0; i < 3; i++) {
+      runnable.run();
+    }
+
+    com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long totalNanos = 0;
+    long totalAllocatedBytes = 0;
+    for (int i = 0; i < MEASURE_REPETITIONS; i++) {
+      long allocatedBefore = threadMXBean.getCurrentThreadAllocatedBytes();
+      long startNanos = System.nanoTime();
+      runnable.run();
+      totalNanos += System.nanoTime() - startNanos;
+      totalAllocatedBytes += threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+    }
+    return new Measurement(
+        totalNanos / 1_000_000.0 / MEASURE_REPETITIONS,
+        totalAllocatedBytes / 1024.0 / MEASURE_REPETITIONS
+    );
+  }
+
+  private void execute(Connection connection, String sql) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(sql);
+    }
+  }
+
+  private Connection connect() throws SQLException {
+    return DriverManager.getConnection(
+        requiredPropertyOrEnv("romrom.test.postgres.url", "ROMROM_TEST_POSTGRES_URL"),
+        requiredPropertyOrEnv("romrom.test.postgres.username", "ROMROM_TEST_POSTGRES_USERNAME"),
+        requiredPropertyOrEnv("romrom.test.postgres.password", "ROMROM_TEST_POSTGRES_PASSWORD")
+    );
+  }
+
+  private String requiredPropertyOrEnv(String propertyName, String envName) {
+    String propertyValue = System.getProperty(propertyName);
+    if (propertyValue != null && !propertyValue.isBlank()) {
+      return propertyValue;
+    }
+    String envValue = System.getenv(envName);
+    if (envValue != null && !envValue.isBlank()) {
+      return envValue;
+    }
+    throw new IllegalStateException("PostgreSQL 성능 테스트 실행을 위해 " + propertyName + " 또는 " + envName + " 값을 설정해야 합니다.");
+  }
+
+  private String createIsolatedSchemaName() {
+    return "romrom_perf_" + UUID.randomUUID().toString().replace("-", "_");
+  }
+
+  private String table(String schemaName, String tableName) {
+    return schemaName + "." + tableName;
+  }
+
+  private void printPerformanceLog(SortResult firstPageResult, SortResult middlePageResult) {
+    System.out.printf("""
+        [TradeRequestAiRecommendationPostgresTest] 격리 스키마 받은 거래 요청 AI 추천순 성능 테스트 결과
+        - 물품 1개에 대한 거래 요청 목데이터: %,d건 (취소 10%%, 임베딩 없음 5%%, 차단 %,d건 별도)
+        - 임베딩 차원: %,d / 페이지 크기: %,d / 반복 측정 횟수: %,d
+        - 첫 페이지: 메모리 정렬 %.3fms, %,.1fKB -> DB 정렬 %.3fms, %,.1fKB (%.2fx 빠름, 할당 %.2fx 감소)
+        - %,d 페이지: 메모리 정렬 %.3fms, %,.1fKB -> DB 정렬 %.3fms, %,.1fKB (%.2fx 빠름, 할당 %.2fx 감소)
+        - 결론: 요청 수와 무관하게 현재 페이지 행만 애플리케이션으로 로드하며 O(n²) 병합이 사라짐
+        %n""",
+        REQUEST_COUNT,
+        BLOCKED_MEMBER_COUNT,
+        DIMENSION,
+        PAGE_SIZE,
+        MEASURE_REPETITIONS,
+        firstPageResult.legacy().averageMs(),
+        firstPageResult.legacy().allocatedKb(),
+        firstPageResult.database().averageMs(),
+        firstPageResult.database().allocatedKb(),
+        firstPageResult.legacy().averageMs() / firstPageResult.database().averageMs(),
+        firstPageResult.legacy().allocatedKb() / firstPageResult.database().allocatedKb(),
+        middlePageResult.pageNumber(),
+        middlePageResult.legacy().averageMs(),
+        middlePageResult.legacy().allocatedKb(),
+        middlePageResult.database().averageMs(),
+        middlePageResult.database().allocatedKb(),
+        middlePageResult.legacy().averageMs() / middlePageResult.database().averageMs(),
+        middlePageResult.legacy().allocatedKb() / middlePageResult.database().allocatedKb()
+    );
+  }
+
+  @FunctionalInterface
+  private interface SqlRunnable {
+    void run() throws SQLException;
+  }
+
+  private record HistoryRow(
+      UUID tradeRequestHistoryId,
+      UUID giveItemId,
+      Timestamp createdDate,
+      int tradeStatus,
+      boolean isNew,
+      String takeItemSummary,
+      String giveItemSummary
+  ) {
+  }
+
+  private record Measurement(double averageMs, double allocatedKb) {
+  }
+
+  private record SortResult(int pageNumber, Measurement legacy, Measurement database) {
+  }
+}